@@ -3,6 +3,8 @@
 package org.odpi.openmetadata.accessservices.assetcatalog.admin;
 
 import org.odpi.openmetadata.accessservices.assetcatalog.auditlog.AssetCatalogAuditCode;
+import org.odpi.openmetadata.accessservices.assetcatalog.handlers.AssetCatalogSearchIndex;
+import org.odpi.openmetadata.accessservices.assetcatalog.listener.AssetCatalogOMRSTopicListener;
 import org.odpi.openmetadata.adminservices.configuration.properties.AccessServiceConfig;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceAdmin;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceDescription;
@@ -11,8 +13,15 @@ import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.ASSET;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.GLOSSARY_TERM;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.SCHEMA_ELEMENT;
 
 /**
  * AssetCatalogAdmin is the class that is called by the OMAG Server to initialize and terminate
@@ -22,9 +31,11 @@ import java.util.List;
 public class AssetCatalogAdmin extends AccessServiceAdmin {
 
     public static final String SUPPORTED_TYPES_FOR_SEARCH = "SupportedTypesForSearch";
+    public static final String ENABLE_SEARCH_INDEX = "EnableSearchIndex";
     private AuditLog auditLog;
     private String serverName;
     private AssetCatalogServicesInstance instance;
+    private AssetCatalogSearchIndex searchIndex;
 
 
     /**
@@ -54,11 +65,26 @@ public class AssetCatalogAdmin extends AccessServiceAdmin {
 
             List<String> supportedTypesForSearch = getSupportedTypesForSearchOption(accessServiceConfigurationProperties);
 
+            if (isSearchIndexEnabled(accessServiceConfigurationProperties)) {
+                searchIndex = new AssetCatalogSearchIndex(repositoryConnector.getServerName(), serverUserName, auditLog,
+                        getSearchIndexTypes(supportedTypesForSearch), repositoryConnector.getMaxPageSize());
+            }
+
             instance = new AssetCatalogServicesInstance(repositoryConnector, supportedZones, auditLog, serverUserName,
-                    accessServiceConfigurationProperties.getAccessServiceName(), supportedTypesForSearch);
+                    accessServiceConfigurationProperties.getAccessServiceName(), supportedTypesForSearch, searchIndex);
 
             this.serverName = instance.getServerName();
 
+            if (searchIndex != null) {
+                AssetCatalogOMRSTopicListener omrsTopicListener = new AssetCatalogOMRSTopicListener(searchIndex, auditLog);
+                super.registerWithEnterpriseTopic(accessServiceConfigurationProperties.getAccessServiceName(),
+                        serverName,
+                        enterpriseOMRSTopicConnector,
+                        omrsTopicListener,
+                        omrsTopicListener.getEventFilter(),
+                        auditLog);
+            }
+
             auditLog.logMessage(actionDescription, AssetCatalogAuditCode.SERVICE_INITIALIZED.getMessageDefinition(serverName));
         } catch (Exception error) {
             auditLog.logException(actionDescription, AssetCatalogAuditCode.SERVICE_INSTANCE_FAILURE.getMessageDefinition(error.getMessage(), serverName), error);
@@ -71,6 +97,10 @@ public class AssetCatalogAdmin extends AccessServiceAdmin {
      * Shutdown the access service.
      */
     public void shutdown() {
+        if (searchIndex != null) {
+            searchIndex.shutdown();
+        }
+
         if (instance != null) {
             instance.shutdown();
         }
@@ -92,4 +122,28 @@ public class AssetCatalogAdmin extends AccessServiceAdmin {
 
         return Collections.emptyList();
     }
+
+    private boolean isSearchIndexEnabled(AccessServiceConfig accessServiceConfigurationProperties) {
+        if (accessServiceConfigurationProperties.getAccessServiceOptions() != null) {
+            Object enableSearchIndexProperty = accessServiceConfigurationProperties.getAccessServiceOptions().get(ENABLE_SEARCH_INDEX);
+            if (enableSearchIndexProperty instanceof Boolean) {
+                return (Boolean) enableSearchIndexProperty;
+            }
+            if (enableSearchIndexProperty != null) {
+                return Boolean.parseBoolean(enableSearchIndexProperty.toString());
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * The search index holds the entities of the types searched when the request does not name the types,
+     * and of the types configured as supported for search.
+     */
+    private Set<String> getSearchIndexTypes(List<String> supportedTypesForSearch) {
+        Set<String> searchIndexTypes = new LinkedHashSet<>(Arrays.asList(GLOSSARY_TERM, ASSET, SCHEMA_ELEMENT));
+        searchIndexTypes.addAll(supportedTypesForSearch);
+        return searchIndexTypes;
+    }
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ package org.odpi.openmetadata.accessservices.assetcatalog.admin;
 import lombok.Getter;
 import org.odpi.openmetadata.accessservices.assetcatalog.exception.AssetCatalogErrorCode;
 import org.odpi.openmetadata.accessservices.assetcatalog.handlers.AssetCatalogHandler;
+import org.odpi.openmetadata.accessservices.assetcatalog.handlers.AssetCatalogSearchIndex;
 import org.odpi.openmetadata.accessservices.assetcatalog.handlers.RelationshipHandler;
 import org.odpi.openmetadata.adminservices.configuration.registration.AccessServiceDescription;
 import org.odpi.openmetadata.commonservices.multitenant.OMASServiceInstance;
@@ -42,11 +43,13 @@ class AssetCatalogServicesInstance extends OMASServiceInstance {
      * @param auditLog                logging destination
      * @param serverUserName          userId used for server initiated actions
      * @param supportedTypesForSearch default list of supported types for search method
+     * @param searchIndex             index used for search requests; null if the search index is not enabled
      * @throws NewInstanceException a problem occurred during initialization
      */
     AssetCatalogServicesInstance(OMRSRepositoryConnector repositoryConnector, List<String> supportedZones,
                                  AuditLog auditLog, String serverUserName, String sourceName,
-                                 List<String> supportedTypesForSearch) throws NewInstanceException {
+                                 List<String> supportedTypesForSearch,
+                                 AssetCatalogSearchIndex searchIndex) throws NewInstanceException {
 
         super(description.getAccessServiceName() + " OMAS", repositoryConnector, auditLog, serverUserName, repositoryConnector.getMaxPageSize());
         super.supportedZones = supportedZones;
@@ -54,7 +57,7 @@ class AssetCatalogServicesInstance extends OMASServiceInstance {
         if (repositoryHandler != null) {
 
             assetCatalogHandler = new AssetCatalogHandler(serverName, sourceName, invalidParameterHandler, repositoryHandler, repositoryHelper,
-                    errorHandler, supportedZones, supportedTypesForSearch);
+                    errorHandler, supportedZones, supportedTypesForSearch, searchIndex);
             relationshipHandler = new RelationshipHandler(sourceName, invalidParameterHandler, repositoryHandler, repositoryHelper, errorHandler);
         } else {
             final String methodName = "new ServiceInstance";
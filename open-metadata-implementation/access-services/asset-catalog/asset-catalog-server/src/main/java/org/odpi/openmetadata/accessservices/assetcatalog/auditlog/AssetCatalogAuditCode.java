@@ -45,7 +45,25 @@ public enum AssetCatalogAuditCode implements AuditLogMessageSet {
             OMRSAuditLogRecordSeverity.SHUTDOWN,
             "The Asset Catalog Open Metadata Access Service (OMAS) is shutting down its instance for server {0}",
             "The local server has requested shut down of an Asset Catalog OMAS instance.",
-            "No action is required.  This is part of the normal operation of the service.");
+            "No action is required.  This is part of the normal operation of the service."),
+
+    SEARCH_INDEX_BUILT("OMAS-ASSET-CATALOG-0005",
+            OMRSAuditLogRecordSeverity.INFO,
+            "The Asset Catalog Open Metadata Access Service (OMAS) has built its search index for server {0} with {1} entities",
+            "The search requests are now answered from the search index, which is kept up to date from the instance events from the cohort.",
+            "No action is required.  This is part of the normal operation of the service."),
+
+    SEARCH_INDEX_BUILD_FAILED("OMAS-ASSET-CATALOG-0006",
+            OMRSAuditLogRecordSeverity.EXCEPTION,
+            "The Asset Catalog Open Metadata Access Service (OMAS) is unable to build its search index for server {0}; exception {1} was returned with message {2}; the build will be tried again in {3} seconds",
+            "The search requests are sent to the repositories until the search index is built.  The build is tried again on the first search request after the wait.",
+            "Review the exception to determine the cause of the problem.  The search index is built once the problem is resolved."),
+
+    SEARCH_INDEX_EVENT_FAILURE("OMAS-ASSET-CATALOG-0007",
+            OMRSAuditLogRecordSeverity.EXCEPTION,
+            "The Asset Catalog Open Metadata Access Service (OMAS) is unable to apply a {0} event for instance {1} to its search index; exception {2} was returned with message {3}",
+            "The search index may not reflect the latest change to this instance until it is updated again.",
+            "Review the exception to determine the cause of the problem.");
 
 
     private AuditLogMessageDefinition messageDefinition;
@@ -34,6 +34,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityProxyOnlyException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.PagingErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.PropertyErrorException;
@@ -72,6 +73,7 @@ public class AssetCatalogHandler {
     private List<String> supportedTypesForSearch = new ArrayList<>(Arrays.asList(GLOSSARY_TERM, ASSET, SCHEMA_ELEMENT));
 
     private List<String> supportedZones;
+    private AssetCatalogSearchIndex searchIndex;
 
     /**
      * Construct the handler information needed to interact with the repository services
@@ -88,6 +90,27 @@ public class AssetCatalogHandler {
     public AssetCatalogHandler(String serverUserName, String sourceName, InvalidParameterHandler invalidParameterHandler,
                                RepositoryHandler repositoryHandler, OMRSRepositoryHelper repositoryHelper,
                                RepositoryErrorHandler errorHandler, List<String> supportedZones, List<String> supportedTypesForSearch) {
+        this(serverUserName, sourceName, invalidParameterHandler, repositoryHandler, repositoryHelper, errorHandler,
+                supportedZones, supportedTypesForSearch, null);
+    }
+
+    /**
+     * Construct the handler information needed to interact with the repository services and the search index
+     *
+     * @param serverUserName          name of the local server
+     * @param sourceName              name of the component
+     * @param invalidParameterHandler handler for managing parameter errors
+     * @param repositoryHandler       manages calls to the repository services
+     * @param repositoryHelper        provides utilities for manipulating the repository services objects
+     * @param errorHandler            provides common validation routines for the other handler classes
+     * @param supportedZones          configurable list of zones that Asset Catalog is allowed to serve Assets from
+     * @param supportedTypesForSearch configurable list of supported types used for search
+     * @param searchIndex             index used for search requests; null if the search index is not enabled
+     */
+    public AssetCatalogHandler(String serverUserName, String sourceName, InvalidParameterHandler invalidParameterHandler,
+                               RepositoryHandler repositoryHandler, OMRSRepositoryHelper repositoryHelper,
+                               RepositoryErrorHandler errorHandler, List<String> supportedZones, List<String> supportedTypesForSearch,
+                               AssetCatalogSearchIndex searchIndex) {
         this.serverUserName = serverUserName;
         this.sourceName = sourceName;
         this.invalidParameterHandler = invalidParameterHandler;
@@ -101,6 +124,7 @@ public class AssetCatalogHandler {
             Collections.sort(supportedTypesForSearch);
         }
         this.assetConverter = new AssetConverter(sourceName, repositoryHelper);
+        this.searchIndex = searchIndex;
     }
 
     /**
@@ -393,11 +417,16 @@ public class AssetCatalogHandler {
 
         List<EntityDetail> result;
         List<String> typesFilter = Collections.emptyList();
+        List<String> searchTypes = defaultSearchTypes;
         if (CollectionUtils.isNotEmpty(searchParameters.getEntityTypes())) {
             typesFilter = commonHandler.getTypesGUID(userId, searchParameters.getEntityTypes());
-            result = collectSearchedEntitiesByType(userId, searchCriteria, searchParameters, typesFilter);
+            searchTypes = typesFilter;
+        }
+
+        if (isSearchIndexAvailable(searchParameters.getEntityTypes())) {
+            result = searchIndexedEntities(userId, searchCriteria, searchParameters, searchTypes, methodName);
         } else {
-            result = collectSearchedEntitiesByType(userId, searchCriteria, searchParameters, defaultSearchTypes);
+            result = collectSearchedEntitiesByType(userId, searchCriteria, searchParameters, searchTypes);
         }
 
         List<AssetElements> list = new ArrayList<>();
@@ -552,6 +581,116 @@ public class AssetCatalogHandler {
         invalidParameterHandler.validateGUID(endAssetGUID, "endAssetGUID", methodName);
     }
 
+    /**
+     * Determine whether the search can be answered from the search index.  The first request starts building the
+     * index from the repositories in the background; the searches go to the repositories until it is built.
+     * It can only be used if all of the requested types are indexed.
+     *
+     * @param entityTypes names of the requested types; empty means the default search types
+     * @return whether the search index can be used
+     */
+    private boolean isSearchIndexAvailable(List<String> entityTypes) {
+        if (searchIndex == null || !searchIndex.requestBuild(commonHandler.getOMRSMetadataCollection())) {
+            return false;
+        }
+
+        if (CollectionUtils.isNotEmpty(entityTypes)) {
+            for (String entityType : entityTypes) {
+                if (searchIndex.getIndexedTypeNames().stream()
+                        .noneMatch(indexedType -> repositoryHelper.isTypeOf(sourceName, entityType, indexedType))) {
+                    log.debug("Type {} is not in the search index", entityType);
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Search the index and retrieve the matching entities with the requesting user's id, so that the user's security
+     * checks are applied.  Matches that the user can not retrieve, that are no longer active or that are not in the
+     * supported zones are skipped before the requested page is returned.
+     *
+     * @param userId           user identifier that issues the call
+     * @param searchCriteria   search criteria string used for finding the entities
+     * @param searchParameters additional parameters for searching and filtering
+     * @param searchTypes      unique identifiers of the types to search
+     * @param methodName       calling method
+     * @return the requested page of matching entities in rank order
+     * @throws org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException - the parameters are not valid
+     * @throws RepositoryErrorException                                                          - there is a problem communicating with the metadata repository.
+     */
+    private List<EntityDetail> searchIndexedEntities(String userId,
+                                                     String searchCriteria,
+                                                     SearchParameters searchParameters,
+                                                     List<String> searchTypes,
+                                                     String methodName)
+            throws org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException, RepositoryErrorException {
+        List<String> matchingGUIDs = searchIndex.search(searchCriteria,
+                searchParameters.getExactMatch(),
+                searchParameters.getCaseInsensitive(),
+                searchTypes,
+                supportedZones,
+                searchParameters.getLimitResultsByClassification());
+
+        int from = searchParameters.getFrom();
+        int pageSize = searchParameters.getPageSize();
+        int visibleCount = 0;
+        List<EntityDetail> result = new ArrayList<>();
+
+        OMRSMetadataCollection metadataCollection = commonHandler.getOMRSMetadataCollection();
+        for (String guid : matchingGUIDs) {
+            if (pageSize > 0 && result.size() >= pageSize) {
+                break;
+            }
+
+            EntityDetail entityDetail = getVisibleEntity(userId, guid, metadataCollection, methodName);
+            if (entityDetail != null) {
+                if (visibleCount >= from) {
+                    result.add(entityDetail);
+                }
+                visibleCount++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Retrieve a search index match with the requesting user's id.
+     *
+     * @param userId             user identifier that issues the call
+     * @param guid               unique identifier of the matching entity
+     * @param metadataCollection the enterprise metadata collection
+     * @param methodName         calling method
+     * @return the entity, or null if the user can not see it
+     * @throws org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException - the parameters are not valid
+     * @throws RepositoryErrorException                                                          - there is a problem communicating with the metadata repository.
+     */
+    private EntityDetail getVisibleEntity(String userId, String guid, OMRSMetadataCollection metadataCollection, String methodName)
+            throws org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException, RepositoryErrorException {
+        try {
+            EntityDetail entityDetail = metadataCollection.getEntityDetail(userId, guid);
+            if (entityDetail == null || entityDetail.getStatus() != InstanceStatus.ACTIVE) {
+                return null;
+            }
+
+            invalidParameterHandler.validateAssetInSupportedZone(guid,
+                    GUID_PARAMETER,
+                    commonHandler.getAssetZoneMembership(entityDetail.getClassifications()),
+                    supportedZones,
+                    serverUserName,
+                    methodName);
+            return entityDetail;
+        } catch (EntityNotKnownException | EntityProxyOnlyException e) {
+            log.debug("Search index match {} is no longer available", guid);
+        } catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException e) {
+            log.debug("User {} is not allowed to see search index match {}", userId, guid);
+        } catch (org.odpi.openmetadata.commonservices.ffdc.exceptions.InvalidParameterException e) {
+            log.debug("Search index match {} is in a different zone", guid);
+        }
+        return null;
+    }
+
     private List<EntityDetail> collectSearchedEntitiesByType(String userId,
                                                              String searchCriteria,
                                                              SearchParameters searchParameters,
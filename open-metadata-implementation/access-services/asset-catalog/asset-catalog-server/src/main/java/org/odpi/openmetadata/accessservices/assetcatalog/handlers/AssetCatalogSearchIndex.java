@@ -0,0 +1,674 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetcatalog.handlers;
+
+import org.apache.commons.collections4.CollectionUtils;
+import org.odpi.openmetadata.accessservices.assetcatalog.auditlog.AssetCatalogAuditCode;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ArrayPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static org.odpi.openmetadata.accessservices.assetcatalog.handlers.CommonHandler.ZONE_MEMBERSHIP;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.ASSET_ZONE_MEMBERSHIP;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.DESCRIPTION;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.DISPLAY_NAME;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.NAME;
+import static org.odpi.openmetadata.accessservices.assetcatalog.util.Constants.QUALIFIED_NAME;
+
+/**
+ * AssetCatalogSearchIndex is an in-memory full-text index over the names, display names, qualified names and
+ * descriptions of the entities that the Asset Catalog OMAS searches.  It answers searchByType requests without
+ * a repository search for each type.
+ * <p>
+ * The index holds the unique identifier of each active entity of the indexed types along with the values that
+ * are searched and filtered on; it does not hold copies of the entities.  The lower-case form of each
+ * indexed property value is broken into trigrams (sequences of three characters) and each trigram maps
+ * to the entities whose values contain it.  A search intersects the entities for the trigrams of the
+ * search string and then checks the candidates, so that the index gives the same answers as the
+ * contains and exact match regular expressions used with the repository.  The matches are ranked
+ * by the property they were found in, and the type, zone and classification filters are applied.
+ * The caller retrieves each match from the repositories with the requesting user's id, so that
+ * the user's security checks are applied, before paging the results.
+ * <p>
+ * The index is built from the repositories on a background thread that is started by the first search
+ * request, and is then kept up to date from the instance events received from the cohort (see
+ * AssetCatalogOMRSTopicListener).  The searches go to the repositories until it is built.  If the build fails
+ * it is tried again on a later search request, with the wait between attempts doubling each time.
+ */
+public class AssetCatalogSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(AssetCatalogSearchIndex.class);
+
+    private static final int TRIGRAM_LENGTH = 3;
+    private static final int NAME_WEIGHT = 4;
+    private static final int QUALIFIED_NAME_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int DEFAULT_REBUILD_PAGE_SIZE = 500;
+    private static final long INITIAL_RETRY_DELAY_MS = TimeUnit.SECONDS.toMillis(30);
+    private static final long MAX_RETRY_DELAY_MS = TimeUnit.MINUTES.toMillis(30);
+
+    private final String serverName;
+    private final String serverUserName;
+    private final AuditLog auditLog;
+    private final Set<String> indexedTypeNames;
+    private final int rebuildPageSize;
+    private final long initialRetryDelayMs;
+    private final long maxRetryDelayMs;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, IndexedEntity> indexedEntities = new HashMap<>();
+    private final Map<String, Set<String>> trigrams = new HashMap<>();
+
+    /*
+     * Versions of the entities removed while the index is being rebuilt, so that a page retrieved
+     * before the removal does not add the entity back.
+     */
+    private Map<String, Long> removedDuringRebuild = null;
+
+    private volatile boolean ready = false;
+    private volatile boolean building = false;
+    private volatile boolean shutdown = false;
+    private long nextBuildTime = 0;
+    private long retryDelayMs;
+
+    /**
+     * Create an empty index.
+     *
+     * @param serverName       name of this server
+     * @param serverUserName   user id used to retrieve the entities when the index is built
+     * @param auditLog         logging destination
+     * @param indexedTypeNames names of the types whose entities (and the entities of their sub-types) are indexed
+     * @param rebuildPageSize  number of entities retrieved on each call to the repositories when the index is built;
+     *                         zero means the default page size
+     */
+    public AssetCatalogSearchIndex(String serverName, String serverUserName, AuditLog auditLog,
+                                   Collection<String> indexedTypeNames, int rebuildPageSize) {
+        this(serverName, serverUserName, auditLog, indexedTypeNames, rebuildPageSize, INITIAL_RETRY_DELAY_MS, MAX_RETRY_DELAY_MS);
+    }
+
+    /**
+     * Create an empty index with the waits between the attempts to build it.
+     *
+     * @param serverName          name of this server
+     * @param serverUserName      user id used to retrieve the entities when the index is built
+     * @param auditLog            logging destination
+     * @param indexedTypeNames    names of the types whose entities (and the entities of their sub-types) are indexed
+     * @param rebuildPageSize     number of entities retrieved on each call to the repositories when the index is built;
+     *                            zero means the default page size
+     * @param initialRetryDelayMs wait after the first failed build before the build is tried again
+     * @param maxRetryDelayMs     longest wait between the attempts to build the index
+     */
+    AssetCatalogSearchIndex(String serverName, String serverUserName, AuditLog auditLog,
+                            Collection<String> indexedTypeNames, int rebuildPageSize,
+                            long initialRetryDelayMs, long maxRetryDelayMs) {
+        this.serverName = serverName;
+        this.serverUserName = serverUserName;
+        this.auditLog = auditLog;
+        this.indexedTypeNames = Collections.unmodifiableSet(new HashSet<>(indexedTypeNames));
+        this.rebuildPageSize = rebuildPageSize > 0 ? rebuildPageSize : DEFAULT_REBUILD_PAGE_SIZE;
+        this.initialRetryDelayMs = initialRetryDelayMs;
+        this.maxRetryDelayMs = maxRetryDelayMs;
+        this.retryDelayMs = initialRetryDelayMs;
+    }
+
+    /**
+     * Return the names of the types whose entities are indexed.
+     *
+     * @return type names
+     */
+    public Set<String> getIndexedTypeNames() {
+        return indexedTypeNames;
+    }
+
+    /**
+     * Return whether the index has been built and can be used for searches.
+     *
+     * @return boolean
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Return the number of entities in the index.
+     *
+     * @return count
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return indexedEntities.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Start building the index from the repositories on a background thread unless it is already built, is being
+     * built, or the wait after a failed build has not passed.  The index is kept up to date by the instance events
+     * while it is being built.  The caller does not wait for the build: the searches go to the repositories until
+     * the index is ready.
+     *
+     * @param metadataCollection the enterprise metadata collection
+     * @return whether the index is ready
+     */
+    public boolean requestBuild(OMRSMetadataCollection metadataCollection) {
+        if (ready) {
+            return true;
+        }
+
+        synchronized (this) {
+            if (ready || building || shutdown || System.currentTimeMillis() < nextBuildTime) {
+                return ready;
+            }
+
+            building = true;
+        }
+
+        Thread builder = new Thread(() -> build(metadataCollection), "AssetCatalogSearchIndexBuilder-" + serverName);
+        builder.setDaemon(true);
+        builder.start();
+
+        return false;
+    }
+
+    /**
+     * Stop any build of the index that is in progress.  The index is not built again.
+     */
+    public void shutdown() {
+        shutdown = true;
+    }
+
+    /**
+     * Build the index from the repositories.  If the build fails, the next build is allowed once the wait
+     * has passed, and the wait is doubled for the build after that.
+     *
+     * @param metadataCollection the enterprise metadata collection
+     */
+    void build(OMRSMetadataCollection metadataCollection) {
+        final String methodName = "build";
+
+        lock.writeLock().lock();
+        try {
+            removedDuringRebuild = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            for (String typeName : indexedTypeNames) {
+                TypeDef typeDef = metadataCollection.getTypeDefByName(serverUserName, typeName);
+
+                int from = 0;
+                List<EntityDetail> page;
+                do {
+                    if (shutdown) {
+                        return;
+                    }
+
+                    page = metadataCollection.findEntities(serverUserName, typeDef.getGUID(), null, null, from,
+                            Collections.singletonList(InstanceStatus.ACTIVE), null, null, null,
+                            SequencingOrder.GUID, rebuildPageSize);
+
+                    if (page != null) {
+                        for (EntityDetail entity : page) {
+                            addFromRebuild(entity);
+                        }
+                        from += page.size();
+                    }
+                } while (page != null && page.size() == rebuildPageSize);
+            }
+
+            ready = true;
+            auditLog.logMessage(methodName, AssetCatalogAuditCode.SEARCH_INDEX_BUILT.getMessageDefinition(serverName,
+                    Integer.toString(size())));
+        } catch (Exception error) {
+            long waitMs;
+            synchronized (this) {
+                waitMs = retryDelayMs;
+                nextBuildTime = System.currentTimeMillis() + waitMs;
+                retryDelayMs = Math.min(retryDelayMs * 2, maxRetryDelayMs);
+            }
+            auditLog.logException(methodName, AssetCatalogAuditCode.SEARCH_INDEX_BUILD_FAILED.getMessageDefinition(serverName,
+                    error.getClass().getName(), error.getMessage(), Long.toString(TimeUnit.MILLISECONDS.toSeconds(waitMs))), error);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                removedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            synchronized (this) {
+                building = false;
+                if (ready) {
+                    retryDelayMs = initialRetryDelayMs;
+                }
+            }
+        }
+    }
+
+    /**
+     * Add or update the entity in the index.  Entities that are not active are removed and an older version
+     * never replaces a newer one.  Entities that are not of an indexed type are ignored.
+     *
+     * @param entity entity from an instance event
+     */
+    public void index(EntityDetail entity) {
+        if (entity == null || entity.getGUID() == null || !isIndexedType(entity.getType())) {
+            return;
+        }
+
+        if (entity.getStatus() != InstanceStatus.ACTIVE) {
+            remove(entity.getGUID(), entity.getVersion());
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            put(entity);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove an entity from the index.
+     *
+     * @param guid    unique identifier of the entity
+     * @param version version of the entity that caused the removal; Long.MAX_VALUE if it is not known
+     */
+    public void remove(String guid, long version) {
+        if (guid == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            IndexedEntity indexedEntity = indexedEntities.get(guid);
+            if (indexedEntity == null || indexedEntity.version <= version) {
+                removeIndexedEntity(guid);
+            }
+
+            if (removedDuringRebuild != null) {
+                removedDuringRebuild.merge(guid, version, Math::max);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Return the active entities whose name, display name, qualified name or description matches the search string.
+     * The results are ranked with matches in the names first, then qualified names and then descriptions.
+     * Exact matches of the whole value rank above values that start with the search string, which rank above
+     * values that contain it elsewhere.  All of the matches are returned since the caller must check that
+     * the requesting user can see each of them before paging the results.
+     *
+     * @param searchString                 the literal string to search for
+     * @param exactMatch                   whether the whole property value must match
+     * @param caseInsensitive              whether the case of the letters is ignored
+     * @param typeGUIDs                    unique identifiers of the types to return (their sub-types are also returned)
+     * @param supportedZones               zones that the entities must be in; null or empty means all zones
+     * @param limitResultsByClassification names of the classifications that the entities must have; null means no restriction
+     * @return unique identifiers of the matching entities in rank order
+     */
+    public List<String> search(String searchString, boolean exactMatch, boolean caseInsensitive,
+                               Collection<String> typeGUIDs, List<String> supportedZones,
+                               List<String> limitResultsByClassification) {
+        String lowerCaseSearchString = searchString.toLowerCase(Locale.ROOT);
+        List<ScoredEntity> matches = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            for (String guid : getCandidates(lowerCaseSearchString)) {
+                IndexedEntity indexedEntity = indexedEntities.get(guid);
+                if (indexedEntity == null
+                        || !indexedEntity.isOfType(typeGUIDs)
+                        || !indexedEntity.isInZones(supportedZones)
+                        || !indexedEntity.hasClassifications(limitResultsByClassification)) {
+                    continue;
+                }
+
+                int score = indexedEntity.score(searchString, lowerCaseSearchString, exactMatch, caseInsensitive);
+                if (score > 0) {
+                    matches.add(new ScoredEntity(indexedEntity, score));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        matches.sort(Comparator.comparingInt((ScoredEntity match) -> match.score).reversed()
+                .thenComparing(match -> match.indexedEntity.sortName)
+                .thenComparing(match -> match.indexedEntity.guid));
+
+        List<String> results = new ArrayList<>(matches.size());
+        for (ScoredEntity match : matches) {
+            results.add(match.indexedEntity.guid);
+        }
+
+        log.debug("Search index matched {} entities for '{}'", results.size(), searchString);
+        return results;
+    }
+
+    /**
+     * Add an entity retrieved while the index is being built, unless it has been removed since it was retrieved.
+     *
+     * @param entity retrieved entity
+     */
+    private void addFromRebuild(EntityDetail entity) {
+        if (entity == null || entity.getGUID() == null || entity.getStatus() != InstanceStatus.ACTIVE) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Long removedVersion = removedDuringRebuild.get(entity.getGUID());
+            if (removedVersion == null || removedVersion < entity.getVersion()) {
+                put(entity);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Save the entity unless a later version is already indexed.  The write lock must be held.
+     *
+     * @param entity entity to save
+     */
+    private void put(EntityDetail entity) {
+        IndexedEntity existing = indexedEntities.get(entity.getGUID());
+        if (existing != null) {
+            if (existing.version > entity.getVersion()) {
+                return;
+            }
+            removeIndexedEntity(entity.getGUID());
+        }
+
+        IndexedEntity indexedEntity = new IndexedEntity(entity);
+        indexedEntities.put(entity.getGUID(), indexedEntity);
+        for (String trigram : indexedEntity.getTrigrams()) {
+            trigrams.computeIfAbsent(trigram, key -> new HashSet<>()).add(entity.getGUID());
+        }
+    }
+
+    /**
+     * Remove the entity and its trigrams.  The write lock must be held.
+     *
+     * @param guid unique identifier of the entity
+     */
+    private void removeIndexedEntity(String guid) {
+        IndexedEntity indexedEntity = indexedEntities.remove(guid);
+        if (indexedEntity == null) {
+            return;
+        }
+
+        for (String trigram : indexedEntity.getTrigrams()) {
+            Set<String> guids = trigrams.get(trigram);
+            if (guids != null) {
+                guids.remove(guid);
+                if (guids.isEmpty()) {
+                    trigrams.remove(trigram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Return the entities that may match the search string.  These are the entities that have every trigram of
+     * the search string.  Search strings shorter than a trigram are checked against every entity.
+     * The read lock must be held.
+     *
+     * @param lowerCaseSearchString search string in lower case
+     * @return unique identifiers of the candidate entities
+     */
+    private Collection<String> getCandidates(String lowerCaseSearchString) {
+        if (lowerCaseSearchString.length() < TRIGRAM_LENGTH) {
+            return indexedEntities.keySet();
+        }
+
+        List<Set<String>> postings = new ArrayList<>();
+        for (String trigram : getTrigrams(lowerCaseSearchString)) {
+            Set<String> guids = trigrams.get(trigram);
+            if (guids == null) {
+                return Collections.emptyList();
+            }
+            postings.add(guids);
+        }
+
+        postings.sort(Comparator.comparingInt(Set::size));
+        Set<String> candidates = new HashSet<>(postings.get(0));
+        for (int i = 1; i < postings.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postings.get(i));
+        }
+        return candidates;
+    }
+
+    /**
+     * Return whether the type, or one of its super types, is indexed.
+     *
+     * @param type type of the entity
+     * @return boolean
+     */
+    private boolean isIndexedType(InstanceType type) {
+        if (type == null) {
+            return false;
+        }
+
+        if (indexedTypeNames.contains(type.getTypeDefName())) {
+            return true;
+        }
+
+        if (type.getTypeDefSuperTypes() != null) {
+            for (TypeDefLink superType : type.getTypeDefSuperTypes()) {
+                if (indexedTypeNames.contains(superType.getName())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Return the trigrams of a lower case value.
+     *
+     * @param lowerCaseValue value
+     * @return trigrams
+     */
+    private static Set<String> getTrigrams(String lowerCaseValue) {
+        Set<String> result = new HashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= lowerCaseValue.length(); i++) {
+            result.add(lowerCaseValue.substring(i, i + TRIGRAM_LENGTH));
+        }
+        return result;
+    }
+
+    /**
+     * Return the string form of a property value.
+     *
+     * @param properties properties of an instance
+     * @param propertyName name of the property
+     * @return string value or null
+     */
+    private static String getStringProperty(InstanceProperties properties, String propertyName) {
+        if (properties == null) {
+            return null;
+        }
+
+        InstancePropertyValue value = properties.getPropertyValue(propertyName);
+        if (value instanceof PrimitivePropertyValue && ((PrimitivePropertyValue) value).getPrimitiveValue() != null) {
+            return ((PrimitivePropertyValue) value).getPrimitiveValue().toString();
+        }
+        return null;
+    }
+
+    /**
+     * IndexedEntity holds the unique identifier and version of an entity with the values that are searched and
+     * filtered on.
+     */
+    private static class IndexedEntity {
+        private final String guid;
+        private final long version;
+        private final Set<String> typeGUIDs = new HashSet<>();
+        private final List<String> zones = new ArrayList<>();
+        private final Set<String> classificationNames = new HashSet<>();
+        private final Map<String, Integer> weightedValues = new HashMap<>();
+        private final String sortName;
+
+        IndexedEntity(EntityDetail entity) {
+            this.guid = entity.getGUID();
+            this.version = entity.getVersion();
+
+            InstanceType type = entity.getType();
+            if (type != null) {
+                typeGUIDs.add(type.getTypeDefGUID());
+                if (type.getTypeDefSuperTypes() != null) {
+                    for (TypeDefLink superType : type.getTypeDefSuperTypes()) {
+                        typeGUIDs.add(superType.getGUID());
+                    }
+                }
+            }
+
+            if (entity.getClassifications() != null) {
+                for (Classification classification : entity.getClassifications()) {
+                    classificationNames.add(classification.getName());
+                    if (ASSET_ZONE_MEMBERSHIP.equals(classification.getName())) {
+                        addZones(classification.getProperties());
+                    }
+                }
+            }
+
+            InstanceProperties properties = entity.getProperties();
+            String displayName = getStringProperty(properties, DISPLAY_NAME);
+            String name = getStringProperty(properties, NAME);
+            addValue(displayName, NAME_WEIGHT);
+            addValue(name, NAME_WEIGHT);
+            addValue(getStringProperty(properties, QUALIFIED_NAME), QUALIFIED_NAME_WEIGHT);
+            addValue(getStringProperty(properties, DESCRIPTION), DESCRIPTION_WEIGHT);
+
+            String preferredName = displayName != null ? displayName : name;
+            sortName = preferredName != null ? preferredName.toLowerCase(Locale.ROOT) : "";
+        }
+
+        private void addValue(String value, int weight) {
+            if (value != null) {
+                weightedValues.merge(value, weight, Math::max);
+            }
+        }
+
+        private void addZones(InstanceProperties properties) {
+            if (properties == null) {
+                return;
+            }
+
+            InstancePropertyValue zoneMembership = properties.getPropertyValue(ZONE_MEMBERSHIP);
+            if (zoneMembership instanceof ArrayPropertyValue) {
+                InstanceProperties arrayValues = ((ArrayPropertyValue) zoneMembership).getArrayValues();
+                if (arrayValues != null && arrayValues.getInstanceProperties() != null) {
+                    for (InstancePropertyValue zone : arrayValues.getInstanceProperties().values()) {
+                        if (zone instanceof PrimitivePropertyValue && ((PrimitivePropertyValue) zone).getPrimitiveValue() != null) {
+                            zones.add(((PrimitivePropertyValue) zone).getPrimitiveValue().toString());
+                        }
+                    }
+                }
+            }
+        }
+
+        Set<String> getTrigrams() {
+            Set<String> result = new HashSet<>();
+            for (String value : weightedValues.keySet()) {
+                result.addAll(AssetCatalogSearchIndex.getTrigrams(value.toLowerCase(Locale.ROOT)));
+            }
+            return result;
+        }
+
+        boolean isOfType(Collection<String> requestedTypeGUIDs) {
+            if (requestedTypeGUIDs == null) {
+                return true;
+            }
+
+            for (String typeGUID : requestedTypeGUIDs) {
+                if (typeGUIDs.contains(typeGUID)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /*
+         * The same rule as InvalidParameterHandler.validateAssetInSupportedZone: entities without zones are
+         * visible in every zone.
+         */
+        boolean isInZones(List<String> supportedZones) {
+            if (CollectionUtils.isEmpty(supportedZones) || zones.isEmpty()) {
+                return true;
+            }
+            return CollectionUtils.containsAny(zones, supportedZones);
+        }
+
+        boolean hasClassifications(List<String> requiredClassifications) {
+            return requiredClassifications == null || classificationNames.containsAll(requiredClassifications);
+        }
+
+        int score(String searchString, String lowerCaseSearchString, boolean exactMatch, boolean caseInsensitive) {
+            int score = 0;
+            for (Map.Entry<String, Integer> weightedValue : weightedValues.entrySet()) {
+                String value = caseInsensitive ? weightedValue.getKey().toLowerCase(Locale.ROOT) : weightedValue.getKey();
+                String target = caseInsensitive ? lowerCaseSearchString : searchString;
+                int weight = weightedValue.getValue();
+
+                if (value.equals(target)) {
+                    score += weight * 3;
+                } else if (exactMatch) {
+                    continue;
+                } else if (value.startsWith(target)) {
+                    score += weight * 2;
+                } else if (value.contains(target)) {
+                    score += weight;
+                }
+            }
+            return score;
+        }
+    }
+
+    /**
+     * ScoredEntity is an entity that matched a search with its rank.
+     */
+    private static class ScoredEntity {
+        private final IndexedEntity indexedEntity;
+        private final int score;
+
+        ScoredEntity(IndexedEntity indexedEntity, int score) {
+            this.indexedEntity = indexedEntity;
+            this.score = score;
+        }
+    }
+}
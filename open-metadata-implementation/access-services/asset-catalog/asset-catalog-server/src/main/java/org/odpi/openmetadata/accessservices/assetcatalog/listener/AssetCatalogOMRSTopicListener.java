@@ -0,0 +1,134 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetcatalog.listener;
+
+import org.odpi.openmetadata.accessservices.assetcatalog.auditlog.AssetCatalogAuditCode;
+import org.odpi.openmetadata.accessservices.assetcatalog.handlers.AssetCatalogSearchIndex;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListener;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerFilter;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * AssetCatalogOMRSTopicListener receives the instance events from the cohorts that the local server
+ * is connected to and applies the changes to the entities of the searched types to the search index.
+ */
+public class AssetCatalogOMRSTopicListener implements OMRSTopicListener {
+
+    private static final Logger log = LoggerFactory.getLogger(AssetCatalogOMRSTopicListener.class);
+
+    private static final List<OMRSInstanceEventType> INDEXED_EVENT_TYPES = Arrays.asList(
+            OMRSInstanceEventType.NEW_ENTITY_EVENT,
+            OMRSInstanceEventType.UPDATED_ENTITY_EVENT,
+            OMRSInstanceEventType.UNDONE_ENTITY_EVENT,
+            OMRSInstanceEventType.CLASSIFIED_ENTITY_EVENT,
+            OMRSInstanceEventType.DECLASSIFIED_ENTITY_EVENT,
+            OMRSInstanceEventType.RECLASSIFIED_ENTITY_EVENT,
+            OMRSInstanceEventType.DELETED_ENTITY_EVENT,
+            OMRSInstanceEventType.PURGED_ENTITY_EVENT,
+            OMRSInstanceEventType.DELETE_PURGED_ENTITY_EVENT,
+            OMRSInstanceEventType.RESTORED_ENTITY_EVENT,
+            OMRSInstanceEventType.RE_IDENTIFIED_ENTITY_EVENT,
+            OMRSInstanceEventType.RETYPED_ENTITY_EVENT,
+            OMRSInstanceEventType.RE_HOMED_ENTITY_EVENT,
+            OMRSInstanceEventType.REFRESHED_ENTITY_EVENT,
+            OMRSInstanceEventType.BATCH_INSTANCES_EVENT);
+
+    private final AssetCatalogSearchIndex searchIndex;
+    private final AuditLog auditLog;
+
+    /**
+     * @param searchIndex the search index to maintain
+     * @param auditLog    logging destination
+     */
+    public AssetCatalogOMRSTopicListener(AssetCatalogSearchIndex searchIndex, AuditLog auditLog) {
+        this.searchIndex = searchIndex;
+        this.auditLog = auditLog;
+    }
+
+    /**
+     * Return the events that change the search index: the entity events for the indexed types.
+     *
+     * @return filter to register with the enterprise topic
+     */
+    public OMRSTopicListenerFilter getEventFilter() {
+        return new OMRSTopicListenerFilter(INDEXED_EVENT_TYPES, searchIndex.getIndexedTypeNames());
+    }
+
+    /**
+     * Registry events are ignored.
+     *
+     * @param event inbound event
+     */
+    public void processRegistryEvent(OMRSRegistryEvent event) {
+        log.trace("Ignoring registry event: {}", event);
+    }
+
+    /**
+     * Type events are ignored.
+     *
+     * @param event inbound event
+     */
+    public void processTypeDefEvent(OMRSTypeDefEvent event) {
+        log.trace("Ignoring type event: {}", event);
+    }
+
+    /**
+     * Apply an entity event to the search index.
+     *
+     * @param instanceEvent event to unpack
+     */
+    public void processInstanceEvent(OMRSInstanceEvent instanceEvent) {
+        if (instanceEvent == null || instanceEvent.getInstanceEventType() == null) {
+            return;
+        }
+
+        final String methodName = "processInstanceEvent";
+        OMRSInstanceEventType instanceEventType = instanceEvent.getInstanceEventType();
+        EntityDetail entity = instanceEvent.getEntity();
+
+        try {
+            switch (instanceEventType) {
+                case DELETED_ENTITY_EVENT:
+                    if (entity != null) {
+                        searchIndex.remove(entity.getGUID(), entity.getVersion());
+                    }
+                    break;
+                case PURGED_ENTITY_EVENT:
+                case DELETE_PURGED_ENTITY_EVENT:
+                    searchIndex.remove(instanceEvent.getInstanceGUID(), Long.MAX_VALUE);
+                    break;
+                case RE_IDENTIFIED_ENTITY_EVENT:
+                    searchIndex.remove(instanceEvent.getOriginalInstanceGUID(), Long.MAX_VALUE);
+                    searchIndex.index(entity);
+                    break;
+                case BATCH_INSTANCES_EVENT:
+                    if (instanceEvent.getInstanceBatch() != null && instanceEvent.getInstanceBatch().getEntities() != null) {
+                        instanceEvent.getInstanceBatch().getEntities().forEach(searchIndex::index);
+                    }
+                    break;
+                default:
+                    if (INDEXED_EVENT_TYPES.contains(instanceEventType)) {
+                        searchIndex.index(entity);
+                    }
+                    break;
+            }
+        } catch (Exception error) {
+            log.error("An exception occurred while applying OMRSTopic event to the search index: \n " + instanceEvent, error);
+            auditLog.logException(methodName,
+                    AssetCatalogAuditCode.SEARCH_INDEX_EVENT_FAILURE.getMessageDefinition(instanceEventType.getName(),
+                            instanceEvent.getInstanceGUID(), error.getClass().getName(), error.getMessage()),
+                    instanceEvent.toString(),
+                    error);
+        }
+    }
+}
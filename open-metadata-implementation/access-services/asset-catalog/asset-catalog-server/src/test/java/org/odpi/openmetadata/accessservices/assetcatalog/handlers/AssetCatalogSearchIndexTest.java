@@ -0,0 +1,261 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetcatalog.handlers;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollectionBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.ArrayPropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.PrimitiveDefCategory;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class AssetCatalogSearchIndexTest {
+
+    private static final String ASSET_TYPE = "Asset";
+    private static final String ASSET_TYPE_GUID = "asset-type-guid";
+    private static final String DATA_SET_TYPE = "DataSet";
+    private static final String DATA_SET_TYPE_GUID = "data-set-type-guid";
+    private static final String PROCESS_TYPE = "Process";
+    private static final String PROCESS_TYPE_GUID = "process-type-guid";
+    private static final List<String> ALL_TYPES = Arrays.asList(ASSET_TYPE_GUID, PROCESS_TYPE_GUID);
+
+    private AssetCatalogSearchIndex searchIndex;
+
+    @Before
+    public void before() {
+        searchIndex = new AssetCatalogSearchIndex("server", "user", mock(AuditLog.class),
+                Collections.singletonList(ASSET_TYPE), 0);
+    }
+
+    @Test
+    public void search_ranksNameMatchesFirst() {
+        searchIndex.index(mockEntity("guid-1", 1, DATA_SET_TYPE, DATA_SET_TYPE_GUID, "Customers", "Holds the employee records", null));
+        searchIndex.index(mockEntity("guid-2", 1, DATA_SET_TYPE, DATA_SET_TYPE_GUID, "Employee", "Employee details", null));
+        searchIndex.index(mockEntity("guid-3", 1, DATA_SET_TYPE, DATA_SET_TYPE_GUID, "Former employees", null, null));
+
+        List<String> result = searchIndex.search("employee", false, true, ALL_TYPES, null, null);
+
+        assertEquals(Arrays.asList("guid-2", "guid-3", "guid-1"), result);
+    }
+
+    @Test
+    public void search_appliesCaseAndExactMatch() {
+        searchIndex.index(mockEntity("guid-1", 1, DATA_SET_TYPE, DATA_SET_TYPE_GUID, "Employee", null, null));
+        searchIndex.index(mockEntity("guid-2", 1, DATA_SET_TYPE, DATA_SET_TYPE_GUID, "Employee records", null, null));
+
+        assertEquals(Arrays.asList("guid-1", "guid-2"), searchIndex.search("Employee", false, false, ALL_TYPES, null, null));
+        assertTrue(searchIndex.search("employee", false, false, ALL_TYPES, null, null).isEmpty());
+        assertEquals(Collections.singletonList("guid-1"), searchIndex.search("employee", true, true, ALL_TYPES, null, null));
+        assertEquals(Arrays.asList("guid-1", "guid-2"), searchIndex.search("em", false, true, ALL_TYPES, null, null));
+    }
+
+    @Test
+    public void search_filtersTypesAndZones() {
+        searchIndex.index(mockEntity("guid-1", 1, DATA_SET_TYPE, DATA_SET_TYPE_GUID, "Sales 1", null, Collections.singletonList("data-lake")));
+        searchIndex.index(mockEntity("guid-2", 1, DATA_SET_TYPE, DATA_SET_TYPE_GUID, "Sales 2", null, Collections.singletonList("quarantine")));
+        searchIndex.index(mockEntity("guid-3", 1, DATA_SET_TYPE, DATA_SET_TYPE_GUID, "Sales 3", null, null));
+        searchIndex.index(mockEntity("guid-4", 1, PROCESS_TYPE, PROCESS_TYPE_GUID, "Sales 4", null, null));
+
+        List<String> supportedZones = Collections.singletonList("data-lake");
+
+        assertEquals(Arrays.asList("guid-1", "guid-3"),
+                searchIndex.search("sales", false, true, Collections.singletonList(ASSET_TYPE_GUID), supportedZones, null));
+        assertEquals(3, searchIndex.size());
+    }
+
+    @Test
+    public void search_returnsGUIDsOnly() {
+        searchIndex.index(mockEntity("guid-1", 1, DATA_SET_TYPE, DATA_SET_TYPE_GUID, "Payroll", null, null));
+
+        assertEquals(Collections.singletonList("guid-1"), searchIndex.search("payroll", false, true, ALL_TYPES, null, null));
+    }
+
+    @Test
+    public void requestBuild_buildsInBackground() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        BuildMetadataCollection metadataCollection = new BuildMetadataCollection(
+                Collections.singletonList(mockEntity("guid-1", 1, DATA_SET_TYPE, DATA_SET_TYPE_GUID, "Payroll", null, null)), 0, release);
+
+        assertFalse(searchIndex.requestBuild(metadataCollection));
+        assertFalse(searchIndex.requestBuild(metadataCollection));
+
+        release.countDown();
+        waitFor(() -> searchIndex.isReady());
+
+        assertTrue(searchIndex.requestBuild(metadataCollection));
+        assertEquals(1, metadataCollection.findCalls);
+        assertEquals(Collections.singletonList("guid-1"), searchIndex.search("payroll", false, true, ALL_TYPES, null, null));
+    }
+
+    @Test
+    public void requestBuild_retriesAfterWait() throws InterruptedException {
+        AssetCatalogSearchIndex retryingIndex = new AssetCatalogSearchIndex("server", "user", mock(AuditLog.class),
+                Collections.singletonList(ASSET_TYPE), 0, 200, 400);
+        CountDownLatch release = new CountDownLatch(0);
+        BuildMetadataCollection metadataCollection = new BuildMetadataCollection(
+                Collections.singletonList(mockEntity("guid-1", 1, DATA_SET_TYPE, DATA_SET_TYPE_GUID, "Payroll", null, null)), 1, release);
+
+        retryingIndex.build(metadataCollection);
+        assertFalse(retryingIndex.isReady());
+
+        assertFalse(retryingIndex.requestBuild(metadataCollection));
+        assertEquals(1, metadataCollection.findCalls);
+
+        Thread.sleep(250);
+        retryingIndex.requestBuild(metadataCollection);
+        waitFor(retryingIndex::isReady);
+
+        assertEquals(2, metadataCollection.findCalls);
+        assertEquals(1, retryingIndex.size());
+    }
+
+    @Test
+    public void index_keepsLatestVersionAndRemoves() {
+        searchIndex.index(mockEntity("guid-1", 2, DATA_SET_TYPE, DATA_SET_TYPE_GUID, "Orders", null, null));
+        searchIndex.index(mockEntity("guid-1", 1, DATA_SET_TYPE, DATA_SET_TYPE_GUID, "Invoices", null, null));
+
+        assertEquals(1, searchIndex.search("orders", false, true, ALL_TYPES, null, null).size());
+        assertTrue(searchIndex.search("invoices", false, true, ALL_TYPES, null, null).isEmpty());
+
+        searchIndex.index(mockEntity("guid-1", 3, DATA_SET_TYPE, DATA_SET_TYPE_GUID, "Invoices", null, null));
+        assertTrue(searchIndex.search("orders", false, true, ALL_TYPES, null, null).isEmpty());
+
+        searchIndex.remove("guid-1", 3);
+        assertTrue(searchIndex.search("invoices", false, true, ALL_TYPES, null, null).isEmpty());
+        assertEquals(0, searchIndex.size());
+    }
+
+    private EntityDetail mockEntity(String guid, long version, String typeName, String typeGUID, String name,
+                                    String description, List<String> zones) {
+        EntityDetail entity = new EntityDetail();
+        entity.setGUID(guid);
+        entity.setVersion(version);
+        entity.setStatus(InstanceStatus.ACTIVE);
+
+        InstanceType type = new InstanceType();
+        type.setTypeDefGUID(typeGUID);
+        type.setTypeDefName(typeName);
+        if (DATA_SET_TYPE.equals(typeName)) {
+            TypeDefLink superType = new TypeDefLink();
+            superType.setGUID(ASSET_TYPE_GUID);
+            superType.setName(ASSET_TYPE);
+            type.setTypeDefSuperTypes(Collections.singletonList(superType));
+        }
+        entity.setType(type);
+
+        InstanceProperties properties = new InstanceProperties();
+        properties.setProperty("name", mockStringValue(name));
+        if (description != null) {
+            properties.setProperty("description", mockStringValue(description));
+        }
+        entity.setProperties(properties);
+
+        if (zones != null) {
+            InstanceProperties zoneValues = new InstanceProperties();
+            for (int i = 0; i < zones.size(); i++) {
+                zoneValues.setProperty(Integer.toString(i), mockStringValue(zones.get(i)));
+            }
+            ArrayPropertyValue zoneMembership = new ArrayPropertyValue();
+            zoneMembership.setArrayCount(zones.size());
+            zoneMembership.setArrayValues(zoneValues);
+
+            InstanceProperties classificationProperties = new InstanceProperties();
+            classificationProperties.setProperty("zoneMembership", zoneMembership);
+
+            Classification classification = new Classification();
+            classification.setName("AssetZoneMembership");
+            classification.setProperties(classificationProperties);
+            entity.setClassifications(Collections.singletonList(classification));
+        }
+        return entity;
+    }
+
+    private void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+    private PrimitivePropertyValue mockStringValue(String value) {
+        PrimitivePropertyValue primitivePropertyValue = new PrimitivePropertyValue();
+        primitivePropertyValue.setPrimitiveDefCategory(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_STRING);
+        primitivePropertyValue.setPrimitiveValue(value);
+        return primitivePropertyValue;
+    }
+
+    /**
+     * Metadata collection that returns the entities of the Asset type after failing the requested number of times.
+     */
+    private static class BuildMetadataCollection extends OMRSMetadataCollectionBase {
+        private final List<EntityDetail> entities;
+        private final CountDownLatch release;
+        private int failures;
+        private int findCalls = 0;
+
+        BuildMetadataCollection(List<EntityDetail> entities, int failures, CountDownLatch release) {
+            super(null, "TestRepository", null, null, "testMetadataCollection");
+            this.entities = entities;
+            this.failures = failures;
+            this.release = release;
+        }
+
+        @Override
+        public TypeDef getTypeDefByName(String userId, String name) {
+            TypeDef typeDef = new EntityDef();
+            typeDef.setGUID(ASSET_TYPE_GUID);
+            typeDef.setName(name);
+            return typeDef;
+        }
+
+        @Override
+        public List<EntityDetail> findEntities(String userId, String entityTypeGUID, List<String> entitySubtypeGUIDs,
+                                               SearchProperties matchProperties, int fromEntityElement,
+                                               List<InstanceStatus> limitResultsByStatus,
+                                               SearchClassifications matchClassifications, Date asOfTime,
+                                               String sequencingProperty, SequencingOrder sequencingOrder, int pageSize)
+                throws RepositoryErrorException {
+            findCalls++;
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException error) {
+                Thread.currentThread().interrupt();
+            }
+
+            if (failures > 0) {
+                failures--;
+                throw new RepositoryErrorException(OMRSErrorCode.NULL_USER_ID.getMessageDefinition("userId", "findEntities", "TestRepository"),
+                        this.getClass().getName(), "findEntities");
+            }
+            return fromEntityElement == 0 ? entities : null;
+        }
+    }
+}
@@ -89,6 +89,7 @@ public class AssetConsumerAdmin extends AccessServiceAdmin
                                                   serverName,
                                                   omrsTopicConnector,
                                                   omrsTopicListener,
+                                                  AssetConsumerOMRSTopicListener.eventFilter,
                                                   auditLog);
             }
 
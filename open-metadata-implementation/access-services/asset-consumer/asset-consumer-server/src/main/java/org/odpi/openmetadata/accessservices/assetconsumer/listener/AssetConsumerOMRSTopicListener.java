@@ -9,6 +9,7 @@ import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.converters.As
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Asset;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerBase;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerFilter;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
 import org.slf4j.Logger;
@@ -19,6 +20,8 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
 import org.odpi.openmetadata.repositoryservices.events.*;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 
@@ -30,6 +33,13 @@ public class AssetConsumerOMRSTopicListener extends OMRSTopicListenerBase
 {
     private static final String assetTypeName                         = "Asset";
 
+    /**
+     * The events processed by this listener: new and updated Assets.
+     */
+    public static final OMRSTopicListenerFilter eventFilter = new OMRSTopicListenerFilter(Arrays.asList(OMRSInstanceEventType.NEW_ENTITY_EVENT,
+                                                                                                        OMRSInstanceEventType.UPDATED_ENTITY_EVENT),
+                                                                                          Collections.singletonList(assetTypeName));
+
     private static final Logger log = LoggerFactory.getLogger(AssetConsumerOMRSTopicListener.class);
 
     private OMRSRepositoryHelper    repositoryHelper;
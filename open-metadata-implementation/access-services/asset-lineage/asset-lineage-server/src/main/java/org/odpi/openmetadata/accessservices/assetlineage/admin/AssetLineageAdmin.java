@@ -35,6 +35,7 @@ public class AssetLineageAdmin extends AccessServiceAdmin {
     private static final Logger log = LoggerFactory.getLogger(AssetLineageAdmin.class);
     private AuditLog auditLog;
     private AssetLineageServicesInstance instance;
+    private AssetLineageOMRSTopicListener omrsTopicListener;
     private String serverName;
 
     /**
@@ -80,7 +81,7 @@ public class AssetLineageAdmin extends AccessServiceAdmin {
                 OpenMetadataTopicConnector outTopicConnector = super.getOutTopicEventBusConnector(outTopicConnection,
                         accessServiceConfigurationProperties.getAccessServiceName(), auditLog);
 
-                AssetLineageOMRSTopicListener omrsTopicListener = new AssetLineageOMRSTopicListener(
+                omrsTopicListener = new AssetLineageOMRSTopicListener(
                         repositoryConnector.getRepositoryHelper(), outTopicConnector, serverName,
                         serverUserName,
                         lineageClassificationTypes,
@@ -91,6 +92,7 @@ public class AssetLineageAdmin extends AccessServiceAdmin {
                         serverName,
                         enterpriseOMRSTopicConnector,
                         omrsTopicListener,
+                        AssetLineageOMRSTopicListener.EVENT_FILTER,
                         auditLog);
                 this.instance.setAssetLineagePublisher(omrsTopicListener.getPublisher());
             }
@@ -131,6 +133,10 @@ public class AssetLineageAdmin extends AccessServiceAdmin {
      * Shutdown the access service.
      */
     public void shutdown() {
+        if (omrsTopicListener != null) {
+            omrsTopicListener.shutdown();
+        }
+
         if (instance != null) {
             instance.shutdown();
         }
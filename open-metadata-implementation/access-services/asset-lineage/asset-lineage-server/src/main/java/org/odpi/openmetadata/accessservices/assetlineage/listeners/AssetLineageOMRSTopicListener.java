@@ -6,6 +6,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import org.apache.commons.collections4.CollectionUtils;
 import org.odpi.openmetadata.accessservices.assetlineage.auditlog.AssetLineageAuditCode;
 import org.odpi.openmetadata.accessservices.assetlineage.event.AssetLineageEventType;
+import org.odpi.openmetadata.accessservices.assetlineage.outtopic.AssetLineageContextBuffer;
 import org.odpi.openmetadata.accessservices.assetlineage.outtopic.AssetLineagePublisher;
 import org.odpi.openmetadata.accessservices.assetlineage.util.Converter;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
@@ -14,6 +15,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFCheckedExceptionBase;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListener;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerFilter;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
@@ -26,6 +28,7 @@ import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -51,8 +54,23 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
     private static final String PROCESSING_RELATIONSHIP_DEBUG_MESSAGE = "Asset Lineage OMAS is processing a {} event concerning relationship {} ";
     private static final String PROCESSING_ENTITY_DETAIL_DEBUG_MESSAGE = "Asset Lineage OMAS is processing a {} event concerning entity {} ";
 
+    /**
+     * The instance events processed by this listener. The lineage types are checked per event since the
+     * lineage classifications are configurable.
+     */
+    public static final OMRSTopicListenerFilter EVENT_FILTER =
+            new OMRSTopicListenerFilter(Arrays.asList(OMRSInstanceEventType.UPDATED_ENTITY_EVENT,
+                    OMRSInstanceEventType.DELETED_ENTITY_EVENT,
+                    OMRSInstanceEventType.CLASSIFIED_ENTITY_EVENT,
+                    OMRSInstanceEventType.RECLASSIFIED_ENTITY_EVENT,
+                    OMRSInstanceEventType.DECLASSIFIED_ENTITY_EVENT,
+                    OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT,
+                    OMRSInstanceEventType.UPDATED_RELATIONSHIP_EVENT,
+                    OMRSInstanceEventType.DELETED_RELATIONSHIP_EVENT), null);
+
     private final AssetLineagePublisher
             publisher;
+    private final AssetLineageContextBuffer contextBuffer;
     private final AuditLog auditLog;
     private final Converter converter;
     private final Set<String> lineageClassificationTypes;
@@ -65,7 +83,7 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
      * @param outTopicConnector The connector used for the Asset Lineage OMAS Out Topic
      * @param serverName        name of this server instance
      * @param serverUserName    name of the user of the server instance
-     * @param accessServiceOptions
+     * @param accessServiceOptions options of the access service, including the context buffer quiet period and max delay
      */
     public AssetLineageOMRSTopicListener(OMRSRepositoryHelper repositoryHelper,
                                          OpenMetadataTopicConnector outTopicConnector,
@@ -78,6 +96,7 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
         this.lineageClassificationTypes = lineageClassificationTypes;
         this.auditLog = auditLog;
         this.serverName = serverName;
+        this.contextBuffer = AssetLineageContextBuffer.fromAccessServiceOptions(accessServiceOptions, serverName, auditLog);
         converter = new Converter(repositoryHelper);
     }
 
@@ -90,6 +109,13 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
         return publisher;
     }
 
+    /**
+     * Publishes the pending buffered contexts and stops the context buffer.
+     */
+    public void shutdown() {
+        contextBuffer.shutdown();
+    }
+
     /**
      * Method to pass a Registry event received on topic.
      *
@@ -182,9 +208,7 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
         log.debug(PROCESSING_ENTITY_DETAIL_DEBUG_MESSAGE, "updatedEntity", entityDetail.getGUID());
 
         if (isProcessStatusChangedToActive(entityDetail, originalEntity)) {
-            publisher.publishProcessContext(entityDetail);
-
-            log.info("Asset Lineage OMAS published the context for process with guid {}", entityDetail.getGUID());
+            publishProcessContext(entityDetail);
         } else {
             publishEntityEvent(entityDetail, AssetLineageEventType.UPDATE_ENTITY_EVENT);
         }
@@ -293,6 +317,36 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
         }
     }
 
+    /**
+     * Publishes the context of the process through the context buffer, so that a burst of events for the
+     * same process results in a single context being built and published.
+     *
+     * @param entityDetail the process entity
+     *
+     * @throws OCFCheckedExceptionBase checked exception for reporting errors found when using OCF connectors
+     * @throws JsonProcessingException exception parsing the event json
+     */
+    private void publishProcessContext(EntityDetail entityDetail) throws OCFCheckedExceptionBase, JsonProcessingException {
+        contextBuffer.submit(entityDetail.getGUID(), () -> {
+            publisher.publishProcessContext(entityDetail);
+
+            log.info("Asset Lineage OMAS published the context for process with guid {}", entityDetail.getGUID());
+        });
+    }
+
+    /**
+     * Publishes the context of the glossary term through the context buffer, so that a burst of events for the
+     * same glossary term results in a single context being built and published.
+     *
+     * @param glossaryTermGUID the glossary term GUID
+     *
+     * @throws OCFCheckedExceptionBase checked exception for reporting errors found when using OCF connectors
+     * @throws JsonProcessingException exception parsing the event json
+     */
+    private void publishGlossaryContext(String glossaryTermGUID) throws OCFCheckedExceptionBase, JsonProcessingException {
+        contextBuffer.submit(glossaryTermGUID, () -> publisher.publishGlossaryContext(glossaryTermGUID));
+    }
+
     /**
      * Process New Relationship event when the relationship type is Process Hierarchy, Semantinc Assignment or Term Categorization
      *
@@ -311,7 +365,7 @@ public class AssetLineageOMRSTopicListener implements OMRSTopicListener {
             case SEMANTIC_ASSIGNMENT:
             case TERM_CATEGORIZATION:
                 String glossaryTermGUID = relationship.getEntityTwoProxy().getGUID();
-                publisher.publishGlossaryContext(glossaryTermGUID);
+                publishGlossaryContext(glossaryTermGUID);
                 break;
             case PROCESS_HIERARCHY:
                 publisher.publishLineageRelationshipEvent(converter.createLineageRelationship(relationship),
@@ -0,0 +1,265 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetlineage.outtopic;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.odpi.openmetadata.accessservices.assetlineage.auditlog.AssetLineageAuditCode;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFCheckedExceptionBase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AssetLineageContextBuffer coalesces bursts of context publishing requests for the same asset.
+ * Requests are keyed by the GUID of the process or glossary term whose context needs to be published.
+ * A request is only executed once no further request for the same key has arrived within the quiet period,
+ * or once the max delay has elapsed since the first request of the burst, whichever comes first.
+ * Only the latest request of a burst is executed, so each asset's context is built and published once per burst.
+ * <p>
+ * When the quiet period is not positive the buffer is disabled and requests are executed on the caller's thread.
+ */
+public class AssetLineageContextBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(AssetLineageContextBuffer.class);
+
+    public static final String CONTEXT_PUBLISHING_QUIET_PERIOD = "contextPublishingQuietPeriod";
+    public static final String CONTEXT_PUBLISHING_MAX_DELAY = "contextPublishingMaxDelay";
+
+    private static final long SHUTDOWN_TIMEOUT = 30000L;
+
+    private static final String ACTION_DESCRIPTION = "Asset Lineage OMAS is unable to publish a buffered context.";
+
+    private final long quietPeriod;
+    private final long maxDelay;
+    private final AuditLog auditLog;
+    private final String serverName;
+    private final Map<String, PendingContext> pendingContexts = new ConcurrentHashMap<>();
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    /**
+     * Publishing action executed when a burst of requests for an asset has settled.
+     */
+    @FunctionalInterface
+    public interface ContextPublishingAction {
+
+        /**
+         * Build and publish the context of an asset.
+         *
+         * @throws OCFCheckedExceptionBase checked exception for reporting errors found when using OCF connectors
+         * @throws JsonProcessingException exception parsing the event json
+         */
+        void publish() throws OCFCheckedExceptionBase, JsonProcessingException;
+    }
+
+    /**
+     * The latest request for a key, along with the timings of the burst it belongs to.
+     */
+    private static class PendingContext {
+        private final long firstRequestTime;
+        private final long lastRequestTime;
+        private final ContextPublishingAction action;
+
+        PendingContext(long firstRequestTime, long lastRequestTime, ContextPublishingAction action) {
+            this.firstRequestTime = firstRequestTime;
+            this.lastRequestTime = lastRequestTime;
+            this.action = action;
+        }
+    }
+
+    /**
+     * Constructor for the buffer.
+     *
+     * @param quietPeriod time in milliseconds without new requests for a key before its context is published;
+     *                    a value less than 1 disables the buffering
+     * @param maxDelay    maximum time in milliseconds a burst of requests for a key can be delayed; values lower than
+     *                    the quiet period are raised to the quiet period
+     * @param serverName  name of this server instance
+     * @param auditLog    audit log used to report publishing failures
+     */
+    public AssetLineageContextBuffer(long quietPeriod, long maxDelay, String serverName, AuditLog auditLog) {
+        this.quietPeriod = quietPeriod;
+        this.maxDelay = Math.max(quietPeriod, maxDelay);
+        this.serverName = serverName;
+        this.auditLog = auditLog;
+
+        if (isEnabled()) {
+            this.scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "AssetLineageContextBuffer-" + serverName);
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        } else {
+            this.scheduler = null;
+        }
+    }
+
+    /**
+     * Create the buffer from the access service options.
+     *
+     * @param accessServiceOptions options of the Asset Lineage OMAS
+     * @param serverName           name of this server instance
+     * @param auditLog             audit log used to report publishing failures
+     *
+     * @return the configured buffer
+     */
+    public static AssetLineageContextBuffer fromAccessServiceOptions(Map<String, Object> accessServiceOptions,
+                                                                     String serverName,
+                                                                     AuditLog auditLog) {
+        long quietPeriod = getLongOption(accessServiceOptions, CONTEXT_PUBLISHING_QUIET_PERIOD, 0L);
+        long maxDelay = getLongOption(accessServiceOptions, CONTEXT_PUBLISHING_MAX_DELAY, quietPeriod * 10);
+
+        return new AssetLineageContextBuffer(quietPeriod, maxDelay, serverName, auditLog);
+    }
+
+    /**
+     * Returns true if requests are buffered, false if they are executed immediately.
+     *
+     * @return true if the buffer is enabled
+     */
+    public boolean isEnabled() {
+        return quietPeriod > 0;
+    }
+
+    /**
+     * Returns the number of keys waiting for their context to be published.
+     *
+     * @return number of pending keys
+     */
+    public int getPendingCount() {
+        return pendingContexts.size();
+    }
+
+    /**
+     * Request the publishing of the context for the given key. Any pending request for the same key is replaced.
+     *
+     * @param key    GUID of the process or glossary term
+     * @param action the publishing action
+     *
+     * @throws OCFCheckedExceptionBase failure of the action when the buffer is disabled
+     * @throws JsonProcessingException failure of the action when the buffer is disabled
+     */
+    public void submit(String key, ContextPublishingAction action) throws OCFCheckedExceptionBase, JsonProcessingException {
+        if (!isEnabled() || scheduler.isShutdown()) {
+            action.publish();
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        boolean[] newBurst = new boolean[1];
+        pendingContexts.compute(key, (k, previous) -> {
+            if (previous == null) {
+                newBurst[0] = true;
+                return new PendingContext(now, now, action);
+            }
+            return new PendingContext(previous.firstRequestTime, now, action);
+        });
+
+        try {
+            if (newBurst[0]) {
+                scheduler.schedule(() -> flushIfDue(key), maxDelay, TimeUnit.MILLISECONDS);
+            }
+            scheduler.schedule(() -> flushIfDue(key), quietPeriod, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // the buffer was shut down while the request was being added
+            PendingContext pendingContext = pendingContexts.remove(key);
+            if (pendingContext != null) {
+                pendingContext.action.publish();
+            }
+        }
+    }
+
+    /**
+     * Publish all pending contexts and stop the buffer. Waits for a publishing action that is already running
+     * to complete, for up to 30 seconds.
+     */
+    public void shutdown() {
+        if (scheduler == null) {
+            return;
+        }
+
+        scheduler.shutdown();
+        for (String key : pendingContexts.keySet()) {
+            PendingContext pendingContext = pendingContexts.remove(key);
+            if (pendingContext != null) {
+                execute(key, pendingContext.action);
+            }
+        }
+
+        try {
+            if (!scheduler.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                log.warn("Asset Lineage OMAS context publishing for server {} did not complete within {} ms",
+                        serverName, SHUTDOWN_TIMEOUT);
+                scheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            scheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Publish the context for the key if its burst has settled or has been delayed for too long.
+     *
+     * @param key GUID of the process or glossary term
+     */
+    private void flushIfDue(String key) {
+        ContextPublishingAction[] dueAction = new ContextPublishingAction[1];
+
+        pendingContexts.computeIfPresent(key, (k, pendingContext) -> {
+            long now = System.currentTimeMillis();
+            if (now - pendingContext.lastRequestTime >= quietPeriod || now - pendingContext.firstRequestTime >= maxDelay) {
+                dueAction[0] = pendingContext.action;
+                return null;
+            }
+            return pendingContext;
+        });
+
+        if (dueAction[0] != null) {
+            execute(key, dueAction[0]);
+        }
+    }
+
+    /**
+     * Execute the publishing action, reporting any failure to the audit log.
+     *
+     * @param key    GUID of the process or glossary term
+     * @param action the publishing action
+     */
+    private void execute(String key, ContextPublishingAction action) {
+        try {
+            action.publish();
+        } catch (Exception e) {
+            log.error("An exception occurred while publishing the buffered context for entity {}", key, e);
+            if (auditLog != null) {
+                auditLog.logException(ACTION_DESCRIPTION,
+                        AssetLineageAuditCode.EVENT_PROCESSING_EXCEPTION.getMessageDefinition(e.getMessage(), serverName),
+                        key, e);
+            }
+        }
+    }
+
+    private static long getLongOption(Map<String, Object> accessServiceOptions, String optionName, long defaultValue) {
+        if (accessServiceOptions == null || accessServiceOptions.get(optionName) == null) {
+            return defaultValue;
+        }
+
+        Object value = accessServiceOptions.get(optionName);
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+
+        try {
+            return Long.parseLong(value.toString());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid value {} for Asset Lineage OMAS option {}; using {}", value, optionName, defaultValue);
+            return defaultValue;
+        }
+    }
+}
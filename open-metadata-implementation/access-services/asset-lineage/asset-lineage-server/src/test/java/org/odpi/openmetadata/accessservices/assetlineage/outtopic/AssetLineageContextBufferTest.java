@@ -0,0 +1,112 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetlineage.outtopic;
+
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Tests for the coalescing of context publishing requests.
+ */
+public class AssetLineageContextBufferTest {
+
+    private static final String SERVER_NAME = "TestServer";
+
+    @Test
+    public void testDisabledBufferPublishesImmediately() throws Exception {
+        AssetLineageContextBuffer buffer = new AssetLineageContextBuffer(0, 0, SERVER_NAME, null);
+        List<String> published = new CopyOnWriteArrayList<>();
+
+        buffer.submit("guid-1", () -> published.add("guid-1"));
+
+        assertFalse(buffer.isEnabled());
+        assertEquals(published.size(), 1);
+        buffer.shutdown();
+    }
+
+    @Test
+    public void testBurstIsPublishedOnce() throws Exception {
+        AssetLineageContextBuffer buffer = new AssetLineageContextBuffer(50, 5000, SERVER_NAME, null);
+        List<String> published = new CopyOnWriteArrayList<>();
+        CountDownLatch publishedLatch = new CountDownLatch(1);
+
+        for (int i = 0; i < 5; i++) {
+            String request = "request-" + i;
+            buffer.submit("guid-1", () -> {
+                published.add(request);
+                publishedLatch.countDown();
+            });
+        }
+
+        assertTrue(publishedLatch.await(5, TimeUnit.SECONDS));
+
+        // shutdown discards the remaining delayed checks, so nothing can be published after it returns
+        buffer.shutdown();
+
+        assertEquals(published.size(), 1);
+        assertEquals(published.get(0), "request-4");
+        assertEquals(buffer.getPendingCount(), 0);
+    }
+
+    @Test
+    public void testShutdownPublishesPendingContexts() throws Exception {
+        AssetLineageContextBuffer buffer = new AssetLineageContextBuffer(60000, 60000, SERVER_NAME, null);
+        List<String> published = new CopyOnWriteArrayList<>();
+
+        buffer.submit("guid-1", () -> published.add("guid-1"));
+        buffer.submit("guid-2", () -> published.add("guid-2"));
+        assertEquals(buffer.getPendingCount(), 2);
+
+        buffer.shutdown();
+
+        assertEquals(published.size(), 2);
+        assertEquals(buffer.getPendingCount(), 0);
+
+        // requests after shutdown are published on the caller's thread
+        buffer.submit("guid-3", () -> published.add("guid-3"));
+        assertEquals(published.size(), 3);
+    }
+
+    @Test
+    public void testShutdownWaitsForRunningPublish() throws Exception {
+        AssetLineageContextBuffer buffer = new AssetLineageContextBuffer(10, 10, SERVER_NAME, null);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch shutdownReturned = new CountDownLatch(1);
+        AtomicBoolean completed = new AtomicBoolean(false);
+
+        buffer.submit("guid-1", () -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            completed.set(true);
+        });
+
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        Thread shutdownThread = new Thread(() -> {
+            buffer.shutdown();
+            shutdownReturned.countDown();
+        });
+        shutdownThread.start();
+
+        assertFalse(shutdownReturned.await(100, TimeUnit.MILLISECONDS));
+
+        release.countDown();
+
+        assertTrue(shutdownReturned.await(5, TimeUnit.SECONDS));
+        assertTrue(completed.get());
+    }
+}
@@ -223,4 +223,55 @@ public interface AssetManagerInterface
                                                          int    pageSize) throws InvalidParameterException,
                                                                                  UserNotAuthorizedException,
                                                                                  PropertyServerException;
+
+
+    /**
+     * Confirm that the values of a batch of metadata elements have been synchronized.  This is the equivalent
+     * of calling confirmSynchronization for each element, but the batch is processed in a single request.
+     * Each element is confirmed separately, so an element that can not be confirmed does not stop the others.
+     *
+     * @param userId calling user
+     * @param assetManagerGUID unique identifier of software server capability representing the caller
+     * @param assetManagerName unique name of software server capability representing the caller
+     * @param openMetadataElementTypeName type name of the elements in the open metadata ecosystem (default referenceable)
+     * @param synchronizedElements map of external identifier to the unique identifier (GUID) of the
+     *                             corresponding element in open metadata
+     *
+     * @return map of external identifier to the reason its element could not be confirmed; null if every element
+     *         was confirmed
+     *
+     * @throws InvalidParameterException  one of the parameters is invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    Map<String, String> confirmSynchronizations(String              userId,
+                                                String              assetManagerGUID,
+                                                String              assetManagerName,
+                                                String              openMetadataElementTypeName,
+                                                Map<String, String> synchronizedElements) throws InvalidParameterException,
+                                                                                                 UserNotAuthorizedException,
+                                                                                                 PropertyServerException;
+
+
+    /**
+     * Return the headers for the open metadata elements that are associated with each of a list of
+     * external identifiers.
+     *
+     * @param userId calling user
+     * @param assetManagerGUID unique identifier of software server capability representing the caller
+     * @param assetManagerName unique name of software server capability representing the caller
+     * @param externalIdentifiers unique identifiers of elements in the external asset manager
+     *
+     * @return map of external identifier to list of element headers; identifiers that are not known are omitted
+     *
+     * @throws InvalidParameterException  one of the parameters is invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    Map<String, List<ElementHeader>> getElementsForExternalIdentifiers(String       userId,
+                                                                       String       assetManagerGUID,
+                                                                       String       assetManagerName,
+                                                                       List<String> externalIdentifiers) throws InvalidParameterException,
+                                                                                                                UserNotAuthorizedException,
+                                                                                                                PropertyServerException;
 }
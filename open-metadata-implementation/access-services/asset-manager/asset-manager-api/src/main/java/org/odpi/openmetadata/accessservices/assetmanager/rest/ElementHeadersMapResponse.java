@@ -0,0 +1,151 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.accessservices.assetmanager.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.accessservices.assetmanager.metadataelements.ElementHeader;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * ElementHeadersMapResponse is a response object for passing back the element headers for each of a list of
+ * external identifiers or an exception if the request failed.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class ElementHeadersMapResponse extends AssetManagerOMASAPIResponse
+{
+    private static final long    serialVersionUID = 1L;
+
+    private Map<String, List<ElementHeader>> elementMap = null;
+
+
+    /**
+     * Default constructor
+     */
+    public ElementHeadersMapResponse()
+    {
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public ElementHeadersMapResponse(ElementHeadersMapResponse template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            elementMap = template.getElementMap();
+        }
+    }
+
+
+    /**
+     * Return the metadata elements for each external identifier.
+     *
+     * @return map of external identifier to element headers
+     */
+    public Map<String, List<ElementHeader>> getElementMap()
+    {
+        if (elementMap == null)
+        {
+            return null;
+        }
+        else if (elementMap.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new HashMap<>(elementMap);
+        }
+    }
+
+
+    /**
+     * Set up the metadata elements to return for each external identifier.
+     *
+     * @param elementMap map of external identifier to element headers
+     */
+    public void setElementMap(Map<String, List<ElementHeader>> elementMap)
+    {
+        this.elementMap = elementMap;
+    }
+
+
+    /**
+     * JSON-style toString
+     *
+     * @return return string containing the property names and values
+     */
+    @Override
+    public String toString()
+    {
+        return "ElementHeadersMapResponse{" +
+                "elementMap=" + elementMap +
+                ", exceptionClassName='" + getExceptionClassName() + '\'' +
+                ", exceptionCausedBy='" + getExceptionCausedBy() + '\'' +
+                ", actionDescription='" + getActionDescription() + '\'' +
+                ", relatedHTTPCode=" + getRelatedHTTPCode() +
+                ", exceptionErrorMessage='" + getExceptionErrorMessage() + '\'' +
+                ", exceptionErrorMessageId='" + getExceptionErrorMessageId() + '\'' +
+                ", exceptionErrorMessageParameters=" + Arrays.toString(getExceptionErrorMessageParameters()) +
+                ", exceptionSystemAction='" + getExceptionSystemAction() + '\'' +
+                ", exceptionUserAction='" + getExceptionUserAction() + '\'' +
+                ", exceptionProperties=" + getExceptionProperties() +
+                '}';
+    }
+
+
+    /**
+     * Return comparison result based on the content of the properties.
+     *
+     * @param objectToCompare test object
+     * @return result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        if (!super.equals(objectToCompare))
+        {
+            return false;
+        }
+        ElementHeadersMapResponse that = (ElementHeadersMapResponse) objectToCompare;
+        return Objects.equals(elementMap, that.elementMap);
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(super.hashCode(), elementMap);
+    }
+}
@@ -0,0 +1,144 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.accessservices.assetmanager.rest;
+
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+
+/**
+ * SynchronizedElementsRequestBody describes the request body used when confirming that a batch of open metadata
+ * elements have been synchronized with the elements in an asset manager.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class SynchronizedElementsRequestBody extends AssetManagerIdentifiersRequestBody
+{
+    private static final long    serialVersionUID = 1L;
+
+    private Map<String, String> synchronizedElements = null;
+
+
+    /**
+     * Default constructor
+     */
+    public SynchronizedElementsRequestBody()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor.
+     *
+     * @param template object to copy
+     */
+    public SynchronizedElementsRequestBody(SynchronizedElementsRequestBody template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            synchronizedElements = template.getSynchronizedElements();
+        }
+    }
+
+
+    /**
+     * Return the map of identifiers from the asset manager to the unique identifiers (GUIDs) of the open metadata
+     * elements they are synchronized with.
+     *
+     * @return map of identifier to guid
+     */
+    public Map<String, String> getSynchronizedElements()
+    {
+        if (synchronizedElements == null)
+        {
+            return null;
+        }
+        else if (synchronizedElements.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new HashMap<>(synchronizedElements);
+        }
+    }
+
+
+    /**
+     * Set up the map of identifiers from the asset manager to the unique identifiers (GUIDs) of the open metadata
+     * elements they are synchronized with.
+     *
+     * @param synchronizedElements map of identifier to guid
+     */
+    public void setSynchronizedElements(Map<String, String> synchronizedElements)
+    {
+        this.synchronizedElements = synchronizedElements;
+    }
+
+
+    /**
+     * JSON-style toString
+     *
+     * @return return string containing the property names and values
+     */
+    @Override
+    public String toString()
+    {
+        return "SynchronizedElementsRequestBody{" +
+                       "synchronizedElements=" + synchronizedElements +
+                       ", assetManagerGUID='" + getAssetManagerGUID() + '\'' +
+                       ", assetManagerName='" + getAssetManagerName() + '\'' +
+                       '}';
+    }
+
+
+    /**
+     * Return comparison result based on the content of the properties.
+     *
+     * @param objectToCompare test object
+     * @return result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        if (!super.equals(objectToCompare))
+        {
+            return false;
+        }
+        SynchronizedElementsRequestBody that = (SynchronizedElementsRequestBody) objectToCompare;
+        return Objects.equals(getSynchronizedElements(), that.getSynchronizedElements());
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(super.hashCode(), synchronizedElements);
+    }
+}
@@ -10,9 +10,13 @@ import org.odpi.openmetadata.accessservices.assetmanager.properties.AssetManager
 import org.odpi.openmetadata.accessservices.assetmanager.properties.KeyPattern;
 import org.odpi.openmetadata.accessservices.assetmanager.properties.MetadataCorrelationProperties;
 import org.odpi.openmetadata.accessservices.assetmanager.properties.SynchronizationDirection;
+import org.odpi.openmetadata.accessservices.assetmanager.rest.ElementHeadersMapResponse;
 import org.odpi.openmetadata.accessservices.assetmanager.rest.ElementHeadersResponse;
+import org.odpi.openmetadata.accessservices.assetmanager.rest.ExternalIdentifiersRequestBody;
+import org.odpi.openmetadata.accessservices.assetmanager.rest.SynchronizedElementsRequestBody;
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
 import org.odpi.openmetadata.commonservices.ffdc.rest.GUIDResponse;
+import org.odpi.openmetadata.commonservices.ffdc.rest.StringMapResponse;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
@@ -594,4 +598,108 @@ public class AssetManagerClient implements AssetManagerInterface
 
         return restResult.getElementList();
     }
+
+
+    /**
+     * Confirm that the values of a batch of metadata elements have been synchronized.  This is the equivalent
+     * of calling confirmSynchronization for each element, but the batch is processed in a single request.
+     * Each element is confirmed separately, so an element that can not be confirmed does not stop the others.
+     *
+     * @param userId calling user
+     * @param assetManagerGUID unique identifier of software server capability representing the caller
+     * @param assetManagerName unique name of software server capability representing the caller
+     * @param openMetadataElementTypeName type name for the open metadata elements
+     * @param synchronizedElements map of external identifier to the unique identifier (GUID) of the
+     *                             corresponding element in open metadata
+     *
+     * @return map of external identifier to the reason its element could not be confirmed; null if every element
+     *         was confirmed
+     *
+     * @throws InvalidParameterException  one of the parameters is invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    @Override
+    public Map<String, String> confirmSynchronizations(String              userId,
+                                                       String              assetManagerGUID,
+                                                       String              assetManagerName,
+                                                       String              openMetadataElementTypeName,
+                                                       Map<String, String> synchronizedElements) throws InvalidParameterException,
+                                                                                                        UserNotAuthorizedException,
+                                                                                                        PropertyServerException
+    {
+        final String methodName                        = "confirmSynchronizations";
+        final String synchronizedElementsParameterName = "synchronizedElements";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateGUID(assetManagerGUID, assetManagerGUIDParameterName, methodName);
+        invalidParameterHandler.validateName(assetManagerName, assetManagerNameParameterName, methodName);
+        invalidParameterHandler.validateObject(synchronizedElements, synchronizedElementsParameterName, methodName);
+
+        final String urlTemplate = serverPlatformURLRoot + urlTemplatePrefix + "/elements/{2}/external-identifiers/synchronized";
+
+        SynchronizedElementsRequestBody requestBody = new SynchronizedElementsRequestBody();
+
+        requestBody.setAssetManagerGUID(assetManagerGUID);
+        requestBody.setAssetManagerName(assetManagerName);
+        requestBody.setSynchronizedElements(synchronizedElements);
+
+        StringMapResponse restResult = restClient.callStringMapPostRESTCall(methodName,
+                                                                            urlTemplate,
+                                                                            requestBody,
+                                                                            serverName,
+                                                                            userId,
+                                                                            openMetadataElementTypeName);
+
+        return restResult.getStringMap();
+    }
+
+
+    /**
+     * Return the headers for the open metadata elements that are associated with each of a list of
+     * external identifiers.
+     *
+     * @param userId calling user
+     * @param assetManagerGUID unique identifier of software server capability representing the caller
+     * @param assetManagerName unique name of software server capability representing the caller
+     * @param externalIdentifiers unique identifiers of elements in the external asset manager
+     *
+     * @return map of external identifier to list of element headers; identifiers that are not known are omitted
+     *
+     * @throws InvalidParameterException  one of the parameters is invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    @Override
+    public Map<String, List<ElementHeader>> getElementsForExternalIdentifiers(String       userId,
+                                                                              String       assetManagerGUID,
+                                                                              String       assetManagerName,
+                                                                              List<String> externalIdentifiers) throws InvalidParameterException,
+                                                                                                                       UserNotAuthorizedException,
+                                                                                                                       PropertyServerException
+    {
+        final String methodName                       = "getElementsForExternalIdentifiers";
+        final String externalIdentifiersParameterName = "externalIdentifiers";
+
+        invalidParameterHandler.validateUserId(userId, methodName);
+        invalidParameterHandler.validateGUID(assetManagerGUID, assetManagerGUIDParameterName, methodName);
+        invalidParameterHandler.validateName(assetManagerName, assetManagerNameParameterName, methodName);
+        invalidParameterHandler.validateObject(externalIdentifiers, externalIdentifiersParameterName, methodName);
+
+        final String urlTemplate = serverPlatformURLRoot + urlTemplatePrefix + "/external-identifiers/open-metadata-elements/batch";
+
+        ExternalIdentifiersRequestBody requestBody = new ExternalIdentifiersRequestBody();
+
+        requestBody.setAssetManagerGUID(assetManagerGUID);
+        requestBody.setAssetManagerName(assetManagerName);
+        requestBody.setExternalIdentifiers(externalIdentifiers);
+
+        ElementHeadersMapResponse restResult = restClient.callElementHeadersMapPostRESTCall(methodName,
+                                                                                            urlTemplate,
+                                                                                            requestBody,
+                                                                                            serverName,
+                                                                                            userId);
+
+        return restResult.getElementMap();
+    }
 }
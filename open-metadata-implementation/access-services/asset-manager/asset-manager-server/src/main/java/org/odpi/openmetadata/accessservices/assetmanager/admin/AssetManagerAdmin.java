@@ -123,6 +123,7 @@ public class AssetManagerAdmin extends AccessServiceAdmin
                                                                                    supportedZones,
                                                                                    repositoryConnector.getRepositoryHelper(),
                                                                                    outTopicAuditLog),
+                                                 AssetManagerOMRSTopicListener.eventFilter,
                                                  auditLog);
             }
 
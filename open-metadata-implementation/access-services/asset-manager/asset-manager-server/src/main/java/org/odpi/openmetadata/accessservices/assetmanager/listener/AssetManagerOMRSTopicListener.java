@@ -5,11 +5,13 @@ package org.odpi.openmetadata.accessservices.assetmanager.listener;
 import org.odpi.openmetadata.accessservices.assetmanager.outtopic.AssetManagerOutTopicPublisher;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerBase;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerFilter;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
 import java.util.List;
 
 
@@ -19,6 +21,13 @@ import java.util.List;
  */
 public class AssetManagerOMRSTopicListener extends OMRSTopicListenerBase
 {
+    /**
+     * The events processed by this listener.  It does not process any instance events yet, so none are passed to it.
+     * Add the event types and instance types here as the processing methods are implemented.
+     */
+    public static final OMRSTopicListenerFilter eventFilter = new OMRSTopicListenerFilter(Collections.emptyList(),
+                                                                                          Collections.emptyList());
+
     private static final Logger log = LoggerFactory.getLogger(AssetManagerOMRSTopicListener.class);
 
     private OMRSRepositoryHelper          repositoryHelper;
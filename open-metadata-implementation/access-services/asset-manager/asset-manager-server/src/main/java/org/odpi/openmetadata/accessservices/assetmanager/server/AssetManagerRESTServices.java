@@ -9,12 +9,16 @@ import org.odpi.openmetadata.accessservices.assetmanager.properties.AssetManager
 import org.odpi.openmetadata.accessservices.assetmanager.properties.KeyPattern;
 import org.odpi.openmetadata.accessservices.assetmanager.properties.MetadataCorrelationProperties;
 import org.odpi.openmetadata.accessservices.assetmanager.properties.SynchronizationDirection;
+import org.odpi.openmetadata.accessservices.assetmanager.rest.ElementHeadersMapResponse;
 import org.odpi.openmetadata.accessservices.assetmanager.rest.ElementHeadersResponse;
+import org.odpi.openmetadata.accessservices.assetmanager.rest.ExternalIdentifiersRequestBody;
+import org.odpi.openmetadata.accessservices.assetmanager.rest.SynchronizedElementsRequestBody;
 import org.odpi.openmetadata.commonservices.ffdc.RESTCallLogger;
 import org.odpi.openmetadata.commonservices.ffdc.RESTCallToken;
 import org.odpi.openmetadata.commonservices.ffdc.RESTExceptionHandler;
 import org.odpi.openmetadata.commonservices.ffdc.rest.GUIDResponse;
 import org.odpi.openmetadata.commonservices.ffdc.rest.ConnectionResponse;
+import org.odpi.openmetadata.commonservices.ffdc.rest.StringMapResponse;
 import org.odpi.openmetadata.commonservices.ffdc.rest.VoidResponse;
 import org.odpi.openmetadata.commonservices.generichandlers.ExternalIdentifierHandler;
 import org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIMapper;
@@ -695,4 +699,153 @@ public class AssetManagerRESTServices
         return response;
     }
 
+
+    /**
+     * Confirm that the values of a batch of metadata elements have been synchronized.  This is the equivalent
+     * of calling confirmSynchronization for each element, but the batch is processed in a single request.
+     * Each element is confirmed separately, so an element that can not be confirmed does not stop the others.
+     *
+     * @param serverName name of the service to route the request to.
+     * @param userId calling user
+     * @param openMetadataElementTypeName type name for the open metadata elements
+     * @param requestBody map of external identifier to element GUID and the scope of the external identifiers
+     *
+     * @return map of external identifier to the reason its element could not be confirmed, null if all were confirmed or
+     * InvalidParameterException  one of the parameters is invalid
+     * UserNotAuthorizedException user not authorized to issue this request
+     * PropertyServerException    problem accessing the property server
+     */
+    public StringMapResponse confirmSynchronizations(String                          serverName,
+                                                     String                          userId,
+                                                     String                          openMetadataElementTypeName,
+                                                     SynchronizedElementsRequestBody requestBody)
+    {
+        final String methodName                        = "confirmSynchronizations";
+        final String synchronizedElementsParameterName = "synchronizedElements";
+        final String assetManagerGUIDParameterName     = "assetManagerGUID";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        StringMapResponse response = new StringMapResponse();
+        AuditLog          auditLog = null;
+
+        try
+        {
+            auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+
+            if (requestBody != null)
+            {
+                ExternalIdentifierHandler<MetadataCorrelationHeader, ElementHeader> handler = instanceHandler.getExternalIdentifierHandler(userId,
+                                                                                                                                           serverName,
+                                                                                                                                           methodName);
+
+                response.setStringMap(handler.confirmSynchronizations(userId,
+                                                                      requestBody.getSynchronizedElements(),
+                                                                      synchronizedElementsParameterName,
+                                                                      openMetadataElementTypeName,
+                                                                      requestBody.getAssetManagerGUID(),
+                                                                      assetManagerGUIDParameterName,
+                                                                      requestBody.getAssetManagerName(),
+                                                                      OpenMetadataAPIMapper.SOFTWARE_SERVER_CAPABILITY_TYPE_NAME,
+                                                                      methodName));
+            }
+            else
+            {
+                restExceptionHandler.handleNoRequestBody(userId, methodName, serverName);
+            }
+        }
+        catch (InvalidParameterException error)
+        {
+            restExceptionHandler.captureInvalidParameterException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            restExceptionHandler.capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            restExceptionHandler.captureUserNotAuthorizedException(response, error);
+        }
+        catch (Exception error)
+        {
+            restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
+        }
+
+        restCallLogger.logRESTCallReturn(token, response.toString());
+
+        return response;
+    }
+
+
+    /**
+     * Return the headers for the open metadata elements that are associated with each of a list of
+     * external identifiers.
+     *
+     * @param serverName name of the service to route the request to.
+     * @param userId calling user
+     * @param requestBody external identifiers and their scope
+     *
+     * @return map of external identifier to linked elements, null if none are known or
+     * InvalidParameterException  one of the parameters is invalid
+     * UserNotAuthorizedException user not authorized to issue this request
+     * PropertyServerException    problem accessing the property server
+     */
+    public ElementHeadersMapResponse getElementsForExternalIdentifiers(String                         serverName,
+                                                                       String                         userId,
+                                                                       ExternalIdentifiersRequestBody requestBody)
+    {
+        final String methodName                       = "getElementsForExternalIdentifiers";
+        final String assetManagerGUIDParameterName    = "assetManagerGUID";
+        final String externalIdentifiersParameterName = "externalIdentifiers";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        ElementHeadersMapResponse response = new ElementHeadersMapResponse();
+        AuditLog                  auditLog = null;
+
+        try
+        {
+            auditLog = instanceHandler.getAuditLog(userId, serverName, methodName);
+
+            if (requestBody != null)
+            {
+                ExternalIdentifierHandler<MetadataCorrelationHeader, ElementHeader> handler = instanceHandler.getExternalIdentifierHandler(userId,
+                                                                                                                                           serverName,
+                                                                                                                                           methodName);
+
+                response.setElementMap(handler.getElementsForExternalIdentifiers(userId,
+                                                                                 requestBody.getAssetManagerGUID(),
+                                                                                 assetManagerGUIDParameterName,
+                                                                                 OpenMetadataAPIMapper.ASSET_MANAGER_TYPE_NAME,
+                                                                                 requestBody.getAssetManagerName(),
+                                                                                 requestBody.getExternalIdentifiers(),
+                                                                                 externalIdentifiersParameterName,
+                                                                                 methodName));
+            }
+            else
+            {
+                restExceptionHandler.handleNoRequestBody(userId, methodName, serverName);
+            }
+        }
+        catch (InvalidParameterException error)
+        {
+            restExceptionHandler.captureInvalidParameterException(response, error);
+        }
+        catch (PropertyServerException error)
+        {
+            restExceptionHandler.capturePropertyServerException(response, error);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            restExceptionHandler.captureUserNotAuthorizedException(response, error);
+        }
+        catch (Exception error)
+        {
+            restExceptionHandler.captureExceptions(response, error, methodName, auditLog);
+        }
+
+        restCallLogger.logRESTCallReturn(token, response.toString());
+
+        return response;
+    }
 }
@@ -6,10 +6,14 @@ import io.swagger.v3.oas.annotations.ExternalDocumentation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.odpi.openmetadata.accessservices.assetmanager.properties.AssetManagerProperties;
 import org.odpi.openmetadata.accessservices.assetmanager.properties.MetadataCorrelationProperties;
+import org.odpi.openmetadata.accessservices.assetmanager.rest.ElementHeadersMapResponse;
 import org.odpi.openmetadata.accessservices.assetmanager.rest.ElementHeadersResponse;
+import org.odpi.openmetadata.accessservices.assetmanager.rest.ExternalIdentifiersRequestBody;
+import org.odpi.openmetadata.accessservices.assetmanager.rest.SynchronizedElementsRequestBody;
 import org.odpi.openmetadata.accessservices.assetmanager.server.AssetManagerRESTServices;
 import org.odpi.openmetadata.commonservices.ffdc.rest.ConnectionResponse;
 import org.odpi.openmetadata.commonservices.ffdc.rest.GUIDResponse;
+import org.odpi.openmetadata.commonservices.ffdc.rest.StringMapResponse;
 import org.odpi.openmetadata.commonservices.ffdc.rest.VoidResponse;
 import org.springframework.web.bind.annotation.*;
 
@@ -237,4 +241,53 @@ public class AssetManagerOMASResource
     {
         return restAPI.getElementsForExternalIdentifier(serverName, userId, startFrom, pageSize, requestBody);
     }
+
+
+    /**
+     * Confirm that the values of a batch of metadata elements have been synchronized.  This is the equivalent
+     * of calling confirmSynchronization for each element, but the batch is processed in a single request.
+     * Each element is confirmed separately, so an element that can not be confirmed does not stop the others.
+     *
+     * @param serverName name of the service to route the request to.
+     * @param userId calling user
+     * @param openMetadataElementTypeName type name for the open metadata elements
+     * @param requestBody map of external identifier to element GUID and the scope of the external identifiers
+     *
+     * @return map of external identifier to the reason its element could not be confirmed, null if all were confirmed or
+     * InvalidParameterException  one of the parameters is invalid
+     * UserNotAuthorizedException user not authorized to issue this request
+     * PropertyServerException    problem accessing the property server
+     */
+    @PostMapping(path = "/asset-managers/elements/{openMetadataElementTypeName}/external-identifiers/synchronized")
+
+    public StringMapResponse confirmSynchronizations(@PathVariable String                          serverName,
+                                                     @PathVariable String                          userId,
+                                                     @PathVariable String                          openMetadataElementTypeName,
+                                                     @RequestBody  SynchronizedElementsRequestBody requestBody)
+    {
+        return restAPI.confirmSynchronizations(serverName, userId, openMetadataElementTypeName, requestBody);
+    }
+
+
+    /**
+     * Return the headers for the open metadata elements that are associated with each of a list of
+     * external identifiers.
+     *
+     * @param serverName name of the service to route the request to.
+     * @param userId calling user
+     * @param requestBody external identifiers and their scope
+     *
+     * @return map of external identifier to linked elements, null if none are known or
+     * InvalidParameterException  one of the parameters is invalid
+     * UserNotAuthorizedException user not authorized to issue this request
+     * PropertyServerException    problem accessing the property server
+     */
+    @PostMapping(path = "/asset-managers/external-identifiers/open-metadata-elements/batch")
+
+    public ElementHeadersMapResponse getElementsForExternalIdentifiers(@PathVariable String                         serverName,
+                                                                       @PathVariable String                         userId,
+                                                                       @RequestBody  ExternalIdentifiersRequestBody requestBody)
+    {
+        return restAPI.getElementsForExternalIdentifiers(serverName, userId, requestBody);
+    }
 }
@@ -122,6 +122,7 @@ public class DataManagerAdmin extends AccessServiceAdmin
                                                                                   AccessServiceDescription.DATA_MANAGER_OMAS.getAccessServiceFullName(),
                                                                                   serverName,
                                                                                   instance),
+                                                 DataManagerOMRSTopicListener.eventFilter,
                                                  auditLog);
             }
 
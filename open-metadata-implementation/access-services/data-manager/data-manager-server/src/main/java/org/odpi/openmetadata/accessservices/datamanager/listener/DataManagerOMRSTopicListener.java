@@ -13,14 +13,17 @@ import org.odpi.openmetadata.commonservices.generichandlers.OpenMetadataAPIMappe
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerBase;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerFilter;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
 import java.util.List;
 
 
@@ -30,6 +33,41 @@ import java.util.List;
  */
 public class DataManagerOMRSTopicListener extends OMRSTopicListenerBase
 {
+    /**
+     * The events processed by this listener: changes to data sets, data stores, schema elements and the
+     * relationships that link them together.  Batches are processed as new instances.
+     */
+    public static final OMRSTopicListenerFilter eventFilter = new OMRSTopicListenerFilter(Arrays.asList(OMRSInstanceEventType.NEW_ENTITY_EVENT,
+                                                                                                        OMRSInstanceEventType.UPDATED_ENTITY_EVENT,
+                                                                                                        OMRSInstanceEventType.CLASSIFIED_ENTITY_EVENT,
+                                                                                                        OMRSInstanceEventType.DECLASSIFIED_ENTITY_EVENT,
+                                                                                                        OMRSInstanceEventType.RECLASSIFIED_ENTITY_EVENT,
+                                                                                                        OMRSInstanceEventType.DELETED_ENTITY_EVENT,
+                                                                                                        OMRSInstanceEventType.DELETE_PURGED_ENTITY_EVENT,
+                                                                                                        OMRSInstanceEventType.RE_IDENTIFIED_ENTITY_EVENT,
+                                                                                                        OMRSInstanceEventType.RETYPED_ENTITY_EVENT,
+                                                                                                        OMRSInstanceEventType.RE_HOMED_ENTITY_EVENT,
+                                                                                                        OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT,
+                                                                                                        OMRSInstanceEventType.UPDATED_RELATIONSHIP_EVENT,
+                                                                                                        OMRSInstanceEventType.DELETED_RELATIONSHIP_EVENT,
+                                                                                                        OMRSInstanceEventType.DELETE_PURGED_RELATIONSHIP_EVENT,
+                                                                                                        OMRSInstanceEventType.RE_IDENTIFIED_RELATIONSHIP_EVENT,
+                                                                                                        OMRSInstanceEventType.RETYPED_RELATIONSHIP_EVENT,
+                                                                                                        OMRSInstanceEventType.RE_HOMED_RELATIONSHIP_EVENT,
+                                                                                                        OMRSInstanceEventType.BATCH_INSTANCES_EVENT),
+                                                                                          Arrays.asList(OpenMetadataAPIMapper.DATA_SET_TYPE_NAME,
+                                                                                                        OpenMetadataAPIMapper.DATA_STORE_TYPE_NAME,
+                                                                                                        OpenMetadataAPIMapper.SCHEMA_ELEMENT_TYPE_NAME,
+                                                                                                        OpenMetadataAPIMapper.DATA_CONTENT_FOR_DATA_SET_TYPE_NAME,
+                                                                                                        OpenMetadataAPIMapper.ASSET_TO_SCHEMA_TYPE_TYPE_NAME,
+                                                                                                        OpenMetadataAPIMapper.ATTRIBUTE_TO_TYPE_RELATIONSHIP_TYPE_NAME,
+                                                                                                        OpenMetadataAPIMapper.TYPE_TO_ATTRIBUTE_RELATIONSHIP_TYPE_NAME,
+                                                                                                        OpenMetadataAPIMapper.SCHEMA_QUERY_TARGET_RELATIONSHIP_TYPE_NAME,
+                                                                                                        OpenMetadataAPIMapper.LINKED_EXTERNAL_SCHEMA_TYPE_RELATIONSHIP_TYPE_NAME,
+                                                                                                        OpenMetadataAPIMapper.MAP_FROM_RELATIONSHIP_TYPE_NAME,
+                                                                                                        OpenMetadataAPIMapper.MAP_TO_RELATIONSHIP_TYPE_NAME,
+                                                                                                        OpenMetadataAPIMapper.SCHEMA_TYPE_OPTION_RELATIONSHIP_TYPE_NAME));
+
     private static final Logger log = LoggerFactory.getLogger(DataManagerOMRSTopicListener.class);
 
     private List<String>                               supportedZones;
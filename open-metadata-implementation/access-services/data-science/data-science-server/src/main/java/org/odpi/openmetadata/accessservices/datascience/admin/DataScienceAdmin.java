@@ -11,6 +11,7 @@ import org.odpi.openmetadata.adminservices.configuration.registration.AccessServ
 import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGConfigurationErrorException;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerFilter;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 
 import java.util.List;
@@ -86,6 +87,7 @@ public class DataScienceAdmin extends AccessServiceAdmin
                                                   serverName,
                                                   omrsTopicConnector,
                                                   omrsTopicListener,
+                                                  OMRSTopicListenerFilter.INSTANCE_EVENTS,
                                                   auditLog);
             }
 
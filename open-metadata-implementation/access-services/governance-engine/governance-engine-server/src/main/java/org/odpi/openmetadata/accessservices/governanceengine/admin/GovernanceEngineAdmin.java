@@ -120,6 +120,7 @@ public class GovernanceEngineAdmin extends AccessServiceAdmin
                                                                                        eventPublisher,
                                                                                        repositoryConnector.getRepositoryHelper(),
                                                                                        outTopicAuditLog),
+                                                 GovernanceEngineOMRSTopicListener.eventFilter,
                                                  auditLog);
             }
 
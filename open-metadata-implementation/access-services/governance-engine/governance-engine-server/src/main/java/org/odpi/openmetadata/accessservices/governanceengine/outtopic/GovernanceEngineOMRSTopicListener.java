@@ -17,12 +17,15 @@ import org.odpi.openmetadata.frameworks.governanceaction.events.WatchdogRelatedE
 import org.odpi.openmetadata.frameworks.governanceaction.properties.*;
 import org.odpi.openmetadata.frameworks.governanceaction.search.PropertyHelper;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerBase;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerFilter;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefSummary;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -38,6 +41,36 @@ import static java.lang.Thread.sleep;
  */
 public class GovernanceEngineOMRSTopicListener extends OMRSTopicListenerBase
 {
+    /**
+     * The events processed by this listener.  Watchdog governance services may monitor any type of element,
+     * so the events are not filtered by type.  Batches are processed as new instances.
+     */
+    public static final OMRSTopicListenerFilter eventFilter = new OMRSTopicListenerFilter(Arrays.asList(OMRSInstanceEventType.NEW_ENTITY_EVENT,
+                                                                                                        OMRSInstanceEventType.UPDATED_ENTITY_EVENT,
+                                                                                                        OMRSInstanceEventType.UNDONE_ENTITY_EVENT,
+                                                                                                        OMRSInstanceEventType.CLASSIFIED_ENTITY_EVENT,
+                                                                                                        OMRSInstanceEventType.DECLASSIFIED_ENTITY_EVENT,
+                                                                                                        OMRSInstanceEventType.RECLASSIFIED_ENTITY_EVENT,
+                                                                                                        OMRSInstanceEventType.DELETED_ENTITY_EVENT,
+                                                                                                        OMRSInstanceEventType.DELETE_PURGED_ENTITY_EVENT,
+                                                                                                        OMRSInstanceEventType.RESTORED_ENTITY_EVENT,
+                                                                                                        OMRSInstanceEventType.RE_IDENTIFIED_ENTITY_EVENT,
+                                                                                                        OMRSInstanceEventType.RETYPED_ENTITY_EVENT,
+                                                                                                        OMRSInstanceEventType.RE_HOMED_ENTITY_EVENT,
+                                                                                                        OMRSInstanceEventType.REFRESHED_ENTITY_EVENT,
+                                                                                                        OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT,
+                                                                                                        OMRSInstanceEventType.UPDATED_RELATIONSHIP_EVENT,
+                                                                                                        OMRSInstanceEventType.UNDONE_RELATIONSHIP_EVENT,
+                                                                                                        OMRSInstanceEventType.DELETED_RELATIONSHIP_EVENT,
+                                                                                                        OMRSInstanceEventType.DELETE_PURGED_RELATIONSHIP_EVENT,
+                                                                                                        OMRSInstanceEventType.RESTORED_RELATIONSHIP_EVENT,
+                                                                                                        OMRSInstanceEventType.RE_IDENTIFIED_RELATIONSHIP_EVENT,
+                                                                                                        OMRSInstanceEventType.RETYPED_RELATIONSHIP_EVENT,
+                                                                                                        OMRSInstanceEventType.RE_HOMED_RELATIONSHIP_EVENT,
+                                                                                                        OMRSInstanceEventType.REFRESHED_RELATIONSHIP_EVENT,
+                                                                                                        OMRSInstanceEventType.BATCH_INSTANCES_EVENT),
+                                                                                          null);
+
     private GovernanceEngineOutTopicPublisher                eventPublisher;
     private OMRSRepositoryHelper                             repositoryHelper;
     private MetadataElementHandler<OpenMetadataElement>      metadataElementHandler;
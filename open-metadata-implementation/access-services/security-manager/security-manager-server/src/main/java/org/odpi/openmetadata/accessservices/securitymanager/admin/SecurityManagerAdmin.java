@@ -19,6 +19,7 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.Endpoint;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerFilter;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 
@@ -124,6 +125,7 @@ public class SecurityManagerAdmin extends AccessServiceAdmin
                                                                                    supportedZones,
                                                                                    repositoryConnector.getRepositoryHelper(),
                                                                                    outTopicAuditLog),
+                                                 OMRSTopicListenerFilter.INSTANCE_EVENTS,
                                                  auditLog);
             }
 
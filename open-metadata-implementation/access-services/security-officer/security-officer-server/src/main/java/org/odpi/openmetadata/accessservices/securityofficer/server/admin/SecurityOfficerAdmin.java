@@ -81,6 +81,7 @@ public class SecurityOfficerAdmin extends AccessServiceAdmin
                                                      serverUserName,
                                                      supportedZones,
                                                      auditLog),
+                                             SecurityOfficerOMRSTopicListener.eventFilter,
                                              auditLog);
 
             auditLog.logMessage(actionDescription, SecurityOfficerAuditCode.SERVICE_INITIALIZED.getMessageDefinition(serverName));
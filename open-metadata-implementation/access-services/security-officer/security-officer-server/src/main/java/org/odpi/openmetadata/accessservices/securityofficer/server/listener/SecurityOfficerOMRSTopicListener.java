@@ -15,6 +15,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterExceptio
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerBase;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicListenerFilter;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
@@ -24,6 +25,7 @@ import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
 import java.util.List;
 
 public class SecurityOfficerOMRSTopicListener extends OMRSTopicListenerBase {
@@ -31,6 +33,15 @@ public class SecurityOfficerOMRSTopicListener extends OMRSTopicListenerBase {
     private static final Logger                         log             = LoggerFactory.getLogger(SecurityOfficerOMRSTopicListener.class);
     private static       SecurityOfficerInstanceHandler instanceHandler = new SecurityOfficerInstanceHandler();
 
+    /**
+     * The instance events processed by this listener.
+     */
+    public static final OMRSTopicListenerFilter eventFilter = new OMRSTopicListenerFilter(Arrays.asList(OMRSInstanceEventType.CLASSIFIED_ENTITY_EVENT,
+                                                                                                        OMRSInstanceEventType.RECLASSIFIED_ENTITY_EVENT,
+                                                                                                        OMRSInstanceEventType.DELETED_ENTITY_EVENT,
+                                                                                                        OMRSInstanceEventType.DECLASSIFIED_ENTITY_EVENT),
+                                                                                          null);
+
     private OMRSRepositoryHelper     repositoryHelper;
     private OMRSRepositoryValidator  repositoryValidator;
     private String                   componentName;
@@ -7,6 +7,7 @@ import com.google.crypto.tink.*;
 import com.google.crypto.tink.aead.AeadConfig;
 import com.google.crypto.tink.aead.AeadKeyTemplates;
 import com.google.crypto.tink.proto.KeyTemplate;
+import org.odpi.openmetadata.adminservices.store.OMAGServerConfigStoreLastModified;
 import org.odpi.openmetadata.adminservices.store.OMAGServerConfigStoreRetrieveAll;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFRuntimeException;
@@ -38,7 +39,8 @@ import java.util.stream.Stream;
  * EncryptedFileBasedServerConfigStoreConnector is the OCF connector for the encrypted file based server
  * configuration store.
  */
-public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConfigStoreConnectorBase implements OMAGServerConfigStoreRetrieveAll {
+public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConfigStoreConnectorBase implements OMAGServerConfigStoreRetrieveAll,
+                                                                                                               OMAGServerConfigStoreLastModified {
 
     private static final String KEYSTORE_FOLDER_BASEDIR = "data/platform/keys";
     private static final String KEYSTORE_FOLDER_PREFIX = "keystore_";
@@ -239,6 +241,19 @@ public class EncryptedFileBasedServerConfigStoreConnector extends OMAGServerConf
             }
         }
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getServerConfigLastModified() {
+        return getConfigStoreFile().lastModified();
+    }
+
+
+    /**
+     * {@inheritDoc}
+     */
     @Override
     public Set<OMAGServerConfig> retrieveAllServerConfigs() {
         final String methodName = "retrieveAllServerConfigs";
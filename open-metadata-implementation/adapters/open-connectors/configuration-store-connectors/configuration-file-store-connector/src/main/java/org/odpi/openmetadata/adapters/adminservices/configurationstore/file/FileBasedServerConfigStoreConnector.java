@@ -3,6 +3,7 @@
 package org.odpi.openmetadata.adapters.adminservices.configurationstore.file;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.adminservices.store.OMAGServerConfigStoreLastModified;
 import org.odpi.openmetadata.adminservices.store.OMAGServerConfigStoreRetrieveAll;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFRuntimeException;
@@ -28,7 +29,8 @@ import java.util.stream.Stream;
 /**
  * FileBasedServerConfigStoreConnector provides a connector that manages a configuration document for an OMAG Server in a file
  */
-public class FileBasedServerConfigStoreConnector extends OMAGServerConfigStoreConnectorBase implements OMAGServerConfigStoreRetrieveAll
+public class FileBasedServerConfigStoreConnector extends OMAGServerConfigStoreConnectorBase implements OMAGServerConfigStoreRetrieveAll,
+                                                                                                      OMAGServerConfigStoreLastModified
 {
     /*
      * This is the name of the configuration file that is used if there is no file name in the connection.
@@ -172,6 +174,20 @@ public class FileBasedServerConfigStoreConnector extends OMAGServerConfigStoreCo
     }
 
 
+    /**
+     * Return the time that the configuration file was last modified.
+     *
+     * @return time in milliseconds since the epoch, or 0 if the file does not exist
+     */
+    @Override
+    public long getServerConfigLastModified()
+    {
+        File    configStoreFile = new File(configStoreName);
+
+        return configStoreFile.lastModified();
+    }
+
+
     /**
      * Retrieve all the stored server configurations
      *
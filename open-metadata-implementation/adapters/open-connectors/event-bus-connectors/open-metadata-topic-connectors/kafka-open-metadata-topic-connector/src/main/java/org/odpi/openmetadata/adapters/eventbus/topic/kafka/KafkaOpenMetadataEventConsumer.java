@@ -3,19 +3,29 @@
 package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.kafka.clients.consumer.CommitFailedException;
+import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
@@ -32,6 +42,16 @@ import org.slf4j.LoggerFactory;
 /**
  * KafkaOpenMetadataEventConsumer is used to process events from kafka topic and is part of native
  * Apache Kafka event/messaging infrastructure.
+ *
+ * By default, received events are passed to the connector's listener thread.  If partition_worker_threads
+ * is set, each partition has its own queue of events that is processed by a pool of worker threads so
+ * that partitions are processed in parallel while the events within a partition stay in order.  Partitions
+ * whose queues are full are paused individually rather than stopping the whole consumer.
+ *
+ * Only the order within a partition is kept.  Producers key registry and type events by server so each
+ * server's non-instance events share a partition, and therefore a worker, and are processed in order.
+ * Instance events keyed by instance are spread over the partitions, so a relationship may be processed
+ * before its end entities, or an instance before the type event that defines its type.
  */
 public class KafkaOpenMetadataEventConsumer implements Runnable
 {
@@ -43,7 +63,7 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
     private final long pollTimeout;
     private final long maxQueueSize;
 
-    private              KafkaConsumer<String, String>   consumer;
+    private              Consumer<String, String>        consumer;
     private final              String                    topicToSubscribe;
     private final              String                    localServerId;
 
@@ -69,6 +89,12 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
     
     private final boolean isAutoCommitEnabled;
 
+    private static final int maxEventsPerWorkerTurn = 100;
+
+    private final ExecutorService                        partitionWorkerPool;
+    private final Map<TopicPartition, PartitionWorker>   partitionWorkers = new ConcurrentHashMap<>();
+    private final Set<TopicPartition>                    pausedPartitions = new HashSet<>();
+
     /**
      * Constructor for the event consumer.
      *
@@ -85,9 +111,32 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
                                    Properties                                  kafkaConsumerProperties,
                                    KafkaOpenMetadataTopicConnector             connector,
                                    AuditLog                                    auditLog)
+    {
+        this(topicName, localServerId, config, kafkaConsumerProperties, new KafkaConsumer<>(kafkaConsumerProperties), connector, auditLog);
+    }
+
+
+    /**
+     * Constructor for the event consumer that uses the supplied Kafka consumer.
+     *
+     * @param topicName name of the topic to listen on.
+     * @param localServerId identifier to enable receiver to identify that an event came from this server.
+     * @param config additional properties
+     * @param kafkaConsumerProperties properties for the consumer.
+     * @param kafkaConsumer Kafka consumer that receives the events.
+     * @param connector connector holding the inbound listeners.
+     * @param auditLog  audit log for this component.
+     */
+    KafkaOpenMetadataEventConsumer(String                                      topicName,
+                                   String                                      localServerId,
+                                   KafkaOpenMetadataEventConsumerConfiguration config,
+                                   Properties                                  kafkaConsumerProperties,
+                                   Consumer<String, String>                    kafkaConsumer,
+                                   KafkaOpenMetadataTopicConnector             connector,
+                                   AuditLog                                    auditLog)
     {
         this.auditLog = auditLog;
-        this.consumer = new KafkaConsumer<>(kafkaConsumerProperties);
+        this.consumer = kafkaConsumer;
         this.topicToSubscribe = topicName;
         this.consumer.subscribe(Collections.singletonList(topicToSubscribe), new HandleRebalance(auditLog));
         this.connector = connector;
@@ -109,6 +158,20 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
         this.messageProcessingStatusCheckIntervalMs = config.getLongProperty(KafkaOpenMetadataEventConsumerProperty.COMMIT_CHECK_INTERVAL_MS);
         long messageTimeoutMins = config.getLongProperty(KafkaOpenMetadataEventConsumerProperty.CONSUMER_EVENT_PROCESSING_TIMEOUT_MINS);
         this.messageProcessingTimeoutMs = messageTimeoutMins < 0 ? messageTimeoutMins : TimeUnit.MILLISECONDS.convert(messageTimeoutMins, TimeUnit.MINUTES);
+
+        int partitionWorkerThreads = config.getIntProperty(KafkaOpenMetadataEventConsumerProperty.PARTITION_WORKER_THREADS);
+        if (partitionWorkerThreads > 0)
+        {
+            AtomicInteger threadCount = new AtomicInteger(0);
+
+            this.partitionWorkerPool = Executors.newFixedThreadPool(partitionWorkerThreads,
+                                                                    (Runnable runnable) -> new Thread(runnable,
+                                                                                                      "Kafka-ConsumerWorker-" + topicName + "-" + threadCount.incrementAndGet()));
+        }
+        else
+        {
+            this.partitionWorkerPool = null;
+        }
     }
 
 
@@ -149,13 +212,18 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
             
             
                 	
-            	int nUnprocessedEvents = connector.getNumberOfUnprocessedEvents();
-            	if (! pollRequired && nUnprocessedEvents > maxQueueSize)
+            	if (partitionWorkerPool != null)
+            	{
+            		//Each partition is paused when its own queue is full so the poll
+            		//continues for the other partitions.
+            		pauseOrResumePartitions();
+            	}
+            	else if (! pollRequired && connector.getNumberOfUnprocessedEvents() > maxQueueSize)
             	{
             		//The connector queue is too big.  Wait until the size goes down until
             		//polling again.  If we let the events just accumulate, we will
             		//eventually run out of memory if the consumer cannot keep up.
-            		log.warn("Skipping Kafka polling since unprocessed message queue size {} is greater than {}", nUnprocessedEvents, maxQueueSize);
+            		log.warn("Skipping Kafka polling since unprocessed message queue size {} is greater than {}", connector.getNumberOfUnprocessedEvents(), maxQueueSize);
             		awaitNextPollingTime();
             		continue;
             	
@@ -177,7 +245,15 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
                         try
                         {
                             addUnprocessedEvent(record.partition(), record.topic(), event);
-                            connector.distributeToListeners(event);
+
+                            if (partitionWorkerPool != null)
+                            {
+                                getPartitionWorker(new TopicPartition(record.topic(), record.partition())).addEvent(event);
+                            }
+                            else
+                            {
+                                connector.distributeToListeners(event);
+                            }
                         }
                         catch (Exception error)
                         {
@@ -233,10 +309,16 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
             }
             finally
             {
-                awaitNextPollingTime();
+                //With partition workers, the poll itself waits for new events
+                if (partitionWorkerPool == null)
+                {
+                    awaitNextPollingTime();
+                }
             }
         }
 
+        stopPartitionWorkers();
+
         if (consumer != null)
         {
             try
@@ -292,6 +374,169 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
         }
     }
 
+    /**
+     * Return the worker for a partition, creating it if this is the first event from the partition.
+     *
+     * @param partition partition that the event came from
+     * @return worker
+     */
+    private PartitionWorker getPartitionWorker(TopicPartition partition)
+    {
+        return partitionWorkers.computeIfAbsent(partition, PartitionWorker::new);
+    }
+
+
+    /**
+     * Pause the partitions whose queues have grown beyond the maximum queue size and resume the paused
+     * partitions whose queues have drained to half of the maximum size.  This must be called on the
+     * consumer thread since the Kafka consumer does not allow access by multiple threads.
+     */
+    private void pauseOrResumePartitions()
+    {
+        Set<TopicPartition> partitionsToPause  = new HashSet<>();
+        Set<TopicPartition> partitionsToResume = new HashSet<>();
+
+        for (PartitionWorker worker : partitionWorkers.values())
+        {
+            int queueSize = worker.getQueueSize();
+
+            if (pausedPartitions.contains(worker.partition))
+            {
+                if (queueSize <= maxQueueSize / 2)
+                {
+                    partitionsToResume.add(worker.partition);
+                }
+            }
+            else if (queueSize > maxQueueSize)
+            {
+                partitionsToPause.add(worker.partition);
+            }
+        }
+
+        /*
+         * Only partitions still assigned to this consumer can be paused or resumed.
+         */
+        Set<TopicPartition> assignedPartitions = consumer.assignment();
+
+        partitionsToPause.retainAll(assignedPartitions);
+        partitionsToResume.retainAll(assignedPartitions);
+
+        if (! partitionsToPause.isEmpty())
+        {
+            log.info("Pausing partitions with full event queues: {}", partitionsToPause);
+            consumer.pause(partitionsToPause);
+            pausedPartitions.addAll(partitionsToPause);
+        }
+
+        if (! partitionsToResume.isEmpty())
+        {
+            log.info("Resuming partitions: {}", partitionsToResume);
+            consumer.resume(partitionsToResume);
+            pausedPartitions.removeAll(partitionsToResume);
+        }
+    }
+
+
+    /**
+     * Stop the partition workers.  The events that have already been passed to the listeners are allowed
+     * to complete so that their offsets can be committed.  Events still queued are not processed and will be
+     * received again when the consumer restarts.
+     */
+    private void stopPartitionWorkers()
+    {
+        if (partitionWorkerPool != null)
+        {
+            partitionWorkerPool.shutdown();
+
+            try
+            {
+                if (! partitionWorkerPool.awaitTermination(recoverySleepTimeSec, TimeUnit.SECONDS))
+                {
+                    log.warn("Partition workers for topic {} did not stop within {} seconds", topicToSubscribe, recoverySleepTimeSec);
+                }
+            }
+            catch (InterruptedException error)
+            {
+                log.debug("Interrupted while stopping partition workers", error);
+            }
+        }
+    }
+
+
+    /**
+     * Stop processing the events from partitions that have been revoked from this consumer.  The events
+     * still queued for the partitions are discarded since they will be received by the consumer that the
+     * partitions are assigned to.  The events that the workers are processing are allowed to complete so that
+     * their offsets can be committed.  This must be called on the consumer thread.
+     *
+     * @param partitions revoked partitions
+     */
+    private void stopRevokedPartitionWorkers(Collection<TopicPartition> partitions)
+    {
+        List<PartitionWorker> revokedWorkers = new ArrayList<>();
+
+        for (TopicPartition partition : partitions)
+        {
+            PartitionWorker worker = partitionWorkers.remove(partition);
+
+            if (worker != null)
+            {
+                worker.revoke();
+                revokedWorkers.add(worker);
+            }
+        }
+
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(recoverySleepTimeSec);
+
+        for (PartitionWorker worker : revokedWorkers)
+        {
+            while ((worker.isScheduled()) && (System.currentTimeMillis() < deadline))
+            {
+                try
+                {
+                    Thread.sleep(10);
+                }
+                catch (InterruptedException error)
+                {
+                    log.debug("Interrupted while waiting for partition worker", error);
+                    return;
+                }
+            }
+
+            if (worker.isScheduled())
+            {
+                log.warn("Partition worker for {} did not stop within {} seconds", worker.partition, recoverySleepTimeSec);
+            }
+        }
+    }
+
+
+    /**
+     * Move the offsets of the fully processed events from the revoked partitions into the current offsets
+     * and stop tracking the events from these partitions.  The events that were not processed are received
+     * again by the consumer that the partitions are assigned to.
+     *
+     * @param partitions revoked partitions
+     */
+    private void removeRevokedUnprocessedEvents(Collection<TopicPartition> partitions)
+    {
+        for (TopicPartition partition : partitions)
+        {
+            Queue<KafkaIncomingEvent> queue = unprocessedEventQueues.remove(partition);
+
+            if (queue != null)
+            {
+                KafkaIncomingEvent mostRecentProcessedEvent = removeFullyProcessedEventsFromBeginningOfQueue(queue);
+
+                if (mostRecentProcessedEvent != null)
+                {
+                    currentOffsets.put(partition, new OffsetAndMetadata(mostRecentProcessedEvent.getOffset() + 1));
+                }
+            }
+        }
+    }
+
+
     private void addUnprocessedEvent(int partition, String topic, KafkaIncomingEvent event) {
         if (isAutoCommitEnabled) {
             return;
@@ -524,41 +769,226 @@ public class KafkaOpenMetadataEventConsumer implements Runnable
 
         public void onPartitionsRevoked(Collection<TopicPartition> partitions)
         {
-            final String methodName = "onPartitionsRevoked.commitSync";
-            if( !currentOffsets.isEmpty() )
+            revokePartitions(partitions);
+        }
+    }
+
+
+    /**
+     * Commit the offsets of the processed events before partitions are revoked from this consumer.  With
+     * partition workers, the queued events for the revoked partitions are discarded first and the events
+     * being processed are allowed to complete, so that only offsets of processed events are committed and
+     * the new owner of each partition starts from the first event that was not processed.  This is called
+     * on the consumer thread.
+     *
+     * @param partitions revoked partitions
+     */
+    void revokePartitions(Collection<TopicPartition> partitions)
+    {
+        final String methodName = "onPartitionsRevoked.commitSync";
+
+        /*
+         * Kafka forgets the paused state of partitions that are reassigned.
+         */
+        pausedPartitions.removeAll(partitions);
+
+        if (partitionWorkerPool != null)
+        {
+            stopRevokedPartitionWorkers(partitions);
+        }
+
+        if (! isAutoCommitEnabled)
+        {
+            removeRevokedUnprocessedEvents(partitions);
+        }
+
+        if( !currentOffsets.isEmpty() )
+        {
+            log.info("Lost partitions in rebalance. Committing current offsets:" + currentOffsets);
+            try
+            {
+                consumer.commitSync(currentOffsets);
+            } catch (WakeupException error)
+            {
+                /*
+                This has occurred because a client was woken up to poll for new messages
+                and can safely be ignored.
+                 */
+            }
+            catch (CommitFailedException error )
+            {
+                /*
+                This is usually encountered during development because a debug session has prevented the kafka client
+                from honouring the heartbeat configuration.
+                 */
+                auditLog.logMessage( methodName, KafkaOpenMetadataTopicConnectorAuditCode.FAILED_TO_COMMIT_CONSUMED_EVENTS.getMessageDefinition());
+            }
+            catch (Exception error)
+            {
+                if (auditLog != null)
+                {
+                    auditLog.logException(methodName,
+                            KafkaOpenMetadataTopicConnectorAuditCode.EXCEPTION_COMMITTING_OFFSETS.getMessageDefinition(error.getClass().getName(),
+                                    topicToSubscribe,
+                                    error.getMessage()),
+                            error);
+                }
+
+            }
+        }
+
+        /*
+         * The offsets for the revoked partitions are no longer committed by this consumer.
+         */
+        for (TopicPartition partition : partitions)
+        {
+            currentOffsets.remove(partition);
+        }
+    }
+
+
+    /**
+     * PartitionWorker holds the events received from a single partition and passes them to the listeners
+     * in order.  It runs on the partition worker pool and is only scheduled once at a time so that the events
+     * for the partition are processed by one thread at a time.
+     */
+    private class PartitionWorker implements Runnable
+    {
+        private final TopicPartition                          partition;
+        private final ConcurrentLinkedQueue<KafkaIncomingEvent> events    = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger                           queueSize = new AtomicInteger(0);
+        private final AtomicBoolean                           scheduled = new AtomicBoolean(false);
+        private volatile boolean                              revoked   = false;
+
+
+        /**
+         * Create a worker for a partition.
+         *
+         * @param partition partition that this worker processes
+         */
+        PartitionWorker(TopicPartition partition)
+        {
+            this.partition = partition;
+        }
+
+
+        /**
+         * Add an event to the queue and make sure the worker is scheduled.
+         *
+         * @param event event received from the partition
+         */
+        void addEvent(KafkaIncomingEvent event)
+        {
+            events.add(event);
+            queueSize.incrementAndGet();
+            schedule();
+        }
+
+
+        /**
+         * Return the number of events waiting to be processed.
+         *
+         * @return count
+         */
+        int getQueueSize()
+        {
+            return queueSize.get();
+        }
+
+
+        /**
+         * Return whether the worker is waiting for, or running on, a thread from the pool.
+         *
+         * @return flag
+         */
+        boolean isScheduled()
+        {
+            return scheduled.get();
+        }
+
+
+        /**
+         * Stop the worker because its partition has been revoked.  The events that are still queued are
+         * discarded.  The event that is being processed is allowed to complete.
+         */
+        void revoke()
+        {
+            revoked = true;
+
+            while (events.poll() != null)
+            {
+                queueSize.decrementAndGet();
+            }
+        }
+
+
+        /**
+         * Submit the worker to the pool unless it is already scheduled.
+         */
+        private void schedule()
+        {
+            if (scheduled.compareAndSet(false, true))
             {
-                log.info("Lost partitions in rebalance. Committing current offsets:" + currentOffsets);
                 try
                 {
-                    consumer.commitSync(currentOffsets);
-                } catch (WakeupException error)
+                    partitionWorkerPool.execute(this);
+                }
+                catch (RejectedExecutionException error)
+                {
+                    //The pool is shutting down
+                    scheduled.set(false);
+                }
+            }
+        }
+
+
+        /**
+         * Process a batch of events from the queue.  The worker gives up its thread after each batch so that
+         * a busy partition does not hold up the other partitions.
+         */
+        @Override
+        public void run()
+        {
+            int processedCount = 0;
+
+            while ((isRunning()) && (! revoked) && (processedCount < maxEventsPerWorkerTurn))
+            {
+                KafkaIncomingEvent event = events.poll();
+
+                if (event == null)
                 {
-                    /*
-                    This has occurred because a client was woken up to poll for new messages
-                    and can safely be ignored.
-                     */
+                    break;
                 }
-                catch (CommitFailedException error )
+
+                queueSize.decrementAndGet();
+                processedCount++;
+
+                try
                 {
-                    /*
-                    This is usually encountered during development because a debug session has prevented the kafka client
-                    from honouring the heartbeat configuration.
-                     */
-                    auditLog.logMessage( methodName, KafkaOpenMetadataTopicConnectorAuditCode.FAILED_TO_COMMIT_CONSUMED_EVENTS.getMessageDefinition());
+                    connector.distributeToListenersNow(event);
                 }
                 catch (Exception error)
                 {
+                    log.error(String.format("Error distributing inbound event: %s", error.getMessage()), error);
+
                     if (auditLog != null)
                     {
-                        auditLog.logException(methodName,
-                                KafkaOpenMetadataTopicConnectorAuditCode.EXCEPTION_COMMITTING_OFFSETS.getMessageDefinition(error.getClass().getName(),
-                                        topicToSubscribe,
-                                        error.getMessage()),
-                                error);
+                        auditLog.logException("PartitionWorker.run",
+                                              KafkaOpenMetadataTopicConnectorAuditCode.EXCEPTION_DISTRIBUTING_EVENT.getMessageDefinition
+                                                      (topicToSubscribe,
+                                                       error.getClass().getName(), event.getJson(),
+                                                       error.getMessage()),
+                                              error);
                     }
-
                 }
             }
+
+            scheduled.set(false);
+
+            if ((isRunning()) && (! revoked) && (! events.isEmpty()))
+            {
+                schedule();
+            }
         }
     }
 }
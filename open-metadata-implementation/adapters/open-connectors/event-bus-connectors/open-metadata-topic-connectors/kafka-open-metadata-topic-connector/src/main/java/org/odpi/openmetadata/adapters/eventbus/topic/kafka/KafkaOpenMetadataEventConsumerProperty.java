@@ -54,7 +54,18 @@ public enum KafkaOpenMetadataEventConsumerProperty
      * used if auto commit is disabled in the Kafka consumer. 
      * 
      */
-    COMMIT_CHECK_INTERVAL_MS("commit_check_interval_ms", "5000");
+    COMMIT_CHECK_INTERVAL_MS("commit_check_interval_ms", "5000"),
+
+    /**
+     * The number of threads used to process events from different partitions in parallel.  Events
+     * from the same partition are always processed in order by one thread at a time.  When the value
+     * is zero, all events are passed to the connector's single listener thread.
+     *
+     * When parallel processing is in use, event_bus_max_queue_size applies to each partition:
+     * a partition is paused when its queue exceeds this size and resumed when the queue has
+     * drained to half of this size.
+     */
+    PARTITION_WORKER_THREADS("partition_worker_threads", "0");
 
 	private final String propertyName;
 	private final String defaultValue;
@@ -5,16 +5,19 @@ package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
 import org.apache.kafka.common.errors.RetriableException;
-import org.apache.kafka.common.errors.WakeupException;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.ConnectorCheckedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * KafkaOpenMetadataEventProducer manages the sending of events on Apache Kafka.  This is done through called to
@@ -23,10 +26,19 @@ import java.util.concurrent.TimeUnit;
  * Kafka is not always running.  When this occurs, the call to publish events hangs and this is disruptive to the
  * rest of the server.  So the role of this class is to manage the sending of events in a separate thread
  * and manage the logging of errors to alert the operations team that Kafka needs restarting.
+ *
+ * Events are passed to Kafka as soon as they arrive and the acknowledgements are processed in a callback
+ * so that many events can be in flight at once.  The max_in_flight_events property limits the number of
+ * unacknowledged events.  Kafka resends events that fail with a retryable error itself.  With idempotence
+ * enabled (the default for this connector) this keeps the events in order, so an error reported in the
+ * acknowledgement is final.  An event that Kafka does not accept stays at the head of the send buffer
+ * and is sent again once the error clears.
  */
 public class KafkaOpenMetadataEventProducer implements Runnable
 {
-    private final List<String> sendBuffer = Collections.synchronizedList(new ArrayList<>());
+    private static final String instancePartitionKey = "instance";
+
+    private final LinkedBlockingDeque<OutboundEvent> sendBuffer = new LinkedBlockingDeque<>();
 
     private static final Logger log = LoggerFactory.getLogger(KafkaOpenMetadataEventProducer.class);
 
@@ -37,16 +49,23 @@ public class KafkaOpenMetadataEventProducer implements Runnable
     private final AuditLog auditLog;
     private final String   listenerThreadName;
     private final String   topicName;
-    private final int sleepTime = 1000;
+    private final long     pollTimeout;
     private static final long recoverySleepTimeSec = 10L;
 
     private final String                          localServerId;
     private final Properties                      producerProperties;
     private Producer<String, String>        producer = null;
 
+    private final boolean   keyByInstance;
+    private final int       maxInFlightEvents;
+    private final Semaphore inFlightPermits;
+
     private KafkaOpenMetadataTopicConnector connector;
 
-    private long    messageSendCount = 0;
+    private final AtomicLong    messageSendCount = new AtomicLong(0);
+    private final AtomicLong    messageRetryCount = new AtomicLong(0);
+    private final AtomicBoolean inErrorLoop = new AtomicBoolean(false);
+    private boolean             backPressureReported = false;
 
 
     /**
@@ -56,14 +75,16 @@ public class KafkaOpenMetadataEventProducer implements Runnable
      * @param topicName name of the topic to listen on.
      * @param localServerId identifier to enable receiver to identify that an event came from this server.
      * @param producerProperties properties for the consumer.
+     * @param producerConfiguration Egeria properties for the producer.
      * @param connector connector holding the inbound listeners.
      * @param auditLog  audit log for this component.
      */
-    KafkaOpenMetadataEventProducer(String                          topicName,
-                                   String                          localServerId,
-                                   Properties                      producerProperties,
-                                   KafkaOpenMetadataTopicConnector connector,
-                                   AuditLog                        auditLog)
+    KafkaOpenMetadataEventProducer(String                                      topicName,
+                                   String                                      localServerId,
+                                   Properties                                  producerProperties,
+                                   KafkaOpenMetadataEventProducerConfiguration producerConfiguration,
+                                   KafkaOpenMetadataTopicConnector             connector,
+                                   AuditLog                                    auditLog)
     {
         this.auditLog = auditLog;
         this.topicName = topicName;
@@ -72,6 +93,11 @@ public class KafkaOpenMetadataEventProducer implements Runnable
         this.producerProperties = producerProperties;
         this.listenerThreadName = defaultThreadName + topicName;
 
+        this.keyByInstance = instancePartitionKey.equalsIgnoreCase(producerConfiguration.getProperty(KafkaOpenMetadataEventProducerProperty.PARTITION_KEY));
+        this.maxInFlightEvents = Math.max(1, producerConfiguration.getIntProperty(KafkaOpenMetadataEventProducerProperty.MAX_IN_FLIGHT_EVENTS));
+        this.pollTimeout = Math.max(1L, producerConfiguration.getLongProperty(KafkaOpenMetadataEventProducerProperty.POLL_TIMEOUT));
+        this.inFlightPermits = new Semaphore(maxInFlightEvents);
+
         final String           actionDescription = "new producer";
 
         auditLog.logMessage(actionDescription,
@@ -81,25 +107,20 @@ public class KafkaOpenMetadataEventProducer implements Runnable
     }
 
 
-
     /**
-     * Sends the supplied event to the topic.  It retries if Kafka is not responding.
+     * Create the Kafka producer if it does not exist.
      *
-     * @param event object containing the event properties.
      * @throws ConnectorCheckedException the connector is not able to communicate with the event bus
      */
-    private void publishEvent(String event) throws ConnectorCheckedException
+    private void connectProducer() throws ConnectorCheckedException
     {
-        final String methodName = "publishEvent";
-
-        boolean                  eventSent = false;
-        long                     eventRetryCount = 0;
+        final String methodName = "connectProducer";
 
         if (producer == null)
         {
             try
             {
-                producer = new KafkaProducer<>(producerProperties);
+                producer = this.createProducer();
             }
             catch ( Exception error )
             {
@@ -114,80 +135,167 @@ public class KafkaOpenMetadataEventProducer implements Runnable
                                                     error);
             }
         }
-        while (!eventSent)
+    }
+
+
+    /**
+     * Create the Kafka producer.
+     *
+     * @return new producer
+     */
+    Producer<String, String> createProducer()
+    {
+        return new KafkaProducer<>(producerProperties);
+    }
+
+
+    /**
+     * Passes the supplied event to Kafka.  The call returns once Kafka has accepted the event into its buffers.
+     * The acknowledgement is processed by a callback.  If the maximum number of events are already waiting for
+     * acknowledgement, this method waits for one of them to complete.  If the event is not passed to Kafka it
+     * is put back at the head of the send buffer so that it is the next event sent.
+     *
+     * @param outboundEvent object containing the event properties.
+     * @throws ConnectorCheckedException the connector is not able to communicate with the event bus
+     * @throws InterruptedException the thread was interrupted while waiting for an acknowledgement
+     */
+    private void publishEvent(OutboundEvent outboundEvent) throws ConnectorCheckedException, InterruptedException
+    {
+        final String methodName = "publishEvent";
+
+        this.connectProducer();
+
+        if (! inFlightPermits.tryAcquire())
         {
-            try
+            if (! backPressureReported)
             {
-                log.debug("Sending message {0}" + event);
-                ProducerRecord<String, String> record = new ProducerRecord<>(topicName, localServerId, event);
-                producer.send(record).get();
-                eventSent = true;
-                messageSendCount++;
+                auditLog.logMessage(methodName,
+                                    KafkaOpenMetadataTopicConnectorAuditCode.EVENT_SEND_BACK_PRESSURE.getMessageDefinition(topicName,
+                                                                                                                           Integer.toString(maxInFlightEvents),
+                                                                                                                           Integer.toString(this.getSendBufferSize())));
+                backPressureReported = true;
             }
-            catch (ExecutionException error)
-            {
-                /*
-                 * This may be a simple timeout or something else more
-                 */
-                log.debug("Kafka had trouble sending event: " + event + "exception message is " + error.getMessage());
 
-                if (!isExceptionRetryable(error))
-                {
-                    /* kafka thinks this isn't a retryable problem */
-                    /* so let the caller try */
-
-                    producer.close();
-                    producer = null;
-
-                    throw new ConnectorCheckedException(KafkaOpenMetadataTopicConnectorErrorCode.ERROR_SENDING_EVENT.getMessageDefinition(error.getClass().getName(),
-                                                                                                                                          topicName,
-                                                                                                                                          error.getMessage()),
-                                                                                                                                          this.getClass().getName(),
-                                                                                                                                          methodName,
-                                                                                                                                          error);
-                }
-                if (eventRetryCount == 10)
-                {
-                    /* we've retried now let the caller retry */
-                    producer.close();
-                    producer = null;
-                    log.error("Retryable Exception closed producer ");
-                    break;
-                }
-                else
+            try
+            {
+                while (! inFlightPermits.tryAcquire(pollTimeout, TimeUnit.MILLISECONDS))
                 {
-                    if (eventRetryCount == 0)
+                    if (! isRunning())
                     {
-                        auditLog.logMessage(methodName,
-                                            KafkaOpenMetadataTopicConnectorAuditCode.EVENT_SEND_IN_ERROR_LOOP.getMessageDefinition(topicName,
-                                                                                                                                   Long.toString(messageSendCount),
-                                                                                                                                   Long.toString(this.getSendBufferSize()),
-                                                                                                                                   error.getMessage()));
+                        /*
+                         * Put the event back so it is counted as unsent in the shutdown message.
+                         */
+                        sendBuffer.offerFirst(outboundEvent);
+                        return;
                     }
-
-                    eventRetryCount++;
                 }
             }
-            catch (WakeupException error)
+            catch (InterruptedException error)
             {
-                log.error("Wake up for shut down " + error.toString());
+                sendBuffer.offerFirst(outboundEvent);
+                throw error;
             }
-            catch (Throwable error)
+        }
+        else
+        {
+            backPressureReported = false;
+        }
+
+        try
+        {
+            log.debug("Sending message {}", outboundEvent.event);
+            ProducerRecord<String, String> record = new ProducerRecord<>(topicName, this.getRecordKey(outboundEvent), outboundEvent.event);
+            producer.send(record, (RecordMetadata metadata, Exception error) -> this.eventAcknowledged(outboundEvent, error));
+        }
+        catch (Throwable error)
+        {
+            inFlightPermits.release();
+
+            /*
+             * Kafka has not accepted the event so it is sent again, ahead of the later events, when the
+             * producer has recovered.
+             */
+            sendBuffer.offerFirst(outboundEvent);
+            messageRetryCount.incrementAndGet();
+
+            if (inErrorLoop.compareAndSet(false, true))
             {
-                producer.close();
-                producer = null;
-                log.debug("Send Events Throwable catch block closed producer");
-                log.error("Exception in sendEvent " + error.toString());
-
-                throw new ConnectorCheckedException(KafkaOpenMetadataTopicConnectorErrorCode.ERROR_SENDING_EVENT.getMessageDefinition(error.getClass().getName(),
-                                                                                                                                      topicName,
-                                                                                                                                      error.getMessage()),
-                                                    this.getClass().getName(),
-                                                    methodName,
-                                                    error);
+                auditLog.logMessage(methodName,
+                                    KafkaOpenMetadataTopicConnectorAuditCode.EVENT_SEND_IN_ERROR_LOOP.getMessageDefinition(topicName,
+                                                                                                                           Long.toString(messageSendCount.get()),
+                                                                                                                           Long.toString(this.getSendBufferSize()),
+                                                                                                                           error.getMessage()));
             }
+
+            producer.close();
+            producer = null;
+            log.debug("Send Events Throwable catch block closed producer");
+            log.error("Exception in sendEvent " + error.toString());
+
+            throw new ConnectorCheckedException(KafkaOpenMetadataTopicConnectorErrorCode.ERROR_SENDING_EVENT.getMessageDefinition(error.getClass().getName(),
+                                                                                                                                  topicName,
+                                                                                                                                  error.getMessage()),
+                                                this.getClass().getName(),
+                                                methodName,
+                                                error);
         }
+    }
+
 
+    /**
+     * Return the key for the Kafka record.  Kafka sends records with the same key to the same partition.
+     * Only instance events carry a partition key.  Registry events, type events and any other events without
+     * one are always keyed by the local server so they stay in order on a single partition.
+     *
+     * @param outboundEvent event to send
+     * @return key
+     */
+    private String getRecordKey(OutboundEvent outboundEvent)
+    {
+        if ((keyByInstance) && (outboundEvent.partitionKey != null))
+        {
+            return outboundEvent.partitionKey;
+        }
+
+        return localServerId;
+    }
+
+
+    /**
+     * Process the acknowledgement from Kafka.  This runs on Kafka's I/O thread and so must not block.
+     * Kafka has already resent the event if the error was retryable so an error is final.
+     *
+     * @param outboundEvent event that was sent
+     * @param error exception returned by Kafka or null if the event was sent
+     */
+    private void eventAcknowledged(OutboundEvent outboundEvent,
+                                   Exception     error)
+    {
+        final String methodName = "eventAcknowledged";
+
+        inFlightPermits.release();
+
+        if (error == null)
+        {
+            messageSendCount.incrementAndGet();
+
+            if (inErrorLoop.compareAndSet(true, false))
+            {
+                auditLog.logMessage(methodName,
+                                    KafkaOpenMetadataTopicConnectorAuditCode.EVENT_SEND_RECOVERED.getMessageDefinition(topicName,
+                                                                                                                       Long.toString(messageRetryCount.get())));
+            }
+
+            return;
+        }
+
+        log.debug("Kafka had trouble sending event: " + outboundEvent.event + "exception message is " + error.getMessage());
+
+        auditLog.logMessage(methodName,
+                            KafkaOpenMetadataTopicConnectorAuditCode.EVENT_SEND_FAILED.getMessageDefinition(topicName,
+                                                                                                            error.getClass().getName(),
+                                                                                                            error.getMessage()),
+                            outboundEvent.event);
     }
 
 
@@ -209,25 +317,15 @@ public class KafkaOpenMetadataEventProducer implements Runnable
         {
             try
             {
-                String bufferedEvent = this.getEvent();
-
                 /*
-                 * If there are no events waiting then sleep
+                 * Wait for the next event - this returns as soon as an event is added to the buffer.
                  */
-                if (bufferedEvent == null)
-                {
-                    TimeUnit.MILLISECONDS.sleep(sleepTime);
-                }
-                else
+                OutboundEvent bufferedEvent = sendBuffer.poll(pollTimeout, TimeUnit.MILLISECONDS);
+
+                while ((bufferedEvent != null) && (isRunning()))
                 {
-                    /*
-                     * Send all waiting events
-                     */
-                    while (bufferedEvent != null)
-                    {
-                        publishEvent(bufferedEvent);
-                        bufferedEvent = this.getEvent();
-                    }
+                    publishEvent(bufferedEvent);
+                    bufferedEvent = sendBuffer.poll();
                 }
             }
             catch (InterruptedException   error)
@@ -251,7 +349,8 @@ public class KafkaOpenMetadataEventProducer implements Runnable
 
         /* producer may have already closed by exception handler in publishEvent */
         if(producer != null) {
-            log.debug("");
+            /* wait for the acknowledgements for the events already passed to Kafka */
+            producer.flush();
             producer.close();
             producer = null;
         }
@@ -259,22 +358,11 @@ public class KafkaOpenMetadataEventProducer implements Runnable
         auditLog.logMessage(actionDescription,
                             KafkaOpenMetadataTopicConnectorAuditCode.KAFKA_PRODUCER_SHUTDOWN.getMessageDefinition(topicName,
                                                                                                                   Integer.toString(getSendBufferSize()),
-                                                                                                                  Long.toString(messageSendCount)),
+                                                                                                                  Long.toString(messageSendCount.get())),
                            this.producerProperties.toString());
     }
 
 
-    /**
-     * Supports putting events to the in memory OMRS Topic
-     *
-     * @param newEvent  event to publish
-     */
-    private void putEvent(String  newEvent)
-    {
-        sendBuffer.add(newEvent);
-    }
-
-
     /**
      * Returns the size of the send buffer
      *
@@ -287,29 +375,27 @@ public class KafkaOpenMetadataEventProducer implements Runnable
 
 
     /**
-     * Returns all of the events found on the in memory OMRS Topic.
+     * Sends the supplied event to the topic.
      *
-     * @return list of received events.
+     * @param event  OMRSEvent object containing the event properties.
      */
-    private String getEvent()
+    public void sendEvent(String event)
     {
-        if (sendBuffer.isEmpty())
-        {
-            return null;
-        }
-
-        return sendBuffer.remove(0);
+        this.sendEvent(event, null);
     }
 
 
     /**
-     * Sends the supplied event to the topic.
+     * Sends the supplied event to the topic.  The partition key is used as the Kafka record key if the
+     * producer is configured to partition by instance.
      *
      * @param event  OMRSEvent object containing the event properties.
+     * @param partitionKey unique identifier of the instance that the event describes (may be null)
      */
-    public void sendEvent(String event)
+    public void sendEvent(String event,
+                          String partitionKey)
     {
-        this.putEvent(event);
+        sendBuffer.offer(new OutboundEvent(event, partitionKey));
     }
 
 
@@ -361,6 +447,9 @@ public class KafkaOpenMetadataEventProducer implements Runnable
 
     private boolean isExceptionRetryable( Throwable throwable)
     {
+        if (throwable instanceof RetriableException) {
+            return true;
+        }
 
         Throwable nested = null;
         while ((nested = throwable.getCause()) != null) {
@@ -371,4 +460,27 @@ public class KafkaOpenMetadataEventProducer implements Runnable
        }
         return false;
     }
+
+
+    /**
+     * OutboundEvent holds an event waiting to be sent along with its partition key.
+     */
+    private static class OutboundEvent
+    {
+        private final String event;
+        private final String partitionKey;
+
+        /**
+         * Create the outbound event.
+         *
+         * @param event event to send
+         * @param partitionKey unique identifier of the instance that the event describes (may be null)
+         */
+        OutboundEvent(String event,
+                      String partitionKey)
+        {
+            this.event = event;
+            this.partitionKey = partitionKey;
+        }
+    }
 }
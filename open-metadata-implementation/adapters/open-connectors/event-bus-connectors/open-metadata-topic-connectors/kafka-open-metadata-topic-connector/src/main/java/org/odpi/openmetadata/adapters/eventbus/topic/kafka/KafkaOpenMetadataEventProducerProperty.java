@@ -0,0 +1,50 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
+
+/**
+ * Configurable properties for the KafkaOpenMetadataEventProducer
+ *
+ */
+public enum KafkaOpenMetadataEventProducerProperty
+{
+    /**
+     * Controls the key used for each event sent to Kafka.  Kafka uses the key to choose the partition.
+     * The value "server" uses the local server identifier so all events from this server are
+     * sent to a single partition.  The value "instance" uses the unique identifier of the instance
+     * that the event describes so that the events are spread over the partitions while the
+     * events for each instance stay in order.  Events that do not describe an instance
+     * always use the local server identifier.
+     */
+    PARTITION_KEY("partition_key", "server"),
+
+    /**
+     * The maximum number of events that have been passed to Kafka and are waiting for acknowledgement.
+     * When this number is reached, the producer waits for acknowledgements before sending more events.
+     */
+    MAX_IN_FLIGHT_EVENTS("max_in_flight_events", "100"),
+
+    /**
+     * The poll timeout (in ms) used when waiting for new events to send.  This only controls how
+     * quickly the producer notices that it has been asked to shut down since new events are
+     * sent as soon as they arrive.
+     */
+    POLL_TIMEOUT("poll_timeout_ms", "1000");
+
+    private final String propertyName;
+    private final String defaultValue;
+
+    KafkaOpenMetadataEventProducerProperty(String name, String defaultValue)
+    {
+        this.propertyName = name;
+        this.defaultValue = defaultValue;
+    }
+
+    public String getPropertyName() {
+        return propertyName;
+    }
+
+    public String getDefaultValue() {
+        return defaultValue;
+    }
+}
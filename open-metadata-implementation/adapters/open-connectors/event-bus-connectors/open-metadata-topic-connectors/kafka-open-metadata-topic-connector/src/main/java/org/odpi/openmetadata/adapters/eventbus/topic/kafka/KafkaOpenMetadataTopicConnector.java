@@ -33,6 +33,7 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
     
     private final Properties producerProperties = new Properties();
     private final Properties consumerEgeriaProperties = new Properties();
+    private final Properties producerEgeriaProperties = new Properties();
     private final Properties consumerProperties = new Properties();
 
 
@@ -47,6 +48,8 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
 
     private KafkaProducerExecutor executor = null;
 
+    private KafkaOpenMetadataEventProducerConfiguration producerConfig = null;
+
     final String                   threadHeader = "Kafka-";
     Thread                         consumerThread;
     Thread                         producerThread;
@@ -64,7 +67,7 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
 
             /* we don't care why the thread ended , we just restart it */
             /* The thread will log on exit and on restart already, so no need to let anyone know */
-            producer = new KafkaOpenMetadataEventProducer(topicName, serverId, producerProperties, KafkaOpenMetadataTopicConnector.this, auditLog);
+            producer = new KafkaOpenMetadataEventProducer(topicName, serverId, producerProperties, producerConfig, KafkaOpenMetadataTopicConnector.this, auditLog);
             producerThread = new Thread(producer, threadHeader + "Producer-" + topicName);
             executor.execute(producerThread);
         }
@@ -83,7 +86,10 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
 
         producerProperties.put("bootstrap.servers", "localhost:9092");
         producerProperties.put("acks", "all");
-        producerProperties.put("retries", 1);
+        producerProperties.put("retries", Integer.MAX_VALUE);
+        producerProperties.put("delivery.timeout.ms", 120000);
+        producerProperties.put("enable.idempotence", "true");
+        producerProperties.put("max.in.flight.requests.per.connection", 5);
         producerProperties.put("batch.size", 16384);
         producerProperties.put("linger.ms", 0);
         producerProperties.put("buffer.memory", 33554432);
@@ -182,6 +188,9 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
             
             propertiesObject = configurationProperties.get(KafkaOpenMetadataTopicProvider.egeriaConsumerPropertyName);
             copyProperties(propertiesObject, consumerEgeriaProperties);
+
+            propertiesObject = configurationProperties.get(KafkaOpenMetadataTopicProvider.egeriaProducerPropertyName);
+            copyProperties(propertiesObject, producerEgeriaProperties);
         }
         catch (Throwable   error)
         {
@@ -262,7 +271,8 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
         consumerThread = new Thread(consumer, threadHeader + "Consumer-" + topicName);
         consumerThread.start();
 
-        producer = new KafkaOpenMetadataEventProducer(topicName, serverId, producerProperties, this, auditLog);
+        producerConfig = new KafkaOpenMetadataEventProducerConfiguration(producerEgeriaProperties, auditLog);
+        producer = new KafkaOpenMetadataEventProducer(topicName, serverId, producerProperties, producerConfig, this, auditLog);
         producerThread = new Thread(producer, threadHeader + "Producer-" + topicName);
         executor = new KafkaProducerExecutor();
         executor.execute(producerThread);
@@ -287,6 +297,25 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
     }
 
 
+    /**
+     * Sends the supplied event to the topic.  The partition key is used to choose the Kafka partition
+     * if the producer is configured to partition events by instance.
+     *
+     * @param event object containing the event properties.
+     * @param partitionKey unique identifier of the instance that the event describes (may be null)
+     * @throws ConnectorCheckedException the connector is not able to communicate with the event bus
+     */
+    @Override
+    public void sendEvent(String event,
+                          String partitionKey) throws ConnectorCheckedException
+    {
+        if (producer != null)
+        {
+            producer.sendEvent(event, partitionKey);
+        }
+    }
+
+
     /**
      * Look to see if there is one of more new events to process.
      *
@@ -324,6 +353,19 @@ public class KafkaOpenMetadataTopicConnector extends OpenMetadataTopicConnector
     }
 
 
+    /**
+     * Pass an event directly to the listeners on the calling thread.  This is used by the consumer's
+     * partition workers when events are processed in parallel.
+     *
+     * @param event object containing the event properties.
+     */
+    void distributeToListenersNow(IncomingEvent event)
+    {
+        log.debug("distribute event to listeners now" + event);
+        super.distributeEvent(event);
+    }
+
+
     /**
      * Free up any resources held since the connector is no longer needed.
      *
@@ -141,6 +141,27 @@ public enum KafkaOpenMetadataTopicConnectorAuditCode implements AuditLogMessageS
             "Check the  Kafka error logs for related messages that could " +
                     "indicate the cause of this error.  Work to clear the underlying error.  " +
                     "Once fixed, it may be necessary to restart the server to cause a reconnect to Kafka."),
+
+    EVENT_SEND_FAILED("OCF-KAFKA-TOPIC-CONNECTOR-0020",
+            OMRSAuditLogRecordSeverity.ERROR,
+            "Unable to send event on topic {0}.  The event has been discarded.  The {1} exception was returned with message {2}",
+            "The Apache Kafka event bus returned an error that was not resolved by its own retries.  The event has not been sent.",
+            "Review the operational status of Apache Kafka to ensure it is running and the topic is defined.  " +
+                    "Use the exception message to determine the cause of the error.  Other servers may need to be " +
+                    "refreshed with the metadata that was in the discarded event."),
+
+    EVENT_SEND_BACK_PRESSURE("OCF-KAFKA-TOPIC-CONNECTOR-0021",
+            OMRSAuditLogRecordSeverity.INFO,
+            "The Apache Kafka producer for topic {0} has {1} events waiting for acknowledgement from Kafka and is pausing before sending more events; {2} events are buffered",
+            "The producer waits for Kafka to acknowledge earlier events before sending the buffered events.",
+            "No action is required if this message occurs occasionally.  If it occurs frequently, " +
+                    "review the performance of Apache Kafka or increase the max_in_flight_events property."),
+
+    EVENT_SEND_RECOVERED("OCF-KAFKA-TOPIC-CONNECTOR-0022",
+            OMRSAuditLogRecordSeverity.INFO,
+            "The Apache Kafka producer for topic {0} is sending events successfully again after {1} events were put back on the send buffer",
+            "Kafka is acknowledging the events sent by this server.",
+            "No action is required.  This is part of the normal operation of the server."),
     ;
 
     private final AuditLogMessageDefinition messageDefinition;
@@ -0,0 +1,264 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicListener;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Validate that the KafkaOpenMetadataEventConsumer's partition workers process the partitions in parallel
+ * and that the events queued for a revoked partition are discarded before the offsets are committed.
+ */
+public class TestKafkaOpenMetadataEventConsumer
+{
+    private static final String         TOPIC_NAME = "testTopic";
+    private static final TopicPartition PARTITION0 = new TopicPartition(TOPIC_NAME, 0);
+    private static final TopicPartition PARTITION1 = new TopicPartition(TOPIC_NAME, 1);
+
+    private MockConsumer<String, String>   kafkaConsumer = null;
+    private KafkaOpenMetadataEventConsumer eventConsumer = null;
+    private Thread                         consumerThread = null;
+    private BlockingListener               listener       = null;
+
+
+    @AfterMethod
+    public void stopConsumer() throws InterruptedException
+    {
+        if (eventConsumer != null)
+        {
+            listener.release.countDown();
+            eventConsumer.safeCloseConsumer();
+            consumerThread.join(10000);
+        }
+    }
+
+
+    /**
+     * Validate that an event that is still being processed only holds up the later events from its own
+     * partition.
+     *
+     * @throws InterruptedException interrupted while waiting
+     */
+    @Test
+    public void testPartitionsProcessedInParallel() throws InterruptedException
+    {
+        startConsumer("p0-0");
+
+        addRecord(PARTITION0, 0, "p0-0");
+        addRecord(PARTITION0, 1, "p0-1");
+        addRecord(PARTITION1, 0, "p1-0");
+
+        waitFor(() -> listener.processedEvents.contains("p1-0"));
+
+        assertFalse(listener.processedEvents.contains("p0-1"));
+
+        listener.release.countDown();
+
+        waitFor(() -> listener.processedEvents.contains("p0-1"));
+
+        assertTrue(listener.processedEvents.indexOf("p0-0") < listener.processedEvents.indexOf("p0-1"));
+    }
+
+
+    /**
+     * Validate that the registry and type events from a server, which share the server's partition, are
+     * processed in the order they were sent while the instance events on other partitions carry on.
+     *
+     * @throws InterruptedException interrupted while waiting
+     */
+    @Test
+    public void testServerKeyedEventsProcessedInOrder() throws InterruptedException
+    {
+        startConsumer("registryEvent");
+
+        addRecord(PARTITION0, 0, "registryEvent");
+        addRecord(PARTITION0, 1, "typeEvent1");
+        addRecord(PARTITION0, 2, "typeEvent2");
+        addRecord(PARTITION1, 0, "instanceEvent1", "instanceGUID1");
+        addRecord(PARTITION1, 1, "instanceEvent2", "instanceGUID2");
+
+        waitFor(() -> listener.processedEvents.contains("instanceEvent2"));
+
+        assertFalse(listener.processedEvents.contains("typeEvent1"));
+        assertFalse(listener.processedEvents.contains("typeEvent2"));
+
+        listener.release.countDown();
+
+        waitFor(() -> listener.processedEvents.contains("typeEvent2"));
+
+        assertTrue(listener.processedEvents.indexOf("registryEvent") < listener.processedEvents.indexOf("typeEvent1"));
+        assertTrue(listener.processedEvents.indexOf("typeEvent1") < listener.processedEvents.indexOf("typeEvent2"));
+    }
+
+
+    /**
+     * Validate that revoking a partition lets the event being processed complete, discards the events
+     * queued behind it and commits the offset after the processed event.
+     *
+     * @throws InterruptedException interrupted while waiting
+     */
+    @Test
+    public void testRevokedPartitionEventsDiscarded() throws InterruptedException
+    {
+        startConsumer("p0-0");
+
+        addRecord(PARTITION0, 0, "p0-0");
+        addRecord(PARTITION0, 1, "p0-1");
+        addRecord(PARTITION0, 2, "p0-2");
+
+        assertTrue(listener.blocked.await(10, TimeUnit.SECONDS));
+
+        AtomicBoolean revoked = new AtomicBoolean(false);
+
+        kafkaConsumer.schedulePollTask(() ->
+                                       {
+                                           eventConsumer.revokePartitions(Collections.singletonList(PARTITION0));
+                                           revoked.set(true);
+                                       });
+
+        Thread.sleep(200);
+        assertFalse(revoked.get());
+
+        listener.release.countDown();
+
+        waitFor(revoked::get);
+
+        OffsetAndMetadata committedOffset = kafkaConsumer.committed(Collections.singleton(PARTITION0)).get(PARTITION0);
+
+        assertEquals(committedOffset.offset(), 1L);
+
+        Thread.sleep(200);
+
+        assertEquals(listener.processedEvents, Collections.singletonList("p0-0"));
+    }
+
+
+    private void startConsumer(String blockingEvent)
+    {
+        kafkaConsumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        listener = new BlockingListener(blockingEvent);
+
+        KafkaOpenMetadataTopicConnector connector = new KafkaOpenMetadataTopicConnector();
+
+        connector.registerListener(listener);
+
+        Properties egeriaProperties = new Properties();
+
+        egeriaProperties.setProperty(KafkaOpenMetadataEventConsumerProperty.PARTITION_WORKER_THREADS.getPropertyName(), "2");
+        egeriaProperties.setProperty(KafkaOpenMetadataEventConsumerProperty.POLL_TIMEOUT.getPropertyName(), "10");
+        egeriaProperties.setProperty(KafkaOpenMetadataEventConsumerProperty.COMMIT_CHECK_INTERVAL_MS.getPropertyName(), "60000");
+
+        Properties kafkaProperties = new Properties();
+
+        kafkaProperties.setProperty("bootstrap.servers", "localhost:9092");
+        kafkaProperties.setProperty("key.deserializer", "org.apache.kafka.common.serialization.StringDeserializer");
+        kafkaProperties.setProperty("value.deserializer", "org.apache.kafka.common.serialization.StringDeserializer");
+        kafkaProperties.setProperty(KafkaOpenMetadataTopicConnector.ENABLE_AUTO_COMMIT_PROPERTY, "false");
+
+        eventConsumer = new KafkaOpenMetadataEventConsumer(TOPIC_NAME,
+                                                           "localServerId",
+                                                           new KafkaOpenMetadataEventConsumerConfiguration(egeriaProperties, null),
+                                                           kafkaProperties,
+                                                           kafkaConsumer,
+                                                           connector,
+                                                           new AuditLog(null, 0, "TestConsumer", "Test", null));
+
+        kafkaConsumer.rebalance(Arrays.asList(PARTITION0, PARTITION1));
+
+        Map<TopicPartition, Long> beginningOffsets = new HashMap<>();
+
+        beginningOffsets.put(PARTITION0, 0L);
+        beginningOffsets.put(PARTITION1, 0L);
+        kafkaConsumer.updateBeginningOffsets(beginningOffsets);
+
+        consumerThread = new Thread(eventConsumer);
+        consumerThread.start();
+    }
+
+
+    private void addRecord(TopicPartition partition, long offset, String json)
+    {
+        addRecord(partition, offset, json, "remoteServerId");
+    }
+
+
+    private void addRecord(TopicPartition partition, long offset, String json, String key)
+    {
+        kafkaConsumer.addRecord(new ConsumerRecord<>(TOPIC_NAME, partition.partition(), offset, key, json));
+    }
+
+
+    private void waitFor(BooleanSupplier condition) throws InterruptedException
+    {
+        long deadline = System.currentTimeMillis() + 10000;
+
+        while ((! condition.getAsBoolean()) && (System.currentTimeMillis() < deadline))
+        {
+            Thread.sleep(10);
+        }
+
+        assertTrue(condition.getAsBoolean());
+    }
+
+
+    /**
+     * Listener that records the events it receives and waits to be released before completing one of them.
+     */
+    private static class BlockingListener implements OpenMetadataTopicListener
+    {
+        private final String         blockingEvent;
+        private final List<String>   processedEvents = new CopyOnWriteArrayList<>();
+        private final CountDownLatch blocked         = new CountDownLatch(1);
+        private final CountDownLatch release         = new CountDownLatch(1);
+
+        BlockingListener(String blockingEvent)
+        {
+            this.blockingEvent = blockingEvent;
+        }
+
+
+        @Override
+        public void processEvent(String event)
+        {
+            if (blockingEvent.equals(event))
+            {
+                blocked.countDown();
+
+                try
+                {
+                    release.await(10, TimeUnit.SECONDS);
+                }
+                catch (InterruptedException error)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            processedEvents.add(event);
+        }
+    }
+}
@@ -0,0 +1,288 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.eventbus.topic.kafka;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Validate that the KafkaOpenMetadataEventProducer sends events without waiting for each acknowledgement,
+ * limits the number of unacknowledged events and keeps the order of events that Kafka does not accept.
+ */
+public class TestKafkaOpenMetadataEventProducer
+{
+    private static final String TOPIC_NAME      = "testTopic";
+    private static final String LOCAL_SERVER_ID = "localServerId";
+
+    private TestEventProducer eventProducer = null;
+    private Thread            producerThread = null;
+
+
+    @AfterMethod
+    public void stopProducer() throws InterruptedException
+    {
+        if (eventProducer != null)
+        {
+            eventProducer.safeCloseProducer();
+            producerThread.join(10000);
+        }
+    }
+
+
+    /**
+     * Validate that events are passed to Kafka before the earlier events are acknowledged.
+     *
+     * @throws InterruptedException interrupted while waiting
+     */
+    @Test
+    public void testEventsSentWithoutWaiting() throws InterruptedException
+    {
+        startProducer(10);
+
+        eventProducer.sendEvent("event1");
+        eventProducer.sendEvent("event2");
+        eventProducer.sendEvent("event3");
+
+        waitFor(() -> getSentEvents(0).size() == 3);
+
+        assertEquals(getSentEvents(0), Arrays.asList("event1", "event2", "event3"));
+
+        MockProducer<String, String> kafkaProducer = eventProducer.kafkaProducers.get(0);
+        assertTrue(kafkaProducer.completeNext());
+        assertTrue(kafkaProducer.completeNext());
+        assertTrue(kafkaProducer.completeNext());
+    }
+
+
+    /**
+     * Validate that the producer waits for an acknowledgement once the maximum number of events are
+     * waiting for one.
+     *
+     * @throws InterruptedException interrupted while waiting
+     */
+    @Test
+    public void testBackPressure() throws InterruptedException
+    {
+        startProducer(2);
+
+        eventProducer.sendEvent("event1");
+        eventProducer.sendEvent("event2");
+        eventProducer.sendEvent("event3");
+
+        waitFor(() -> getSentEvents(0).size() == 2);
+        Thread.sleep(100);
+
+        assertEquals(getSentEvents(0), Arrays.asList("event1", "event2"));
+
+        eventProducer.kafkaProducers.get(0).completeNext();
+
+        waitFor(() -> getSentEvents(0).size() == 3);
+
+        assertEquals(getSentEvents(0), Arrays.asList("event1", "event2", "event3"));
+    }
+
+
+    /**
+     * Validate that an event that Kafka does not accept is sent again by a new Kafka producer ahead of
+     * the later events.
+     *
+     * @throws InterruptedException interrupted while waiting
+     */
+    @Test
+    public void testRejectedEventSentFirst() throws InterruptedException
+    {
+        eventProducer = new TestEventProducer(10, null);
+
+        eventProducer.sendEvent("event1");
+        eventProducer.sendEvent("event2");
+        eventProducer.sendEvent("event3");
+
+        producerThread = new Thread(eventProducer);
+        producerThread.start();
+
+        waitFor(() -> (eventProducer.kafkaProducers.size() == 2) && (getSentEvents(1).size() == 3));
+
+        assertEquals(getSentEvents(0).size(), 0);
+        assertEquals(getSentEvents(1), Arrays.asList("event1", "event2", "event3"));
+    }
+
+
+    /**
+     * Validate that an event that fails after Kafka has accepted it is not sent again, since Kafka has
+     * already retried it, and that the later events are still sent.
+     *
+     * @throws InterruptedException interrupted while waiting
+     */
+    @Test
+    public void testFailedAcknowledgementIsFinal() throws InterruptedException
+    {
+        startProducer(10);
+
+        eventProducer.sendEvent("event1");
+
+        waitFor(() -> getSentEvents(0).size() == 1);
+
+        eventProducer.kafkaProducers.get(0).errorNext(new TimeoutException("test"));
+
+        eventProducer.sendEvent("event2");
+
+        waitFor(() -> getSentEvents(0).size() == 2);
+        Thread.sleep(100);
+
+        assertEquals(getSentEvents(0), Arrays.asList("event1", "event2"));
+        assertEquals(eventProducer.kafkaProducers.size(), 1);
+    }
+
+
+    /**
+     * Validate that, when events are partitioned by instance, only the events with a partition key are keyed
+     * by instance.  The registry and type events, which have none, are keyed by the local server.
+     *
+     * @throws InterruptedException interrupted while waiting
+     */
+    @Test
+    public void testOnlyInstanceEventsKeyedByInstance() throws InterruptedException
+    {
+        startProducer(10, "instance");
+
+        eventProducer.sendEvent("registryEvent");
+        eventProducer.sendEvent("typeEvent", null);
+        eventProducer.sendEvent("instanceEvent", "instanceGUID");
+
+        waitFor(() -> getSentEvents(0).size() == 3);
+
+        List<String> keys = new ArrayList<>();
+
+        for (ProducerRecord<String, String> record : eventProducer.kafkaProducers.get(0).history())
+        {
+            keys.add(record.key());
+        }
+
+        assertEquals(keys, Arrays.asList(LOCAL_SERVER_ID, LOCAL_SERVER_ID, "instanceGUID"));
+    }
+
+
+    private void startProducer(int maxInFlightEvents)
+    {
+        startProducer(maxInFlightEvents, null);
+    }
+
+
+    private void startProducer(int    maxInFlightEvents,
+                               String partitionKey)
+    {
+        eventProducer = new TestEventProducer(maxInFlightEvents, partitionKey);
+        eventProducer.rejectFirstSend = false;
+
+        producerThread = new Thread(eventProducer);
+        producerThread.start();
+    }
+
+
+    private List<String> getSentEvents(int producerIndex)
+    {
+        List<String> sentEvents = new ArrayList<>();
+
+        if (eventProducer.kafkaProducers.size() > producerIndex)
+        {
+            for (ProducerRecord<String, String> record : eventProducer.kafkaProducers.get(producerIndex).history())
+            {
+                sentEvents.add(record.value());
+            }
+        }
+
+        return sentEvents;
+    }
+
+
+    private void waitFor(BooleanSupplier condition) throws InterruptedException
+    {
+        long deadline = System.currentTimeMillis() + 10000;
+
+        while ((! condition.getAsBoolean()) && (System.currentTimeMillis() < deadline))
+        {
+            Thread.sleep(10);
+        }
+
+        assertTrue(condition.getAsBoolean());
+    }
+
+
+    /**
+     * Event producer that uses Kafka's mock producer.  The first mock producer can be set up to reject
+     * the events passed to it.  There is no wait to recover from an error.
+     */
+    private static class TestEventProducer extends KafkaOpenMetadataEventProducer
+    {
+        private final List<MockProducer<String, String>> kafkaProducers = new CopyOnWriteArrayList<>();
+        private boolean                                  rejectFirstSend = true;
+
+        TestEventProducer(int    maxInFlightEvents,
+                          String partitionKey)
+        {
+            super(TOPIC_NAME,
+                  LOCAL_SERVER_ID,
+                  new Properties(),
+                  new KafkaOpenMetadataEventProducerConfiguration(getEgeriaProperties(maxInFlightEvents, partitionKey), null),
+                  null,
+                  new AuditLog(null, 0, "TestProducer", "Test", null));
+        }
+
+
+        private static Properties getEgeriaProperties(int    maxInFlightEvents,
+                                                      String partitionKey)
+        {
+            Properties egeriaProperties = new Properties();
+
+            if (partitionKey != null)
+            {
+                egeriaProperties.setProperty(KafkaOpenMetadataEventProducerProperty.PARTITION_KEY.getPropertyName(), partitionKey);
+            }
+
+            egeriaProperties.setProperty(KafkaOpenMetadataEventProducerProperty.MAX_IN_FLIGHT_EVENTS.getPropertyName(),
+                                         Integer.toString(maxInFlightEvents));
+            egeriaProperties.setProperty(KafkaOpenMetadataEventProducerProperty.POLL_TIMEOUT.getPropertyName(), "10");
+
+            return egeriaProperties;
+        }
+
+
+        @Override
+        Producer<String, String> createProducer()
+        {
+            MockProducer<String, String> kafkaProducer = new MockProducer<>(false, new StringSerializer(), new StringSerializer());
+
+            if ((rejectFirstSend) && (kafkaProducers.isEmpty()))
+            {
+                kafkaProducer.sendException = new TimeoutException("test");
+            }
+
+            kafkaProducers.add(kafkaProducer);
+
+            return kafkaProducer;
+        }
+
+
+        @Override
+        protected void recoverAfterError()
+        {
+        }
+    }
+}
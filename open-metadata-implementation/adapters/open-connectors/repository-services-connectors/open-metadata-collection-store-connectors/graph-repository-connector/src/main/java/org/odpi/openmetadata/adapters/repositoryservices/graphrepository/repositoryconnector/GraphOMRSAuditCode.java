@@ -58,6 +58,13 @@ public enum GraphOMRSAuditCode implements AuditLogMessageSet
             "The OMRS Graph Repository has been opened.",
             "The local server has created and initialized the Local OMRS Graph Repository database.",
             "No action is required. The existing graph repository has been opened and validated successfully."),
+
+    GRAPH_INSTANCE_NOT_MAPPED("OMRS-GRAPH-REPOSITORY-0004",
+            OMRSAuditLogRecordSeverity.EXCEPTION,
+            "The OMRS Graph Repository {0} is unable to map the stored {1} with guid {2} during {3}.  The {4} exception was returned with message {5}",
+            "The instance is left out of the results of the request.  The other requested instances are returned.",
+            "Use the exception and the server's log to understand why the stored instance can not be read.  " +
+                    "The instance may need to be repaired or purged from the repository."),
     ;
 
     AuditLogMessageDefinition messageDefinition;
@@ -18,6 +18,8 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.EntityDetailPage;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.RelationshipPage;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
@@ -56,6 +58,7 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -420,6 +423,69 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
         return entity;
     }
 
+    // getEntitySummaries
+    @Override
+    public List<EntitySummary> getEntitySummaries(String       userId,
+                                                  List<String> guids)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            UserNotAuthorizedException
+    {
+        final String  methodName = "getEntitySummaries";
+
+        /*
+         * Validate parameters
+         */
+        super.getInstancesParameterValidation(userId, guids, methodName);
+
+        if (guids == null)
+        {
+            return null;
+        }
+
+        /*
+         * Perform operation - the instances are retrieved in a single traversal
+         */
+        Map<String, EntitySummary> instances = graphStore.getEntitySummariesFromStore(new HashSet<>(guids));
+
+        instances.values().removeIf(instance -> instance.getStatus() == InstanceStatus.DELETED);
+
+        return super.getInstancesInRequestOrder(guids, instances);
+    }
+
+
+    // getEntityDetails
+    @Override
+    public List<EntityDetail> getEntityDetails(String       userId,
+                                               List<String> guids)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            UserNotAuthorizedException
+    {
+        final String  methodName = "getEntityDetails";
+
+        /*
+         * Validate parameters
+         */
+        super.getInstancesParameterValidation(userId, guids, methodName);
+
+        if (guids == null)
+        {
+            return null;
+        }
+
+        /*
+         * Perform operation - the instances are retrieved in a single traversal
+         */
+        Map<String, EntityDetail> instances = graphStore.getEntityDetailsFromStore(new HashSet<>(guids));
+
+        instances.values().removeIf(instance -> instance.getStatus() == InstanceStatus.DELETED);
+
+        return super.getInstancesInRequestOrder(guids, instances);
+    }
+
 
     // addRelationship
     @Override
@@ -608,6 +674,38 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
     }
 
 
+    // getRelationships
+    @Override
+    public List<Relationship> getRelationships(String       userId,
+                                               List<String> guids)
+            throws
+            InvalidParameterException,
+            RepositoryErrorException,
+            UserNotAuthorizedException
+    {
+        final String  methodName = "getRelationships";
+
+        /*
+         * Validate parameters
+         */
+        super.getInstancesParameterValidation(userId, guids, methodName);
+
+        if (guids == null)
+        {
+            return null;
+        }
+
+        /*
+         * Perform operation - the instances are retrieved in a single traversal
+         */
+        Map<String, Relationship> instances = graphStore.getRelationshipsFromStore(new HashSet<>(guids));
+
+        instances.values().removeIf(instance -> instance.getStatus() == InstanceStatus.DELETED);
+
+        return super.getInstancesInRequestOrder(guids, instances);
+    }
+
+
     // updateEntityStatus
     @Override
     public EntityDetail updateEntityStatus(String           userId,
@@ -1995,6 +2093,103 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
             super.reportUnsupportedOptionalFunction(methodName);
         }
 
+        List<EntityDetail> retainedEntities = getMatchingEntities(entityTypeGUID,
+                                                                  entitySubtypeGUIDs,
+                                                                  matchProperties,
+                                                                  limitResultsByStatus,
+                                                                  matchClassifications);
+
+        if (retainedEntities != null)
+        {
+            // Perform sequencing and paging
+            entities = repositoryHelper.formatEntityResults(retainedEntities, fromEntityElement, sequencingProperty, sequencingOrder, pageSize);
+        }
+
+        return entities;
+
+    }
+
+
+
+    // findEntitiesPage
+    @Override
+    public EntityDetailPage findEntitiesPage(String                    userId,
+                                             String                    entityTypeGUID,
+                                             List<String>              entitySubtypeGUIDs,
+                                             SearchProperties          matchProperties,
+                                             int                       fromEntityElement,
+                                             String                    continuationToken,
+                                             List<InstanceStatus>      limitResultsByStatus,
+                                             SearchClassifications     matchClassifications,
+                                             Date                      asOfTime,
+                                             String                    sequencingProperty,
+                                             SequencingOrder           sequencingOrder,
+                                             int                       pageSize)
+
+    throws InvalidParameterException,
+           RepositoryErrorException,
+           TypeErrorException,
+           PropertyErrorException,
+           PagingErrorException,
+           FunctionNotSupportedException
+    {
+
+        final String methodName = "findEntitiesPage";
+
+        /*
+         * Validate parameters
+         */
+        super.findEntitiesParameterValidation(userId,
+                                              entityTypeGUID,
+                                              entitySubtypeGUIDs,
+                                              matchProperties,
+                                              fromEntityElement,
+                                              limitResultsByStatus,
+                                              matchClassifications,
+                                              asOfTime,
+                                              sequencingProperty,
+                                              sequencingOrder,
+                                              pageSize);
+
+
+        if (asOfTime != null)
+        {
+            log.error("{} does not support asOfTime searches", methodName);
+
+            super.reportUnsupportedOptionalFunction(methodName);
+        }
+
+        List<EntityDetail> retainedEntities = getMatchingEntities(entityTypeGUID,
+                                                                  entitySubtypeGUIDs,
+                                                                  matchProperties,
+                                                                  limitResultsByStatus,
+                                                                  matchClassifications);
+
+        // Position the page after the last entity returned on the previous page
+        return repositoryHelper.formatEntityPage(repositoryName,
+                                                 retainedEntities,
+                                                 fromEntityElement,
+                                                 continuationToken,
+                                                 sequencingProperty,
+                                                 sequencingOrder,
+                                                 pageSize,
+                                                 methodName);
+    }
+
+
+
+    // getMatchingEntities
+    private List<EntityDetail> getMatchingEntities(String                    entityTypeGUID,
+                                                   List<String>              entitySubtypeGUIDs,
+                                                   SearchProperties          matchProperties,
+                                                   List<InstanceStatus>      limitResultsByStatus,
+                                                   SearchClassifications     matchClassifications)
+
+    throws InvalidParameterException,
+           RepositoryErrorException,
+           TypeErrorException,
+           FunctionNotSupportedException
+    {
         // Generate a query plan
         GraphOMRSQueryPlan queryPlan = new GraphOMRSQueryPlan(repositoryName,
                                                               metadataCollectionId,
@@ -2044,12 +2239,14 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
         }
 
 
+        List<EntityDetail> retainedEntities = null;
+
         if (foundEntities != null)
         {
             /*
              * Eliminate soft deleted entities and apply status and classification filtering if any was requested
              */
-            List<EntityDetail> retainedEntities = new ArrayList<>();
+            retainedEntities = new ArrayList<>();
             for (EntityDetail entity : foundEntities)
             {
                 if (entity != null)
@@ -2062,12 +2259,9 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
                     }
                 }
             }
-            // Perform sequencing and paging
-            entities = repositoryHelper.formatEntityResults(retainedEntities, fromEntityElement, sequencingProperty, sequencingOrder, pageSize);
         }
 
-        return entities;
-
+        return retainedEntities;
     }
 
 
@@ -2156,7 +2350,100 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
         /*
          * Perform operation
          */
+        List<Relationship> relationships = null;
+
+        List<Relationship> retainedRelationships = getMatchingRelationships(relationshipTypeGUID,
+                                                                            relationshipSubtypeGUIDs,
+                                                                            matchProperties,
+                                                                            limitResultsByStatus);
+
+        if (retainedRelationships != null)
+        {
+            // Perform sequencing and paging
+            relationships = repositoryHelper.formatRelationshipResults(retainedRelationships, fromRelationshipElement, sequencingProperty, sequencingOrder, pageSize);
+        }
+
+        return relationships;
+
+    }
+
+
+
+    // findRelationshipsPage
+    @Override
+    public  RelationshipPage findRelationshipsPage(String                    userId,
+                                                   String                    relationshipTypeGUID,
+                                                   List<String>              relationshipSubtypeGUIDs,
+                                                   SearchProperties          matchProperties,
+                                                   int                       fromRelationshipElement,
+                                                   String                    continuationToken,
+                                                   List<InstanceStatus>      limitResultsByStatus,
+                                                   Date                      asOfTime,
+                                                   String                    sequencingProperty,
+                                                   SequencingOrder           sequencingOrder,
+                                                   int                       pageSize)
+
+    throws InvalidParameterException,
+           TypeErrorException,
+           RepositoryErrorException,
+           PropertyErrorException,
+           PagingErrorException,
+           FunctionNotSupportedException
+    {
+
+        final String methodName = "findRelationshipsPage";
+
+        /*
+         * Validate parameters
+         */
+        super.findRelationshipsParameterValidation(userId,
+                                                   relationshipTypeGUID,
+                                                   relationshipSubtypeGUIDs,
+                                                   matchProperties,
+                                                   fromRelationshipElement,
+                                                   limitResultsByStatus,
+                                                   asOfTime,
+                                                   sequencingProperty,
+                                                   sequencingOrder,
+                                                   pageSize);
 
+
+        if (asOfTime != null)
+        {
+            log.error("{} does not support asOfTime searches", methodName);
+
+            super.reportUnsupportedOptionalFunction(methodName);
+        }
+
+        List<Relationship> retainedRelationships = getMatchingRelationships(relationshipTypeGUID,
+                                                                            relationshipSubtypeGUIDs,
+                                                                            matchProperties,
+                                                                            limitResultsByStatus);
+
+        // Position the page after the last relationship returned on the previous page
+        return repositoryHelper.formatRelationshipPage(repositoryName,
+                                                       retainedRelationships,
+                                                       fromRelationshipElement,
+                                                       continuationToken,
+                                                       sequencingProperty,
+                                                       sequencingOrder,
+                                                       pageSize,
+                                                       methodName);
+    }
+
+
+
+    // getMatchingRelationships
+    private List<Relationship> getMatchingRelationships(String                    relationshipTypeGUID,
+                                                        List<String>              relationshipSubtypeGUIDs,
+                                                        SearchProperties          matchProperties,
+                                                        List<InstanceStatus>      limitResultsByStatus)
+
+    throws InvalidParameterException,
+           TypeErrorException,
+           RepositoryErrorException,
+           FunctionNotSupportedException
+    {
         // Generate a query plan
         GraphOMRSQueryPlan queryPlan = new GraphOMRSQueryPlan(repositoryName,
                                                               metadataCollectionId,
@@ -2206,14 +2493,14 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
         }
 
 
-        List<Relationship> relationships = null;
+        List<Relationship> retainedRelationships = null;
 
         if (foundRelationships != null)
         {
             /*
              * Eliminate soft deleted relationships and apply status filtering if any was requested
              */
-            List<Relationship> retainedRelationships = new ArrayList<>();
+            retainedRelationships = new ArrayList<>();
 
             for (Relationship relationship : foundRelationships)
             {
@@ -2225,12 +2512,9 @@ public class GraphOMRSMetadataCollection extends OMRSDynamicTypeMetadataCollecti
                     }
                 }
             }
-            // Perform sequencing and paging
-            relationships = repositoryHelper.formatRelationshipResults(retainedRelationships, fromRelationshipElement, sequencingProperty, sequencingOrder, pageSize);
         }
 
-        return relationships;
-
+        return retainedRelationships;
     }
 
 
@@ -109,6 +109,7 @@ class GraphOMRSMetadataStore {
     private String metadataCollectionId;
 
     private OMRSRepositoryHelper repositoryHelper;
+    private AuditLog             auditLog;
 
     // The instance graph is used to store entities (vertices) and relationships (edges).
 
@@ -144,6 +145,7 @@ class GraphOMRSMetadataStore {
         this.metadataCollectionId = metadataCollectionId;
         this.repositoryName = repositoryName;
         this.repositoryHelper = repositoryHelper;
+        this.auditLog = auditLog;
 
 
         try
@@ -592,6 +594,46 @@ class GraphOMRSMetadataStore {
         return entity;
     }
 
+    synchronized Map<String, EntityDetail> getEntityDetailsFromStore(Collection<String> guids)
+
+    throws RepositoryErrorException
+    {
+
+        String methodName = "getEntityDetailsFromStore";
+
+        Map<String, EntityDetail> entities = new HashMap<>();
+
+        // Look in the graph - proxies are skipped since they can not be returned as an EntityDetail
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        GraphTraversal<Vertex, Vertex> gt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, within(guids));
+
+        while (gt.hasNext())
+        {
+            Vertex vertex = gt.next();
+            log.debug("{} found entity vertex {}", methodName, vertex);
+
+            try
+            {
+                if (!entityMapper.isProxy(vertex))
+                {
+                    EntityDetail entity = new EntityDetail();
+                    entityMapper.mapVertexToEntityDetail(vertex, entity);
+                    entities.put(entity.getGUID(), entity);
+                }
+            }
+            catch (Exception e)
+            {
+                // One bad vertex does not fail the whole request - it is reported and left out of the results
+                reportUnmappedInstance("entity", entityMapper.getEntityGUID(vertex), methodName, e);
+            }
+        }
+
+        g.tx().commit();
+
+        return entities;
+    }
+
     synchronized EntitySummary getEntitySummaryFromStore(String guid)
 
     throws EntityNotKnownException,
@@ -662,6 +704,44 @@ class GraphOMRSMetadataStore {
     }
 
 
+    synchronized Map<String, EntitySummary> getEntitySummariesFromStore(Collection<String> guids)
+
+    throws RepositoryErrorException
+    {
+
+        String methodName = "getEntitySummariesFromStore";
+
+        Map<String, EntitySummary> entities = new HashMap<>();
+
+        // Look in the graph
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        GraphTraversal<Vertex, Vertex> gt = g.V().hasLabel("Entity").has(PROPERTY_KEY_ENTITY_GUID, within(guids));
+
+        while (gt.hasNext())
+        {
+            Vertex vertex = gt.next();
+            log.debug("{} found entity vertex {}", methodName, vertex);
+
+            try
+            {
+                EntitySummary entity = new EntitySummary();
+                entityMapper.mapVertexToEntitySummary(vertex, entity);
+                entities.put(entity.getGUID(), entity);
+            }
+            catch (Exception e)
+            {
+                // One bad vertex does not fail the whole request - it is reported and left out of the results
+                reportUnmappedInstance("entity", entityMapper.getEntityGUID(vertex), methodName, e);
+            }
+        }
+
+        g.tx().commit();
+
+        return entities;
+    }
+
+
     synchronized EntityProxy getEntityProxyFromStore(String guid)
 
     throws RepositoryErrorException
@@ -1060,61 +1140,145 @@ class GraphOMRSMetadataStore {
             Edge edge = edgeIt.next();
             log.debug("{} found existing edge {}", methodName, edge);
 
-            relationship = new Relationship();
-
-            // Map the properties
-            relationshipMapper.mapEdgeToRelationship(edge, relationship);
-
-            // Set the relationship ends...
-            Vertex vertex = null;
             try
             {
+                relationship = getRelationshipFromEdge(edge, methodName);
+            }
+            catch (RepositoryErrorException e)
+            {
+                g.tx().rollback();
+                throw e;
+            }
+        }
 
-                vertex = edge.outVertex();
+        g.tx().commit();
 
-                // Could test here whether each vertex is for a proxy, but it doesn't matter whether the vertex represents a full entity
-                // (i.e. EntityDetail of a local/reference copy) as opposed to an EntityProxy. It can be retrieved as a proxy anyway...
+        return relationship;
 
-                if (vertex != null)
-                {
-                    log.debug("{} entity vertex {}", methodName, vertex);
-                    EntityProxy entityOneProxy = new EntityProxy();
-                    entityMapper.mapVertexToEntityProxy(vertex, entityOneProxy);
-                    log.debug("{} entityOneProxy {}", methodName, entityOneProxy);
-                    relationship.setEntityOneProxy(entityOneProxy);
-                }
+    }
 
-                vertex = edge.inVertex();
 
-                if (vertex != null)
-                {
-                    log.debug("{} entity vertex {}", methodName, vertex);
-                    EntityProxy entityTwoProxy = new EntityProxy();
-                    entityMapper.mapVertexToEntityProxy(vertex, entityTwoProxy);
-                    log.debug("{} entityTwoProxy {}", methodName, entityTwoProxy);
-                    relationship.setEntityTwoProxy(entityTwoProxy);
-                }
+    synchronized Map<String, Relationship> getRelationshipsFromStore(Collection<String> guids)
+
+    throws RepositoryErrorException
+
+    {
+        String methodName = "getRelationshipsFromStore";
+
+        Map<String, Relationship> relationships = new HashMap<>();
+
+        GraphTraversalSource g = instanceGraph.traversal();
+
+        Iterator<Edge> edgeIt = g.E().hasLabel("Relationship").has(PROPERTY_KEY_RELATIONSHIP_GUID, within(guids));
+        while (edgeIt.hasNext())
+        {
+            Edge edge = edgeIt.next();
+            log.debug("{} found existing edge {}", methodName, edge);
 
+            try
+            {
+                Relationship relationship = getRelationshipFromEdge(edge, methodName);
+
+                relationships.put(relationship.getGUID(), relationship);
             }
             catch (Exception e)
             {
-                log.error("{} Caught exception from entity mapper {}", methodName, e.getMessage());
-                g.tx().rollback();
-
-                throw new RepositoryErrorException(
-                        GraphOMRSErrorCode.RELATIONSHIP_NOT_FOUND.getMessageDefinition(
-                                entityMapper.getEntityGUID(vertex), methodName,
-                                this.getClass().getName(),
-                                repositoryName),
-                        this.getClass().getName(),
-                        methodName, e);
+                // One bad edge does not fail the whole request - it is reported and left out of the results
+                reportUnmappedInstance("relationship", relationshipMapper.getRelationshipGUID(edge), methodName, e);
             }
         }
 
         g.tx().commit();
 
+        return relationships;
+    }
+
+
+    /*
+     * Map a relationship edge and the vertices at each end to a relationship.  The caller decides whether a
+     * mapping failure ends its transaction.
+     */
+    private Relationship getRelationshipFromEdge(Edge   edge,
+                                                 String methodName)
+
+    throws RepositoryErrorException
+
+    {
+        Relationship relationship = new Relationship();
+
+        // Map the properties
+        relationshipMapper.mapEdgeToRelationship(edge, relationship);
+
+        // Set the relationship ends...
+        Vertex vertex = null;
+        try
+        {
+
+            vertex = edge.outVertex();
+
+            // Could test here whether each vertex is for a proxy, but it doesn't matter whether the vertex represents a full entity
+            // (i.e. EntityDetail of a local/reference copy) as opposed to an EntityProxy. It can be retrieved as a proxy anyway...
+
+            if (vertex != null)
+            {
+                log.debug("{} entity vertex {}", methodName, vertex);
+                EntityProxy entityOneProxy = new EntityProxy();
+                entityMapper.mapVertexToEntityProxy(vertex, entityOneProxy);
+                log.debug("{} entityOneProxy {}", methodName, entityOneProxy);
+                relationship.setEntityOneProxy(entityOneProxy);
+            }
+
+            vertex = edge.inVertex();
+
+            if (vertex != null)
+            {
+                log.debug("{} entity vertex {}", methodName, vertex);
+                EntityProxy entityTwoProxy = new EntityProxy();
+                entityMapper.mapVertexToEntityProxy(vertex, entityTwoProxy);
+                log.debug("{} entityTwoProxy {}", methodName, entityTwoProxy);
+                relationship.setEntityTwoProxy(entityTwoProxy);
+            }
+
+        }
+        catch (Exception e)
+        {
+            log.error("{} Caught exception from entity mapper {}", methodName, e.getMessage());
+
+            throw new RepositoryErrorException(
+                    GraphOMRSErrorCode.RELATIONSHIP_NOT_FOUND.getMessageDefinition(
+                            entityMapper.getEntityGUID(vertex), methodName,
+                            this.getClass().getName(),
+                            repositoryName),
+                    this.getClass().getName(),
+                    methodName, e);
+        }
+
         return relationship;
+    }
+
 
+    /*
+     * Record that a stored instance could not be mapped while retrieving a list of instances.  The instance is
+     * left out of the results rather than failing the request for all of the other instances.
+     */
+    private void reportUnmappedInstance(String    instanceKind,
+                                        String    guid,
+                                        String    methodName,
+                                        Exception error)
+    {
+        log.error("{} Skipping {} with GUID {} that could not be mapped: {}", methodName, instanceKind, guid, error.getMessage());
+
+        if (auditLog != null)
+        {
+            auditLog.logException(methodName,
+                                  GraphOMRSAuditCode.GRAPH_INSTANCE_NOT_MAPPED.getMessageDefinition(repositoryName,
+                                                                                                   instanceKind,
+                                                                                                   guid,
+                                                                                                   methodName,
+                                                                                                   error.getClass().getName(),
+                                                                                                   error.getMessage()),
+                                  error);
+        }
     }
 
 
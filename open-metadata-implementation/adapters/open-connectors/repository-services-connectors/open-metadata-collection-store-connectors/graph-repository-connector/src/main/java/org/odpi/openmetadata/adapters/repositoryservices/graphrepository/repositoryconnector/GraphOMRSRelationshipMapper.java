@@ -495,6 +495,10 @@ class GraphOMRSRelationshipMapper {
     }
 
 
+    String getRelationshipGUID(Edge edge) {
+        return (String) getEdgeProperty(edge, PROPERTY_KEY_RELATIONSHIP_GUID);
+    }
+
     String getRelationshipMetadataCollectionId(Edge edge) {
         return (String) getEdgeProperty(edge, PROPERTY_KEY_RELATIONSHIP_METADATACOLLECTION_ID);
     }
@@ -6,6 +6,8 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.EntityDetailPage;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.RelationshipPage;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
@@ -181,6 +183,88 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
     }
 
 
+    /**
+     * Return the header and classifications for each of the requested entities.  The returned entity summaries
+     * may be from full entity objects or entity proxies.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of entities in the order requested.  Unknown entities are omitted.  Null means none are known.
+     * @throws InvalidParameterException one of the guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntitySummary> getEntitySummaries(String       userId,
+                                                  List<String> guids) throws InvalidParameterException,
+                                                                             RepositoryErrorException,
+                                                                             UserNotAuthorizedException
+    {
+        final String  methodName = "getEntitySummaries";
+
+        /*
+         * Validate parameters
+         */
+        super.getInstancesParameterValidation(userId, guids, methodName);
+
+        if (guids == null)
+        {
+            return null;
+        }
+
+        /*
+         * Perform operation
+         */
+        Map<String, EntitySummary> instances = repositoryStore.getEntitySummaries(guids);
+
+        instances.values().removeIf(instance -> instance.getStatus() == InstanceStatus.DELETED);
+
+        return super.getInstancesInRequestOrder(guids, instances);
+    }
+
+
+    /**
+     * Return the header, classifications and properties of each of the requested entities.  Entities that are
+     * only known as proxies are omitted.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of entities in the order requested.  Unknown entities are omitted.  Null means none are known.
+     * @throws InvalidParameterException one of the guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntityDetail> getEntityDetails(String       userId,
+                                               List<String> guids) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          UserNotAuthorizedException
+    {
+        final String  methodName = "getEntityDetails";
+
+        /*
+         * Validate parameters
+         */
+        super.getInstancesParameterValidation(userId, guids, methodName);
+
+        if (guids == null)
+        {
+            return null;
+        }
+
+        /*
+         * Perform operation
+         */
+        Map<String, EntityDetail> instances = repositoryStore.getEntities(guids);
+
+        instances.values().removeIf(instance -> instance.getStatus() == InstanceStatus.DELETED);
+
+        return super.getInstancesInRequestOrder(guids, instances);
+    }
+
+
     /**
      * Return a historical version of an entity - includes the header, classifications and properties of the entity.
      *
@@ -444,6 +528,74 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
     }
 
 
+    /**
+     * Return the entities whose value for a unique string property (such as qualifiedName) is exactly the
+     * supplied value.  Indexed properties are retrieved from the store's unique property index rather than
+     * by scanning all of the entities.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param propertyName name of the unique property.
+     * @param propertyValue exact value of the property.
+     * @return a list of entities matching the supplied value; null means no matching entities in the metadata
+     * collection.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the property is not valid for the requested type of entity.
+     * @throws FunctionNotSupportedException the repository does not support this call.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntityDetail> findEntitiesByUniquePropertyValue(String userId,
+                                                                String entityTypeGUID,
+                                                                String propertyName,
+                                                                String propertyValue) throws InvalidParameterException,
+                                                                                             RepositoryErrorException,
+                                                                                             TypeErrorException,
+                                                                                             PropertyErrorException,
+                                                                                             FunctionNotSupportedException,
+                                                                                             UserNotAuthorizedException
+    {
+        final String  methodName = "findEntitiesByUniquePropertyValue";
+
+        /*
+         * Validate parameters
+         */
+        super.findEntitiesByUniquePropertyValueParameterValidation(userId, entityTypeGUID, propertyName, propertyValue, methodName);
+
+        /*
+         * Perform operation
+         */
+        List<EntityDetail> indexedEntities = repositoryStore.getEntitiesByUniquePropertyValue(propertyName, propertyValue);
+
+        if (indexedEntities == null)
+        {
+            return super.findEntitiesByUniquePropertyValue(userId, entityTypeGUID, propertyName, propertyValue);
+        }
+
+        List<EntityDetail> foundEntities = new ArrayList<>();
+
+        for (EntityDetail entity : indexedEntities)
+        {
+            if ((repositoryValidator.verifyInstanceType(repositoryName, entityTypeGUID, entity)) &&
+                (repositoryValidator.verifyInstanceHasRightStatus(null, entity)))
+            {
+                foundEntities.add(entity);
+            }
+        }
+
+        if (foundEntities.isEmpty())
+        {
+            return null;
+        }
+
+        return foundEntities;
+    }
+
+
     /**
      * Return a list of entities that match the supplied criteria.  The results can be returned over many pages.
      *
@@ -512,10 +664,133 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
 
         /*
          * Perform operation
-         *
-         * This is a brute force implementation of locating in entity since it iterates through all of
-         * the stored entities.
          */
+        List<EntityDetail> foundEntities = this.getMatchingEntities(entityTypeGUID,
+                                                                    entitySubtypeGUIDs,
+                                                                    matchProperties,
+                                                                    limitResultsByStatus,
+                                                                    matchClassifications,
+                                                                    asOfTime);
+
+        return repositoryHelper.formatEntityResults(foundEntities, fromEntityElement, sequencingProperty, sequencingOrder, pageSize);
+    }
+
+
+    /**
+     * Return a page of entities that match the supplied criteria along with a continuation token for retrieving
+     * the next page.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param entitySubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the entityTypeGUID to
+     *                           include in the search results. Null means all subtypes.
+     * @param matchProperties Optional list of entity property conditions to match.
+     * @param fromEntityElement the starting element number of the entities to return.  It is only used when
+     *                          continuationToken is null.  Zero means start from the first element.
+     * @param continuationToken token returned with the previous page of results.  Null means start from
+     *                          fromEntityElement.
+     * @param limitResultsByStatus By default, entities in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param matchClassifications Optional list of entity classifications to match.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return a page of entities matching the supplied criteria; the continuation token is null when there are no
+     * more results.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the paging/sequencing parameters or the continuation token are not valid.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public EntityDetailPage findEntitiesPage(String                    userId,
+                                             String                    entityTypeGUID,
+                                             List<String>              entitySubtypeGUIDs,
+                                             SearchProperties          matchProperties,
+                                             int                       fromEntityElement,
+                                             String                    continuationToken,
+                                             List<InstanceStatus>      limitResultsByStatus,
+                                             SearchClassifications     matchClassifications,
+                                             Date                      asOfTime,
+                                             String                    sequencingProperty,
+                                             SequencingOrder           sequencingOrder,
+                                             int                       pageSize) throws InvalidParameterException,
+                                                                                        RepositoryErrorException,
+                                                                                        TypeErrorException,
+                                                                                        PropertyErrorException,
+                                                                                        PagingErrorException,
+                                                                                        UserNotAuthorizedException
+    {
+        final String  methodName = "findEntitiesPage";
+
+        /*
+         * Validate parameters
+         */
+        super.findEntitiesParameterValidation(userId,
+                                              entityTypeGUID,
+                                              entitySubtypeGUIDs,
+                                              matchProperties,
+                                              fromEntityElement,
+                                              limitResultsByStatus,
+                                              matchClassifications,
+                                              asOfTime,
+                                              sequencingProperty,
+                                              sequencingOrder,
+                                              pageSize);
+
+        /*
+         * Perform operation
+         */
+        List<EntityDetail> foundEntities = this.getMatchingEntities(entityTypeGUID,
+                                                                    entitySubtypeGUIDs,
+                                                                    matchProperties,
+                                                                    limitResultsByStatus,
+                                                                    matchClassifications,
+                                                                    asOfTime);
+
+        return repositoryHelper.formatEntityPage(repositoryName,
+                                                 foundEntities,
+                                                 fromEntityElement,
+                                                 continuationToken,
+                                                 sequencingProperty,
+                                                 sequencingOrder,
+                                                 pageSize,
+                                                 methodName);
+    }
+
+
+    /**
+     * Return all the stored entities that match the supplied criteria.
+     * This is a brute force implementation of locating an entity since it iterates through all of
+     * the stored entities.
+     *
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param entitySubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the entityTypeGUID to
+     *                           include in the search results. Null means all subtypes.
+     * @param matchProperties Optional list of entity property conditions to match.
+     * @param limitResultsByStatus list of statuses to restrict the results to.  Null means all status values
+     *                             except DELETED.
+     * @param matchClassifications Optional list of entity classifications to match.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @return list of matching entities in no particular order
+     * @throws InvalidParameterException the match properties or classifications are invalid
+     */
+    private List<EntityDetail> getMatchingEntities(String                    entityTypeGUID,
+                                                   List<String>              entitySubtypeGUIDs,
+                                                   SearchProperties          matchProperties,
+                                                   List<InstanceStatus>      limitResultsByStatus,
+                                                   SearchClassifications     matchClassifications,
+                                                   Date                      asOfTime) throws InvalidParameterException
+    {
         List<EntityDetail>         foundEntities = new ArrayList<>();
         Map<String, EntityDetail>  entityStore = repositoryStore.timeWarpEntityStore(asOfTime);
 
@@ -533,7 +808,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
             }
         }
 
-        return repositoryHelper.formatEntityResults(foundEntities, fromEntityElement, sequencingProperty, sequencingOrder, pageSize);
+        return foundEntities;
     }
 
 
@@ -833,6 +1108,46 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
     }
 
 
+    /**
+     * Return each of the requested relationships.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the relationships.
+     * @return list of relationships in the order requested.  Unknown relationships are omitted.  Null means none are known.
+     * @throws InvalidParameterException one of the guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<Relationship> getRelationships(String       userId,
+                                               List<String> guids) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          UserNotAuthorizedException
+    {
+        final String  methodName = "getRelationships";
+
+        /*
+         * Validate parameters
+         */
+        super.getInstancesParameterValidation(userId, guids, methodName);
+
+        if (guids == null)
+        {
+            return null;
+        }
+
+        /*
+         * Perform operation
+         */
+        Map<String, Relationship> instances = repositoryStore.getRelationships(guids);
+
+        instances.values().removeIf(instance -> instance.getStatus() == InstanceStatus.DELETED);
+
+        return super.getInstancesInRequestOrder(guids, instances);
+    }
+
+
     /**
      * Return a historical version of a relationship.
      *
@@ -945,10 +1260,133 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
 
         /*
          * Perform operation
-         *
-         * This is a brute force implementation of locating a relationship since it iterates through all of
-         * the stored entities.
          */
+        List<Relationship> foundRelationships = this.getMatchingRelationships(relationshipTypeGUID,
+                                                                              relationshipSubtypeGUIDs,
+                                                                              matchProperties,
+                                                                              limitResultsByStatus,
+                                                                              asOfTime);
+
+        return repositoryHelper.formatRelationshipResults(foundRelationships,
+                fromRelationshipElement,
+                sequencingProperty,
+                sequencingOrder,
+                pageSize);
+    }
+
+
+    /**
+     * Return a page of relationships that match the requested conditions along with a continuation token for
+     * retrieving the next page.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID unique identifier (guid) for the relationship's type.  Null means all types
+     *                             (but may be slow so not recommended).
+     * @param relationshipSubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the
+     *                                 relationshipTypeGUID to include in the search results. Null means all subtypes.
+     * @param matchProperties Optional list of relationship property conditions to match.
+     * @param fromRelationshipElement the starting element number of the relationships to return.  It is only used
+     *                                when continuationToken is null.  Zero means start from the first element.
+     * @param continuationToken token returned with the previous page of results.  Null means start from
+     *                          fromRelationshipElement.
+     * @param limitResultsByStatus By default, relationships in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return a page of relationships; the continuation token is null when there are no more results.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  relationships.
+     * @throws PagingErrorException the paging/sequencing parameters or the continuation token are not valid.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public  RelationshipPage findRelationshipsPage(String                    userId,
+                                                   String                    relationshipTypeGUID,
+                                                   List<String>              relationshipSubtypeGUIDs,
+                                                   SearchProperties          matchProperties,
+                                                   int                       fromRelationshipElement,
+                                                   String                    continuationToken,
+                                                   List<InstanceStatus>      limitResultsByStatus,
+                                                   Date                      asOfTime,
+                                                   String                    sequencingProperty,
+                                                   SequencingOrder           sequencingOrder,
+                                                   int                       pageSize) throws InvalidParameterException,
+                                                                                              TypeErrorException,
+                                                                                              RepositoryErrorException,
+                                                                                              PropertyErrorException,
+                                                                                              PagingErrorException,
+                                                                                              FunctionNotSupportedException,
+                                                                                              UserNotAuthorizedException
+    {
+        final String  methodName = "findRelationshipsPage";
+
+        /*
+         * Validate parameters
+         */
+        super.findRelationshipsParameterValidation(userId,
+                                                   relationshipTypeGUID,
+                                                   relationshipSubtypeGUIDs,
+                                                   matchProperties,
+                                                   fromRelationshipElement,
+                                                   limitResultsByStatus,
+                                                   asOfTime,
+                                                   sequencingProperty,
+                                                   sequencingOrder,
+                                                   pageSize);
+
+        /*
+         * Perform operation
+         */
+        List<Relationship> foundRelationships = this.getMatchingRelationships(relationshipTypeGUID,
+                                                                              relationshipSubtypeGUIDs,
+                                                                              matchProperties,
+                                                                              limitResultsByStatus,
+                                                                              asOfTime);
+
+        return repositoryHelper.formatRelationshipPage(repositoryName,
+                                                       foundRelationships,
+                                                       fromRelationshipElement,
+                                                       continuationToken,
+                                                       sequencingProperty,
+                                                       sequencingOrder,
+                                                       pageSize,
+                                                       methodName);
+    }
+
+
+    /**
+     * Return all the stored relationships that match the requested conditions.
+     * This is a brute force implementation of locating a relationship since it iterates through all of
+     * the stored relationships.
+     *
+     * @param relationshipTypeGUID unique identifier (guid) for the relationship's type.  Null means all types.
+     * @param relationshipSubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the
+     *                                 relationshipTypeGUID to include in the search results. Null means all subtypes.
+     * @param matchProperties Optional list of relationship property conditions to match.
+     * @param limitResultsByStatus list of statuses to restrict the results to.  Null means all status values
+     *                             except DELETED.
+     * @param asOfTime Requests a historical query of the relationships.  Null means return the present values.
+     * @return list of matching relationships in no particular order
+     * @throws InvalidParameterException the match properties are invalid
+     */
+    private List<Relationship> getMatchingRelationships(String                    relationshipTypeGUID,
+                                                        List<String>              relationshipSubtypeGUIDs,
+                                                        SearchProperties          matchProperties,
+                                                        List<InstanceStatus>      limitResultsByStatus,
+                                                        Date                      asOfTime) throws InvalidParameterException
+    {
         List<Relationship>         foundRelationships = new ArrayList<>();
         Map<String, Relationship>  relationshipStore = repositoryStore.timeWarpRelationshipStore(asOfTime);
 
@@ -965,11 +1403,7 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
             }
         }
 
-        return repositoryHelper.formatRelationshipResults(foundRelationships,
-                fromRelationshipElement,
-                sequencingProperty,
-                sequencingOrder,
-                pageSize);
+        return foundRelationships;
     }
 
 
@@ -3591,6 +4025,176 @@ public class InMemoryOMRSMetadataCollection extends OMRSDynamicTypeMetadataColle
     }
 
 
+    /**
+     * Save the entities and relationships supplied in the instance graph as a reference copies.
+     * The id of the home metadata collection is already set up in the instances.
+     * Any instances from the home metadata collection are ignored.  The type, properties and relationship
+     * ends of every instance are validated before the batch is saved to the store in a single operation,
+     * so an invalid instance means nothing is saved.  Instances that are not a later version than the
+     * stored copy are skipped.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param instances instances to save.
+     * @throws InvalidParameterException one of the instances is invalid.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws TypeErrorException the requested type is not known, or not supported in the metadata repository
+     *                            hosting the metadata collection.
+     * @throws EntityNotKnownException one of the entities identified by the relationship is not found in the
+     *                                   metadata collection.
+     * @throws PropertyErrorException one or more of the requested properties are not defined, or have different
+     *                                  characteristics in the TypeDef for this relationship's type.
+     * @throws EntityConflictException the new entity conflicts with an existing entity.
+     * @throws InvalidEntityException the new entity has invalid contents.
+     * @throws RelationshipConflictException the new relationship conflicts with an existing relationship.
+     * @throws InvalidRelationshipException the new relationship has invalid contents.
+     * @throws FunctionNotSupportedException the repository does not support reference copies of instances.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public void saveInstanceReferenceCopies(String          userId,
+                                            InstanceGraph   instances) throws InvalidParameterException,
+                                                                              RepositoryErrorException,
+                                                                              TypeErrorException,
+                                                                              EntityNotKnownException,
+                                                                              PropertyErrorException,
+                                                                              EntityConflictException,
+                                                                              RelationshipConflictException,
+                                                                              InvalidEntityException,
+                                                                              InvalidRelationshipException,
+                                                                              FunctionNotSupportedException,
+                                                                              UserNotAuthorizedException
+    {
+        final String  methodName = "saveInstanceReferenceCopies";
+        final String  entityParameterName = "entity";
+        final String  relationshipParameterName = "relationship";
+
+        /*
+         * Validate parameters
+         */
+        super.basicRequestValidation(userId, methodName);
+
+        if (instances == null)
+        {
+            return;
+        }
+
+        /*
+         * Each type used in the batch is retrieved from the type system once.
+         */
+        Map<String, TypeDef> typeDefs            = new HashMap<>();
+        List<EntityDetail>   entitiesToSave      = new ArrayList<>();
+        List<Relationship>   relationshipsToSave = new ArrayList<>();
+
+        if (instances.getEntities() != null)
+        {
+            for (EntityDetail entity : instances.getEntities())
+            {
+                if ((entity != null) && (! metadataCollectionId.equals(entity.getMetadataCollectionId())))
+                {
+                    this.validateReferenceCopy(entity, entity.getProperties(), entityParameterName, typeDefs, methodName);
+                    entitiesToSave.add(entity);
+                }
+            }
+        }
+
+        if (instances.getRelationships() != null)
+        {
+            for (Relationship relationship : instances.getRelationships())
+            {
+                if ((relationship != null) && (! metadataCollectionId.equals(relationship.getMetadataCollectionId())))
+                {
+                    TypeDef typeDef = this.validateReferenceCopy(relationship,
+                                                                 relationship.getProperties(),
+                                                                 relationshipParameterName,
+                                                                 typeDefs,
+                                                                 methodName);
+
+                    if ((relationship.getEntityOneProxy() == null) || (relationship.getEntityTwoProxy() == null))
+                    {
+                        throw new InvalidParameterException(OMRSErrorCode.NULL_ENTITY_PROXY.getMessageDefinition(repositoryName,
+                                                                                                                 relationshipParameterName,
+                                                                                                                 methodName),
+                                                            this.getClass().getName(),
+                                                            methodName,
+                                                            relationshipParameterName);
+                    }
+
+                    repositoryValidator.validateRelationshipEnds(repositoryName,
+                                                                 relationship.getEntityOneProxy(),
+                                                                 relationship.getEntityTwoProxy(),
+                                                                 typeDef,
+                                                                 methodName);
+                    relationshipsToSave.add(relationship);
+                }
+            }
+        }
+
+        repositoryStore.saveReferenceInstancesToStore(entitiesToSave, relationshipsToSave);
+    }
+
+
+    /**
+     * Validate a reference copy from a batch against the type system.  This is the validation of the
+     * header performed for a single reference copy plus a check of its type and properties.
+     *
+     * @param instance instance to validate
+     * @param properties properties of the instance
+     * @param instanceParameterName name of the parameter that passed the instance
+     * @param typeDefs types already retrieved for the batch, keyed by GUID
+     * @param methodName calling method
+     * @return the TypeDef of the instance
+     * @throws InvalidParameterException the instance header is invalid
+     * @throws RepositoryErrorException the instance's type is not active in this repository
+     * @throws TypeErrorException the instance's type is not valid for an instance
+     * @throws PropertyErrorException the properties do not match the instance's type
+     */
+    private TypeDef validateReferenceCopy(InstanceHeader       instance,
+                                          InstanceProperties   properties,
+                                          String               instanceParameterName,
+                                          Map<String, TypeDef> typeDefs,
+                                          String               methodName) throws InvalidParameterException,
+                                                                                  RepositoryErrorException,
+                                                                                  TypeErrorException,
+                                                                                  PropertyErrorException
+    {
+        final String  typeGUIDParameterName   = "instance.getType().getTypeDefGUID()";
+        final String  typeNameParameterName   = "instance.getType().getTypeDefName()";
+        final String  propertiesParameterName = "instance.getProperties()";
+
+        repositoryValidator.validateReferenceInstanceHeader(repositoryName,
+                                                            metadataCollectionId,
+                                                            instanceParameterName,
+                                                            instance,
+                                                            methodName);
+
+        InstanceType instanceType = instance.getType();
+        TypeDef      typeDef      = typeDefs.get(instanceType.getTypeDefGUID());
+
+        if (typeDef == null)
+        {
+            typeDef = repositoryHelper.getTypeDef(repositoryName,
+                                                  typeGUIDParameterName,
+                                                  typeNameParameterName,
+                                                  instanceType.getTypeDefGUID(),
+                                                  instanceType.getTypeDefName(),
+                                                  methodName);
+
+            repositoryValidator.validateTypeDefForInstance(repositoryName, typeGUIDParameterName, typeDef, methodName);
+
+            typeDefs.put(instanceType.getTypeDefGUID(), typeDef);
+        }
+
+        repositoryValidator.validatePropertiesForType(repositoryName,
+                                                      propertiesParameterName,
+                                                      typeDef,
+                                                      properties,
+                                                      methodName);
+
+        return typeDef;
+    }
+
+
     /**
      * Retrieve any locally homed classifications assigned to the requested entity.  This method is implemented by repository connectors that are able
      * to store classifications for entities that are homed in another repository.
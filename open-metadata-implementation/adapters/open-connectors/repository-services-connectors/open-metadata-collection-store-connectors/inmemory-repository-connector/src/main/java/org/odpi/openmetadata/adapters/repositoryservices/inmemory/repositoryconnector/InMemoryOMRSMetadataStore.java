@@ -5,6 +5,10 @@ package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositorycon
 
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntitySummary;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 
 import java.util.*;
@@ -14,6 +18,11 @@ import java.util.*;
  */
 class InMemoryOMRSMetadataStore
 {
+    /*
+     * Names of the unique string properties that are indexed by value.
+     */
+    private static final Set<String> uniquePropertyNames = Collections.singleton("qualifiedName");
+
     private String                                 repositoryName           = null;
     private volatile Map<String, EntityDetail>     entityStore              = new HashMap<>();
     private volatile Map<String, EntityProxy>      entityProxyStore         = new HashMap<>();
@@ -21,6 +30,12 @@ class InMemoryOMRSMetadataStore
     private volatile Map<String, Relationship>     relationshipStore        = new HashMap<>();
     private volatile List<Relationship>            relationshipHistoryStore = new ArrayList<>();
 
+    /*
+     * Property name to property value to the guids of the entities in the entity store with that value.
+     * It is maintained whenever the entity store changes.
+     */
+    private final Map<String, Map<String, Set<String>>> uniquePropertyIndex = new HashMap<>();
+
 
     /**
      * Default constructor
@@ -76,6 +91,96 @@ class InMemoryOMRSMetadataStore
     }
 
 
+    /**
+     * Return the entities identified by the guids.  Guids that are not known, or are only known as proxies,
+     * are not included in the map.
+     *
+     * @param guids - unique identifiers for the entities
+     * @return map of guid to entity object
+     */
+    synchronized Map<String, EntityDetail>  getEntities(Collection<String>   guids)
+    {
+        Map<String, EntityDetail> entities = new HashMap<>();
+
+        for (String guid : guids)
+        {
+            EntityDetail entity = entityStore.get(guid);
+
+            if (entity != null)
+            {
+                entities.put(guid, entity);
+            }
+        }
+
+        return entities;
+    }
+
+
+    /**
+     * Return the entities or entity proxies identified by the guids.  Guids that are not known are not included
+     * in the map.
+     *
+     * @param guids - unique identifiers for the entities
+     * @return map of guid to entity or entity proxy object
+     */
+    synchronized Map<String, EntitySummary>  getEntitySummaries(Collection<String>   guids)
+    {
+        Map<String, EntitySummary> entities = new HashMap<>();
+
+        for (String guid : guids)
+        {
+            EntitySummary entity = entityStore.get(guid);
+
+            if (entity == null)
+            {
+                entity = entityProxyStore.get(guid);
+            }
+
+            if (entity != null)
+            {
+                entities.put(guid, entity);
+            }
+        }
+
+        return entities;
+    }
+
+
+    /**
+     * Return the entities whose value for a unique property exactly matches the supplied value.
+     *
+     * @param propertyName - name of the unique property
+     * @param propertyValue - value to match
+     * @return list of matching entities (may be empty) or null if the property is not indexed
+     */
+    synchronized List<EntityDetail>  getEntitiesByUniquePropertyValue(String   propertyName,
+                                                                       String   propertyValue)
+    {
+        if (! uniquePropertyNames.contains(propertyName))
+        {
+            return null;
+        }
+
+        List<EntityDetail> entities = new ArrayList<>();
+        Set<String>        guids    = uniquePropertyIndex.getOrDefault(propertyName, Collections.emptyMap()).get(propertyValue);
+
+        if (guids != null)
+        {
+            for (String guid : guids)
+            {
+                EntityDetail entity = entityStore.get(guid);
+
+                if (entity != null)
+                {
+                    entities.add(entity);
+                }
+            }
+        }
+
+        return entities;
+    }
+
+
     /**
      * Return an entity store that contains entities as they were at the time supplied in the asOfTime
      * parameter
@@ -182,6 +287,30 @@ class InMemoryOMRSMetadataStore
         return relationshipStore.get(guid);
     }
 
+
+    /**
+     * Return the relationships identified by the guids.  Guids that are not known are not included in the map.
+     *
+     * @param guids - unique identifiers for the relationships
+     * @return map of guid to relationship object
+     */
+    synchronized Map<String, Relationship>  getRelationships(Collection<String>   guids)
+    {
+        Map<String, Relationship> relationships = new HashMap<>();
+
+        for (String guid : guids)
+        {
+            Relationship relationship = relationshipStore.get(guid);
+
+            if (relationship != null)
+            {
+                relationships.put(guid, relationship);
+            }
+        }
+
+        return relationships;
+    }
+
     /**
      * Return a relationship store that contains relationships as they were at the time supplied in the asOfTime
      * parameter
@@ -278,13 +407,13 @@ class InMemoryOMRSMetadataStore
          * There is a small chance the randomly generated GUID will clash with an existing relationship.
          * If this happens a new GUID is generated for the relationship and the process repeats.
          */
-        EntityDetail existingEntity = entityStore.put(entity.getGUID(), entity);
+        EntityDetail existingEntity = this.putEntity(entity);
 
         while (existingEntity != null)
         {
-            entityStore.put(entity.getGUID(), existingEntity);
+            this.putEntity(existingEntity);
             entity.setGUID(UUID.randomUUID().toString());
-            existingEntity = entityStore.put(entity.getGUID(), entity);
+            existingEntity = this.putEntity(entity);
         }
 
         return entity;
@@ -335,7 +464,7 @@ class InMemoryOMRSMetadataStore
      */
     synchronized void updateEntityInStore(EntityDetail entity)
     {
-        EntityDetail oldEntity = entityStore.put(entity.getGUID(), entity);
+        EntityDetail oldEntity = this.putEntity(entity);
 
         if (oldEntity != null)
         {
@@ -381,7 +510,7 @@ class InMemoryOMRSMetadataStore
      */
     synchronized void saveReferenceEntityToStore(EntityDetail    entity)
     {
-        entityStore.put(entity.getGUID(), entity);
+        this.putEntity(entity);
     }
 
 
@@ -397,6 +526,51 @@ class InMemoryOMRSMetadataStore
     }
 
 
+    /**
+     * Save a batch of reference copies to the active store in a single operation.  The stored version of
+     * each instance is looked up under the same lock and an incoming instance is only saved if it is
+     * a later version.  Saving an entity replaces any proxy for it and the ends of each relationship are
+     * saved as proxies.  Reference copies are not maintained in the history store.
+     *
+     * @param entities - entities to save
+     * @param relationships - relationships to save
+     */
+    synchronized void saveReferenceInstancesToStore(List<EntityDetail>  entities,
+                                                    List<Relationship>  relationships)
+    {
+        if (entities != null)
+        {
+            for (EntityDetail entity : entities)
+            {
+                EntityDetail storedEntity = entityStore.get(entity.getGUID());
+
+                if ((storedEntity == null) || (storedEntity.getVersion() < entity.getVersion()))
+                {
+                    this.putEntity(entity);
+                }
+
+                entityProxyStore.remove(entity.getGUID());
+            }
+        }
+
+        if (relationships != null)
+        {
+            for (Relationship relationship : relationships)
+            {
+                entityProxyStore.put(relationship.getEntityOneProxy().getGUID(), relationship.getEntityOneProxy());
+                entityProxyStore.put(relationship.getEntityTwoProxy().getGUID(), relationship.getEntityTwoProxy());
+
+                Relationship storedRelationship = relationshipStore.get(relationship.getGUID());
+
+                if ((storedRelationship == null) || (storedRelationship.getVersion() < relationship.getVersion()))
+                {
+                    relationshipStore.put(relationship.getGUID(), relationship);
+                }
+            }
+        }
+    }
+
+
     /**
      * Retrieve the previous version of a Relationship.  This is the first instance of this element that
      * appears in the history.
@@ -495,7 +669,7 @@ class InMemoryOMRSMetadataStore
                         newEntity.setVersion(versionNumber);
                         Date restoreTime = new Date();
                         newEntity.setUpdateTime(restoreTime);
-                        entityStore.put(guid, newEntity);
+                        this.putEntity(newEntity);
                         entityHistoryStore.add(0, currentVersionOfEntity);
                         return newEntity;
 
@@ -516,7 +690,7 @@ class InMemoryOMRSMetadataStore
     synchronized void removeEntityFromStore(EntityDetail     entity)
     {
         String entityGUID = entity.getGUID();
-        entityStore.remove(entityGUID);
+        this.removeEntity(entityGUID);
         List<EntityDetail> purgedHistory = new ArrayList<>();
         for (EntityDetail history : entityHistoryStore)
         {
@@ -536,7 +710,7 @@ class InMemoryOMRSMetadataStore
      */
     synchronized void removeReferenceEntityFromStore(String     guid)
     {
-        EntityDetail entity = entityStore.remove(guid);
+        EntityDetail entity = this.removeEntity(guid);
 
         if (entity != null)
         {
@@ -608,4 +782,110 @@ class InMemoryOMRSMetadataStore
         }
     }
 
+
+    /**
+     * Save an entity to the entity store and update the unique property index.
+     *
+     * @param entity - entity to save
+     * @return entity previously stored under the same guid or null
+     */
+    private EntityDetail putEntity(EntityDetail   entity)
+    {
+        EntityDetail oldEntity = entityStore.put(entity.getGUID(), entity);
+
+        this.updateUniquePropertyIndex(oldEntity, false);
+        this.updateUniquePropertyIndex(entity, true);
+
+        return oldEntity;
+    }
+
+
+    /**
+     * Remove an entity from the entity store and the unique property index.
+     *
+     * @param guid - unique identifier of the entity
+     * @return entity that was removed or null
+     */
+    private EntityDetail removeEntity(String   guid)
+    {
+        EntityDetail oldEntity = entityStore.remove(guid);
+
+        this.updateUniquePropertyIndex(oldEntity, false);
+
+        return oldEntity;
+    }
+
+
+    /**
+     * Add or remove the unique property values of an entity in the index.
+     *
+     * @param entity - entity (may be null)
+     * @param add - true to add the entity's values, false to remove them
+     */
+    private void updateUniquePropertyIndex(EntityDetail   entity,
+                                           boolean        add)
+    {
+        if ((entity == null) || (entity.getGUID() == null))
+        {
+            return;
+        }
+
+        for (String propertyName : uniquePropertyNames)
+        {
+            String propertyValue = this.getStringPropertyValue(entity.getProperties(), propertyName);
+
+            if (propertyValue != null)
+            {
+                Map<String, Set<String>> valueIndex = uniquePropertyIndex.computeIfAbsent(propertyName, name -> new HashMap<>());
+
+                if (add)
+                {
+                    valueIndex.computeIfAbsent(propertyValue, value -> new HashSet<>()).add(entity.getGUID());
+                }
+                else
+                {
+                    Set<String> guids = valueIndex.get(propertyValue);
+
+                    if (guids != null)
+                    {
+                        guids.remove(entity.getGUID());
+
+                        if (guids.isEmpty())
+                        {
+                            valueIndex.remove(propertyValue);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return the value of a string property.
+     *
+     * @param properties - properties of an entity
+     * @param propertyName - name of the property
+     * @return string value or null if the property is not set or is not a string
+     */
+    private String getStringPropertyValue(InstanceProperties   properties,
+                                          String               propertyName)
+    {
+        if (properties != null)
+        {
+            InstancePropertyValue propertyValue = properties.getPropertyValue(propertyName);
+
+            if (propertyValue instanceof PrimitivePropertyValue)
+            {
+                Object primitiveValue = ((PrimitivePropertyValue) propertyValue).getPrimitiveValue();
+
+                if (primitiveValue instanceof String)
+                {
+                    return (String) primitiveValue;
+                }
+            }
+        }
+
+        return null;
+    }
 }
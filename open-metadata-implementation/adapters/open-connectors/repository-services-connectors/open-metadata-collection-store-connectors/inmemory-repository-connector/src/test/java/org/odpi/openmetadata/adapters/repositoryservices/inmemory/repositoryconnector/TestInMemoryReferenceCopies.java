@@ -0,0 +1,224 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.inmemory.repositoryconnector;
+
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.PropertyErrorException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Validate the saving of batches of reference copies in the in-memory repository.
+ */
+public class TestInMemoryReferenceCopies
+{
+    private static final String USER_ID                    = "testUser";
+    private static final String LOCAL_METADATA_COLLECTION  = "localMetadataCollection";
+    private static final String REMOTE_METADATA_COLLECTION = "remoteMetadataCollection";
+
+    @Mock
+    private OMRSRepositoryValidator repositoryValidator;
+    @Mock
+    private OMRSRepositoryHelper repositoryHelper;
+
+    private OMRSMetadataCollection metadataCollection;
+
+
+    @BeforeMethod
+    public void setup() throws Exception
+    {
+        MockitoAnnotations.openMocks(this);
+
+        when(repositoryHelper.getTypeDef(any(), anyString(), anyString(), any(), any(), anyString())).thenReturn(new EntityDef());
+
+        InMemoryOMRSRepositoryConnector repositoryConnector = new InMemoryOMRSRepositoryConnector();
+
+        repositoryConnector.setRepositoryHelper(repositoryHelper);
+        repositoryConnector.setRepositoryValidator(repositoryValidator);
+        repositoryConnector.setMetadataCollectionId(LOCAL_METADATA_COLLECTION);
+        repositoryConnector.start();
+
+        metadataCollection = repositoryConnector.getMetadataCollection();
+    }
+
+
+    /**
+     * Validate that a valid batch is saved and that instances homed in the local repository are ignored.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testValidBatchIsSaved() throws Exception
+    {
+        EntityDetail remoteEntity = getEntity("1111", REMOTE_METADATA_COLLECTION, 1);
+        EntityDetail localEntity  = getEntity("2222", LOCAL_METADATA_COLLECTION, 1);
+        Relationship relationship = getRelationship("3333", "1111", "4444");
+
+        metadataCollection.saveInstanceReferenceCopies(USER_ID, getGraph(Arrays.asList(remoteEntity, localEntity),
+                                                                         Collections.singletonList(relationship)));
+
+        assertNotNull(metadataCollection.isEntityKnown(USER_ID, "1111"));
+        assertNull(metadataCollection.isEntityKnown(USER_ID, "2222"));
+        assertNotNull(metadataCollection.isRelationshipKnown(USER_ID, "3333"));
+    }
+
+
+    /**
+     * Validate that an older version of a stored reference copy does not replace it.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testOlderVersionIsSkipped() throws Exception
+    {
+        metadataCollection.saveInstanceReferenceCopies(USER_ID, getGraph(Collections.singletonList(getEntity("1111", REMOTE_METADATA_COLLECTION, 2)),
+                                                                         null));
+        metadataCollection.saveInstanceReferenceCopies(USER_ID, getGraph(Collections.singletonList(getEntity("1111", REMOTE_METADATA_COLLECTION, 1)),
+                                                                         null));
+
+        assertEquals(metadataCollection.isEntityKnown(USER_ID, "1111").getVersion(), 2);
+    }
+
+
+    /**
+     * Validate that nothing from the batch is saved if the properties of one of its instances do not match its type.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testInvalidPropertiesRejectBatch() throws Exception
+    {
+        doThrow(new PropertyErrorException(OMRSErrorCode.NULL_INSTANCE_TYPE.getMessageDefinition("test", "test"),
+                                           this.getClass().getName(),
+                                           "test"))
+                .when(repositoryValidator).validatePropertiesForType(any(), anyString(), any(EntityDef.class), any(), anyString());
+
+        try
+        {
+            metadataCollection.saveInstanceReferenceCopies(USER_ID, getGraph(Collections.singletonList(getEntity("1111", REMOTE_METADATA_COLLECTION, 1)),
+                                                                             null));
+            fail();
+        }
+        catch (PropertyErrorException error)
+        {
+            assertNull(metadataCollection.isEntityKnown(USER_ID, "1111"));
+        }
+    }
+
+
+    /**
+     * Validate that nothing from the batch is saved if one of its relationships has a missing end.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testMissingRelationshipEndRejectsBatch() throws Exception
+    {
+        Relationship relationship = getRelationship("3333", "1111", "4444");
+
+        relationship.setEntityTwoProxy(null);
+
+        try
+        {
+            metadataCollection.saveInstanceReferenceCopies(USER_ID, getGraph(Collections.singletonList(getEntity("1111", REMOTE_METADATA_COLLECTION, 1)),
+                                                                             Collections.singletonList(relationship)));
+            fail();
+        }
+        catch (InvalidParameterException error)
+        {
+            assertTrue(error.getReportedErrorMessage().contains(OMRSErrorCode.NULL_ENTITY_PROXY.getMessageDefinition().getMessageId()));
+            assertNull(metadataCollection.isEntityKnown(USER_ID, "1111"));
+            assertNull(metadataCollection.isRelationshipKnown(USER_ID, "3333"));
+        }
+    }
+
+
+    private InstanceGraph getGraph(List<EntityDetail> entities,
+                                   List<Relationship> relationships)
+    {
+        InstanceGraph graph = new InstanceGraph();
+
+        graph.setEntities(entities);
+        graph.setRelationships(relationships);
+
+        return graph;
+    }
+
+
+    private EntityDetail getEntity(String guid,
+                                   String metadataCollectionId,
+                                   long   version)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setMetadataCollectionId(metadataCollectionId);
+        entity.setVersion(version);
+        entity.setType(getType());
+
+        return entity;
+    }
+
+
+    private Relationship getRelationship(String guid,
+                                         String entityOneGUID,
+                                         String entityTwoGUID)
+    {
+        Relationship relationship = new Relationship();
+
+        relationship.setGUID(guid);
+        relationship.setMetadataCollectionId(REMOTE_METADATA_COLLECTION);
+        relationship.setVersion(1);
+        relationship.setType(getType());
+        relationship.setEntityOneProxy(getEntityProxy(entityOneGUID));
+        relationship.setEntityTwoProxy(getEntityProxy(entityTwoGUID));
+
+        return relationship;
+    }
+
+
+    private EntityProxy getEntityProxy(String guid)
+    {
+        EntityProxy entityProxy = new EntityProxy();
+
+        entityProxy.setGUID(guid);
+        entityProxy.setMetadataCollectionId(REMOTE_METADATA_COLLECTION);
+        entityProxy.setType(getType());
+
+        return entityProxy;
+    }
+
+
+    private InstanceType getType()
+    {
+        InstanceType type = new InstanceType();
+
+        type.setTypeDefGUID("typeGUID");
+        type.setTypeDefName("TypeName");
+
+        return type;
+    }
+}
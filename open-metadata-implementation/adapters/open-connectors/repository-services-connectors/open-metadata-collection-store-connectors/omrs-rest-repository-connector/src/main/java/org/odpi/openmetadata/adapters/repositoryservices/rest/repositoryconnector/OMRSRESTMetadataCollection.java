@@ -35,8 +35,15 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollectionBase
     private String                        errorMessage = null;
     private String                        remoteMetadataCollectionId = null;
 
-    private boolean getHomeClassificationsSupported = true;
-    private boolean getHomeClassificationsWithHistorySupported = true;
+    /*
+     * These flags are set to false the first time the remote server reports that it does not support the
+     * request.  They are shared by all the threads that use this metadata collection.
+     */
+    private volatile boolean getHomeClassificationsSupported = true;
+    private volatile boolean getHomeClassificationsWithHistorySupported = true;
+    private volatile boolean getEntitySummariesSupported = true;
+    private volatile boolean getEntityDetailsSupported = true;
+    private volatile boolean getRelationshipsSupported = true;
 
 
     /**
@@ -116,6 +123,29 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Constructor used when the client for the remote server has already been created.
+     *
+     * @param parentConnector      connector that this metadata collection supports.
+     * @param repositoryName       name of the repository used for logging.
+     * @param repositoryHelper     class used to build type definitions and instances.
+     * @param repositoryValidator  class used to validate type definitions and instances.
+     * @param metadataCollectionId unique identifier for the metadata collection
+     * @param omrsClient           client for the remote server's repository services
+     */
+    OMRSRESTMetadataCollection(OMRSRESTRepositoryConnector   parentConnector,
+                               String                        repositoryName,
+                               OMRSRepositoryHelper          repositoryHelper,
+                               OMRSRepositoryValidator       repositoryValidator,
+                               String                        metadataCollectionId,
+                               LocalRepositoryServicesClient omrsClient)
+    {
+        super(parentConnector, repositoryName, repositoryHelper, repositoryValidator, metadataCollectionId);
+
+        this.omrsClient = omrsClient;
+    }
+
+
     /**
      * Detect if the connector failed to initialize.
      *
@@ -921,6 +951,90 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return the header and classifications for each of the requested entities.
+     * Remote servers that do not support the multi-guid request are called once for each guid.  Other errors from
+     * the multi-guid request are returned to the caller.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids  list of unique identifiers for the entities.
+     * @return list of entities in the order requested.  Unknown entities are omitted.  Null means none are known.
+     * @throws InvalidParameterException  one of the guids is null.
+     * @throws RepositoryErrorException   there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntitySummary> getEntitySummaries(String       userId,
+                                                  List<String> guids) throws InvalidParameterException,
+                                                                             RepositoryErrorException,
+                                                                             UserNotAuthorizedException
+    {
+        final String methodName  = "getEntitySummaries";
+
+        validateClient(methodName);
+
+        if (getEntitySummariesSupported)
+        {
+            try
+            {
+                return omrsClient.getEntitySummaries(userId, guids);
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                /*
+                 * The remote server is at a level that does not support this request.
+                 */
+                getEntitySummariesSupported = false;
+            }
+        }
+
+        return super.getEntitySummaries(userId, guids);
+    }
+
+
+    /**
+     * Return the header, classifications and properties of each of the requested entities.
+     * Remote servers that do not support the multi-guid request are called once for each guid.  Other errors from
+     * the multi-guid request are returned to the caller.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids  list of unique identifiers for the entities.
+     * @return list of entities in the order requested.  Unknown entities are omitted.  Null means none are known.
+     * @throws InvalidParameterException  one of the guids is null.
+     * @throws RepositoryErrorException   there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntityDetail> getEntityDetails(String       userId,
+                                               List<String> guids) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          UserNotAuthorizedException
+    {
+        final String methodName  = "getEntityDetails";
+
+        validateClient(methodName);
+
+        if (getEntityDetailsSupported)
+        {
+            try
+            {
+                return omrsClient.getEntityDetails(userId, guids);
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                /*
+                 * The remote server is at a level that does not support this request.
+                 */
+                getEntityDetailsSupported = false;
+            }
+        }
+
+        return super.getEntityDetails(userId, guids);
+    }
+
+
     /**
      * Return a historical version of an entity includes the header, classifications and properties of the entity.
      *
@@ -1402,6 +1516,48 @@ public class OMRSRESTMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return each of the requested relationships.
+     * Remote servers that do not support the multi-guid request are called once for each guid.  Other errors from
+     * the multi-guid request are returned to the caller.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids  list of unique identifiers for the relationships.
+     * @return list of relationships in the order requested.  Unknown relationships are omitted.  Null means none are known.
+     * @throws InvalidParameterException  one of the guids is null.
+     * @throws RepositoryErrorException   there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<Relationship> getRelationships(String       userId,
+                                               List<String> guids) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          UserNotAuthorizedException
+    {
+        final String methodName  = "getRelationships";
+
+        validateClient(methodName);
+
+        if (getRelationshipsSupported)
+        {
+            try
+            {
+                return omrsClient.getRelationships(userId, guids);
+            }
+            catch (FunctionNotSupportedException error)
+            {
+                /*
+                 * The remote server is at a level that does not support this request.
+                 */
+                getRelationshipsSupported = false;
+            }
+        }
+
+        return super.getRelationships(userId, guids);
+    }
+
+
     /**
      * Return a historical version of a relationship.
      *
@@ -0,0 +1,247 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adapters.repositoryservices.rest.repositoryconnector;
+
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.odpi.openmetadata.repositoryservices.clients.LocalRepositoryServicesClient;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntitySummary;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Validate that the OMRSRESTMetadataCollection only stops using the multi-guid requests when the remote server
+ * does not support them.
+ */
+public class TestOMRSRESTMetadataCollection
+{
+    private static final String USER_ID = "testUser";
+
+    @Mock
+    private OMRSRepositoryValidator repositoryValidator;
+    @Mock
+    private OMRSRepositoryHelper repositoryHelper;
+
+    private TestRepositoryServicesClient omrsClient;
+    private OMRSRESTMetadataCollection   metadataCollection;
+
+
+    @BeforeMethod
+    public void setup() throws Exception
+    {
+        MockitoAnnotations.openMocks(this);
+
+        OMRSRESTRepositoryConnector repositoryConnector = new OMRSRESTRepositoryConnector();
+
+        repositoryConnector.start();
+
+        omrsClient = new TestRepositoryServicesClient();
+        metadataCollection = new OMRSRESTMetadataCollection(repositoryConnector,
+                                                            "TestRepository",
+                                                            repositoryHelper,
+                                                            repositoryValidator,
+                                                            "remoteMetadataCollection",
+                                                            omrsClient);
+    }
+
+
+    /**
+     * Validate that a server that does not support the multi-guid request is called once for each guid, and
+     * is not sent the multi-guid request again.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testFallBackWhenNotSupported() throws Exception
+    {
+        omrsClient.notSupported = true;
+
+        List<EntitySummary> entities = metadataCollection.getEntitySummaries(USER_ID, Arrays.asList("1111", "2222"));
+
+        assertEquals(entities.size(), 2);
+        assertEquals(entities.get(0).getGUID(), "1111");
+        assertEquals(entities.get(1).getGUID(), "2222");
+        assertEquals(omrsClient.multiGUIDRequests, 1);
+        assertEquals(omrsClient.singleGUIDRequests, 2);
+
+        metadataCollection.getEntitySummaries(USER_ID, Arrays.asList("1111", "2222"));
+
+        assertEquals(omrsClient.multiGUIDRequests, 1);
+        assertEquals(omrsClient.singleGUIDRequests, 4);
+
+        List<Relationship> relationships = metadataCollection.getRelationships(USER_ID, Arrays.asList("3333", "4444"));
+
+        assertEquals(relationships.size(), 2);
+        assertEquals(omrsClient.multiGUIDRequests, 2);
+        assertEquals(omrsClient.singleGUIDRequests, 6);
+    }
+
+
+    /**
+     * Validate that other errors from the multi-guid request are returned to the caller and that the next
+     * request still uses the multi-guid request.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testErrorIsReturned() throws Exception
+    {
+        omrsClient.repositoryError = new RepositoryErrorException(OMRSErrorCode.NULL_RESPONSE_FROM_API.getMessageDefinition("getEntityDetails",
+                                                                                                                           "TestRepository"),
+                                                                  this.getClass().getName(),
+                                                                  "getEntityDetails");
+
+        try
+        {
+            metadataCollection.getEntityDetails(USER_ID, Arrays.asList("1111", "2222"));
+            fail();
+        }
+        catch (RepositoryErrorException error)
+        {
+            assertSame(error, omrsClient.repositoryError);
+        }
+
+        omrsClient.repositoryError = null;
+
+        List<EntityDetail> entities = metadataCollection.getEntityDetails(USER_ID, Arrays.asList("1111", "2222"));
+
+        assertEquals(entities.size(), 2);
+        assertEquals(omrsClient.multiGUIDRequests, 2);
+        assertEquals(omrsClient.singleGUIDRequests, 0);
+    }
+
+
+    /**
+     * Client that returns the requested instances without calling a server.  It can be set up to behave like
+     * a server that does not support the multi-guid requests or one that returns an error.
+     */
+    private static class TestRepositoryServicesClient extends LocalRepositoryServicesClient
+    {
+        private boolean                  notSupported       = false;
+        private RepositoryErrorException repositoryError    = null;
+        private int                      multiGUIDRequests  = 0;
+        private int                      singleGUIDRequests = 0;
+
+        TestRepositoryServicesClient() throws Exception
+        {
+            super("TestRepository", "https://localhost:9443");
+        }
+
+
+        private void checkMultiGUIDRequest(String methodName) throws FunctionNotSupportedException,
+                                                                     RepositoryErrorException
+        {
+            multiGUIDRequests++;
+
+            if (notSupported)
+            {
+                throw new FunctionNotSupportedException(OMRSErrorCode.REMOTE_REQUEST_NOT_SUPPORTED.getMessageDefinition(methodName,
+                                                                                                                       "TestRepository",
+                                                                                                                       "404 Not Found"),
+                                                        this.getClass().getName(),
+                                                        methodName);
+            }
+
+            if (repositoryError != null)
+            {
+                throw repositoryError;
+            }
+        }
+
+
+        @Override
+        public List<EntitySummary> getEntitySummaries(String       userId,
+                                                      List<String> guids) throws FunctionNotSupportedException,
+                                                                                 RepositoryErrorException
+        {
+            checkMultiGUIDRequest("getEntitySummaries");
+
+            return Arrays.asList(getEntitySummary(userId, guids.get(0)), getEntitySummary(userId, guids.get(1)));
+        }
+
+
+        @Override
+        public List<EntityDetail> getEntityDetails(String       userId,
+                                                   List<String> guids) throws FunctionNotSupportedException,
+                                                                              RepositoryErrorException
+        {
+            checkMultiGUIDRequest("getEntityDetails");
+
+            return Arrays.asList(newEntityDetail(guids.get(0)), newEntityDetail(guids.get(1)));
+        }
+
+
+        @Override
+        public List<Relationship> getRelationships(String       userId,
+                                                   List<String> guids) throws FunctionNotSupportedException,
+                                                                              RepositoryErrorException
+        {
+            checkMultiGUIDRequest("getRelationships");
+
+            return Arrays.asList(getRelationship(userId, guids.get(0)), getRelationship(userId, guids.get(1)));
+        }
+
+
+        @Override
+        public EntitySummary getEntitySummary(String userId,
+                                              String guid)
+        {
+            singleGUIDRequests++;
+
+            EntitySummary entity = new EntitySummary();
+
+            entity.setGUID(guid);
+
+            return entity;
+        }
+
+
+        @Override
+        public EntityDetail getEntityDetail(String userId,
+                                            String guid)
+        {
+            singleGUIDRequests++;
+
+            return newEntityDetail(guid);
+        }
+
+
+        @Override
+        public Relationship getRelationship(String userId,
+                                            String guid)
+        {
+            singleGUIDRequests++;
+
+            Relationship relationship = new Relationship();
+
+            relationship.setGUID(guid);
+
+            return relationship;
+        }
+
+
+        private EntityDetail newEntityDetail(String guid)
+        {
+            EntityDetail entity = new EntityDetail();
+
+            entity.setGUID(guid);
+
+            return entity;
+        }
+    }
+}
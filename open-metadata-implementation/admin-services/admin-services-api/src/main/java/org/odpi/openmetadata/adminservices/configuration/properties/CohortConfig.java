@@ -48,6 +48,15 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
  *         selectedTypesToProcess - list of TypeDefs used if the eventsToProcess rule (above) says
  *         "SELECTED_TYPES" - otherwise it is set to null.
  *     </li>
+ *     <li>
+ *         instanceBatchSize is the maximum number of entities and relationships that are sent in a single
+ *         batch instances event when changes to the local repository are published to the cohort.  A value
+ *         less than 2 means each change is sent in its own event.
+ *     </li>
+ *     <li>
+ *         instanceBatchInterval is the maximum time (in milliseconds) that a change to the local repository is held
+ *         while a batch instances event is assembled.
+ *     </li>
  * </ul>
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
@@ -66,6 +75,8 @@ public class CohortConfig extends AdminServicesConfigHeader
     private OpenMetadataEventProtocolVersion cohortOMRSTopicProtocolVersion        = null;
     private OpenMetadataExchangeRule         eventsToProcessRule                   = null;
     private List<TypeDefSummary>             selectedTypesToProcess                = null;
+    private int                              instanceBatchSize                     = 0;
+    private long                             instanceBatchInterval                 = 0;
 
 
 
@@ -97,6 +108,8 @@ public class CohortConfig extends AdminServicesConfigHeader
             cohortOMRSTopicProtocolVersion = template.getCohortOMRSTopicProtocolVersion();
             eventsToProcessRule = template.getEventsToProcessRule();
             selectedTypesToProcess = template.getSelectedTypesToProcess();
+            instanceBatchSize = template.getInstanceBatchSize();
+            instanceBatchInterval = template.getInstanceBatchInterval();
         }
     }
 
@@ -324,6 +337,56 @@ public class CohortConfig extends AdminServicesConfigHeader
     }
 
 
+    /**
+     * Return the maximum number of entities and relationships that are sent in a single batch instances event
+     * when changes to the local repository are published to the cohort.  A value less than 2 means each change
+     * is sent in its own event.
+     *
+     * @return int
+     */
+    public int getInstanceBatchSize()
+    {
+        return instanceBatchSize;
+    }
+
+
+    /**
+     * Set up the maximum number of entities and relationships that are sent in a single batch instances event
+     * when changes to the local repository are published to the cohort.  A value less than 2 means each change
+     * is sent in its own event.
+     *
+     * @param instanceBatchSize int
+     */
+    public void setInstanceBatchSize(int instanceBatchSize)
+    {
+        this.instanceBatchSize = instanceBatchSize;
+    }
+
+
+    /**
+     * Return the maximum time (in milliseconds) that a change to the local repository is held while a batch
+     * instances event is assembled.
+     *
+     * @return long
+     */
+    public long getInstanceBatchInterval()
+    {
+        return instanceBatchInterval;
+    }
+
+
+    /**
+     * Set up the maximum time (in milliseconds) that a change to the local repository is held while a batch
+     * instances event is assembled.
+     *
+     * @param instanceBatchInterval long
+     */
+    public void setInstanceBatchInterval(long instanceBatchInterval)
+    {
+        this.instanceBatchInterval = instanceBatchInterval;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -342,6 +405,8 @@ public class CohortConfig extends AdminServicesConfigHeader
                        ", cohortOMRSTopicProtocolVersion=" + cohortOMRSTopicProtocolVersion +
                        ", eventsToProcessRule=" + eventsToProcessRule +
                        ", selectedTypesToProcess=" + selectedTypesToProcess +
+                       ", instanceBatchSize=" + instanceBatchSize +
+                       ", instanceBatchInterval=" + instanceBatchInterval +
                        '}';
     }
 
@@ -372,7 +437,9 @@ public class CohortConfig extends AdminServicesConfigHeader
                        Objects.equals(cohortOMRSInstancesTopicConnection, that.cohortOMRSInstancesTopicConnection) &&
                        cohortOMRSTopicProtocolVersion == that.cohortOMRSTopicProtocolVersion &&
                        eventsToProcessRule == that.eventsToProcessRule &&
-                       Objects.equals(selectedTypesToProcess, that.selectedTypesToProcess);
+                       Objects.equals(selectedTypesToProcess, that.selectedTypesToProcess) &&
+                       instanceBatchSize == that.instanceBatchSize &&
+                       instanceBatchInterval == that.instanceBatchInterval;
     }
 
 
@@ -386,6 +453,6 @@ public class CohortConfig extends AdminServicesConfigHeader
     {
         return Objects.hash(cohortName, cohortRegistryConnection, cohortOMRSTopicConnection, cohortOMRSRegistrationTopicConnection,
                             cohortOMRSTypesTopicConnection, cohortOMRSInstancesTopicConnection, cohortOMRSTopicProtocolVersion, eventsToProcessRule,
-                            selectedTypesToProcess);
+                            selectedTypesToProcess, instanceBatchSize, instanceBatchInterval);
     }
 }
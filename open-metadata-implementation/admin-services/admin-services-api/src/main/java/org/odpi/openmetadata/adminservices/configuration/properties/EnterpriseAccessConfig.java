@@ -30,6 +30,20 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
  *         enterpriseOMRSTopicProtocolVersion - the protocol version for the events passed on the
  *                                            enterprise OMRS topic.
  *     </li>
+ *     <li>
+ *         federatedTraversalResultBudget - maximum number of entities and relationships that a federated
+ *                                        traversal of the graph (such as getEntityNeighborhood) retrieves.
+ *                                        Zero means the default of 10000.
+ *     </li>
+ *     <li>
+ *         federatedTraversalTimeout - maximum number of milliseconds that a federated traversal runs for.
+ *                                   Zero means the default of 60000.
+ *     </li>
+ *     <li>
+ *         federatedTraversalMaxLevels - maximum number of levels that a federated traversal follows when the
+ *                                     caller does not limit the levels (such as getRelatedEntities).
+ *                                     Zero means the default of 20.
+ *     </li>
  * </ul>
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
@@ -43,6 +57,9 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
     private String                           enterpriseMetadataCollectionId     = null;
     private Connection                       enterpriseOMRSTopicConnection      = null;
     private OpenMetadataEventProtocolVersion enterpriseOMRSTopicProtocolVersion = null;
+    private int                              federatedTraversalResultBudget     = 0;
+    private long                             federatedTraversalTimeout          = 0;
+    private int                              federatedTraversalMaxLevels        = 0;
 
 
     /**
@@ -179,6 +196,72 @@ public class EnterpriseAccessConfig extends AdminServicesConfigHeader
     }
 
 
+    /**
+     * Return the maximum number of entities and relationships that a federated traversal retrieves.
+     *
+     * @return count; zero means the default
+     */
+    public int getFederatedTraversalResultBudget()
+    {
+        return federatedTraversalResultBudget;
+    }
+
+
+    /**
+     * Set up the maximum number of entities and relationships that a federated traversal retrieves.
+     *
+     * @param federatedTraversalResultBudget count; zero means the default
+     */
+    public void setFederatedTraversalResultBudget(int federatedTraversalResultBudget)
+    {
+        this.federatedTraversalResultBudget = federatedTraversalResultBudget;
+    }
+
+
+    /**
+     * Return the maximum number of milliseconds that a federated traversal runs for.
+     *
+     * @return milliseconds; zero means the default
+     */
+    public long getFederatedTraversalTimeout()
+    {
+        return federatedTraversalTimeout;
+    }
+
+
+    /**
+     * Set up the maximum number of milliseconds that a federated traversal runs for.
+     *
+     * @param federatedTraversalTimeout milliseconds; zero means the default
+     */
+    public void setFederatedTraversalTimeout(long federatedTraversalTimeout)
+    {
+        this.federatedTraversalTimeout = federatedTraversalTimeout;
+    }
+
+
+    /**
+     * Return the maximum number of levels that a federated traversal follows when the caller does not limit the levels.
+     *
+     * @return number of levels; zero means the default
+     */
+    public int getFederatedTraversalMaxLevels()
+    {
+        return federatedTraversalMaxLevels;
+    }
+
+
+    /**
+     * Set up the maximum number of levels that a federated traversal follows when the caller does not limit the levels.
+     *
+     * @param federatedTraversalMaxLevels number of levels; zero means the default
+     */
+    public void setFederatedTraversalMaxLevels(int federatedTraversalMaxLevels)
+    {
+        this.federatedTraversalMaxLevels = federatedTraversalMaxLevels;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -12,15 +12,17 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 
 /**
- * OpenMetadataEventProtocolVersion provides the identifier for the version number of the event payload.  There is
- * only one version at the moment which is why it looks a little sad.
+ * OpenMetadataEventProtocolVersion provides the identifier for the version number of the event payload.
+ * V1_COMPRESSED sends large events compressed while every member of the cohort has advertised in its
+ * registration that it accepts compressed events.  Otherwise events are sent as for V1.
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonIgnoreProperties(ignoreUnknown=true)
 public enum OpenMetadataEventProtocolVersion implements Serializable
 {
-    V1 (1, "V1", "Version 1");
+    V1 (1, "V1", "Version 1"),
+    V1_COMPRESSED (2, "V1 Compressed", "Version 1 with large events compressed");
 
     private static final long     serialVersionUID = 1L;
 
@@ -83,6 +83,21 @@ public enum OMAGAdminAuditCode implements AuditLogMessageSet
                             "Review the shutdown messages to ensure that all of the subsystems have successfully released the" +
                                     "resources that they were using.  Restart the server whenever its services are needed again."),
 
+    SERVER_STARTUP_PHASE_COMPLETE("OMAG-ADMIN-0008",
+                            OMRSAuditLogRecordSeverity.PERFMON,
+                            "The {0} phase of start up for the {1} server completed in {2} milliseconds",
+                            "The operational admin services have completed one of the phases of the server's start up and report " +
+                                    "how long it took.",
+                            "Use these timings to identify which part of the server's start up is slowest.  Long phases are " +
+                                    "typically waiting for an external resource such as the event bus or a remote repository."),
+
+    SERVICE_STARTUP_COMPLETE("OMAG-ADMIN-0009",
+                            OMRSAuditLogRecordSeverity.PERFMON,
+                            "The {0} service in the {1} server completed its start up in {2} milliseconds",
+                            "The operational admin services start the server's access services and view services in parallel.  " +
+                                    "This message reports how long an individual service took to start.",
+                            "Use these timings to identify the services that delay the start up of the server."),
+
     STARTING_ACCESS_SERVICES("OMAG-ADMIN-0010",
         OMRSAuditLogRecordSeverity.STARTUP,
         "The Open Metadata Access Services (OMASs) are starting",
@@ -90,7 +105,7 @@ public enum OMAGAdminAuditCode implements AuditLogMessageSet
                 "These provide specialist APIs for accessing open metadata.  Many of the access services support " +
                 "both a REST API and event-based interaction through a topic.  They also support options that " +
                 "control their behavior and the scope of the metadata that they work with.  The access service " +
-                "subsystems are started one at a time.  A fatal error in any of them prevents the server from starting.",
+                "subsystems are started in parallel.  A fatal error in any of them prevents the server from starting.",
         "The server's configuration document lists the access services that should be started in this server.  " +
                 "Verify that the expected access services are started and that they each report that their components are " +
                 "working correctly."),
@@ -172,7 +187,7 @@ public enum OMAGAdminAuditCode implements AuditLogMessageSet
             "The Open Metadata View Services (OMVSs) are starting",
             "The operational admin services are initializing the view service subsystems in a metadata server instance.  " +
                     "These provide specialist task orientated APIs for viewing open metadata.  The view services support " +
-                    "a REST API. The view service subsystems are started one at a time.  A fatal error in any of them prevents the server from starting.",
+                    "a REST API. The view service subsystems are started in parallel.  A fatal error in any of them prevents the server from starting.",
             "The server's configuration document lists the view services that should be started in this server.  " +
                     "Verify that the expected view services are started and that they each report that their components are " +
                     "working correctly."),
@@ -363,6 +363,17 @@ public enum OMAGAdminErrorCode implements ExceptionMessageSet
                                   "The local repository mode is supplied by the caller to the OMAG server when the repository connection is set up.  " +
                                           "This call to enable the repository connection needs to be made before the call to set the event mapper connection."),
 
+    BAD_CONFIGURATION_CHANGE(400, "OMAG-ADMIN-400-053",
+                             "Configuration change {0} for OMAG server {1} could not be applied because of a {2} exception with message {3}",
+                             "The system is unable to apply the list of configuration changes.  No change was made to the server's configuration document.",
+                             "Each configuration change maps sections of the configuration document to their new values.  Correct the " +
+                                     "change so that each value matches the type of its section and retry the request."),
+
+    UNSUPPORTED_CONFIGURATION_CHANGE(400, "OMAG-ADMIN-400-054",
+                             "Configuration change {0} for OMAG server {1} sets section {2}, which is not one of the sections that a list of configuration changes can set: {3}",
+                             "The system is unable to apply the list of configuration changes.  No change was made to the server's configuration document.",
+                             "Use the configuration command for the section to change it and retry the request without it."),
+
     NO_CONFIG_DOC(400,"OMAG-ADMIN-400-101",
                   "An engine service for OMAG server {0} has been passed null configuration",
                   "The engine service can not retrieve its configuration values.  " +
@@ -0,0 +1,137 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+/**
+ * ConfigurationChangesRequestBody carries a list of changes to a server's configuration document.  Each change
+ * maps sections of the configuration document (named as in its JSON form) to their new values.  The changes
+ * are applied to the configuration document in the order they are listed.  Each section present in a change
+ * is replaced.  Sections that are not mentioned in a change are unaffected.  Only the basic server properties
+ * (localServerType, organizationName, localServerUserId, localServerPassword, localServerURL and maxPageSize)
+ * can be changed this way.
+ */
+public class ConfigurationChangesRequestBody implements Serializable
+{
+    private static final long    serialVersionUID = 1L;
+
+    private List<Map<String, Object>> configurationChanges = null;
+
+
+    /**
+     * Default constructor
+     */
+    public ConfigurationChangesRequestBody()
+    {
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template source
+     */
+    public ConfigurationChangesRequestBody(ConfigurationChangesRequestBody template)
+    {
+        if (template != null)
+        {
+            configurationChanges = template.getConfigurationChanges();
+        }
+    }
+
+
+    /**
+     * Return the list of changes to apply to the configuration document.
+     *
+     * @return list of changes, each mapping section names to values
+     */
+    public List<Map<String, Object>> getConfigurationChanges()
+    {
+        if (configurationChanges == null)
+        {
+            return null;
+        }
+        else if (configurationChanges.isEmpty())
+        {
+            return null;
+        }
+        else
+        {
+            return new ArrayList<>(configurationChanges);
+        }
+    }
+
+
+    /**
+     * Set up the list of changes to apply to the configuration document.
+     *
+     * @param configurationChanges list of changes, each mapping section names to values
+     */
+    public void setConfigurationChanges(List<Map<String, Object>> configurationChanges)
+    {
+        this.configurationChanges = configurationChanges;
+    }
+
+
+    /**
+     * JSON-style toString
+     *
+     * @return description of the object values
+     */
+    @Override
+    public String toString()
+    {
+        return "ConfigurationChangesRequestBody{" +
+                "configurationChanges=" + configurationChanges +
+                '}';
+    }
+
+
+    /**
+     * Compare objects
+     *
+     * @param objectToCompare object
+     * @return boolean
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        ConfigurationChangesRequestBody that = (ConfigurationChangesRequestBody) objectToCompare;
+        return Objects.equals(getConfigurationChanges(), that.getConfigurationChanges());
+    }
+
+
+    /**
+     * Simple hash for the object
+     *
+     * @return int
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(getConfigurationChanges());
+    }
+}
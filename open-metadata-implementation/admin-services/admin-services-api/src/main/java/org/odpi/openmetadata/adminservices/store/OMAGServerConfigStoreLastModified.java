@@ -0,0 +1,22 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices.store;
+
+/**
+ * OMAGServerConfigStoreLastModified provides a method to return when the configuration document in the store
+ * was last changed.  It is an extension to the OMAGServerConfigStore interface that allows the admin services
+ * to keep a parsed copy of the configuration document in memory and only read it from the store again if it has
+ * been changed outside of this platform.
+ *
+ * This function has been added to a new interface so existing implementations using OMAGServerConfigStore continue to work.
+ * Configuration documents from stores that do not implement this interface are not cached.
+ */
+public interface OMAGServerConfigStoreLastModified extends OMAGServerConfigStore
+{
+    /**
+     * Return the time that the configuration document for this server was last modified.
+     *
+     * @return time in milliseconds since the epoch, or 0 if there is no configuration document in the store
+     */
+    long getServerConfigLastModified();
+}
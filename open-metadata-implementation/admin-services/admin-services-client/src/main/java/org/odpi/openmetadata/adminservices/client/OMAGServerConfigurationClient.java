@@ -641,6 +641,46 @@ public class OMAGServerConfigurationClient
     }
 
 
+    /**
+     * Apply a list of changes to the configuration document for an OMAG Server.  Each change maps sections of the
+     * configuration document to their new values.  Only the basic server properties (localServerType,
+     * organizationName, localServerUserId, localServerPassword, localServerURL and maxPageSize) can be changed
+     * this way.  The document is saved once after all of the changes have been applied.
+     *
+     * @param configurationChanges list of changes, each mapping section names to values
+     * @throws OMAGNotAuthorizedException the supplied userId is not authorized to issue this command.
+     * @throws OMAGInvalidParameterException invalid parameter.
+     * @throws OMAGConfigurationErrorException unusual state in the admin server.
+     */
+    public void applyConfigurationChanges(List<Map<String, Object>> configurationChanges) throws OMAGNotAuthorizedException,
+                                                                                                 OMAGConfigurationErrorException,
+                                                                                                 OMAGInvalidParameterException
+    {
+        final String methodName    = "applyConfigurationChanges";
+        final String parameterName = "configurationChanges";
+        final String urlTemplate   = "/open-metadata/admin-services/users/{0}/servers/{1}/configuration/changes";
+
+        try
+        {
+            invalidParameterHandler.validateObject(configurationChanges, parameterName, methodName);
+        }
+        catch (InvalidParameterException error)
+        {
+            throw new OMAGInvalidParameterException(error.getReportedErrorMessage(), error);
+        }
+
+        ConfigurationChangesRequestBody requestBody = new ConfigurationChangesRequestBody();
+
+        requestBody.setConfigurationChanges(configurationChanges);
+
+        restClient.callVoidPostRESTCall(methodName,
+                                        serverPlatformRootURL + urlTemplate,
+                                        requestBody,
+                                        adminUserId,
+                                        serverName);
+    }
+
+
     /**
      * Push the configuration for the server to another OMAG Server Platform.
      *
@@ -2,6 +2,7 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.adminservices;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.odpi.openmetadata.adapters.repositoryservices.ConnectorConfigurationFactory;
 import org.odpi.openmetadata.adminservices.classifier.ServerTypeClassifier;
 import org.odpi.openmetadata.adminservices.client.ConfigurationManagementClient;
@@ -25,6 +26,7 @@ import org.odpi.openmetadata.repositoryservices.admin.OMRSConfigurationFactory;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -41,6 +43,21 @@ public class OMAGServerAdminServices
                                                                       CommonServicesDescription.ADMIN_OPERATIONAL_SERVICES.getServiceName());
 
 
+    private static ObjectMapper objectMapper = new ObjectMapper();
+
+    /*
+     * The sections of the configuration document that can be set through a list of configuration changes.
+     * The other sections have checks that relate them to the rest of the document and must be set through
+     * their own configuration commands.
+     */
+    private static final String       maxPageSizeSection          = "maxPageSize";
+    private static final List<String> configurationChangeSections = Arrays.asList("localServerType",
+                                                                                  "organizationName",
+                                                                                  "localServerUserId",
+                                                                                  "localServerPassword",
+                                                                                  "localServerURL",
+                                                                                  maxPageSizeSection);
+
     private            OMAGServerAdminStoreServices configStore      = new OMAGServerAdminStoreServices();
     private            OMAGServerErrorHandler       errorHandler     = new OMAGServerErrorHandler();
     private            OMAGServerExceptionHandler   exceptionHandler = new OMAGServerExceptionHandler();
@@ -3445,6 +3462,236 @@ public class OMAGServerAdminServices
     }
 
 
+    /**
+     * Apply a list of changes to the configuration document for an OMAG Server.  Each change maps sections of
+     * the configuration document to their new values.  The changes are applied in the order supplied with the
+     * same checks as the configuration command for each section.  Only the basic server properties can be set
+     * this way (see configurationChangeSections).  The document is saved once after all of the changes are
+     * applied, so if any change is rejected none of them are saved.
+     *
+     * @param userId  user that is issuing the request
+     * @param serverName  local server name
+     * @param requestBody  list of changes to the configuration document
+     * @return void response or
+     * OMAGNotAuthorizedException the supplied userId is not authorized to issue this command or
+     * OMAGInvalidParameterException invalid serverName or a change that sets an unsupported section or an invalid value.
+     */
+    public VoidResponse applyConfigurationChanges(String                          userId,
+                                                  String                          serverName,
+                                                  ConfigurationChangesRequestBody requestBody)
+    {
+        final String methodName = "applyConfigurationChanges";
+
+        RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
+
+        VoidResponse response = new VoidResponse();
+
+        try
+        {
+            errorHandler.validateServerName(serverName, methodName);
+            errorHandler.validateUserId(userId, serverName, methodName);
+
+            List<Map<String, Object>> configurationChanges = null;
+
+            if (requestBody != null)
+            {
+                configurationChanges = requestBody.getConfigurationChanges();
+            }
+
+            if (configurationChanges == null)
+            {
+                throw new OMAGInvalidParameterException(OMAGAdminErrorCode.NULL_SERVER_CONFIG.getMessageDefinition(serverName),
+                                                        this.getClass().getName(),
+                                                        methodName);
+            }
+
+            OMAGServerConfig serverConfig = configStore.getServerConfig(userId, serverName, methodName);
+
+            List<String>  configAuditTrail = serverConfig.getAuditTrail();
+
+            if (configAuditTrail == null)
+            {
+                configAuditTrail = new ArrayList<>();
+            }
+
+            int changeNumber = 0;
+
+            for (Map<String, Object> configurationChange : configurationChanges)
+            {
+                if (configurationChange != null)
+                {
+                    for (Map.Entry<String, Object> section : configurationChange.entrySet())
+                    {
+                        this.applyConfigurationChange(userId,
+                                                      serverName,
+                                                      serverConfig,
+                                                      configAuditTrail,
+                                                      changeNumber,
+                                                      section.getKey(),
+                                                      section.getValue(),
+                                                      methodName);
+                    }
+                }
+
+                changeNumber++;
+            }
+
+            serverConfig.setAuditTrail(configAuditTrail);
+
+            configStore.saveServerConfig(serverName, methodName, serverConfig);
+        }
+        catch (OMAGInvalidParameterException error)
+        {
+            exceptionHandler.captureInvalidParameterException(response, error);
+        }
+        catch (OMAGNotAuthorizedException error)
+        {
+            exceptionHandler.captureNotAuthorizedException(response, error);
+        }
+        catch (Exception  error)
+        {
+            exceptionHandler.capturePlatformRuntimeException(serverName, methodName, response, error);
+        }
+
+        restCallLogger.logRESTCallReturn(token, response.toString());
+
+        return response;
+    }
+
+
+    /**
+     * Set one section of the configuration document from a configuration change.  Each section is validated
+     * and recorded in the audit trail in the same way as its configuration command.
+     *
+     * @param userId  user that is issuing the request
+     * @param serverName  local server name
+     * @param serverConfig  configuration document to update
+     * @param configAuditTrail  audit trail of the configuration document
+     * @param changeNumber  position of the change in the list of changes
+     * @param sectionName  name of the section to set
+     * @param sectionValue  new value for the section
+     * @param methodName  calling method
+     * @throws OMAGInvalidParameterException the section can not be set this way or the value is not valid
+     */
+    private void applyConfigurationChange(String           userId,
+                                          String           serverName,
+                                          OMAGServerConfig serverConfig,
+                                          List<String>     configAuditTrail,
+                                          int              changeNumber,
+                                          String           sectionName,
+                                          Object           sectionValue,
+                                          String           methodName) throws OMAGInvalidParameterException
+    {
+        if (! configurationChangeSections.contains(sectionName))
+        {
+            throw new OMAGInvalidParameterException(OMAGAdminErrorCode.UNSUPPORTED_CONFIGURATION_CHANGE.getMessageDefinition(Integer.toString(changeNumber),
+                                                                                                                             serverName,
+                                                                                                                             sectionName,
+                                                                                                                             configurationChangeSections.toString()),
+                                                    this.getClass().getName(),
+                                                    methodName);
+        }
+
+        if (maxPageSizeSection.equals(sectionName))
+        {
+            Integer maxPageSize = this.getConfigurationChangeValue(serverName, changeNumber, sectionValue, Integer.class, methodName);
+
+            if ((maxPageSize == null) || (maxPageSize < 0))
+            {
+                throw new OMAGInvalidParameterException(OMAGAdminErrorCode.BAD_MAX_PAGE_SIZE.getMessageDefinition(serverName, String.valueOf(maxPageSize)),
+                                                        this.getClass().getName(),
+                                                        methodName);
+            }
+
+            configAuditTrail.add(new Date().toString() + " " + userId + " updated configuration for maximum page size to " + maxPageSize + ".");
+            serverConfig.setMaxPageSize(maxPageSize);
+
+            return;
+        }
+
+        String value = this.getConfigurationChangeValue(serverName, changeNumber, sectionValue, String.class, methodName);
+
+        if ((value != null) && (value.length() == 0))
+        {
+            value = null;
+        }
+
+        String description = null;
+
+        switch (sectionName)
+        {
+            case "localServerType":
+                description = "local server type name";
+                serverConfig.setLocalServerType(value);
+                break;
+
+            case "organizationName":
+                description = "local server's owning organization's name";
+                serverConfig.setOrganizationName(value);
+                break;
+
+            case "localServerUserId":
+                description = "local server's userId";
+                serverConfig.setLocalServerUserId(value);
+                break;
+
+            case "localServerPassword":
+                description = "local server's password";
+                serverConfig.setLocalServerPassword(value);
+                break;
+
+            case "localServerURL":
+                description = "local server's URL root";
+                serverConfig.setLocalServerURL(value);
+                break;
+        }
+
+        if (value == null)
+        {
+            configAuditTrail.add(new Date().toString() + " " + userId + " removed configuration for " + description + ".");
+        }
+        else
+        {
+            configAuditTrail.add(new Date().toString() + " " + userId + " updated configuration for " + description + " to " + value + ".");
+        }
+    }
+
+
+    /**
+     * Convert the value from a configuration change to the type of its section.
+     *
+     * @param serverName  local server name
+     * @param changeNumber  position of the change in the list of changes
+     * @param sectionValue  value from the change
+     * @param sectionType  type of the section
+     * @param methodName  calling method
+     * @param <T> type of the section
+     * @return converted value
+     * @throws OMAGInvalidParameterException the value does not match the type of the section
+     */
+    private <T> T getConfigurationChangeValue(String   serverName,
+                                              int      changeNumber,
+                                              Object   sectionValue,
+                                              Class<T> sectionType,
+                                              String   methodName) throws OMAGInvalidParameterException
+    {
+        try
+        {
+            return objectMapper.convertValue(sectionValue, sectionType);
+        }
+        catch (Exception error)
+        {
+            throw new OMAGInvalidParameterException(OMAGAdminErrorCode.BAD_CONFIGURATION_CHANGE.getMessageDefinition(Integer.toString(changeNumber),
+                                                                                                                     serverName,
+                                                                                                                     error.getClass().getName(),
+                                                                                                                     error.getMessage()),
+                                                    this.getClass().getName(),
+                                                    methodName,
+                                                    error);
+        }
+    }
+
+
     /**
      * Push the configuration for the server to another OMAG Server Platform.
      *
@@ -36,7 +36,8 @@ import java.util.Set;
  */
 public class OMAGServerAdminStoreServices
 {
-    private static Connection  configurationStoreConnection = null;
+    private static Connection                 configurationStoreConnection = null;
+    private static OMAGServerConfigStoreCache configStoreCache             = new OMAGServerConfigStoreCache();
     private String className = OMAGServerAdminStoreServices.class.getName();
 
     private static RESTCallLogger restCallLogger = new RESTCallLogger(LoggerFactory.getLogger(OMAGServerAdminStoreServices.class),
@@ -68,6 +69,7 @@ public class OMAGServerAdminStoreServices
 
             errorHandler.validatePlatformConnection(connection, methodName);
 
+            configStoreCache.clear();
             configurationStoreConnection = connection;
         }
         catch (OMAGInvalidParameterException error)
@@ -143,6 +145,7 @@ public class OMAGServerAdminStoreServices
         {
             OpenMetadataPlatformSecurityVerifier.validateUserAsOperatorForPlatform(userId);
 
+            configStoreCache.clear();
             configurationStoreConnection = null;
         }
         catch (UserNotAuthorizedException error)
@@ -322,7 +325,7 @@ public class OMAGServerAdminStoreServices
 
         if (serverConfigStore != null)
         {
-            serverConfig = serverConfigStore.retrieveServerConfig();
+            serverConfig = configStoreCache.retrieveServerConfig(serverName, serverConfigStore);
         }
 
         if (serverConfig == null)
@@ -399,7 +402,7 @@ public class OMAGServerAdminStoreServices
 
 
     /**
-     * Save the server's config ...
+     * Save the server's config ...  The document is written to the configuration document store and cached.
      *
      * @param serverName  name of the server
      * @param methodName  method requesting the server details
@@ -417,14 +420,14 @@ public class OMAGServerAdminStoreServices
             if (serverConfig != null)
             {
                 validateConfigServerName(serverName, serverConfig.getLocalServerName(), methodName);
-                serverConfigStore.saveServerConfig(serverConfig);
+                configStoreCache.saveServerConfig(serverName, serverConfigStore, serverConfig);
             }
             else
             {
                 /*
                  * If the server config is null we delete the file rather than have an empty file hanging around.
                  */
-                serverConfigStore.removeServerConfig();
+                configStoreCache.removeServerConfig(serverName, serverConfigStore);
             }
         }
     }
@@ -441,6 +444,7 @@ public class OMAGServerAdminStoreServices
                                               String   methodName) throws OMAGConfigurationErrorException, OMAGInvalidParameterException {
 
         OMAGServerConfigStoreRetrieveAll serverConfigStore = getServerConfigStoreForRetrieveAll(methodName);
+
         return serverConfigStore.retrieveAllServerConfigs();
     }
 
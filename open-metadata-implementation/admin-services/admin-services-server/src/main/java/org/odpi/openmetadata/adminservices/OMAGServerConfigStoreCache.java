@@ -0,0 +1,179 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.adminservices.configuration.properties.OMAGServerConfig;
+import org.odpi.openmetadata.adminservices.store.OMAGServerConfigStore;
+import org.odpi.openmetadata.adminservices.store.OMAGServerConfigStoreLastModified;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * OMAGServerConfigStoreCache keeps a parsed copy of each server's configuration document in memory so that
+ * the admin services do not read, decrypt and parse the whole document from the configuration document store
+ * on every request.
+ * <p>
+ * A cached document is only used while the store reports the same modification time as when it was last
+ * read or written, so changes made to the store outside of this platform are picked up on the next request.
+ * Stores that do not implement OMAGServerConfigStoreLastModified are not cached.
+ * </p>
+ * <p>
+ * Saves are written to the store on the caller's thread before the cache is updated, so a failure to write
+ * the document is returned to the caller and the cache never holds a document that is not in the store.
+ * </p>
+ */
+class OMAGServerConfigStoreCache
+{
+    private static final Logger log = LoggerFactory.getLogger(OMAGServerConfigStoreCache.class);
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<String, CachedServerConfig> cachedServerConfigs = new HashMap<>();
+
+
+    /**
+     * Return a copy of the configuration document for the server.  The document is read from the store if it
+     * is not cached, or the store has changed since it was cached.
+     *
+     * @param serverName name of the server
+     * @param serverConfigStore connector to the store for this server's configuration document
+     * @return configuration document or null if there is no document stored
+     */
+    synchronized OMAGServerConfig retrieveServerConfig(String                serverName,
+                                                       OMAGServerConfigStore serverConfigStore)
+    {
+        if (! (serverConfigStore instanceof OMAGServerConfigStoreLastModified))
+        {
+            return serverConfigStore.retrieveServerConfig();
+        }
+
+        OMAGServerConfigStoreLastModified store        = (OMAGServerConfigStoreLastModified) serverConfigStore;
+        CachedServerConfig                cachedConfig = cachedServerConfigs.get(serverName);
+
+        if ((cachedConfig != null) && (cachedConfig.lastModified == store.getServerConfigLastModified()))
+        {
+            OMAGServerConfig serverConfig = copyServerConfig(cachedConfig.serverConfig);
+
+            if (serverConfig != null)
+            {
+                return serverConfig;
+            }
+        }
+
+        cachedServerConfigs.remove(serverName);
+
+        OMAGServerConfig serverConfig = store.retrieveServerConfig();
+
+        if (serverConfig != null)
+        {
+            OMAGServerConfig copy = copyServerConfig(serverConfig);
+
+            if (copy != null)
+            {
+                cachedServerConfigs.put(serverName, new CachedServerConfig(copy, store.getServerConfigLastModified()));
+            }
+        }
+
+        return serverConfig;
+    }
+
+
+    /**
+     * Save the configuration document for the server.  The document is written to the store and then
+     * cached.  If the write fails, the exception is passed to the caller and the server's document is
+     * removed from the cache so the next request reads it from the store.
+     *
+     * @param serverName name of the server
+     * @param serverConfigStore connector to the store for this server's configuration document
+     * @param serverConfig configuration document to save
+     */
+    synchronized void saveServerConfig(String                serverName,
+                                       OMAGServerConfigStore serverConfigStore,
+                                       OMAGServerConfig      serverConfig)
+    {
+        cachedServerConfigs.remove(serverName);
+        serverConfigStore.saveServerConfig(serverConfig);
+
+        if (serverConfigStore instanceof OMAGServerConfigStoreLastModified)
+        {
+            OMAGServerConfig copy = copyServerConfig(serverConfig);
+
+            if (copy != null)
+            {
+                long lastModified = ((OMAGServerConfigStoreLastModified) serverConfigStore).getServerConfigLastModified();
+
+                cachedServerConfigs.put(serverName, new CachedServerConfig(copy, lastModified));
+            }
+        }
+    }
+
+
+    /**
+     * Remove the configuration document for the server from the cache and the store.
+     *
+     * @param serverName name of the server
+     * @param serverConfigStore connector to the store for this server's configuration document
+     */
+    synchronized void removeServerConfig(String                serverName,
+                                         OMAGServerConfigStore serverConfigStore)
+    {
+        cachedServerConfigs.remove(serverName);
+        serverConfigStore.removeServerConfig();
+    }
+
+
+    /**
+     * Empty the cache.  This is called when the store connection changes.
+     */
+    synchronized void clear()
+    {
+        cachedServerConfigs.clear();
+    }
+
+
+    /**
+     * Make a deep copy of a configuration document so that callers can not change the cached copy.
+     *
+     * @param serverConfig configuration document
+     * @return copy or null if the document can not be copied
+     */
+    private OMAGServerConfig copyServerConfig(OMAGServerConfig serverConfig)
+    {
+        try
+        {
+            return objectMapper.readValue(objectMapper.writeValueAsBytes(serverConfig), OMAGServerConfig.class);
+        }
+        catch (IOException error)
+        {
+            log.debug("Unable to copy configuration document", error);
+            return null;
+        }
+    }
+
+
+    /**
+     * CachedServerConfig is the cache entry for a single server.
+     */
+    private static class CachedServerConfig
+    {
+        private final OMAGServerConfig serverConfig;
+        private final long             lastModified;
+
+        /**
+         * Create the cache entry.
+         *
+         * @param serverConfig private copy of the configuration document
+         * @param lastModified modification time reported by the store
+         */
+        CachedServerConfig(OMAGServerConfig serverConfig, long lastModified)
+        {
+            this.serverConfig = serverConfig;
+            this.lastModified = lastModified;
+        }
+    }
+}
@@ -37,7 +37,16 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * OMAGServerOperationalServices will provide support to start, manage and stop services in the OMAG Server.
@@ -52,6 +61,12 @@ public class OMAGServerOperationalServices
     private OMAGServerErrorHandler         errorHandler = new OMAGServerErrorHandler();
     private OMAGServerExceptionHandler     exceptionHandler = new OMAGServerExceptionHandler();
 
+    /*
+     * Upper limits on the number of threads used to start servers and the services within a server.
+     */
+    private static final int MAX_PARALLEL_SERVER_STARTS  = 8;
+    private static final int MAX_PARALLEL_SERVICE_STARTS = 8;
+
     private static RESTCallLogger restCallLogger = new RESTCallLogger(LoggerFactory.getLogger(OMAGServerOperationalServices.class),
                                                                       CommonServicesDescription.ADMIN_OPERATIONAL_SERVICES.getServiceName());
 
@@ -62,9 +77,11 @@ public class OMAGServerOperationalServices
 
     /**
      * Activate the list of open metadata and governance servers using the stored configuration information.
-     * The code works through the list, starting each server in turn.  It stops if one of the servers fails to
-     * start and returns the error.  Otherwise it continues through the list, returning the successful
-     * start up messages.
+     * Servers that do not depend on one another are started in parallel.  A server that names another server from
+     * earlier in the list as its partner (for example, the metadata server called by a view service or an integration
+     * service) waits for that server to finish starting.  Once a server fails to start, the servers that have not
+     * yet begun their start up are skipped.  The error from the first failing server in the list is returned.
+     * Otherwise the successful start up messages are returned in the order of the list.
      *
      * @param userId  user that is issuing the request
      * @param serverNames  list of server names
@@ -83,15 +100,32 @@ public class OMAGServerOperationalServices
 
         if (serverNames != null)
         {
+            List<String> serverList = new ArrayList<>();
+
             for (String serverName : serverNames)
             {
                 if (serverName != null)
                 {
-                    response = activateWithStoredConfig(userId, serverName.trim());
+                    serverList.add(serverName.trim());
+                }
+            }
+
+            List<SuccessMessageResponse> serverResponses = this.activateServersInParallel(userId, serverList);
+
+            for (int i = 0; i < serverList.size(); i++)
+            {
+                SuccessMessageResponse serverResponse = serverResponses.get(i);
+
+                /*
+                 * A null response means the server was skipped because another server failed to start.
+                 */
+                if (serverResponse != null)
+                {
+                    response = serverResponse;
 
                     if (response.getRelatedHTTPCode() == 200)
                     {
-                        String serverStartUpMessage = "OMAG Server '" + serverName + "' successful start , with message: " +
+                        String serverStartUpMessage = "OMAG Server '" + serverList.get(i) + "' successful start , with message: " +
                                 response.getSuccessMessage() + System.lineSeparator();
                         if (startUpMessage == null)
                         {
@@ -123,6 +157,162 @@ public class OMAGServerOperationalServices
     }
 
 
+    /**
+     * Start each server in the list on a thread pool.  The start up of a server is scheduled once the servers
+     * from earlier in the list that it depends on have finished starting.  Only earlier servers are considered
+     * so that the list order used by the serial start up is still honoured and there can be no cycles.
+     *
+     * @param userId  user that is issuing the request
+     * @param serverList  list of trimmed server names
+     * @return list of responses in the same order as the server list; null entries are servers that were skipped
+     */
+    private List<SuccessMessageResponse> activateServersInParallel(String       userId,
+                                                                  List<String> serverList)
+    {
+        List<SuccessMessageResponse> serverResponses = new ArrayList<>();
+
+        if (serverList.isEmpty())
+        {
+            return serverResponses;
+        }
+
+        ExecutorService executor      = Executors.newFixedThreadPool(Math.min(serverList.size(), MAX_PARALLEL_SERVER_STARTS));
+        AtomicBoolean   startUpFailed = new AtomicBoolean(false);
+
+        List<CompletableFuture<SuccessMessageResponse>> serverStartUps = new ArrayList<>();
+
+        try
+        {
+            for (int i = 0; i < serverList.size(); i++)
+            {
+                String                                          serverName     = serverList.get(i);
+                Set<String>                                     partnerServers = this.getPartnerServerNames(userId, serverName);
+                List<CompletableFuture<SuccessMessageResponse>> dependencies   = new ArrayList<>();
+
+                for (int j = 0; j < i; j++)
+                {
+                    if (partnerServers.contains(serverList.get(j)))
+                    {
+                        dependencies.add(serverStartUps.get(j));
+                    }
+                }
+
+                CompletableFuture<SuccessMessageResponse> serverStartUp =
+                        CompletableFuture.allOf(dependencies.toArray(new CompletableFuture[0])).thenApplyAsync((ignore) ->
+                        {
+                            if (startUpFailed.get())
+                            {
+                                return null;
+                            }
+
+                            SuccessMessageResponse serverResponse = activateWithStoredConfig(userId, serverName);
+
+                            if (serverResponse.getRelatedHTTPCode() != 200)
+                            {
+                                startUpFailed.set(true);
+                            }
+
+                            return serverResponse;
+                        }, executor);
+
+                serverStartUps.add(serverStartUp);
+            }
+
+            for (CompletableFuture<SuccessMessageResponse> serverStartUp : serverStartUps)
+            {
+                serverResponses.add(serverStartUp.join());
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+
+        return serverResponses;
+    }
+
+
+    /**
+     * Return the names of the servers that are called by the services configured for the requested server.
+     * These are the servers that need to be running before this server starts.  Any problem reading the
+     * configuration is reported when the server is activated so it is ignored here.
+     *
+     * @param userId  user that is issuing the request
+     * @param serverName  server to check
+     * @return set of server names (may be empty)
+     */
+    private Set<String> getPartnerServerNames(String userId,
+                                              String serverName)
+    {
+        final String methodName = "getPartnerServerNames";
+
+        Set<String> partnerServers = new HashSet<>();
+
+        try
+        {
+            OMAGServerConfig configuration = configStore.getServerConfig(userId, serverName, methodName);
+
+            if (configuration != null)
+            {
+                List<OMAGServerClientConfig> clientConfigs = new ArrayList<>();
+
+                if (configuration.getViewServicesConfig() != null)
+                {
+                    clientConfigs.addAll(configuration.getViewServicesConfig());
+                }
+
+                if (configuration.getIntegrationServicesConfig() != null)
+                {
+                    clientConfigs.addAll(configuration.getIntegrationServicesConfig());
+                }
+
+                EngineHostServicesConfig engineHostServicesConfig = configuration.getEngineHostServicesConfig();
+
+                if (engineHostServicesConfig != null)
+                {
+                    clientConfigs.add(engineHostServicesConfig);
+
+                    if (engineHostServicesConfig.getEngineServiceConfigs() != null)
+                    {
+                        clientConfigs.addAll(engineHostServicesConfig.getEngineServiceConfigs());
+                    }
+                }
+
+                for (OMAGServerClientConfig clientConfig : clientConfigs)
+                {
+                    if ((clientConfig != null) && (clientConfig.getOMAGServerName() != null))
+                    {
+                        partnerServers.add(clientConfig.getOMAGServerName());
+                    }
+                }
+
+                if ((configuration.getOpenLineageServerConfig() != null) &&
+                    (configuration.getOpenLineageServerConfig().getAccessServiceConfig() != null) &&
+                    (configuration.getOpenLineageServerConfig().getAccessServiceConfig().getServerName() != null))
+                {
+                    partnerServers.add(configuration.getOpenLineageServerConfig().getAccessServiceConfig().getServerName());
+                }
+
+                if ((configuration.getDataEngineProxyConfig() != null) &&
+                    (configuration.getDataEngineProxyConfig().getAccessServiceServerName() != null))
+                {
+                    partnerServers.add(configuration.getDataEngineProxyConfig().getAccessServiceServerName());
+                }
+            }
+        }
+        catch (Exception error)
+        {
+            /*
+             * The server has no dependencies - the error is returned when it is activated.
+             */
+        }
+
+        partnerServers.remove(serverName);
+
+        return partnerServers;
+    }
+
+
     /**
      * Activate the open metadata and governance services using the stored configuration information.
      *
@@ -183,14 +373,24 @@ public class OMAGServerOperationalServices
                                                              String           serverName,
                                                              OMAGServerConfig configuration)
     {
-        final String methodName        = "activateWithSuppliedConfig";
-        final String actionDescription = "Initialize OMAG Server subsystems";
+        final String methodName              = "activateWithSuppliedConfig";
+        final String actionDescription       = "Initialize OMAG Server subsystems";
+        final String repositoryServicesPhase = "repository services";
+        final String accessServicesPhase     = "access services";
+        final String conformanceSuitePhase   = "conformance suite services";
+        final String enterpriseTopicPhase    = "enterprise topic";
+        final String serverSecurityPhase     = "repository services REST API and server security";
+        final String viewServicesPhase       = "view services";
+        final String governanceServicesPhase = "governance services";
+        final String serverPhase             = "complete server";
 
         RESTCallToken token = restCallLogger.logRESTCall(serverName, userId, methodName);
 
         List<String>                    activatedServiceList = new ArrayList<>();
         OMAGOperationalServicesInstance instance             = null;
         SuccessMessageResponse          response             = new SuccessMessageResponse();
+        long                            serverStartTime      = System.currentTimeMillis();
+        long                            phaseStartTime;
 
         try
         {
@@ -331,6 +531,8 @@ public class OMAGServerOperationalServices
                  */
                 operationalRepositoryServices.setSecurityVerifier(securityVerifier);
 
+                phaseStartTime = this.logStartUpPhase(auditLog, repositoryServicesPhase, serverName, serverStartTime);
+
                 /*
                  * Next initialize the Open Connector Framework (OCF) metadata services.  These services are only initialized
                  * if the enterprise repository services are enabled.  They support requests for metadata from connectors running
@@ -381,6 +583,8 @@ public class OMAGServerOperationalServices
                                          activatedServiceList,
                                          auditLog);
 
+                phaseStartTime = this.logStartUpPhase(auditLog, accessServicesPhase, serverName, phaseStartTime);
+
                 /*
                  * Initialize the Open Metadata Conformance Suite Services.  This runs the Open Metadata TestLabs that are
                  * part of the ODPi Egeria Conformance Program.
@@ -403,6 +607,8 @@ public class OMAGServerOperationalServices
                                                                            GovernanceServicesDescription.CONFORMANCE_SUITE_SERVICES.getServiceWiki()));
 
                     activatedServiceList.add(GovernanceServicesDescription.CONFORMANCE_SUITE_SERVICES.getServiceName());
+
+                    phaseStartTime = this.logStartUpPhase(auditLog, conformanceSuitePhase, serverName, phaseStartTime);
                 }
 
                 /*
@@ -423,6 +629,8 @@ public class OMAGServerOperationalServices
                                                                   this.getClass().getName(),
                                                                   methodName);
                     }
+
+                    this.logStartUpPhase(auditLog, enterpriseTopicPhase, serverName, phaseStartTime);
                 }
             }
 
@@ -445,6 +653,7 @@ public class OMAGServerOperationalServices
                                                                   CommonServicesDescription.OPEN_METADATA_SECURITY.getServiceWiki()),
                                                           configuration.getServerSecurityConnection());
 
+                phaseStartTime = this.logStartUpPhase(auditLog, serverSecurityPhase, serverName, serverStartTime);
 
                 /*
                  * Set up the view services that are the speciality of the view server.
@@ -457,6 +666,8 @@ public class OMAGServerOperationalServices
                                        activatedServiceList,
                                        configuration.getMaxPageSize(),
                                        auditLog);
+
+                this.logStartUpPhase(auditLog, viewServicesPhase, serverName, phaseStartTime);
             }
             else /* governance servers */
             {
@@ -482,6 +693,7 @@ public class OMAGServerOperationalServices
                                                                   CommonServicesDescription.OPEN_METADATA_SECURITY.getServiceWiki()),
                                                           configuration.getServerSecurityConnection());
 
+                phaseStartTime = this.logStartUpPhase(auditLog, serverSecurityPhase, serverName, serverStartTime);
 
                 /*
                  * Start up the governance services subsystem.   Each type of governance server has its own type of governance services
@@ -503,6 +715,8 @@ public class OMAGServerOperationalServices
                     auditLog.logMessage(actionDescription,
                                         OMAGAdminAuditCode.GOVERNANCE_SERVICES_STARTED.getMessageDefinition(serverTypeClassifier.getServerType().getServerTypeName(),
                                                                                                             serverName));
+
+                    this.logStartUpPhase(auditLog, governanceServicesPhase, serverName, phaseStartTime);
                 }
                 catch (OMAGConfigurationErrorException  error)
                 {
@@ -543,6 +757,8 @@ public class OMAGServerOperationalServices
                                 OMAGAdminAuditCode.SERVER_STARTUP_SUCCESS.getMessageDefinition(serverName,
                                                                                                activatedServiceList.toString()));
 
+            this.logStartUpPhase(auditLog, serverPhase, serverName, serverStartTime);
+
             response.setSuccessMessage(successMessage);
         }
         catch (UserNotAuthorizedException error)
@@ -620,7 +836,37 @@ public class OMAGServerOperationalServices
 
 
     /**
-     * Start up the access services.
+     * Log the time taken by a phase of the server's start up.
+     *
+     * @param auditLog logging destination
+     * @param phaseName name of the phase that has completed
+     * @param serverName name of the server
+     * @param phaseStartTime time that the phase started (in milliseconds)
+     * @return current time - this is the start time of the next phase
+     */
+    private long logStartUpPhase(OMRSAuditLog auditLog,
+                                 String       phaseName,
+                                 String       serverName,
+                                 long         phaseStartTime)
+    {
+        final String actionDescription = "Time server start up";
+
+        long currentTime = System.currentTimeMillis();
+
+        auditLog.logMessage(actionDescription,
+                            OMAGAdminAuditCode.SERVER_STARTUP_PHASE_COMPLETE.getMessageDefinition(phaseName,
+                                                                                                  serverName,
+                                                                                                  Long.toString(currentTime - phaseStartTime)));
+
+        return currentTime;
+    }
+
+
+    /**
+     * Start up the access services.  The enabled access services are started in parallel.  If any of them fail,
+     * the error from the first failing access service in the configuration is thrown once all of them have
+     * completed their start up.  The access services that started are saved in the instance so they are shutdown
+     * during the clean up of the server.
      *
      * @param instance server instance
      * @param accessServiceConfigList configured access services
@@ -631,7 +877,6 @@ public class OMAGServerOperationalServices
      * @param activatedServiceList list of services (subsystems) running in the server
      * @throws OMAGConfigurationErrorException problem with the configuration
      */
-    @SuppressWarnings(value = "deprecation")
     private void initializeAccessServices(OMAGOperationalServicesInstance instance,
                                           List<AccessServiceConfig>       accessServiceConfigList,
                                           OMRSOperationalServices         operationalRepositoryServices,
@@ -653,7 +898,9 @@ public class OMAGServerOperationalServices
              * Need to count the access services because of the possibility of deprecated or disabled access services in the list.
              */
             int  configuredAccessServiceCount = 0;
-            int  enabledAccessServiceCount = 0;
+
+            List<AccessServiceConfig>          enabledAccessServiceConfigs = new ArrayList<>();
+            List<Callable<AccessServiceAdmin>> accessServiceStartUps       = new ArrayList<>();
 
             for (AccessServiceConfig  accessServiceConfig : accessServiceConfigList)
             {
@@ -668,59 +915,13 @@ public class OMAGServerOperationalServices
 
                     if (ServiceOperationalStatus.ENABLED.equals(accessServiceConfig.getAccessServiceOperationalStatus()))
                     {
-                        enabledAccessServiceCount ++;
-
-                        try
-                        {
-                            AccessServiceAdmin accessServiceAdmin = this.getAccessServiceAdminClass(accessServiceConfig, auditLog, serverName);
-
-                            /*
-                             * Each access service has its own audit log instance.
-                             */
-                            OMRSAuditLog accessServicesAuditLog
-                                    = operationalRepositoryServices.getAuditLog(accessServiceConfig.getAccessServiceId(),
-                                                                                accessServiceConfig.getAccessServiceFullName(),
-                                                                                accessServiceConfig.getAccessServiceDescription(),
-                                                                                accessServiceConfig.getAccessServiceWiki());
-
-                            /*
-                             * We will switch to the new version of this method once all access services have move from using OMRSAuditLog to
-                             * AuditLog.  The default implementation of this method delegates to the new version of the method so
-                             */
-                            accessServiceAdmin.initialize(accessServiceConfig,
-                                                          enterpriseTopicConnector,
-                                                          operationalRepositoryServices.getEnterpriseOMRSRepositoryConnector(accessServiceConfig.getAccessServiceFullName()),
-                                                          accessServicesAuditLog,
-                                                          localServerUserId);
-                            operationalAccessServiceAdminList.add(accessServiceAdmin);
-                            activatedServiceList.add(accessServiceConfig.getAccessServiceFullName());
-
-                        }
-                        catch (OMAGConfigurationErrorException error)
-                        {
-                            auditLog.logException(methodName,
-                                                  OMAGAdminAuditCode.ACCESS_SERVICE_INSTANCE_FAILURE.getMessageDefinition(accessServiceConfig.getAccessServiceName(),
-                                                                                                                          error.getMessage()),
-                                                  accessServiceConfig.toString(),
-                                                  error);
-                            throw error;
-                        }
-                        catch (Exception error)
-                        {
-                            auditLog.logException(methodName,
-                                                  OMAGAdminAuditCode.ACCESS_SERVICE_INSTANCE_FAILURE.getMessageDefinition(error.getMessage(),
-                                                                                                                          accessServiceConfig.getAccessServiceName(),
-                                                                                                                          error.getMessage()),
-                                                  accessServiceConfig.toString(),
-                                                  error);
-
-                            throw new OMAGConfigurationErrorException(OMAGAdminErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
-                                                                                                                                                  accessServiceConfig.getAccessServiceName(),
-                                                                                                                                                  error.getMessage()),
-                                                                      this.getClass().getName(),
-                                                                      methodName,
-                                                                      error);
-                        }
+                        enabledAccessServiceConfigs.add(accessServiceConfig);
+                        accessServiceStartUps.add(() -> this.initializeAccessService(accessServiceConfig,
+                                                                                     operationalRepositoryServices,
+                                                                                     enterpriseTopicConnector,
+                                                                                     localServerUserId,
+                                                                                     serverName,
+                                                                                     auditLog));
                     }
                     else
                     {
@@ -731,8 +932,26 @@ public class OMAGServerOperationalServices
                 }
             }
 
+            List<AccessServiceAdmin> startedAccessServices = new ArrayList<>();
+
+            try
+            {
+                this.startServicesInParallel(accessServiceStartUps, startedAccessServices, serverName, methodName);
+            }
+            finally
+            {
+                for (int i = 0; i < startedAccessServices.size(); i++)
+                {
+                    if (startedAccessServices.get(i) != null)
+                    {
+                        operationalAccessServiceAdminList.add(startedAccessServices.get(i));
+                        activatedServiceList.add(enabledAccessServiceConfigs.get(i).getAccessServiceFullName());
+                    }
+                }
+            }
+
             auditLog.logMessage(actionDescription,
-                                OMAGAdminAuditCode.ALL_ACCESS_SERVICES_STARTED.getMessageDefinition(Integer.toString(enabledAccessServiceCount),
+                                OMAGAdminAuditCode.ALL_ACCESS_SERVICES_STARTED.getMessageDefinition(Integer.toString(enabledAccessServiceConfigs.size()),
                                                                                                     Integer.toString(configuredAccessServiceCount)));
         }
 
@@ -744,9 +963,94 @@ public class OMAGServerOperationalServices
     }
 
 
+    /**
+     * Start up a single access service.  This method is called on one of the threads used to start the
+     * access services in parallel.
+     *
+     * @param accessServiceConfig configuration for the access service
+     * @param operationalRepositoryServices repository services
+     * @param enterpriseTopicConnector events from the cohort
+     * @param localServerUserId servers userId
+     * @param serverName server name
+     * @param auditLog audit log for the admin services
+     * @return admin object for the running access service
+     * @throws OMAGConfigurationErrorException problem with the configuration
+     */
+    @SuppressWarnings(value = "deprecation")
+    private AccessServiceAdmin initializeAccessService(AccessServiceConfig     accessServiceConfig,
+                                                       OMRSOperationalServices operationalRepositoryServices,
+                                                       OMRSTopicConnector      enterpriseTopicConnector,
+                                                       String                  localServerUserId,
+                                                       String                  serverName,
+                                                       OMRSAuditLog            auditLog) throws OMAGConfigurationErrorException
+    {
+        final String methodName = "initializeAccessService";
+        final String actionDescription = "Initialize Access Service";
+
+        long startTime = System.currentTimeMillis();
+
+        try
+        {
+            AccessServiceAdmin accessServiceAdmin = this.getAccessServiceAdminClass(accessServiceConfig, auditLog, serverName);
+
+            /*
+             * Each access service has its own audit log instance.
+             */
+            OMRSAuditLog accessServicesAuditLog
+                    = operationalRepositoryServices.getAuditLog(accessServiceConfig.getAccessServiceId(),
+                                                                accessServiceConfig.getAccessServiceFullName(),
+                                                                accessServiceConfig.getAccessServiceDescription(),
+                                                                accessServiceConfig.getAccessServiceWiki());
+
+            /*
+             * We will switch to the new version of this method once all access services have move from using OMRSAuditLog to
+             * AuditLog.  The default implementation of this method delegates to the new version of the method so
+             */
+            accessServiceAdmin.initialize(accessServiceConfig,
+                                          enterpriseTopicConnector,
+                                          operationalRepositoryServices.getEnterpriseOMRSRepositoryConnector(accessServiceConfig.getAccessServiceFullName()),
+                                          accessServicesAuditLog,
+                                          localServerUserId);
+
+            auditLog.logMessage(actionDescription,
+                                OMAGAdminAuditCode.SERVICE_STARTUP_COMPLETE.getMessageDefinition(accessServiceConfig.getAccessServiceFullName(),
+                                                                                                 serverName,
+                                                                                                 Long.toString(System.currentTimeMillis() - startTime)));
+            return accessServiceAdmin;
+        }
+        catch (OMAGConfigurationErrorException error)
+        {
+            auditLog.logException(methodName,
+                                  OMAGAdminAuditCode.ACCESS_SERVICE_INSTANCE_FAILURE.getMessageDefinition(accessServiceConfig.getAccessServiceName(),
+                                                                                                          error.getMessage()),
+                                  accessServiceConfig.toString(),
+                                  error);
+            throw error;
+        }
+        catch (Exception error)
+        {
+            auditLog.logException(methodName,
+                                  OMAGAdminAuditCode.ACCESS_SERVICE_INSTANCE_FAILURE.getMessageDefinition(error.getMessage(),
+                                                                                                          accessServiceConfig.getAccessServiceName(),
+                                                                                                          error.getMessage()),
+                                  accessServiceConfig.toString(),
+                                  error);
+
+            throw new OMAGConfigurationErrorException(OMAGAdminErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
+                                                                                                                                  accessServiceConfig.getAccessServiceName(),
+                                                                                                                                  error.getMessage()),
+                                                      this.getClass().getName(),
+                                                      methodName,
+                                                      error);
+        }
+    }
+
+
 
     /**
-     * Start up the view services.
+     * Start up the view services.  The enabled view services are started in parallel.  If any of them fail,
+     * the error from the first failing view service in the configuration is thrown once all of them have
+     * completed their start up.
      *
      * @param instance                      server instance
      * @param viewServiceConfigList         configured view services
@@ -779,7 +1083,9 @@ public class OMAGServerOperationalServices
              * Need to count the view services because of the possibility of deprecated or disabled view services in the list.
              */
             int configuredViewServiceCount = 0;
-            int enabledViewServiceCount = 0;
+
+            List<ViewServiceConfig>          enabledViewServiceConfigs = new ArrayList<>();
+            List<Callable<ViewServiceAdmin>> viewServiceStartUps       = new ArrayList<>();
 
             for (ViewServiceConfig viewServiceConfig : viewServiceConfigList)
             {
@@ -787,55 +1093,13 @@ public class OMAGServerOperationalServices
 
                 if (ServiceOperationalStatus.ENABLED.equals(viewServiceConfig.getViewServiceOperationalStatus()))
                 {
-                    enabledViewServiceCount++;
-
-                    try
-                    {
-                        ViewServiceAdmin viewServiceAdmin = this.getViewServiceAdminClass(viewServiceConfig, auditLog, serverName);
-
-                        /*
-                         * Each view service has its own audit log instance.
-                         */
-                        OMRSAuditLog viewServicesAuditLog
-                                = operationalRepositoryServices.getAuditLog(viewServiceConfig.getViewServiceId(),
-                                                                            viewServiceConfig.getViewServiceFullName(),
-                                                                            viewServiceConfig.getViewServiceDescription(),
-                                                                            viewServiceConfig.getViewServiceWiki());
-
-                        viewServiceAdmin.initialize(serverName,
-                                                    viewServiceConfig,
-                                                    viewServicesAuditLog,
-                                                    localServerUserId,
-                                                    maxPageSize);
-                        operationalViewServiceAdminList.add(viewServiceAdmin);
-                        activatedServiceList.add(viewServiceConfig.getViewServiceFullName());
-
-                    }
-                    catch (OMAGConfigurationErrorException error)
-                    {
-                        auditLog.logException(methodName,
-                                              OMAGAdminAuditCode.VIEW_SERVICE_INSTANCE_FAILURE.getMessageDefinition(viewServiceConfig.getViewServiceName(),
-                                                                                                                    error.getMessage()),
-                                              viewServiceConfig.toString(),
-                                              error);
-                        throw error;
-                    }
-                    catch (Exception error)
-                    {
-                        auditLog.logException(methodName,
-                                              OMAGAdminAuditCode.VIEW_SERVICE_INSTANCE_FAILURE.getMessageDefinition(error.getMessage(),
-                                                                                                                    viewServiceConfig.getViewServiceName(),
-                                                                                                                    error.getMessage()),
-                                              viewServiceConfig.toString(),
-                                              error);
-
-                        throw new OMAGConfigurationErrorException(OMAGAdminErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
-                                                                                                                                              viewServiceConfig.getViewServiceName(),
-                                                                                                                                              error.getMessage()),
-                                                                  this.getClass().getName(),
-                                                                  methodName,
-                                                                  error);
-                    }
+                    enabledViewServiceConfigs.add(viewServiceConfig);
+                    viewServiceStartUps.add(() -> this.initializeViewService(viewServiceConfig,
+                                                                             operationalRepositoryServices,
+                                                                             localServerUserId,
+                                                                             serverName,
+                                                                             maxPageSize,
+                                                                             auditLog));
                 }
                 else
                 {
@@ -846,8 +1110,26 @@ public class OMAGServerOperationalServices
 
             }
 
+            List<ViewServiceAdmin> startedViewServices = new ArrayList<>();
+
+            try
+            {
+                this.startServicesInParallel(viewServiceStartUps, startedViewServices, serverName, methodName);
+            }
+            finally
+            {
+                for (int i = 0; i < startedViewServices.size(); i++)
+                {
+                    if (startedViewServices.get(i) != null)
+                    {
+                        operationalViewServiceAdminList.add(startedViewServices.get(i));
+                        activatedServiceList.add(enabledViewServiceConfigs.get(i).getViewServiceFullName());
+                    }
+                }
+            }
+
             auditLog.logMessage(actionDescription,
-                                OMAGAdminAuditCode.ALL_VIEW_SERVICES_STARTED.getMessageDefinition(Integer.toString(enabledViewServiceCount),
+                                OMAGAdminAuditCode.ALL_VIEW_SERVICES_STARTED.getMessageDefinition(Integer.toString(enabledViewServiceConfigs.size()),
                                                                                                   Integer.toString(configuredViewServiceCount)));
         }
 
@@ -859,6 +1141,166 @@ public class OMAGServerOperationalServices
     }
 
 
+    /**
+     * Start up a single view service.  This method is called on one of the threads used to start the
+     * view services in parallel.
+     *
+     * @param viewServiceConfig             configuration for the view service
+     * @param operationalRepositoryServices repository services
+     * @param localServerUserId             servers userId
+     * @param serverName                    server name
+     * @param maxPageSize                   maximum page size. 0 means unlimited
+     * @param auditLog                      audit log for the admin services
+     * @return admin object for the running view service
+     * @throws OMAGConfigurationErrorException problem with the configuration
+     */
+    private ViewServiceAdmin initializeViewService(ViewServiceConfig       viewServiceConfig,
+                                                   OMRSOperationalServices operationalRepositoryServices,
+                                                   String                  localServerUserId,
+                                                   String                  serverName,
+                                                   int                     maxPageSize,
+                                                   OMRSAuditLog            auditLog) throws OMAGConfigurationErrorException
+    {
+        final String methodName = "initializeViewService";
+        final String actionDescription = "Initialize View Service";
+
+        long startTime = System.currentTimeMillis();
+
+        try
+        {
+            ViewServiceAdmin viewServiceAdmin = this.getViewServiceAdminClass(viewServiceConfig, auditLog, serverName);
+
+            /*
+             * Each view service has its own audit log instance.
+             */
+            OMRSAuditLog viewServicesAuditLog
+                    = operationalRepositoryServices.getAuditLog(viewServiceConfig.getViewServiceId(),
+                                                                viewServiceConfig.getViewServiceFullName(),
+                                                                viewServiceConfig.getViewServiceDescription(),
+                                                                viewServiceConfig.getViewServiceWiki());
+
+            viewServiceAdmin.initialize(serverName,
+                                        viewServiceConfig,
+                                        viewServicesAuditLog,
+                                        localServerUserId,
+                                        maxPageSize);
+
+            auditLog.logMessage(actionDescription,
+                                OMAGAdminAuditCode.SERVICE_STARTUP_COMPLETE.getMessageDefinition(viewServiceConfig.getViewServiceFullName(),
+                                                                                                 serverName,
+                                                                                                 Long.toString(System.currentTimeMillis() - startTime)));
+            return viewServiceAdmin;
+        }
+        catch (OMAGConfigurationErrorException error)
+        {
+            auditLog.logException(methodName,
+                                  OMAGAdminAuditCode.VIEW_SERVICE_INSTANCE_FAILURE.getMessageDefinition(viewServiceConfig.getViewServiceName(),
+                                                                                                        error.getMessage()),
+                                  viewServiceConfig.toString(),
+                                  error);
+            throw error;
+        }
+        catch (Exception error)
+        {
+            auditLog.logException(methodName,
+                                  OMAGAdminAuditCode.VIEW_SERVICE_INSTANCE_FAILURE.getMessageDefinition(error.getMessage(),
+                                                                                                        viewServiceConfig.getViewServiceName(),
+                                                                                                        error.getMessage()),
+                                  viewServiceConfig.toString(),
+                                  error);
+
+            throw new OMAGConfigurationErrorException(OMAGAdminErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
+                                                                                                                                  viewServiceConfig.getViewServiceName(),
+                                                                                                                                  error.getMessage()),
+                                                      this.getClass().getName(),
+                                                      methodName,
+                                                      error);
+        }
+    }
+
+
+    /**
+     * Run the start up of a list of services on a thread pool and wait for them all to complete.  The started
+     * services are added to the supplied list in the same order as the start up tasks, with null for each
+     * service that failed.  This list is filled in before any error is thrown so that the caller can record
+     * the services that need to be shutdown.
+     *
+     * @param serviceStartUps start up task for each service
+     * @param startedServices list to receive the admin object of each service
+     * @param serverName server name
+     * @param methodName calling method
+     * @param <T> type of the admin object
+     * @throws OMAGConfigurationErrorException the first error from the services, in the order of the tasks
+     */
+    <T> void startServicesInParallel(List<Callable<T>> serviceStartUps,
+                                     List<T>           startedServices,
+                                     String            serverName,
+                                     String            methodName) throws OMAGConfigurationErrorException
+    {
+        if (serviceStartUps.isEmpty())
+        {
+            return;
+        }
+
+        OMAGConfigurationErrorException firstError = null;
+        ExecutorService                 executor   = Executors.newFixedThreadPool(Math.min(serviceStartUps.size(), MAX_PARALLEL_SERVICE_STARTS));
+
+        try
+        {
+            List<Future<T>> serviceFutures = executor.invokeAll(serviceStartUps);
+
+            for (Future<T> serviceFuture : serviceFutures)
+            {
+                try
+                {
+                    startedServices.add(serviceFuture.get());
+                }
+                catch (ExecutionException error)
+                {
+                    startedServices.add(null);
+
+                    if (firstError == null)
+                    {
+                        if (error.getCause() instanceof OMAGConfigurationErrorException)
+                        {
+                            firstError = (OMAGConfigurationErrorException) error.getCause();
+                        }
+                        else
+                        {
+                            firstError = new OMAGConfigurationErrorException(OMAGAdminErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
+                                                                                                                                                         error.getCause().getClass().getName(),
+                                                                                                                                                         error.getCause().getMessage()),
+                                                                             this.getClass().getName(),
+                                                                             methodName,
+                                                                             error.getCause());
+                        }
+                    }
+                }
+            }
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new OMAGConfigurationErrorException(OMAGAdminErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
+                                                                                                                                  error.getClass().getName(),
+                                                                                                                                  error.getMessage()),
+                                                      this.getClass().getName(),
+                                                      methodName,
+                                                      error);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+
+        if (firstError != null)
+        {
+            throw firstError;
+        }
+    }
+
+
     /**
      * Create an instance of the access service's admin class from the class name in the configuration.
      *
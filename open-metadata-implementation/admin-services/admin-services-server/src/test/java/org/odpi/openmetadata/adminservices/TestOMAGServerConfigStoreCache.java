@@ -0,0 +1,154 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices;
+
+import org.junit.jupiter.api.Test;
+import org.odpi.openmetadata.adminservices.configuration.properties.OMAGServerConfig;
+import org.odpi.openmetadata.adminservices.store.OMAGServerConfigStoreLastModified;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Verify that the OMAGServerConfigStoreCache reuses parsed configuration documents while the store is
+ * unchanged and writes each save to the store.
+ */
+public class TestOMAGServerConfigStoreCache
+{
+    private static final String serverName = "TestServer";
+
+    /**
+     * Configuration document store that keeps the document in memory and counts the calls to it.
+     */
+    private static class TestConfigStore implements OMAGServerConfigStoreLastModified
+    {
+        private OMAGServerConfig storedConfig = null;
+        private long             lastModified = 0;
+        private int              readCount    = 0;
+        private int              writeCount   = 0;
+        private boolean          failWrites   = false;
+
+        @Override
+        public void setServerName(String serverName)
+        {
+        }
+
+        @Override
+        public synchronized void saveServerConfig(OMAGServerConfig configuration)
+        {
+            if (failWrites)
+            {
+                throw new IllegalStateException("Store is not writable");
+            }
+
+            storedConfig = configuration;
+            lastModified++;
+            writeCount++;
+        }
+
+        @Override
+        public synchronized OMAGServerConfig retrieveServerConfig()
+        {
+            readCount++;
+            return storedConfig;
+        }
+
+        @Override
+        public synchronized void removeServerConfig()
+        {
+            storedConfig = null;
+            lastModified = 0;
+        }
+
+        @Override
+        public synchronized long getServerConfigLastModified()
+        {
+            return lastModified;
+        }
+
+        synchronized void changeOutsidePlatform(OMAGServerConfig configuration)
+        {
+            storedConfig = configuration;
+            lastModified++;
+        }
+    }
+
+
+    /**
+     * Create a configuration document.
+     *
+     * @param serverType value to set as the server type
+     * @return configuration document
+     */
+    private OMAGServerConfig getServerConfig(String serverType)
+    {
+        OMAGServerConfig serverConfig = new OMAGServerConfig();
+
+        serverConfig.setLocalServerName(serverName);
+        serverConfig.setLocalServerType(serverType);
+
+        return serverConfig;
+    }
+
+
+    /**
+     * Validate that the document is read from the store once while it is unchanged and that callers
+     * receive their own copy.
+     */
+    @Test
+    public void testRetrieveFromCache()
+    {
+        OMAGServerConfigStoreCache cache = new OMAGServerConfigStoreCache();
+        TestConfigStore            store = new TestConfigStore();
+
+        assertNull(cache.retrieveServerConfig(serverName, store));
+
+        cache.saveServerConfig(serverName, store, getServerConfig("Type1"));
+        assertEquals(1, store.writeCount);
+
+        OMAGServerConfig first = cache.retrieveServerConfig(serverName, store);
+        first.setLocalServerType("Changed");
+
+        OMAGServerConfig second = cache.retrieveServerConfig(serverName, store);
+
+        assertNotSame(first, second);
+        assertEquals("Type1", second.getLocalServerType());
+        assertEquals(1, store.readCount);
+
+        store.changeOutsidePlatform(getServerConfig("Type2"));
+
+        assertEquals("Type2", cache.retrieveServerConfig(serverName, store).getLocalServerType());
+        assertEquals(2, store.readCount);
+
+        cache.removeServerConfig(serverName, store);
+        assertNull(cache.retrieveServerConfig(serverName, store));
+    }
+
+
+    /**
+     * Validate that each save is written to the store before it returns and that a failed write is
+     * returned to the caller without changing the cached document.
+     */
+    @Test
+    public void testFailedSave()
+    {
+        OMAGServerConfigStoreCache cache = new OMAGServerConfigStoreCache();
+        TestConfigStore            store = new TestConfigStore();
+
+        cache.saveServerConfig(serverName, store, getServerConfig("Type1"));
+        cache.saveServerConfig(serverName, store, getServerConfig("Type2"));
+
+        assertEquals(2, store.writeCount);
+        assertEquals("Type2", store.storedConfig.getLocalServerType());
+
+        store.failWrites = true;
+
+        assertThrows(IllegalStateException.class, () -> cache.saveServerConfig(serverName, store, getServerConfig("Type3")));
+
+        assertEquals(2, store.writeCount);
+        assertEquals("Type2", cache.retrieveServerConfig(serverName, store).getLocalServerType());
+        assertEquals(1, store.readCount);
+    }
+}
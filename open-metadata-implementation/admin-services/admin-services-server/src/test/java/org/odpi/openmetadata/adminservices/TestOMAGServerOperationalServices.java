@@ -0,0 +1,127 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.adminservices;
+
+import org.junit.jupiter.api.Test;
+import org.odpi.openmetadata.adminservices.ffdc.OMAGAdminErrorCode;
+import org.odpi.openmetadata.adminservices.ffdc.exception.OMAGConfigurationErrorException;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verify that OMAGServerOperationalServices starts the services of a server in parallel and reports the
+ * services that started when one of them fails.
+ */
+public class TestOMAGServerOperationalServices
+{
+    private static final String serverName = "TestServer";
+    private static final String methodName = "testMethod";
+
+
+    /**
+     * Validate that the services start at the same time and that their admin objects are returned in the
+     * order of the start up tasks.  Each service creates an audit log from the same parent.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testParallelStart() throws Exception
+    {
+        OMAGServerOperationalServices operationalServices = new OMAGServerOperationalServices();
+        AuditLog                      parentAuditLog      = new AuditLog(null, 0, "TestParent", "Test", null);
+        CyclicBarrier                 allStarted          = new CyclicBarrier(3);
+
+        List<Callable<String>> serviceStartUps = new ArrayList<>();
+        for (String serviceName : Arrays.asList("service1", "service2", "service3"))
+        {
+            serviceStartUps.add(() ->
+                                {
+                                    /*
+                                     * Each service waits for the others so this only completes if they run in parallel.
+                                     */
+                                    allStarted.await(10, TimeUnit.SECONDS);
+                                    parentAuditLog.createNewAuditLog(0, serviceName, "Test", null);
+                                    return serviceName;
+                                });
+        }
+
+        List<String> startedServices = new ArrayList<>();
+        operationalServices.startServicesInParallel(serviceStartUps, startedServices, serverName, methodName);
+
+        assertEquals(Arrays.asList("service1", "service2", "service3"), startedServices);
+        assertEquals(3, parentAuditLog.getReport().getChildAuditLogReports().size());
+    }
+
+
+    /**
+     * Validate that the first error, in the order of the start up tasks, is thrown once all the services have
+     * completed and that the services that started are recorded.
+     */
+    @Test
+    public void testFailedStart()
+    {
+        OMAGServerOperationalServices   operationalServices = new OMAGServerOperationalServices();
+        OMAGConfigurationErrorException configurationError  = new OMAGConfigurationErrorException(OMAGAdminErrorCode.UNEXPECTED_INITIALIZATION_EXCEPTION.getMessageDefinition(serverName,
+                                                                                                                                                                              "TestException",
+                                                                                                                                                                              "test"),
+                                                                                                  this.getClass().getName(),
+                                                                                                  methodName);
+
+        List<Callable<String>> serviceStartUps = new ArrayList<>();
+        serviceStartUps.add(() -> "service1");
+        serviceStartUps.add(() -> { throw configurationError; });
+        serviceStartUps.add(() -> { throw new IllegalStateException("service3"); });
+        serviceStartUps.add(() -> "service4");
+
+        List<String> startedServices = new ArrayList<>();
+
+        OMAGConfigurationErrorException error = assertThrows(OMAGConfigurationErrorException.class,
+                                                             () -> operationalServices.startServicesInParallel(serviceStartUps,
+                                                                                                               startedServices,
+                                                                                                               serverName,
+                                                                                                               methodName));
+
+        assertSame(configurationError, error);
+        assertEquals(4, startedServices.size());
+        assertEquals("service1", startedServices.get(0));
+        assertNull(startedServices.get(1));
+        assertNull(startedServices.get(2));
+        assertEquals("service4", startedServices.get(3));
+    }
+
+
+    /**
+     * Validate that an unexpected exception from a service is returned as a configuration error.
+     */
+    @Test
+    public void testUnexpectedException()
+    {
+        OMAGServerOperationalServices operationalServices = new OMAGServerOperationalServices();
+
+        List<Callable<String>> serviceStartUps = new ArrayList<>();
+        serviceStartUps.add(() -> { throw new IllegalStateException("service1"); });
+
+        List<String> startedServices = new ArrayList<>();
+
+        OMAGConfigurationErrorException error = assertThrows(OMAGConfigurationErrorException.class,
+                                                             () -> operationalServices.startServicesInParallel(serviceStartUps,
+                                                                                                               startedServices,
+                                                                                                               serverName,
+                                                                                                               methodName));
+
+        assertTrue(error.getCause() instanceof IllegalStateException);
+        assertNull(startedServices.get(0));
+    }
+}
@@ -6,6 +6,7 @@ import io.swagger.v3.oas.annotations.ExternalDocumentation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.odpi.openmetadata.adminservices.OMAGServerAdminServices;
 import org.odpi.openmetadata.adminservices.configuration.properties.OMAGServerConfig;
+import org.odpi.openmetadata.adminservices.rest.ConfigurationChangesRequestBody;
 import org.odpi.openmetadata.adminservices.rest.OMAGServerConfigResponse;
 import org.odpi.openmetadata.adminservices.rest.URLRequestBody;
 import org.odpi.openmetadata.commonservices.ffdc.rest.VoidResponse;
@@ -65,6 +66,26 @@ public class ConfigResource
     }
 
 
+    /**
+     * Apply a list of changes to the basic properties in the configuration document for an OMAG Server.  The
+     * document is saved once after all of the changes have been applied.
+     *
+     * @param userId  user that is issuing the request
+     * @param serverName  local server name
+     * @param requestBody  list of changes to the configuration document
+     * @return void response or
+     * OMAGNotAuthorizedException the supplied userId is not authorized to issue this command or
+     * OMAGInvalidParameterException invalid serverName or a change that sets an unsupported section or an invalid value.
+     */
+    @PostMapping(path = "/configuration/changes")
+    public VoidResponse applyConfigurationChanges(@PathVariable String                          userId,
+                                                  @PathVariable String                          serverName,
+                                                  @RequestBody  ConfigurationChangesRequestBody requestBody)
+    {
+        return adminAPI.applyConfigurationChanges(userId, serverName, requestBody);
+    }
+
+
     /**
      * Clear the configuration properties for an OMAG Server in a single command.
      *
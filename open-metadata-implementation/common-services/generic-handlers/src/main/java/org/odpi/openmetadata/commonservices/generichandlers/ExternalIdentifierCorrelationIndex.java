@@ -0,0 +1,217 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.generichandlers;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ExternalIdentifierCorrelationIndex remembers which ExternalId entity holds an identifier for a scope, and which
+ * ExternalIdLink relationships connect it to open metadata elements.  It allows the ExternalIdentifierHandler to
+ * retrieve these instances directly by their unique identifiers rather than searching for the identifier and
+ * navigating the relationships each time an integration connector synchronizes an element.
+ * <p>
+ * The index is populated as external identifiers are looked up and set up.  It is only a hint: the handler
+ * verifies each instance it retrieves through the index, including the ExternalId entity's link to the scope,
+ * and removes the entry if the instance has changed or gone.  This is why the index does not need to follow the
+ * changes made by other servers.  The least recently used entries are discarded once the index is full.  The
+ * identifiers that are not in the index, such as after a restart, are searched for a batch at a time.
+ * </p>
+ */
+public class ExternalIdentifierCorrelationIndex
+{
+    /**
+     * Default number of identifiers held in the index.
+     */
+    public static final int DEFAULT_INDEX_SIZE = 100000;
+
+    private final Map<String, Correlation> correlations;
+
+
+    /**
+     * Create an index holding up to the requested number of identifiers.
+     *
+     * @param indexSize maximum number of identifiers
+     */
+    public ExternalIdentifierCorrelationIndex(int indexSize)
+    {
+        this.correlations = new LinkedHashMap<String, Correlation>(16, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Correlation> eldest)
+            {
+                return size() > indexSize;
+            }
+        };
+    }
+
+
+    /**
+     * Return the unique identifier of the ExternalId entity for an identifier in a scope.
+     *
+     * @param scopeGUID unique identifier of the scope
+     * @param identifier identifier from the third party technology
+     * @return unique identifier or null if not known
+     */
+    public synchronized String getExternalIdGUID(String scopeGUID,
+                                                 String identifier)
+    {
+        Correlation correlation = correlations.get(getKey(scopeGUID, identifier));
+
+        if (correlation != null)
+        {
+            return correlation.externalIdGUID;
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the unique identifier of the ExternalIdLink relationship between an element and the ExternalId entity
+     * for an identifier in a scope.
+     *
+     * @param scopeGUID unique identifier of the scope
+     * @param identifier identifier from the third party technology
+     * @param elementGUID unique identifier of the open metadata element
+     * @return unique identifier or null if not known
+     */
+    public synchronized String getResourceLinkGUID(String scopeGUID,
+                                                   String identifier,
+                                                   String elementGUID)
+    {
+        Correlation correlation = correlations.get(getKey(scopeGUID, identifier));
+
+        if (correlation != null)
+        {
+            return correlation.resourceLinkGUIDs.get(elementGUID);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Record the ExternalId entity for an identifier in a scope.  If a different entity was recorded before,
+     * its resource links are forgotten.
+     *
+     * @param scopeGUID unique identifier of the scope
+     * @param identifier identifier from the third party technology
+     * @param externalIdGUID unique identifier of the ExternalId entity
+     */
+    public synchronized void putExternalIdGUID(String scopeGUID,
+                                               String identifier,
+                                               String externalIdGUID)
+    {
+        if ((scopeGUID != null) && (identifier != null) && (externalIdGUID != null))
+        {
+            String      key         = getKey(scopeGUID, identifier);
+            Correlation correlation = correlations.get(key);
+
+            if ((correlation == null) || (! externalIdGUID.equals(correlation.externalIdGUID)))
+            {
+                correlations.put(key, new Correlation(externalIdGUID));
+            }
+        }
+    }
+
+
+    /**
+     * Record the ExternalIdLink relationship between an element and the ExternalId entity for an identifier in
+     * a scope.  Nothing is recorded if the ExternalId entity is not in the index.
+     *
+     * @param scopeGUID unique identifier of the scope
+     * @param identifier identifier from the third party technology
+     * @param elementGUID unique identifier of the open metadata element
+     * @param resourceLinkGUID unique identifier of the ExternalIdLink relationship
+     */
+    public synchronized void putResourceLinkGUID(String scopeGUID,
+                                                 String identifier,
+                                                 String elementGUID,
+                                                 String resourceLinkGUID)
+    {
+        Correlation correlation = correlations.get(getKey(scopeGUID, identifier));
+
+        if ((correlation != null) && (elementGUID != null) && (resourceLinkGUID != null))
+        {
+            correlation.resourceLinkGUIDs.put(elementGUID, resourceLinkGUID);
+        }
+    }
+
+
+    /**
+     * Forget the ExternalId entity for an identifier in a scope along with its resource links.
+     *
+     * @param scopeGUID unique identifier of the scope
+     * @param identifier identifier from the third party technology
+     */
+    public synchronized void removeExternalIdGUID(String scopeGUID,
+                                                  String identifier)
+    {
+        correlations.remove(getKey(scopeGUID, identifier));
+    }
+
+
+    /**
+     * Forget the ExternalIdLink relationship between an element and the ExternalId entity for an identifier in
+     * a scope.
+     *
+     * @param scopeGUID unique identifier of the scope
+     * @param identifier identifier from the third party technology
+     * @param elementGUID unique identifier of the open metadata element
+     */
+    public synchronized void removeResourceLinkGUID(String scopeGUID,
+                                                    String identifier,
+                                                    String elementGUID)
+    {
+        Correlation correlation = correlations.get(getKey(scopeGUID, identifier));
+
+        if (correlation != null)
+        {
+            correlation.resourceLinkGUIDs.remove(elementGUID);
+        }
+    }
+
+
+    /**
+     * Return the number of identifiers in the index.
+     *
+     * @return count
+     */
+    public synchronized int size()
+    {
+        return correlations.size();
+    }
+
+
+    /**
+     * Return the index key for an identifier in a scope.  The scope GUID can not contain a newline.
+     *
+     * @param scopeGUID unique identifier of the scope
+     * @param identifier identifier from the third party technology
+     * @return key
+     */
+    private static String getKey(String scopeGUID,
+                                 String identifier)
+    {
+        return scopeGUID + "\n" + identifier;
+    }
+
+
+    /**
+     * The instances recorded for an identifier in a scope.
+     */
+    private static class Correlation
+    {
+        private final String              externalIdGUID;
+        private final Map<String, String> resourceLinkGUIDs = new HashMap<>();
+
+        Correlation(String externalIdGUID)
+        {
+            this.externalIdGUID = externalIdGUID;
+        }
+    }
+}
@@ -19,9 +19,15 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * ExternalIdentifierHandler manages ExternalIdentifier objects.  These entities represent the identifiers used for metadata
@@ -41,6 +47,14 @@ public class ExternalIdentifierHandler<EXTERNAL_ID, OPEN_METADATA_ELEMENT_HEADER
     private OpenMetadataAPIGenericConverter<OPEN_METADATA_ELEMENT_HEADER> elementConverter;
     private Class<OPEN_METADATA_ELEMENT_HEADER>                           elementBeanClass;
 
+    /**
+     * Maximum number of identifiers combined into one search for the ExternalId entities that are not in the
+     * correlation index.
+     */
+    private static final int identifierSearchBatchSize = 100;
+
+    private final ExternalIdentifierCorrelationIndex correlationIndex = new ExternalIdentifierCorrelationIndex(ExternalIdentifierCorrelationIndex.DEFAULT_INDEX_SIZE);
+
 
     /**
      * Construct the handler information needed to interact with the repository services
@@ -175,6 +189,7 @@ public class ExternalIdentifierHandler<EXTERNAL_ID, OPEN_METADATA_ELEMENT_HEADER
                                                       synchronizationDescription,
                                                       methodName);
 
+            correlationIndex.putExternalIdGUID(scopeGUID, identifier, externalIdGUID);
 
             auditLog.logMessage(methodName,
                                 GenericHandlersAuditCode.SETTING_UP_EXTERNAL_ID.getMessageDefinition(serviceName,
@@ -205,6 +220,8 @@ public class ExternalIdentifierHandler<EXTERNAL_ID, OPEN_METADATA_ELEMENT_HEADER
                                                                      elementGUIDParameterName,
                                                                      elementTypeName,
                                                                      externalIdGUID,
+                                                                     identifier,
+                                                                     scopeGUID,
                                                                      methodName);
 
         if (resourceLink == null)
@@ -212,17 +229,19 @@ public class ExternalIdentifierHandler<EXTERNAL_ID, OPEN_METADATA_ELEMENT_HEADER
             /*
              * At this point the link between the element and the external id entity is missing and needs to be created
              */
-            createExternalIdLink(userId,
-                                 elementGUID,
-                                 elementGUIDParameterName,
-                                 elementTypeName,
-                                 externalIdGUID,
-                                 externalIdGUIDParameterName,
-                                 identifierDescription,
-                                 identifierUsage,
-                                 identifierSource,
-                                 identifierMappingProperties,
-                                 methodName);
+            String resourceLinkGUID = createExternalIdLink(userId,
+                                                           elementGUID,
+                                                           elementGUIDParameterName,
+                                                           elementTypeName,
+                                                           externalIdGUID,
+                                                           externalIdGUIDParameterName,
+                                                           identifierDescription,
+                                                           identifierUsage,
+                                                           identifierSource,
+                                                           identifierMappingProperties,
+                                                           methodName);
+
+            correlationIndex.putResourceLinkGUID(scopeGUID, identifier, elementGUID, resourceLinkGUID);
         }
         else
         {
@@ -411,7 +430,136 @@ public class ExternalIdentifierHandler<EXTERNAL_ID, OPEN_METADATA_ELEMENT_HEADER
                                                                  scopeTypeName,
                                                                  methodName);
 
+        this.confirmSynchronization(userId,
+                                    elementGUID,
+                                    elementGUIDParameterName,
+                                    elementTypeName,
+                                    identifier,
+                                    identifierParameterName,
+                                    externalIdEntity,
+                                    scopeGUID,
+                                    scopeQualifiedName,
+                                    methodName);
+
+        return externalIdEntity;
+    }
+
+
+    /**
+     * Confirm that the values of a batch of metadata elements of the same type have been synchronized.
+     * The ExternalId entities that are already in the correlation index are retrieved with a single request.
+     * Each element is confirmed separately, so an element that can not be confirmed does not stop the others.
+     *
+     * @param userId calling user
+     * @param synchronizedElements map of identifier from the external asset manager to the unique identifier (GUID) of the
+     *                             open metadata element it is synchronized with
+     * @param synchronizedElementsParameterName parameter supplying synchronizedElements
+     * @param elementTypeName type of the elements being mapped
+     * @param scopeGUID unique identifier of software server capability representing the caller
+     * @param scopeGUIDParameterName parameter name supplying scopeGUID
+     * @param scopeQualifiedName unique name of the scope
+     * @param scopeTypeName specific type name of the software server capability that represents the third party metadata source
+     * @param methodName calling method
+     *
+     * @return map of identifier to the reason its element could not be confirmed; null if every element was confirmed
+     *
+     * @throws InvalidParameterException  the scope or the map is invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    public Map<String, String> confirmSynchronizations(String              userId,
+                                                       Map<String, String> synchronizedElements,
+                                                       String              synchronizedElementsParameterName,
+                                                       String              elementTypeName,
+                                                       String              scopeGUID,
+                                                       String              scopeGUIDParameterName,
+                                                       String              scopeQualifiedName,
+                                                       String              scopeTypeName,
+                                                       String              methodName) throws InvalidParameterException,
+                                                                                              UserNotAuthorizedException,
+                                                                                              PropertyServerException
+    {
+        invalidParameterHandler.validateGUID(scopeGUID, scopeGUIDParameterName, methodName);
+        invalidParameterHandler.validateObject(synchronizedElements, synchronizedElementsParameterName, methodName);
+
+        Map<String, EntityDetail> externalIdEntities = this.getExternalIdEntities(userId,
+                                                                                  synchronizedElements.keySet(),
+                                                                                  synchronizedElementsParameterName,
+                                                                                  scopeGUID,
+                                                                                  scopeGUIDParameterName,
+                                                                                  scopeQualifiedName,
+                                                                                  scopeTypeName,
+                                                                                  methodName);
+
+        Map<String, String> failures = new LinkedHashMap<>();
+
+        for (String identifier : synchronizedElements.keySet())
+        {
+            try
+            {
+                invalidParameterHandler.validateGUID(synchronizedElements.get(identifier), synchronizedElementsParameterName, methodName);
+
+                this.confirmSynchronization(userId,
+                                            synchronizedElements.get(identifier),
+                                            synchronizedElementsParameterName,
+                                            elementTypeName,
+                                            identifier,
+                                            synchronizedElementsParameterName,
+                                            externalIdEntities.get(identifier),
+                                            scopeGUID,
+                                            scopeQualifiedName,
+                                            methodName);
+            }
+            catch (InvalidParameterException | UserNotAuthorizedException error)
+            {
+                /*
+                 * These errors only affect this element.  A PropertyServerException is passed on because
+                 * the rest of the batch is likely to fail in the same way.
+                 */
+                failures.put(identifier, error.getReportedErrorMessage());
+            }
+        }
+
+        if (failures.isEmpty())
+        {
+            return null;
+        }
+
+        return failures;
+    }
+
 
+    /**
+     * Update the last synchronized time on the ExternalIdLink relationship between an element and its external identifier.
+     *
+     * @param userId calling user
+     * @param elementGUID unique identifier (GUID) of this element in open metadata
+     * @param elementGUIDParameterName parameter supplying elementGUID
+     * @param elementTypeName type of element being mapped
+     * @param identifier unique identifier of this element in the external asset manager
+     * @param identifierParameterName parameter supplying identifier
+     * @param externalIdEntity ExternalId entity for the identifier (or null if it is not known)
+     * @param scopeGUID unique identifier of software server capability representing the caller
+     * @param scopeQualifiedName unique name of the scope
+     * @param methodName calling method
+     *
+     * @throws InvalidParameterException  one of the parameters is invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    private void confirmSynchronization(String       userId,
+                                        String       elementGUID,
+                                        String       elementGUIDParameterName,
+                                        String       elementTypeName,
+                                        String       identifier,
+                                        String       identifierParameterName,
+                                        EntityDetail externalIdEntity,
+                                        String       scopeGUID,
+                                        String       scopeQualifiedName,
+                                        String       methodName) throws InvalidParameterException,
+                                                                        UserNotAuthorizedException,
+                                                                        PropertyServerException
+    {
         if (externalIdEntity == null)
         {
             throw new InvalidParameterException(GenericHandlersErrorCode.UNKNOWN_EXTERNAL_IDENTITY.getMessageDefinition(serviceName,
@@ -433,6 +581,8 @@ public class ExternalIdentifierHandler<EXTERNAL_ID, OPEN_METADATA_ELEMENT_HEADER
                                                                      elementGUIDParameterName,
                                                                      elementTypeName,
                                                                      externalIdEntity.getGUID(),
+                                                                     identifier,
+                                                                     scopeGUID,
                                                                      methodName);
 
         if (resourceLink == null)
@@ -475,8 +625,6 @@ public class ExternalIdentifierHandler<EXTERNAL_ID, OPEN_METADATA_ELEMENT_HEADER
                                                            newProperties,
                                                            methodName);
         }
-
-        return externalIdEntity;
     }
 
 
@@ -512,6 +660,18 @@ public class ExternalIdentifierHandler<EXTERNAL_ID, OPEN_METADATA_ELEMENT_HEADER
         invalidParameterHandler.validateGUID(scopeGUID, scopeGUIDParameterName, methodName);
         invalidParameterHandler.validateName(identifier, identifierParameterName, methodName);
 
+        EntityDetail indexedExternalIdEntity = this.getIndexedExternalIdEntity(userId,
+                                                                               identifier,
+                                                                               scopeGUID,
+                                                                               scopeQualifiedName,
+                                                                               scopeTypeName,
+                                                                               methodName);
+
+        if (indexedExternalIdEntity != null)
+        {
+            return indexedExternalIdEntity;
+        }
+
         /*
          * Since the external identifier is not necessarily unique and is linked many-to-many, begin with
          * retrieving all of the ExternalId entities with the same identifier.
@@ -549,6 +709,8 @@ public class ExternalIdentifierHandler<EXTERNAL_ID, OPEN_METADATA_ELEMENT_HEADER
                                                      scopeTypeName,
                                                      methodName))
             {
+                correlationIndex.putExternalIdGUID(scopeGUID, identifier, externalIdEntity.getGUID());
+
                 return externalIdEntity;
             }
         }
@@ -557,6 +719,301 @@ public class ExternalIdentifierHandler<EXTERNAL_ID, OPEN_METADATA_ELEMENT_HEADER
     }
 
 
+    /**
+     * Retrieve the ExternalIdentifier entities for a list of identifiers from the same scope.  The entities that are
+     * in the correlation index are retrieved with a single request and their scope is checked.  The others are
+     * searched for together, a batch of identifiers at a time.
+     *
+     * @param userId calling userId
+     * @param identifiers identifiers from the third party technology (scope)
+     * @param identifiersParameterName name of parameter supplying the identifiers
+     * @param scopeGUID unique identifier of the software server capability that represents the third metadata source
+     * @param scopeGUIDParameterName parameter supplying scopeGUID
+     * @param scopeQualifiedName unique name of the software server capability that represents the third metadata source
+     * @param scopeTypeName specific type name of the software server capability that represents the third party metadata source
+     * @param methodName calling method
+     *
+     * @return map of identifier to ExternalId entity for the identifiers that are known in the scope
+     *
+     * @throws InvalidParameterException  one of the parameters is invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    private Map<String, EntityDetail> getExternalIdEntities(String             userId,
+                                                            Collection<String> identifiers,
+                                                            String             identifiersParameterName,
+                                                            String             scopeGUID,
+                                                            String             scopeGUIDParameterName,
+                                                            String             scopeQualifiedName,
+                                                            String             scopeTypeName,
+                                                            String             methodName) throws InvalidParameterException,
+                                                                                                  UserNotAuthorizedException,
+                                                                                                  PropertyServerException
+    {
+        invalidParameterHandler.validateGUID(scopeGUID, scopeGUIDParameterName, methodName);
+
+        Map<String, String> indexedExternalIdGUIDs = new HashMap<>();
+
+        for (String identifier : identifiers)
+        {
+            invalidParameterHandler.validateName(identifier, identifiersParameterName, methodName);
+
+            String externalIdGUID = correlationIndex.getExternalIdGUID(scopeGUID, identifier);
+
+            if (externalIdGUID != null)
+            {
+                indexedExternalIdGUIDs.put(identifier, externalIdGUID);
+            }
+        }
+
+        Map<String, EntityDetail> indexedExternalIdEntities = new HashMap<>();
+
+        if (! indexedExternalIdGUIDs.isEmpty())
+        {
+            indexedExternalIdEntities = repositoryHandler.getEntitiesByGUIDs(userId,
+                                                                             indexedExternalIdGUIDs.values(),
+                                                                             OpenMetadataAPIMapper.EXTERNAL_IDENTIFIER_TYPE_NAME,
+                                                                             methodName);
+        }
+
+        Map<String, EntityDetail> results               = new HashMap<>();
+        Set<String>               unresolvedIdentifiers = new LinkedHashSet<>();
+
+        for (String identifier : identifiers)
+        {
+            if ((! results.containsKey(identifier)) && (! unresolvedIdentifiers.contains(identifier)))
+            {
+                EntityDetail externalIdEntity = null;
+
+                if (indexedExternalIdGUIDs.containsKey(identifier))
+                {
+                    externalIdEntity = indexedExternalIdEntities.get(indexedExternalIdGUIDs.get(identifier));
+
+                    if ((! this.isExternalIdEntityFor(externalIdEntity, identifier, methodName)) ||
+                        (! this.validateExternalIdentifierScope(userId,
+                                                                identifier,
+                                                                externalIdEntity,
+                                                                scopeGUID,
+                                                                scopeQualifiedName,
+                                                                scopeTypeName,
+                                                                methodName)))
+                    {
+                        correlationIndex.removeExternalIdGUID(scopeGUID, identifier);
+                        externalIdEntity = null;
+                    }
+                }
+
+                if (externalIdEntity == null)
+                {
+                    unresolvedIdentifiers.add(identifier);
+                }
+                else
+                {
+                    results.put(identifier, externalIdEntity);
+                }
+            }
+        }
+
+        List<String> identifierBatch = new ArrayList<>();
+
+        for (String identifier : unresolvedIdentifiers)
+        {
+            identifierBatch.add(identifier);
+
+            if (identifierBatch.size() == identifierSearchBatchSize)
+            {
+                this.findExternalIdEntities(userId, identifierBatch, scopeGUID, scopeQualifiedName, scopeTypeName, results, methodName);
+                identifierBatch.clear();
+            }
+        }
+
+        if (! identifierBatch.isEmpty())
+        {
+            this.findExternalIdEntities(userId, identifierBatch, scopeGUID, scopeQualifiedName, scopeTypeName, results, methodName);
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Search for the ExternalIdentifier entities for a batch of identifiers from the same scope with a single search
+     * that matches any of the identifiers exactly.  The entities that are found are added to the results and the
+     * correlation index.
+     *
+     * @param userId calling userId
+     * @param identifiers identifiers from the third party technology (scope)
+     * @param scopeGUID unique identifier of the software server capability that represents the third metadata source
+     * @param scopeQualifiedName unique name of the software server capability that represents the third metadata source
+     * @param scopeTypeName specific type name of the software server capability that represents the third party metadata source
+     * @param results map of identifier to ExternalId entity to add to
+     * @param methodName calling method
+     *
+     * @throws InvalidParameterException  one of the parameters is invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    private void findExternalIdEntities(String                    userId,
+                                        List<String>              identifiers,
+                                        String                    scopeGUID,
+                                        String                    scopeQualifiedName,
+                                        String                    scopeTypeName,
+                                        Map<String, EntityDetail> results,
+                                        String                    methodName) throws InvalidParameterException,
+                                                                                     UserNotAuthorizedException,
+                                                                                     PropertyServerException
+    {
+        Set<String>   requestedIdentifiers = new HashSet<>(identifiers);
+        StringBuilder searchString         = new StringBuilder();
+
+        for (String identifier : identifiers)
+        {
+            if (searchString.length() > 0)
+            {
+                searchString.append('|');
+            }
+
+            searchString.append(repositoryHelper.getExactMatchRegex(identifier));
+        }
+
+        List<String> propertyNames = new ArrayList<>();
+
+        propertyNames.add(OpenMetadataAPIMapper.IDENTIFIER_PROPERTY_NAME);
+
+        RepositoryIteratorForEntities identifierIterator = getEntitySearchIterator(userId,
+                                                                                   searchString.toString(),
+                                                                                   OpenMetadataAPIMapper.EXTERNAL_IDENTIFIER_TYPE_GUID,
+                                                                                   OpenMetadataAPIMapper.EXTERNAL_IDENTIFIER_TYPE_NAME,
+                                                                                   propertyNames,
+                                                                                   false,
+                                                                                   null,
+                                                                                   0,
+                                                                                   invalidParameterHandler.getMaxPagingSize(),
+                                                                                   methodName);
+
+        while (identifierIterator.moreToReceive())
+        {
+            EntityDetail externalIdEntity = identifierIterator.getNext();
+
+            if (externalIdEntity != null)
+            {
+                String identifier = repositoryHelper.getStringProperty(serviceName,
+                                                                       OpenMetadataAPIMapper.IDENTIFIER_PROPERTY_NAME,
+                                                                       externalIdEntity.getProperties(),
+                                                                       methodName);
+
+                /*
+                 * Several ExternalId entities may hold the same identifier for different scopes.
+                 */
+                if ((identifier != null) &&
+                    (requestedIdentifiers.contains(identifier)) &&
+                    (! results.containsKey(identifier)) &&
+                    (this.validateExternalIdentifierScope(userId,
+                                                          identifier,
+                                                          externalIdEntity,
+                                                          scopeGUID,
+                                                          scopeQualifiedName,
+                                                          scopeTypeName,
+                                                          methodName)))
+                {
+                    correlationIndex.putExternalIdGUID(scopeGUID, identifier, externalIdEntity.getGUID());
+                    results.put(identifier, externalIdEntity);
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Retrieve the ExternalIdentifier entity recorded in the correlation index for an identifier in a scope.
+     * The entry is removed from the index if the entity no longer exists, no longer holds the identifier or
+     * is no longer linked to the scope.
+     *
+     * @param userId calling userId
+     * @param identifier identifier from the third party technology (scope)
+     * @param scopeGUID unique identifier of the software server capability that represents the third metadata source
+     * @param scopeQualifiedName unique name of the software server capability that represents the third metadata source
+     * @param scopeTypeName specific type name of the software server capability that represents the third party metadata source
+     * @param methodName calling method
+     *
+     * @return ExternalId entity or null if it is not in the index
+     *
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    private EntityDetail getIndexedExternalIdEntity(String userId,
+                                                    String identifier,
+                                                    String scopeGUID,
+                                                    String scopeQualifiedName,
+                                                    String scopeTypeName,
+                                                    String methodName) throws UserNotAuthorizedException,
+                                                                              PropertyServerException
+    {
+        final String externalIdGUIDParameterName = "externalIdGUID";
+
+        String externalIdGUID = correlationIndex.getExternalIdGUID(scopeGUID, identifier);
+
+        if (externalIdGUID != null)
+        {
+            try
+            {
+                EntityDetail externalIdEntity = repositoryHandler.getEntityByGUID(userId,
+                                                                                  externalIdGUID,
+                                                                                  externalIdGUIDParameterName,
+                                                                                  OpenMetadataAPIMapper.EXTERNAL_IDENTIFIER_TYPE_NAME,
+                                                                                  methodName);
+
+                if ((this.isExternalIdEntityFor(externalIdEntity, identifier, methodName)) &&
+                    (this.validateExternalIdentifierScope(userId,
+                                                          identifier,
+                                                          externalIdEntity,
+                                                          scopeGUID,
+                                                          scopeQualifiedName,
+                                                          scopeTypeName,
+                                                          methodName)))
+                {
+                    return externalIdEntity;
+                }
+            }
+            catch (InvalidParameterException error)
+            {
+                /*
+                 * The entity has been deleted.
+                 */
+            }
+
+            correlationIndex.removeExternalIdGUID(scopeGUID, identifier);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Determine whether an ExternalIdentifier entity holds the requested identifier.
+     *
+     * @param externalIdEntity entity retrieved from the repository (may be null)
+     * @param identifier identifier from the third party technology (scope)
+     * @param methodName calling method
+     *
+     * @return boolean flag
+     */
+    private boolean isExternalIdEntityFor(EntityDetail externalIdEntity,
+                                          String       identifier,
+                                          String       methodName)
+    {
+        if (externalIdEntity == null)
+        {
+            return false;
+        }
+
+        return identifier.equals(repositoryHelper.getStringProperty(serviceName,
+                                                                    OpenMetadataAPIMapper.IDENTIFIER_PROPERTY_NAME,
+                                                                    externalIdEntity.getProperties(),
+                                                                    methodName));
+    }
+
+
     /**
      * Retrieve the ExternalIdLink relationship between the open metadata element and the external identifier.
      *
@@ -565,6 +1022,8 @@ public class ExternalIdentifierHandler<EXTERNAL_ID, OPEN_METADATA_ELEMENT_HEADER
      * @param elementGUIDParameterName parameter supplying elementGUID
      * @param elementTypeName type of the element
      * @param externalIdGUID unique identifier of the ExternalId entity
+     * @param identifier identifier from the third party technology (scope)
+     * @param scopeGUID unique identifier of the software server capability that represents the third metadata source
      * @param methodName calling method
      *
      * @return ExternalIdLink relationship between the requested elements - or null
@@ -578,12 +1037,47 @@ public class ExternalIdentifierHandler<EXTERNAL_ID, OPEN_METADATA_ELEMENT_HEADER
                                                      String              elementGUIDParameterName,
                                                      String              elementTypeName,
                                                      String              externalIdGUID,
+                                                     String              identifier,
+                                                     String              scopeGUID,
                                                      String              methodName) throws InvalidParameterException,
                                                                                             UserNotAuthorizedException,
                                                                                             PropertyServerException
     {
+        final String resourceLinkGUIDParameterName = "resourceLinkGUID";
+
         invalidParameterHandler.validateGUID(elementGUID, elementGUIDParameterName, methodName);
 
+        String resourceLinkGUID = correlationIndex.getResourceLinkGUID(scopeGUID, identifier, elementGUID);
+
+        if (resourceLinkGUID != null)
+        {
+            try
+            {
+                Relationship resourceLink = repositoryHandler.getRelationshipByGUID(userId,
+                                                                                    resourceLinkGUID,
+                                                                                    resourceLinkGUIDParameterName,
+                                                                                    OpenMetadataAPIMapper.REFERENCEABLE_TO_EXTERNAL_ID_TYPE_NAME,
+                                                                                    methodName);
+
+                if ((resourceLink != null) &&
+                    (resourceLink.getEntityOneProxy() != null) &&
+                    (resourceLink.getEntityTwoProxy() != null) &&
+                    (elementGUID.equals(resourceLink.getEntityOneProxy().getGUID())) &&
+                    (externalIdGUID.equals(resourceLink.getEntityTwoProxy().getGUID())))
+                {
+                    return resourceLink;
+                }
+            }
+            catch (InvalidParameterException error)
+            {
+                /*
+                 * The relationship has been deleted.
+                 */
+            }
+
+            correlationIndex.removeResourceLinkGUID(scopeGUID, identifier, elementGUID);
+        }
+
         /*
          * Now check if the relationship currently exists between the element and the external id entity.
          */
@@ -607,6 +1101,8 @@ public class ExternalIdentifierHandler<EXTERNAL_ID, OPEN_METADATA_ELEMENT_HEADER
                 {
                     if (elementGUID.equals(relationship.getEntityOneProxy().getGUID()))
                     {
+                        correlationIndex.putResourceLinkGUID(scopeGUID, identifier, elementGUID, relationship.getGUID());
+
                         return relationship;
                     }
                 }
@@ -826,23 +1322,25 @@ public class ExternalIdentifierHandler<EXTERNAL_ID, OPEN_METADATA_ELEMENT_HEADER
      * @param identifierMappingProperties additional properties used to manage the mapping to the elements in the third party technology
      * @param methodName calling method
      *
+     * @return unique identifier of the new relationship
+     *
      * @throws InvalidParameterException  one of the parameters is invalid
      * @throws UserNotAuthorizedException user not authorized to issue this request
      * @throws PropertyServerException    problem accessing the property server
      */
-    private void createExternalIdLink(String              userId,
-                                      String              elementGUID,
-                                      String              elementGUIDParameterName,
-                                      String              elementTypeName,
-                                      String              externalIdGUID,
-                                      String              externalIdGUIDParameterName,
-                                      String              identifierDescription,
-                                      String              identifierUsage,
-                                      String              identifierSource,
-                                      Map<String, String> identifierMappingProperties,
-                                      String              methodName) throws InvalidParameterException,
-                                                                             UserNotAuthorizedException,
-                                                                             PropertyServerException
+    private String createExternalIdLink(String              userId,
+                                        String              elementGUID,
+                                        String              elementGUIDParameterName,
+                                        String              elementTypeName,
+                                        String              externalIdGUID,
+                                        String              externalIdGUIDParameterName,
+                                        String              identifierDescription,
+                                        String              identifierUsage,
+                                        String              identifierSource,
+                                        Map<String, String> identifierMappingProperties,
+                                        String              methodName) throws InvalidParameterException,
+                                                                               UserNotAuthorizedException,
+                                                                               PropertyServerException
     {
         ExternalIdentifierBuilder builder = new ExternalIdentifierBuilder(repositoryHelper, serviceName, serverName);
 
@@ -852,19 +1350,19 @@ public class ExternalIdentifierHandler<EXTERNAL_ID, OPEN_METADATA_ELEMENT_HEADER
                                                                                                 identifierMappingProperties,
                                                                                                 methodName);
 
-        this.linkElementToElement(userId,
-                                  null,
-                                  null,
-                                  elementGUID,
-                                  elementGUIDParameterName,
-                                  elementTypeName,
-                                  externalIdGUID,
-                                  externalIdGUIDParameterName,
-                                  OpenMetadataAPIMapper.EXTERNAL_IDENTIFIER_TYPE_NAME,
-                                  OpenMetadataAPIMapper.REFERENCEABLE_TO_EXTERNAL_ID_TYPE_GUID,
-                                  OpenMetadataAPIMapper.REFERENCEABLE_TO_EXTERNAL_ID_TYPE_NAME,
-                                  resourceLinkProperties,
-                                  methodName);
+        return this.linkElementToElement(userId,
+                                         null,
+                                         null,
+                                         elementGUID,
+                                         elementGUIDParameterName,
+                                         elementTypeName,
+                                         externalIdGUID,
+                                         externalIdGUIDParameterName,
+                                         OpenMetadataAPIMapper.EXTERNAL_IDENTIFIER_TYPE_NAME,
+                                         OpenMetadataAPIMapper.REFERENCEABLE_TO_EXTERNAL_ID_TYPE_GUID,
+                                         OpenMetadataAPIMapper.REFERENCEABLE_TO_EXTERNAL_ID_TYPE_NAME,
+                                         resourceLinkProperties,
+                                         methodName);
     }
 
 
@@ -1369,65 +1867,107 @@ public class ExternalIdentifierHandler<EXTERNAL_ID, OPEN_METADATA_ELEMENT_HEADER
                                                                                                                  PropertyServerException
     {
         final String externalIdentifierParameterName = "externalIdentifier";
+        final String externalIdGUIDParameterName     = "externalIdEntity.getGUID()";
 
         invalidParameterHandler.validateGUID(scopeGUID, scopeParameterName, methodName);
         invalidParameterHandler.validateName(externalIdentifier, externalIdentifierParameterName, methodName);
 
-        List<String> propertyNames = new ArrayList<>();
+        EntityDetail externalIdEntity = this.getExternalIdEntity(userId,
+                                                                 externalIdentifier,
+                                                                 externalIdentifierParameterName,
+                                                                 scopeGUID,
+                                                                 scopeParameterName,
+                                                                 scopeQualifiedName,
+                                                                 scopeTypeName,
+                                                                 methodName);
 
-        propertyNames.add(OpenMetadataAPIMapper.IDENTIFIER_PROPERTY_NAME);
+        if (externalIdEntity != null)
+        {
+            return this.getElementHeaders(userId,
+                                          externalIdEntity.getGUID(),
+                                          externalIdGUIDParameterName,
+                                          startingFrom,
+                                          pageSize,
+                                          methodName);
+        }
+
+        return null;
+    }
 
-        List<EntityDetail> matchingExternalIds = this.getEntitiesByValue(userId,
-                                                                         externalIdentifier,
-                                                                         externalIdentifierParameterName,
-                                                                         OpenMetadataAPIMapper.EXTERNAL_IDENTIFIER_TYPE_GUID,
-                                                                         OpenMetadataAPIMapper.EXTERNAL_IDENTIFIER_TYPE_NAME,
-                                                                         propertyNames,
-                                                                         true,
-                                                                          null,
-                                                                         null,
-                                                                         false,
-                                                                         supportedZones,
-                                                                         null,
-                                                                         0,
-                                                                         invalidParameterHandler.getMaxPagingSize(),
-                                                                         methodName);
-
-
-        if (matchingExternalIds != null)
+
+    /**
+     * Return the headers for open metadata elements that are associated with each of a list of external identifiers
+     * from the same scope.  The ExternalId entities that are already in the correlation index are retrieved with a
+     * single request.
+     *
+     * @param userId calling user
+     * @param scopeGUID unique identifier of software server capability representing the caller
+     * @param scopeParameterName unique name of software server capability representing the caller
+     * @param scopeTypeName specific type name of the software server capability that represents the third party metadata source
+     * @param scopeQualifiedName unique name name of the software server capability that represents the third party metadata source
+     * @param externalIdentifiers unique identifiers of elements in the external asset manager
+     * @param externalIdentifiersParameterName parameter supplying externalIdentifiers
+     * @param methodName calling method
+     *
+     * @return map of external identifier to element headers for the identifiers that are linked to open metadata elements
+     *
+     * @throws InvalidParameterException  one of the parameters is invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    public Map<String, List<OPEN_METADATA_ELEMENT_HEADER>> getElementsForExternalIdentifiers(String       userId,
+                                                                                             String       scopeGUID,
+                                                                                             String       scopeParameterName,
+                                                                                             String       scopeTypeName,
+                                                                                             String       scopeQualifiedName,
+                                                                                             List<String> externalIdentifiers,
+                                                                                             String       externalIdentifiersParameterName,
+                                                                                             String       methodName) throws InvalidParameterException,
+                                                                                                                                 UserNotAuthorizedException,
+                                                                                                                                 PropertyServerException
+    {
+        final String externalIdGUIDParameterName = "externalIdEntity.getGUID()";
+
+        invalidParameterHandler.validateGUID(scopeGUID, scopeParameterName, methodName);
+        invalidParameterHandler.validateObject(externalIdentifiers, externalIdentifiersParameterName, methodName);
+
+        Map<String, EntityDetail> externalIdEntities = this.getExternalIdEntities(userId,
+                                                                                  externalIdentifiers,
+                                                                                  externalIdentifiersParameterName,
+                                                                                  scopeGUID,
+                                                                                  scopeParameterName,
+                                                                                  scopeQualifiedName,
+                                                                                  scopeTypeName,
+                                                                                  methodName);
+
+        Map<String, List<OPEN_METADATA_ELEMENT_HEADER>> results = new LinkedHashMap<>();
+
+        for (String externalIdentifier : externalIdentifiers)
         {
-            final String matchingEntityGUIDParameterName = "matchingEntity.getGUID()";
+            EntityDetail externalIdEntity = externalIdEntities.get(externalIdentifier);
 
-            for (EntityDetail matchingEntity : matchingExternalIds)
+            if ((externalIdEntity != null) && (! results.containsKey(externalIdentifier)))
             {
-                if (matchingEntity != null)
+                List<OPEN_METADATA_ELEMENT_HEADER> elementHeaders = this.getElementHeaders(userId,
+                                                                                           externalIdEntity.getGUID(),
+                                                                                           externalIdGUIDParameterName,
+                                                                                           0,
+                                                                                           invalidParameterHandler.getMaxPagingSize(),
+                                                                                           methodName);
+
+                if (elementHeaders != null)
                 {
-                    List<Relationship> externalIdRelationships = this.getAttachmentLinks(userId,
-                                                                                         scopeGUID,
-                                                                                         scopeParameterName,
-                                                                                         scopeTypeName,
-                                                                                         OpenMetadataAPIMapper.EXTERNAL_ID_SCOPE_TYPE_GUID,
-                                                                                         OpenMetadataAPIMapper.EXTERNAL_ID_SCOPE_TYPE_NAME,
-                                                                                         scopeGUID,
-                                                                                         OpenMetadataAPIMapper.EXTERNAL_IDENTIFIER_TYPE_NAME,
-                                                                                         0,
-                                                                                         invalidParameterHandler.getMaxPagingSize(),
-                                                                                         methodName);
-
-                    if ((externalIdRelationships != null) && (externalIdRelationships.isEmpty()))
-                    {
-                        return this.getElementHeaders(userId,
-                                                      matchingEntity.getGUID(),
-                                                      matchingEntityGUIDParameterName,
-                                                      startingFrom,
-                                                      pageSize,
-                                                      methodName);
-                    }
+                    results.put(externalIdentifier, elementHeaders);
                 }
             }
         }
 
-        return null;
+        if (results.isEmpty())
+        {
+            return null;
+        }
+
+        return results;
     }
 
 
@@ -2902,6 +2902,78 @@ public class OpenMetadataAPIGenericHandler<B>
     {
         invalidParameterHandler.validateObject(connectToEntity, connectToGUIDParameterName, methodName);
 
+        this.validateEntityVisibility(userId,
+                                      connectToGUID,
+                                      connectToType,
+                                      connectToEntity,
+                                      connectToGUIDParameterName,
+                                      suppliedSupportedZones,
+                                      methodName);
+
+        /*
+         * Most referenceables have an independent lifecycle.  They are their own anchor.  This method is handling the special cases.
+         */
+        EntityDetail anchorEntity = null;
+
+        String anchorGUID = this.getAnchorGUIDForEntity(connectToGUID, connectToEntity, methodName);
+
+        /*
+         * If an anchor GUID has been found then validate it by retrieving the identified entity.  Note - anchorGUID may be null if the connectToEntity
+         * is actually an anchor.
+         */
+        if (anchorGUID != null)
+        {
+            final String anchorGUIDParameterName = "anchorGUID";
+
+            if (! anchorGUID.equals(connectToEntity.getGUID()))
+            {
+                anchorEntity = repositoryHandler.getEntityByGUID(userId,
+                                                                 anchorGUID,
+                                                                 anchorGUIDParameterName,
+                                                                 OpenMetadataAPIMapper.REFERENCEABLE_TYPE_NAME,
+                                                                 methodName);
+            }
+        }
+
+        this.validateAnchorVisibility(userId,
+                                      connectToGUID,
+                                      connectToType,
+                                      connectToGUIDParameterName,
+                                      anchorEntity,
+                                      isUpdate,
+                                      suppliedSupportedZones,
+                                      methodName);
+
+        return anchorEntity;
+    }
+
+
+    /**
+     * Validate that the retrieved entity itself is visible to the user.  This covers private informal tags, connections
+     * and assets.  The anchor of the entity is validated separately by validateAnchorVisibility.
+     *
+     * @param userId           userId of user making request.
+     * @param connectToGUID    unique id for the object to connect the attachment to
+     * @param connectToType    name of type of connectToEntity
+     * @param connectToEntity  entity retrieved from the repository
+     * @param connectToGUIDParameterName  name of the parameter that passed the connect to guid
+     * @param suppliedSupportedZones list of supported zones from the caller.
+     * @param methodName       calling method
+     *
+     * @throws InvalidParameterException the entity is not visible to the user.
+     * @throws PropertyServerException there is a problem accessing the properties in the repositories.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    private void validateEntityVisibility(String        userId,
+                                          String        connectToGUID,
+                                          String        connectToType,
+                                          EntityDetail  connectToEntity,
+                                          String        connectToGUIDParameterName,
+                                          List<String>  suppliedSupportedZones,
+                                          String        methodName) throws InvalidParameterException,
+                                                                           PropertyServerException,
+                                                                           UserNotAuthorizedException
+    {
         /*
          * This first processing looks at the retrieved entity itself to ensure it is visible.
          */
@@ -2946,12 +3018,30 @@ public class OpenMetadataAPIGenericHandler<B>
                                           suppliedSupportedZones,
                                           methodName);
         }
+    }
 
-        /*
-         * Most referenceables have an independent lifecycle.  They are their own anchor.  This method is handling the special cases.
-         */
-        EntityDetail anchorEntity = null;
 
+    /**
+     * Return the unique identifier of the anchor for an entity.  This comes from the Anchors classification.  If the
+     * classification is missing, the anchor is derived from the entity's relationships and stored in the classification
+     * so it is easy to find next time.
+     *
+     * @param connectToGUID    unique id of the entity
+     * @param connectToEntity  entity retrieved from the repository
+     * @param methodName       calling method
+     *
+     * @return anchor GUID or null if the entity is an anchor or does not have an anchor
+     *
+     * @throws InvalidParameterException one of the parameters is null or invalid.
+     * @throws PropertyServerException there is a problem accessing the properties in the repositories.
+     * @throws UserNotAuthorizedException the local server user is not able to maintain the Anchors classification.
+     */
+    private String getAnchorGUIDForEntity(String       connectToGUID,
+                                          EntityDetail connectToEntity,
+                                          String       methodName) throws InvalidParameterException,
+                                                                          PropertyServerException,
+                                                                          UserNotAuthorizedException
+    {
         /*
          * If an entity has an anchor, the unique identifier of the anchor should be in the Anchors classifications.
          * The exception occurs where the entity is not being managed by this handler, or something equivalent that maintains the Anchors
@@ -2975,24 +3065,37 @@ public class OpenMetadataAPIGenericHandler<B>
             }
         }
 
-        /*
-         * If an anchor GUID has been found then validate it by retrieving the identified entity.  Note - anchorGUID may be null if the connectToEntity
-         * is actually an anchor.
-         */
-        if (anchorGUID != null)
-        {
-            final String anchorGUIDParameterName = "anchorGUID";
+        return anchorGUID;
+    }
 
-            if (! anchorGUID.equals(connectToEntity.getGUID()))
-            {
-                anchorEntity = repositoryHandler.getEntityByGUID(userId,
-                                                                 anchorGUID,
-                                                                 anchorGUIDParameterName,
-                                                                 OpenMetadataAPIMapper.REFERENCEABLE_TYPE_NAME,
-                                                                 methodName);
-            }
-        }
 
+    /**
+     * Perform the specialized visibility and security checks on the anchor of an entity.
+     *
+     * @param userId           userId of user making request.
+     * @param connectToGUID    unique id for the object to connect the attachment to
+     * @param connectToType    name of type of the entity that is anchored
+     * @param connectToGUIDParameterName  name of the parameter that passed the connect to guid
+     * @param anchorEntity     anchor entity or null if the entity does not have an anchor
+     * @param isUpdate         is this an update request?
+     * @param suppliedSupportedZones list of supported zones from the caller.
+     * @param methodName       calling method
+     *
+     * @throws InvalidParameterException the anchor is not visible to the user.
+     * @throws PropertyServerException there is a problem accessing the properties in the repositories.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    private void validateAnchorVisibility(String        userId,
+                                          String        connectToGUID,
+                                          String        connectToType,
+                                          String        connectToGUIDParameterName,
+                                          EntityDetail  anchorEntity,
+                                          boolean       isUpdate,
+                                          List<String>  suppliedSupportedZones,
+                                          String        methodName) throws InvalidParameterException,
+                                                                           PropertyServerException,
+                                                                           UserNotAuthorizedException
+    {
         /*
          * Perform any special processing on the anchor entity
          */
@@ -3033,8 +3136,6 @@ public class OpenMetadataAPIGenericHandler<B>
                  */
             }
         }
-
-        return anchorEntity;
     }
 
 
@@ -3066,24 +3167,27 @@ public class OpenMetadataAPIGenericHandler<B>
 
         if (uniqueParameterValue != null)
         {
-            List<String> propertyNames = new ArrayList<>();
-            propertyNames.add(uniqueParameterName);
-
             /*
-             * An entity with the Memento classification set is ignored
+             * The unique property is looked up by its exact value so that repositories that index their
+             * unique properties do not need to run a regular expression search.
+             * An entity with the Memento classification set is ignored.
              */
+            RepositoryIteratorForEntities iterator = new RepositoryUniquePropertyValueIterator(repositoryHandler,
+                                                                                               userId,
+                                                                                               entityTypeGUID,
+                                                                                               entityTypeName,
+                                                                                               uniqueParameterName,
+                                                                                               uniqueParameterValue,
+                                                                                               methodName);
+
             List<EntityDetail> existingBeans = this.getEntitiesByValue(userId,
-                                                                       uniqueParameterValue,
-                                                                       uniqueParameterName,
-                                                                       entityTypeGUID,
+                                                                       iterator,
+                                                                       "Entity from search of value " + uniqueParameterValue,
                                                                        entityTypeName,
-                                                                       propertyNames,
-                                                                       true,
                                                                        null,
                                                                        null,
                                                                        false,
                                                                        supportedZones,
-                                                                       null,
                                                                        0,
                                                                        invalidParameterHandler.getMaxPagingSize(),
                                                                        methodName);
@@ -4445,46 +4549,191 @@ public class OpenMetadataAPIGenericHandler<B>
 
         while ((iterator.moreToReceive()) && ((queryPageSize == 0) || (results.size() < queryPageSize)))
         {
-            Relationship relationship = iterator.getNext();
+            /*
+             * The relationships are checked a batch at a time so the entities at their ends (and the anchors of these
+             * entities) are retrieved once for the whole batch rather than once per relationship.
+             */
+            int batchSize = invalidParameterHandler.getMaxPagingSize();
 
-            if (this.visibleToUserThroughRelationship(userId, relationship, methodName))
+            if (queryPageSize != 0)
             {
-                try
+                batchSize = queryPageSize - results.size();
+            }
+
+            List<Relationship> batch = new ArrayList<>();
+
+            while ((iterator.moreToReceive()) && ((batchSize == 0) || (batch.size() < batchSize)))
+            {
+                batch.add(iterator.getNext());
+            }
+
+            results.addAll(this.getVisibleRelationships(userId,
+                                                        batch,
+                                                        OpenMetadataAPIMapper.OPEN_METADATA_ROOT_TYPE_NAME,
+                                                        supportedZones,
+                                                        methodName));
+        }
+
+        if (! results.isEmpty())
+        {
+            return results;
+        }
+
+        return null;
+    }
+
+
+
+    /**
+     * Return the relationships from the supplied list that are visible to the user.  This makes the same checks as calling
+     * validateAnchorEntity for the entity at each end of each relationship.  However, the entities at the ends of the relationships,
+     * and their anchors, are retrieved for the whole list using de-duplicated, concurrent retrievals.  The visibility and
+     * security checks are then made in memory once for each entity.
+     *
+     * @param userId caller's userId
+     * @param relationships relationships to check
+     * @param connectToType type name for the entities at the ends of the relationships
+     * @param suppliedSupportedZones list of supported zones from the caller
+     * @param methodName calling method
+     *
+     * @return list of visible relationships in the same order as the supplied list
+     * @throws PropertyServerException there is a problem accessing the metadata store
+     */
+    private List<Relationship> getVisibleRelationships(String             userId,
+                                                       List<Relationship> relationships,
+                                                       String             connectToType,
+                                                       List<String>       suppliedSupportedZones,
+                                                       String             methodName) throws PropertyServerException
+    {
+        final String entityParameterName = "relationship.getEntityProxy().getGUID()";
+
+        List<Relationship> candidateRelationships = new ArrayList<>();
+        Set<String>        entityGUIDs            = new HashSet<>();
+
+        for (Relationship relationship : relationships)
+        {
+            if ((this.visibleToUserThroughRelationship(userId, relationship, methodName)) &&
+                (relationship.getEntityOneProxy() != null) && (relationship.getEntityTwoProxy() != null))
+            {
+                candidateRelationships.add(relationship);
+                entityGUIDs.add(relationship.getEntityOneProxy().getGUID());
+                entityGUIDs.add(relationship.getEntityTwoProxy().getGUID());
+            }
+        }
+
+        if (candidateRelationships.isEmpty())
+        {
+            return candidateRelationships;
+        }
+
+        Map<String, EntityDetail> entities = repositoryHandler.getEntitiesByGUIDs(userId, entityGUIDs, connectToType, methodName);
+
+        /*
+         * Locate the anchor of each entity.  This only needs a call to the repository if the Anchors classification is missing.
+         */
+        Map<String, String> anchorGUIDs       = new HashMap<>();
+        Set<String>         anchorsToRetrieve = new HashSet<>();
+
+        for (String entityGUID : entities.keySet())
+        {
+            try
+            {
+                String anchorGUID = this.getAnchorGUIDForEntity(entityGUID, entities.get(entityGUID), methodName);
+
+                anchorGUIDs.put(entityGUID, anchorGUID);
+
+                if ((anchorGUID != null) && (! anchorGUID.equals(entityGUID)) && (! entities.containsKey(anchorGUID)))
                 {
-                    final String entityOneParameterName = "relationship.getEntityOneProxy().getGUID()";
-                    final String entityTwoParameterName = "relationship.getEntityTwoProxy().getGUID()";
+                    anchorsToRetrieve.add(anchorGUID);
+                }
+            }
+            catch (Exception error)
+            {
+                // ignore an element that is not visible to the caller
+            }
+        }
 
-                    this.validateAnchorEntity(userId,
-                                              relationship.getEntityOneProxy().getGUID(),
-                                              entityOneParameterName,
-                                              OpenMetadataAPIMapper.OPEN_METADATA_ROOT_TYPE_NAME,
-                                              false,
-                                              supportedZones,
+        Map<String, EntityDetail> anchors = repositoryHandler.getEntitiesByGUIDs(userId,
+                                                                                 anchorsToRetrieve,
+                                                                                 OpenMetadataAPIMapper.REFERENCEABLE_TYPE_NAME,
+                                                                                 methodName);
+
+        /*
+         * Some of the anchors may also be at the end of one of the relationships.
+         */
+        for (String anchorGUID : anchorGUIDs.values())
+        {
+            EntityDetail anchorEntity = entities.get(anchorGUID);
+
+            if ((anchorEntity != null) && (anchorEntity.getType() != null) &&
+                (repositoryHelper.isTypeOf(serviceName, anchorEntity.getType().getTypeDefName(), OpenMetadataAPIMapper.REFERENCEABLE_TYPE_NAME)))
+            {
+                anchors.put(anchorGUID, anchorEntity);
+            }
+        }
+
+        /*
+         * Now check each entity in memory.
+         */
+        Set<String> visibleEntityGUIDs = new HashSet<>();
+
+        for (String entityGUID : anchorGUIDs.keySet())
+        {
+            String       anchorGUID   = anchorGUIDs.get(entityGUID);
+            EntityDetail anchorEntity = null;
+
+            if ((anchorGUID != null) && (! anchorGUID.equals(entityGUID)))
+            {
+                anchorEntity = anchors.get(anchorGUID);
+
+                if (anchorEntity == null)
+                {
+                    /*
+                     * The anchor is not visible to the caller so neither is the entity.
+                     */
+                    continue;
+                }
+            }
+
+            try
+            {
+                this.validateEntityVisibility(userId,
+                                              entityGUID,
+                                              connectToType,
+                                              entities.get(entityGUID),
+                                              entityParameterName,
+                                              suppliedSupportedZones,
                                               methodName);
 
-                    this.validateAnchorEntity(userId,
-                                              relationship.getEntityTwoProxy().getGUID(),
-                                              entityTwoParameterName,
-                                              OpenMetadataAPIMapper.OPEN_METADATA_ROOT_TYPE_NAME,
+                this.validateAnchorVisibility(userId,
+                                              entityGUID,
+                                              connectToType,
+                                              entityParameterName,
+                                              anchorEntity,
                                               false,
-                                              supportedZones,
+                                              suppliedSupportedZones,
                                               methodName);
 
-                    results.add(relationship);
-                }
-                catch (Exception error)
-                {
-                    // ignore an element that is not visible to the caller
-                }
+                visibleEntityGUIDs.add(entityGUID);
+            }
+            catch (Exception error)
+            {
+                // ignore an element that is not visible to the caller
             }
         }
 
-        if (! results.isEmpty())
+        List<Relationship> visibleRelationships = new ArrayList<>();
+
+        for (Relationship relationship : candidateRelationships)
         {
-            return results;
+            if ((visibleEntityGUIDs.contains(relationship.getEntityOneProxy().getGUID())) &&
+                (visibleEntityGUIDs.contains(relationship.getEntityTwoProxy().getGUID())))
+            {
+                visibleRelationships.add(relationship);
+            }
         }
 
-        return null;
+        return visibleRelationships;
     }
 
 
@@ -7433,18 +7682,25 @@ public class OpenMetadataAPIGenericHandler<B>
         invalidParameterHandler.validateUserId(userId, methodName);
         invalidParameterHandler.validateGUID(guid, guidParameterName, methodName);
 
-        EntityDetail entity = this.getEntityFromRepository(userId,
-                                                           guid,
-                                                           guidParameterName,
-                                                           entityTypeName,
-                                                           null,
-                                                           null,
-                                                           serviceSupportedZones,
-                                                           methodName);
-
-        if (entity != null)
+        /*
+         * The entity is retrieved again when its anchor is validated - the request cache avoids a second
+         * call to the repositories.
+         */
+        try (RepositoryRequestCache ignored = repositoryHandler.startRequestCache())
         {
-            return converter.getNewBean(beanClass, entity, methodName);
+            EntityDetail entity = this.getEntityFromRepository(userId,
+                                                               guid,
+                                                               guidParameterName,
+                                                               entityTypeName,
+                                                               null,
+                                                               null,
+                                                               serviceSupportedZones,
+                                                               methodName);
+
+            if (entity != null)
+            {
+                return converter.getNewBean(beanClass, entity, methodName);
+            }
         }
 
         return null;
@@ -7599,7 +7855,8 @@ public class OpenMetadataAPIGenericHandler<B>
 
 
     /**
-     * Base on the parameters, load an appropriate repository helper iterator.
+     * Base on the parameters, load an appropriate repository helper iterator.  An exact match on the qualified name
+     * uses the repository's lookup of unique property values.
      *
      * @param userId calling user
      * @param searchString search string (or null to just return entities of a specific type)
@@ -7626,7 +7883,23 @@ public class OpenMetadataAPIGenericHandler<B>
     {
         RepositoryIteratorForEntities iterator;
 
-        if (searchString != null)
+        if ((searchString != null) && (exactValueMatch) && (sequencingPropertyName == null) && (startFrom == 0) &&
+            (specificMatchPropertyNames != null) && (specificMatchPropertyNames.size() == 1) &&
+            (OpenMetadataAPIMapper.QUALIFIED_NAME_PROPERTY_NAME.equals(specificMatchPropertyNames.get(0))))
+        {
+            /*
+             * Search for the exact value of the unique qualified name.  This is retrieved with a single
+             * lookup rather than a regular expression search.
+             */
+            iterator = new RepositoryUniquePropertyValueIterator(repositoryHandler,
+                                                                 userId,
+                                                                 resultTypeGUID,
+                                                                 resultTypeName,
+                                                                 OpenMetadataAPIMapper.QUALIFIED_NAME_PROPERTY_NAME,
+                                                                 searchString,
+                                                                 methodName);
+        }
+        else if (searchString != null)
         {
             String searchValue = searchString;
 
@@ -0,0 +1,477 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.generichandlers;
+
+import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryErrorHandler;
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollectionBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstancePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.PrimitivePropertyValue;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RelationshipNotKnownException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Validate that the ExternalIdentifierHandler checks the scope of the ExternalId entities it finds through its
+ * correlation index, searches for the identifiers that are not in the index together, and confirms each element
+ * of a batch separately.
+ */
+public class TestExternalIdentifierHandler
+{
+    private static final String USER_ID          = "testUser";
+    private static final String METHOD_NAME      = "testMethod";
+    private static final String SCOPE_TYPE_NAME  = "SoftwareServerCapability";
+    private static final String SCOPE_GUID       = "scope1";
+    private static final String OTHER_SCOPE_GUID = "scope2";
+    private static final String ELEMENT_TYPE     = "GlossaryTerm";
+
+    private TestMetadataCollection                    metadataCollection;
+    private ExternalIdentifierHandler<Object, Object> handler;
+
+
+    @BeforeMethod
+    public void setup()
+    {
+        OMRSRepositoryHelper repositoryHelper = mock(OMRSRepositoryHelper.class);
+
+        when(repositoryHelper.isTypeOf(any(), any(), any())).thenAnswer(args -> isTypeOf((String)args[1], (String)args[2]));
+        when(repositoryHelper.getExactMatchRegex(any())).thenAnswer(args -> Pattern.quote((String)args[0]));
+        when(repositoryHelper.getStringProperty(any(), any(), any(), any())).thenAnswer(args -> getStringProperty((String)args[1], (InstanceProperties)args[2]));
+        when(repositoryHelper.addStringPropertyToInstance(any(), any(), any(), any(), any())).thenAnswer(args -> addProperty((InstanceProperties)args[1], (String)args[2], args[3]));
+        when(repositoryHelper.addDatePropertyToInstance(any(), any(), any(), any(), any())).thenAnswer(args -> addProperty((InstanceProperties)args[1], (String)args[2], args[3]));
+
+        metadataCollection = new TestMetadataCollection(repositoryHelper, mock(OMRSRepositoryValidator.class));
+
+        RepositoryHandler repositoryHandler = new RepositoryHandler(null,
+                                                                    new RepositoryErrorHandler(repositoryHelper, "TestService", "TestServer", null),
+                                                                    metadataCollection,
+                                                                    500);
+
+        handler = new ExternalIdentifierHandler<>(null,
+                                                  Object.class,
+                                                  null,
+                                                  Object.class,
+                                                  "TestService",
+                                                  "TestServer",
+                                                  new InvalidParameterHandler(),
+                                                  repositoryHandler,
+                                                  repositoryHelper,
+                                                  "localServerUser",
+                                                  null,
+                                                  null,
+                                                  null,
+                                                  null,
+                                                  null);
+
+        metadataCollection.addEntity(SCOPE_GUID, SCOPE_TYPE_NAME, null);
+        metadataCollection.addEntity(OTHER_SCOPE_GUID, SCOPE_TYPE_NAME, null);
+    }
+
+
+    /**
+     * Validate that the identifiers that are not in the correlation index are found with a single search, that
+     * an identifier from another scope is ignored, and that each element is confirmed separately.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testConfirmSynchronizations() throws Exception
+    {
+        addExternalIdentifier("ext1", "id1", SCOPE_GUID, "element1");
+        addExternalIdentifier("ext2", "id2", SCOPE_GUID, "element2");
+        addExternalIdentifier("ext3", "id3", OTHER_SCOPE_GUID, "element3");
+        addExternalIdentifier("ext4", "id4", SCOPE_GUID, null);
+
+        Map<String, String> synchronizedElements = new LinkedHashMap<>();
+
+        synchronizedElements.put("id1", "element1");
+        synchronizedElements.put("id2", "element2");
+        synchronizedElements.put("id3", "element3");
+        synchronizedElements.put("id4", "element4");
+
+        Map<String, String> failures = confirmSynchronizations(synchronizedElements);
+
+        assertEquals(failures.keySet(), new HashSet<>(Arrays.asList("id3", "id4")));
+        assertEquals(metadataCollection.propertySearches, 1);
+        assertEquals(metadataCollection.updatedRelationships, Arrays.asList("link-ext1", "link-ext2"));
+
+        /*
+         * The second time, the identifiers found before come from the index.
+         */
+        metadataCollection.updatedRelationships.clear();
+        synchronizedElements.remove("id3");
+        synchronizedElements.remove("id4");
+
+        assertNull(confirmSynchronizations(synchronizedElements));
+        assertEquals(metadataCollection.propertySearches, 1);
+        assertEquals(metadataCollection.updatedRelationships, Arrays.asList("link-ext1", "link-ext2"));
+    }
+
+
+    /**
+     * Validate that an ExternalId entity found through the correlation index is not used once it is no longer
+     * linked to the scope.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testIndexHitScopeChecked() throws Exception
+    {
+        addExternalIdentifier("ext1", "id1", SCOPE_GUID, "element1");
+
+        Map<String, String> synchronizedElements = new LinkedHashMap<>();
+
+        synchronizedElements.put("id1", "element1");
+
+        assertNull(confirmSynchronizations(synchronizedElements));
+
+        metadataCollection.relationships.remove("scope-ext1");
+
+        Map<String, String> failures = confirmSynchronizations(synchronizedElements);
+
+        assertEquals(failures.size(), 1);
+        assertTrue(failures.containsKey("id1"));
+        assertEquals(metadataCollection.propertySearches, 2);
+    }
+
+
+    private Map<String, String> confirmSynchronizations(Map<String, String> synchronizedElements) throws Exception
+    {
+        return handler.confirmSynchronizations(USER_ID,
+                                               synchronizedElements,
+                                               "synchronizedElements",
+                                               ELEMENT_TYPE,
+                                               SCOPE_GUID,
+                                               "scopeGUID",
+                                               "TestScope",
+                                               SCOPE_TYPE_NAME,
+                                               METHOD_NAME);
+    }
+
+
+    private void addExternalIdentifier(String externalIdGUID,
+                                       String identifier,
+                                       String scopeGUID,
+                                       String elementGUID)
+    {
+        metadataCollection.addEntity(externalIdGUID,
+                                     OpenMetadataAPIMapper.EXTERNAL_IDENTIFIER_TYPE_NAME,
+                                     addProperty(null, OpenMetadataAPIMapper.IDENTIFIER_PROPERTY_NAME, identifier));
+        metadataCollection.addRelationship("scope-" + externalIdGUID,
+                                           OpenMetadataAPIMapper.EXTERNAL_ID_SCOPE_TYPE_GUID,
+                                           OpenMetadataAPIMapper.EXTERNAL_ID_SCOPE_TYPE_NAME,
+                                           scopeGUID,
+                                           SCOPE_TYPE_NAME,
+                                           externalIdGUID,
+                                           OpenMetadataAPIMapper.EXTERNAL_IDENTIFIER_TYPE_NAME);
+
+        if (elementGUID != null)
+        {
+            metadataCollection.addEntity(elementGUID, ELEMENT_TYPE, null);
+            metadataCollection.addRelationship("link-" + externalIdGUID,
+                                               OpenMetadataAPIMapper.REFERENCEABLE_TO_EXTERNAL_ID_TYPE_GUID,
+                                               OpenMetadataAPIMapper.REFERENCEABLE_TO_EXTERNAL_ID_TYPE_NAME,
+                                               elementGUID,
+                                               ELEMENT_TYPE,
+                                               externalIdGUID,
+                                               OpenMetadataAPIMapper.EXTERNAL_IDENTIFIER_TYPE_NAME);
+        }
+    }
+
+
+    private static boolean isTypeOf(String typeName,
+                                    String superTypeName)
+    {
+        if ((typeName == null) || (superTypeName == null))
+        {
+            return false;
+        }
+
+        return typeName.equals(superTypeName) ||
+               ((! typeName.equals(OpenMetadataAPIMapper.EXTERNAL_ID_SCOPE_TYPE_NAME)) &&
+                (! typeName.equals(OpenMetadataAPIMapper.REFERENCEABLE_TO_EXTERNAL_ID_TYPE_NAME)) &&
+                (OpenMetadataAPIMapper.REFERENCEABLE_TYPE_NAME.equals(superTypeName) ||
+                 OpenMetadataAPIMapper.OPEN_METADATA_ROOT_TYPE_NAME.equals(superTypeName)));
+    }
+
+
+    private static String getStringProperty(String             propertyName,
+                                            InstanceProperties properties)
+    {
+        if (properties != null)
+        {
+            InstancePropertyValue value = properties.getPropertyValue(propertyName);
+
+            if (value instanceof PrimitivePropertyValue)
+            {
+                return (String)((PrimitivePropertyValue)value).getPrimitiveValue();
+            }
+        }
+
+        return null;
+    }
+
+
+    private static InstanceProperties addProperty(InstanceProperties properties,
+                                                  String             propertyName,
+                                                  Object             value)
+    {
+        InstanceProperties     resultProperties = (properties == null) ? new InstanceProperties() : properties;
+        PrimitivePropertyValue propertyValue    = new PrimitivePropertyValue();
+
+        propertyValue.setPrimitiveValue(value);
+        resultProperties.setProperty(propertyName, propertyValue);
+
+        return resultProperties;
+    }
+
+
+    /**
+     * Metadata collection that holds a small graph in memory and records the searches and updates it receives.
+     */
+    private static class TestMetadataCollection extends OMRSMetadataCollectionBase
+    {
+        private final Map<String, EntityDetail> entities             = new LinkedHashMap<>();
+        private final Map<String, Relationship> relationships        = new LinkedHashMap<>();
+        private final List<String>              updatedRelationships = new ArrayList<>();
+        private int                             propertySearches     = 0;
+
+        TestMetadataCollection(OMRSRepositoryHelper    repositoryHelper,
+                               OMRSRepositoryValidator repositoryValidator)
+        {
+            super(null, "TestRepository", repositoryHelper, repositoryValidator, "testMetadataCollection");
+        }
+
+
+        void addEntity(String             guid,
+                       String             typeName,
+                       InstanceProperties properties)
+        {
+            EntityDetail entity = new EntityDetail();
+
+            entity.setGUID(guid);
+            entity.setType(getType(typeName, typeName));
+            entity.setStatus(InstanceStatus.ACTIVE);
+            entity.setProperties(properties);
+            entities.put(guid, entity);
+        }
+
+
+        void addRelationship(String guid,
+                             String typeGUID,
+                             String typeName,
+                             String entityOneGUID,
+                             String entityOneTypeName,
+                             String entityTwoGUID,
+                             String entityTwoTypeName)
+        {
+            Relationship relationship = new Relationship();
+
+            relationship.setGUID(guid);
+            relationship.setType(getType(typeGUID, typeName));
+            relationship.setStatus(InstanceStatus.ACTIVE);
+            relationship.setEntityOneProxy(getProxy(entityOneGUID, entityOneTypeName));
+            relationship.setEntityTwoProxy(getProxy(entityTwoGUID, entityTwoTypeName));
+            relationships.put(guid, relationship);
+        }
+
+
+        private InstanceType getType(String typeGUID,
+                                     String typeName)
+        {
+            InstanceType type = new InstanceType();
+
+            type.setTypeDefGUID(typeGUID);
+            type.setTypeDefName(typeName);
+
+            return type;
+        }
+
+
+        private EntityProxy getProxy(String guid,
+                                     String typeName)
+        {
+            EntityProxy proxy = new EntityProxy();
+
+            proxy.setGUID(guid);
+            proxy.setType(getType(typeName, typeName));
+
+            return proxy;
+        }
+
+
+        @Override
+        public EntityDetail getEntityDetail(String userId,
+                                            String guid) throws EntityNotKnownException
+        {
+            EntityDetail entity = entities.get(guid);
+
+            if (entity == null)
+            {
+                throw new EntityNotKnownException(OMRSErrorCode.ENTITY_NOT_KNOWN.getMessageDefinition(guid, "getEntityDetail", repositoryName),
+                                                  this.getClass().getName(),
+                                                  "getEntityDetail");
+            }
+
+            return entity;
+        }
+
+
+        @Override
+        public List<EntityDetail> getEntityDetails(String       userId,
+                                                   List<String> guids)
+        {
+            List<EntityDetail> results = new ArrayList<>();
+
+            for (String guid : guids)
+            {
+                if (entities.containsKey(guid))
+                {
+                    results.add(entities.get(guid));
+                }
+            }
+
+            return results;
+        }
+
+
+        @Override
+        public List<EntityDetail> findEntitiesByProperty(String               userId,
+                                                         String               entityTypeGUID,
+                                                         InstanceProperties   matchProperties,
+                                                         MatchCriteria        matchCriteria,
+                                                         int                  fromEntityElement,
+                                                         List<InstanceStatus> limitResultsByStatus,
+                                                         List<String>         limitResultsByClassification,
+                                                         Date                 asOfTime,
+                                                         String               sequencingProperty,
+                                                         SequencingOrder      sequencingOrder,
+                                                         int                  pageSize)
+        {
+            Pattern            searchPattern = Pattern.compile(getStringProperty(OpenMetadataAPIMapper.IDENTIFIER_PROPERTY_NAME, matchProperties));
+            List<EntityDetail> results       = new ArrayList<>();
+
+            /*
+             * Only the request for the first page counts as a new search.
+             */
+            if (fromEntityElement == 0)
+            {
+                propertySearches++;
+
+                for (EntityDetail entity : entities.values())
+                {
+                    String identifier = getStringProperty(OpenMetadataAPIMapper.IDENTIFIER_PROPERTY_NAME, entity.getProperties());
+
+                    if ((identifier != null) && (searchPattern.matcher(identifier).matches()))
+                    {
+                        results.add(entity);
+                    }
+                }
+            }
+
+            if (results.isEmpty())
+            {
+                return null;
+            }
+
+            return results;
+        }
+
+
+        @Override
+        public List<Relationship> getRelationshipsForEntity(String               userId,
+                                                            String               entityGUID,
+                                                            String               relationshipTypeGUID,
+                                                            int                  fromRelationshipElement,
+                                                            List<InstanceStatus> limitResultsByStatus,
+                                                            Date                 asOfTime,
+                                                            String               sequencingProperty,
+                                                            SequencingOrder      sequencingOrder,
+                                                            int                  pageSize)
+        {
+            List<Relationship> results = new ArrayList<>();
+
+            if (fromRelationshipElement == 0)
+            {
+                for (Relationship relationship : relationships.values())
+                {
+                    if (((relationshipTypeGUID == null) || (relationshipTypeGUID.equals(relationship.getType().getTypeDefGUID()))) &&
+                        ((entityGUID.equals(relationship.getEntityOneProxy().getGUID())) ||
+                         (entityGUID.equals(relationship.getEntityTwoProxy().getGUID()))))
+                    {
+                        results.add(relationship);
+                    }
+                }
+            }
+
+            if (results.isEmpty())
+            {
+                return null;
+            }
+
+            return results;
+        }
+
+
+        @Override
+        public Relationship getRelationship(String userId,
+                                            String guid) throws RelationshipNotKnownException
+        {
+            Relationship relationship = relationships.get(guid);
+
+            if (relationship == null)
+            {
+                throw new RelationshipNotKnownException(OMRSErrorCode.RELATIONSHIP_NOT_KNOWN.getMessageDefinition(guid, "getRelationship", repositoryName),
+                                                        this.getClass().getName(),
+                                                        "getRelationship");
+            }
+
+            return relationship;
+        }
+
+
+        @Override
+        public Relationship updateRelationshipProperties(String             userId,
+                                                         String             relationshipGUID,
+                                                         InstanceProperties properties)
+        {
+            updatedRelationships.add(relationshipGUID);
+
+            Relationship relationship = relationships.get(relationshipGUID);
+
+            relationship.setProperties(properties);
+
+            return relationship;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.generichandlers;
+
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryErrorHandler;
+import org.odpi.openmetadata.commonservices.repositoryhandler.RepositoryHandler;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollectionBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+
+/**
+ * Validate that the generic handler looks up qualified names with the repository's lookup of unique property
+ * values and that other searches still use a property search.
+ */
+public class TestUniqueNameLookup
+{
+    private static final String USER_ID     = "testUser";
+    private static final String METHOD_NAME = "testMethod";
+    private static final String TYPE_GUID   = "typeGUID";
+    private static final String TYPE_NAME   = "Referenceable";
+
+    @Mock
+    private OMRSRepositoryHelper repositoryHelper;
+    @Mock
+    private OMRSRepositoryValidator repositoryValidator;
+
+    private TestMetadataCollection                metadataCollection;
+    private OpenMetadataAPIGenericHandler<Object> handler;
+
+
+    @BeforeMethod
+    public void setup()
+    {
+        MockitoAnnotations.openMocks(this);
+
+        metadataCollection = new TestMetadataCollection(repositoryHelper, repositoryValidator);
+
+        RepositoryHandler repositoryHandler = new RepositoryHandler(null,
+                                                                    new RepositoryErrorHandler(repositoryHelper, "TestService", "TestServer", null),
+                                                                    metadataCollection,
+                                                                    500);
+
+        handler = new OpenMetadataAPIGenericHandler<>(null,
+                                                      Object.class,
+                                                      "TestService",
+                                                      "TestServer",
+                                                      new InvalidParameterHandler(),
+                                                      repositoryHandler,
+                                                      repositoryHelper,
+                                                      "localServerUser",
+                                                      null,
+                                                      null,
+                                                      null,
+                                                      null,
+                                                      null);
+    }
+
+
+    /**
+     * Validate that a qualified name is retrieved with a single unique value lookup.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testQualifiedNameLookup() throws Exception
+    {
+        metadataCollection.uniqueValueEntities.add(getEntity("1111"));
+
+        EntityDetail entity = handler.getEntityByValue(USER_ID,
+                                                       "test.qualifiedName",
+                                                       "qualifiedName",
+                                                       TYPE_GUID,
+                                                       TYPE_NAME,
+                                                       Collections.singletonList(OpenMetadataAPIMapper.QUALIFIED_NAME_PROPERTY_NAME),
+                                                       METHOD_NAME);
+
+        assertEquals(entity.getGUID(), "1111");
+        assertEquals(metadataCollection.uniqueValueLookups, Collections.singletonList("qualifiedName=test.qualifiedName"));
+        assertEquals(metadataCollection.propertySearches, 0);
+
+        String guid = handler.getBeanGUIDByUniqueName(USER_ID,
+                                                      "test.qualifiedName",
+                                                      "qualifiedName",
+                                                      OpenMetadataAPIMapper.QUALIFIED_NAME_PROPERTY_NAME,
+                                                      TYPE_GUID,
+                                                      TYPE_NAME,
+                                                      null,
+                                                      METHOD_NAME);
+
+        assertEquals(guid, "1111");
+        assertEquals(metadataCollection.uniqueValueLookups.size(), 2);
+        assertEquals(metadataCollection.propertySearches, 0);
+    }
+
+
+    /**
+     * Validate that a qualified name that is not known returns null.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testUnknownQualifiedName() throws Exception
+    {
+        assertNull(handler.getEntityByValue(USER_ID,
+                                            "unknown.qualifiedName",
+                                            "qualifiedName",
+                                            TYPE_GUID,
+                                            TYPE_NAME,
+                                            Collections.singletonList(OpenMetadataAPIMapper.QUALIFIED_NAME_PROPERTY_NAME),
+                                            METHOD_NAME));
+
+        assertEquals(metadataCollection.uniqueValueLookups.size(), 1);
+        assertEquals(metadataCollection.propertySearches, 0);
+    }
+
+
+    /**
+     * Validate that a search on other properties still uses a property search.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testOtherPropertyLookup() throws Exception
+    {
+        List<String> propertyNames = new ArrayList<>();
+        propertyNames.add(OpenMetadataAPIMapper.QUALIFIED_NAME_PROPERTY_NAME);
+        propertyNames.add(OpenMetadataAPIMapper.NAME_PROPERTY_NAME);
+
+        handler.getEntityByValue(USER_ID, "testName", "name", TYPE_GUID, TYPE_NAME, propertyNames, METHOD_NAME);
+
+        assertEquals(metadataCollection.uniqueValueLookups.size(), 0);
+        assertEquals(metadataCollection.propertySearches, 1);
+    }
+
+
+    private EntityDetail getEntity(String guid)
+    {
+        InstanceType type = new InstanceType();
+
+        type.setTypeDefGUID(TYPE_GUID);
+        type.setTypeDefName(TYPE_NAME);
+
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setType(type);
+
+        return entity;
+    }
+
+
+    /**
+     * Metadata collection that records the searches it receives.
+     */
+    private static class TestMetadataCollection extends OMRSMetadataCollectionBase
+    {
+        private final List<EntityDetail> uniqueValueEntities = new ArrayList<>();
+        private final List<String>       uniqueValueLookups  = new ArrayList<>();
+        private int                      propertySearches    = 0;
+
+        TestMetadataCollection(OMRSRepositoryHelper    repositoryHelper,
+                               OMRSRepositoryValidator repositoryValidator)
+        {
+            super(null, "TestRepository", repositoryHelper, repositoryValidator, "testMetadataCollection");
+        }
+
+
+        @Override
+        public List<EntityDetail> findEntitiesByUniquePropertyValue(String userId,
+                                                                    String entityTypeGUID,
+                                                                    String propertyName,
+                                                                    String propertyValue)
+        {
+            uniqueValueLookups.add(propertyName + "=" + propertyValue);
+
+            if (uniqueValueEntities.isEmpty())
+            {
+                return null;
+            }
+
+            return new ArrayList<>(uniqueValueEntities);
+        }
+
+
+        @Override
+        public List<EntityDetail> findEntitiesByProperty(String               userId,
+                                                         String               entityTypeGUID,
+                                                         InstanceProperties   matchProperties,
+                                                         MatchCriteria        matchCriteria,
+                                                         int                  fromEntityElement,
+                                                         List<InstanceStatus> limitResultsByStatus,
+                                                         List<String>         limitResultsByClassification,
+                                                         Date                 asOfTime,
+                                                         String               sequencingProperty,
+                                                         SequencingOrder      sequencingOrder,
+                                                         int                  pageSize)
+        {
+            propertySearches++;
+
+            return null;
+        }
+    }
+}
@@ -0,0 +1,337 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.metadatasecurity.connectors;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OpenMetadataSecurityDecisionCache remembers the decisions made by the server's security connector so that
+ * repeated checks for the same user, operation and resource attributes do not call the connector again.
+ * It is created by the OpenMetadataServerSecurityVerifier when the security connector's connection has the
+ * decisionCacheTimeToLive configuration property set to a positive number of seconds.
+ * <p>
+ * Each decision is kept until its time to live expires.  When the cache is full, the least recently used
+ * decision is evicted.  A security connector whose decisions depend on information that changes (for example
+ * the user's group membership) should call one of the invalidate methods when that information changes.
+ * </p>
+ */
+public class OpenMetadataSecurityDecisionCache
+{
+    /**
+     * Name of the configuration property that sets the number of seconds that a decision is cached.
+     */
+    public static final String TIME_TO_LIVE_PROPERTY = "decisionCacheTimeToLive";
+
+    /**
+     * Name of the configuration property that sets the maximum number of decisions cached.
+     */
+    public static final String MAXIMUM_SIZE_PROPERTY = "decisionCacheMaximumSize";
+
+    /**
+     * Maximum number of decisions cached if the maximum size is not configured.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 10000;
+
+    private final long                                   timeToLive;
+    private final int                                    maximumSize;
+    private final LinkedHashMap<List<Object>, Decision> decisions;
+
+    private long hitCount      = 0;
+    private long missCount     = 0;
+    private long evictionCount = 0;
+
+
+    /**
+     * Create the cache.
+     *
+     * @param timeToLive number of milliseconds that a decision is cached
+     * @param maximumSize maximum number of decisions cached
+     */
+    public OpenMetadataSecurityDecisionCache(long timeToLive,
+                                             int  maximumSize)
+    {
+        this.timeToLive = timeToLive;
+        this.maximumSize = maximumSize;
+        this.decisions = new LinkedHashMap<List<Object>, Decision>(16, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<Object>, Decision> eldest)
+            {
+                if (size() > OpenMetadataSecurityDecisionCache.this.maximumSize)
+                {
+                    evictionCount++;
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+
+    /**
+     * Build the key for a decision.  Collections and maps in the resource attributes (such as zone membership
+     * or security properties) are copied so that later changes to the resource do not change the cached key.
+     *
+     * @param userId calling user
+     * @param operation name of the security check
+     * @param resourceAttributes attributes of the resource that the decision depends on
+     * @return key
+     */
+    public static List<Object> getKey(String    userId,
+                                      String    operation,
+                                      Object... resourceAttributes)
+    {
+        Object[] key = new Object[resourceAttributes.length + 2];
+
+        key[0] = userId;
+        key[1] = operation;
+
+        for (int i = 0; i < resourceAttributes.length; i++)
+        {
+            key[i + 2] = getImmutableAttribute(resourceAttributes[i]);
+        }
+
+        return Collections.unmodifiableList(Arrays.asList(key));
+    }
+
+
+    /**
+     * Return an immutable copy of a resource attribute.  Collections become unmodifiable lists and maps become
+     * unmodifiable maps, copied in the same way.  Other values are returned unchanged.
+     *
+     * @param attribute resource attribute
+     * @return immutable value
+     */
+    private static Object getImmutableAttribute(Object attribute)
+    {
+        if (attribute instanceof Collection)
+        {
+            List<Object> copy = new ArrayList<>();
+
+            for (Object element : (Collection<?>)attribute)
+            {
+                copy.add(getImmutableAttribute(element));
+            }
+
+            return Collections.unmodifiableList(copy);
+        }
+        else if (attribute instanceof Map)
+        {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>)attribute).entrySet())
+            {
+                copy.put(entry.getKey(), getImmutableAttribute(entry.getValue()));
+            }
+
+            return Collections.unmodifiableMap(copy);
+        }
+
+        return attribute;
+    }
+
+
+    /**
+     * Return the cached decision for the key.
+     *
+     * @param key key built by getKey
+     * @return decision or null if the decision is not cached
+     */
+    public synchronized Decision getDecision(List<Object> key)
+    {
+        Decision decision = decisions.get(key);
+
+        if ((decision != null) && (decision.expiryTime < System.currentTimeMillis()))
+        {
+            decisions.remove(key);
+            evictionCount++;
+            decision = null;
+        }
+
+        if (decision == null)
+        {
+            missCount++;
+        }
+        else
+        {
+            hitCount++;
+        }
+
+        return decision;
+    }
+
+
+    /**
+     * Cache a decision that allowed the request.
+     *
+     * @param key key built by getKey
+     * @param result value returned by the security connector (null for checks that do not return a value)
+     */
+    public synchronized void putAllowed(List<Object> key,
+                                        Object       result)
+    {
+        decisions.put(key, new Decision(result, null, System.currentTimeMillis() + timeToLive));
+    }
+
+
+    /**
+     * Cache a decision that rejected the request.
+     *
+     * @param key key built by getKey
+     * @param error exception returned by the security connector
+     */
+    public synchronized void putRejected(List<Object>               key,
+                                         UserNotAuthorizedException error)
+    {
+        decisions.put(key, new Decision(null, error, System.currentTimeMillis() + timeToLive));
+    }
+
+
+    /**
+     * Remove all cached decisions.
+     */
+    public synchronized void invalidate()
+    {
+        decisions.clear();
+    }
+
+
+    /**
+     * Remove all cached decisions for a user.
+     *
+     * @param userId calling user
+     */
+    public synchronized void invalidate(String userId)
+    {
+        Iterator<List<Object>> iterator = decisions.keySet().iterator();
+
+        while (iterator.hasNext())
+        {
+            Object cachedUserId = iterator.next().get(0);
+
+            if ((cachedUserId != null) && (cachedUserId.equals(userId)))
+            {
+                iterator.remove();
+            }
+        }
+    }
+
+
+    /**
+     * Return the number of checks answered from the cache.
+     *
+     * @return count
+     */
+    public synchronized long getHitCount()
+    {
+        return hitCount;
+    }
+
+
+    /**
+     * Return the number of checks that called the security connector.
+     *
+     * @return count
+     */
+    public synchronized long getMissCount()
+    {
+        return missCount;
+    }
+
+
+    /**
+     * Return the number of decisions removed because they expired or the cache was full.
+     *
+     * @return count
+     */
+    public synchronized long getEvictionCount()
+    {
+        return evictionCount;
+    }
+
+
+    /**
+     * Return the number of decisions in the cache.
+     *
+     * @return count
+     */
+    public synchronized int getSize()
+    {
+        return decisions.size();
+    }
+
+
+    /**
+     * Decision is a single cached decision.
+     */
+    public static class Decision
+    {
+        private final Object                     result;
+        private final UserNotAuthorizedException error;
+        private final long                       expiryTime;
+
+        /**
+         * Create the decision.
+         *
+         * @param result value returned by the security connector
+         * @param error exception thrown by the security connector
+         * @param expiryTime time (in milliseconds) that the decision expires
+         */
+        private Decision(Object                     result,
+                         UserNotAuthorizedException error,
+                         long                       expiryTime)
+        {
+            this.result = result;
+            this.error = error;
+            this.expiryTime = expiryTime;
+        }
+
+
+        /**
+         * Return the value returned by the security connector.
+         *
+         * @return object or null
+         */
+        public Object getResult()
+        {
+            return result;
+        }
+
+
+        /**
+         * Throw an exception if the request was rejected.  Each call throws a new exception with the details of the
+         * one returned by the security connector so that callers do not share the cached exception.
+         *
+         * @throws UserNotAuthorizedException the user is not authorized
+         */
+        public void throwIfRejected() throws UserNotAuthorizedException
+        {
+            if (error != null)
+            {
+                throw new UserNotAuthorizedException(error.getReportedHTTPCode(),
+                                                     error.getReportingClassName(),
+                                                     error.getReportingActionDescription(),
+                                                     error.getReportedErrorMessage(),
+                                                     error.getReportedErrorMessageId(),
+                                                     error.getReportedErrorMessageParameters(),
+                                                     error.getReportedSystemAction(),
+                                                     error.getReportedUserAction(),
+                                                     error.getReportedCaughtExceptionClassName(),
+                                                     error.getUserId(),
+                                                     error.getRelatedProperties());
+            }
+        }
+    }
+}
@@ -47,6 +47,48 @@ public class OpenMetadataServerSecurityConnector extends ConnectorBase implement
 
     protected final String unknownTypeName = "<Unknown>";
 
+    private OpenMetadataSecurityDecisionCache decisionCache = null;
+
+
+    /**
+     * Set up the cache of the decisions made by this connector.  This is called by the server when
+     * the decision cache is enabled.
+     *
+     * @param decisionCache cache of decisions
+     */
+    public void setDecisionCache(OpenMetadataSecurityDecisionCache decisionCache)
+    {
+        this.decisionCache = decisionCache;
+    }
+
+
+    /**
+     * Remove all of the cached decisions.  This is called by a subclass when the information that its
+     * decisions are based on changes.
+     */
+    protected void invalidateCachedDecisions()
+    {
+        if (decisionCache != null)
+        {
+            decisionCache.invalidate();
+        }
+    }
+
+
+    /**
+     * Remove the cached decisions for a user.  This is called by a subclass when the information
+     * about the user that its decisions are based on changes.
+     *
+     * @param userId user whose details have changed
+     */
+    protected void invalidateCachedDecisions(String userId)
+    {
+        if (decisionCache != null)
+        {
+            decisionCache.invalidate(userId);
+        }
+    }
+
 
     /**
      * Write an audit log message to say that the connector is initializing.
@@ -0,0 +1,139 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.metadatasecurity.connectors;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+import org.odpi.openmetadata.metadatasecurity.ffdc.OpenMetadataSecurityErrorCode;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Validate the keys and decisions of the OpenMetadataSecurityDecisionCache.
+ */
+public class TestOpenMetadataSecurityDecisionCache
+{
+    private static final String USER_ID   = "testUser";
+    private static final String OPERATION = "validateUserForAssetRead";
+
+
+    /**
+     * Validate that changing the zones or security properties of a resource after its key is built does not
+     * change the key, so the cached decision is not returned for the changed resource.
+     */
+    @Test
+    public void testKeyIsNotChangedByResource()
+    {
+        OpenMetadataSecurityDecisionCache decisionCache = new OpenMetadataSecurityDecisionCache(60000, 10);
+
+        List<String>        zoneMembership     = new ArrayList<>();
+        Map<String, Object> securityProperties = new HashMap<>();
+
+        zoneMembership.add("quarantine");
+        securityProperties.put("level", "public");
+
+        List<Object> key = OpenMetadataSecurityDecisionCache.getKey(USER_ID, OPERATION, zoneMembership, securityProperties);
+
+        decisionCache.putAllowed(key, null);
+
+        zoneMembership.add("finance");
+        securityProperties.put("level", "secret");
+
+        List<Object> changedKey = OpenMetadataSecurityDecisionCache.getKey(USER_ID, OPERATION, zoneMembership, securityProperties);
+
+        assertNotEquals(changedKey, key);
+        assertNull(decisionCache.getDecision(changedKey));
+        assertNotNull(decisionCache.getDecision(key));
+        assertEquals(decisionCache.getSize(), 1);
+    }
+
+
+    /**
+     * Validate that the key and the attributes copied into it can not be changed.
+     */
+    @Test
+    public void testKeyIsImmutable()
+    {
+        List<String> zoneMembership = new ArrayList<>();
+
+        zoneMembership.add("quarantine");
+
+        List<Object> key = OpenMetadataSecurityDecisionCache.getKey(USER_ID, OPERATION, zoneMembership);
+
+        try
+        {
+            key.set(0, "otherUser");
+            fail();
+        }
+        catch (UnsupportedOperationException error)
+        {
+            assertEquals(key.get(0), USER_ID);
+        }
+
+        try
+        {
+            ((List<?>)key.get(2)).clear();
+            fail();
+        }
+        catch (UnsupportedOperationException error)
+        {
+            assertEquals(((List<?>)key.get(2)).size(), 1);
+        }
+    }
+
+
+    /**
+     * Validate that each check answered by a cached rejection throws a new exception with the details of the
+     * original one.
+     */
+    @Test
+    public void testRejectionThrowsNewException()
+    {
+        OpenMetadataSecurityDecisionCache decisionCache = new OpenMetadataSecurityDecisionCache(60000, 10);
+        List<Object>                      key           = OpenMetadataSecurityDecisionCache.getKey(USER_ID, OPERATION);
+        UserNotAuthorizedException        cachedError   = new UserNotAuthorizedException(OpenMetadataSecurityErrorCode.UNAUTHORIZED_SERVER_ACCESS.getMessageDefinition(USER_ID,
+                                                                                                                                                                "TestServer"),
+                                                                                         this.getClass().getName(),
+                                                                                         OPERATION,
+                                                                                         USER_ID);
+
+        decisionCache.putRejected(key, cachedError);
+
+        UserNotAuthorizedException firstError  = getRejection(decisionCache.getDecision(key));
+        UserNotAuthorizedException secondError = getRejection(decisionCache.getDecision(key));
+
+        assertNotSame(firstError, cachedError);
+        assertNotSame(secondError, firstError);
+        assertEquals(firstError.getReportedErrorMessageId(), cachedError.getReportedErrorMessageId());
+        assertEquals(firstError.getReportedErrorMessage(), cachedError.getReportedErrorMessage());
+        assertEquals(firstError.getUserId(), USER_ID);
+        assertEquals(decisionCache.getHitCount(), 2);
+    }
+
+
+    private UserNotAuthorizedException getRejection(OpenMetadataSecurityDecisionCache.Decision decision)
+    {
+        try
+        {
+            decision.throwIfRejected();
+            fail();
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            return error;
+        }
+
+        return null;
+    }
+}
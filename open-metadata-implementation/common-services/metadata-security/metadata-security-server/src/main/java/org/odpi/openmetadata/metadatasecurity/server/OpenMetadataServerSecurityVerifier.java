@@ -9,6 +9,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.metadatasecurity.*;
+import org.odpi.openmetadata.metadatasecurity.connectors.OpenMetadataSecurityDecisionCache;
 import org.odpi.openmetadata.metadatasecurity.connectors.OpenMetadataServerSecurityConnector;
 import org.odpi.openmetadata.metadatasecurity.ffdc.OpenMetadataSecurityErrorCode;
 import org.odpi.openmetadata.metadatasecurity.properties.AssetAuditHeader;
@@ -25,6 +26,7 @@ import org.odpi.openmetadata.repositoryservices.events.OpenMetadataEventsSecurit
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 
 /**
@@ -46,6 +48,8 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     private OpenMetadataConnectionSecurity connectionSecurityConnector = null;
     private OpenMetadataAssetSecurity      assetSecurityConnector      = null;
 
+    private OpenMetadataSecurityDecisionCache decisionCache = null;
+
     /**
      * Default constructor
      */
@@ -102,6 +106,13 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
             {
                 assetSecurityConnector = (OpenMetadataAssetSecurity)connector;
             }
+
+            decisionCache = this.getDecisionCache(connection);
+
+            if ((connector != null) && (decisionCache != null))
+            {
+                connector.setDecisionCache(decisionCache);
+            }
         }
         catch (InvalidParameterException error)
         {
@@ -162,6 +173,171 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     }
 
 
+    /**
+     * Create the decision cache if the connection's configuration properties request it.  The cache is
+     * turned on by setting decisionCacheTimeToLive to the number of seconds that a decision is kept.
+     * The optional decisionCacheMaximumSize property limits the number of decisions kept.
+     *
+     * @param connection connection from the configuration document
+     * @return decision cache or null
+     */
+    private OpenMetadataSecurityDecisionCache getDecisionCache(org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection   connection)
+    {
+        if (connection != null)
+        {
+            Map<String, Object> configurationProperties = connection.getConfigurationProperties();
+
+            if (configurationProperties != null)
+            {
+                long timeToLive  = this.getLongProperty(configurationProperties,
+                                                        OpenMetadataSecurityDecisionCache.TIME_TO_LIVE_PROPERTY,
+                                                        0);
+                long maximumSize = this.getLongProperty(configurationProperties,
+                                                        OpenMetadataSecurityDecisionCache.MAXIMUM_SIZE_PROPERTY,
+                                                        OpenMetadataSecurityDecisionCache.DEFAULT_MAXIMUM_SIZE);
+
+                if ((timeToLive > 0) && (maximumSize > 0))
+                {
+                    return new OpenMetadataSecurityDecisionCache(timeToLive * 1000, (int)Math.min(maximumSize, Integer.MAX_VALUE));
+                }
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Extract a numeric configuration property.  Values that are not numbers are ignored.
+     *
+     * @param configurationProperties properties from the connection
+     * @param propertyName name of the property
+     * @param defaultValue value to use if the property is not set
+     * @return property value
+     */
+    private long getLongProperty(Map<String, Object> configurationProperties,
+                                 String              propertyName,
+                                 long                defaultValue)
+    {
+        Object propertyValue = configurationProperties.get(propertyName);
+
+        if (propertyValue instanceof Number)
+        {
+            return ((Number)propertyValue).longValue();
+        }
+        else if (propertyValue != null)
+        {
+            try
+            {
+                return Long.parseLong(propertyValue.toString().trim());
+            }
+            catch (NumberFormatException error)
+            {
+                return defaultValue;
+            }
+        }
+
+        return defaultValue;
+    }
+
+
+    /**
+     * Return the cache of authorization decisions.  This is null unless the security connector's connection
+     * turns the cache on.  It provides the hit, miss and eviction counts for the cache.
+     *
+     * @return decision cache or null
+     */
+    public OpenMetadataSecurityDecisionCache getDecisionCache()
+    {
+        return decisionCache;
+    }
+
+
+    /**
+     * Run a security check that does not return a value, using the decision cache if it is active.
+     *
+     * @param key key for the decision
+     * @param cacheRejection should a rejection be cached?
+     * @param securityCheck call to the security connector
+     * @throws UserNotAuthorizedException the user is not authorized
+     */
+    private void validateThroughDecisionCache(List<Object>  key,
+                                              boolean       cacheRejection,
+                                              SecurityCheck securityCheck) throws UserNotAuthorizedException
+    {
+        if (decisionCache == null)
+        {
+            securityCheck.validate();
+            return;
+        }
+
+        OpenMetadataSecurityDecisionCache.Decision decision = decisionCache.getDecision(key);
+
+        if (decision != null)
+        {
+            decision.throwIfRejected();
+            return;
+        }
+
+        try
+        {
+            securityCheck.validate();
+            decisionCache.putAllowed(key, null);
+        }
+        catch (UserNotAuthorizedException error)
+        {
+            if (cacheRejection)
+            {
+                decisionCache.putRejected(key, error);
+            }
+
+            throw error;
+        }
+    }
+
+
+    /**
+     * Build the key for a decision about a repository instance.  The version is included so that the decision
+     * is made again when the instance changes.
+     *
+     * @param userId calling user
+     * @param operationName name of the security check
+     * @param metadataCollectionName configurable name of the metadata collection
+     * @param instance instance details
+     * @return key
+     */
+    private List<Object> getInstanceKey(String         userId,
+                                        String         operationName,
+                                        String         metadataCollectionName,
+                                        InstanceHeader instance)
+    {
+        if (instance == null)
+        {
+            return OpenMetadataSecurityDecisionCache.getKey(userId, operationName, metadataCollectionName);
+        }
+
+        return OpenMetadataSecurityDecisionCache.getKey(userId,
+                                                        operationName,
+                                                        metadataCollectionName,
+                                                        instance.getGUID(),
+                                                        instance.getVersion());
+    }
+
+
+    /**
+     * SecurityCheck is a call to the security connector that does not return a value.
+     */
+    private interface SecurityCheck
+    {
+        /**
+         * Issue the call to the security connector.
+         *
+         * @throws UserNotAuthorizedException the user is not authorized
+         */
+        void validate() throws UserNotAuthorizedException;
+    }
+
+
     /**
      * Determine the appropriate setting for the supported zones depending on the user and the
      * default supported zones set up for the service.  This is called whenever an asset is accessed.
@@ -437,7 +613,11 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     {
         if (serverSecurityConnector != null)
         {
-            serverSecurityConnector.validateUserForServer(userId);
+            final String operationName = "validateUserForServer";
+
+            validateThroughDecisionCache(OpenMetadataSecurityDecisionCache.getKey(userId, operationName),
+                                         true,
+                                         () -> serverSecurityConnector.validateUserForServer(userId));
         }
     }
 
@@ -454,7 +634,11 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     {
         if (serverSecurityConnector != null)
         {
-            serverSecurityConnector.validateUserAsServerAdmin(userId);
+            final String operationName = "validateUserAsServerAdmin";
+
+            validateThroughDecisionCache(OpenMetadataSecurityDecisionCache.getKey(userId, operationName),
+                                         true,
+                                         () -> serverSecurityConnector.validateUserAsServerAdmin(userId));
         }
     }
 
@@ -471,7 +655,11 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     {
         if (serverSecurityConnector != null)
         {
-            serverSecurityConnector.validateUserAsServerOperator(userId);
+            final String operationName = "validateUserAsServerOperator";
+
+            validateThroughDecisionCache(OpenMetadataSecurityDecisionCache.getKey(userId, operationName),
+                                         true,
+                                         () -> serverSecurityConnector.validateUserAsServerOperator(userId));
         }
     }
 
@@ -488,7 +676,11 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     {
         if (serverSecurityConnector != null)
         {
-            serverSecurityConnector.validateUserAsServerInvestigator(userId);
+            final String operationName = "validateUserAsServerInvestigator";
+
+            validateThroughDecisionCache(OpenMetadataSecurityDecisionCache.getKey(userId, operationName),
+                                         true,
+                                         () -> serverSecurityConnector.validateUserAsServerInvestigator(userId));
         }
     }
 
@@ -507,7 +699,11 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     {
         if (serviceSecurityConnector != null)
         {
-            serviceSecurityConnector.validateUserForService(userId, serviceName);
+            final String operationName = "validateUserForService";
+
+            validateThroughDecisionCache(OpenMetadataSecurityDecisionCache.getKey(userId, operationName, serviceName),
+                                         true,
+                                         () -> serviceSecurityConnector.validateUserForService(userId, serviceName));
         }
     }
 
@@ -528,7 +724,11 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     {
         if (serviceSecurityConnector != null)
         {
-            serviceSecurityConnector.validateUserForServiceOperation(userId, serviceName, serviceOperationName);
+            final String operationName = "validateUserForServiceOperation";
+
+            validateThroughDecisionCache(OpenMetadataSecurityDecisionCache.getKey(userId, operationName, serviceName, serviceOperationName),
+                                         true,
+                                         () -> serviceSecurityConnector.validateUserForServiceOperation(userId, serviceName, serviceOperationName));
         }
     }
 
@@ -656,7 +856,42 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     {
         if (assetSecurityConnector != null)
         {
-            assetSecurityConnector.validateUserForAssetRead(userId, new Asset(asset));
+            final String operationName = "validateUserForAssetRead";
+
+            /*
+             * The decision is keyed on the attributes of the asset that control access rather than its
+             * unique identifier so that it can be reused for other assets with the same settings.
+             * Rejections are not cached because the exception describes the specific asset.
+             */
+            List<Object> key = null;
+
+            if (asset != null)
+            {
+                key = OpenMetadataSecurityDecisionCache.getKey(userId,
+                                                               operationName,
+                                                               asset.getTypeName(),
+                                                               asset.getZoneMembership(),
+                                                               asset.getOwner(),
+                                                               asset.getOwnerType(),
+                                                               asset.getSecurityLabels(),
+                                                               asset.getSecurityProperties(),
+                                                               asset.getConfidentiality(),
+                                                               asset.getConfidence(),
+                                                               asset.getCriticality(),
+                                                               asset.getImpact(),
+                                                               asset.getRetention());
+            }
+
+            if (key == null)
+            {
+                assetSecurityConnector.validateUserForAssetRead(userId, new Asset(asset));
+            }
+            else
+            {
+                validateThroughDecisionCache(key,
+                                             false,
+                                             () -> assetSecurityConnector.validateUserForAssetRead(userId, new Asset(asset)));
+            }
         }
     }
 
@@ -1023,7 +1258,40 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     {
         if (repositorySecurityConnector != null)
         {
-            return repositorySecurityConnector.validateUserForEntityRead(userId, metadataCollectionName, new EntityDetail(instance));
+            final String operationName = "validateUserForEntityRead";
+
+            if ((decisionCache == null) || (instance == null))
+            {
+                return repositorySecurityConnector.validateUserForEntityRead(userId, metadataCollectionName, new EntityDetail(instance));
+            }
+
+            List<Object> key = this.getInstanceKey(userId, operationName, metadataCollectionName, instance);
+
+            OpenMetadataSecurityDecisionCache.Decision decision = decisionCache.getDecision(key);
+
+            if (decision != null)
+            {
+                decision.throwIfRejected();
+
+                return new EntityDetail((EntityDetail)decision.getResult());
+            }
+
+            try
+            {
+                EntityDetail result = repositorySecurityConnector.validateUserForEntityRead(userId, metadataCollectionName, new EntityDetail(instance));
+
+                if (result != null)
+                {
+                    decisionCache.putAllowed(key, new EntityDetail(result));
+                }
+
+                return result;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                decisionCache.putRejected(key, error);
+                throw error;
+            }
         }
 
         return instance;
@@ -1045,7 +1313,11 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     {
         if (repositorySecurityConnector != null)
         {
-            repositorySecurityConnector.validateUserForEntitySummaryRead(userId, metadataCollectionName, new EntitySummary(instance));
+            final String operationName = "validateUserForEntitySummaryRead";
+
+            validateThroughDecisionCache(this.getInstanceKey(userId, operationName, metadataCollectionName, instance),
+                                         true,
+                                         () -> repositorySecurityConnector.validateUserForEntitySummaryRead(userId, metadataCollectionName, new EntitySummary(instance)));
         }
     }
 
@@ -1065,7 +1337,11 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     {
         if (repositorySecurityConnector != null)
         {
-            repositorySecurityConnector.validateUserForEntityProxyRead(userId, metadataCollectionName, new EntityProxy(instance));
+            final String operationName = "validateUserForEntityProxyRead";
+
+            validateThroughDecisionCache(this.getInstanceKey(userId, operationName, metadataCollectionName, instance),
+                                         true,
+                                         () -> repositorySecurityConnector.validateUserForEntityProxyRead(userId, metadataCollectionName, new EntityProxy(instance)));
         }
     }
 
@@ -1335,7 +1611,40 @@ public class OpenMetadataServerSecurityVerifier implements OpenMetadataRepositor
     {
         if (repositorySecurityConnector != null)
         {
-            return repositorySecurityConnector.validateUserForRelationshipRead(userId, metadataCollectionName, new Relationship(instance));
+            final String operationName = "validateUserForRelationshipRead";
+
+            if ((decisionCache == null) || (instance == null))
+            {
+                return repositorySecurityConnector.validateUserForRelationshipRead(userId, metadataCollectionName, new Relationship(instance));
+            }
+
+            List<Object> key = this.getInstanceKey(userId, operationName, metadataCollectionName, instance);
+
+            OpenMetadataSecurityDecisionCache.Decision decision = decisionCache.getDecision(key);
+
+            if (decision != null)
+            {
+                decision.throwIfRejected();
+
+                return new Relationship((Relationship)decision.getResult());
+            }
+
+            try
+            {
+                Relationship result = repositorySecurityConnector.validateUserForRelationshipRead(userId, metadataCollectionName, new Relationship(instance));
+
+                if (result != null)
+                {
+                    decisionCache.putAllowed(key, new Relationship(result));
+                }
+
+                return result;
+            }
+            catch (UserNotAuthorizedException error)
+            {
+                decisionCache.putRejected(key, error);
+                throw error;
+            }
         }
 
         return instance;
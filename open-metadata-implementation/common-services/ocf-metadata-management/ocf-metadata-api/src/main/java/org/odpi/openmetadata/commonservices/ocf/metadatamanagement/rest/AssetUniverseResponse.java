@@ -0,0 +1,590 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.ocf.metadatamanagement.rest;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Certification;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ExternalIdentifier;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ExternalReference;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.InformalTag;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.License;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Like;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Location;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Rating;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.RelatedAsset;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.RelatedMediaReference;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.SchemaAttribute;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+
+/**
+ * AssetUniverseResponse extends AssetResponse with the first page of each of the lists of elements
+ * attached to the asset.  It allows the AssetUniverse to be populated with a single server call,
+ * since the iterators only need to call the server if the caller moves beyond the first page.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class AssetUniverseResponse extends AssetResponse
+{
+    private static final long    serialVersionUID = 1L;
+
+    private List<ExternalIdentifier>    externalIdentifiers    = null;
+    private List<RelatedMediaReference> relatedMediaReferences = null;
+    private List<NoteLogResponse>       noteLogs               = null;
+    private List<ExternalReference>     externalReferences     = null;
+    private List<Connection>            connections            = null;
+    private List<License>               licenses               = null;
+    private List<Certification>         certifications         = null;
+    private List<Location>              knownLocations         = null;
+    private List<RelatedAsset>          relatedAssets          = null;
+    private List<CommentResponse>       comments               = null;
+    private List<Like>                  likes                  = null;
+    private List<Rating>                ratings                = null;
+    private List<InformalTag>           informalTags           = null;
+    private List<SchemaAttribute>       schemaAttributes       = null;
+
+
+    /**
+     * Default constructor
+     */
+    public AssetUniverseResponse()
+    {
+        super();
+    }
+
+
+    /**
+     * Copy/clone constructor
+     *
+     * @param template object to copy
+     */
+    public AssetUniverseResponse(AssetUniverseResponse template)
+    {
+        super(template);
+
+        if (template != null)
+        {
+            this.externalIdentifiers    = template.getExternalIdentifiers();
+            this.relatedMediaReferences = template.getRelatedMediaReferences();
+            this.noteLogs               = template.getNoteLogs();
+            this.externalReferences     = template.getExternalReferences();
+            this.connections            = template.getConnections();
+            this.licenses               = template.getLicenses();
+            this.certifications         = template.getCertifications();
+            this.knownLocations         = template.getKnownLocations();
+            this.relatedAssets          = template.getRelatedAssets();
+            this.comments               = template.getComments();
+            this.likes                  = template.getLikes();
+            this.ratings                = template.getRatings();
+            this.informalTags           = template.getInformalTags();
+            this.schemaAttributes       = template.getSchemaAttributes();
+        }
+    }
+
+
+    /**
+     * Copy constructor used to extend a basic asset response.
+     *
+     * @param template object to copy
+     */
+    public AssetUniverseResponse(AssetResponse template)
+    {
+        super(template);
+    }
+
+
+    /**
+     * Return the first page of external identifiers attached to the asset.
+     *
+     * @return list of external identifiers
+     */
+    public List<ExternalIdentifier> getExternalIdentifiers()
+    {
+        if ((externalIdentifiers == null) || (externalIdentifiers.isEmpty()))
+        {
+            return null;
+        }
+
+        return new ArrayList<>(externalIdentifiers);
+    }
+
+
+    /**
+     * Set up the first page of external identifiers attached to the asset.
+     *
+     * @param externalIdentifiers list of external identifiers
+     */
+    public void setExternalIdentifiers(List<ExternalIdentifier> externalIdentifiers)
+    {
+        this.externalIdentifiers = externalIdentifiers;
+    }
+
+
+    /**
+     * Return the first page of related media references attached to the asset.
+     *
+     * @return list of related media references
+     */
+    public List<RelatedMediaReference> getRelatedMediaReferences()
+    {
+        if ((relatedMediaReferences == null) || (relatedMediaReferences.isEmpty()))
+        {
+            return null;
+        }
+
+        return new ArrayList<>(relatedMediaReferences);
+    }
+
+
+    /**
+     * Set up the first page of related media references attached to the asset.
+     *
+     * @param relatedMediaReferences list of related media references
+     */
+    public void setRelatedMediaReferences(List<RelatedMediaReference> relatedMediaReferences)
+    {
+        this.relatedMediaReferences = relatedMediaReferences;
+    }
+
+
+    /**
+     * Return the first page of note logs attached to the asset.
+     *
+     * @return list of note logs
+     */
+    public List<NoteLogResponse> getNoteLogs()
+    {
+        if ((noteLogs == null) || (noteLogs.isEmpty()))
+        {
+            return null;
+        }
+
+        return new ArrayList<>(noteLogs);
+    }
+
+
+    /**
+     * Set up the first page of note logs attached to the asset.
+     *
+     * @param noteLogs list of note logs
+     */
+    public void setNoteLogs(List<NoteLogResponse> noteLogs)
+    {
+        this.noteLogs = noteLogs;
+    }
+
+
+    /**
+     * Return the first page of external references attached to the asset.
+     *
+     * @return list of external references
+     */
+    public List<ExternalReference> getExternalReferences()
+    {
+        if ((externalReferences == null) || (externalReferences.isEmpty()))
+        {
+            return null;
+        }
+
+        return new ArrayList<>(externalReferences);
+    }
+
+
+    /**
+     * Set up the first page of external references attached to the asset.
+     *
+     * @param externalReferences list of external references
+     */
+    public void setExternalReferences(List<ExternalReference> externalReferences)
+    {
+        this.externalReferences = externalReferences;
+    }
+
+
+    /**
+     * Return the first page of connections attached to the asset.
+     *
+     * @return list of connections
+     */
+    public List<Connection> getConnections()
+    {
+        if ((connections == null) || (connections.isEmpty()))
+        {
+            return null;
+        }
+
+        return new ArrayList<>(connections);
+    }
+
+
+    /**
+     * Set up the first page of connections attached to the asset.
+     *
+     * @param connections list of connections
+     */
+    public void setConnections(List<Connection> connections)
+    {
+        this.connections = connections;
+    }
+
+
+    /**
+     * Return the first page of licenses attached to the asset.
+     *
+     * @return list of licenses
+     */
+    public List<License> getLicenses()
+    {
+        if ((licenses == null) || (licenses.isEmpty()))
+        {
+            return null;
+        }
+
+        return new ArrayList<>(licenses);
+    }
+
+
+    /**
+     * Set up the first page of licenses attached to the asset.
+     *
+     * @param licenses list of licenses
+     */
+    public void setLicenses(List<License> licenses)
+    {
+        this.licenses = licenses;
+    }
+
+
+    /**
+     * Return the first page of certifications attached to the asset.
+     *
+     * @return list of certifications
+     */
+    public List<Certification> getCertifications()
+    {
+        if ((certifications == null) || (certifications.isEmpty()))
+        {
+            return null;
+        }
+
+        return new ArrayList<>(certifications);
+    }
+
+
+    /**
+     * Set up the first page of certifications attached to the asset.
+     *
+     * @param certifications list of certifications
+     */
+    public void setCertifications(List<Certification> certifications)
+    {
+        this.certifications = certifications;
+    }
+
+
+    /**
+     * Return the first page of known locations attached to the asset.
+     *
+     * @return list of known locations
+     */
+    public List<Location> getKnownLocations()
+    {
+        if ((knownLocations == null) || (knownLocations.isEmpty()))
+        {
+            return null;
+        }
+
+        return new ArrayList<>(knownLocations);
+    }
+
+
+    /**
+     * Set up the first page of known locations attached to the asset.
+     *
+     * @param knownLocations list of known locations
+     */
+    public void setKnownLocations(List<Location> knownLocations)
+    {
+        this.knownLocations = knownLocations;
+    }
+
+
+    /**
+     * Return the first page of related assets attached to the asset.
+     *
+     * @return list of related assets
+     */
+    public List<RelatedAsset> getRelatedAssets()
+    {
+        if ((relatedAssets == null) || (relatedAssets.isEmpty()))
+        {
+            return null;
+        }
+
+        return new ArrayList<>(relatedAssets);
+    }
+
+
+    /**
+     * Set up the first page of related assets attached to the asset.
+     *
+     * @param relatedAssets list of related assets
+     */
+    public void setRelatedAssets(List<RelatedAsset> relatedAssets)
+    {
+        this.relatedAssets = relatedAssets;
+    }
+
+
+    /**
+     * Return the first page of comments attached to the asset.
+     *
+     * @return list of comments
+     */
+    public List<CommentResponse> getComments()
+    {
+        if ((comments == null) || (comments.isEmpty()))
+        {
+            return null;
+        }
+
+        return new ArrayList<>(comments);
+    }
+
+
+    /**
+     * Set up the first page of comments attached to the asset.
+     *
+     * @param comments list of comments
+     */
+    public void setComments(List<CommentResponse> comments)
+    {
+        this.comments = comments;
+    }
+
+
+    /**
+     * Return the first page of likes attached to the asset.
+     *
+     * @return list of likes
+     */
+    public List<Like> getLikes()
+    {
+        if ((likes == null) || (likes.isEmpty()))
+        {
+            return null;
+        }
+
+        return new ArrayList<>(likes);
+    }
+
+
+    /**
+     * Set up the first page of likes attached to the asset.
+     *
+     * @param likes list of likes
+     */
+    public void setLikes(List<Like> likes)
+    {
+        this.likes = likes;
+    }
+
+
+    /**
+     * Return the first page of ratings attached to the asset.
+     *
+     * @return list of ratings
+     */
+    public List<Rating> getRatings()
+    {
+        if ((ratings == null) || (ratings.isEmpty()))
+        {
+            return null;
+        }
+
+        return new ArrayList<>(ratings);
+    }
+
+
+    /**
+     * Set up the first page of ratings attached to the asset.
+     *
+     * @param ratings list of ratings
+     */
+    public void setRatings(List<Rating> ratings)
+    {
+        this.ratings = ratings;
+    }
+
+
+    /**
+     * Return the first page of informal tags attached to the asset.
+     *
+     * @return list of informal tags
+     */
+    public List<InformalTag> getInformalTags()
+    {
+        if ((informalTags == null) || (informalTags.isEmpty()))
+        {
+            return null;
+        }
+
+        return new ArrayList<>(informalTags);
+    }
+
+
+    /**
+     * Set up the first page of informal tags attached to the asset.
+     *
+     * @param informalTags list of informal tags
+     */
+    public void setInformalTags(List<InformalTag> informalTags)
+    {
+        this.informalTags = informalTags;
+    }
+
+
+    /**
+     * Return the first page of schema attributes of the asset's schema type.
+     *
+     * @return list of schema attributes
+     */
+    public List<SchemaAttribute> getSchemaAttributes()
+    {
+        if ((schemaAttributes == null) || (schemaAttributes.isEmpty()))
+        {
+            return null;
+        }
+
+        return new ArrayList<>(schemaAttributes);
+    }
+
+
+    /**
+     * Set up the first page of schema attributes of the asset's schema type.
+     *
+     * @param schemaAttributes list of schema attributes
+     */
+    public void setSchemaAttributes(List<SchemaAttribute> schemaAttributes)
+    {
+        this.schemaAttributes = schemaAttributes;
+    }
+
+
+    /**
+     * JSON-style toString
+     *
+     * @return return string containing the property names and values
+     */
+    @Override
+    public String toString()
+    {
+        return "AssetUniverseResponse{" +
+                "asset=" + getAsset() +
+                ", certificationCount=" + getCertificationCount() +
+                ", commentCount=" + getCommentCount() +
+                ", connectionCount=" + getConnectionCount() +
+                ", externalIdentifierCount=" + getExternalIdentifierCount() +
+                ", externalReferencesCount=" + getExternalReferencesCount() +
+                ", informalTagCount=" + getInformalTagCount() +
+                ", licenseCount=" + getLicenseCount() +
+                ", likeCount=" + getLikeCount() +
+                ", knownLocationsCount=" + getKnownLocationsCount() +
+                ", noteLogsCount=" + getNoteLogsCount() +
+                ", ratingsCount=" + getRatingsCount() +
+                ", relatedAssetCount=" + getRelatedAssetCount() +
+                ", relatedMediaReferenceCount=" + getRelatedMediaReferenceCount() +
+                ", schemaType=" + getSchemaType() +
+                ", lastAttachment=" + getLastAttachment() +
+                ", externalIdentifiers=" + externalIdentifiers +
+                ", relatedMediaReferences=" + relatedMediaReferences +
+                ", noteLogs=" + noteLogs +
+                ", externalReferences=" + externalReferences +
+                ", connections=" + connections +
+                ", licenses=" + licenses +
+                ", certifications=" + certifications +
+                ", knownLocations=" + knownLocations +
+                ", relatedAssets=" + relatedAssets +
+                ", comments=" + comments +
+                ", likes=" + likes +
+                ", ratings=" + ratings +
+                ", informalTags=" + informalTags +
+                ", schemaAttributes=" + schemaAttributes +
+                ", exceptionClassName='" + getExceptionClassName() + '\'' +
+                ", exceptionCausedBy='" + getExceptionCausedBy() + '\'' +
+                ", actionDescription='" + getActionDescription() + '\'' +
+                ", relatedHTTPCode=" + getRelatedHTTPCode() +
+                ", exceptionErrorMessage='" + getExceptionErrorMessage() + '\'' +
+                ", exceptionErrorMessageId='" + getExceptionErrorMessageId() + '\'' +
+                ", exceptionErrorMessageParameters=" + Arrays.toString(getExceptionErrorMessageParameters()) +
+                ", exceptionSystemAction='" + getExceptionSystemAction() + '\'' +
+                ", exceptionUserAction='" + getExceptionUserAction() + '\'' +
+                ", exceptionProperties=" + getExceptionProperties() +
+                '}';
+    }
+
+
+    /**
+     * Return comparison result based on the content of the properties.
+     *
+     * @param objectToCompare test object
+     * @return result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        if (!super.equals(objectToCompare))
+        {
+            return false;
+        }
+        AssetUniverseResponse that = (AssetUniverseResponse) objectToCompare;
+        return Objects.equals(getExternalIdentifiers(), that.getExternalIdentifiers()) &&
+                Objects.equals(getRelatedMediaReferences(), that.getRelatedMediaReferences()) &&
+                Objects.equals(getNoteLogs(), that.getNoteLogs()) &&
+                Objects.equals(getExternalReferences(), that.getExternalReferences()) &&
+                Objects.equals(getConnections(), that.getConnections()) &&
+                Objects.equals(getLicenses(), that.getLicenses()) &&
+                Objects.equals(getCertifications(), that.getCertifications()) &&
+                Objects.equals(getKnownLocations(), that.getKnownLocations()) &&
+                Objects.equals(getRelatedAssets(), that.getRelatedAssets()) &&
+                Objects.equals(getComments(), that.getComments()) &&
+                Objects.equals(getLikes(), that.getLikes()) &&
+                Objects.equals(getRatings(), that.getRatings()) &&
+                Objects.equals(getInformalTags(), that.getInformalTags()) &&
+                Objects.equals(getSchemaAttributes(), that.getSchemaAttributes());
+    }
+
+
+    /**
+     * Return hash code for this object
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(super.hashCode(), getExternalIdentifiers(), getRelatedMediaReferences(), getNoteLogs(),
+                            getExternalReferences(), getConnections(), getLicenses(), getCertifications(),
+                            getKnownLocations(), getRelatedAssets(), getComments(), getLikes(), getRatings(),
+                            getInformalTags(), getSchemaAttributes());
+    }
+}
@@ -0,0 +1,272 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.ocf.metadatamanagement.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Asset;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.ExternalIdentifier;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.License;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Like;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate that the AssetUniverseResponse bean can be cloned, compared, serialized, deserialized and printed as a String.
+ */
+public class AssetUniverseResponseTest
+{
+    private Asset                    assetBean           = new Asset();
+    private List<ExternalIdentifier> externalIdentifiers = new ArrayList<>();
+    private List<Connection>         connections         = new ArrayList<>();
+    private List<License>            licenses            = new ArrayList<>();
+    private List<Like>               likes               = new ArrayList<>();
+
+
+    /**
+     * Default constructor
+     */
+    public AssetUniverseResponseTest()
+    {
+        assetBean.setGUID("TestGUID");
+
+        ExternalIdentifier externalIdentifier = new ExternalIdentifier();
+        externalIdentifier.setIdentifier("TestIdentifier");
+        externalIdentifiers.add(externalIdentifier);
+
+        Connection connection = new Connection();
+        connection.setQualifiedName("TestConnection");
+        connections.add(connection);
+
+        License license = new License();
+        license.setLicenseTypeName("TestLicenseTypeName");
+        licenses.add(license);
+
+        Like like = new Like();
+        like.setUser("TestUser");
+        likes.add(like);
+    }
+
+
+    /**
+     * Set up an example object to test.
+     *
+     * @return filled in object
+     */
+    private AssetUniverseResponse getTestObject()
+    {
+        AssetUniverseResponse testObject = new AssetUniverseResponse();
+
+        testObject.setExceptionClassName(NullPointerException.class.getName());
+        testObject.setExceptionErrorMessage("TestErrorMessage");
+        testObject.setExceptionSystemAction("TestSystemAction");
+        testObject.setExceptionUserAction("TestUserAction");
+
+        testObject.setRelatedHTTPCode(400);
+
+        testObject.setAsset(assetBean);
+        testObject.setConnectionCount(1);
+        testObject.setExternalIdentifierCount(1);
+        testObject.setLicenseCount(1);
+        testObject.setLikeCount(1);
+
+        testObject.setExternalIdentifiers(externalIdentifiers);
+        testObject.setConnections(connections);
+        testObject.setLicenses(licenses);
+        testObject.setLikes(likes);
+
+        return testObject;
+    }
+
+
+    /**
+     * Validate that the object that comes out of the test has the same content as the original test object.
+     *
+     * @param resultObject object returned by the test
+     */
+    private void validateResultObject(AssetUniverseResponse resultObject)
+    {
+        assertTrue(resultObject.getExceptionClassName().equals(NullPointerException.class.getName()));
+        assertTrue(resultObject.getExceptionErrorMessage().equals("TestErrorMessage"));
+        assertTrue(resultObject.getExceptionSystemAction().equals("TestSystemAction"));
+        assertTrue(resultObject.getExceptionUserAction().equals("TestUserAction"));
+
+        assertTrue(resultObject.getRelatedHTTPCode() == 400);
+
+        assertTrue(resultObject.getAsset().equals(assetBean));
+        assertTrue(resultObject.getConnectionCount() == 1);
+        assertTrue(resultObject.getExternalIdentifierCount() == 1);
+        assertTrue(resultObject.getLicenseCount() == 1);
+
+        assertTrue(resultObject.getExternalIdentifiers().equals(externalIdentifiers));
+        assertTrue(resultObject.getConnections().equals(connections));
+        assertTrue(resultObject.getLicenses().equals(licenses));
+        assertTrue(resultObject.getLikes().equals(likes));
+        assertTrue(resultObject.getRelatedMediaReferences() == null);
+        assertTrue(resultObject.getNoteLogs() == null);
+        assertTrue(resultObject.getExternalReferences() == null);
+        assertTrue(resultObject.getCertifications() == null);
+        assertTrue(resultObject.getKnownLocations() == null);
+        assertTrue(resultObject.getRelatedAssets() == null);
+        assertTrue(resultObject.getComments() == null);
+        assertTrue(resultObject.getRatings() == null);
+        assertTrue(resultObject.getInformalTags() == null);
+        assertTrue(resultObject.getSchemaAttributes() == null);
+    }
+
+
+    /**
+     * Validate that the object is initialized properly
+     */
+    @Test public void testNullObject()
+    {
+        AssetUniverseResponse nullObject = new AssetUniverseResponse();
+
+        assertTrue(nullObject.getRelatedHTTPCode() == 200);
+        assertTrue(nullObject.getAsset() == null);
+        assertTrue(nullObject.getExternalIdentifiers() == null);
+        assertTrue(nullObject.getRelatedMediaReferences() == null);
+        assertTrue(nullObject.getNoteLogs() == null);
+        assertTrue(nullObject.getExternalReferences() == null);
+        assertTrue(nullObject.getConnections() == null);
+        assertTrue(nullObject.getLicenses() == null);
+        assertTrue(nullObject.getCertifications() == null);
+        assertTrue(nullObject.getKnownLocations() == null);
+        assertTrue(nullObject.getRelatedAssets() == null);
+
+        nullObject = new AssetUniverseResponse((AssetUniverseResponse) null);
+
+        assertTrue(nullObject.getRelatedHTTPCode() == 200);
+        assertTrue(nullObject.getAsset() == null);
+        assertTrue(nullObject.getExternalIdentifiers() == null);
+        assertTrue(nullObject.getConnections() == null);
+
+        nullObject = new AssetUniverseResponse((AssetResponse) null);
+
+        assertTrue(nullObject.getRelatedHTTPCode() == 200);
+        assertTrue(nullObject.getAsset() == null);
+        assertTrue(nullObject.getExternalIdentifiers() == null);
+        assertTrue(nullObject.getConnections() == null);
+    }
+
+
+    /**
+     * Validate that empty lists are returned as null.
+     */
+    @Test public void testEmptyLists()
+    {
+        AssetUniverseResponse testObject = new AssetUniverseResponse();
+
+        testObject.setExternalIdentifiers(new ArrayList<>());
+        testObject.setConnections(new ArrayList<>());
+
+        assertTrue(testObject.getExternalIdentifiers() == null);
+        assertTrue(testObject.getConnections() == null);
+    }
+
+
+    /**
+     * Validate that 2 different objects with the same content are evaluated as equal.
+     * Also that different objects are considered not equal.
+     */
+    @Test public void testEquals()
+    {
+        assertFalse(getTestObject().equals(null));
+        assertFalse(getTestObject().equals("DummyString"));
+        assertTrue(getTestObject().equals(getTestObject()));
+
+        AssetUniverseResponse sameObject = getTestObject();
+        assertTrue(sameObject.equals(sameObject));
+
+        AssetUniverseResponse differentObject = getTestObject();
+        differentObject.setLicenses(null);
+        assertFalse(getTestObject().equals(differentObject));
+    }
+
+
+    /**
+     *  Validate that 2 different objects with the same content have the same hash code.
+     */
+    @Test public void testHashCode()
+    {
+        assertTrue(getTestObject().hashCode() == getTestObject().hashCode());
+    }
+
+
+    /**
+     *  Validate that an object cloned from another object has the same content as the original
+     */
+    @Test public void testClone()
+    {
+        validateResultObject(new AssetUniverseResponse(getTestObject()));
+    }
+
+
+    /**
+     * Validate that an object generated from a JSON String has the same content as the object used to
+     * create the JSON String.
+     */
+    @Test public void testJSON()
+    {
+        ObjectMapper objectMapper = new ObjectMapper();
+        String       jsonString   = null;
+
+        /*
+         * This class
+         */
+        try
+        {
+            jsonString = objectMapper.writeValueAsString(getTestObject());
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+
+        try
+        {
+            validateResultObject(objectMapper.readValue(jsonString, AssetUniverseResponse.class));
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+
+        /*
+         * Through superclass
+         */
+        AssetResponse superObject = getTestObject();
+
+        try
+        {
+            jsonString = objectMapper.writeValueAsString(superObject);
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+
+        try
+        {
+            validateResultObject((AssetUniverseResponse) objectMapper.readValue(jsonString, AssetResponse.class));
+        }
+        catch (Throwable  exc)
+        {
+            assertTrue(false, "Exception: " + exc.getMessage());
+        }
+    }
+
+
+    /**
+     * Test that toString is overridden.
+     */
+    @Test public void testToString()
+    {
+        assertTrue(getTestObject().toString().contains("AssetUniverseResponse"));
+    }
+}
@@ -14,6 +14,7 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.Comment;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 
 /**
@@ -159,44 +160,7 @@ public class ConnectedAssetComments extends AssetComments
             restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
             restExceptionHandler.detectAndThrowPropertyServerException(restResult);
 
-            List<CommentResponse> Responses = restResult.getList();
-            if ((Responses == null) || (Responses.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<AssetPropertyBase>   resultList = new ArrayList<>();
-
-                for (CommentResponse  commentResponse : Responses)
-                {
-                    if (commentResponse != null)
-                    {
-                        Comment                      bean = commentResponse.getComment();
-                        ConnectedAssetCommentReplies commentReplies = null;
-
-                        if (commentResponse.getReplyCount() > 0)
-                        {
-                            commentReplies = new ConnectedAssetCommentReplies(serviceName,
-                                                                              serverName,
-                                                                              userId,
-                                                                              omasServerURL,
-                                                                              bean.getGUID(),
-                                                                              connectedAsset,
-                                                                              commentResponse.getReplyCount(),
-                                                                              maxCacheSize,
-                                                                              restClient);
-                        }
-
-                        /*
-                         * Note replies are ignored - but can be extracted through the Asset Consumer OMAS
-                         */
-                        resultList.add(new AssetComment(connectedAsset, bean, commentReplies));
-                    }
-                }
-
-                return resultList;
-            }
+            return this.getPropertyList(restResult.getList(), maximumSize);
         }
         catch (Throwable  error)
         {
@@ -205,4 +169,72 @@ public class ConnectedAssetComments extends AssetComments
 
         return null;
     }
+
+
+    /**
+     * Set up the first page of elements, retrieved along with the asset, so that the property server is
+     * only called when the caller moves beyond it.  The following pages are retrieved in the background
+     * while the caller steps through the current one.
+     *
+     * @param firstPage first page of beans
+     * @param maximumSize maximum number of elements in the cache.
+     * @param prefetchExecutor executor used to retrieve the following pages
+     */
+    void setFirstPage(List<CommentResponse> firstPage,
+                      int                   maximumSize,
+                      Executor              prefetchExecutor)
+    {
+        super.setInitialCache(this.getPropertyList(firstPage, maximumSize));
+        super.setPrefetchExecutor(prefetchExecutor);
+    }
+
+
+    /**
+     * Convert the beans retrieved from the property server into the elements of the cache.
+     *
+     * @param beans beans retrieved from the property server
+     * @param maximumSize maximum number of elements in the cache.
+     * @return list of elements or null if there are none
+     */
+    private List<AssetPropertyBase> getPropertyList(List<CommentResponse> beans,
+                                                    int                   maximumSize)
+    {
+        if ((beans == null) || (beans.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<AssetPropertyBase>   resultList = new ArrayList<>();
+
+            for (CommentResponse  commentResponse : beans)
+            {
+                if (commentResponse != null)
+                {
+                    Comment                      bean = commentResponse.getComment();
+                    ConnectedAssetCommentReplies commentReplies = null;
+
+                    if (commentResponse.getReplyCount() > 0)
+                    {
+                        commentReplies = new ConnectedAssetCommentReplies(serviceName,
+                                                                          serverName,
+                                                                          userId,
+                                                                          omasServerURL,
+                                                                          bean.getGUID(),
+                                                                          connectedAsset,
+                                                                          commentResponse.getReplyCount(),
+                                                                          maxCacheSize,
+                                                                          restClient);
+                    }
+
+                    /*
+                     * Note replies are ignored - but can be extracted through the Asset Consumer OMAS
+                     */
+                    resultList.add(new AssetComment(connectedAsset, bean, commentReplies));
+                }
+            }
+
+            return resultList;
+        }
+    }
 }
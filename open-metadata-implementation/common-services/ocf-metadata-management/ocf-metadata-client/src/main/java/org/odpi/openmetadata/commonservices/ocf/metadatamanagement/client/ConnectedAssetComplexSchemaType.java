@@ -4,6 +4,10 @@ package org.odpi.openmetadata.commonservices.ocf.metadatamanagement.client;
 
 import org.odpi.openmetadata.frameworks.connectors.properties.AssetComplexSchemaType;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.ComplexSchemaType;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.SchemaAttribute;
+
+import java.util.List;
+import java.util.concurrent.Executor;
 
 class ConnectedAssetComplexSchemaType extends AssetComplexSchemaType
 {
@@ -22,6 +26,8 @@ class ConnectedAssetComplexSchemaType extends AssetComplexSchemaType
      *                     cached in the element list at any one time.  If a number less than one is supplied, 1 is used.
      * @param schemaBean details of the schema object.
      * @param restClient client to call REST API
+     * @param firstPage first page of schema attributes; null to retrieve them on demand
+     * @param prefetchExecutor executor used to retrieve the following pages
      */
     ConnectedAssetComplexSchemaType(String                 serviceName,
                                     String                 serverName,
@@ -30,7 +36,9 @@ class ConnectedAssetComplexSchemaType extends AssetComplexSchemaType
                                     ConnectedAssetUniverse parentAsset,
                                     int                    maxCacheSize,
                                     ComplexSchemaType      schemaBean,
-                                    OCFRESTClient          restClient)
+                                    OCFRESTClient          restClient,
+                                    List<SchemaAttribute>  firstPage,
+                                    Executor               prefetchExecutor)
     {
         super(parentAsset);
 
@@ -42,16 +50,18 @@ class ConnectedAssetComplexSchemaType extends AssetComplexSchemaType
 
             if (schemaAttributeCount > 0)
             {
-                super.schemaAttributes = new ConnectedAssetSchemaAttributes(serviceName,
-                                                                            serverName,
-                                                                            userId,
-                                                                            omasServerURL,
-                                                                            schemaBean.getGUID(),
-                                                                            parentAsset,
-                                                                            maxCacheSize,
-                                                                            schemaAttributeCount,
-                                                                            restClient);
+                ConnectedAssetSchemaAttributes schemaAttributes = new ConnectedAssetSchemaAttributes(serviceName,
+                                                                                                     serverName,
+                                                                                                     userId,
+                                                                                                     omasServerURL,
+                                                                                                     schemaBean.getGUID(),
+                                                                                                     parentAsset,
+                                                                                                     maxCacheSize,
+                                                                                                     schemaAttributeCount,
+                                                                                                     restClient);
 
+                schemaAttributes.setFirstPage(firstPage, maxCacheSize, prefetchExecutor);
+                super.schemaAttributes = schemaAttributes;
             }
         }
     }
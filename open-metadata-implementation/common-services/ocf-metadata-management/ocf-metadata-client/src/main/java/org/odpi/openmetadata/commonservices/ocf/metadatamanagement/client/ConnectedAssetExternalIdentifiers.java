@@ -13,6 +13,7 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.ExternalIden
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 
 /**
@@ -154,25 +155,7 @@ public class ConnectedAssetExternalIdentifiers extends AssetExternalIdentifiers
             restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
             restExceptionHandler.detectAndThrowPropertyServerException(restResult);
 
-            List<ExternalIdentifier>  beans = restResult.getList();
-            if ((beans == null) || (beans.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<AssetPropertyBase>   resultList = new ArrayList<>();
-
-                for (ExternalIdentifier  bean : beans)
-                {
-                    if (bean != null)
-                    {
-                        resultList.add(new AssetExternalIdentifier(connectedAsset, bean));
-                    }
-                }
-
-                return resultList;
-            }
+            return this.getPropertyList(restResult.getList(), maximumSize);
         }
         catch (Throwable  error)
         {
@@ -181,4 +164,53 @@ public class ConnectedAssetExternalIdentifiers extends AssetExternalIdentifiers
 
         return null;
     }
+
+
+    /**
+     * Set up the first page of elements, retrieved along with the asset, so that the property server is
+     * only called when the caller moves beyond it.  The following pages are retrieved in the background
+     * while the caller steps through the current one.
+     *
+     * @param firstPage first page of beans
+     * @param maximumSize maximum number of elements in the cache.
+     * @param prefetchExecutor executor used to retrieve the following pages
+     */
+    void setFirstPage(List<ExternalIdentifier> firstPage,
+                      int                      maximumSize,
+                      Executor                 prefetchExecutor)
+    {
+        super.setInitialCache(this.getPropertyList(firstPage, maximumSize));
+        super.setPrefetchExecutor(prefetchExecutor);
+    }
+
+
+    /**
+     * Convert the beans retrieved from the property server into the elements of the cache.
+     *
+     * @param beans beans retrieved from the property server
+     * @param maximumSize maximum number of elements in the cache.
+     * @return list of elements or null if there are none
+     */
+    private List<AssetPropertyBase> getPropertyList(List<ExternalIdentifier> beans,
+                                                    int                      maximumSize)
+    {
+        if ((beans == null) || (beans.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<AssetPropertyBase>   resultList = new ArrayList<>();
+
+            for (ExternalIdentifier  bean : beans)
+            {
+                if (bean != null)
+                {
+                    resultList.add(new AssetExternalIdentifier(connectedAsset, bean));
+                }
+            }
+
+            return resultList;
+        }
+    }
 }
@@ -3,8 +3,11 @@
 package org.odpi.openmetadata.commonservices.ocf.metadatamanagement.client;
 
 
+import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.rest.AssetUniverseResponse;
 import org.odpi.openmetadata.frameworks.connectors.properties.AssetFeedback;
 
+import java.util.concurrent.Executor;
+
 /**
  * ConnectedAssetFeedback provides the open metadata extension to the Open Connector Framework (OCF)'s AssetFeedback
  * class that returned the comments, tags, likes and ratings associated with an asset.
@@ -30,6 +33,8 @@ public class ConnectedAssetFeedback extends AssetFeedback
      * @param maxCacheSize maximum number of elements that should be retrieved from the property server and
      *                     cached in the element list at any one time.  If a number less than one is supplied, 1 is used.
      * @param restClient client to call REST API
+     * @param firstPages response holding the first page of each list of feedback; null to retrieve them on demand
+     * @param prefetchExecutor executor used to retrieve the following pages
      */
     ConnectedAssetFeedback(String                 serviceName,
                            String                 serverName,
@@ -42,61 +47,91 @@ public class ConnectedAssetFeedback extends AssetFeedback
                            int                    ratingCount,
                            int                    tagCount,
                            int                    maxCacheSize,
-                           OCFRESTClient          restClient)
+                           OCFRESTClient          restClient,
+                           AssetUniverseResponse  firstPages,
+                           Executor               prefetchExecutor)
     {
         super(parentAsset);
 
         if (commentCount > 0)
         {
-            super.comments = new ConnectedAssetComments(serviceName,
-                                                        serverName,
-                                                        userId,
-                                                        omasServerURL,
-                                                        assetGUID,
-                                                        parentAsset,
-                                                        commentCount,
-                                                        maxCacheSize,
-                                                        restClient);
-        }
+            ConnectedAssetComments comments = new ConnectedAssetComments(serviceName,
+                                                                         serverName,
+                                                                         userId,
+                                                                         omasServerURL,
+                                                                         assetGUID,
+                                                                         parentAsset,
+                                                                         commentCount,
+                                                                         maxCacheSize,
+                                                                         restClient);
 
+            if (firstPages != null)
+            {
+                comments.setFirstPage(firstPages.getComments(), maxCacheSize, prefetchExecutor);
+            }
 
-        if (likeCount > 0)
-        {
-            super.likes = new ConnectedAssetLikes(serviceName,
-                                                  serverName,
-                                                  userId,
-                                                  omasServerURL,
-                                                  assetGUID,
-                                                  parentAsset,
-                                                  likeCount,
-                                                  maxCacheSize,
-                                                  restClient);
+            super.comments = comments;
         }
 
-        if (ratingCount > 0)
-        {
-            super.ratings = new ConnectedAssetRatings(serviceName,
-                                                      serverName,
-                                                      userId,
-                                                      omasServerURL,
-                                                      assetGUID,
-                                                      parentAsset,
-                                                      ratingCount,
-                                                      maxCacheSize,
-                                                      restClient);
-        }
 
-        if (tagCount > 0)
+        if (likeCount > 0)
         {
-            super.informalTags = new ConnectedAssetInformalTags(serviceName,
+            ConnectedAssetLikes likes = new ConnectedAssetLikes(serviceName,
                                                                 serverName,
                                                                 userId,
                                                                 omasServerURL,
                                                                 assetGUID,
                                                                 parentAsset,
-                                                                tagCount,
+                                                                likeCount,
                                                                 maxCacheSize,
                                                                 restClient);
+
+            if (firstPages != null)
+            {
+                likes.setFirstPage(firstPages.getLikes(), maxCacheSize, prefetchExecutor);
+            }
+
+            super.likes = likes;
+        }
+
+        if (ratingCount > 0)
+        {
+            ConnectedAssetRatings ratings = new ConnectedAssetRatings(serviceName,
+                                                                      serverName,
+                                                                      userId,
+                                                                      omasServerURL,
+                                                                      assetGUID,
+                                                                      parentAsset,
+                                                                      ratingCount,
+                                                                      maxCacheSize,
+                                                                      restClient);
+
+            if (firstPages != null)
+            {
+                ratings.setFirstPage(firstPages.getRatings(), maxCacheSize, prefetchExecutor);
+            }
+
+            super.ratings = ratings;
+        }
+
+        if (tagCount > 0)
+        {
+            ConnectedAssetInformalTags informalTags = new ConnectedAssetInformalTags(serviceName,
+                                                                                     serverName,
+                                                                                     userId,
+                                                                                     omasServerURL,
+                                                                                     assetGUID,
+                                                                                     parentAsset,
+                                                                                     tagCount,
+                                                                                     maxCacheSize,
+                                                                                     restClient);
+
+            if (firstPages != null)
+            {
+                informalTags.setFirstPage(firstPages.getInformalTags(), maxCacheSize, prefetchExecutor);
+            }
+
+            super.informalTags = informalTags;
         }
     }
 }
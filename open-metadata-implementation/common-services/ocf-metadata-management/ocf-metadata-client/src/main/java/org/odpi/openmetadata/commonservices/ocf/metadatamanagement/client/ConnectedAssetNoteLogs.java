@@ -13,6 +13,7 @@ import org.odpi.openmetadata.frameworks.connectors.properties.AssetPropertyBase;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 
 /**
@@ -154,38 +155,7 @@ public class ConnectedAssetNoteLogs extends AssetNoteLogs
             restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
             restExceptionHandler.detectAndThrowPropertyServerException(restResult);
 
-            List<NoteLogResponse> noteLogResponses = restResult.getList();
-            if ((noteLogResponses == null) || (noteLogResponses.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<AssetPropertyBase>   resultList = new ArrayList<>();
-
-                for (NoteLogResponse  noteLogResponse : noteLogResponses)
-                {
-                    if ((noteLogResponse != null) && (noteLogResponse.getNoteLog() != null))
-                    {
-                        if (noteLogResponse.getNoteCount() > 0)
-                        {
-                            resultList.add(new AssetNoteLog(connectedAsset,
-                                                            noteLogResponse.getNoteLog(),
-                                                            new ConnectedAssetNotes(serviceName,
-                                                                                    serverName,
-                                                                                    userId,
-                                                                                    omasServerURL,
-                                                                                    noteLogResponse.getNoteLog().getGUID(),
-                                                                                    connectedAsset,
-                                                                                    noteLogResponse.getNoteCount(),
-                                                                                    maximumSize,
-                                                                                    restClient)));
-                        }
-                    }
-                }
-
-                return resultList;
-            }
+            return this.getPropertyList(restResult.getList(), maximumSize);
         }
         catch (Throwable  error)
         {
@@ -194,4 +164,66 @@ public class ConnectedAssetNoteLogs extends AssetNoteLogs
 
         return null;
     }
+
+
+    /**
+     * Set up the first page of elements, retrieved along with the asset, so that the property server is
+     * only called when the caller moves beyond it.  The following pages are retrieved in the background
+     * while the caller steps through the current one.
+     *
+     * @param firstPage first page of beans
+     * @param maximumSize maximum number of elements in the cache.
+     * @param prefetchExecutor executor used to retrieve the following pages
+     */
+    void setFirstPage(List<NoteLogResponse> firstPage,
+                      int                   maximumSize,
+                      Executor              prefetchExecutor)
+    {
+        super.setInitialCache(this.getPropertyList(firstPage, maximumSize));
+        super.setPrefetchExecutor(prefetchExecutor);
+    }
+
+
+    /**
+     * Convert the beans retrieved from the property server into the elements of the cache.
+     *
+     * @param beans beans retrieved from the property server
+     * @param maximumSize maximum number of elements in the cache.
+     * @return list of elements or null if there are none
+     */
+    private List<AssetPropertyBase> getPropertyList(List<NoteLogResponse> beans,
+                                                    int                   maximumSize)
+    {
+        if ((beans == null) || (beans.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<AssetPropertyBase>   resultList = new ArrayList<>();
+
+            for (NoteLogResponse  noteLogResponse : beans)
+            {
+                if ((noteLogResponse != null) && (noteLogResponse.getNoteLog() != null))
+                {
+                    if (noteLogResponse.getNoteCount() > 0)
+                    {
+                        resultList.add(new AssetNoteLog(connectedAsset,
+                                                        noteLogResponse.getNoteLog(),
+                                                        new ConnectedAssetNotes(serviceName,
+                                                                                serverName,
+                                                                                userId,
+                                                                                omasServerURL,
+                                                                                noteLogResponse.getNoteLog().getGUID(),
+                                                                                connectedAsset,
+                                                                                noteLogResponse.getNoteCount(),
+                                                                                maximumSize,
+                                                                                restClient)));
+                    }
+                }
+            }
+
+            return resultList;
+        }
+    }
 }
@@ -10,6 +10,7 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.SchemaAttrib
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 
 /**
@@ -152,28 +153,7 @@ public class ConnectedAssetSchemaAttributes extends AssetSchemaAttributes
             restExceptionHandler.detectAndThrowUserNotAuthorizedException(restResult);
             restExceptionHandler.detectAndThrowPropertyServerException(restResult);
 
-            List<SchemaAttribute> schemaAttributes = restResult.getList();
-            if ((schemaAttributes == null) || (schemaAttributes.isEmpty()))
-            {
-                return null;
-            }
-            else
-            {
-                List<AssetPropertyBase> resultList = new ArrayList<>();
-
-                for (SchemaAttribute schemaAttribute : schemaAttributes)
-                {
-                    if (schemaAttribute != null)
-                    {
-                        resultList.add(new AssetSchemaAttribute(connectedAsset, schemaAttribute));
-                    }
-                }
-
-                if (! resultList.isEmpty())
-                {
-                    return resultList;
-                }
-            }
+            return this.getPropertyList(restResult.getList(), maximumSize);
         }
         catch (Throwable error)
         {
@@ -182,4 +162,53 @@ public class ConnectedAssetSchemaAttributes extends AssetSchemaAttributes
 
         return null;
     }
+
+
+    /**
+     * Set up the first page of elements, retrieved along with the asset, so that the property server is
+     * only called when the caller moves beyond it.  The following pages are retrieved in the background
+     * while the caller steps through the current one.
+     *
+     * @param firstPage first page of beans
+     * @param maximumSize maximum number of elements in the cache.
+     * @param prefetchExecutor executor used to retrieve the following pages
+     */
+    void setFirstPage(List<SchemaAttribute> firstPage,
+                      int                   maximumSize,
+                      Executor              prefetchExecutor)
+    {
+        super.setInitialCache(this.getPropertyList(firstPage, maximumSize));
+        super.setPrefetchExecutor(prefetchExecutor);
+    }
+
+
+    /**
+     * Convert the beans retrieved from the property server into the elements of the cache.
+     *
+     * @param beans beans retrieved from the property server
+     * @param maximumSize maximum number of elements in the cache.
+     * @return list of elements or null if there are none
+     */
+    private List<AssetPropertyBase> getPropertyList(List<SchemaAttribute> beans,
+                                                    int                   maximumSize)
+    {
+        if ((beans == null) || (beans.isEmpty()))
+        {
+            return null;
+        }
+        else
+        {
+            List<AssetPropertyBase>   resultList = new ArrayList<>();
+
+            for (SchemaAttribute  bean : beans)
+            {
+                if (bean != null)
+                {
+                    resultList.add(new AssetSchemaAttribute(connectedAsset, bean));
+                }
+            }
+
+            return resultList;
+        }
+    }
 }
@@ -5,12 +5,18 @@ package org.odpi.openmetadata.commonservices.ocf.metadatamanagement.client;
 import org.odpi.openmetadata.commonservices.ffdc.InvalidParameterHandler;
 import org.odpi.openmetadata.commonservices.ffdc.RESTExceptionHandler;
 import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.rest.AssetResponse;
+import org.odpi.openmetadata.commonservices.ocf.metadatamanagement.rest.AssetUniverseResponse;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
 import org.odpi.openmetadata.frameworks.connectors.properties.*;
 import org.odpi.openmetadata.frameworks.connectors.properties.beans.*;
 
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 
 /**
  * ConnectedAssetUniverse is the OMAS client library implementation of the Open Connector Framework
@@ -20,8 +26,10 @@ import org.odpi.openmetadata.frameworks.connectors.properties.beans.*;
  * repositories.
  * 
  * All of ConnectedAssetUniverse's work is done in the constructors.  They extract basic information
- * about the asset and push objects to the super class to retrieve the more detailed properties.
- * These properties are only retrieved on demand.
+ * about the asset, along with the first page of each list of attached elements, in a single call to the
+ * server and push objects to the super class to retrieve the more detailed properties.
+ * Subsequent pages are only retrieved on demand, prefetching the next page in the background while
+ * the caller steps through the current one.
  */
 public class ConnectedAssetUniverse extends AssetUniverse
 {
@@ -29,6 +37,31 @@ public class ConnectedAssetUniverse extends AssetUniverse
 
     private final int MAX_CACHE_SIZE = 100;
 
+    /*
+     * The prefetch threads are shared by all of the asset universes in the JVM, so both the number of threads and
+     * the number of waiting prefetches are bounded.  A prefetch that is rejected because the pool is busy is
+     * replaced by an on-demand retrieval when the caller reaches the next page.
+     */
+    private static final int PREFETCH_THREADS     = 8;
+    private static final int PREFETCH_QUEUE_SIZE  = 64;
+
+    private static final ThreadPoolExecutor prefetchExecutor = new ThreadPoolExecutor(PREFETCH_THREADS,
+                                                                                      PREFETCH_THREADS,
+                                                                                      60L,
+                                                                                      TimeUnit.SECONDS,
+                                                                                      new LinkedBlockingQueue<>(PREFETCH_QUEUE_SIZE),
+                                                                                      runnable ->
+    {
+        Thread thread = new Thread(runnable, "ConnectedAssetUniverse-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static
+    {
+        prefetchExecutor.allowCoreThreadTimeOut(true);
+    }
+
     private InvalidParameterHandler invalidParameterHandler = new InvalidParameterHandler();
     private RESTExceptionHandler    restExceptionHandler    = new RESTExceptionHandler();
 
@@ -58,8 +91,8 @@ public class ConnectedAssetUniverse extends AssetUniverse
     {
         super();
 
-        OCFRESTClient restClient    = new OCFRESTClient(remoteServerName, omasServerURL);
-        AssetResponse assetResponse = this.getAssetSummary(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID);
+        OCFRESTClient         restClient    = new OCFRESTClient(remoteServerName, omasServerURL);
+        AssetUniverseResponse assetResponse = this.getAssetUniverse(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID, null);
 
         this.processAssetResponse(serviceName,
                                   remoteServerName,
@@ -101,9 +134,8 @@ public class ConnectedAssetUniverse extends AssetUniverse
     {
         super();
 
-        OCFRESTClient
-                      restClient    = new OCFRESTClient(remoteServerName, omasServerURL, localServerUserId, localServerPassword);
-        AssetResponse assetResponse = this.getAssetSummary(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID);
+        OCFRESTClient         restClient    = new OCFRESTClient(remoteServerName, omasServerURL, localServerUserId, localServerPassword);
+        AssetUniverseResponse assetResponse = this.getAssetUniverse(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID, null);
 
         this.processAssetResponse(serviceName,
                                   remoteServerName,
@@ -140,7 +172,7 @@ public class ConnectedAssetUniverse extends AssetUniverse
     {
         super();
 
-        AssetResponse assetResponse = this.getAssetSummary(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID);
+        AssetUniverseResponse assetResponse = this.getAssetUniverse(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID, null);
 
         this.processAssetResponse(serviceName,
                                   remoteServerName,
@@ -179,8 +211,8 @@ public class ConnectedAssetUniverse extends AssetUniverse
     {
         super();
 
-        OCFRESTClient restClient    = new OCFRESTClient(remoteServerName, omasServerURL);
-        AssetResponse assetResponse = this.getConnectedAssetSummary(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID, connectionGUID);
+        OCFRESTClient         restClient    = new OCFRESTClient(remoteServerName, omasServerURL);
+        AssetUniverseResponse assetResponse = this.getAssetUniverse(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID, connectionGUID);
 
         this.processAssetResponse(serviceName,
                                   remoteServerName,
@@ -223,11 +255,11 @@ public class ConnectedAssetUniverse extends AssetUniverse
     {
         super();
 
-        OCFRESTClient restClient    = new OCFRESTClient(remoteServerName,
-                                                        omasServerURL,
-                                                        localServerUserId,
-                                                        localServerPassword);
-        AssetResponse assetResponse = this.getConnectedAssetSummary(serviceName,
+        OCFRESTClient         restClient    = new OCFRESTClient(remoteServerName,
+                                                                omasServerURL,
+                                                                localServerUserId,
+                                                                localServerPassword);
+        AssetUniverseResponse assetResponse = this.getAssetUniverse(serviceName,
                                                                     remoteServerName,
                                                                     omasServerURL,
                                                                     restClient,
@@ -254,108 +286,129 @@ public class ConnectedAssetUniverse extends AssetUniverse
      * @param userId userId of calling user.
      * @param assetGUID unique identifier of the asset.
      * @param restClient client to issue REST call.
-     * @param assetResponse response from the server covering the basic asset properties and the
-     *                      counts of objects attached to it.
+     * @param assetResponse response from the server covering the basic asset properties, the
+     *                      counts of objects attached to it and the first page of each list of attached objects.
      */
-    private void  processAssetResponse(String           serviceName,
-                                       String           remoteServerName,
-                                       String           omasServerURL,
-                                       String           userId,
-                                       String           assetGUID,
-                                       OCFRESTClient    restClient,
-                                       AssetResponse    assetResponse)
+    private void  processAssetResponse(String                serviceName,
+                                       String                remoteServerName,
+                                       String                omasServerURL,
+                                       String                userId,
+                                       String                assetGUID,
+                                       OCFRESTClient         restClient,
+                                       AssetUniverseResponse assetResponse)
     {
         super.setAssetBean(assetResponse.getAsset());
 
         if (assetResponse.getExternalIdentifierCount() > 0)
         {
-            super.externalIdentifiers = new ConnectedAssetExternalIdentifiers(serviceName,
-                                                                              remoteServerName,
-                                                                              userId,
-                                                                              omasServerURL,
-                                                                              assetGUID,
-                                                                              this,
-                                                                              assetResponse.getExternalIdentifierCount(),
-                                                                              MAX_CACHE_SIZE,
-                                                                              restClient);
+            ConnectedAssetExternalIdentifiers externalIdentifiers = new ConnectedAssetExternalIdentifiers(serviceName,
+                                                                                                          remoteServerName,
+                                                                                                          userId,
+                                                                                                          omasServerURL,
+                                                                                                          assetGUID,
+                                                                                                          this,
+                                                                                                          assetResponse.getExternalIdentifierCount(),
+                                                                                                          MAX_CACHE_SIZE,
+                                                                                                          restClient);
+
+            externalIdentifiers.setFirstPage(assetResponse.getExternalIdentifiers(), MAX_CACHE_SIZE, prefetchExecutor);
+            super.externalIdentifiers = externalIdentifiers;
         }
 
         if (assetResponse.getRelatedMediaReferenceCount() > 0)
         {
-            super.relatedMediaReferences = new ConnectedAssetRelatedMediaReferences(serviceName,
-                                                                                    remoteServerName,
-                                                                                    userId,
-                                                                                    omasServerURL,
-                                                                                    assetGUID,
-                                                                                    this,
-                                                                                    assetResponse.getRelatedMediaReferenceCount(),
-                                                                                    MAX_CACHE_SIZE,
-                                                                                    restClient);
+            ConnectedAssetRelatedMediaReferences relatedMediaReferences = new ConnectedAssetRelatedMediaReferences(serviceName,
+                                                                                                                   remoteServerName,
+                                                                                                                   userId,
+                                                                                                                   omasServerURL,
+                                                                                                                   assetGUID,
+                                                                                                                   this,
+                                                                                                                   assetResponse.getRelatedMediaReferenceCount(),
+                                                                                                                   MAX_CACHE_SIZE,
+                                                                                                                   restClient);
+
+            relatedMediaReferences.setFirstPage(assetResponse.getRelatedMediaReferences(), MAX_CACHE_SIZE, prefetchExecutor);
+            super.relatedMediaReferences = relatedMediaReferences;
         }
 
         if (assetResponse.getNoteLogsCount() > 0)
         {
-            super.noteLogs = new ConnectedAssetNoteLogs(serviceName,
-                                                        remoteServerName,
-                                                        userId,
-                                                        omasServerURL,
-                                                        assetGUID,
-                                                        this,
-                                                        assetResponse.getNoteLogsCount(),
-                                                        MAX_CACHE_SIZE,
-                                                        restClient);
+            ConnectedAssetNoteLogs noteLogs = new ConnectedAssetNoteLogs(serviceName,
+                                                                         remoteServerName,
+                                                                         userId,
+                                                                         omasServerURL,
+                                                                         assetGUID,
+                                                                         this,
+                                                                         assetResponse.getNoteLogsCount(),
+                                                                         MAX_CACHE_SIZE,
+                                                                         restClient);
+
+            noteLogs.setFirstPage(assetResponse.getNoteLogs(), MAX_CACHE_SIZE, prefetchExecutor);
+            super.noteLogs = noteLogs;
         }
 
         if (assetResponse.getExternalReferencesCount() > 0)
         {
-            super.externalReferences = new ConnectedAssetExternalReferences(serviceName,
-                                                                            remoteServerName,
-                                                                            userId,
-                                                                            omasServerURL,
-                                                                            assetGUID,
-                                                                            this,
-                                                                            assetResponse.getExternalReferencesCount(),
-                                                                            MAX_CACHE_SIZE,
-                                                                            restClient);
+            ConnectedAssetExternalReferences externalReferences = new ConnectedAssetExternalReferences(serviceName,
+                                                                                                       remoteServerName,
+                                                                                                       userId,
+                                                                                                       omasServerURL,
+                                                                                                       assetGUID,
+                                                                                                       this,
+                                                                                                       assetResponse.getExternalReferencesCount(),
+                                                                                                       MAX_CACHE_SIZE,
+                                                                                                       restClient);
+
+            externalReferences.setFirstPage(assetResponse.getExternalReferences(), MAX_CACHE_SIZE, prefetchExecutor);
+            super.externalReferences = externalReferences;
         }
 
         if (assetResponse.getConnectionCount() > 0)
         {
-            super.connections = new ConnectedAssetConnections(serviceName,
-                                                              remoteServerName,
-                                                              userId,
-                                                              omasServerURL,
-                                                              assetGUID,
-                                                              this,
-                                                              assetResponse.getConnectionCount(),
-                                                              MAX_CACHE_SIZE,
-                                                              restClient);
+            ConnectedAssetConnections connections = new ConnectedAssetConnections(serviceName,
+                                                                                  remoteServerName,
+                                                                                  userId,
+                                                                                  omasServerURL,
+                                                                                  assetGUID,
+                                                                                  this,
+                                                                                  assetResponse.getConnectionCount(),
+                                                                                  MAX_CACHE_SIZE,
+                                                                                  restClient);
+
+            connections.setFirstPage(assetResponse.getConnections(), MAX_CACHE_SIZE, prefetchExecutor);
+            super.connections = connections;
         }
 
         if (assetResponse.getLicenseCount() > 0)
         {
-            super.licenses = new ConnectedAssetLicenses(serviceName,
-                                                        remoteServerName,
-                                                        userId,
-                                                        omasServerURL,
-                                                        assetGUID,
-                                                        this,
-                                                        assetResponse.getLicenseCount(),
-                                                        MAX_CACHE_SIZE,
-                                                        restClient);
+            ConnectedAssetLicenses licenses = new ConnectedAssetLicenses(serviceName,
+                                                                         remoteServerName,
+                                                                         userId,
+                                                                         omasServerURL,
+                                                                         assetGUID,
+                                                                         this,
+                                                                         assetResponse.getLicenseCount(),
+                                                                         MAX_CACHE_SIZE,
+                                                                         restClient);
+
+            licenses.setFirstPage(assetResponse.getLicenses(), MAX_CACHE_SIZE, prefetchExecutor);
+            super.licenses = licenses;
         }
 
         if (assetResponse.getCertificationCount() > 0)
         {
-            super.certifications = new ConnectedAssetCertifications(serviceName,
-                                                                    remoteServerName,
-                                                                    userId,
-                                                                    omasServerURL,
-                                                                    assetGUID,
-                                                                    this,
-                                                                    assetResponse.getCertificationCount(),
-                                                                    MAX_CACHE_SIZE,
-                                                                    restClient);
+            ConnectedAssetCertifications certifications = new ConnectedAssetCertifications(serviceName,
+                                                                                           remoteServerName,
+                                                                                           userId,
+                                                                                           omasServerURL,
+                                                                                           assetGUID,
+                                                                                           this,
+                                                                                           assetResponse.getCertificationCount(),
+                                                                                           MAX_CACHE_SIZE,
+                                                                                           restClient);
+
+            certifications.setFirstPage(assetResponse.getCertifications(), MAX_CACHE_SIZE, prefetchExecutor);
+            super.certifications = certifications;
         }
 
         super.feedback = new ConnectedAssetFeedback(serviceName,
@@ -369,19 +422,24 @@ public class ConnectedAssetUniverse extends AssetUniverse
                                                     assetResponse.getRatingsCount(),
                                                     assetResponse.getInformalTagCount(),
                                                     MAX_CACHE_SIZE,
-                                                    restClient);
+                                                    restClient,
+                                                    assetResponse,
+                                                    prefetchExecutor);
 
         if (assetResponse.getKnownLocationsCount() > 0)
         {
-            super.knownLocations = new ConnectedAssetLocations(serviceName,
-                                                               remoteServerName,
-                                                               userId,
-                                                               omasServerURL,
-                                                               assetGUID,
-                                                               this,
-                                                               assetResponse.getKnownLocationsCount(),
-                                                               MAX_CACHE_SIZE,
-                                                               restClient);
+            ConnectedAssetLocations knownLocations = new ConnectedAssetLocations(serviceName,
+                                                                                 remoteServerName,
+                                                                                 userId,
+                                                                                 omasServerURL,
+                                                                                 assetGUID,
+                                                                                 this,
+                                                                                 assetResponse.getKnownLocationsCount(),
+                                                                                 MAX_CACHE_SIZE,
+                                                                                 restClient);
+
+            knownLocations.setFirstPage(assetResponse.getKnownLocations(), MAX_CACHE_SIZE, prefetchExecutor);
+            super.knownLocations = knownLocations;
         }
 
         super.lineage = new ConnectedAssetLineage(serviceName,
@@ -395,15 +453,18 @@ public class ConnectedAssetUniverse extends AssetUniverse
 
         if (assetResponse.getRelatedAssetCount() > 0)
         {
-            super.relatedAssets = new ConnectedAssetRelatedAssets(serviceName,
-                                                                  remoteServerName,
-                                                                  userId,
-                                                                  omasServerURL,
-                                                                  assetGUID,
-                                                                  this,
-                                                                  assetResponse.getRelatedAssetCount(),
-                                                                  MAX_CACHE_SIZE,
-                                                                  restClient);
+            ConnectedAssetRelatedAssets relatedAssets = new ConnectedAssetRelatedAssets(serviceName,
+                                                                                        remoteServerName,
+                                                                                        userId,
+                                                                                        omasServerURL,
+                                                                                        assetGUID,
+                                                                                        this,
+                                                                                        assetResponse.getRelatedAssetCount(),
+                                                                                        MAX_CACHE_SIZE,
+                                                                                        restClient);
+
+            relatedAssets.setFirstPage(assetResponse.getRelatedAssets(), MAX_CACHE_SIZE, prefetchExecutor);
+            super.relatedAssets = relatedAssets;
         }
 
         if (assetResponse.getSchemaType() != null)
@@ -413,11 +474,145 @@ public class ConnectedAssetUniverse extends AssetUniverse
                                                    omasServerURL,
                                                    userId,
                                                    assetResponse.getSchemaType(),
+                                                   assetResponse.getSchemaAttributes(),
                                                    restClient);
         }
     }
 
 
+    /**
+     * Returns the basic information about the asset along with the first page of each list of elements attached
+     * to it.  The connection guid (if supplied) allows the short description for the asset to be filled out.
+     * If the server does not support the retrieval of the asset universe in a single call, the basic information
+     * is retrieved on its own and the lists are retrieved on demand.
+     *
+     * @param serviceName calling service
+     * @param remoteServerName  name of the server.
+     * @param omasServerURL  url used to call the server.
+     * @param restClient client to call REST API
+     * @param userId     String   userId of user making request.
+     * @param assetGUID  String   unique id for asset.
+     * @param connectionGUID  unique id for connection used to access asset; may be null.
+     *
+     * @return a bean with the basic properties about the asset.
+     * @throws InvalidParameterException the asset GUID is null or invalid.
+     * @throws PropertyServerException there is a problem retrieving the asset properties from the property server.
+     * @throws UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    private AssetUniverseResponse getAssetUniverse(String        serviceName,
+                                                   String        remoteServerName,
+                                                   String        omasServerURL,
+                                                   OCFRESTClient restClient,
+                                                   String        userId,
+                                                   String        assetGUID,
+                                                   String        connectionGUID) throws InvalidParameterException,
+                                                                                        PropertyServerException,
+                                                                                        UserNotAuthorizedException
+    {
+        final String   methodName = "getAssetUniverse";
+        final String   urlTemplate = "/servers/{0}/open-metadata/common-services/{1}/connected-asset/users/{2}/assets/{3}/universe?maxElements={4}";
+        final String   connectionURLTemplate = "/servers/{0}/open-metadata/common-services/{1}/connected-asset/users/{2}/assets/{3}/via-connection/{4}/universe?maxElements={5}";
+
+        invalidParameterHandler.validateOMAGServerPlatformURL(omasServerURL, remoteServerName, methodName);
+
+        AssetUniverseResponse  restResult;
+
+        try
+        {
+            if (connectionGUID == null)
+            {
+                restResult = restClient.callAssetUniverseGetRESTCall(methodName,
+                                                                     omasServerURL + urlTemplate,
+                                                                     remoteServerName,
+                                                                     serviceName,
+                                                                     userId,
+                                                                     assetGUID,
+                                                                     MAX_CACHE_SIZE);
+            }
+            else
+            {
+                restResult = restClient.callAssetUniverseGetRESTCall(methodName,
+                                                                     omasServerURL + connectionURLTemplate,
+                                                                     remoteServerName,
+                                                                     serviceName,
+                                                                     userId,
+                                                                     assetGUID,
+                                                                     connectionGUID,
+                                                                     MAX_CACHE_SIZE);
+            }
+        }
+        catch (InvalidParameterException | UserNotAuthorizedException error)
+        {
+            throw error;
+        }
+        catch (PropertyServerException error)
+        {
+            /*
+             * A back level server does not support the asset universe call so fall back to the summary.
+             * Any other failure is returned to the caller.
+             */
+            if (! isUnknownRequest(error))
+            {
+                throw error;
+            }
+
+            restResult = null;
+        }
+
+        if (restResult != null)
+        {
+            return restResult;
+        }
+
+        if (connectionGUID == null)
+        {
+            return new AssetUniverseResponse(this.getAssetSummary(serviceName, remoteServerName, omasServerURL, restClient, userId, assetGUID));
+        }
+        else
+        {
+            return new AssetUniverseResponse(this.getConnectedAssetSummary(serviceName,
+                                                                           remoteServerName,
+                                                                           omasServerURL,
+                                                                           restClient,
+                                                                           userId,
+                                                                           assetGUID,
+                                                                           connectionGUID));
+        }
+    }
+
+
+    /**
+     * Determine whether a REST call failed because the server does not recognize the URL.  The REST client
+     * connector wraps the HTTP client's exception, whose message starts with the HTTP status code.
+     *
+     * @param error exception from the REST client
+     * @return true if the server returned 404 (not found) or 405 (method not allowed)
+     */
+    private boolean isUnknownRequest(Throwable error)
+    {
+        Throwable cause = error;
+
+        while (cause != null)
+        {
+            String message = cause.getMessage();
+
+            if ((message != null) && ((message.startsWith("404")) || (message.startsWith("405"))))
+            {
+                return true;
+            }
+
+            if (cause.getCause() == cause)
+            {
+                break;
+            }
+
+            cause = cause.getCause();
+        }
+
+        return false;
+    }
+
+
     /**
      * Returns the basic information about the asset.  The connection guid allows the short description for the
      * asset to be filled out.
@@ -545,6 +740,7 @@ public class ConnectedAssetUniverse extends AssetUniverse
      * @param omasServerURL  url used to call the server.
      * @param userId     String   userId of user making request.
      * @param bean schema type bean that has the properties for the schema type.
+     * @param firstPage first page of the schema attributes of a complex schema type
      * @param restClient client to call REST API
 
      * @return subtype of AssetSchemaType
@@ -554,6 +750,7 @@ public class ConnectedAssetUniverse extends AssetUniverse
                                                   String     omasServerURL,
                                                   String     userId,
                                                   SchemaType bean,
+                                                  List<SchemaAttribute> firstPage,
                                                   OCFRESTClient restClient)
     {
         if (bean == null)
@@ -569,7 +766,9 @@ public class ConnectedAssetUniverse extends AssetUniverse
                                                        this,
                                                        MAX_CACHE_SIZE,
                                                        (ComplexSchemaType)bean,
-                                                       restClient);
+                                                       restClient,
+                                                       firstPage,
+                                                       prefetchExecutor);
         }
         else
         {
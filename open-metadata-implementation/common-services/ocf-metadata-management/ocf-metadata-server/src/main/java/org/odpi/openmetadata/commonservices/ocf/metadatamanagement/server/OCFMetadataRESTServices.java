@@ -432,6 +432,250 @@ public class OCFMetadataRESTServices
     }
 
 
+    /**
+     * Returns the basic information about the asset along with the first page of each of the lists of
+     * elements attached to the asset.  The connection guid allows the short description for the
+     * asset to be filled out.
+     *
+     * @param serverName  name of the server.
+     * @param serviceURLName  String   name of the service that created the connector that issued this request.
+     * @param userId     String   userId of user making request.
+     * @param assetGUID  String   unique id for asset.
+     * @param connectionGUID  unique id for connection used to access asset.
+     * @param maxElements  int      maximum number of elements to return in each list.
+     *
+     * @return a bean with the basic properties about the asset and the first page of its attached elements or
+     * InvalidParameterException - the asset GUID is null or invalid or
+     * UnrecognizedAssetGUIDException - the asset GUID is not recognized by the property server or
+     * UnrecognizedConnectionGUIDException - the connection GUID is not recognized by the property server or
+     * PropertyServerException - there is a problem retrieving the asset properties from the property server or
+     * UserNotAuthorizedException the requesting user is not authorized to issue this request.
+     */
+    public AssetUniverseResponse getConnectedAssetUniverse(String   serverName,
+                                                           String   serviceURLName,
+                                                           String   userId,
+                                                           String   assetGUID,
+                                                           String   connectionGUID,
+                                                           int      maxElements)
+    {
+        final String methodName = "getConnectedAssetUniverse";
+
+        return this.getAssetUniverseResponse(serverName, serviceURLName, userId, assetGUID, connectionGUID, maxElements, methodName);
+    }
+
+
+    /**
+     * Returns the basic information about the asset along with the first page of each of the lists of
+     * elements attached to the asset.
+     *
+     * @param serverName String   name of server instance to call.
+     * @param serviceURLName  String   name of the service that created the connector that issued this request.
+     * @param userId     String   userId of user making request.
+     * @param assetGUID  String   unique id for asset.
+     * @param maxElements  int      maximum number of elements to return in each list.
+     *
+     * @return a bean with the basic properties about the asset and the first page of its attached elements or
+     * InvalidParameterException - the userId is null or invalid or
+     * UnrecognizedAssetGUIDException - the GUID is null or invalid or
+     * PropertyServerException - there is a problem retrieving the asset properties from the property server or
+     * UserNotAuthorizedException - the requesting user is not authorized to issue this request.
+     */
+    public AssetUniverseResponse getAssetUniverse(String   serverName,
+                                                  String   serviceURLName,
+                                                  String   userId,
+                                                  String   assetGUID,
+                                                  int      maxElements)
+    {
+        final String methodName = "getAssetUniverse";
+
+        return this.getAssetUniverseResponse(serverName, serviceURLName, userId, assetGUID, null, maxElements, methodName);
+    }
+
+
+    /**
+     * Build the asset universe response from the asset summary and the first page of each of the lists that have
+     * elements.  A list that can not be retrieved is left empty so that the client retrieves it on demand.
+     *
+     * @param serverName  name of the server.
+     * @param serviceURLName  String   name of the service that created the connector that issued this request.
+     * @param userId     String   userId of user making request.
+     * @param assetGUID  String   unique id for asset.
+     * @param connectionGUID  unique id for connection used to access asset.
+     * @param maxElements  int      maximum number of elements to return in each list.
+     * @param methodName calling method
+     *
+     * @return a bean with the basic properties about the asset and the first page of its attached elements
+     */
+    private AssetUniverseResponse getAssetUniverseResponse(String   serverName,
+                                                           String   serviceURLName,
+                                                           String   userId,
+                                                           String   assetGUID,
+                                                           String   connectionGUID,
+                                                           int      maxElements,
+                                                           String   methodName)
+    {
+        AssetUniverseResponse response = new AssetUniverseResponse(this.getAssetResponse(serverName,
+                                                                                         serviceURLName,
+                                                                                         userId,
+                                                                                         assetGUID,
+                                                                                         connectionGUID,
+                                                                                         methodName));
+
+        if ((response.getExceptionClassName() != null) || (response.getAsset() == null))
+        {
+            return response;
+        }
+
+        if (response.getExternalIdentifierCount() > 0)
+        {
+            ExternalIdentifiersResponse listResponse = this.getExternalIdentifiers(serverName, serviceURLName, userId, assetGUID, 0, maxElements);
+
+            if (listResponse.getExceptionClassName() == null)
+            {
+                response.setExternalIdentifiers(listResponse.getList());
+            }
+        }
+
+        if (response.getRelatedMediaReferenceCount() > 0)
+        {
+            RelatedMediaReferencesResponse listResponse = this.getRelatedMediaReferences(serverName, serviceURLName, userId, assetGUID, 0, maxElements);
+
+            if (listResponse.getExceptionClassName() == null)
+            {
+                response.setRelatedMediaReferences(listResponse.getList());
+            }
+        }
+
+        if (response.getNoteLogsCount() > 0)
+        {
+            NoteLogsResponse listResponse = this.getNoteLogs(serverName, serviceURLName, userId, assetGUID, 0, maxElements);
+
+            if (listResponse.getExceptionClassName() == null)
+            {
+                response.setNoteLogs(listResponse.getList());
+            }
+        }
+
+        if (response.getExternalReferencesCount() > 0)
+        {
+            ExternalReferencesResponse listResponse = this.getExternalReferences(serverName, serviceURLName, userId, assetGUID, 0, maxElements);
+
+            if (listResponse.getExceptionClassName() == null)
+            {
+                response.setExternalReferences(listResponse.getList());
+            }
+        }
+
+        if (response.getConnectionCount() > 0)
+        {
+            ConnectionsResponse listResponse = this.getConnections(serverName, serviceURLName, userId, assetGUID, 0, maxElements);
+
+            if (listResponse.getExceptionClassName() == null)
+            {
+                response.setConnections(listResponse.getList());
+            }
+        }
+
+        if (response.getLicenseCount() > 0)
+        {
+            LicensesResponse listResponse = this.getLicenses(serverName, serviceURLName, userId, assetGUID, 0, maxElements);
+
+            if (listResponse.getExceptionClassName() == null)
+            {
+                response.setLicenses(listResponse.getList());
+            }
+        }
+
+        if (response.getCertificationCount() > 0)
+        {
+            CertificationsResponse listResponse = this.getCertifications(serverName, serviceURLName, userId, assetGUID, 0, maxElements);
+
+            if (listResponse.getExceptionClassName() == null)
+            {
+                response.setCertifications(listResponse.getList());
+            }
+        }
+
+        if (response.getKnownLocationsCount() > 0)
+        {
+            LocationsResponse listResponse = this.getKnownLocations(serverName, serviceURLName, userId, assetGUID, 0, maxElements);
+
+            if (listResponse.getExceptionClassName() == null)
+            {
+                response.setKnownLocations(listResponse.getList());
+            }
+        }
+
+        if (response.getRelatedAssetCount() > 0)
+        {
+            RelatedAssetsResponse listResponse = this.getRelatedAssets(serverName, serviceURLName, userId, assetGUID, 0, maxElements);
+
+            if (listResponse.getExceptionClassName() == null)
+            {
+                response.setRelatedAssets(listResponse.getList());
+            }
+        }
+
+        if (response.getCommentCount() > 0)
+        {
+            CommentsResponse listResponse = this.getAssetComments(serverName, serviceURLName, userId, assetGUID, 0, maxElements);
+
+            if (listResponse.getExceptionClassName() == null)
+            {
+                response.setComments(listResponse.getList());
+            }
+        }
+
+        if (response.getLikeCount() > 0)
+        {
+            LikesResponse listResponse = this.getLikes(serverName, serviceURLName, userId, assetGUID, 0, maxElements);
+
+            if (listResponse.getExceptionClassName() == null)
+            {
+                response.setLikes(listResponse.getList());
+            }
+        }
+
+        if (response.getRatingsCount() > 0)
+        {
+            RatingsResponse listResponse = this.getRatings(serverName, serviceURLName, userId, assetGUID, 0, maxElements);
+
+            if (listResponse.getExceptionClassName() == null)
+            {
+                response.setRatings(listResponse.getList());
+            }
+        }
+
+        if (response.getInformalTagCount() > 0)
+        {
+            InformalTagsResponse listResponse = this.getInformalTags(serverName, serviceURLName, userId, assetGUID, 0, maxElements);
+
+            if (listResponse.getExceptionClassName() == null)
+            {
+                response.setInformalTags(listResponse.getList());
+            }
+        }
+
+        if ((response.getSchemaType() instanceof ComplexSchemaType) &&
+            (((ComplexSchemaType)response.getSchemaType()).getAttributeCount() > 0))
+        {
+            SchemaAttributesResponse listResponse = this.getSchemaAttributes(serverName,
+                                                                             serviceURLName,
+                                                                             userId,
+                                                                             response.getSchemaType().getGUID(),
+                                                                             0,
+                                                                             maxElements);
+
+            if (listResponse.getExceptionClassName() == null)
+            {
+                response.setSchemaAttributes(listResponse.getList());
+            }
+        }
+
+        return response;
+    }
+
+
     /**
      * Returns the list of certifications for the asset.
      *
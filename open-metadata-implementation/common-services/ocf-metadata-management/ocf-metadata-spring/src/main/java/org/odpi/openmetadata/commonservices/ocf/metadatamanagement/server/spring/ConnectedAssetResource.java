@@ -186,6 +186,66 @@ public class ConnectedAssetResource
     }
 
 
+    /**
+     * Returns the basic information about the asset along with the first page of each of the lists of
+     * elements attached to the asset.  The connection guid allows the short description for the
+     * asset to be filled out.
+     *
+     * @param serverName  name of the server instances for this request
+     * @param serviceURLName  String   name of the service that created the connector that issued this request.
+     * @param userId      String   userId of user making request.
+     * @param assetGUID   String   unique id for asset.
+     * @param connectionGUID  unique id for connection used to access asset.
+     * @param maxElements  int      maximum number of elements to return in each list.
+     *
+     * @return a bean with the basic properties about the asset and the first page of its attached elements or
+     * InvalidParameterException - the asset GUID is null or invalid or
+     * UnrecognizedAssetGUIDException - the asset GUID is not recognized by the property server or
+     * UnrecognizedConnectionGUIDException - the connection GUID is not recognized by the property server or
+     * PropertyServerException - there is a problem retrieving the asset properties from the property server or
+     * UserNotAuthorizedException - the requesting user is not authorized to issue this request.
+     */
+    @GetMapping(path = "/assets/{assetGUID}/via-connection/{connectionGUID}/universe")
+
+    public AssetUniverseResponse getConnectedAssetUniverse(@PathVariable String   serverName,
+                                                           @PathVariable String   serviceURLName,
+                                                           @PathVariable String   userId,
+                                                           @PathVariable String   assetGUID,
+                                                           @PathVariable String   connectionGUID,
+                                                           @RequestParam int      maxElements)
+    {
+        return restAPI.getConnectedAssetUniverse(serverName, serviceURLName, userId, assetGUID, connectionGUID, maxElements);
+    }
+
+
+    /**
+     * Returns the basic information about the asset along with the first page of each of the lists of
+     * elements attached to the asset.
+     *
+     * @param serverName  String   name of server instance to call.
+     * @param serviceURLName String   name of the service that created the connector that issued this request.
+     * @param userId      String   userId of user making request.
+     * @param assetGUID   String   unique id for asset.
+     * @param maxElements  int      maximum number of elements to return in each list.
+     *
+     * @return a bean with the basic properties about the asset and the first page of its attached elements or
+     * InvalidParameterException - the userId is null or invalid or
+     * UnrecognizedAssetGUIDException - the GUID is null or invalid or
+     * PropertyServerException - there is a problem retrieving the asset properties from the property server or
+     * UserNotAuthorizedException - the requesting user is not authorized to issue this request.
+     */
+    @GetMapping(path = "/assets/{assetGUID}/universe")
+
+    public AssetUniverseResponse getAssetUniverse(@PathVariable String   serverName,
+                                                  @PathVariable String   serviceURLName,
+                                                  @PathVariable String   userId,
+                                                  @PathVariable String   assetGUID,
+                                                  @RequestParam int      maxElements)
+    {
+        return restAPI.getAssetUniverse(serverName, serviceURLName, userId, assetGUID, maxElements);
+    }
+
+
     /**
      * Returns the list of certifications for the asset.
      *
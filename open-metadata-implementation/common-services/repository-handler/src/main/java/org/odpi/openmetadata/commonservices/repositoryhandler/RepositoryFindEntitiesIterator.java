@@ -8,6 +8,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedExcepti
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.EntityDetailPage;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
 
@@ -19,6 +20,8 @@ import java.util.List;
  * RepositoryFindEntitiesIterator is an iterator class for iteratively retrieving entities based on a search criteria.
  * It is used where the caller needs to filter the results coming from the repository and may need to
  * make more than one call to the repository in order to accumulate the number of requested results.
+ * The first call starts from the requested element; later calls pass the continuation token returned
+ * with the previous page so the repository does not count through the earlier pages again.
  *
  * Note this class is intended for a single request's use - it is not thread-safe.
  */
@@ -31,6 +34,8 @@ public class RepositoryFindEntitiesIterator extends RepositoryIteratorForEntitie
     private Date                  asOfTime;
     private String                sequencingProperty;
     private SequencingOrder       sequencingOrder;
+    private String                continuationToken = null;
+    private boolean               moreResultsAvailable = true;
 
     /**
      * Constructor takes the parameters used to call the repository handler.
@@ -90,20 +95,38 @@ public class RepositoryFindEntitiesIterator extends RepositoryIteratorForEntitie
     public boolean  moreToReceive() throws UserNotAuthorizedException,
                                            PropertyServerException
     {
-        if ((entitiesCache == null) || (entitiesCache.isEmpty()))
+        /*
+         * A page may be empty if the repository removed all of its entities before returning it,
+         * so keep going until there are entities or no more pages.
+         */
+        while (((entitiesCache == null) || (entitiesCache.isEmpty())) && (moreResultsAvailable))
         {
-            entitiesCache = repositoryHandler.findEntities(userId,
-                                                           entityTypeGUID,
-                                                           entitySubtypeGUIDs,
-                                                           searchProperties,
-                                                           limitResultsByStatus,
-                                                           searchClassifications,
-                                                           asOfTime,
-                                                           sequencingProperty,
-                                                           sequencingOrder,
-                                                           startingFrom,
-                                                           pageSize,
-                                                           methodName);
+            EntityDetailPage entityPage = repositoryHandler.findEntitiesPage(userId,
+                                                                             entityTypeGUID,
+                                                                             entitySubtypeGUIDs,
+                                                                             searchProperties,
+                                                                             limitResultsByStatus,
+                                                                             searchClassifications,
+                                                                             asOfTime,
+                                                                             sequencingProperty,
+                                                                             sequencingOrder,
+                                                                             startingFrom,
+                                                                             continuationToken,
+                                                                             pageSize,
+                                                                             methodName);
+
+            if (entityPage == null)
+            {
+                entitiesCache = null;
+                continuationToken = null;
+            }
+            else
+            {
+                entitiesCache = entityPage.getEntities();
+                continuationToken = entityPage.getContinuationToken();
+            }
+
+            moreResultsAvailable = (continuationToken != null);
 
             if (entitiesCache != null)
             {
@@ -111,6 +134,6 @@ public class RepositoryFindEntitiesIterator extends RepositoryIteratorForEntitie
             }
         }
 
-        return entitiesCache != null;
+        return (entitiesCache != null) && (! entitiesCache.isEmpty());
     }
 }
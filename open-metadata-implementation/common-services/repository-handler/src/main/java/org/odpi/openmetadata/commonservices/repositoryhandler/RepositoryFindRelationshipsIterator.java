@@ -8,6 +8,7 @@ import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedExcepti
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.RelationshipPage;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
 
@@ -20,6 +21,9 @@ import java.util.List;
  * It is used where the caller needs to filter the results coming from the repository and may need to
  * make more than one call to the repository in order to accumulate the number of requested results.
  *
+ * The first call starts from the requested element; later calls pass the continuation token returned
+ * with the previous page so the repository does not count through the earlier pages again.
+ *
  * Note this class is intended for a single request's use - it is not thread-safe.
  */
 public class RepositoryFindRelationshipsIterator
@@ -37,6 +41,8 @@ public class RepositoryFindRelationshipsIterator
     private Date                  asOfTime;
     private String                sequencingProperty;
     private SequencingOrder       sequencingOrder;
+    private String                continuationToken = null;
+    private boolean               moreResultsAvailable = true;
 
     /**
      * Constructor takes the parameters used to call the repository handler.
@@ -96,19 +102,37 @@ public class RepositoryFindRelationshipsIterator
     public boolean  moreToReceive() throws UserNotAuthorizedException,
                                            PropertyServerException
     {
-        if ((relationshipsCache == null) || (relationshipsCache.isEmpty()))
+        /*
+         * A page may be empty if the repository removed all of its relationships before returning it,
+         * so keep going until there are relationships or no more pages.
+         */
+        while (((relationshipsCache == null) || (relationshipsCache.isEmpty())) && (moreResultsAvailable))
         {
-           relationshipsCache = repositoryHandler.findRelationships(userId,
-                                                                    relationshipTypeGUID,
-                                                                    relationshipSubtypeGUIDs,
-                                                                    searchProperties,
-                                                                    limitResultsByStatus,
-                                                                    asOfTime,
-                                                                    sequencingProperty,
-                                                                    sequencingOrder,
-                                                                    startingFrom,
-                                                                    requesterPageSize,
-                                                                    methodName);
+            RelationshipPage relationshipPage = repositoryHandler.findRelationshipsPage(userId,
+                                                                                        relationshipTypeGUID,
+                                                                                        relationshipSubtypeGUIDs,
+                                                                                        searchProperties,
+                                                                                        limitResultsByStatus,
+                                                                                        asOfTime,
+                                                                                        sequencingProperty,
+                                                                                        sequencingOrder,
+                                                                                        startingFrom,
+                                                                                        continuationToken,
+                                                                                        requesterPageSize,
+                                                                                        methodName);
+
+            if (relationshipPage == null)
+            {
+                relationshipsCache = null;
+                continuationToken = null;
+            }
+            else
+            {
+                relationshipsCache = relationshipPage.getRelationships();
+                continuationToken = relationshipPage.getContinuationToken();
+            }
+
+            moreResultsAvailable = (continuationToken != null);
 
             if (relationshipsCache != null)
             {
@@ -116,7 +140,7 @@ public class RepositoryFindRelationshipsIterator
             }
         }
 
-        return relationshipsCache != null;
+        return (relationshipsCache != null) && (! relationshipsCache.isEmpty());
     }
 
 
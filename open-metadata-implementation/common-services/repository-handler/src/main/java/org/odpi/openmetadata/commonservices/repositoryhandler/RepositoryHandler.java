@@ -10,14 +10,18 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.EntityDetailPage;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.RelationshipPage;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Date;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -32,6 +36,8 @@ public class RepositoryHandler
     private int                    maxPageSize;
     private AuditLog               auditLog;
 
+    private final ThreadLocal<RepositoryRequestCache> requestCache = new ThreadLocal<>();
+
     private static final Logger log = LoggerFactory.getLogger(RepositoryHandler.class);
 
 
@@ -55,6 +61,82 @@ public class RepositoryHandler
     }
 
 
+    /**
+     * Start caching the entities and relationships retrieved by GUID on the calling thread.  This is
+     * used to avoid repeated calls to the repositories for the same instance during a single request.
+     * The caller must close the returned cache at the end of the request (typically with try-with-resources).
+     * If a cache is already active on this thread, it is shared with the caller.
+     *
+     * @return request cache
+     */
+    public RepositoryRequestCache startRequestCache()
+    {
+        RepositoryRequestCache cache = requestCache.get();
+
+        if (cache == null)
+        {
+            cache = new RepositoryRequestCache(requestCache);
+            requestCache.set(cache);
+        }
+        else
+        {
+            cache.reopen();
+        }
+
+        return cache;
+    }
+
+
+    /**
+     * Remove an entity that is being changed from the request cache.
+     *
+     * @param entityGUID unique identifier of the entity
+     */
+    private void entityChanged(String entityGUID)
+    {
+        RepositoryRequestCache cache = requestCache.get();
+
+        if (cache != null)
+        {
+            cache.removeEntity(entityGUID);
+        }
+    }
+
+
+    /**
+     * Remove an entity that is being deleted, purged or restored from the request cache.  Its relationships
+     * are also changed by the repository so the cached relationships are discarded.
+     *
+     * @param entityGUID unique identifier of the entity
+     */
+    private void entityRemoved(String entityGUID)
+    {
+        RepositoryRequestCache cache = requestCache.get();
+
+        if (cache != null)
+        {
+            cache.removeEntity(entityGUID);
+            cache.removeAllRelationships();
+        }
+    }
+
+
+    /**
+     * Remove a relationship that is being changed from the request cache.
+     *
+     * @param relationshipGUID unique identifier of the relationship
+     */
+    private void relationshipChanged(String relationshipGUID)
+    {
+        RepositoryRequestCache cache = requestCache.get();
+
+        if (cache != null)
+        {
+            cache.removeRelationship(relationshipGUID);
+        }
+    }
+
+
     /**
      * Validate that the supplied GUID is for a real entity and map exceptions if not
      *
@@ -548,6 +630,7 @@ public class RepositoryHandler
 
             try
             {
+                this.entityChanged(entityGUID);
                 EntityDetail newEntity = metadataCollection.updateEntityProperties(userId, entityGUID, newProperties);
                 if (newEntity == null)
                 {
@@ -632,6 +715,7 @@ public class RepositoryHandler
 
             try
             {
+                this.entityChanged(entityGUID);
                 EntityDetail newEntity = metadataCollection.updateEntityProperties(userId, entityGUID, newProperties);
                 if (newEntity == null)
                 {
@@ -1047,6 +1131,7 @@ public class RepositoryHandler
                                             externalSourceName,
                                             methodName);
 
+            this.entityChanged(entityHeader.getGUID());
             EntityDetail newEntity = metadataCollection.updateEntityProperties(userId,
                                                                                entityHeader.getGUID(),
                                                                                properties);
@@ -1121,6 +1206,7 @@ public class RepositoryHandler
                                             externalSourceName,
                                             methodName);
 
+            this.entityChanged(entityGUID);
             EntityDetail newEntity = metadataCollection.updateEntityStatus(userId,
                                                                            entityGUID,
                                                                            instanceStatus);
@@ -1180,6 +1266,7 @@ public class RepositoryHandler
 
         try
         {
+            this.entityChanged(entityGUID);
             EntityDetail newEntity = metadataCollection.updateEntityProperties(userId,
                                                                                entityGUID,
                                                                                properties);
@@ -1232,6 +1319,7 @@ public class RepositoryHandler
 
         try
         {
+            this.entityChanged(entityGUID);
             EntityDetail newEntity = metadataCollection.classifyEntity(userId,
                                                                        entityGUID,
                                                                        classificationName,
@@ -1296,6 +1384,7 @@ public class RepositoryHandler
 
         try
         {
+            this.entityChanged(entityGUID);
             EntityDetail newEntity = metadataCollection.classifyEntity(userId,
                                                                        entityGUID,
                                                                        classificationTypeName,
@@ -1386,6 +1475,7 @@ public class RepositoryHandler
                                                 externalSourceName,
                                                 methodName);
 
+                this.entityChanged(entityGUID);
                 EntityDetail newEntity = metadataCollection.updateEntityClassification(userId,
                                                                                        entityGUID,
                                                                                        classificationTypeName,
@@ -1471,6 +1561,7 @@ public class RepositoryHandler
         {
             try
             {
+                this.entityChanged(entityGUID);
                 EntityDetail newEntity = metadataCollection.declassifyEntity(userId, entityGUID, classificationTypeName);
 
                 if (newEntity == null)
@@ -1544,6 +1635,7 @@ public class RepositoryHandler
                                                 externalSourceName,
                                                 methodName);
 
+                this.entityChanged(entityGUID);
                 EntityDetail newEntity = metadataCollection.declassifyEntity(userId,
                                                                              entityGUID,
                                                                              classificationTypeName);
@@ -1761,6 +1853,7 @@ public class RepositoryHandler
 
         try
         {
+            this.entityRemoved(obsoleteEntityGUID);
             metadataCollection.deleteEntity(userId, entityTypeGUID, entityTypeName, obsoleteEntityGUID);
         }
         catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException error)
@@ -1804,6 +1897,7 @@ public class RepositoryHandler
         {
             try
             {
+                this.entityRemoved(obsoleteEntityGUID);
                 metadataCollection.deleteEntity(userId, entityTypeGUID, entityTypeName, obsoleteEntityGUID);
             }
             catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException error)
@@ -1841,6 +1935,7 @@ public class RepositoryHandler
 
         try
         {
+            this.entityRemoved(obsoleteEntityGUID);
             metadataCollection.purgeEntity(userId, entityTypeGUID, entityTypeName, obsoleteEntityGUID);
             auditLog.logMessage(methodName,
                                 RepositoryHandlerAuditCode.ENTITY_PURGED.getMessageDefinition(obsoleteEntityGUID,
@@ -1880,6 +1975,7 @@ public class RepositoryHandler
 
         try
         {
+            this.entityRemoved(deletedEntityGUID);
             metadataCollection.restoreEntity(userId, deletedEntityGUID);
         }
         catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException error)
@@ -1916,6 +2012,7 @@ public class RepositoryHandler
 
         try
         {
+            this.entityRemoved(deletedEntityGUID);
             EntityDetail entity = metadataCollection.restoreEntity(userId, deletedEntityGUID);
 
             if (entity != null)
@@ -2702,9 +2799,26 @@ public class RepositoryHandler
     {
         final String localMethodName = "getEntityByGUID";
 
+        RepositoryRequestCache cache = requestCache.get();
+
         try
         {
-            EntityDetail entity = metadataCollection.getEntityDetail(userId, guid);
+            EntityDetail entity = null;
+
+            if (cache != null)
+            {
+                entity = cache.getEntity(userId, guid);
+            }
+
+            if (entity == null)
+            {
+                entity = metadataCollection.getEntityDetail(userId, guid);
+
+                if (cache != null)
+                {
+                    cache.putEntity(userId, entity);
+                }
+            }
 
             errorHandler.validateInstanceType(entity, entityTypeName, methodName, localMethodName);
 
@@ -2731,6 +2845,144 @@ public class RepositoryHandler
     }
 
 
+    /**
+     * Return the requested entities.  The list of unique identifiers is de-duplicated, entities already in the
+     * request cache are taken from it, and the rest are retrieved with a single call to the metadata collection.
+     * Unlike getEntityByGUID, an entity that is not known, is only available as a proxy, is not visible to the
+     * caller or is not of the expected type is left out of the results rather than causing an exception.
+     * If the multi-entity retrieval fails, the entities are retrieved one at a time so that an entity that can not
+     * be read only removes that entity from the results.
+     *
+     * @param userId calling user
+     * @param guids unique identifiers for the entities
+     * @param entityTypeName expected type of the entities
+     * @param methodName calling method name
+     *
+     * @return map from unique identifier to entity detail for the entities that were retrieved
+     *
+     * @throws PropertyServerException problem retrieving the entities.
+     */
+    public Map<String, EntityDetail> getEntitiesByGUIDs(String             userId,
+                                                        Collection<String> guids,
+                                                        String             entityTypeName,
+                                                        String             methodName) throws PropertyServerException
+    {
+        Map<String, EntityDetail> results = new HashMap<>();
+
+        if (guids == null)
+        {
+            return results;
+        }
+
+        LinkedHashSet<String> uniqueGUIDs = new LinkedHashSet<>(guids);
+
+        uniqueGUIDs.remove(null);
+
+        RepositoryRequestCache cache           = requestCache.get();
+        List<EntityDetail>     entities        = new ArrayList<>();
+        List<String>           guidsToRetrieve = new ArrayList<>();
+
+        for (String guid : uniqueGUIDs)
+        {
+            EntityDetail cachedEntity = null;
+
+            if (cache != null)
+            {
+                cachedEntity = cache.getEntity(userId, guid);
+            }
+
+            if (cachedEntity != null)
+            {
+                entities.add(cachedEntity);
+            }
+            else
+            {
+                guidsToRetrieve.add(guid);
+            }
+        }
+
+        if (! guidsToRetrieve.isEmpty())
+        {
+            List<EntityDetail> retrievedEntities;
+
+            try
+            {
+                retrievedEntities = metadataCollection.getEntityDetails(userId, guidsToRetrieve);
+            }
+            catch (Exception error)
+            {
+                log.debug("Unable to retrieve " + guidsToRetrieve.size() + " entities together for " + methodName +
+                                  "; retrieving them one at a time", error);
+
+                retrievedEntities = this.getReadableEntities(userId, guidsToRetrieve, methodName);
+            }
+
+            if (retrievedEntities != null)
+            {
+                for (EntityDetail entity : retrievedEntities)
+                {
+                    if (entity != null)
+                    {
+                        if (cache != null)
+                        {
+                            cache.putEntity(userId, entity);
+                        }
+
+                        entities.add(entity);
+                    }
+                }
+            }
+        }
+
+        try
+        {
+            for (EntityDetail entity : entities)
+            {
+                if ((entityTypeName == null) || (errorHandler.isInstanceATypeOf(entity, entityTypeName, methodName)))
+                {
+                    results.put(entity.getGUID(), entity);
+                }
+            }
+        }
+        catch (InvalidParameterException | UserNotAuthorizedException error)
+        {
+            errorHandler.handleRepositoryError(error, methodName, "getEntitiesByGUIDs");
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Retrieve each of the requested entities separately, leaving out any entity that can not be retrieved.
+     *
+     * @param userId calling user
+     * @param guids unique identifiers for the entities
+     * @param methodName calling method name
+     * @return list of the entities that could be retrieved
+     */
+    private List<EntityDetail> getReadableEntities(String       userId,
+                                                   List<String> guids,
+                                                   String       methodName)
+    {
+        List<EntityDetail> entities = new ArrayList<>();
+
+        for (String guid : guids)
+        {
+            try
+            {
+                entities.add(metadataCollection.getEntityDetail(userId, guid));
+            }
+            catch (Exception error)
+            {
+                log.debug("Entity " + guid + " is not available to " + userId + " for " + methodName, error);
+            }
+        }
+
+        return entities;
+    }
+
+
     /**
      * Test whether an entity is of a particular type or not.
      *
@@ -2952,6 +3204,49 @@ public class RepositoryHandler
     }
 
 
+    /**
+     * Return the entities whose value for a unique property (such as qualifiedName) exactly matches the
+     * supplied value.  Repositories that index their unique properties can answer this without a search.
+     *
+     * @param userId calling userId
+     * @param propertyName name of the unique property
+     * @param propertyValue exact value to match
+     * @param entityTypeGUID unique identifier of the entity's type
+     * @param methodName calling method
+     *
+     * @return list of returned entities
+     * @throws UserNotAuthorizedException user not authorized to issue this request.
+     * @throws PropertyServerException problem retrieving the entity.
+     */
+    public List<EntityDetail>  getEntitiesByUniquePropertyValue(String userId,
+                                                                String propertyName,
+                                                                String propertyValue,
+                                                                String entityTypeGUID,
+                                                                String methodName) throws UserNotAuthorizedException,
+                                                                                          PropertyServerException
+    {
+        final String localMethodName = "getEntitiesByUniquePropertyValue";
+
+        try
+        {
+            return metadataCollection.findEntitiesByUniquePropertyValue(userId,
+                                                                        entityTypeGUID,
+                                                                        propertyName,
+                                                                        propertyValue);
+        }
+        catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException error)
+        {
+            errorHandler.handleUnauthorizedUser(userId, methodName);
+        }
+        catch (Exception   error)
+        {
+            errorHandler.handleRepositoryError(error, methodName, localMethodName);
+        }
+
+        return null;
+    }
+
+
     /**
      * Return the entities that match all supplied properties.
      *
@@ -3353,6 +3648,79 @@ public class RepositoryHandler
     }
 
 
+    /**
+     * Return a page of entities that match the supplied criteria along with a continuation token for retrieving
+     * the next page.  Passing the token back on the next request avoids counting through the earlier pages again.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param entitySubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the entityTypeGUID to
+     *                           include in the search results. Null means all subtypes.
+     * @param searchProperties Optional list of entity property conditions to match.
+     * @param limitResultsByStatus By default, entities in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param searchClassifications Optional list of entity classifications to match.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param startingFrom the starting element number of the entities to return.  It is only used when
+     *                     continuationToken is null.
+     * @param continuationToken token returned with the previous page of results.  Null means start from startingFrom.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @param methodName calling method
+     * @return a page of entities matching the supplied criteria; the continuation token is null when there are no
+     * more results.  Null means no matching entities in the metadata collection.
+     * @throws UserNotAuthorizedException user not authorized to issue this request.
+     * @throws PropertyServerException problem retrieving the entity.
+     */
+    public EntityDetailPage findEntitiesPage(String                userId,
+                                             String                entityTypeGUID,
+                                             List<String>          entitySubtypeGUIDs,
+                                             SearchProperties      searchProperties,
+                                             List<InstanceStatus>  limitResultsByStatus,
+                                             SearchClassifications searchClassifications,
+                                             Date                  asOfTime,
+                                             String                sequencingProperty,
+                                             SequencingOrder       sequencingOrder,
+                                             int                   startingFrom,
+                                             String                continuationToken,
+                                             int                   pageSize,
+                                             String                methodName) throws UserNotAuthorizedException,
+                                                                                      PropertyServerException
+    {
+        final String localMethodName = "findEntitiesPage";
+
+        try
+        {
+            return metadataCollection.findEntitiesPage(userId,
+                                                       entityTypeGUID,
+                                                       entitySubtypeGUIDs,
+                                                       searchProperties,
+                                                       startingFrom,
+                                                       continuationToken,
+                                                       limitResultsByStatus,
+                                                       searchClassifications,
+                                                       asOfTime,
+                                                       sequencingProperty,
+                                                       sequencingOrder,
+                                                       pageSize);
+        }
+        catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException error)
+        {
+            errorHandler.handleUnauthorizedUser(userId, methodName);
+        }
+        catch (Exception   error)
+        {
+            errorHandler.handleRepositoryError(error, methodName, localMethodName);
+        }
+
+        return null;
+    }
+
+
     /**
      * Return a list of relationships that match the requested conditions.  The results can be received as a series of
      * pages.
@@ -3419,6 +3787,77 @@ public class RepositoryHandler
     }
 
 
+    /**
+     * Return a page of relationships that match the requested conditions along with a continuation token for
+     * retrieving the next page.  Passing the token back on the next request avoids counting through the earlier
+     * pages again.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID String unique identifier for the relationship type of interest (null means any relationship type).
+     * @param relationshipSubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the relationshipTypeGUID to
+     *                           include in the search results. Null means all subtypes.
+     * @param searchProperties Optional list of relationship property conditions to match.
+     * @param limitResultsByStatus By default, relationships in all statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values.
+     * @param asOfTime Requests a historical query of the relationships.  Null means return the present values.
+     * @param sequencingProperty String name of the relationship property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param startingFrom the starting element number of the relationships to return.  It is only used when
+     *                     continuationToken is null.
+     * @param continuationToken token returned with the previous page of results.  Null means start from startingFrom.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @param methodName calling method
+     * @return a page of relationships; the continuation token is null when there are no more results.  Null means
+     * no matching relationships.
+     * @throws UserNotAuthorizedException user not authorized to issue this request.
+     * @throws PropertyServerException problem retrieving the relationships.
+     */
+    public RelationshipPage findRelationshipsPage(String                userId,
+                                                  String                relationshipTypeGUID,
+                                                  List<String>          relationshipSubtypeGUIDs,
+                                                  SearchProperties      searchProperties,
+                                                  List<InstanceStatus>  limitResultsByStatus,
+                                                  Date                  asOfTime,
+                                                  String                sequencingProperty,
+                                                  SequencingOrder       sequencingOrder,
+                                                  int                   startingFrom,
+                                                  String                continuationToken,
+                                                  int                   pageSize,
+                                                  String                methodName) throws UserNotAuthorizedException,
+                                                                                           PropertyServerException
+    {
+        final String localMethodName = "findRelationshipsPage";
+
+        try
+        {
+            return metadataCollection.findRelationshipsPage(userId,
+                                                            relationshipTypeGUID,
+                                                            relationshipSubtypeGUIDs,
+                                                            searchProperties,
+                                                            startingFrom,
+                                                            continuationToken,
+                                                            limitResultsByStatus,
+                                                            asOfTime,
+                                                            sequencingProperty,
+                                                            sequencingOrder,
+                                                            pageSize);
+        }
+        catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException error)
+        {
+            errorHandler.handleUnauthorizedUser(userId, methodName);
+        }
+        catch (Exception   error)
+        {
+            errorHandler.handleRepositoryError(error, methodName, localMethodName);
+        }
+
+        return null;
+    }
+
+
     /**
      * Return the list of relationships of the requested type connected to the starting entity.
      * The list is expected to be small.
@@ -3476,7 +3915,7 @@ public class RepositoryHandler
 
         try
         {
-            return metadataCollection.getRelationship(userId, relationshipGUID);
+            return this.getRelationshipThroughCache(userId, relationshipGUID);
         }
         catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException  error)
         {
@@ -3519,7 +3958,7 @@ public class RepositoryHandler
 
         try
         {
-            return metadataCollection.getRelationship(userId, relationshipGUID);
+            return this.getRelationshipThroughCache(userId, relationshipGUID);
         }
         catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.RelationshipNotKnownException  error)
         {
@@ -3538,6 +3977,42 @@ public class RepositoryHandler
     }
 
 
+    /**
+     * Retrieve a relationship using the request cache if it is active.
+     *
+     * @param userId  user making the request
+     * @param relationshipGUID unique identifier for the relationship
+     * @return retrieved relationship
+     * @throws org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException the guid is null
+     * @throws org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException problem accessing the repositories
+     * @throws org.odpi.openmetadata.repositoryservices.ffdc.exception.RelationshipNotKnownException the relationship is not known
+     * @throws org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException security access problem
+     */
+    private Relationship getRelationshipThroughCache(String userId,
+                                                     String relationshipGUID) throws org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException,
+                                                                                     org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException,
+                                                                                     org.odpi.openmetadata.repositoryservices.ffdc.exception.RelationshipNotKnownException,
+                                                                                     org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException
+    {
+        RepositoryRequestCache cache = requestCache.get();
+
+        if (cache == null)
+        {
+            return metadataCollection.getRelationship(userId, relationshipGUID);
+        }
+
+        Relationship relationship = cache.getRelationship(userId, relationshipGUID);
+
+        if (relationship == null)
+        {
+            relationship = metadataCollection.getRelationship(userId, relationshipGUID);
+            cache.putRelationship(userId, relationship);
+        }
+
+        return relationship;
+    }
+
+
     /**
      * Return the list of relationships of the requested type connected to the starting entity.
      * The list is expected to be small.
@@ -4492,6 +4967,7 @@ public class RepositoryHandler
         {
             try
             {
+                this.relationshipChanged(relationshipGUID);
                 metadataCollection.deleteRelationship(userId,
                                                       relationshipTypeGUID,
                                                       relationshipTypeName,
@@ -4606,6 +5082,7 @@ public class RepositoryHandler
                                             externalSourceName,
                                             methodName);
 
+            this.relationshipChanged(relationship.getGUID());
             metadataCollection.deleteRelationship(userId,
                                                   relationship.getType().getTypeDefGUID(),
                                                   relationship.getType().getTypeDefName(),
@@ -4661,6 +5138,7 @@ public class RepositoryHandler
 
         try
         {
+            this.relationshipChanged(relationshipGUID);
             metadataCollection.purgeRelationship(userId,
                                                  relationshipTypeGUID,
                                                  relationshipTypeName,
@@ -4697,6 +5175,7 @@ public class RepositoryHandler
 
         try
         {
+            this.relationshipChanged(deletedRelationshipGUID);
             metadataCollection.restoreRelationship(userId, deletedRelationshipGUID);
         }
         catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException error)
@@ -4731,6 +5210,7 @@ public class RepositoryHandler
 
         try
         {
+            this.relationshipChanged(deletedRelationshipGUID);
             Relationship relationship = metadataCollection.restoreRelationship(userId, deletedRelationshipGUID);
             if (relationship != null)
             {
@@ -4903,6 +5383,7 @@ public class RepositoryHandler
                                             externalSourceName,
                                             methodName);
 
+            this.relationshipChanged(relationship.getGUID());
             metadataCollection.updateRelationshipProperties(userId,
                                                             relationship.getGUID(),
                                                             relationshipProperties);
@@ -4949,6 +5430,7 @@ public class RepositoryHandler
 
         try
         {
+            this.relationshipChanged(relationshipGUID);
             metadataCollection.updateRelationshipProperties(userId,
                                                             relationshipGUID,
                                                             relationshipProperties);
@@ -5034,6 +5516,7 @@ public class RepositoryHandler
 
         try
         {
+            this.relationshipChanged(relationshipGUID);
             metadataCollection.updateRelationshipStatus(userId, relationshipGUID, instanceStatus);
         }
         catch (org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException  error)
@@ -5083,6 +5566,7 @@ public class RepositoryHandler
                                             externalSourceName,
                                             methodName);
 
+            this.relationshipChanged(relationshipGUID);
             metadataCollection.updateRelationshipStatus(userId, relationshipGUID, instanceStatus);
         }
         catch (UserNotAuthorizedException | PropertyServerException error)
@@ -0,0 +1,309 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * RepositoryRequestCache holds the entities and relationships retrieved by GUID through the RepositoryHandler
+ * during a single request.  It is created by RepositoryHandler.startRequestCache() and is only used by the thread
+ * that created it.  Repeated retrieves of the same instance by the same user are returned from the cache.
+ * Any update to an instance made through the RepositoryHandler removes it from the cache.
+ * <p>
+ * The cache is closed at the end of the request - typically with a try-with-resources block.  Nested calls to
+ * startRequestCache() share the outer cache, which is discarded when the outermost caller closes it.
+ * The hit rate is logged at debug level when the cache is discarded.
+ * </p>
+ * Note this class is not thread-safe.
+ */
+public class RepositoryRequestCache implements AutoCloseable
+{
+    private static final Logger log = LoggerFactory.getLogger(RepositoryRequestCache.class);
+
+    private final ThreadLocal<RepositoryRequestCache> activeCache;
+    private final Map<String, CachedInstance>         cachedEntities      = new HashMap<>();
+    private final Map<String, CachedInstance>         cachedRelationships = new HashMap<>();
+
+    private int  openCount = 1;
+    private long hitCount  = 0;
+    private long missCount = 0;
+
+
+    /**
+     * Create the cache for the calling thread.
+     *
+     * @param activeCache thread local variable in the RepositoryHandler that holds the active cache
+     */
+    RepositoryRequestCache(ThreadLocal<RepositoryRequestCache> activeCache)
+    {
+        this.activeCache = activeCache;
+    }
+
+
+    /**
+     * Record that a nested caller is using this cache.
+     */
+    void reopen()
+    {
+        openCount++;
+    }
+
+
+    /**
+     * Return the cached copy of the entity if it has been retrieved by the same user during this request.
+     *
+     * @param userId calling user
+     * @param guid unique identifier of the entity
+     * @return copy of the entity or null
+     */
+    EntityDetail getEntity(String userId,
+                           String guid)
+    {
+        InstanceHeader entity = this.getInstance(cachedEntities, userId, guid);
+
+        if (entity == null)
+        {
+            return null;
+        }
+
+        return new EntityDetail((EntityDetail) entity);
+    }
+
+
+    /**
+     * Save an entity retrieved from the repository.  An older version never replaces a newer version.
+     *
+     * @param userId calling user
+     * @param entity retrieved entity
+     */
+    void putEntity(String       userId,
+                   EntityDetail entity)
+    {
+        if (entity != null)
+        {
+            this.putInstance(cachedEntities, userId, new EntityDetail(entity));
+        }
+    }
+
+
+    /**
+     * Remove an entity from the cache because it has been changed.
+     *
+     * @param guid unique identifier of the entity
+     */
+    void removeEntity(String guid)
+    {
+        if (guid != null)
+        {
+            cachedEntities.remove(guid);
+        }
+    }
+
+
+    /**
+     * Return the cached copy of the relationship if it has been retrieved by the same user during this request.
+     *
+     * @param userId calling user
+     * @param guid unique identifier of the relationship
+     * @return copy of the relationship or null
+     */
+    Relationship getRelationship(String userId,
+                                 String guid)
+    {
+        InstanceHeader relationship = this.getInstance(cachedRelationships, userId, guid);
+
+        if (relationship == null)
+        {
+            return null;
+        }
+
+        return new Relationship((Relationship) relationship);
+    }
+
+
+    /**
+     * Save a relationship retrieved from the repository.  An older version never replaces a newer version.
+     *
+     * @param userId calling user
+     * @param relationship retrieved relationship
+     */
+    void putRelationship(String       userId,
+                         Relationship relationship)
+    {
+        if (relationship != null)
+        {
+            this.putInstance(cachedRelationships, userId, new Relationship(relationship));
+        }
+    }
+
+
+    /**
+     * Remove a relationship from the cache because it has been changed.
+     *
+     * @param guid unique identifier of the relationship
+     */
+    void removeRelationship(String guid)
+    {
+        if (guid != null)
+        {
+            cachedRelationships.remove(guid);
+        }
+    }
+
+
+    /**
+     * Remove all relationships from the cache.  This is used when an entity is deleted, purged or restored
+     * since the repository also changes its relationships.
+     */
+    void removeAllRelationships()
+    {
+        cachedRelationships.clear();
+    }
+
+
+    /**
+     * Return the number of retrieves satisfied by the cache.
+     *
+     * @return count
+     */
+    public long getHitCount()
+    {
+        return hitCount;
+    }
+
+
+    /**
+     * Return the number of retrieves that needed to call the repository.
+     *
+     * @return count
+     */
+    public long getMissCount()
+    {
+        return missCount;
+    }
+
+
+    /**
+     * Return the proportion of retrieves satisfied by the cache.
+     *
+     * @return value between 0 and 1
+     */
+    public double getHitRate()
+    {
+        long requestCount = hitCount + missCount;
+
+        if (requestCount == 0)
+        {
+            return 0;
+        }
+
+        return (double) hitCount / requestCount;
+    }
+
+
+    /**
+     * Finish with the cache.  It is discarded once the outermost caller closes it.
+     */
+    @Override
+    public void close()
+    {
+        openCount--;
+
+        if (openCount == 0)
+        {
+            if (activeCache.get() == this)
+            {
+                activeCache.remove();
+            }
+
+            if (log.isDebugEnabled())
+            {
+                log.debug("Request cache discarded: hits=" + hitCount + ", misses=" + missCount + ", hit rate=" + getHitRate());
+            }
+
+            cachedEntities.clear();
+            cachedRelationships.clear();
+        }
+    }
+
+
+    /**
+     * Look up an instance and record the hit or miss.
+     *
+     * @param cachedInstances map to look in
+     * @param userId calling user
+     * @param guid unique identifier of the instance
+     * @return instance or null
+     */
+    private InstanceHeader getInstance(Map<String, CachedInstance> cachedInstances,
+                                       String                      userId,
+                                       String                      guid)
+    {
+        CachedInstance cachedInstance = cachedInstances.get(guid);
+
+        if ((cachedInstance != null) && (cachedInstance.userId.equals(userId)))
+        {
+            hitCount++;
+            return cachedInstance.instance;
+        }
+
+        missCount++;
+        return null;
+    }
+
+
+    /**
+     * Save an instance unless a later version is already cached.
+     *
+     * @param cachedInstances map to save in
+     * @param userId calling user
+     * @param instance instance to save
+     */
+    private void putInstance(Map<String, CachedInstance> cachedInstances,
+                             String                      userId,
+                             InstanceHeader              instance)
+    {
+        if ((userId == null) || (instance.getGUID() == null))
+        {
+            return;
+        }
+
+        CachedInstance cachedInstance = cachedInstances.get(instance.getGUID());
+
+        if ((cachedInstance == null) || (cachedInstance.instance.getVersion() <= instance.getVersion()))
+        {
+            cachedInstances.put(instance.getGUID(), new CachedInstance(userId, instance));
+        }
+    }
+
+
+    /**
+     * CachedInstance remembers which user retrieved the instance since the visibility of an instance
+     * depends on the user.
+     */
+    private static class CachedInstance
+    {
+        private final String         userId;
+        private final InstanceHeader instance;
+
+        /**
+         * Create the cache entry.
+         *
+         * @param userId calling user
+         * @param instance retrieved instance
+         */
+        CachedInstance(String         userId,
+                       InstanceHeader instance)
+        {
+            this.userId = userId;
+            this.instance = instance;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.UserNotAuthorizedException;
+
+
+/**
+ * RepositoryUniquePropertyValueIterator is an iterator class for retrieving the entities that have a specific value
+ * for a unique property such as qualifiedName.  Since the property is unique, all of the matching entities
+ * are retrieved with a single call to the repository.
+ *
+ * Note this class is intended for a single request's use - it is not thread-safe.
+ */
+public class RepositoryUniquePropertyValueIterator extends RepositoryIteratorForEntities
+{
+    private String  propertyName;
+    private String  propertyValue;
+    private boolean retrieved = false;
+
+
+    /**
+     * Constructor takes the parameters used to call the repository handler.
+     *
+     * @param repositoryHandler interface to the open metadata repositories.
+     * @param userId  user making the request
+     * @param entityTypeGUID  identifier for the type of entity to retrieve
+     * @param entityTypeName  name for the type of entity to retrieve
+     * @param propertyName name of the unique property
+     * @param propertyValue exact value of the unique property
+     * @param methodName  name of calling method
+     */
+    public RepositoryUniquePropertyValueIterator(RepositoryHandler repositoryHandler,
+                                                 String            userId,
+                                                 String            entityTypeGUID,
+                                                 String            entityTypeName,
+                                                 String            propertyName,
+                                                 String            propertyValue,
+                                                 String            methodName)
+    {
+        super(repositoryHandler, userId, entityTypeGUID, entityTypeName, null, 0, 0, methodName);
+
+        this.propertyName  = propertyName;
+        this.propertyValue = propertyValue;
+    }
+
+
+    /**
+     * Determine if there is more to receive.  The first call retrieves all of the matching entities.
+     *
+     * @return boolean flag
+     * @throws UserNotAuthorizedException the repository is not allowing the user to access the metadata
+     * @throws PropertyServerException there is a problem in the repository
+     */
+    @Override
+    public boolean  moreToReceive() throws UserNotAuthorizedException,
+                                           PropertyServerException
+    {
+        if (! retrieved)
+        {
+            entitiesCache = repositoryHandler.getEntitiesByUniquePropertyValue(userId,
+                                                                               propertyName,
+                                                                               propertyValue,
+                                                                               entityTypeGUID,
+                                                                               methodName);
+            retrieved = true;
+        }
+
+        return (entitiesCache != null) && (! entitiesCache.isEmpty());
+    }
+}
@@ -0,0 +1,170 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollectionBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that RepositoryHandler.getEntitiesByGUIDs returns the entities that can be read when some of the
+ * requested entities can not be, and that it takes entities from the request cache.
+ */
+public class TestRepositoryHandlerGetEntities
+{
+    private static final String userId     = "testUser";
+    private static final String methodName = "testMethod";
+
+    private TestMetadataCollection metadataCollection;
+    private RepositoryHandler      repositoryHandler;
+
+
+    @BeforeMethod
+    public void setup()
+    {
+        metadataCollection = new TestMetadataCollection();
+        repositoryHandler = new RepositoryHandler(null,
+                                                  new RepositoryErrorHandler(null, "TestService", "TestServer", null),
+                                                  metadataCollection,
+                                                  500);
+
+        for (int i = 0; i < 4; i++)
+        {
+            metadataCollection.addEntity("valid-" + i);
+        }
+    }
+
+
+    /**
+     * Validate that a page containing unknown entities returns the known entities rather than failing.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testMixedValidAndInvalidGUIDs() throws Exception
+    {
+        List<String> guids = Arrays.asList("valid-0", "invalid-0", "valid-1", "valid-2", "invalid-1", "valid-0");
+
+        Map<String, EntityDetail> results = repositoryHandler.getEntitiesByGUIDs(userId, guids, null, methodName);
+
+        assertEquals(results.keySet().size(), 3);
+        assertTrue(results.containsKey("valid-0"));
+        assertTrue(results.containsKey("valid-1"));
+        assertTrue(results.containsKey("valid-2"));
+        assertEquals(metadataCollection.multiEntityRequestCount, 1);
+    }
+
+
+    /**
+     * Validate that entities retrieved earlier in the request are taken from the request cache.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testEntitiesTakenFromRequestCache() throws Exception
+    {
+        try (RepositoryRequestCache ignored = repositoryHandler.startRequestCache())
+        {
+            repositoryHandler.getEntitiesByGUIDs(userId, Arrays.asList("valid-0", "valid-1"), null, methodName);
+
+            metadataCollection.retrievedGUIDs.clear();
+
+            Map<String, EntityDetail> results = repositoryHandler.getEntitiesByGUIDs(userId,
+                                                                                     Arrays.asList("valid-0", "valid-1", "valid-3", "invalid-0"),
+                                                                                     null,
+                                                                                     methodName);
+
+            assertEquals(results.keySet().size(), 3);
+            assertEquals(metadataCollection.retrievedGUIDs, Arrays.asList("valid-3", "invalid-0"));
+        }
+    }
+
+
+    /**
+     * Metadata collection that, like a federated repository, fails the multi-entity retrieval when one of the
+     * entities is not known.
+     */
+    private static class TestMetadataCollection extends OMRSMetadataCollectionBase
+    {
+        private final Map<String, EntityDetail> entities                = new HashMap<>();
+        private final List<String>              retrievedGUIDs          = new ArrayList<>();
+        private int                             multiEntityRequestCount = 0;
+
+        TestMetadataCollection()
+        {
+            super(null, "TestRepository", null, null, "testMetadataCollection");
+        }
+
+
+        void addEntity(String guid)
+        {
+            EntityDetail entity = new EntityDetail();
+
+            entity.setGUID(guid);
+            entity.setVersion(1);
+            entities.put(guid, entity);
+        }
+
+
+        @Override
+        public List<EntityDetail> getEntityDetails(String       userId,
+                                                   List<String> guids) throws RepositoryErrorException
+        {
+            final String methodName = "getEntityDetails";
+
+            multiEntityRequestCount++;
+
+            List<EntityDetail> results = new ArrayList<>();
+
+            for (String guid : guids)
+            {
+                retrievedGUIDs.add(guid);
+
+                if (! entities.containsKey(guid))
+                {
+                    throw new RepositoryErrorException(OMRSErrorCode.REPOSITORY_LOGIC_ERROR.getMessageDefinition("TestRepository",
+                                                                                                                 methodName,
+                                                                                                                 guid),
+                                                       this.getClass().getName(),
+                                                       methodName);
+                }
+
+                results.add(entities.get(guid));
+            }
+
+            return results;
+        }
+
+
+        @Override
+        public EntityDetail getEntityDetail(String userId,
+                                            String guid) throws EntityNotKnownException
+        {
+            final String methodName = "getEntityDetail";
+
+            EntityDetail entity = entities.get(guid);
+
+            if (entity == null)
+            {
+                throw new EntityNotKnownException(OMRSErrorCode.ENTITY_NOT_KNOWN.getMessageDefinition(guid, methodName, "TestRepository"),
+                                                  this.getClass().getName(),
+                                                  methodName);
+            }
+
+            return entity;
+        }
+    }
+}
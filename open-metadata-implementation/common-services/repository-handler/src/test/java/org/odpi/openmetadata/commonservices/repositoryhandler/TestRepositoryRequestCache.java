@@ -0,0 +1,93 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.commonservices.repositoryhandler;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+
+/**
+ * Verify that the RepositoryRequestCache returns entities retrieved earlier in the request, respects versions
+ * and users, and is discarded when the outermost caller closes it.
+ */
+public class TestRepositoryRequestCache
+{
+    private static final String guid = "TestGUID";
+
+
+    /**
+     * Create an entity.
+     *
+     * @param version version number
+     * @return entity
+     */
+    private EntityDetail getEntity(long version)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setVersion(version);
+
+        return entity;
+    }
+
+
+    /**
+     * Validate hits, misses, versions and invalidation.
+     */
+    @Test public void testCacheEntities()
+    {
+        ThreadLocal<RepositoryRequestCache> activeCache = new ThreadLocal<>();
+        RepositoryRequestCache              cache       = new RepositoryRequestCache(activeCache);
+
+        activeCache.set(cache);
+
+        assertNull(cache.getEntity("user1", guid));
+
+        EntityDetail entity = getEntity(2);
+        cache.putEntity("user1", entity);
+
+        EntityDetail cachedEntity = cache.getEntity("user1", guid);
+
+        assertNotNull(cachedEntity);
+        assertNotSame(entity, cachedEntity);
+        assertNull(cache.getEntity("user2", guid));
+
+        cache.putEntity("user1", getEntity(1));
+        assertEquals(cache.getEntity("user1", guid).getVersion(), 2);
+
+        cache.removeEntity(guid);
+        assertNull(cache.getEntity("user1", guid));
+
+        assertEquals(cache.getHitCount(), 2);
+        assertEquals(cache.getMissCount(), 3);
+        assertEquals(cache.getHitRate(), 0.4, 0.001);
+
+        cache.close();
+        assertNull(activeCache.get());
+    }
+
+
+    /**
+     * Validate that nested callers share the cache.
+     */
+    @Test public void testNestedCache()
+    {
+        ThreadLocal<RepositoryRequestCache> activeCache = new ThreadLocal<>();
+        RepositoryRequestCache              cache       = new RepositoryRequestCache(activeCache);
+
+        activeCache.set(cache);
+        cache.reopen();
+
+        cache.close();
+        assertSame(activeCache.get(), cache);
+
+        cache.close();
+        assertNull(activeCache.get());
+    }
+}
@@ -186,6 +186,26 @@ public enum GovernanceActionAuditCode implements AuditLogMessageSet
                                                "Its class is {2} rather than a subclass of {3}",
                                        "The governance action request is not run and an error is returned to the caller.  Subsequent calls to this service will fail in the same way",
                                        "Correct the configuration for the Governance Action OMES to only include valid governance action service implementations."),
+
+    WATCHDOG_EVENT_QUEUE_FULL("OMES-GOVERNANCE-ACTION-0032",
+                              OMRSAuditLogRecordSeverity.ERROR,
+                              "The queue of {0} events waiting for watchdog governance action service {1} in governance engine {2} is full.  " +
+                                      "Watchdog event {3} and the events that follow it are discarded for this service",
+                              "The watchdog governance action service is processing events more slowly than they arrive.  Events for this " +
+                                      "service are discarded until half of its queue is free.  The other watchdog governance action services " +
+                                      "are not affected.",
+                              "Review the processing in the watchdog governance action service's listener.  The listener may be blocked, or " +
+                                      "it may be registered for more types of events than it needs.  The service may need to check the state " +
+                                      "of the elements it is watching once events resume, because it has missed some changes."),
+
+    WATCHDOG_EVENTS_RESUMED("OMES-GOVERNANCE-ACTION-0033",
+                            OMRSAuditLogRecordSeverity.INFO,
+                            "Watchdog governance action service {0} in governance engine {1} is receiving events again after {2} events " +
+                                    "were discarded because its queue was full",
+                            "The watchdog governance action service has caught up with the events that were queued for it.  New events " +
+                                    "are passed to it again.",
+                            "The watchdog governance action service has missed the discarded events.  Check the state of the elements " +
+                                    "it is watching if it relies on seeing every change."),
     ;
 
 
@@ -8,20 +8,72 @@ import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
 import org.odpi.openmetadata.frameworks.governanceaction.WatchdogGovernanceListener;
 import org.odpi.openmetadata.frameworks.governanceaction.events.*;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.OpenMetadataElement;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.RelatedMetadataElements;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 
 /**
  * GovernanceListenerManager manages the watchdog listeners through a single registration to the Governance Engine OMAS's
  * out topic.  This approach is used to enable the rapid changing list of watchdog listeners and their listening specification
  * without pushing that churn to the event bus.
+ * <p>
+ * Each registration rebuilds a routing index that maps the event type and element type to the listeners that are
+ * interested in them.  The index is immutable once it is published so incoming events are routed without locking.
+ * Each listener has its own bounded queue of events that is drained by a fixed pool of delivery threads, a batch
+ * of events at a time, so a slow watchdog governance action service does not delay the events for the others.
+ * If a listener's queue fills up, the thread passing in events waits a short time for space in the queue.
+ * If there is still no space, the listener's events are discarded (and this is reported in the audit log) until
+ * half of its queue is free.  This means a blocked listener can only hold back the events for the other
+ * listeners once, for a bounded time.  Events are only validated if a listener is interested in them.
+ * </p>
  */
 public class GovernanceListenerManager
 {
-    private volatile Map<String, WatchdogListener> listenerMap = new HashMap<>();
+    /**
+     * Maximum number of events waiting for a single watchdog listener.
+     */
+    static final int watchdogEventQueueSize = 1000;
+
+    /**
+     * Maximum time (in milliseconds) to wait for space in a listener's queue before its events are discarded.
+     */
+    static final long watchdogEventQueueWait = 1000;
+
+    /**
+     * Number of threads shared by all watchdog listeners to deliver events.
+     */
+    static final int watchdogDeliveryThreadCount = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Maximum number of events delivered to one listener before its thread is released to the other listeners.
+     */
+    static final int watchdogDeliveryBatchSize = 100;
+
+    private static final ExecutorService deliveryThreads = Executors.newFixedThreadPool(watchdogDeliveryThreadCount,
+                                                                                        runnable ->
+                                                                                        {
+                                                                                            Thread thread = new Thread(runnable, "WatchdogEventDelivery");
+                                                                                            thread.setDaemon(true);
+                                                                                            return thread;
+                                                                                        });
+
+    private volatile ListenerRoutingIndex routingIndex = new ListenerRoutingIndex(new HashMap<>());
 
     private InvalidParameterHandler invalidParameterHandler = new InvalidParameterHandler();
 
@@ -42,28 +94,152 @@ public class GovernanceListenerManager
 
 
     /**
-     * Process a watchdog event that was published by the Governance Engine OMAS.
+     * Process a watchdog event that was published by the Governance Engine OMAS.  If any listeners are interested
+     * in the event, it is validated and then queued for each of them.  If the queue of an interested listener is
+     * full, this waits for a bounded time before the event is discarded for that listener.
      *
      * @param event event object - call getEventType to find out what type of event.
-     * @throws InvalidParameterException the event is incomplete
+     * @throws InvalidParameterException the event is incomplete and a listener is interested in it
      */
-    public synchronized void processEvent(WatchdogGovernanceEvent event) throws InvalidParameterException
+    public void processEvent(WatchdogGovernanceEvent event) throws InvalidParameterException
     {
-        if ((listenerMap != null) && (event != null))
+        final String methodName = "processEvent";
+
+        ListenerRoutingIndex currentRoutingIndex = routingIndex;
+
+        if ((event == null) || (currentRoutingIndex.isEmpty()))
         {
-            for (String connectorId : listenerMap.keySet())
+            return;
+        }
+
+        String       elementGUID           = null;
+        String       elementTypeName       = null;
+        List<String> elementSuperTypeNames = null;
+
+        if (event instanceof WatchdogClassificationEvent)
+        {
+            WatchdogClassificationEvent watchdogClassificationEvent = (WatchdogClassificationEvent)event;
+
+            if (watchdogClassificationEvent.getMetadataElement() != null)
+            {
+                elementGUID = watchdogClassificationEvent.getMetadataElement().getElementGUID();
+            }
+
+            if (watchdogClassificationEvent.getChangedClassification() != null)
             {
-                if (connectorId != null)
+                elementTypeName = watchdogClassificationEvent.getChangedClassification().getClassificationName();
+            }
+        }
+        else if (event instanceof WatchdogMetadataElementEvent)
+        {
+            OpenMetadataElement metadataElement = ((WatchdogMetadataElementEvent)event).getMetadataElement();
+
+            if (metadataElement != null)
+            {
+                elementGUID = metadataElement.getElementGUID();
+
+                if (metadataElement.getElementType() != null)
                 {
-                    WatchdogListener watchdogListener = listenerMap.get(connectorId);
+                    elementTypeName = metadataElement.getElementType().getElementTypeName();
+                    elementSuperTypeNames = metadataElement.getElementType().getElementSuperTypeNames();
+                }
+            }
+        }
+        else if (event instanceof WatchdogRelatedElementsEvent)
+        {
+            RelatedMetadataElements relatedMetadataElements = ((WatchdogRelatedElementsEvent)event).getRelatedMetadataElements();
 
-                    if (watchdogListener != null)
-                    {
-                        watchdogListener.processWatchdogEvent(event);
-                    }
+            if (relatedMetadataElements != null)
+            {
+                elementGUID = relatedMetadataElements.getRelationshipGUID();
+
+                if (relatedMetadataElements.getRelationshipType() != null)
+                {
+                    elementTypeName = relatedMetadataElements.getRelationshipType().getElementTypeName();
+                    elementSuperTypeNames = relatedMetadataElements.getRelationshipType().getElementSuperTypeNames();
                 }
             }
         }
+        else
+        {
+            return;
+        }
+
+        /*
+         * An event that no listener is interested in is ignored, even if it is incomplete.  This includes an
+         * event with no event type.
+         */
+        Set<WatchdogListener> interestedListeners = currentRoutingIndex.getInterestedListeners(event.getEventType(),
+                                                                                               elementGUID,
+                                                                                               elementTypeName,
+                                                                                               elementSuperTypeNames);
+
+        if (interestedListeners.isEmpty())
+        {
+            return;
+        }
+
+        this.validateEvent(event, methodName);
+
+        for (WatchdogListener watchdogListener : interestedListeners)
+        {
+            watchdogListener.queueEvent(event);
+        }
+    }
+
+
+    /**
+     * Check that an event that is to be passed to at least one listener is complete.
+     *
+     * @param event event to validate
+     * @param methodName calling method
+     * @throws InvalidParameterException the event is incomplete
+     */
+    private void validateEvent(WatchdogGovernanceEvent event,
+                               String                  methodName) throws InvalidParameterException
+    {
+        if (event instanceof WatchdogClassificationEvent)
+        {
+            final String elementParameterName        = "watchdogClassificationEvent.getMetadataElement()";
+            final String classificationParameterName = "watchdogClassificationEvent.getChangedClassification()";
+            final String elementGUIDParameterName    = "watchdogClassificationEvent.getMetadataElement().getElementGUID()";
+            final String typeNameParameterName       = "watchdogClassificationEvent.getChangedClassification().getClassificationName()";
+
+            WatchdogClassificationEvent watchdogClassificationEvent = (WatchdogClassificationEvent)event;
+
+            invalidParameterHandler.validateObject(watchdogClassificationEvent.getMetadataElement(), elementParameterName, methodName);
+            invalidParameterHandler.validateObject(watchdogClassificationEvent.getChangedClassification(), classificationParameterName, methodName);
+            invalidParameterHandler.validateGUID(watchdogClassificationEvent.getMetadataElement().getElementGUID(), elementGUIDParameterName, methodName);
+            invalidParameterHandler.validateName(watchdogClassificationEvent.getChangedClassification().getClassificationName(), typeNameParameterName, methodName);
+        }
+        else if (event instanceof WatchdogMetadataElementEvent)
+        {
+            final String elementParameterName     = "watchdogMetadataElementEvent.getMetadataElement()";
+            final String elementTypeParameterName = "watchdogMetadataElementEvent.getElementType()";
+            final String elementGUIDParameterName = "watchdogMetadataElementEvent.getMetadataElement().getElementGUID()";
+            final String typeNameParameterName    = "watchdogMetadataElementEvent.getMetadataElement().getElementType().getElementTypeName()";
+
+            WatchdogMetadataElementEvent watchdogMetadataElementEvent = (WatchdogMetadataElementEvent)event;
+
+            invalidParameterHandler.validateObject(watchdogMetadataElementEvent.getMetadataElement(), elementParameterName, methodName);
+            invalidParameterHandler.validateObject(watchdogMetadataElementEvent.getMetadataElement().getElementType(), elementTypeParameterName, methodName);
+            invalidParameterHandler.validateGUID(watchdogMetadataElementEvent.getMetadataElement().getElementGUID(), elementGUIDParameterName, methodName);
+            invalidParameterHandler.validateName(watchdogMetadataElementEvent.getMetadataElement().getElementType().getElementTypeName(), typeNameParameterName, methodName);
+        }
+        else if (event instanceof WatchdogRelatedElementsEvent)
+        {
+            final String relatedElementsParameterName  = "watchdogRelatedElementsEvent.getRelatedMetadataElements()";
+            final String relationshipTypeParameterName = "watchdogRelatedElementsEvent.getRelatedMetadataElements().getRelationshipType()";
+            final String relationshipGUIDParameterName = "watchdogRelatedElementsEvent.getRelatedMetadataElements().getRelationshipGUID()";
+            final String typeNameParameterName         = "watchdogRelatedElementsEvent.getRelatedMetadataElements().getRelationshipType().getElementTypeName()";
+
+            WatchdogRelatedElementsEvent watchdogRelatedElementsEvent = (WatchdogRelatedElementsEvent)event;
+
+            invalidParameterHandler.validateObject(watchdogRelatedElementsEvent.getRelatedMetadataElements(), relatedElementsParameterName, methodName);
+            invalidParameterHandler.validateObject(watchdogRelatedElementsEvent.getRelatedMetadataElements().getRelationshipType(), relationshipTypeParameterName, methodName);
+            invalidParameterHandler.validateGUID(watchdogRelatedElementsEvent.getRelatedMetadataElements().getRelationshipGUID(), relationshipGUIDParameterName, methodName);
+            invalidParameterHandler.validateName(watchdogRelatedElementsEvent.getRelatedMetadataElements().getRelationshipType().getElementTypeName(), typeNameParameterName, methodName);
+        }
     }
 
 
@@ -94,173 +270,366 @@ public class GovernanceListenerManager
                                        List<String>               interestingMetadataTypes,
                                        String                     specificInstance) throws InvalidParameterException
     {
-        WatchdogListener watchdogListener = listenerMap.get(connectorId);
+        Map<String, WatchdogListener> listenerMap      = new HashMap<>(routingIndex.getListenerMap());
+        WatchdogListener              watchdogListener = listenerMap.get(connectorId);
 
         if (watchdogListener == null)
         {
-            watchdogListener = new WatchdogListener();
+            watchdogListener = new WatchdogListener(connectorId);
         }
 
         watchdogListener.setListenerSpec(listener, interestingEventTypes, interestingMetadataTypes, specificInstance);
 
         listenerMap.put(connectorId, watchdogListener);
+
+        routingIndex = new ListenerRoutingIndex(listenerMap);
     }
 
 
     /**
      * Remove the listener for a specific governance service because this service has been disconnected.
+     * Any events still waiting for the listener are discarded.
      *
      * @param connectorId unique id of governance service instance
      */
     public synchronized void removeListener(String connectorId)
     {
-        listenerMap.remove(connectorId);
+        Map<String, WatchdogListener> listenerMap      = new HashMap<>(routingIndex.getListenerMap());
+        WatchdogListener              watchdogListener = listenerMap.remove(connectorId);
+
+        if (watchdogListener != null)
+        {
+            watchdogListener.stop();
+
+            routingIndex = new ListenerRoutingIndex(listenerMap);
+        }
     }
 
 
     /**
-     * Inner class to manage a specific listener
+     * Inner class to hold the routing index for the registered listeners.  It is not changed once it is built.
      */
-    private class WatchdogListener
+    private static class ListenerRoutingIndex
     {
-        private WatchdogGovernanceListener listener                 = null;
-        private List<WatchdogEventType>    interestingEventTypes    = null;
-        private List<String>               interestingMetadataTypes = null;
-        private String                     specificInstance         = null;
+        private final Map<String, WatchdogListener>              listenerMap;
+        private final Map<WatchdogEventType, EventTypeListeners> eventTypeListeners = new EnumMap<>(WatchdogEventType.class);
 
-        WatchdogListener()
+
+        /**
+         * Build the index from the listeners' specifications.
+         *
+         * @param listenerMap map of connector id to listener
+         */
+        ListenerRoutingIndex(Map<String, WatchdogListener> listenerMap)
         {
+            this.listenerMap = Collections.unmodifiableMap(listenerMap);
+
+            for (WatchdogListener watchdogListener : listenerMap.values())
+            {
+                if ((watchdogListener != null) && (watchdogListener.isActive()))
+                {
+                    List<WatchdogEventType> eventTypes = watchdogListener.getInterestingEventTypes();
+
+                    if (eventTypes == null)
+                    {
+                        eventTypes = Arrays.asList(WatchdogEventType.values());
+                    }
+
+                    for (WatchdogEventType eventType : eventTypes)
+                    {
+                        if (eventType != null)
+                        {
+                            eventTypeListeners.computeIfAbsent(eventType, type -> new EventTypeListeners()).add(watchdogListener);
+                        }
+                    }
+                }
+            }
         }
 
 
-        void setListenerSpec(WatchdogGovernanceListener listener,
-                             List<WatchdogEventType>    interestingEventTypes,
-                             List<String>               interestingMetadataType,
-                             String                     specificInstance)
+        /**
+         * Return the listeners by connector id.
+         *
+         * @return map of connector id to listener
+         */
+        Map<String, WatchdogListener> getListenerMap()
         {
-            this.listener = listener;
-            this.interestingEventTypes = interestingEventTypes;
-            this.interestingMetadataTypes = interestingMetadataType;
-            this.specificInstance = specificInstance;
+            return listenerMap;
         }
 
 
         /**
-         * Process a the watchdog event that was published by the Governance Engine OMAS for a specific listener.
+         * Return whether there are any listeners interested in events.
          *
-         * @param event event object - call getEventType to find out what type of event.
-         * @throws InvalidParameterException the event is incomplete
+         * @return boolean
          */
-        void processWatchdogEvent(WatchdogGovernanceEvent event) throws InvalidParameterException
+        boolean isEmpty()
         {
-            final String methodName             = "WatchdogListener.processWatchdogEvent";
-            final String eventParameterName     = "event";
-            final String eventTypeParameterName = "eventType";
+            return eventTypeListeners.isEmpty();
+        }
+
 
-            invalidParameterHandler.validateObject(event, eventParameterName, methodName);
-            invalidParameterHandler.validateEnum(event.getEventType(), eventTypeParameterName, methodName);
+        /**
+         * Return the listeners that are interested in an event.
+         *
+         * @param eventType type of event
+         * @param elementGUID unique identifier of principle metadata element
+         * @param elementTypeName type name of event subject
+         * @param elementSuperTypeNames super type names of event subject (or null)
+         * @return listeners, each one once
+         */
+        Set<WatchdogListener> getInterestedListeners(WatchdogEventType eventType,
+                                                     String            elementGUID,
+                                                     String            elementTypeName,
+                                                     List<String>      elementSuperTypeNames)
+        {
+            Set<WatchdogListener> interestedListeners = new LinkedHashSet<>();
+            EventTypeListeners    listeners           = eventTypeListeners.get(eventType);
 
-            if (listener != null)
+            if (listeners != null)
             {
-                if ((interestingEventTypes == null) || (interestingEventTypes.contains(event.getEventType())))
+                interestedListeners.addAll(listeners.anyElementListeners);
+                this.addListeners(interestedListeners, listeners.instanceListeners, elementGUID);
+                this.addListeners(interestedListeners, listeners.metadataTypeListeners, elementTypeName);
+
+                if (elementSuperTypeNames != null)
                 {
-                    /*
-                     * The event type is of interest, cast the event to its specific type and call the registered listener if
-                     * the event is interesting.
-                     */
-                    if (event instanceof WatchdogClassificationEvent)
+                    for (String typeName : elementSuperTypeNames)
                     {
-                        final String elementParameterName = "watchdogClassificationEvent.getMetadataElement()";
-                        final String classificationParameterName = "watchdogClassificationEvent.getChangedClassification()";
-                        final String elementGUIDParameterName = "watchdogClassificationEvent.getMetadataElement().getElementGUID()";
-                        final String typeNameParameterName    = "watchdogClassificationEvent.getChangedClassification().getClassificationName()";
+                        this.addListeners(interestedListeners, listeners.metadataTypeListeners, typeName);
+                    }
+                }
+            }
 
-                        WatchdogClassificationEvent watchdogClassificationEvent = (WatchdogClassificationEvent)event;
+            return interestedListeners;
+        }
 
-                        invalidParameterHandler.validateObject(watchdogClassificationEvent.getMetadataElement(), elementParameterName, methodName);
-                        invalidParameterHandler.validateObject(watchdogClassificationEvent.getChangedClassification(), classificationParameterName, methodName);
-                        invalidParameterHandler.validateGUID(watchdogClassificationEvent.getMetadataElement().getElementGUID(), elementGUIDParameterName, methodName);
-                        invalidParameterHandler.validateName(watchdogClassificationEvent.getChangedClassification().getClassificationName(), typeNameParameterName, methodName);
 
-                        if (this.elementIsInteresting(watchdogClassificationEvent.getMetadataElement().getElementGUID(),
-                                                      watchdogClassificationEvent.getChangedClassification().getClassificationName(),
-                                                      null))
-                        {
-                            this.callListener(event);
-                        }
-                    }
-                    else if (event instanceof WatchdogMetadataElementEvent)
-                    {
-                        final String elementParameterName     = "watchdogMetadataElementEvent.getMetadataElement()";
-                        final String elementTypeParameterName = "watchdogMetadataElementEvent.getElementType()";
-                        final String elementGUIDParameterName = "watchdogMetadataElementEvent.getMetadataElement().getElementGUID()";
-                        final String typeNameParameterName    = "watchdogMetadataElementEvent.getMetadataElement().getElementType().getElementTypeName()";
+        /**
+         * Add the listeners registered for a key.
+         *
+         * @param interestedListeners accumulating set of listeners
+         * @param listenerIndex map to look up
+         * @param key type name or element guid (may be null)
+         */
+        private void addListeners(Set<WatchdogListener>                 interestedListeners,
+                                  Map<String, List<WatchdogListener>>   listenerIndex,
+                                  String                                key)
+        {
+            if (key != null)
+            {
+                List<WatchdogListener> listeners = listenerIndex.get(key);
 
-                        WatchdogMetadataElementEvent watchdogMetadataElementEvent = (WatchdogMetadataElementEvent)event;
+                if (listeners != null)
+                {
+                    interestedListeners.addAll(listeners);
+                }
+            }
+        }
+    }
 
-                        invalidParameterHandler.validateObject(watchdogMetadataElementEvent.getMetadataElement(), elementParameterName, methodName);
-                        invalidParameterHandler.validateObject(watchdogMetadataElementEvent.getMetadataElement().getElementType(), elementTypeParameterName, methodName);
-                        invalidParameterHandler.validateGUID(watchdogMetadataElementEvent.getMetadataElement().getElementGUID(), elementGUIDParameterName, methodName);
-                        invalidParameterHandler.validateName(watchdogMetadataElementEvent.getMetadataElement().getElementType().getElementTypeName(), typeNameParameterName, methodName);
 
-                        if (this.elementIsInteresting(watchdogMetadataElementEvent.getMetadataElement().getElementGUID(),
-                                                      watchdogMetadataElementEvent.getMetadataElement().getElementType().getElementTypeName(),
-                                                      watchdogMetadataElementEvent.getMetadataElement().getElementType().getElementSuperTypeNames()))
-                        {
-                            this.callListener(event);
-                        }
-                    }
-                    else if (event instanceof WatchdogRelatedElementsEvent)
-                    {
-                        WatchdogRelatedElementsEvent relatedElementsEvent = (WatchdogRelatedElementsEvent)event;
+    /**
+     * Inner class to hold the listeners for a single event type.
+     */
+    private static class EventTypeListeners
+    {
+        private final List<WatchdogListener>              anyElementListeners   = new ArrayList<>();
+        private final Map<String, List<WatchdogListener>> metadataTypeListeners = new HashMap<>();
+        private final Map<String, List<WatchdogListener>> instanceListeners     = new HashMap<>();
 
-                        if (this.elementIsInteresting(relatedElementsEvent.getRelatedMetadataElements().getRelationshipGUID(),
-                                                      relatedElementsEvent.getRelatedMetadataElements().getRelationshipType().getElementTypeName(),
-                                                      relatedElementsEvent.getRelatedMetadataElements().getRelationshipType().getElementSuperTypeNames()))
-                        {
-                            this.callListener(event);
-                        }
+
+        /**
+         * Add a listener under the metadata types and instance it is interested in.
+         *
+         * @param watchdogListener listener
+         */
+        void add(WatchdogListener watchdogListener)
+        {
+            List<String> metadataTypes = watchdogListener.getInterestingMetadataTypes();
+
+            if (metadataTypes == null)
+            {
+                anyElementListeners.add(watchdogListener);
+            }
+            else
+            {
+                for (String typeName : metadataTypes)
+                {
+                    if (typeName != null)
+                    {
+                        metadataTypeListeners.computeIfAbsent(typeName, name -> new ArrayList<>()).add(watchdogListener);
                     }
                 }
             }
+
+            if (watchdogListener.getSpecificInstance() != null)
+            {
+                instanceListeners.computeIfAbsent(watchdogListener.getSpecificInstance(), guid -> new ArrayList<>()).add(watchdogListener);
+            }
+        }
+    }
+
+
+    /**
+     * Inner class to manage a specific listener and the queue of events waiting for it.
+     */
+    private class WatchdogListener
+    {
+        private final String                                 connectorId;
+        private final BlockingQueue<WatchdogGovernanceEvent> eventQueue   = new ArrayBlockingQueue<>(watchdogEventQueueSize);
+        private final AtomicBoolean                          draining     = new AtomicBoolean(false);
+
+        private volatile WatchdogGovernanceListener listener                 = null;
+        private boolean                             discardingEvents         = false;
+        private long                                discardedEventCount      = 0;
+        private List<WatchdogEventType>             interestingEventTypes    = null;
+        private List<String>                        interestingMetadataTypes = null;
+        private String                              specificInstance         = null;
+
+        WatchdogListener(String connectorId)
+        {
+            this.connectorId = connectorId;
+        }
+
+
+        void setListenerSpec(WatchdogGovernanceListener listener,
+                             List<WatchdogEventType>    interestingEventTypes,
+                             List<String>               interestingMetadataType,
+                             String                     specificInstance)
+        {
+            this.listener = listener;
+            this.interestingEventTypes = interestingEventTypes;
+            this.interestingMetadataTypes = interestingMetadataType;
+            this.specificInstance = specificInstance;
+        }
+
+
+        boolean isActive()
+        {
+            return listener != null;
+        }
+
+
+        List<WatchdogEventType> getInterestingEventTypes()
+        {
+            return interestingEventTypes;
+        }
+
+
+        List<String> getInterestingMetadataTypes()
+        {
+            return interestingMetadataTypes;
+        }
+
+
+        String getSpecificInstance()
+        {
+            return specificInstance;
+        }
+
+
+        /**
+         * Stop passing events to the listener and discard any that are waiting.
+         */
+        void stop()
+        {
+            listener = null;
+            eventQueue.clear();
         }
 
 
         /**
-         * Determine if the element(s) passed in the event is interesting to this listener.
+         * Add an event to the listener's queue and make sure it is being drained.  If the queue is full, this
+         * waits for a bounded time for space in the queue.  If there is still no space, the event is discarded
+         * and so are the events that follow it until half of the queue is free.
          *
-         * @param elementGUID unique identifier of principle metadata element
-         * @param elementTypeName type name of event subject
-         * @param elementSuperTypeNames super type names of event subject (or null)
-         * @return boolean flag
+         * @param event event to publish to the watchdog listener
+         */
+        synchronized void queueEvent(WatchdogGovernanceEvent event)
+        {
+            final String actionDescription = "queue watchdog event for listener";
+
+            boolean queued = false;
+
+            if (discardingEvents)
+            {
+                if (eventQueue.size() <= watchdogEventQueueSize / 2)
+                {
+                    auditLog.logMessage(actionDescription,
+                                        GovernanceActionAuditCode.WATCHDOG_EVENTS_RESUMED.getMessageDefinition(connectorId,
+                                                                                                               governanceEngineName,
+                                                                                                               Long.toString(discardedEventCount)));
+                    discardingEvents = false;
+                    discardedEventCount = 0;
+
+                    queued = eventQueue.offer(event);
+                }
+            }
+            else
+            {
+                try
+                {
+                    queued = eventQueue.offer(event) || eventQueue.offer(event, watchdogEventQueueWait, TimeUnit.MILLISECONDS);
+                }
+                catch (InterruptedException error)
+                {
+                    Thread.currentThread().interrupt();
+                }
+
+                if ((! queued) && (listener != null))
+                {
+                    discardingEvents = true;
+
+                    auditLog.logMessage(actionDescription,
+                                        GovernanceActionAuditCode.WATCHDOG_EVENT_QUEUE_FULL.getMessageDefinition(Integer.toString(watchdogEventQueueSize),
+                                                                                                                 connectorId,
+                                                                                                                 governanceEngineName,
+                                                                                                                 event.getEventType().getName()),
+                                        event.toString());
+                }
+            }
+
+            if (! queued)
+            {
+                discardedEventCount++;
+            }
+            else if (draining.compareAndSet(false, true))
+            {
+                deliveryThreads.execute(this::deliverEvents);
+            }
+        }
+
+
+        /**
+         * Pass the queued events to the listener in the order they arrived.  Only one thread drains the queue
+         * at a time.  After a batch of events, the rest of the queue is resubmitted to the pool so that a busy
+         * listener does not hold on to a delivery thread.
          */
-        private boolean elementIsInteresting(String       elementGUID,
-                                             String       elementTypeName,
-                                             List<String> elementSuperTypeNames)
+        private void deliverEvents()
         {
-            if ((specificInstance != null) && (specificInstance.equals(elementGUID)))
+            WatchdogGovernanceEvent event;
+            int                     deliveredEvents = 0;
+
+            while ((deliveredEvents < watchdogDeliveryBatchSize) && ((event = eventQueue.poll()) != null))
             {
-                return true;
+                this.callListener(event);
+                deliveredEvents++;
             }
-            else if ((interestingMetadataTypes == null) || (interestingMetadataTypes.contains(elementTypeName)))
+
+            if (! eventQueue.isEmpty())
             {
-                return true;
+                deliveryThreads.execute(this::deliverEvents);
             }
-            else if ((elementSuperTypeNames != null) && (! elementSuperTypeNames.isEmpty()))
+            else
             {
-                for (String typeName : elementSuperTypeNames)
+                draining.set(false);
+
+                if ((! eventQueue.isEmpty()) && (draining.compareAndSet(false, true)))
                 {
-                    if (typeName != null)
-                    {
-                        if (interestingMetadataTypes.contains(typeName))
-                        {
-                            return true;
-                        }
-                    }
+                    deliveryThreads.execute(this::deliverEvents);
                 }
             }
-
-            return false;
         }
 
 
@@ -271,9 +640,16 @@ public class GovernanceListenerManager
          */
         private void callListener(WatchdogGovernanceEvent event)
         {
+            WatchdogGovernanceListener currentListener = listener;
+
+            if (currentListener == null)
+            {
+                return;
+            }
+
             try
             {
-                listener.processEvent(event);
+                currentListener.processEvent(event);
             }
             catch (Exception error)
             {
@@ -0,0 +1,308 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.engineservices.governanceaction.context;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.connectors.ffdc.InvalidParameterException;
+import org.odpi.openmetadata.frameworks.governanceaction.WatchdogGovernanceListener;
+import org.odpi.openmetadata.frameworks.governanceaction.events.WatchdogEventType;
+import org.odpi.openmetadata.frameworks.governanceaction.events.WatchdogGovernanceEvent;
+import org.odpi.openmetadata.frameworks.governanceaction.events.WatchdogMetadataElementEvent;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.ElementType;
+import org.odpi.openmetadata.frameworks.governanceaction.properties.OpenMetadataElement;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Validate that the GovernanceListenerManager routes watchdog events to the listeners that are interested in them,
+ * delivers them on separate threads, and only waits a bounded time for space when a listener's queue is full.
+ */
+public class TestGovernanceListenerManager
+{
+    /**
+     * Validate that events are routed by event type, metadata type (including super types) and specific instance.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testRouting() throws Exception
+    {
+        GovernanceListenerManager listenerManager  = getListenerManager();
+        RecordingListener         assetListener    = new RecordingListener(null);
+        RecordingListener         instanceListener = new RecordingListener(null);
+        RecordingListener         anyListener      = new RecordingListener(null);
+        RecordingListener         newOnlyListener  = new RecordingListener(null);
+        RecordingListener         glossaryListener = new RecordingListener(null);
+
+        listenerManager.registerListener("asset", assetListener, null, Collections.singletonList("Asset"), null);
+        listenerManager.registerListener("instance", instanceListener, null, Collections.singletonList("NoSuchType"), "guid2");
+        listenerManager.registerListener("any", anyListener, null, null, null);
+        listenerManager.registerListener("newOnly", newOnlyListener, Collections.singletonList(WatchdogEventType.NEW_ELEMENT), null, null);
+        listenerManager.registerListener("glossary", glossaryListener, null, Collections.singletonList("Glossary"), null);
+
+        listenerManager.processEvent(getEvent(WatchdogEventType.NEW_ELEMENT, "guid1", "DataFile", "DataSet", "Asset"));
+        listenerManager.processEvent(getEvent(WatchdogEventType.UPDATED_ELEMENT_PROPERTIES, "guid2", "Process"));
+
+        waitFor(() -> anyListener.receivedEvents.size() == 2);
+        waitFor(() -> newOnlyListener.receivedEvents.size() == 1);
+        waitFor(() -> assetListener.receivedEvents.size() == 1);
+        waitFor(() -> instanceListener.receivedEvents.size() == 1);
+
+        assertEquals(assetListener.receivedEvents, Collections.singletonList("guid1"));
+        assertEquals(instanceListener.receivedEvents, Collections.singletonList("guid2"));
+        assertEquals(newOnlyListener.receivedEvents, Collections.singletonList("guid1"));
+        assertEquals(anyListener.receivedEvents, Arrays.asList("guid1", "guid2"));
+        assertTrue(glossaryListener.receivedEvents.isEmpty());
+
+        listenerManager.removeListener("any");
+        listenerManager.processEvent(getEvent(WatchdogEventType.UPDATED_ELEMENT_PROPERTIES, "guid3", "Asset"));
+
+        waitFor(() -> assetListener.receivedEvents.size() == 2);
+
+        assertEquals(anyListener.receivedEvents.size(), 2);
+    }
+
+
+    /**
+     * Validate that an incomplete event is only rejected if a listener is interested in it.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testValidationOnlyForInterestingEvents() throws Exception
+    {
+        GovernanceListenerManager listenerManager  = getListenerManager();
+        RecordingListener         glossaryListener = new RecordingListener(null);
+
+        listenerManager.registerListener("glossary", glossaryListener, null, Collections.singletonList("Glossary"), null);
+
+        listenerManager.processEvent(getEvent(WatchdogEventType.NEW_ELEMENT, null, "Asset"));
+        listenerManager.processEvent(getEvent(null, "guid1", "Glossary"));
+
+        try
+        {
+            listenerManager.processEvent(getEvent(WatchdogEventType.NEW_ELEMENT, null, "Glossary"));
+            fail();
+        }
+        catch (InvalidParameterException error)
+        {
+            assertTrue(glossaryListener.receivedEvents.isEmpty());
+        }
+    }
+
+
+    /**
+     * Validate that a listener that is still processing an event does not delay the events for another listener.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testSlowListenerDoesNotBlockOthers() throws Exception
+    {
+        GovernanceListenerManager listenerManager = getListenerManager();
+        RecordingListener         slowListener    = new RecordingListener("guid1");
+        RecordingListener         fastListener    = new RecordingListener(null);
+
+        listenerManager.registerListener("slow", slowListener, null, null, null);
+        listenerManager.registerListener("fast", fastListener, null, null, null);
+
+        listenerManager.processEvent(getEvent(WatchdogEventType.NEW_ELEMENT, "guid1", "Asset"));
+        listenerManager.processEvent(getEvent(WatchdogEventType.NEW_ELEMENT, "guid2", "Asset"));
+
+        assertTrue(slowListener.blocked.await(10, TimeUnit.SECONDS));
+        waitFor(() -> fastListener.receivedEvents.size() == 2);
+
+        assertTrue(slowListener.receivedEvents.isEmpty());
+
+        slowListener.release.countDown();
+
+        waitFor(() -> slowListener.receivedEvents.size() == 2);
+
+        assertEquals(slowListener.receivedEvents, Arrays.asList("guid1", "guid2"));
+    }
+
+
+    /**
+     * Validate that a listener with a full queue only holds back the events for the other listeners for a
+     * bounded time, that its overflowing events are discarded, and that it receives events again once it
+     * has caught up.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testFullQueueDoesNotBlockOtherListeners() throws Exception
+    {
+        GovernanceListenerManager listenerManager = getListenerManager();
+        RecordingListener         slowListener    = new RecordingListener("guid0");
+        RecordingListener         fastListener    = new RecordingListener(null);
+        int                       queuedCount     = GovernanceListenerManager.watchdogEventQueueSize + 1;
+        int                       eventCount      = queuedCount + 50;
+
+        listenerManager.registerListener("slow", slowListener, null, null, null);
+        listenerManager.registerListener("fast", fastListener, null, null, null);
+
+        listenerManager.processEvent(getEvent(WatchdogEventType.NEW_ELEMENT, "guid0", "Asset"));
+
+        assertTrue(slowListener.blocked.await(10, TimeUnit.SECONDS));
+
+        Thread sender = startSender(listenerManager, 1, eventCount);
+
+        sender.join(10000);
+
+        assertFalse(sender.isAlive());
+
+        waitFor(() -> fastListener.receivedEvents.size() == eventCount);
+
+        assertTrue(slowListener.receivedEvents.isEmpty());
+
+        slowListener.release.countDown();
+
+        waitFor(() -> slowListener.receivedEvents.size() == queuedCount);
+
+        assertEquals(slowListener.receivedEvents, getGUIDs(0, queuedCount));
+
+        listenerManager.processEvent(getEvent(WatchdogEventType.NEW_ELEMENT, "guidAfter", "Asset"));
+
+        waitFor(() -> slowListener.receivedEvents.size() == queuedCount + 1);
+
+        assertEquals(slowListener.receivedEvents.get(queuedCount), "guidAfter");
+    }
+
+
+    private GovernanceListenerManager getListenerManager()
+    {
+        return new GovernanceListenerManager(new AuditLog(null, 0, "TestGovernanceListenerManager", "Test", null),
+                                             "TestEngine");
+    }
+
+
+    private List<String> getGUIDs(int firstEvent,
+                                  int eventCount)
+    {
+        List<String> guids = new ArrayList<>();
+
+        for (int i = firstEvent; i < eventCount; i++)
+        {
+            guids.add("guid" + i);
+        }
+
+        return guids;
+    }
+
+
+    private Thread startSender(GovernanceListenerManager listenerManager,
+                               int                       firstEvent,
+                               int                       eventCount)
+    {
+        Thread sender = new Thread(() ->
+                                   {
+                                       try
+                                       {
+                                           for (int i = firstEvent; i < eventCount; i++)
+                                           {
+                                               listenerManager.processEvent(getEvent(WatchdogEventType.NEW_ELEMENT, "guid" + i, "Asset"));
+                                           }
+                                       }
+                                       catch (InvalidParameterException error)
+                                       {
+                                           fail();
+                                       }
+                                   });
+
+        sender.start();
+
+        return sender;
+    }
+
+
+    private WatchdogMetadataElementEvent getEvent(WatchdogEventType eventType,
+                                                  String            elementGUID,
+                                                  String            typeName,
+                                                  String...         superTypeNames)
+    {
+        ElementType elementType = new ElementType();
+
+        elementType.setElementTypeName(typeName);
+        elementType.setElementSuperTypeNames(Arrays.asList(superTypeNames));
+
+        OpenMetadataElement metadataElement = new OpenMetadataElement();
+
+        metadataElement.setElementGUID(elementGUID);
+        metadataElement.setElementType(elementType);
+
+        WatchdogMetadataElementEvent event = new WatchdogMetadataElementEvent();
+
+        event.setEventType(eventType);
+        event.setMetadataElement(metadataElement);
+
+        return event;
+    }
+
+
+    private void waitFor(BooleanSupplier condition) throws InterruptedException
+    {
+        long deadline = System.currentTimeMillis() + 10000;
+
+        while ((! condition.getAsBoolean()) && (System.currentTimeMillis() < deadline))
+        {
+            Thread.sleep(10);
+        }
+
+        assertTrue(condition.getAsBoolean());
+    }
+
+
+    /**
+     * Listener that records the guids of the elements in the events it receives.  It can wait to be released
+     * before completing one of them.
+     */
+    private static class RecordingListener extends WatchdogGovernanceListener
+    {
+        private final String         blockingGUID;
+        private final List<String>   receivedEvents = new CopyOnWriteArrayList<>();
+        private final CountDownLatch blocked        = new CountDownLatch(1);
+        private final CountDownLatch release        = new CountDownLatch(1);
+
+        RecordingListener(String blockingGUID)
+        {
+            this.blockingGUID = blockingGUID;
+        }
+
+
+        @Override
+        public void processEvent(WatchdogGovernanceEvent event)
+        {
+            String elementGUID = ((WatchdogMetadataElementEvent)event).getMetadataElement().getElementGUID();
+
+            if (elementGUID.equals(blockingGUID))
+            {
+                blocked.countDown();
+
+                try
+                {
+                    release.await(10, TimeUnit.SECONDS);
+                }
+                catch (InterruptedException error)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            receivedEvents.add(elementGUID);
+        }
+    }
+}
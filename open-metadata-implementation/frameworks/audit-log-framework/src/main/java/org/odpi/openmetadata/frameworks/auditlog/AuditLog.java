@@ -13,6 +13,7 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.text.MessageFormat;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * AuditLog is the superclass of audit log implementations.  It is concrete
@@ -25,7 +26,10 @@ public class AuditLog extends MessageFormatter
     private AuditLogDestination        destination;          /* Initialized in the constructor */
     private AuditLogReportingComponent reportingComponent;   /* Initialized in the constructor */
 
-    protected List<AuditLog>            childAuditLogs         = new ArrayList<>();
+    /*
+     * Child audit logs may be created by services that are starting up in parallel.
+     */
+    protected List<AuditLog>            childAuditLogs         = new CopyOnWriteArrayList<>();
     protected AuditLogActivity          auditLogActivity       = new AuditLogActivity();
 
 
@@ -11,6 +11,10 @@ import org.slf4j.LoggerFactory;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * PagingIterator supports an iterator over a list of objects that extend AssetPropertyBase.
@@ -42,6 +46,10 @@ import java.util.List;
  * the first two would have 10 elements in them and the third will have 5 elements.
  * In the first 2 retrieves, maxCacheSize and cachedElementList.size() are set to 10.
  * In the last one, maxCacheSize==10 and cachedElementList.size()==5.
+ *
+ * The first cache may be supplied up front (for example when it is retrieved along with the parent asset).
+ * When a prefetch executor is set, the next cache is retrieved in the background while the caller is
+ * stepping through the current one.
  */
 public class AssetPagingIterator extends AssetPropertyBase implements Iterator<AssetPropertyBase>
 {
@@ -56,6 +64,10 @@ public class AssetPagingIterator extends AssetPropertyBase implements Iterator<A
 
     protected AssetPropertyIteratorBase iterator = null;
 
+    private transient Executor                                   prefetchExecutor = null;
+    private transient CompletableFuture<List<AssetPropertyBase>> prefetchedList   = null;
+    private transient int                                        prefetchedStart  = -1;
+
     private static final Logger log = LoggerFactory.getLogger(AssetPagingIterator.class);
 
 
@@ -137,6 +149,8 @@ public class AssetPagingIterator extends AssetPropertyBase implements Iterator<A
                 this.maxCacheSize = templateIterator.maxCacheSize;
             }
 
+            this.prefetchExecutor = templateIterator.prefetchExecutor;
+
             if (iterator != null)
             {
                 this.iterator = iterator;
@@ -167,6 +181,33 @@ public class AssetPagingIterator extends AssetPropertyBase implements Iterator<A
     }
 
 
+    /**
+     * Set up the first cache of elements.  This is ignored if the iterator has already been used.
+     *
+     * @param initialCache elements at the start of the list
+     */
+    public void setInitialCache(List<AssetPropertyBase> initialCache)
+    {
+        if ((cachedElementStart == 0) && (initialCache != null) && (! initialCache.isEmpty()))
+        {
+            this.cachedElementList = new ArrayList<>(initialCache);
+            this.cachedElementPointer = 0;
+        }
+    }
+
+
+    /**
+     * Set up the executor used to retrieve the next cache of elements in the background.
+     * Null means the caches are retrieved on demand on the caller's thread.
+     *
+     * @param prefetchExecutor executor for background retrieval
+     */
+    public void setPrefetchExecutor(Executor prefetchExecutor)
+    {
+        this.prefetchExecutor = prefetchExecutor;
+    }
+
+
     /**
      * The iterator can only be used once to step through the elements.  This method returns
      * a boolean to indicate if it has got to the end of the list yet.
@@ -205,7 +246,7 @@ public class AssetPagingIterator extends AssetPropertyBase implements Iterator<A
             {
                 try
                 {
-                    cachedElementList = iterator.getCachedList(cachedElementStart, maxCacheSize);
+                    cachedElementList = this.retrieveCache(cachedElementStart);
                     cachedElementPointer = 0;
                 }
                 catch (PropertyServerException error)
@@ -225,6 +266,8 @@ public class AssetPagingIterator extends AssetPropertyBase implements Iterator<A
             cachedElementPointer++;
             cachedElementStart++;
 
+            this.prefetchNextCache();
+
             log.debug("Returning next element:");
             log.debug("==> totalElementCount: " + totalElementCount);
             log.debug("==> cachedElementPointer: " + cachedElementPointer);
@@ -247,6 +290,79 @@ public class AssetPagingIterator extends AssetPropertyBase implements Iterator<A
     }
 
 
+    /**
+     * Return the cache starting at the requested element.  The prefetched cache is used if it covers the
+     * requested element and was retrieved successfully; otherwise the cache is retrieved on the caller's thread.
+     *
+     * @param cacheStart position of the first element of the cache in the full list
+     * @return list of elements
+     * @throws PropertyServerException there is a problem retrieving elements from the property (metadata) server.
+     */
+    private List<AssetPropertyBase> retrieveCache(int cacheStart) throws PropertyServerException
+    {
+        CompletableFuture<List<AssetPropertyBase>> prefetch = prefetchedList;
+
+        prefetchedList = null;
+
+        if ((prefetch != null) && (prefetchedStart == cacheStart))
+        {
+            try
+            {
+                return prefetch.join();
+            }
+            catch (CompletionException error)
+            {
+                log.debug("Prefetch failed; retrieving cache on demand", error);
+            }
+        }
+
+        return iterator.getCachedList(cacheStart, maxCacheSize);
+    }
+
+
+    /**
+     * Start the retrieval of the cache following the current one if there is a prefetch executor and
+     * more elements to retrieve.  If the executor rejects the work, the cache is retrieved on demand.
+     */
+    private void prefetchNextCache()
+    {
+        if ((prefetchExecutor == null) || (cachedElementList == null))
+        {
+            return;
+        }
+
+        int nextCacheStart = cachedElementStart - cachedElementPointer + cachedElementList.size();
+
+        if ((nextCacheStart < totalElementCount) && (prefetchedList == null))
+        {
+            try
+            {
+                prefetchedList = CompletableFuture.supplyAsync(() ->
+                {
+                    try
+                    {
+                        return iterator.getCachedList(nextCacheStart, maxCacheSize);
+                    }
+                    catch (PropertyServerException error)
+                    {
+                        throw new CompletionException(error);
+                    }
+                }, prefetchExecutor);
+                prefetchedStart = nextCacheStart;
+            }
+            catch (RejectedExecutionException error)
+            {
+                /*
+                 * The prefetch executor is busy - the cache is retrieved on demand instead.
+                 */
+                log.debug("Prefetch rejected; cache will be retrieved on demand", error);
+                prefetchedList = null;
+                prefetchedStart = -1;
+            }
+        }
+    }
+
+
     /**
      * Return the number of elements in the list.
      *
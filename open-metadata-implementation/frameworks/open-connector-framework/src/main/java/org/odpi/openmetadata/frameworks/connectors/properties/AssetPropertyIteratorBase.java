@@ -5,6 +5,7 @@ package org.odpi.openmetadata.frameworks.connectors.properties;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.PropertyServerException;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 
 public abstract class AssetPropertyIteratorBase extends AssetPropertyBase
 {
@@ -66,6 +67,36 @@ public abstract class AssetPropertyIteratorBase extends AssetPropertyBase
     }
 
 
+    /**
+     * Set up the first cache of elements, typically retrieved along with the parent asset, so that the
+     * property server is only called when the caller moves beyond it.
+     *
+     * @param initialCache elements at the start of the list
+     */
+    protected void setInitialCache(List<AssetPropertyBase> initialCache)
+    {
+        if (pagingIterator != null)
+        {
+            pagingIterator.setInitialCache(initialCache);
+        }
+    }
+
+
+    /**
+     * Set up the executor used to retrieve the next cache of elements in the background while the
+     * caller steps through the current one.
+     *
+     * @param prefetchExecutor executor for background retrieval; null to retrieve on demand
+     */
+    protected void setPrefetchExecutor(Executor prefetchExecutor)
+    {
+        if (pagingIterator != null)
+        {
+            pagingIterator.setPrefetchExecutor(prefetchExecutor);
+        }
+    }
+
+
     /**
      * Method implemented by a subclass that ensures the cloning process is a deep clone.
      *
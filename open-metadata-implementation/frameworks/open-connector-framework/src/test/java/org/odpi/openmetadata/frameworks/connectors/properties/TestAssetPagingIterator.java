@@ -5,6 +5,12 @@ package org.odpi.openmetadata.frameworks.connectors.properties;
 import org.odpi.openmetadata.frameworks.connectors.ffdc.OCFRuntimeException;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
 import static org.testng.Assert.assertTrue;
 
 
@@ -214,6 +220,90 @@ public class TestAssetPagingIterator
     }
 
 
+    /**
+     * Test that the iterator uses the initial cache before retrieving more elements.
+     */
+    @Test public void testInitialCacheIterator()
+    {
+        MockAssetPropertyIterator iterator = new MockAssetPropertyIterator(null,
+                                                                           25,
+                                                                           10);
+
+        List<AssetPropertyBase> initialCache = new ArrayList<>();
+        for (int i=0; i < 10; i++)
+        {
+            initialCache.add(new MockAssetProperty(null));
+        }
+
+        iterator.setInitialCache(initialCache);
+
+        int elementCount = 0;
+        while (iterator.hasNext())
+        {
+            assertTrue(iterator.next() != null);
+            elementCount ++;
+        }
+
+        assertTrue(elementCount == 25);
+    }
+
+
+    /**
+     * Test that the iterator works through multiple caches when they are prefetched.
+     */
+    @Test public void testPrefetchIterator()
+    {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try
+        {
+            MockAssetPropertyIterator iterator = new MockAssetPropertyIterator(null,
+                                                                               25,
+                                                                               10);
+
+            iterator.setPrefetchExecutor(executor);
+
+            int elementCount = 0;
+            while (iterator.hasNext())
+            {
+                assertTrue(iterator.next() != null);
+                elementCount ++;
+            }
+
+            assertTrue(elementCount == 25);
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+
+    /**
+     * Test that the iterator retrieves the caches on demand when the prefetch executor rejects the work.
+     */
+    @Test public void testRejectedPrefetchIterator()
+    {
+        MockAssetPropertyIterator iterator = new MockAssetPropertyIterator(null,
+                                                                           25,
+                                                                           10);
+
+        iterator.setPrefetchExecutor(runnable ->
+                                     {
+                                         throw new RejectedExecutionException("busy");
+                                     });
+
+        int elementCount = 0;
+        while (iterator.hasNext())
+        {
+            assertTrue(iterator.next() != null);
+            elementCount ++;
+        }
+
+        assertTrue(elementCount == 25);
+    }
+
+
     /**
      * Validate that the paging iterator handles reading more elements than there is.
      */
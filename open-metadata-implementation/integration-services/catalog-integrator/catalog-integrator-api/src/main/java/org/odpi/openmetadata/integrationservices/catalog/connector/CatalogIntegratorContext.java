@@ -385,6 +385,55 @@ public class CatalogIntegratorContext
     }
 
 
+    /**
+     * Confirm that the values of a batch of metadata elements have been synchronized.  This is the equivalent
+     * of calling confirmSynchronization for each element, but the batch is processed in a single request.
+     * Each element is confirmed separately, so an element that can not be confirmed does not stop the others.
+     *
+     * @param openMetadataElementTypeName type name for the open metadata elements
+     * @param synchronizedElements map of external identifier to the unique identifier (GUID) of the
+     *                             corresponding element in open metadata
+     *
+     * @return map of external identifier to the reason its element could not be confirmed; null if every element
+     *         was confirmed
+     *
+     * @throws InvalidParameterException  one of the parameters is invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    public Map<String, String> confirmSynchronizations(String              openMetadataElementTypeName,
+                                                       Map<String, String> synchronizedElements) throws InvalidParameterException,
+                                                                                                        UserNotAuthorizedException,
+                                                                                                        PropertyServerException
+    {
+        return assetManagerClient.confirmSynchronizations(userId,
+                                                          assetManagerGUID,
+                                                          assetManagerName,
+                                                          openMetadataElementTypeName,
+                                                          synchronizedElements);
+    }
+
+
+    /**
+     * Return the headers for the open metadata elements that are associated with each of a list of
+     * external identifiers.
+     *
+     * @param externalIdentifiers unique identifiers of elements in the external asset manager
+     *
+     * @return map of external identifier to list of element headers; identifiers that are not known are omitted
+     *
+     * @throws InvalidParameterException  one of the parameters is invalid
+     * @throws UserNotAuthorizedException user not authorized to issue this request
+     * @throws PropertyServerException    problem accessing the property server
+     */
+    public Map<String, List<ElementHeader>> getElementsForExternalIdentifiers(List<String> externalIdentifiers) throws InvalidParameterException,
+                                                                                                                     UserNotAuthorizedException,
+                                                                                                                     PropertyServerException
+    {
+        return assetManagerClient.getElementsForExternalIdentifiers(userId, assetManagerGUID, assetManagerName, externalIdentifiers);
+    }
+
+
     /**
      * Return the interface for exchanging collaboration information (comments, likes, reviews, tags).
      *
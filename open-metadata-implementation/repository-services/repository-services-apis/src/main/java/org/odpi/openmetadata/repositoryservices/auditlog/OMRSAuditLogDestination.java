@@ -9,6 +9,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.
 import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecordOriginator;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogReportingComponent;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStore;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStoreConnectorBase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -20,12 +21,26 @@ import java.util.List;
 
 /**
  * OMRSAuditLogDestination provides information needed to log records to the configured audit log destinations
- * for a specific server instance.
+ * for a specific server instance.  Each audit log store is fed from its own bounded queue by a dedicated
+ * writer thread (see OMRSAuditLogStoreWriter) so that logging does not wait for the audit log stores.
+ * The capacity of the queue and the overflow policy are taken from the queueCapacity and overflowPolicy
+ * configuration properties of the audit log store's connection.  When the queue is full, a record that
+ * can not be discarded blocks the caller for up to a second.
  */
 public class OMRSAuditLogDestination extends AuditLogDestination
 {
-    private final OMRSAuditLogRecordOriginator omrsOriginator = new OMRSAuditLogRecordOriginator();
-    private       List<OMRSAuditLogStore>      auditLogStores = null;
+    /**
+     * Default maximum number of log records waiting to be written to each audit log store.
+     */
+    public static final int                        DEFAULT_QUEUE_CAPACITY  = 10000;
+
+    /**
+     * Default behaviour when the queue for an audit log store fills up.
+     */
+    public static final OMRSAuditLogOverflowPolicy DEFAULT_OVERFLOW_POLICY = OMRSAuditLogOverflowPolicy.DROP_LOW_SEVERITY;
+
+    private final OMRSAuditLogRecordOriginator  omrsOriginator   = new OMRSAuditLogRecordOriginator();
+    private       List<OMRSAuditLogStoreWriter> auditLogWriters  = null;
 
     private static final Logger log = LoggerFactory.getLogger(OMRSAuditLogDestination.class);
 
@@ -66,7 +81,36 @@ public class OMRSAuditLogDestination extends AuditLogDestination
 
         if (auditLogStores != null)
         {
-            this.auditLogStores = new ArrayList<>(auditLogStores);
+            this.auditLogWriters = new ArrayList<>();
+
+            for (OMRSAuditLogStore auditLogStore : auditLogStores)
+            {
+                if (auditLogStore != null)
+                {
+                    int                        queueCapacity  = DEFAULT_QUEUE_CAPACITY;
+                    OMRSAuditLogOverflowPolicy overflowPolicy = DEFAULT_OVERFLOW_POLICY;
+
+                    if (auditLogStore instanceof OMRSAuditLogStoreConnectorBase)
+                    {
+                        OMRSAuditLogStoreConnectorBase auditLogStoreConnector = (OMRSAuditLogStoreConnectorBase)auditLogStore;
+
+                        if (auditLogStoreConnector.getQueueCapacity() > 0)
+                        {
+                            queueCapacity = auditLogStoreConnector.getQueueCapacity();
+                        }
+
+                        if (auditLogStoreConnector.getOverflowPolicy() != null)
+                        {
+                            overflowPolicy = auditLogStoreConnector.getOverflowPolicy();
+                        }
+                    }
+
+                    this.auditLogWriters.add(new OMRSAuditLogStoreWriter(auditLogStore,
+                                                                         queueCapacity,
+                                                                         overflowPolicy,
+                                                                         localServerName));
+                }
+            }
         }
     }
 
@@ -114,21 +158,27 @@ public class OMRSAuditLogDestination extends AuditLogDestination
      */
     void addLogRecord(OMRSAuditLogRecord logRecord)
     {
-        if (auditLogStores != null)
+        if (auditLogWriters != null)
         {
-            for (OMRSAuditLogStore auditLogStore : auditLogStores)
+            for (OMRSAuditLogStoreWriter auditLogWriter : auditLogWriters)
             {
-                if (auditLogStore != null)
-                {
-                    try
-                    {
-                        auditLogStore.storeLogRecord(new OMRSAuditLogRecord(logRecord));
-                    }
-                    catch (Throwable error)
-                    {
-                        log.error("Error: " + error + " writing audit log: " + logRecord + " to destination " + auditLogStore.getClass().getName());
-                    }
-                }
+                auditLogWriter.addLogRecord(new OMRSAuditLogRecord(logRecord));
+            }
+        }
+    }
+
+
+    /**
+     * Write out the log records waiting in the queues and stop the writer threads.  Any log record added
+     * after this call is written directly to the audit log stores.
+     */
+    public void disconnect()
+    {
+        if (auditLogWriters != null)
+        {
+            for (OMRSAuditLogStoreWriter auditLogWriter : auditLogWriters)
+            {
+                auditLogWriter.stop();
             }
         }
     }
@@ -143,24 +193,24 @@ public class OMRSAuditLogDestination extends AuditLogDestination
     {
         OMRSAuditLogDestinationsReport report = null;
 
-        if (auditLogStores != null)
+        if (auditLogWriters != null)
         {
             report = new OMRSAuditLogDestinationsReport();
 
             List<OMRSAuditLogStoreReport>  storeReportList = new ArrayList<>();
 
-            for (OMRSAuditLogStore auditLogStore : auditLogStores)
+            for (OMRSAuditLogStoreWriter auditLogWriter : auditLogWriters)
             {
-                if (auditLogStore != null)
-                {
-                    OMRSAuditLogStoreReport auditLogStoreReport = new OMRSAuditLogStoreReport();
+                OMRSAuditLogStore       auditLogStore       = auditLogWriter.getAuditLogStore();
+                OMRSAuditLogStoreReport auditLogStoreReport = new OMRSAuditLogStoreReport();
 
-                    auditLogStoreReport.setDestinationName(auditLogStore.getDestinationName());
-                    auditLogStoreReport.setSupportedSeverities((auditLogStore.getSupportedSeverities()));
-                    auditLogStoreReport.setImplementationClass(auditLogStore.getClass().getName());
+                auditLogStoreReport.setDestinationName(auditLogStore.getDestinationName());
+                auditLogStoreReport.setSupportedSeverities((auditLogStore.getSupportedSeverities()));
+                auditLogStoreReport.setImplementationClass(auditLogStore.getClass().getName());
+                auditLogStoreReport.setQueuedRecordCount(auditLogWriter.getQueuedRecordCount());
+                auditLogStoreReport.setDroppedRecordCount(auditLogWriter.getDroppedRecordCount());
 
-                    storeReportList.add(auditLogStoreReport);
-                }
+                storeReportList.add(auditLogStoreReport);
             }
 
             if (! storeReportList.isEmpty())
@@ -0,0 +1,89 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.auditlog;
+
+/**
+ * OMRSAuditLogOverflowPolicy defines how the OMRSAuditLogDestination behaves when the queue of log records
+ * waiting to be written to an audit log store is filling up.  Records of low severity (information, event,
+ * trace and performance monitoring) may be discarded.  Records of any other severity are never discarded:
+ * when the queue is full the caller waits for space, and if the queue is still full after a second the record
+ * is written to the audit log store on the caller's thread.
+ */
+public enum OMRSAuditLogOverflowPolicy
+{
+    DROP_LOW_SEVERITY   (0, "DropLowSeverity",   "Low severity records are discarded while the queue is full."),
+    SAMPLE_LOW_SEVERITY (1, "SampleLowSeverity", "Once the queue is three-quarters full, only one in every ten low " +
+                                                 "severity records is queued.  Low severity records are discarded while " +
+                                                 "the queue is full.");
+
+    private int    policyCode;
+    private String policyName;
+    private String policyDescription;
+
+
+    /**
+     * Typical constructor sets up the selected enum value.
+     *
+     * @param policyCode numeric of this enum.
+     * @param policyName name of enum.
+     * @param policyDescription default description of enum..
+     */
+    OMRSAuditLogOverflowPolicy(int    policyCode,
+                               String policyName,
+                               String policyDescription)
+    {
+        this.policyCode = policyCode;
+        this.policyName = policyName;
+        this.policyDescription = policyDescription;
+    }
+
+
+    /**
+     * Return the code for this enum.
+     *
+     * @return int numeric for this enum
+     */
+    public int getOrdinal()
+    {
+        return policyCode;
+    }
+
+
+    /**
+     * Return the name of this enum.
+     *
+     * @return String name
+     */
+    public String getName()
+    {
+        return policyName;
+    }
+
+
+    /**
+     * Return the default description of this enum.  This description is in English.
+     *
+     * @return String default description
+     */
+    public String getDescription()
+    {
+        return policyDescription;
+    }
+
+
+    /**
+     * toString() JSON-style
+     *
+     * @return string description
+     */
+    @Override
+    public String toString()
+    {
+        return "OMRSAuditLogOverflowPolicy{" +
+                "policyCode=" + policyCode +
+                ", policyName='" + policyName + '\'' +
+                ", policyDescription='" + policyDescription + '\'' +
+                '}';
+    }
+}
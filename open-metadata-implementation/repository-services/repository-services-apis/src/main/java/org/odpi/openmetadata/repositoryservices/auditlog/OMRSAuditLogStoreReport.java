@@ -28,6 +28,8 @@ public class OMRSAuditLogStoreReport implements Serializable
     private String       destinationName     = null;
     private List<String> supportedSeverities = null;
     private String       implementationClass = null;
+    private int          queuedRecordCount   = 0;
+    private long         droppedRecordCount  = 0;
 
 
     /**
@@ -49,6 +51,9 @@ public class OMRSAuditLogStoreReport implements Serializable
         {
             destinationName = template.getDestinationName();
             supportedSeverities = template.getSupportedSeverities();
+            implementationClass = template.getImplementationClass();
+            queuedRecordCount = template.getQueuedRecordCount();
+            droppedRecordCount = template.getDroppedRecordCount();
         }
     }
 
@@ -128,6 +133,52 @@ public class OMRSAuditLogStoreReport implements Serializable
     }
 
 
+    /**
+     * Return the number of log records waiting to be written to this audit log store.
+     *
+     * @return count
+     */
+    public int getQueuedRecordCount()
+    {
+        return queuedRecordCount;
+    }
+
+
+    /**
+     * Set up the number of log records waiting to be written to this audit log store.
+     *
+     * @param queuedRecordCount count
+     */
+    public void setQueuedRecordCount(int queuedRecordCount)
+    {
+        this.queuedRecordCount = queuedRecordCount;
+    }
+
+
+    /**
+     * Return the number of low severity log records that were discarded because the queue for this
+     * audit log store was filling up.
+     *
+     * @return count
+     */
+    public long getDroppedRecordCount()
+    {
+        return droppedRecordCount;
+    }
+
+
+    /**
+     * Set up the number of low severity log records that were discarded because the queue for this
+     * audit log store was filling up.
+     *
+     * @param droppedRecordCount count
+     */
+    public void setDroppedRecordCount(long droppedRecordCount)
+    {
+        this.droppedRecordCount = droppedRecordCount;
+    }
+
+
     /**
      * Standard toString method.
      *
@@ -140,6 +191,8 @@ public class OMRSAuditLogStoreReport implements Serializable
                 "destinationName='" + destinationName + '\'' +
                 ", supportedSeverities=" + supportedSeverities +
                 ", implementationClass='" + implementationClass + '\'' +
+                ", queuedRecordCount=" + queuedRecordCount +
+                ", droppedRecordCount=" + droppedRecordCount +
                 '}';
     }
 
@@ -162,7 +215,9 @@ public class OMRSAuditLogStoreReport implements Serializable
             return false;
         }
         OMRSAuditLogStoreReport that = (OMRSAuditLogStoreReport) objectToCompare;
-        return Objects.equals(destinationName, that.destinationName) &&
+        return queuedRecordCount == that.queuedRecordCount &&
+                droppedRecordCount == that.droppedRecordCount &&
+                Objects.equals(destinationName, that.destinationName) &&
                 Objects.equals(supportedSeverities, that.supportedSeverities) &&
                 Objects.equals(implementationClass, that.implementationClass);
     }
@@ -176,6 +231,6 @@ public class OMRSAuditLogStoreReport implements Serializable
     @Override
     public int hashCode()
     {
-        return Objects.hash(destinationName, supportedSeverities, implementationClass);
+        return Objects.hash(destinationName, supportedSeverities, implementationClass, queuedRecordCount, droppedRecordCount);
     }
 }
@@ -0,0 +1,253 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.auditlog;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OMRSAuditLogStoreWriter passes log records to a single audit log store.  Records are placed on a bounded queue
+ * that is drained by a dedicated writer thread so that the threads logging the records do not wait for the
+ * audit log store.  The records for the store are written in the order they are queued.
+ * <p>
+ * When the queue fills up, the overflow policy determines which low severity records are discarded.
+ * Other records are never discarded.  The caller waits up to one second for space on the queue so a
+ * store that is briefly behind slows the callers down rather than losing records or writing them out of order.
+ * If the queue is still full after that, the record is written on the caller's thread, which means it
+ * may reach the store ahead of records that are still queued.  Once the writer is stopped, records
+ * are written on the caller's thread.
+ */
+class OMRSAuditLogStoreWriter implements Runnable
+{
+    private static final Logger log = LoggerFactory.getLogger(OMRSAuditLogStoreWriter.class);
+
+    private static final int  SAMPLE_RATE          = 10;
+    private static final long POLL_INTERVAL        = 100;
+    private static final long STOP_TIMEOUT         = 5000;
+
+    /*
+     * Longest time in milliseconds that a caller logging a record that can not be discarded is blocked
+     * waiting for space on a full queue.
+     */
+    private static final long OVERFLOW_WAIT        = 1000;
+
+    private final OMRSAuditLogStore                 auditLogStore;
+    private final OMRSAuditLogOverflowPolicy        overflowPolicy;
+    private final int                               queueCapacity;
+    private final BlockingQueue<OMRSAuditLogRecord> queue;
+    private final Thread                            writerThread;
+
+    private final AtomicLong droppedRecordCount = new AtomicLong(0);
+    private final AtomicLong sampleCounter      = new AtomicLong(0);
+
+    private volatile boolean running = true;
+
+
+    /**
+     * Create the queue for the audit log store and start its writer thread.
+     *
+     * @param auditLogStore audit log store to write to
+     * @param queueCapacity maximum number of records waiting to be written
+     * @param overflowPolicy which records to discard when the queue fills up
+     * @param serverName name of the local server (used to name the writer thread)
+     */
+    OMRSAuditLogStoreWriter(OMRSAuditLogStore          auditLogStore,
+                            int                        queueCapacity,
+                            OMRSAuditLogOverflowPolicy overflowPolicy,
+                            String                     serverName)
+    {
+        this.auditLogStore = auditLogStore;
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        this.writerThread = new Thread(this, "OMRSAuditLogStoreWriter-" + serverName + "-" + auditLogStore.getClass().getSimpleName());
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+
+    /**
+     * Return the audit log store that this writer is writing to.
+     *
+     * @return audit log store
+     */
+    OMRSAuditLogStore getAuditLogStore()
+    {
+        return auditLogStore;
+    }
+
+
+    /**
+     * Return the number of records waiting to be written to the audit log store.
+     *
+     * @return count
+     */
+    int getQueuedRecordCount()
+    {
+        return queue.size();
+    }
+
+
+    /**
+     * Return the number of low severity records that have been discarded because the queue was filling up.
+     *
+     * @return count
+     */
+    long getDroppedRecordCount()
+    {
+        return droppedRecordCount.get();
+    }
+
+
+    /**
+     * Pass a log record to the audit log store.
+     *
+     * @param logRecord log record (already copied for this store)
+     */
+    void addLogRecord(OMRSAuditLogRecord logRecord)
+    {
+        if (! running)
+        {
+            this.storeLogRecord(logRecord);
+            return;
+        }
+
+        boolean lowSeverity = isLowSeverity(logRecord);
+
+        if ((lowSeverity) && (overflowPolicy == OMRSAuditLogOverflowPolicy.SAMPLE_LOW_SEVERITY) &&
+            (queue.size() >= (queueCapacity / 4) * 3) &&
+            (sampleCounter.incrementAndGet() % SAMPLE_RATE != 0))
+        {
+            droppedRecordCount.incrementAndGet();
+            return;
+        }
+
+        if (! queue.offer(logRecord))
+        {
+            if (lowSeverity)
+            {
+                droppedRecordCount.incrementAndGet();
+            }
+            else if (! this.waitForSpace(logRecord))
+            {
+                this.storeLogRecord(logRecord);
+            }
+        }
+    }
+
+
+    /**
+     * Wait for space on the queue for a record that can not be discarded.
+     *
+     * @param logRecord log record
+     * @return boolean flag indicating whether the record was queued
+     */
+    private boolean waitForSpace(OMRSAuditLogRecord logRecord)
+    {
+        try
+        {
+            return queue.offer(logRecord, OVERFLOW_WAIT, TimeUnit.MILLISECONDS);
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+
+    /**
+     * Stop the writer thread once the records in the queue have been written.  Any record that arrives after
+     * the thread has stopped is written directly.
+     */
+    void stop()
+    {
+        running = false;
+
+        try
+        {
+            writerThread.join(STOP_TIMEOUT);
+        }
+        catch (InterruptedException error)
+        {
+            Thread.currentThread().interrupt();
+        }
+
+        OMRSAuditLogRecord logRecord = queue.poll();
+
+        while (logRecord != null)
+        {
+            this.storeLogRecord(logRecord);
+            logRecord = queue.poll();
+        }
+    }
+
+
+    /**
+     * Writer thread - drain the queue into the audit log store.
+     */
+    @Override
+    public void run()
+    {
+        while ((running) || (! queue.isEmpty()))
+        {
+            try
+            {
+                OMRSAuditLogRecord logRecord = queue.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+
+                if (logRecord != null)
+                {
+                    this.storeLogRecord(logRecord);
+                }
+            }
+            catch (InterruptedException error)
+            {
+                return;
+            }
+        }
+    }
+
+
+    /**
+     * Write a log record to the audit log store.  Errors can not be sent to the audit log so they are
+     * logged to the debug log.
+     *
+     * @param logRecord log record
+     */
+    private void storeLogRecord(OMRSAuditLogRecord logRecord)
+    {
+        try
+        {
+            auditLogStore.storeLogRecord(logRecord);
+        }
+        catch (Throwable error)
+        {
+            log.error("Error: " + error + " writing audit log: " + logRecord + " to destination " + auditLogStore.getClass().getName());
+        }
+    }
+
+
+    /**
+     * Records of low severity may be discarded when the queue fills up.
+     *
+     * @param logRecord log record
+     * @return boolean flag
+     */
+    private boolean isLowSeverity(OMRSAuditLogRecord logRecord)
+    {
+        int severityCode = logRecord.getSeverityCode();
+
+        return (severityCode == OMRSAuditLogRecordSeverity.INFO.getOrdinal()) ||
+               (severityCode == OMRSAuditLogRecordSeverity.EVENT.getOrdinal()) ||
+               (severityCode == OMRSAuditLogRecordSeverity.TRACE.getOrdinal()) ||
+               (severityCode == OMRSAuditLogRecordSeverity.PERFMON.getOrdinal());
+    }
+}
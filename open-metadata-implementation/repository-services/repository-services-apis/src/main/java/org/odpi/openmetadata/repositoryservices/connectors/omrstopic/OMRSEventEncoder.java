@@ -0,0 +1,102 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * OMRSEventEncoder converts the JSON form of an OMRS event to and from the compressed form used by the
+ * V1_COMPRESSED event protocol.  The compressed form is the GZIP compressed JSON encoded in Base64 with
+ * a prefix that identifies it.  Base64 is used because the event bus connectors exchange events as strings.
+ * Since a JSON event always begins with an open brace, the prefix means a receiver can accept both forms.
+ * <p>
+ * Only events that are larger than the threshold are compressed.  Small events would gain little and
+ * cost CPU at both ends.
+ * </p>
+ */
+public class OMRSEventEncoder
+{
+    static final String compressedEventPrefix = "OMRS-GZIP:";
+
+    /**
+     * Events with fewer characters than this are sent as JSON.
+     */
+    public static final int defaultCompressionThreshold = 2048;
+
+
+    /**
+     * Return the form of the event to send.
+     *
+     * @param jsonEvent event as JSON
+     * @param compressionThreshold minimum number of characters for an event to be compressed
+     * @return compressed or JSON event
+     * @throws IOException the event could not be compressed
+     */
+    public static String encode(String jsonEvent,
+                                int    compressionThreshold) throws IOException
+    {
+        if ((jsonEvent == null) || (jsonEvent.length() < compressionThreshold))
+        {
+            return jsonEvent;
+        }
+
+        ByteArrayOutputStream compressedBytes = new ByteArrayOutputStream(jsonEvent.length() / 4);
+
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(compressedBytes))
+        {
+            gzipStream.write(jsonEvent.getBytes(StandardCharsets.UTF_8));
+        }
+
+        return compressedEventPrefix + Base64.getEncoder().encodeToString(compressedBytes.toByteArray());
+    }
+
+
+    /**
+     * Return the JSON form of a received event.
+     *
+     * @param receivedEvent event from the event bus
+     * @return JSON event
+     * @throws IOException the event could not be decompressed
+     */
+    public static String decode(String receivedEvent) throws IOException
+    {
+        if (! isCompressed(receivedEvent))
+        {
+            return receivedEvent;
+        }
+
+        byte[] compressedBytes = Base64.getDecoder().decode(receivedEvent.substring(compressedEventPrefix.length()));
+
+        try (GZIPInputStream gzipStream = new GZIPInputStream(new ByteArrayInputStream(compressedBytes)))
+        {
+            ByteArrayOutputStream jsonBytes = new ByteArrayOutputStream(compressedBytes.length * 4);
+            byte[]                buffer    = new byte[8192];
+            int                   count;
+
+            while ((count = gzipStream.read(buffer)) > 0)
+            {
+                jsonBytes.write(buffer, 0, count);
+            }
+
+            return new String(jsonBytes.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+
+    /**
+     * Determine whether an event is in the compressed form.
+     *
+     * @param event event from the event bus
+     * @return boolean
+     */
+    public static boolean isCompressed(String event)
+    {
+        return (event != null) && (event.startsWith(compressedEventPrefix));
+    }
+}
@@ -13,19 +13,34 @@ import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicListener;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
 import org.odpi.openmetadata.repositoryservices.events.OMRSEventProtocolVersion;
 import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
 import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEventType;
 import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
 import org.odpi.openmetadata.repositoryservices.events.beans.OMRSEventBean;
 import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1InstanceSection;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1RegistrySection;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1TypeDefSection;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSLogicErrorException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 
 /**
@@ -53,6 +68,20 @@ import java.util.List;
  *         connectors that implement OpenMetadataTopic.
  *     </li>
  * </ul>
+ * <p>
+ *     Listeners may describe the events they are interested in with an OMRSTopicListenerFilter when they register.
+ *     Incoming events are routed through tables of interested listeners, keyed by event category and
+ *     instance type, that are built the first time an event of that category or type is received.
+ *     The instance type table is rebuilt when a listener registers or a TypeDef event is received, since
+ *     super types may have changed.
+ * </p>
+ * <p>
+ *     Each registration and re-registration event that this connector sends advertises that this server accepts
+ *     compressed events.  The connector records the advertisement of each member of the cohort from their
+ *     registry events.  When the V1_COMPRESSED protocol is configured, large events are only compressed while
+ *     every known member of the cohort has advertised that it accepts them.  The connectors for the topics of a
+ *     cohort share these records since, with dedicated topics, only the registration topic carries registry events.
+ * </p>
  */
 public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
                                                                  VirtualConnectorExtension,
@@ -61,15 +90,29 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 {
     private static final Logger       log      = LoggerFactory.getLogger(OMRSTopicConnector.class);
 
+    /*
+     * The object mapper is thread-safe once configured and is expensive to create, so it is shared.
+     */
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
     private List<Connector> embeddedConnectors = null;
 
-    private List<OMRSTopicListener>          internalTopicListeners = new ArrayList<>();
+    private List<OMRSTopicListenerWrapper>   internalTopicListeners = new CopyOnWriteArrayList<>();
     private List<OpenMetadataTopicConnector> eventBusConnectors     = new ArrayList<>();
 
     private String                    connectionName       = OMRSAuditingComponent.OMRS_TOPIC_CONNECTOR.getComponentName();
     private String                    topicName = "<Unknown>";
     private OMRSEventProtocolVersion  eventProtocolVersion = OMRSEventProtocolVersion.V1;
 
+    private Map<OMRSEventCategory, List<OMRSTopicListenerWrapper>> categoryRoutes     = new ConcurrentHashMap<>();
+    private Map<String, List<OMRSTopicListenerWrapper>>            instanceTypeRoutes = new ConcurrentHashMap<>();
+    private Map<String, List<TypeDefLink>>                         knownSuperTypes    = new ConcurrentHashMap<>();
+
+    /*
+     * Whether each member of the cohort accepts compressed events, keyed by metadata collection id.
+     */
+    private Map<String, Boolean> memberCompressionSupport = new ConcurrentHashMap<>();
+
     protected AuditLog auditLog = null;
 
 
@@ -136,6 +179,7 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
         if (topicListener != null)
         {
             internalTopicListeners.add(new OMRSTopicListenerWrapper(topicListener, auditLog));
+            this.clearRoutes();
         }
         else
         {
@@ -158,12 +202,31 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     @Override
     public void registerListener(OMRSTopicListener topicListener,
                                  String            serviceName)
+    {
+        this.registerListener(topicListener, serviceName, null);
+    }
+
+
+    /**
+     * Register a listener object.  This object will be supplied with the events received on the topic
+     * that match the supplied filter.
+     *
+     * @param topicListener object implementing the OMRSTopicListener interface
+     * @param serviceName name of the service that the listener is from
+     * @param filter description of the events that the listener processes; null means all events
+     */
+    @Override
+    public void registerListener(OMRSTopicListener       topicListener,
+                                 String                  serviceName,
+                                 OMRSTopicListenerFilter filter)
     {
         if (topicListener != null)
         {
             internalTopicListeners.add(new OMRSTopicListenerWrapper(topicListener,
                                                                     serviceName,
+                                                                    filter,
                                                                     auditLog.createNewAuditLog(OMRSAuditingComponent.ENTERPRISE_TOPIC_LISTENER)));
+            this.clearRoutes();
         }
         else
         {
@@ -268,6 +331,78 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     }
 
 
+    /**
+     * Determine whether the configured protocol uses the V1 event beans.
+     *
+     * @return boolean
+     */
+    private boolean isV1EventProtocol()
+    {
+        return (eventProtocolVersion == OMRSEventProtocolVersion.V1) || (eventProtocolVersion == OMRSEventProtocolVersion.V1_COMPRESSED);
+    }
+
+
+    /**
+     * Determine whether large events should be compressed.  This is only the case if the compressed protocol
+     * is configured and every member of the cohort that this connector knows of has advertised that it accepts
+     * compressed events.
+     *
+     * @return boolean
+     */
+    boolean isCompressedEventProtocol()
+    {
+        return (eventProtocolVersion == OMRSEventProtocolVersion.V1_COMPRESSED) &&
+               (! memberCompressionSupport.isEmpty()) &&
+               (! memberCompressionSupport.containsValue(Boolean.FALSE));
+    }
+
+
+    /**
+     * Use the same record of the capabilities of the cohort members as another topic connector for the cohort.
+     * When a cohort uses dedicated topics, registry events only arrive on the registration topic, so the
+     * connectors for the types and instances topics must use the capabilities recorded from those events.
+     * This is called before the connectors are started.
+     *
+     * @param topicConnector connector for a topic of the same cohort that receives its registry events
+     */
+    public void shareMemberCapabilities(OMRSTopicConnector topicConnector)
+    {
+        if (topicConnector != null)
+        {
+            this.memberCompressionSupport = topicConnector.memberCompressionSupport;
+        }
+    }
+
+
+    /**
+     * Record whether the member of the cohort that sent a registry event accepts compressed events.
+     * Members that do not advertise this capability are from earlier releases and only accept JSON events.
+     *
+     * @param event inbound registry event
+     */
+    private void recordMemberCapabilities(OMRSEventV1 event)
+    {
+        OMRSEventV1RegistrySection registrySection = event.getRegistryEventSection();
+
+        if ((registrySection == null) || (event.getOriginator() == null) || (event.getOriginator().getMetadataCollectionId() == null))
+        {
+            return;
+        }
+
+        String metadataCollectionId = event.getOriginator().getMetadataCollectionId();
+
+        if ((registrySection.getRegistryEventType() == OMRSRegistryEventType.REGISTRATION_EVENT) ||
+            (registrySection.getRegistryEventType() == OMRSRegistryEventType.RE_REGISTRATION_EVENT))
+        {
+            memberCompressionSupport.put(metadataCollectionId, registrySection.isCompressedEventsSupported());
+        }
+        else if (registrySection.getRegistryEventType() == OMRSRegistryEventType.UN_REGISTRATION_EVENT)
+        {
+            memberCompressionSupport.remove(metadataCollectionId);
+        }
+    }
+
+
     /**
      * Log that this connector does not support the requested event protocol.
      * This protocol level is requested in the configuration.
@@ -297,9 +432,21 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     {
         final String methodName = "sendRegistryEvent";
 
-        if (eventProtocolVersion == OMRSEventProtocolVersion.V1)
+        /*
+         * Registry events are never compressed since they are small and they are how a new member
+         * joins the cohort.  They advertise that this server accepts compressed events whatever
+         * protocol it sends.
+         */
+        if (this.isV1EventProtocol())
         {
-            this.sendEvent(registryEvent.getOMRSEventV1());
+            OMRSEventV1 event = registryEvent.getOMRSEventV1();
+
+            if (event.getRegistryEventSection() != null)
+            {
+                event.getRegistryEventSection().setCompressedEventsSupported(true);
+            }
+
+            this.sendEvent(event, null, false);
         }
         else
         {
@@ -319,9 +466,9 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     {
         final String methodName = "sendTypeDefEvent";
 
-        if (eventProtocolVersion == OMRSEventProtocolVersion.V1)
+        if (this.isV1EventProtocol())
         {
-            this.sendEvent(typeDefEvent.getOMRSEventV1());
+            this.sendEvent(typeDefEvent.getOMRSEventV1(), null, this.isCompressedEventProtocol());
         }
         else
         {
@@ -342,9 +489,9 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     {
         final String methodName = "sendInstanceEvent";
 
-        if (eventProtocolVersion == OMRSEventProtocolVersion.V1)
+        if (this.isV1EventProtocol())
         {
-            this.sendEvent(instanceEvent.getOMRSEventV1());
+            this.sendEvent(instanceEvent.getOMRSEventV1(), this.getPartitionKey(instanceEvent), this.isCompressedEventProtocol());
         }
         else
         {
@@ -353,13 +500,47 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     }
 
 
+    /**
+     * Return the unique identifier of the instance that an instance event describes.  It is passed to the event
+     * bus connectors so that events for the same instance can be kept in order.
+     *
+     * @param instanceEvent properties of the event to send
+     * @return unique identifier or null
+     */
+    private String getPartitionKey(OMRSInstanceEvent instanceEvent)
+    {
+        if (instanceEvent.getEntity() != null)
+        {
+            return instanceEvent.getEntity().getGUID();
+        }
+        else if (instanceEvent.getRelationship() != null)
+        {
+            return instanceEvent.getRelationship().getGUID();
+        }
+        else if (instanceEvent.getOriginalEntity() != null)
+        {
+            return instanceEvent.getOriginalEntity().getGUID();
+        }
+        else if (instanceEvent.getOriginalRelationship() != null)
+        {
+            return instanceEvent.getOriginalRelationship().getGUID();
+        }
+
+        return instanceEvent.getInstanceGUID();
+    }
+
+
     /**
      * Sends the supplied event outbound to the OMRSTopicListeners using the event bus connectors.
      *
      * @param event OMRSEvent object containing the event properties.
+     * @param partitionKey unique identifier of the instance that the event describes (null for other events)
+     * @param compress should a large event be compressed?
      * @throws ConnectorCheckedException the connector is not able to communicate with the event bus
      */
-    private void sendEvent(OMRSEventV1 event) throws ConnectorCheckedException
+    private void sendEvent(OMRSEventV1 event,
+                           String      partitionKey,
+                           boolean     compress) throws ConnectorCheckedException
     {
         final String methodName = "send";
 
@@ -367,13 +548,21 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
         {
             try
             {
-                ObjectMapper objectMapper = new ObjectMapper();
+                /*
+                 * The event is serialized once for all of the event bus connectors.
+                 */
+                String eventString = objectMapper.writeValueAsString(event);
+
+                if (compress)
+                {
+                    eventString = OMRSEventEncoder.encode(eventString, OMRSEventEncoder.defaultCompressionThreshold);
+                }
 
                 for (OpenMetadataTopicConnector eventBusConnector : eventBusConnectors)
                 {
                     if (eventBusConnector != null)
                     {
-                        eventBusConnector.sendEvent(objectMapper.writeValueAsString(event));
+                        eventBusConnector.sendEvent(eventString, partitionKey);
                     }
                 }
             }
@@ -423,13 +612,12 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
             OMRSEventBean   eventBean = null;
 
             /*
-             * Parse the string (JSON) event into a bean.
+             * Parse the string (JSON) event into a bean.  Compressed events are accepted whatever
+             * protocol this server sends so that cohort members can be upgraded one at a time.
              */
             try
             {
-                ObjectMapper objectMapper = new ObjectMapper();
-
-                eventBean = objectMapper.readValue(event, OMRSEventBean.class);
+                eventBean = objectMapper.readValue(OMRSEventEncoder.decode(event), OMRSEventBean.class);
             }
             catch (Throwable   exception)
             {
@@ -443,12 +631,18 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
 
 
             /*
-             * If the event bean is successfully created then pass it on to the registered listeners.
+             * If the event bean is successfully created then pass it on to the registered listeners
+             * that are interested in it.
              */
             if (eventBean instanceof OMRSEventV1)
             {
+                if (((OMRSEventV1) eventBean).getEventCategory() == OMRSEventCategory.REGISTRY)
+                {
+                    this.recordMemberCapabilities((OMRSEventV1) eventBean);
+                }
+
                 OMRSEventBean finalEventBean = eventBean;
-                internalTopicListeners.parallelStream().forEach((topicListener) ->
+                this.getInterestedListeners((OMRSEventV1) eventBean).parallelStream().forEach((topicListener) ->
                 {
                     try
                     {
@@ -483,6 +677,318 @@ public class OMRSTopicConnector extends ConnectorBase implements OMRSTopic,
     }
 
 
+    /**
+     * Discard the routing tables so they are rebuilt from the current listeners and types.
+     */
+    private void clearRoutes()
+    {
+        categoryRoutes.clear();
+        instanceTypeRoutes.clear();
+    }
+
+
+    /**
+     * Return the listeners that are interested in the supplied event.  Events that can not be routed
+     * (for example because they are from a newer version of the protocol) are passed to all listeners.
+     *
+     * @param event Version 1 of the OMRSEvent that defines the category and payload of the incoming event.
+     * @return list of listeners
+     */
+    private List<OMRSTopicListenerWrapper> getInterestedListeners(OMRSEventV1 event)
+    {
+        OMRSEventCategory eventCategory = event.getEventCategory();
+
+        if (eventCategory == null)
+        {
+            return internalTopicListeners;
+        }
+
+        if (eventCategory == OMRSEventCategory.TYPEDEF)
+        {
+            /*
+             * Changes to types may change the super types of an instance type.
+             */
+            this.removeTypeRoutes(event.getTypeDefEventSection());
+        }
+
+        List<OMRSTopicListenerWrapper> categoryListeners = categoryRoutes.computeIfAbsent(eventCategory, this::getCategoryListeners);
+
+        if (eventCategory != OMRSEventCategory.INSTANCE)
+        {
+            return categoryListeners;
+        }
+
+        OMRSEventV1InstanceSection instanceSection = event.getInstanceEventSection();
+
+        if ((instanceSection == null) || (categoryListeners.isEmpty()))
+        {
+            return categoryListeners;
+        }
+
+        List<OMRSTopicListenerWrapper> typeListeners     = this.getInstanceTypeListeners(instanceSection, categoryListeners);
+        OMRSInstanceEventType          instanceEventType = instanceSection.getEventType();
+        List<OMRSTopicListenerWrapper> interestedListeners = new ArrayList<>(typeListeners.size());
+
+        for (OMRSTopicListenerWrapper topicListener : typeListeners)
+        {
+            OMRSTopicListenerFilter filter = topicListener.getFilter();
+
+            if ((filter == null) || (filter.isInterestedInInstanceEventType(instanceEventType)))
+            {
+                interestedListeners.add(topicListener);
+            }
+        }
+
+        return interestedListeners;
+    }
+
+
+    /**
+     * Build the list of listeners interested in a category of event.
+     *
+     * @param eventCategory category of event
+     * @return list of listeners
+     */
+    private List<OMRSTopicListenerWrapper> getCategoryListeners(OMRSEventCategory eventCategory)
+    {
+        List<OMRSTopicListenerWrapper> categoryListeners = new ArrayList<>();
+
+        for (OMRSTopicListenerWrapper topicListener : internalTopicListeners)
+        {
+            OMRSTopicListenerFilter filter = topicListener.getFilter();
+
+            if ((filter == null) || (filter.isInterestedInCategory(eventCategory)))
+            {
+                categoryListeners.add(topicListener);
+            }
+        }
+
+        return categoryListeners;
+    }
+
+
+    /**
+     * Return the listeners interested in the type of the instance carried by an instance event.
+     * The result is cached by type (and classification) name.  Events such as purge events only carry the
+     * name of the instance's type, so its super types are remembered from the latest event that included the
+     * instance.  Until they are known, these events are passed to every listener interested in instance events
+     * since a listener may be interested in one of the super types.
+     *
+     * @param instanceSection instance section of the event
+     * @param categoryListeners listeners interested in instance events
+     * @return list of listeners
+     */
+    private List<OMRSTopicListenerWrapper> getInstanceTypeListeners(OMRSEventV1InstanceSection     instanceSection,
+                                                                    List<OMRSTopicListenerWrapper> categoryListeners)
+    {
+        InstanceType instanceType = null;
+
+        if (instanceSection.getEntity() != null)
+        {
+            instanceType = instanceSection.getEntity().getType();
+        }
+        else if (instanceSection.getRelationship() != null)
+        {
+            instanceType = instanceSection.getRelationship().getType();
+        }
+
+        String typeDefName = instanceSection.getTypeDefName();
+
+        if ((instanceType != null) && (instanceType.getTypeDefName() != null))
+        {
+            typeDefName = instanceType.getTypeDefName();
+        }
+
+        if (typeDefName == null)
+        {
+            /*
+             * For example a batch event - no single type to route on.
+             */
+            return categoryListeners;
+        }
+
+        Classification classification = instanceSection.getClassification();
+        String         routeKey       = typeDefName;
+
+        if ((classification != null) && (classification.getName() != null))
+        {
+            routeKey = typeDefName + ":" + classification.getName();
+        }
+
+        List<TypeDefLink> superTypes;
+
+        if (instanceType == null)
+        {
+            superTypes = knownSuperTypes.get(typeDefName);
+
+            if (superTypes == null)
+            {
+                return categoryListeners;
+            }
+        }
+        else
+        {
+            superTypes = instanceType.getTypeDefSuperTypes();
+
+            if (superTypes == null)
+            {
+                superTypes = new ArrayList<>();
+            }
+
+            List<TypeDefLink> previousSuperTypes = knownSuperTypes.put(typeDefName, superTypes);
+
+            if ((previousSuperTypes != null) && (! previousSuperTypes.equals(superTypes)))
+            {
+                /*
+                 * The type has changed since its routes were built.
+                 */
+                this.removeInstanceTypeRoutes(Collections.singleton(typeDefName));
+            }
+        }
+
+        final List<TypeDefLink> finalSuperTypes  = superTypes;
+        final String            finalTypeDefName = typeDefName;
+
+        return instanceTypeRoutes.computeIfAbsent(routeKey,
+                                                  key -> this.getTypeListeners(finalTypeDefName,
+                                                                               finalSuperTypes,
+                                                                               classification,
+                                                                               categoryListeners));
+    }
+
+
+    /**
+     * Discard the cached super types and routes of the types changed by a type event and of their known subtypes.
+     * The routes of other types are kept.  If the event does not name a type, all of the cached routes are discarded.
+     *
+     * @param typeDefSection type section of the event
+     */
+    private void removeTypeRoutes(OMRSEventV1TypeDefSection typeDefSection)
+    {
+        Set<String> changedTypeNames = new HashSet<>();
+
+        if (typeDefSection != null)
+        {
+            changedTypeNames.add(typeDefSection.getTypeDefName());
+
+            if (typeDefSection.getTypeDef() != null)
+            {
+                changedTypeNames.add(typeDefSection.getTypeDef().getName());
+            }
+
+            if (typeDefSection.getTypeDefPatch() != null)
+            {
+                changedTypeNames.add(typeDefSection.getTypeDefPatch().getTypeDefName());
+            }
+
+            if (typeDefSection.getOriginalTypeDefSummary() != null)
+            {
+                changedTypeNames.add(typeDefSection.getOriginalTypeDefSummary().getName());
+            }
+
+            changedTypeNames.remove(null);
+
+            if ((changedTypeNames.isEmpty()) && (typeDefSection.getAttributeTypeDef() != null))
+            {
+                /*
+                 * Attribute types do not affect the routing.
+                 */
+                return;
+            }
+        }
+
+        if (changedTypeNames.isEmpty())
+        {
+            instanceTypeRoutes.clear();
+            knownSuperTypes.clear();
+
+            return;
+        }
+
+        Set<String> affectedTypeNames = new HashSet<>(changedTypeNames);
+
+        for (Map.Entry<String, List<TypeDefLink>> knownType : knownSuperTypes.entrySet())
+        {
+            for (TypeDefLink superType : knownType.getValue())
+            {
+                if ((superType != null) && (changedTypeNames.contains(superType.getName())))
+                {
+                    affectedTypeNames.add(knownType.getKey());
+                }
+            }
+        }
+
+        knownSuperTypes.keySet().removeAll(affectedTypeNames);
+        this.removeInstanceTypeRoutes(affectedTypeNames);
+    }
+
+
+    /**
+     * Discard the cached routes for instances of the supplied types, including the routes for their classifications.
+     *
+     * @param typeDefNames names of the instance types
+     */
+    private void removeInstanceTypeRoutes(Set<String> typeDefNames)
+    {
+        instanceTypeRoutes.keySet().removeIf(routeKey ->
+                                             {
+                                                 int separator = routeKey.indexOf(':');
+
+                                                 return typeDefNames.contains((separator < 0) ? routeKey : routeKey.substring(0, separator));
+                                             });
+    }
+
+
+    /**
+     * Build the list of listeners interested in an instance type.
+     *
+     * @param typeDefName name of the instance's type
+     * @param superTypes super types of the instance's type
+     * @param classification classification carried by the event
+     * @param categoryListeners listeners interested in instance events
+     * @return list of listeners
+     */
+    private List<OMRSTopicListenerWrapper> getTypeListeners(String                         typeDefName,
+                                                            List<TypeDefLink>              superTypes,
+                                                            Classification                 classification,
+                                                            List<OMRSTopicListenerWrapper> categoryListeners)
+    {
+        List<String> instanceTypeNames = new ArrayList<>();
+
+        instanceTypeNames.add(typeDefName);
+
+        if (superTypes != null)
+        {
+            for (TypeDefLink superType : superTypes)
+            {
+                if ((superType != null) && (superType.getName() != null))
+                {
+                    instanceTypeNames.add(superType.getName());
+                }
+            }
+        }
+
+        if ((classification != null) && (classification.getName() != null))
+        {
+            instanceTypeNames.add(classification.getName());
+        }
+
+        List<OMRSTopicListenerWrapper> typeListeners = new ArrayList<>();
+
+        for (OMRSTopicListenerWrapper topicListener : categoryListeners)
+        {
+            OMRSTopicListenerFilter filter = topicListener.getFilter();
+
+            if ((filter == null) || (filter.isInterestedInTypes(instanceTypeNames)))
+            {
+                typeListeners.add(topicListener);
+            }
+        }
+
+        return typeListeners;
+    }
+
+
     /**
      * Process the OMRS Event bean.  The processing is careful of nulls and ignores an event
      * that is incorrectly formatted.  The assumption is that the unformatted part of the message
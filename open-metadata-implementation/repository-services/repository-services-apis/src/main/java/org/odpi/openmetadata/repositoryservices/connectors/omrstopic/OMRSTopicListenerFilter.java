@@ -0,0 +1,250 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * OMRSTopicListenerFilter describes the events that an OMRSTopicListener is interested in.  It is supplied
+ * when the listener registers with the OMRSTopicConnector and allows the connector to skip the listener
+ * for events it would ignore, before the event is unpacked for it.
+ * <p>
+ *     There are three levels of filtering.  Each is optional and a null value means no filtering at that level.
+ * </p>
+ * <ul>
+ *     <li>
+ *         The event categories (registry, TypeDef, instance) that the listener processes.
+ *     </li>
+ *     <li>
+ *         The instance event types that the listener processes.
+ *     </li>
+ *     <li>
+ *         The names of the types of the instances that the listener processes.  An instance event matches
+ *         if the instance's type, one of its super types, or the name of the classification carried
+ *         by the event is in this list.
+ *     </li>
+ * </ul>
+ */
+public class OMRSTopicListenerFilter
+{
+    /**
+     * Filter for a listener that only processes instance events, whatever the type of the instance.
+     */
+    public static final OMRSTopicListenerFilter INSTANCE_EVENTS = new OMRSTopicListenerFilter(Collections.singletonList(OMRSEventCategory.INSTANCE));
+
+    private Set<OMRSEventCategory>     eventCategories    = null;
+    private Set<OMRSInstanceEventType> instanceEventTypes = null;
+    private Set<String>                typeDefNames       = null;
+
+
+    /**
+     * Constructor for a filter that only restricts the categories of event.
+     *
+     * @param eventCategories categories of event to pass to the listener; null means all
+     */
+    public OMRSTopicListenerFilter(Collection<OMRSEventCategory> eventCategories)
+    {
+        this(eventCategories, null, null);
+    }
+
+
+    /**
+     * Constructor for a filter of instance events.  Registry and TypeDef events are not passed to the listener.
+     *
+     * @param instanceEventTypes instance event types to pass to the listener; null means all
+     * @param typeDefNames names of the instance types (including super types and classifications) to pass
+     *                     to the listener; null means all
+     */
+    public OMRSTopicListenerFilter(Collection<OMRSInstanceEventType> instanceEventTypes,
+                                   Collection<String>                typeDefNames)
+    {
+        this(Collections.singletonList(OMRSEventCategory.INSTANCE), instanceEventTypes, typeDefNames);
+    }
+
+
+    /**
+     * Constructor supplying all of the levels of filtering.
+     *
+     * @param eventCategories categories of event to pass to the listener; null means all
+     * @param instanceEventTypes instance event types to pass to the listener; null means all
+     * @param typeDefNames names of the instance types (including super types and classifications) to pass
+     *                     to the listener; null means all
+     */
+    public OMRSTopicListenerFilter(Collection<OMRSEventCategory>     eventCategories,
+                                   Collection<OMRSInstanceEventType> instanceEventTypes,
+                                   Collection<String>                typeDefNames)
+    {
+        if (eventCategories != null)
+        {
+            this.eventCategories = eventCategories.isEmpty() ? EnumSet.noneOf(OMRSEventCategory.class) : EnumSet.copyOf(eventCategories);
+        }
+
+        if (instanceEventTypes != null)
+        {
+            this.instanceEventTypes = instanceEventTypes.isEmpty() ? EnumSet.noneOf(OMRSInstanceEventType.class) : EnumSet.copyOf(instanceEventTypes);
+        }
+
+        if (typeDefNames != null)
+        {
+            this.typeDefNames = new HashSet<>(typeDefNames);
+        }
+    }
+
+
+    /**
+     * Return the categories of event that the listener processes.
+     *
+     * @return set of categories or null for all
+     */
+    public Set<OMRSEventCategory> getEventCategories()
+    {
+        if (eventCategories == null)
+        {
+            return null;
+        }
+
+        return Collections.unmodifiableSet(eventCategories);
+    }
+
+
+    /**
+     * Return the instance event types that the listener processes.
+     *
+     * @return set of event types or null for all
+     */
+    public Set<OMRSInstanceEventType> getInstanceEventTypes()
+    {
+        if (instanceEventTypes == null)
+        {
+            return null;
+        }
+
+        return Collections.unmodifiableSet(instanceEventTypes);
+    }
+
+
+    /**
+     * Return the names of the instance types that the listener processes.
+     *
+     * @return set of type names or null for all
+     */
+    public Set<String> getTypeDefNames()
+    {
+        if (typeDefNames == null)
+        {
+            return null;
+        }
+
+        return Collections.unmodifiableSet(typeDefNames);
+    }
+
+
+    /**
+     * Return whether the listener processes events of the requested category.
+     *
+     * @param eventCategory category of the event
+     * @return boolean flag
+     */
+    boolean isInterestedInCategory(OMRSEventCategory eventCategory)
+    {
+        return (eventCategories == null) || (eventCategories.contains(eventCategory));
+    }
+
+
+    /**
+     * Return whether the listener processes instance events of the requested type.
+     *
+     * @param instanceEventType type of the instance event
+     * @return boolean flag
+     */
+    boolean isInterestedInInstanceEventType(OMRSInstanceEventType instanceEventType)
+    {
+        return (instanceEventTypes == null) || (instanceEventTypes.contains(instanceEventType));
+    }
+
+
+    /**
+     * Return whether the listener processes instances described by the supplied type names.
+     *
+     * @param instanceTypeNames name of the instance's type, its super types and any classification in the event;
+     *                          null means the event is not about a single type (for example a batch event)
+     * @return boolean flag
+     */
+    boolean isInterestedInTypes(Collection<String> instanceTypeNames)
+    {
+        if ((typeDefNames == null) || (instanceTypeNames == null))
+        {
+            return true;
+        }
+
+        for (String instanceTypeName : instanceTypeNames)
+        {
+            if (typeDefNames.contains(instanceTypeName))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return print out of variables in a JSON-style
+     */
+    @Override
+    public String toString()
+    {
+        return "OMRSTopicListenerFilter{" +
+                "eventCategories=" + eventCategories +
+                ", instanceEventTypes=" + instanceEventTypes +
+                ", typeDefNames=" + typeDefNames +
+                '}';
+    }
+
+
+    /**
+     * Compare the values of the supplied object with those stored in the current object.
+     *
+     * @param objectToCompare supplied object
+     * @return boolean result of comparison
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (objectToCompare == null || getClass() != objectToCompare.getClass())
+        {
+            return false;
+        }
+        OMRSTopicListenerFilter that = (OMRSTopicListenerFilter) objectToCompare;
+        return Objects.equals(eventCategories, that.eventCategories) &&
+                Objects.equals(instanceEventTypes, that.instanceEventTypes) &&
+                Objects.equals(typeDefNames, that.typeDefNames);
+    }
+
+
+    /**
+     * Return a hash code based on the values of this object.
+     *
+     * @return in hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(eventCategories, instanceEventTypes, typeDefNames);
+    }
+}
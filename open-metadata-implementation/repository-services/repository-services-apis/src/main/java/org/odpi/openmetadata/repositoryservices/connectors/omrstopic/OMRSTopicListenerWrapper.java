@@ -24,6 +24,7 @@ public class OMRSTopicListenerWrapper implements OMRSTopicListener
     private OMRSTopicListener  realListener;
     private AuditLog           auditLog;
     private String             serviceName = "<Unknown Service>";
+    private OMRSTopicListenerFilter filter = null;
 
 
     /**
@@ -43,6 +44,25 @@ public class OMRSTopicListenerWrapper implements OMRSTopicListener
     }
 
 
+    /**
+     * Save the real listener, the description of the events it is interested in and other error handling information.
+     *
+     * @param realListener this is the topic listener that was registered.
+     * @param serviceName this is the name of the service that owns the topic listener.
+     * @param filter the events that the topic listener processes; null means all events.
+     * @param auditLog this is the log destination
+     */
+    OMRSTopicListenerWrapper(OMRSTopicListener       realListener,
+                             String                  serviceName,
+                             OMRSTopicListenerFilter filter,
+                             AuditLog                auditLog)
+    {
+        this(realListener, serviceName, auditLog);
+
+        this.filter = filter;
+    }
+
+
     /**
      * Save the real listener and other error handling information.
      *
@@ -58,6 +78,17 @@ public class OMRSTopicListenerWrapper implements OMRSTopicListener
     }
 
 
+    /**
+     * Return the description of the events that the real listener processes.
+     *
+     * @return filter or null for all events
+     */
+    OMRSTopicListenerFilter getFilter()
+    {
+        return filter;
+    }
+
+
     /**
      * Log an audit log message to record an unexpected exception.  We should never see this message.
      * It indicates a logic error in the service that threw the exception.
@@ -122,10 +122,12 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
 
     /**
      * Pass an event that has been received on the topic to each of the registered listeners.
+     * This is normally called by the listener thread.  Connectors that process events in parallel
+     * may call it from their own threads.
      *
      * @param event OMRSEvent to distribute
      */
-    private void distributeEvent(IncomingEvent event)
+    protected void distributeEvent(IncomingEvent event)
     {
         //Initially clear the async event processing context to ensure that it will only
         //have results from processing this event
@@ -189,6 +191,22 @@ public abstract class OpenMetadataTopicConnector extends ConnectorBase implement
     }
 
 
+    /**
+     * Sends the supplied event to the topic along with a key that identifies the instance that the event describes.
+     * Event bus connectors that divide a topic into partitions can use the key to keep the events for the
+     * same instance in order.  The default implementation ignores the key.
+     *
+     * @param event  object containing the event properties.
+     * @param partitionKey unique identifier of the instance that the event describes (may be null)
+     * @throws ConnectorCheckedException the connector is not able to communicate with the event bus
+     */
+    public void sendEvent(String event,
+                          String partitionKey) throws ConnectorCheckedException
+    {
+        this.sendEvent(event);
+    }
+
+
     /**
      * Register a listener object.  This object will be supplied with all of the events received on the topic.
      *
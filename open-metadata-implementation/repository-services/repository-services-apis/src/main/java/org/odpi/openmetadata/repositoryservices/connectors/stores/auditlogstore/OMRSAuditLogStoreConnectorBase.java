@@ -7,6 +7,7 @@ import org.odpi.openmetadata.frameworks.auditlog.AuditLogRecord;
 import org.odpi.openmetadata.frameworks.connectors.ConnectorBase;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
 import org.odpi.openmetadata.frameworks.connectors.properties.ConnectorTypeProperties;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogOverflowPolicy;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.FunctionNotSupportedException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
@@ -30,8 +31,10 @@ public abstract class OMRSAuditLogStoreConnectorBase extends ConnectorBase imple
 {
     private static final Logger log = LoggerFactory.getLogger(OMRSAuditLogStoreConnectorBase.class);
 
-    private String        destinationName = "<Unknown";
-    private List<String>  supportedSeverities = null;
+    private String                     destinationName = "<Unknown";
+    private List<String>               supportedSeverities = null;
+    private int                        queueCapacity = 0;
+    private OMRSAuditLogOverflowPolicy overflowPolicy = null;
 
 
     /**
@@ -64,6 +67,30 @@ public abstract class OMRSAuditLogStoreConnectorBase extends ConnectorBase imple
     }
 
 
+    /**
+     * Return the maximum number of log records waiting to be written to this destination that this destination
+     * is configured with.
+     *
+     * @return queue capacity or 0 to use the default
+     */
+    public int getQueueCapacity()
+    {
+        return queueCapacity;
+    }
+
+
+    /**
+     * Return the policy for discarding log records when too many are waiting to be written to this destination
+     * that this destination is configured with.
+     *
+     * @return overflow policy or null to use the default
+     */
+    public OMRSAuditLogOverflowPolicy getOverflowPolicy()
+    {
+        return overflowPolicy;
+    }
+
+
     /**
      * Store the audit log record in the audit log store.
      *
@@ -373,6 +400,35 @@ public abstract class OMRSAuditLogStoreConnectorBase extends ConnectorBase imple
                         }
                     }
                 }
+
+                Object queueCapacityProperty = configurationProperties.get(OMRSAuditLogStoreProviderBase.queueCapacityProperty);
+
+                if (queueCapacityProperty != null)
+                {
+                    try
+                    {
+                        queueCapacity = Integer.parseInt(queueCapacityProperty.toString());
+                    }
+                    catch (Exception error)
+                    {
+                        // Ignore - the default queue capacity is used.
+                        log.debug("Ignored exception: {} with message {}", error.getClass().getName(), error.getMessage());
+                    }
+                }
+
+                Object overflowPolicyProperty = configurationProperties.get(OMRSAuditLogStoreProviderBase.overflowPolicyProperty);
+
+                if (overflowPolicyProperty != null)
+                {
+                    for (OMRSAuditLogOverflowPolicy policy : OMRSAuditLogOverflowPolicy.values())
+                    {
+                        if ((policy.getName().equalsIgnoreCase(overflowPolicyProperty.toString())) ||
+                            (policy.name().equalsIgnoreCase(overflowPolicyProperty.toString())))
+                        {
+                            overflowPolicy = policy;
+                        }
+                    }
+                }
             }
         }
     }
@@ -17,6 +17,8 @@ import java.util.List;
 public abstract class OMRSAuditLogStoreProviderBase extends ConnectorProviderBase
 {
     public static final String  supportedSeveritiesProperty = "supportedSeverities";
+    public static final String  queueCapacityProperty       = "queueCapacity";
+    public static final String  overflowPolicyProperty      = "overflowPolicy";
 
     /**
      * Default Constructor
@@ -32,13 +34,19 @@ public abstract class OMRSAuditLogStoreProviderBase extends ConnectorProviderBas
     /**
      * Return the list of recognized configuration properties supported by the base class for the connector.
      *
-     * @return list of Audit log severities that this connector is configured to support (see OMRSAuditLogRecordSeverity).
+     * These are the severities that the connector is configured to support (see OMRSAuditLogRecordSeverity),
+     * the maximum number of log records waiting to be written to the connector and the overflow policy that
+     * determines which log records are discarded when they fill up (see OMRSAuditLogOverflowPolicy).
+     *
+     * @return list of property names
      */
     protected List<String> getRecognizedConfigurationProperties()
     {
         List<String> recognizedConfigurationProperties = new ArrayList<>();
 
         recognizedConfigurationProperties.add(supportedSeveritiesProperty);
+        recognizedConfigurationProperties.add(queueCapacityProperty);
+        recognizedConfigurationProperties.add(overflowPolicyProperty);
 
         return recognizedConfigurationProperties;
     }
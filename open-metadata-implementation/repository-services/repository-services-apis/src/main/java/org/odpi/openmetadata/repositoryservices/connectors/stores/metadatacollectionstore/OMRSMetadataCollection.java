@@ -9,6 +9,8 @@ import java.util.concurrent.Future;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.frameworks.auditlog.AuditLoggingComponent;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.HistorySequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.EntityDetailPage;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.RelationshipPage;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
@@ -841,6 +843,44 @@ public abstract class OMRSMetadataCollection implements AuditLoggingComponent
                                                                              UserNotAuthorizedException;
 
 
+    /**
+     * Return the header and classifications for each of the requested entities.  The returned entity summaries may be
+     * from full entity objects or entity proxies.  Entities that are not known, or that the user is not permitted to
+     * retrieve, are omitted from the results.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of EntitySummary structures in the order requested; null means none of the entities are known
+     * @throws InvalidParameterException one of the guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public abstract List<EntitySummary> getEntitySummaries(String       userId,
+                                                           List<String> guids) throws InvalidParameterException,
+                                                                                      RepositoryErrorException,
+                                                                                      UserNotAuthorizedException;
+
+
+    /**
+     * Return the header, classifications and properties of each of the requested entities.  Entities that are not
+     * known, are only proxies, or that the user is not permitted to retrieve, are omitted from the results.
+     * This allows a caller to retrieve many entities in one request rather than calling getEntityDetail for each one.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of EntityDetail structures in the order requested; null means none of the entities are known
+     * @throws InvalidParameterException one of the guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public abstract List<EntityDetail> getEntityDetails(String       userId,
+                                                        List<String> guids) throws InvalidParameterException,
+                                                                                   RepositoryErrorException,
+                                                                                   UserNotAuthorizedException;
+
+
     /**
      * Return all historical versions of an entity within the bounds of the provided timestamps. To retrieve all historical
      * versions of an entity, set both the 'fromTime' and 'toTime' to null.
@@ -979,6 +1019,66 @@ public abstract class OMRSMetadataCollection implements AuditLoggingComponent
                                                                                                 UserNotAuthorizedException;
 
 
+    /**
+     * Return a page of entities that match the supplied criteria along with a continuation token for retrieving
+     * the next page.  The token records the sequencing key and unique identifier of the last entity returned so
+     * the next page begins directly after it, rather than counting the earlier pages again.  The results are
+     * always returned in a stable order: entities with equal sequencing keys are ordered by their unique
+     * identifier, and the unique identifier is used as the sequencing key if sequencingOrder is null or ANY.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param entitySubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the entityTypeGUID to
+     *                           include in the search results. Null means all subtypes.
+     * @param matchProperties Optional list of entity property conditions to match.
+     * @param fromEntityElement the starting element number of the entities to return.  It is only used when
+     *                          continuationToken is null.  Zero means start from the first element.
+     * @param continuationToken token returned with the previous page of results.  Null means start from
+     *                          fromEntityElement.  The other search parameters must be the same as on the request
+     *                          that returned the token.
+     * @param limitResultsByStatus By default, entities in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param matchClassifications Optional list of entity classifications to match.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return a page of entities matching the supplied criteria; the continuation token is null when there are no
+     * more results.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the paging/sequencing parameters or the continuation token are not valid.
+     * @throws FunctionNotSupportedException the repository does not support this optional method.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public  abstract EntityDetailPage findEntitiesPage(String                    userId,
+                                                       String                    entityTypeGUID,
+                                                       List<String>              entitySubtypeGUIDs,
+                                                       SearchProperties          matchProperties,
+                                                       int                       fromEntityElement,
+                                                       String                    continuationToken,
+                                                       List<InstanceStatus>      limitResultsByStatus,
+                                                       SearchClassifications     matchClassifications,
+                                                       Date                      asOfTime,
+                                                       String                    sequencingProperty,
+                                                       SequencingOrder           sequencingOrder,
+                                                       int                       pageSize) throws InvalidParameterException,
+                                                                                                  RepositoryErrorException,
+                                                                                                  TypeErrorException,
+                                                                                                  PropertyErrorException,
+                                                                                                  PagingErrorException,
+                                                                                                  FunctionNotSupportedException,
+                                                                                                  UserNotAuthorizedException;
+
+
     /**
      * Return a list of entities that match the supplied properties according to the match criteria.  The results
      * can be returned over many pages.
@@ -1034,6 +1134,38 @@ public abstract class OMRSMetadataCollection implements AuditLoggingComponent
                                                                                                           UserNotAuthorizedException;
 
 
+    /**
+     * Return the entities whose value for a unique string property (such as qualifiedName) is exactly the
+     * supplied value.  This is used to check uniqueness before an entity is created.  Unlike findEntitiesByProperty,
+     * the value is a literal value rather than a regular expression, which allows repositories that index
+     * unique properties to answer the request without scanning their entities.  DELETED entities are not returned.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param propertyName name of the unique property.
+     * @param propertyValue exact value of the property.
+     * @return a list of entities matching the supplied value; null means no matching entities in the metadata
+     * collection.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the property is not valid for the requested type of entity.
+     * @throws FunctionNotSupportedException the repository does not support this call.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public  abstract List<EntityDetail> findEntitiesByUniquePropertyValue(String userId,
+                                                                          String entityTypeGUID,
+                                                                          String propertyName,
+                                                                          String propertyValue) throws InvalidParameterException,
+                                                                                                       RepositoryErrorException,
+                                                                                                       TypeErrorException,
+                                                                                                       PropertyErrorException,
+                                                                                                       FunctionNotSupportedException,
+                                                                                                       UserNotAuthorizedException;
+
+
     /**
      * Return a list of entities that have the requested type of classifications attached.
      *
@@ -1208,6 +1340,24 @@ public abstract class OMRSMetadataCollection implements AuditLoggingComponent
                                                                             UserNotAuthorizedException;
 
 
+    /**
+     * Return each of the requested relationships.  Relationships that are not known, or that the user is not
+     * permitted to retrieve, are omitted from the results.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the relationships.
+     * @return list of relationships in the order requested; null means none of the relationships are known
+     * @throws InvalidParameterException one of the guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public abstract List<Relationship> getRelationships(String       userId,
+                                                        List<String> guids) throws InvalidParameterException,
+                                                                                   RepositoryErrorException,
+                                                                                   UserNotAuthorizedException;
+
+
     /**
      * Return all historical versions of a relationship within the bounds of the provided timestamps. To retrieve all
      * historical versions of a relationship, set both the 'fromTime' and 'toTime' to null.
@@ -1297,6 +1447,66 @@ public abstract class OMRSMetadataCollection implements AuditLoggingComponent
                                                                                                      UserNotAuthorizedException;
 
 
+    /**
+     * Return a page of relationships that match the requested conditions along with a continuation token for
+     * retrieving the next page.  The token records the sequencing key and unique identifier of the last
+     * relationship returned so the next page begins directly after it, rather than counting the earlier pages
+     * again.  The results are always returned in a stable order: relationships with equal sequencing keys are
+     * ordered by their unique identifier, and the unique identifier is used as the sequencing key if
+     * sequencingOrder is null or ANY.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID unique identifier (guid) for the relationship's type.  Null means all types
+     *                             (but may be slow so not recommended).
+     * @param relationshipSubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the
+     *                                 relationshipTypeGUID to include in the search results. Null means all subtypes.
+     * @param matchProperties Optional list of relationship property conditions to match.
+     * @param fromRelationshipElement the starting element number of the relationships to return.  It is only used
+     *                                when continuationToken is null.  Zero means start from the first element.
+     * @param continuationToken token returned with the previous page of results.  Null means start from
+     *                          fromRelationshipElement.  The other search parameters must be the same as on the
+     *                          request that returned the token.
+     * @param limitResultsByStatus By default, relationships in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return a page of relationships; the continuation token is null when there are no more results.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  relationships.
+     * @throws PagingErrorException the paging/sequencing parameters or the continuation token are not valid.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    public  abstract RelationshipPage findRelationshipsPage(String                    userId,
+                                                            String                    relationshipTypeGUID,
+                                                            List<String>              relationshipSubtypeGUIDs,
+                                                            SearchProperties          matchProperties,
+                                                            int                       fromRelationshipElement,
+                                                            String                    continuationToken,
+                                                            List<InstanceStatus>      limitResultsByStatus,
+                                                            Date                      asOfTime,
+                                                            String                    sequencingProperty,
+                                                            SequencingOrder           sequencingOrder,
+                                                            int                       pageSize) throws InvalidParameterException,
+                                                                                                       TypeErrorException,
+                                                                                                       RepositoryErrorException,
+                                                                                                       PropertyErrorException,
+                                                                                                       PagingErrorException,
+                                                                                                       FunctionNotSupportedException,
+                                                                                                       UserNotAuthorizedException;
+
+
     /**
      * Return a list of relationships that match the requested properties by the matching criteria.   The results
      * can be received as a series of pages.
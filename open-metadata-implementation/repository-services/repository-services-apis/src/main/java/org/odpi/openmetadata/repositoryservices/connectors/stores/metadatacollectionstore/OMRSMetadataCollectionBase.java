@@ -6,6 +6,8 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.EntityDetailPage;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.RelationshipPage;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
@@ -1843,6 +1845,112 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Validate the parameters for a retrieve of a list of instances.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the instances.
+     * @param methodName name of calling method.
+     * @throws InvalidParameterException one of the guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     */
+    protected  void getInstancesParameterValidation(String       userId,
+                                                    List<String> guids,
+                                                    String       methodName) throws InvalidParameterException,
+                                                                                    RepositoryErrorException
+    {
+        final String  guidsParameterName = "guids";
+
+        /*
+         * Validate parameters
+         */
+        super.basicRequestValidation(userId, methodName);
+
+        if (guids != null)
+        {
+            for (String guid : guids)
+            {
+                repositoryValidator.validateGUID(repositoryName, guidsParameterName, guid, methodName);
+            }
+        }
+    }
+
+
+    /**
+     * Validate the parameters for a lookup of entities by the value of a unique property.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param propertyName name of the unique property.
+     * @param propertyValue exact value of the property.
+     * @param methodName name of calling method.
+     * @throws InvalidParameterException the property name or value is null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored.
+     */
+    protected  void findEntitiesByUniquePropertyValueParameterValidation(String userId,
+                                                                         String entityTypeGUID,
+                                                                         String propertyName,
+                                                                         String propertyValue,
+                                                                         String methodName) throws InvalidParameterException,
+                                                                                                   TypeErrorException,
+                                                                                                   RepositoryErrorException
+    {
+        final String  typeGUIDParameterName      = "entityTypeGUID";
+        final String  propertyNameParameterName  = "propertyName";
+        final String  propertyValueParameterName = "propertyValue";
+
+        /*
+         * Validate parameters
+         */
+        super.basicRequestValidation(userId, methodName);
+        repositoryValidator.validateOptionalTypeGUID(repositoryName, typeGUIDParameterName, entityTypeGUID, methodName);
+        repositoryValidator.validateSearchCriteria(repositoryName, propertyNameParameterName, propertyName, methodName);
+        repositoryValidator.validateSearchCriteria(repositoryName, propertyValueParameterName, propertyValue, methodName);
+    }
+
+
+    /**
+     * Return the retrieved instances in the order that they were requested, ignoring duplicate requests and
+     * instances that were not retrieved.
+     *
+     * @param guids list of unique identifiers for the requested instances
+     * @param retrievedInstances map of unique identifier to retrieved instance
+     * @param <T> type of instance
+     * @return list of instances or null if none were retrieved
+     */
+    protected <T extends InstanceHeader> List<T> getInstancesInRequestOrder(List<String>   guids,
+                                                                           Map<String, T> retrievedInstances)
+    {
+        if ((guids == null) || (retrievedInstances == null) || (retrievedInstances.isEmpty()))
+        {
+            return null;
+        }
+
+        List<T> results = new ArrayList<>();
+
+        for (String guid : new LinkedHashSet<>(guids))
+        {
+            T instance = retrievedInstances.get(guid);
+
+            if (instance != null)
+            {
+                results.add(instance);
+            }
+        }
+
+        if (results.isEmpty())
+        {
+            return null;
+        }
+
+        return results;
+    }
+
+
     /**
      * Validate the parameters for a retrieve multiple historical versions of an instance.
      *
@@ -2759,6 +2867,114 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return the header and classifications for each of the requested entities.  This default implementation
+     * calls getEntitySummary for each entity.  Repositories that can retrieve many entities in a single request
+     * should override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of EntitySummary structures in the order requested; null means none of the entities are known
+     * @throws InvalidParameterException one of the guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntitySummary> getEntitySummaries(String       userId,
+                                                  List<String> guids) throws InvalidParameterException,
+                                                                             RepositoryErrorException,
+                                                                             UserNotAuthorizedException
+    {
+        final String  methodName = "getEntitySummaries";
+
+        /*
+         * Validate parameters
+         */
+        this.getInstancesParameterValidation(userId, guids, methodName);
+
+        if (guids == null)
+        {
+            return null;
+        }
+
+        /*
+         * Perform operation - entities that can not be retrieved are left out of the results.
+         */
+        Map<String, EntitySummary> retrievedEntities = new HashMap<>();
+
+        for (String guid : new LinkedHashSet<>(guids))
+        {
+            try
+            {
+                retrievedEntities.put(guid, this.getEntitySummary(userId, guid));
+            }
+            catch (EntityNotKnownException | UserNotAuthorizedException error)
+            {
+                /*
+                 * Skip this entity.
+                 */
+            }
+        }
+
+        return this.getInstancesInRequestOrder(guids, retrievedEntities);
+    }
+
+
+    /**
+     * Return the header, classifications and properties of each of the requested entities.  This default
+     * implementation calls getEntityDetail for each entity.  Repositories that can retrieve many entities
+     * in a single request should override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of EntityDetail structures in the order requested; null means none of the entities are known
+     * @throws InvalidParameterException one of the guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntityDetail> getEntityDetails(String       userId,
+                                               List<String> guids) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          UserNotAuthorizedException
+    {
+        final String  methodName = "getEntityDetails";
+
+        /*
+         * Validate parameters
+         */
+        this.getInstancesParameterValidation(userId, guids, methodName);
+
+        if (guids == null)
+        {
+            return null;
+        }
+
+        /*
+         * Perform operation - entities that can not be retrieved are left out of the results.
+         */
+        Map<String, EntityDetail> retrievedEntities = new HashMap<>();
+
+        for (String guid : new LinkedHashSet<>(guids))
+        {
+            try
+            {
+                retrievedEntities.put(guid, this.getEntityDetail(userId, guid));
+            }
+            catch (EntityNotKnownException | EntityProxyOnlyException | UserNotAuthorizedException error)
+            {
+                /*
+                 * Skip this entity.
+                 */
+            }
+        }
+
+        return this.getInstancesInRequestOrder(guids, retrievedEntities);
+    }
+
+
     /**
      * Return all historical versions of an entity within the bounds of the provided timestamps. To retrieve all historical
      * versions of an entity, set both the 'fromTime' and 'toTime' to null.
@@ -2961,6 +3177,232 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return a page of entities that match the supplied criteria along with a continuation token for retrieving
+     * the next page.  This default implementation falls back to offset paging through findEntities (so it works
+     * for repositories such as remote cohort members that only page by element number).  It retrieves the
+     * entities from one page before the token's position and then positions the page using the continuation
+     * token.  If entities have been removed ahead of the token's position, the entities up to the end of the
+     * requested page are retrieved instead, and if entities have been added, more entities are retrieved until
+     * the page can be filled.  Repositories that can start a search directly from a sequencing
+     * key should override it.  Because findEntities does not sequence
+     * entities with equal sequencing keys, a page boundary that falls within a run of equal keys may vary
+     * between requests.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param entitySubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the entityTypeGUID to
+     *                           include in the search results. Null means all subtypes.
+     * @param matchProperties Optional list of entity property conditions to match.
+     * @param fromEntityElement the starting element number of the entities to return.  It is only used when
+     *                          continuationToken is null.  Zero means start from the first element.
+     * @param continuationToken token returned with the previous page of results.  Null means start from
+     *                          fromEntityElement.
+     * @param limitResultsByStatus By default, entities in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param matchClassifications Optional list of entity classifications to match.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return a page of entities matching the supplied criteria; the continuation token is null when there are no
+     * more results.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the paging/sequencing parameters or the continuation token are not valid.
+     * @throws FunctionNotSupportedException the repository does not support this optional method.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public EntityDetailPage findEntitiesPage(String                    userId,
+                                             String                    entityTypeGUID,
+                                             List<String>              entitySubtypeGUIDs,
+                                             SearchProperties          matchProperties,
+                                             int                       fromEntityElement,
+                                             String                    continuationToken,
+                                             List<InstanceStatus>      limitResultsByStatus,
+                                             SearchClassifications     matchClassifications,
+                                             Date                      asOfTime,
+                                             String                    sequencingProperty,
+                                             SequencingOrder           sequencingOrder,
+                                             int                       pageSize) throws InvalidParameterException,
+                                                                                        RepositoryErrorException,
+                                                                                        TypeErrorException,
+                                                                                        PropertyErrorException,
+                                                                                        PagingErrorException,
+                                                                                        FunctionNotSupportedException,
+                                                                                        UserNotAuthorizedException
+    {
+        final String  methodName = "findEntitiesPage";
+
+        /*
+         * Validate parameters
+         */
+        this.findEntitiesParameterValidation(userId,
+                                             entityTypeGUID,
+                                             entitySubtypeGUIDs,
+                                             matchProperties,
+                                             fromEntityElement,
+                                             limitResultsByStatus,
+                                             matchClassifications,
+                                             asOfTime,
+                                             sequencingProperty,
+                                             sequencingOrder,
+                                             pageSize);
+
+        /*
+         * Perform operation
+         */
+        int position = repositoryHelper.getContinuationTokenPosition(repositoryName,
+                                                                     continuationToken,
+                                                                     fromEntityElement,
+                                                                     sequencingProperty,
+                                                                     sequencingOrder,
+                                                                     methodName);
+
+        int windowStart = this.getPageWindowStart(continuationToken, position, pageSize);
+        int windowSize  = this.getPageWindowSize(windowStart, position, pageSize);
+
+        List<EntityDetail> results = this.findEntities(userId,
+                                                       entityTypeGUID,
+                                                       entitySubtypeGUIDs,
+                                                       matchProperties,
+                                                       windowStart,
+                                                       limitResultsByStatus,
+                                                       matchClassifications,
+                                                       asOfTime,
+                                                       sequencingProperty,
+                                                       this.getPageSequencingOrder(sequencingOrder),
+                                                       windowSize);
+
+        while ((continuationToken != null) && (windowSize > 0))
+        {
+            int resultsSize    = (results == null) ? 0 : results.size();
+            int precedingCount = repositoryHelper.countEntitiesBeforeContinuationToken(repositoryName,
+                                                                                       results,
+                                                                                       continuationToken,
+                                                                                       sequencingProperty,
+                                                                                       sequencingOrder,
+                                                                                       methodName);
+
+            if ((windowStart > 0) && (precedingCount == 0))
+            {
+                /*
+                 * Entities have been removed ahead of the token's position so the page may start before the
+                 * retrieved entities.  They are retrieved again from the first entity.
+                 */
+                windowStart = 0;
+                windowSize  = this.getPageWindowSize(windowStart, position, pageSize);
+            }
+            else if ((resultsSize == windowSize) && (resultsSize - precedingCount <= pageSize))
+            {
+                /*
+                 * Entities have been added ahead of the token's position so the retrieved entities may not
+                 * fill the page.  More are retrieved.
+                 */
+                windowSize = windowSize * 2;
+            }
+            else
+            {
+                break;
+            }
+
+            results = this.findEntities(userId,
+                                        entityTypeGUID,
+                                        entitySubtypeGUIDs,
+                                        matchProperties,
+                                        windowStart,
+                                        limitResultsByStatus,
+                                        matchClassifications,
+                                        asOfTime,
+                                        sequencingProperty,
+                                        this.getPageSequencingOrder(sequencingOrder),
+                                        windowSize);
+        }
+
+        return repositoryHelper.formatEntityPage(repositoryName,
+                                                 results,
+                                                 fromEntityElement,
+                                                 continuationToken,
+                                                 sequencingProperty,
+                                                 sequencingOrder,
+                                                 pageSize,
+                                                 methodName);
+    }
+
+
+    /**
+     * Return the sequencing order used to retrieve the instances for a page.  The pages must be retrieved in a
+     * stable order so no sequencing is replaced by sequencing on the unique identifier.
+     *
+     * @param sequencingOrder requested sequencing order
+     * @return sequencing order to use
+     */
+    private SequencingOrder getPageSequencingOrder(SequencingOrder sequencingOrder)
+    {
+        if ((sequencingOrder == null) || (sequencingOrder == SequencingOrder.ANY))
+        {
+            return SequencingOrder.GUID;
+        }
+
+        return sequencingOrder;
+    }
+
+
+    /**
+     * Return the element number to start retrieving instances from for a page.  The page that follows a
+     * continuation token is retrieved by offset from one page before the token's position.  The overlap with
+     * the previous page shows whether the instances still line up with the token.  This keeps the cost of each
+     * page proportional to the page size rather than to the number of results already returned.
+     *
+     * @param continuationToken token returned with the previous page, or null for the first page
+     * @param position element number of the first instance on the page
+     * @param pageSize maximum number of instances on the page; zero means unlimited
+     * @return element number to start from
+     */
+    private int getPageWindowStart(String continuationToken,
+                                   int    position,
+                                   int    pageSize)
+    {
+        if ((continuationToken == null) || (pageSize <= 0))
+        {
+            return 0;
+        }
+
+        return Math.max(position - pageSize, 0);
+    }
+
+
+    /**
+     * Return the number of instances to retrieve in order to return a page starting at the requested
+     * position.  One extra instance is retrieved to detect whether there are more results after the page.
+     *
+     * @param windowStart element number that the retrieval starts from
+     * @param position element number of the first instance on the page
+     * @param pageSize maximum number of instances on the page; zero means unlimited
+     * @return number of instances to retrieve; zero means unlimited
+     */
+    private int getPageWindowSize(int windowStart,
+                                  int position,
+                                  int pageSize)
+    {
+        if (pageSize <= 0)
+        {
+            return 0;
+        }
+
+        return position - windowStart + pageSize + 1;
+    }
+
+
     /**
      * Return a list of entities that match the supplied properties according to the match criteria.  The results
      * can be returned over many pages.
@@ -3041,6 +3483,77 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return the entities whose value for a unique string property (such as qualifiedName) is exactly the
+     * supplied value.  This default implementation issues findEntitiesByProperty with an exact match regular
+     * expression.  Repositories that index unique properties should override it.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param propertyName name of the unique property.
+     * @param propertyValue exact value of the property.
+     * @return a list of entities matching the supplied value; null means no matching entities in the metadata
+     * collection.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the property is not valid for the requested type of entity.
+     * @throws FunctionNotSupportedException the repository does not support this call.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntityDetail> findEntitiesByUniquePropertyValue(String userId,
+                                                                String entityTypeGUID,
+                                                                String propertyName,
+                                                                String propertyValue) throws InvalidParameterException,
+                                                                                             RepositoryErrorException,
+                                                                                             TypeErrorException,
+                                                                                             PropertyErrorException,
+                                                                                             FunctionNotSupportedException,
+                                                                                             UserNotAuthorizedException
+    {
+        final String  methodName = "findEntitiesByUniquePropertyValue";
+
+        /*
+         * Validate parameters
+         */
+        this.findEntitiesByUniquePropertyValueParameterValidation(userId, entityTypeGUID, propertyName, propertyValue, methodName);
+
+        /*
+         * Perform operation
+         */
+        InstanceProperties matchProperties = repositoryHelper.addStringPropertyToInstance(repositoryName,
+                                                                                          null,
+                                                                                          propertyName,
+                                                                                          repositoryHelper.getExactMatchRegex(propertyValue),
+                                                                                          methodName);
+
+        try
+        {
+            return this.findEntitiesByProperty(userId,
+                                               entityTypeGUID,
+                                               matchProperties,
+                                               MatchCriteria.ALL,
+                                               0,
+                                               null,
+                                               null,
+                                               null,
+                                               null,
+                                               null,
+                                               0);
+        }
+        catch (PagingErrorException error)
+        {
+            /*
+             * Paging is not used on this request.
+             */
+            throw new RepositoryErrorException(error);
+        }
+    }
+
+
     /**
      * Return a list of entities that have the requested type of classifications attached.
      *
@@ -3312,6 +3825,59 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return each of the requested relationships.  This default implementation calls getRelationship for each
+     * relationship.  Repositories that can retrieve many relationships in a single request should override this method.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the relationships.
+     * @return list of relationships in the order requested; null means none of the relationships are known
+     * @throws InvalidParameterException one of the guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<Relationship> getRelationships(String       userId,
+                                               List<String> guids) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          UserNotAuthorizedException
+    {
+        final String  methodName = "getRelationships";
+
+        /*
+         * Validate parameters
+         */
+        this.getInstancesParameterValidation(userId, guids, methodName);
+
+        if (guids == null)
+        {
+            return null;
+        }
+
+        /*
+         * Perform operation - relationships that can not be retrieved are left out of the results.
+         */
+        Map<String, Relationship> retrievedRelationships = new HashMap<>();
+
+        for (String guid : new LinkedHashSet<>(guids))
+        {
+            try
+            {
+                retrievedRelationships.put(guid, this.getRelationship(userId, guid));
+            }
+            catch (RelationshipNotKnownException | UserNotAuthorizedException error)
+            {
+                /*
+                 * Skip this relationship.
+                 */
+            }
+        }
+
+        return this.getInstancesInRequestOrder(guids, retrievedRelationships);
+    }
+
+
     /**
      * Return all historical versions of a relationship within the bounds of the provided timestamps. To retrieve all
      * historical versions of a relationship, set both the 'fromTime' and 'toTime' to null.
@@ -3435,6 +4001,157 @@ public abstract class OMRSMetadataCollectionBase extends OMRSMetadataCollection
     }
 
 
+    /**
+     * Return a page of relationships that match the requested conditions along with a continuation token for
+     * retrieving the next page.  This default implementation falls back to offset paging through findRelationships
+     * in the same way as findEntitiesPage.  Repositories that can start a search directly from a sequencing key
+     * should override it.  Because
+     * findRelationships does not sequence relationships with equal sequencing keys, a page boundary that falls
+     * within a run of equal keys may vary between requests.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID unique identifier (guid) for the relationship's type.  Null means all types
+     *                             (but may be slow so not recommended).
+     * @param relationshipSubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the
+     *                                 relationshipTypeGUID to include in the search results. Null means all subtypes.
+     * @param matchProperties Optional list of relationship property conditions to match.
+     * @param fromRelationshipElement the starting element number of the relationships to return.  It is only used
+     *                                when continuationToken is null.  Zero means start from the first element.
+     * @param continuationToken token returned with the previous page of results.  Null means start from
+     *                          fromRelationshipElement.
+     * @param limitResultsByStatus By default, relationships in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return a page of relationships; the continuation token is null when there are no more results.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  relationships.
+     * @throws PagingErrorException the paging/sequencing parameters or the continuation token are not valid.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public  RelationshipPage findRelationshipsPage(String                    userId,
+                                                   String                    relationshipTypeGUID,
+                                                   List<String>              relationshipSubtypeGUIDs,
+                                                   SearchProperties          matchProperties,
+                                                   int                       fromRelationshipElement,
+                                                   String                    continuationToken,
+                                                   List<InstanceStatus>      limitResultsByStatus,
+                                                   Date                      asOfTime,
+                                                   String                    sequencingProperty,
+                                                   SequencingOrder           sequencingOrder,
+                                                   int                       pageSize) throws InvalidParameterException,
+                                                                                              TypeErrorException,
+                                                                                              RepositoryErrorException,
+                                                                                              PropertyErrorException,
+                                                                                              PagingErrorException,
+                                                                                              FunctionNotSupportedException,
+                                                                                              UserNotAuthorizedException
+    {
+        final String  methodName = "findRelationshipsPage";
+
+        this.findRelationshipsParameterValidation(userId,
+                                                  relationshipTypeGUID,
+                                                  relationshipSubtypeGUIDs,
+                                                  matchProperties,
+                                                  fromRelationshipElement,
+                                                  limitResultsByStatus,
+                                                  asOfTime,
+                                                  sequencingProperty,
+                                                  sequencingOrder,
+                                                  pageSize);
+
+        /*
+         * Perform operation
+         */
+        int position = repositoryHelper.getContinuationTokenPosition(repositoryName,
+                                                                     continuationToken,
+                                                                     fromRelationshipElement,
+                                                                     sequencingProperty,
+                                                                     sequencingOrder,
+                                                                     methodName);
+
+        int windowStart = this.getPageWindowStart(continuationToken, position, pageSize);
+        int windowSize  = this.getPageWindowSize(windowStart, position, pageSize);
+
+        List<Relationship> results = this.findRelationships(userId,
+                                                            relationshipTypeGUID,
+                                                            relationshipSubtypeGUIDs,
+                                                            matchProperties,
+                                                            windowStart,
+                                                            limitResultsByStatus,
+                                                            asOfTime,
+                                                            sequencingProperty,
+                                                            this.getPageSequencingOrder(sequencingOrder),
+                                                            windowSize);
+
+        while ((continuationToken != null) && (windowSize > 0))
+        {
+            int resultsSize    = (results == null) ? 0 : results.size();
+            int precedingCount = repositoryHelper.countRelationshipsBeforeContinuationToken(repositoryName,
+                                                                                            results,
+                                                                                            continuationToken,
+                                                                                            sequencingProperty,
+                                                                                            sequencingOrder,
+                                                                                            methodName);
+
+            if ((windowStart > 0) && (precedingCount == 0))
+            {
+                /*
+                 * Relationships have been removed ahead of the token's position so the page may start before
+                 * the retrieved relationships.  They are retrieved again from the first relationship.
+                 */
+                windowStart = 0;
+                windowSize  = this.getPageWindowSize(windowStart, position, pageSize);
+            }
+            else if ((resultsSize == windowSize) && (resultsSize - precedingCount <= pageSize))
+            {
+                /*
+                 * Relationships have been added ahead of the token's position so the retrieved relationships
+                 * may not fill the page.  More are retrieved.
+                 */
+                windowSize = windowSize * 2;
+            }
+            else
+            {
+                break;
+            }
+
+            results = this.findRelationships(userId,
+                                             relationshipTypeGUID,
+                                             relationshipSubtypeGUIDs,
+                                             matchProperties,
+                                             windowStart,
+                                             limitResultsByStatus,
+                                             asOfTime,
+                                             sequencingProperty,
+                                             this.getPageSequencingOrder(sequencingOrder),
+                                             windowSize);
+        }
+
+        return repositoryHelper.formatRelationshipPage(repositoryName,
+                                                       results,
+                                                       fromRelationshipElement,
+                                                       continuationToken,
+                                                       sequencingProperty,
+                                                       sequencingOrder,
+                                                       pageSize,
+                                                       methodName);
+    }
+
+
     /**
      * Return a list of relationships that match the requested properties by the matching criteria.   The results
      * can be received as a series of pages.
@@ -0,0 +1,170 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * EntityDetailPage is one page of entities returned from a find request that uses a continuation token.
+ * The continuation token is opaque to the caller.  It records where the page ended in the requested
+ * sequencing order so that the next page can be retrieved by passing it back on the next request, rather
+ * than by asking the repository to skip over all of the results that have already been returned.
+ * A null continuation token means there are no more results.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class EntityDetailPage implements Serializable
+{
+    private static final long    serialVersionUID = 1L;
+
+    private List<EntityDetail> entities          = null;
+    private String             continuationToken = null;
+
+
+    /**
+     * Default constructor
+     */
+    public EntityDetailPage()
+    {
+        super();
+    }
+
+
+    /**
+     * Typical constructor
+     *
+     * @param entities results on this page
+     * @param continuationToken token to retrieve the next page, null if there are no more results
+     */
+    public EntityDetailPage(List<EntityDetail> entities,
+                            String             continuationToken)
+    {
+        this.entities = entities;
+        this.continuationToken = continuationToken;
+    }
+
+
+    /**
+     * Copy/clone constructor.
+     *
+     * @param template object to copy
+     */
+    public EntityDetailPage(EntityDetailPage template)
+    {
+        if (template != null)
+        {
+            if (template.getEntities() != null)
+            {
+                this.entities = new ArrayList<>(template.getEntities());
+            }
+
+            this.continuationToken = template.getContinuationToken();
+        }
+    }
+
+
+    /**
+     * Return the entities on this page.
+     *
+     * @return list of entities; null means no results
+     */
+    public List<EntityDetail> getEntities()
+    {
+        return entities;
+    }
+
+
+    /**
+     * Set up the entities on this page.
+     *
+     * @param entities list of entities
+     */
+    public void setEntities(List<EntityDetail> entities)
+    {
+        this.entities = entities;
+    }
+
+
+    /**
+     * Return the token that retrieves the next page of results.
+     *
+     * @return opaque token; null means there are no more results
+     */
+    public String getContinuationToken()
+    {
+        return continuationToken;
+    }
+
+
+    /**
+     * Set up the token that retrieves the next page of results.
+     *
+     * @param continuationToken opaque token; null means there are no more results
+     */
+    public void setContinuationToken(String continuationToken)
+    {
+        this.continuationToken = continuationToken;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return JSON style description of variables.
+     */
+    @Override
+    public String toString()
+    {
+        return "EntityDetailPage{" +
+                "entities=" + entities +
+                ", continuationToken='" + continuationToken + '\'' +
+                '}';
+    }
+
+
+    /**
+     * Validate that an object is equal depending on their stored values.
+     *
+     * @param objectToCompare object
+     * @return boolean result
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (!(objectToCompare instanceof EntityDetailPage))
+        {
+            return false;
+        }
+        EntityDetailPage that = (EntityDetailPage) objectToCompare;
+        return Objects.equals(getEntities(), that.getEntities()) &&
+                Objects.equals(getContinuationToken(), that.getContinuationToken());
+    }
+
+
+    /**
+     * Return a hash code based on the property values
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(getEntities(), getContinuationToken());
+    }
+}
@@ -0,0 +1,170 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
+import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
+
+/**
+ * RelationshipPage is one page of relationships returned from a find request that uses a continuation token.
+ * The continuation token is opaque to the caller.  It records where the page ended in the requested
+ * sequencing order so that the next page can be retrieved by passing it back on the next request, rather
+ * than by asking the repository to skip over all of the results that have already been returned.
+ * A null continuation token means there are no more results.
+ */
+@JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown=true)
+public class RelationshipPage implements Serializable
+{
+    private static final long    serialVersionUID = 1L;
+
+    private List<Relationship> relationships     = null;
+    private String             continuationToken = null;
+
+
+    /**
+     * Default constructor
+     */
+    public RelationshipPage()
+    {
+        super();
+    }
+
+
+    /**
+     * Typical constructor
+     *
+     * @param relationships results on this page
+     * @param continuationToken token to retrieve the next page, null if there are no more results
+     */
+    public RelationshipPage(List<Relationship> relationships,
+                            String             continuationToken)
+    {
+        this.relationships = relationships;
+        this.continuationToken = continuationToken;
+    }
+
+
+    /**
+     * Copy/clone constructor.
+     *
+     * @param template object to copy
+     */
+    public RelationshipPage(RelationshipPage template)
+    {
+        if (template != null)
+        {
+            if (template.getRelationships() != null)
+            {
+                this.relationships = new ArrayList<>(template.getRelationships());
+            }
+
+            this.continuationToken = template.getContinuationToken();
+        }
+    }
+
+
+    /**
+     * Return the relationships on this page.
+     *
+     * @return list of relationships; null means no results
+     */
+    public List<Relationship> getRelationships()
+    {
+        return relationships;
+    }
+
+
+    /**
+     * Set up the relationships on this page.
+     *
+     * @param relationships list of relationships
+     */
+    public void setRelationships(List<Relationship> relationships)
+    {
+        this.relationships = relationships;
+    }
+
+
+    /**
+     * Return the token that retrieves the next page of results.
+     *
+     * @return opaque token; null means there are no more results
+     */
+    public String getContinuationToken()
+    {
+        return continuationToken;
+    }
+
+
+    /**
+     * Set up the token that retrieves the next page of results.
+     *
+     * @param continuationToken opaque token; null means there are no more results
+     */
+    public void setContinuationToken(String continuationToken)
+    {
+        this.continuationToken = continuationToken;
+    }
+
+
+    /**
+     * Standard toString method.
+     *
+     * @return JSON style description of variables.
+     */
+    @Override
+    public String toString()
+    {
+        return "RelationshipPage{" +
+                "relationships=" + relationships +
+                ", continuationToken='" + continuationToken + '\'' +
+                '}';
+    }
+
+
+    /**
+     * Validate that an object is equal depending on their stored values.
+     *
+     * @param objectToCompare object
+     * @return boolean result
+     */
+    @Override
+    public boolean equals(Object objectToCompare)
+    {
+        if (this == objectToCompare)
+        {
+            return true;
+        }
+        if (!(objectToCompare instanceof RelationshipPage))
+        {
+            return false;
+        }
+        RelationshipPage that = (RelationshipPage) objectToCompare;
+        return Objects.equals(getRelationships(), that.getRelationships()) &&
+                Objects.equals(getContinuationToken(), that.getContinuationToken());
+    }
+
+
+    /**
+     * Return a hash code based on the property values
+     *
+     * @return int hash code
+     */
+    @Override
+    public int hashCode()
+    {
+        return Objects.hash(getRelationships(), getContinuationToken());
+    }
+}
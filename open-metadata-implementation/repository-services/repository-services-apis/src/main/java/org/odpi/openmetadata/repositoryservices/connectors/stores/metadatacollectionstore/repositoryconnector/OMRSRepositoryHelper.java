@@ -5,12 +5,15 @@ package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacolle
 
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.EntityDetailPage;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.RelationshipPage;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSRepositoryPropertiesHelper;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -956,6 +959,178 @@ public interface OMRSRepositoryHelper extends OMRSRepositoryPropertiesHelper
                                                                                        PropertyErrorException;
 
 
+    /**
+     * Use the continuation token, sequencing and paging parameters to format one page of the results for a
+     * repository call that returns a list of entity instances.  The page holds the entities that follow the
+     * position recorded in the continuation token in the requested order.  Entities that sort equally are
+     * ordered by GUID, and GUID order is used if no sequencing order (or ANY) is requested, so that each
+     * entity appears on exactly one page.  Only the entities needed for the page are sorted.
+     *
+     * @param sourceName name of the repository (for error reporting)
+     * @param fullResults the full list of results in an arbitrary order
+     * @param fromElement the starting element number of the instances to return.  This is only used when
+     *                    there is no continuation token.
+     * @param continuationToken token returned with the previous page, or null for the first page
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @param methodName calling method
+     * @return page of results with the token for the next page
+     * @throws PagingErrorException the continuation token is not valid for this request.
+     */
+    EntityDetailPage formatEntityPage(String             sourceName,
+                                      List<EntityDetail> fullResults,
+                                      int                fromElement,
+                                      String             continuationToken,
+                                      String             sequencingProperty,
+                                      SequencingOrder    sequencingOrder,
+                                      int                pageSize,
+                                      String             methodName) throws PagingErrorException;
+
+
+    /**
+     * Use the continuation token, sequencing and paging parameters to format one page of the results for a
+     * repository call that returns a list of relationship instances.  The ordering follows the same rules as
+     * formatEntityPage.
+     *
+     * @param sourceName name of the repository (for error reporting)
+     * @param fullResults the full list of results in an arbitrary order
+     * @param fromElement the starting element number of the instances to return.  This is only used when
+     *                    there is no continuation token.
+     * @param continuationToken token returned with the previous page, or null for the first page
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @param methodName calling method
+     * @return page of results with the token for the next page
+     * @throws PagingErrorException the continuation token is not valid for this request.
+     */
+    RelationshipPage formatRelationshipPage(String             sourceName,
+                                            List<Relationship> fullResults,
+                                            int                fromElement,
+                                            String             continuationToken,
+                                            String             sequencingProperty,
+                                            SequencingOrder    sequencingOrder,
+                                            int                pageSize,
+                                            String             methodName) throws PagingErrorException;
+
+
+    /**
+     * Return the number of results that precede the page that the continuation token retrieves.  This allows a
+     * repository that can not apply a continuation token itself to fall back to offset paging.
+     *
+     * @param sourceName name of the repository (for error reporting)
+     * @param continuationToken token returned with the previous page, or null for the first page
+     * @param fromElement the starting element number to use if there is no continuation token
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param methodName calling method
+     * @return starting element number
+     * @throws PagingErrorException the continuation token is not valid for this request.
+     */
+    int getContinuationTokenPosition(String          sourceName,
+                                     String          continuationToken,
+                                     int             fromElement,
+                                     String          sequencingProperty,
+                                     SequencingOrder sequencingOrder,
+                                     String          methodName) throws PagingErrorException;
+
+
+    /**
+     * Return the number of the supplied entities that sort at or before the last entity returned with the
+     * continuation token, and so do not belong on the page that the token retrieves.  This allows a repository
+     * that falls back to offset paging to check that the entities it retrieved from the token's position
+     * still line up with the previous page.
+     *
+     * @param sourceName name of the repository (for error reporting)
+     * @param results entities retrieved for the page
+     * @param continuationToken token returned with the previous page, or null for the first page
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param methodName calling method
+     * @return number of entities that precede the page; zero if there is no continuation token
+     * @throws PagingErrorException the continuation token is not valid for this request.
+     */
+    int countEntitiesBeforeContinuationToken(String             sourceName,
+                                             List<EntityDetail> results,
+                                             String             continuationToken,
+                                             String             sequencingProperty,
+                                             SequencingOrder    sequencingOrder,
+                                             String             methodName) throws PagingErrorException;
+
+
+    /**
+     * Return the number of the supplied relationships that sort at or before the last relationship returned
+     * with the continuation token, and so do not belong on the page that the token retrieves.
+     *
+     * @param sourceName name of the repository (for error reporting)
+     * @param results relationships retrieved for the page
+     * @param continuationToken token returned with the previous page, or null for the first page
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param methodName calling method
+     * @return number of relationships that precede the page; zero if there is no continuation token
+     * @throws PagingErrorException the continuation token is not valid for this request.
+     */
+    int countRelationshipsBeforeContinuationToken(String             sourceName,
+                                                  List<Relationship> results,
+                                                  String             continuationToken,
+                                                  String             sequencingProperty,
+                                                  SequencingOrder    sequencingOrder,
+                                                  String             methodName) throws PagingErrorException;
+
+
+    /**
+     * Return the continuation token to pass to one repository in a federation.  It has the same sequencing key
+     * as the federated token but the position of that repository, so a repository that falls back to offset
+     * paging retrieves the page from its own results rather than from the position in the merged results.
+     *
+     * @param sourceName name of the repository (for error reporting)
+     * @param continuationToken token returned with the previous federated page, or null for the first page
+     * @param metadataCollectionId unique identifier of the repository's metadata collection
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param methodName calling method
+     * @return token for the repository; null if there is no continuation token
+     * @throws PagingErrorException the continuation token is not valid for this request.
+     */
+    String getRepositoryContinuationToken(String          sourceName,
+                                          String          continuationToken,
+                                          String          metadataCollectionId,
+                                          String          sequencingProperty,
+                                          SequencingOrder sequencingOrder,
+                                          String          methodName) throws PagingErrorException;
+
+
+    /**
+     * Record the position of each repository in a federation in the continuation token for the next page.
+     * The new position of a repository is its position in the previous token plus the number of its results
+     * that sort at or before the last instance on the page.  Repositories with no count keep their previous
+     * position.
+     *
+     * @param sourceName name of the repository (for error reporting)
+     * @param previousContinuationToken token that the page was retrieved with, or null for the first page
+     * @param continuationToken token for the next page
+     * @param repositoryCounts map of metadata collection id to the number of its results that precede the next page
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param methodName calling method
+     * @return token for the next page, including the position of each repository
+     * @throws PagingErrorException the continuation token is not valid for this request.
+     */
+    String addRepositoryPositions(String               sourceName,
+                                  String               previousContinuationToken,
+                                  String               continuationToken,
+                                  Map<String, Integer> repositoryCounts,
+                                  String               sequencingProperty,
+                                  SequencingOrder      sequencingOrder,
+                                  String               methodName) throws PagingErrorException;
+
+
     /**
      * Retrieve an escaped version of the provided string that can be passed to methods that expect regular expressions,
      * without being interpreted as a regular expression (i.e. the returned string will be interpreted as a literal --
@@ -12,15 +12,19 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.NONE;
 import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_ONLY;
 
 /**
- * OMRSEventProtocolVersion provides the identifier for the version number of the event payload.  There is
- * only one version at the moment which is why it looks a little sad.
+ * OMRSEventProtocolVersion provides the identifier for the version number of the event payload.
+ * V1_COMPRESSED uses the same V1 event beans but large instance and type events are sent compressed.
+ * Every server that understands V1_COMPRESSED accepts both forms of event and advertises this in its
+ * registry events.  Events are only compressed while every member of the cohort has advertised that it
+ * accepts them, so members that have not been upgraded keep receiving JSON events.
  */
 @JsonAutoDetect(getterVisibility=PUBLIC_ONLY, setterVisibility=PUBLIC_ONLY, fieldVisibility=NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
 @JsonIgnoreProperties(ignoreUnknown=true)
 public enum OMRSEventProtocolVersion implements Serializable
 {
-    V1 (1, "OMRS V1.0", "OMRS Version 1");
+    V1 (1, "OMRS V1.0", "OMRS Version 1"),
+    V1_COMPRESSED (2, "OMRS V1.0 Compressed", "OMRS Version 1 with large events compressed");
 
     private static final long     serialVersionUID = 1L;
 
@@ -24,10 +24,11 @@ public class OMRSEventV1RegistrySection implements Serializable
 {
     private static final long serialVersionUID = 1L;
 
-    private OMRSRegistryEventType registryEventType      = null;
-    private Date                  registrationTimestamp  = null;
-    private String                metadataCollectionName = null;
-    private Connection            remoteConnection       = null;
+    private OMRSRegistryEventType registryEventType         = null;
+    private Date                  registrationTimestamp     = null;
+    private String                metadataCollectionName    = null;
+    private Connection            remoteConnection          = null;
+    private boolean               compressedEventsSupported = false;
 
 
     public OMRSEventV1RegistrySection()
@@ -83,6 +84,29 @@ public class OMRSEventV1RegistrySection implements Serializable
     }
 
 
+    /**
+     * Return whether the registering server accepts compressed events.  Servers that do not send this
+     * property can only receive JSON events.
+     *
+     * @return boolean
+     */
+    public boolean isCompressedEventsSupported()
+    {
+        return compressedEventsSupported;
+    }
+
+
+    /**
+     * Set up whether the registering server accepts compressed events.
+     *
+     * @param compressedEventsSupported boolean
+     */
+    public void setCompressedEventsSupported(boolean compressedEventsSupported)
+    {
+        this.compressedEventsSupported = compressedEventsSupported;
+    }
+
+
     /**
      * JSON-style toString.
      *
@@ -96,6 +120,7 @@ public class OMRSEventV1RegistrySection implements Serializable
                        ", registrationTimestamp=" + registrationTimestamp +
                        ", metadataCollectionName='" + metadataCollectionName + '\'' +
                        ", remoteConnection=" + remoteConnection +
+                       ", compressedEventsSupported=" + compressedEventsSupported +
                        '}';
     }
 }
@@ -341,6 +341,18 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                                 "The connector will not be able to support access to the open metadata repositories connected via the cohort.",
                                 "Review the message to discover why the connector failed to start."),
 
+    ENTERPRISE_TRAVERSAL_TRUNCATED("OMRS-AUDIT-0044",
+                                   OMRSAuditLogRecordSeverity.INFO,
+                                   "The federated {0} request by user {1} starting at entity {2} stopped at level {3} with {4} " +
+                                           "instances because it reached its {5}",
+                                   "The enterprise OMRS connector traverses the graph across the members of the cohort level by level.  " +
+                                           "It stops when the number of instances retrieved exceeds the result budget, the elapsed " +
+                                           "time reaches the deadline, or it reaches the maximum number of levels when the caller " +
+                                           "did not limit the levels.  The request fails since its results are incomplete.",
+                                   "Review the request.  A smaller number of levels or more restrictive type, status and " +
+                                           "classification filters reduce the number of instances that need to be retrieved.  " +
+                                           "The limits are set in the enterprise access configuration."),
+
     PROCESSING_ARCHIVE("OMRS-AUDIT-0050",
                        OMRSAuditLogRecordSeverity.INFO,
                        "The Open Metadata Repository Services (OMRS) is about to process open metadata archive {0}",
@@ -370,6 +382,15 @@ public enum OMRSAuditCode implements AuditLogMessageSet
                       "The local server has completed the processing of the open metadata archive.",
                       "Verify that the expected content has loaded into the local repository."),
 
+    NO_TYPES_ARCHIVE_SNAPSHOT("OMRS-AUDIT-0054",
+                      OMRSAuditLogRecordSeverity.INFO,
+                      "The Open Metadata Repository Services (OMRS) is building the open metadata types in code because there is no valid snapshot of version {0} of the types",
+                      "The snapshot of the open metadata types that is generated when the open-metadata-types module is built is either " +
+                              "missing from the class path, its checksum does not match its content, it was generated by classes that " +
+                              "differ from those on the class path or it is from a different version of the types.  The local server builds the types in code instead.  This takes longer but the resulting types are the same.",
+                      "No action is required.  If this message appears on every server start, verify that the open-metadata-types jar " +
+                              "was built with the snapshot generation step."),
+
     REGISTERED_WITH_COHORT("OMRS-AUDIT-0060",
                            OMRSAuditLogRecordSeverity.COHORT,
                            "Registering with open metadata repository cohort {0} using metadata collection id {1}",
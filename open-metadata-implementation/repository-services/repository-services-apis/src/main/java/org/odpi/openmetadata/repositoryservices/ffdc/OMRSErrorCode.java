@@ -383,6 +383,10 @@ public enum OMRSErrorCode implements ExceptionMessageSet
             "The OMRS repository connector operation {0} does not allow a time range from {1} to {2}",
             "The system is unable continue processing the request because the time range provided does not overlap.",
             "Correct the code in the caller's method (potentially just reverse the times) and retry the request."),
+    INVALID_CONTINUATION_TOKEN(400, "OMRS-REPOSITORY-400-084",
+            "The continuation token passed on the {0} operation of repository {1} can not be used for this request: {2}",
+            "The system is unable to retrieve the next page of results because the token is damaged or was returned from a request with a different sequencing order.",
+            "Pass the continuation token exactly as it was returned from the previous page of the same request, or start again from the first page."),
 
     NULL_USER_NAME(400, "OMRS-REST-API-400-001",
             "The OMRS REST API for server {0} has been called with a null user name (userId)",
@@ -489,6 +493,11 @@ public enum OMRSErrorCode implements ExceptionMessageSet
             "The system is unable to create a list of TypeDefs for the enterprise.",
             "Look for errors in the set up of the repositories in the audit log and verify that TypeDefs are configured. " +
                                             "Retry the request when the cohort configuration is correct."),
+    ENTERPRISE_TRAVERSAL_TRUNCATED(400, "OMRS-ENTERPRISE-REPOSITORY-400-003",
+            "The federated {0} request starting at entity {1} stopped at level {2} before it was complete because it reached its {3}",
+            "The system is unable to return a complete set of results for the request.",
+            "Request fewer levels or use more restrictive type, status and classification filters.  If the results are " +
+                                                   "needed, increase the federated traversal limits in the enterprise access configuration."),
     DUPLICATE_TYPE_IN_ARCHIVE(400, "OMRS-ARCHIVE-BUILDER-400-001",
             "The same type {0} of category {1} has been added twice to an open metadata archive. First version was {2} and the second was {3}.",
             "The build of the archive terminates.",
@@ -838,6 +847,10 @@ public enum OMRSErrorCode implements ExceptionMessageSet
             "This server does not support the requested event protocol level.",
             "The protocol level is set in the configuration.  The admin services should not allow a protocol level that is not supported by its local OMRS." +
                                             " Raise a Github issue to get this fixed."),
+    REMOTE_REQUEST_NOT_SUPPORTED(501, "OMRS-REST-API-501-001",
+            "REST API call {0} is not supported by repository {1}.  The error message was {2}",
+            "The remote server is at a level that does not provide this REST API call.",
+            "No action is required.  The caller can retrieve the same information with other REST API calls, or the remote server can be upgraded."),
     NO_REPOSITORIES(503, "OMRS-ENTERPRISE-REPOSITORY-503-001",
             "There are no open metadata repositories available for access service {0}.",
             "The configuration for the server is set up so there is no local repository and no remote repositories " +
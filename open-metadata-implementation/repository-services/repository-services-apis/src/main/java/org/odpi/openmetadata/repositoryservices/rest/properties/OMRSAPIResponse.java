@@ -34,6 +34,7 @@ import static com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility.PUBLIC_
                 @JsonSubTypes.Type(value = CohortMembershipResponse.class, name = "CohortMembershipResponse"),
                 @JsonSubTypes.Type(value = EntityDetailResponse.class, name = "EntityDetailResponse"),
                 @JsonSubTypes.Type(value = EntitySummaryResponse.class, name = "EntitySummaryResponse"),
+                @JsonSubTypes.Type(value = EntitySummaryListResponse.class, name = "EntitySummaryListResponse"),
                 @JsonSubTypes.Type(value = InstanceGraphResponse.class, name = "InstanceGraphResponse"),
                 @JsonSubTypes.Type(value = RelationshipListResponse.class, name = "RelationshipListResponse"),
                 @JsonSubTypes.Type(value = RelationshipResponse.class, name = "RelationshipResponse"),
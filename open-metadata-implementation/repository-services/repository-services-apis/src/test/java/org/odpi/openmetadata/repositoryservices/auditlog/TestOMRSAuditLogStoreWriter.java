@@ -0,0 +1,203 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.auditlog;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogRecord;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore.OMRSAuditLogStore;
+import org.testng.annotations.Test;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that the OMRSAuditLogStoreWriter queues records for its audit log store and applies the overflow policy.
+ */
+public class TestOMRSAuditLogStoreWriter
+{
+    /**
+     * Audit log store that keeps the records in memory.  It can be blocked to simulate a slow store.
+     */
+    private static class TestAuditLogStore implements OMRSAuditLogStore
+    {
+        private          List<OMRSAuditLogRecord> records  = new CopyOnWriteArrayList<>();
+        private volatile CountDownLatch           released = new CountDownLatch(0);
+
+        void block()
+        {
+            released = new CountDownLatch(1);
+        }
+
+        void release()
+        {
+            released.countDown();
+        }
+
+        List<OMRSAuditLogRecord> getRecords()
+        {
+            return records;
+        }
+
+        public String getDestinationName()
+        {
+            return "TestAuditLogStore";
+        }
+
+        public List<String> getSupportedSeverities()
+        {
+            return null;
+        }
+
+        public String storeLogRecord(OMRSAuditLogRecord logRecord)
+        {
+            try
+            {
+                released.await(10, TimeUnit.SECONDS);
+            }
+            catch (InterruptedException error)
+            {
+                Thread.currentThread().interrupt();
+            }
+
+            records.add(logRecord);
+            return logRecord.getGUID();
+        }
+
+        public OMRSAuditLogRecord getAuditLogRecord(String logRecordId)
+        {
+            return null;
+        }
+
+        public List<OMRSAuditLogRecord> getAuditLogRecordsByTimeStamp(Date startDate, Date endDate, int offset, int maximumRecords)
+        {
+            return null;
+        }
+
+        public List<OMRSAuditLogRecord> getAuditLogRecordsBySeverity(String severity, Date startDate, Date endDate, int offset, int maximumRecords)
+        {
+            return null;
+        }
+
+        public List<OMRSAuditLogRecord> getAuditLogRecordsByComponent(String component, Date startDate, Date endDate, int offset, int maximumRecords)
+        {
+            return null;
+        }
+    }
+
+
+    /**
+     * Create a log record of the requested severity.
+     *
+     * @param severity severity of the record
+     * @return log record
+     */
+    private OMRSAuditLogRecord getLogRecord(OMRSAuditLogRecordSeverity severity)
+    {
+        OMRSAuditLogRecord logRecord = new OMRSAuditLogRecord();
+
+        logRecord.setSeverityCode(severity.getOrdinal());
+        logRecord.setSeverity(severity.getName());
+
+        return logRecord;
+    }
+
+
+    /**
+     * Validate that all records are written to the store and the queue is drained on stop.
+     */
+    @Test public void testWriteAndStop()
+    {
+        TestAuditLogStore       store  = new TestAuditLogStore();
+        OMRSAuditLogStoreWriter writer = new OMRSAuditLogStoreWriter(store, 100, OMRSAuditLogOverflowPolicy.DROP_LOW_SEVERITY, "TestServer");
+
+        for (int i = 0; i < 50; i++)
+        {
+            writer.addLogRecord(getLogRecord(OMRSAuditLogRecordSeverity.INFO));
+        }
+
+        writer.stop();
+
+        assertTrue(store.getRecords().size() == 50);
+        assertTrue(writer.getQueuedRecordCount() == 0);
+        assertTrue(writer.getDroppedRecordCount() == 0);
+
+        writer.addLogRecord(getLogRecord(OMRSAuditLogRecordSeverity.INFO));
+        assertTrue(store.getRecords().size() == 51);
+    }
+
+
+    /**
+     * Validate that low severity records are dropped when the queue is full and other records are kept.
+     */
+    @Test public void testOverflow()
+    {
+        TestAuditLogStore       store  = new TestAuditLogStore();
+        OMRSAuditLogStoreWriter writer = new OMRSAuditLogStoreWriter(store, 10, OMRSAuditLogOverflowPolicy.DROP_LOW_SEVERITY, "TestServer");
+
+        store.block();
+
+        for (int i = 0; i < 30; i++)
+        {
+            writer.addLogRecord(getLogRecord(OMRSAuditLogRecordSeverity.INFO));
+        }
+
+        assertTrue(writer.getDroppedRecordCount() > 0);
+        assertTrue(writer.getQueuedRecordCount() <= 10);
+
+        store.release();
+
+        writer.addLogRecord(getLogRecord(OMRSAuditLogRecordSeverity.ERROR));
+        writer.stop();
+
+        assertTrue(store.getRecords().size() + writer.getDroppedRecordCount() == 31);
+        assertTrue(store.getRecords().get(store.getRecords().size() - 1).getSeverityCode() == OMRSAuditLogRecordSeverity.ERROR.getOrdinal());
+    }
+
+
+    /**
+     * Validate that a record that can not be discarded waits for space on a full queue so that it is written
+     * after the records queued ahead of it.
+     *
+     * @throws InterruptedException interrupted while waiting for the logging thread
+     */
+    @Test public void testBackPressure() throws InterruptedException
+    {
+        TestAuditLogStore       store  = new TestAuditLogStore();
+        OMRSAuditLogStoreWriter writer = new OMRSAuditLogStoreWriter(store, 10, OMRSAuditLogOverflowPolicy.DROP_LOW_SEVERITY, "TestServer");
+
+        store.block();
+
+        /*
+         * Wait for the writer thread to take the first record so that the next ten fill the queue.
+         */
+        writer.addLogRecord(getLogRecord(OMRSAuditLogRecordSeverity.INFO));
+        while (writer.getQueuedRecordCount() > 0)
+        {
+            Thread.sleep(10);
+        }
+
+        for (int i = 0; i < 10; i++)
+        {
+            writer.addLogRecord(getLogRecord(OMRSAuditLogRecordSeverity.INFO));
+        }
+
+        Thread loggingThread = new Thread(() -> writer.addLogRecord(getLogRecord(OMRSAuditLogRecordSeverity.ERROR)));
+        loggingThread.start();
+
+        Thread.sleep(200);
+        assertTrue(loggingThread.isAlive());
+
+        store.release();
+        loggingThread.join(5000);
+        writer.stop();
+
+        assertTrue(writer.getDroppedRecordCount() == 0);
+        assertTrue(store.getRecords().size() == 12);
+        assertTrue(store.getRecords().get(11).getSeverityCode() == OMRSAuditLogRecordSeverity.ERROR.getOrdinal());
+    }
+}
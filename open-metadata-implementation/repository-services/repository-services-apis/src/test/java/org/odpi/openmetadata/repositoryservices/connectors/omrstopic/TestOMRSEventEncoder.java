@@ -0,0 +1,84 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import org.testng.annotations.Test;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Verify that the OMRSEventEncoder only compresses large events and that compressed and JSON events
+ * can both be decoded.
+ */
+public class TestOMRSEventEncoder
+{
+    /**
+     * Build a JSON event of roughly the requested size.
+     *
+     * @param entityCount number of repeated entities in the event
+     * @return JSON string
+     */
+    private String getEvent(int entityCount)
+    {
+        StringBuilder event = new StringBuilder("{\"protocolVersionId\":\"OMRS V1.0\",\"instanceEventSection\":{\"entities\":[");
+
+        for (int i = 0; i < entityCount; i++)
+        {
+            if (i > 0)
+            {
+                event.append(",");
+            }
+
+            event.append("{\"type\":{\"typeDefName\":\"GlossaryTerm\"},\"guid\":\"guid-").append(i).append("\",\"displayName\":\"\u00e9t\u00e9\"}");
+        }
+
+        return event.append("]}}").toString();
+    }
+
+
+    /**
+     * Validate that small events are left as JSON.
+     */
+    @Test public void testSmallEvent()
+    {
+        String event = getEvent(1);
+
+        try
+        {
+            assertSame(OMRSEventEncoder.encode(event, OMRSEventEncoder.defaultCompressionThreshold), event);
+            assertSame(OMRSEventEncoder.decode(event), event);
+            assertFalse(OMRSEventEncoder.isCompressed(event));
+        }
+        catch (Exception error)
+        {
+            fail("Unexpected exception: " + error.getMessage());
+        }
+    }
+
+
+    /**
+     * Validate that large events are compressed and restored.
+     */
+    @Test public void testLargeEvent()
+    {
+        String event = getEvent(500);
+
+        try
+        {
+            String encodedEvent = OMRSEventEncoder.encode(event, OMRSEventEncoder.defaultCompressionThreshold);
+
+            assertTrue(OMRSEventEncoder.isCompressed(encodedEvent));
+            assertTrue(encodedEvent.length() < event.length() / 4);
+            assertEquals(OMRSEventEncoder.decode(encodedEvent), event);
+        }
+        catch (Exception error)
+        {
+            fail("Unexpected exception: " + error.getMessage());
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.connectors.Connector;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventOriginator;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventProtocolVersion;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEventType;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that the OMRSTopicConnector advertises that it accepts compressed events and only compresses
+ * events while every member of the cohort has advertised that it accepts them.
+ */
+public class TestOMRSTopicConnectorCompression
+{
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+
+    /**
+     * Validate that the registry events sent by the connector advertise that it accepts compressed events.
+     *
+     * @throws Exception problem sending or parsing the events
+     */
+    @Test public void testRegistrationAdvertisesCompression() throws Exception
+    {
+        RecordingEventBusConnector eventBusConnector = new RecordingEventBusConnector();
+        OMRSTopicConnector         topicConnector    = getTopicConnector(eventBusConnector, OMRSEventProtocolVersion.V1);
+
+        topicConnector.sendRegistryEvent(new OMRSRegistryEvent(OMRSRegistryEventType.REGISTRATION_EVENT,
+                                                               new Date(),
+                                                               "localCollection",
+                                                               null));
+
+        OMRSEventV1 sentEvent = objectMapper.readValue(eventBusConnector.sentEvents.get(0), OMRSEventV1.class);
+
+        assertTrue(sentEvent.getRegistryEventSection().isCompressedEventsSupported());
+    }
+
+
+    /**
+     * Validate that events are only compressed while every known member of the cohort accepts them.
+     *
+     * @throws Exception problem sending or parsing the events
+     */
+    @Test public void testCompressionFollowsMembers() throws Exception
+    {
+        RecordingEventBusConnector eventBusConnector = new RecordingEventBusConnector();
+        OMRSTopicConnector         topicConnector    = getTopicConnector(eventBusConnector, OMRSEventProtocolVersion.V1_COMPRESSED);
+
+        /*
+         * No members are known yet.
+         */
+        topicConnector.sendInstanceEvent(getLargeEvent());
+        assertFalse(OMRSEventEncoder.isCompressed(eventBusConnector.getLastEvent()));
+
+        topicConnector.processEvent(getRegistryEvent(OMRSRegistryEventType.REGISTRATION_EVENT, "member1", true));
+        topicConnector.processEvent(getRegistryEvent(OMRSRegistryEventType.RE_REGISTRATION_EVENT, "member2", true));
+
+        topicConnector.sendInstanceEvent(getLargeEvent());
+        assertTrue(OMRSEventEncoder.isCompressed(eventBusConnector.getLastEvent()));
+
+        /*
+         * A member from an earlier release does not advertise that it accepts compressed events.
+         */
+        topicConnector.processEvent(getRegistryEvent(OMRSRegistryEventType.REGISTRATION_EVENT, "member3", false));
+
+        topicConnector.sendInstanceEvent(getLargeEvent());
+        assertFalse(OMRSEventEncoder.isCompressed(eventBusConnector.getLastEvent()));
+
+        topicConnector.processEvent(getRegistryEvent(OMRSRegistryEventType.UN_REGISTRATION_EVENT, "member3", false));
+
+        topicConnector.sendInstanceEvent(getLargeEvent());
+        assertTrue(OMRSEventEncoder.isCompressed(eventBusConnector.getLastEvent()));
+    }
+
+
+    /**
+     * Validate that the V1 protocol never compresses events, even if every member accepts them.
+     *
+     * @throws Exception problem sending or parsing the events
+     */
+    @Test public void testV1NotCompressed() throws Exception
+    {
+        RecordingEventBusConnector eventBusConnector = new RecordingEventBusConnector();
+        OMRSTopicConnector         topicConnector    = getTopicConnector(eventBusConnector, OMRSEventProtocolVersion.V1);
+
+        topicConnector.processEvent(getRegistryEvent(OMRSRegistryEventType.REGISTRATION_EVENT, "member1", true));
+
+        topicConnector.sendInstanceEvent(getLargeEvent());
+        assertFalse(OMRSEventEncoder.isCompressed(eventBusConnector.getLastEvent()));
+        assertEquals(eventBusConnector.sentEvents.size(), 1);
+    }
+
+
+    private OMRSTopicConnector getTopicConnector(RecordingEventBusConnector eventBusConnector,
+                                                 OMRSEventProtocolVersion   protocolVersion) throws Exception
+    {
+        OMRSTopicConnector topicConnector = new OMRSTopicConnector();
+        List<Connector>    embeddedConnectors = new ArrayList<>();
+
+        embeddedConnectors.add(eventBusConnector);
+
+        topicConnector.initialize("testConnector", new ConnectionProperties(new Connection()));
+        topicConnector.setAuditLog(new AuditLog(null, 0, "TestTopicConnector", "Test", null));
+        topicConnector.initializeEmbeddedConnectors(embeddedConnectors);
+        topicConnector.setEventProtocolLevel(protocolVersion);
+        topicConnector.start();
+
+        return topicConnector;
+    }
+
+
+    private String getRegistryEvent(OMRSRegistryEventType registryEventType,
+                                    String                metadataCollectionId,
+                                    boolean               compressedEventsSupported) throws Exception
+    {
+        OMRSRegistryEvent   registryEvent = new OMRSRegistryEvent(registryEventType, new Date(), metadataCollectionId, null);
+        OMRSEventOriginator originator    = new OMRSEventOriginator();
+
+        originator.setMetadataCollectionId(metadataCollectionId);
+        registryEvent.setEventOriginator(originator);
+
+        OMRSEventV1 event = registryEvent.getOMRSEventV1();
+
+        event.getRegistryEventSection().setCompressedEventsSupported(compressedEventsSupported);
+
+        return objectMapper.writeValueAsString(event);
+    }
+
+
+    private OMRSInstanceEvent getLargeEvent()
+    {
+        List<TypeDefLink> superTypes = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++)
+        {
+            TypeDefLink superType = new TypeDefLink();
+            superType.setName("SuperType" + i);
+            superTypes.add(superType);
+        }
+
+        InstanceType instanceType = new InstanceType();
+        instanceType.setTypeDefName("DataFile");
+        instanceType.setTypeDefSuperTypes(superTypes);
+
+        EntityDetail entity = new EntityDetail();
+        entity.setGUID("guid1");
+        entity.setType(instanceType);
+
+        return new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, entity);
+    }
+
+
+    /**
+     * Event bus connector that records the events sent to it.
+     */
+    private static class RecordingEventBusConnector extends OpenMetadataTopicConnector
+    {
+        private final List<String> sentEvents = Collections.synchronizedList(new ArrayList<>());
+
+
+        @Override
+        public void start()
+        {
+        }
+
+
+        @Override
+        public void sendEvent(String event)
+        {
+            sentEvents.add(event);
+        }
+
+
+        String getLastEvent()
+        {
+            return sentEvents.get(sentEvents.size() - 1);
+        }
+    }
+}
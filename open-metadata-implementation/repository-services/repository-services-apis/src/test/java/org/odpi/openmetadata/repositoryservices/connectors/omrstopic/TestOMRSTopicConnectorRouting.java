@@ -0,0 +1,265 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSTypeDefEventType;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Verify that the OMRSTopicConnector passes each event only to the listeners whose filters match it.
+ */
+public class TestOMRSTopicConnectorRouting
+{
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+
+    /**
+     * Validate that instance events are routed by event type and by the instance's type and super types.
+     *
+     * @throws Exception problem formatting the events
+     */
+    @Test public void testInstanceTypeRouting() throws Exception
+    {
+        OMRSTopicConnector topicConnector   = getTopicConnector();
+        RecordingListener  assetListener    = new RecordingListener();
+        RecordingListener  newEventListener = new RecordingListener();
+
+        topicConnector.registerListener(assetListener,
+                                        "AssetService",
+                                        new OMRSTopicListenerFilter(null, Collections.singletonList("Asset")));
+        topicConnector.registerListener(newEventListener,
+                                        "NewEventService",
+                                        new OMRSTopicListenerFilter(Collections.singletonList(OMRSInstanceEventType.NEW_ENTITY_EVENT), null));
+
+        topicConnector.processEvent(getEvent(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT,
+                                                                   getEntity("guid1", "DataFile", "Asset"))));
+        topicConnector.processEvent(getEvent(new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT,
+                                                                   getEntity("guid1", "DataFile", "Asset"),
+                                                                   getEntity("guid1", "DataFile", "Asset"))));
+        topicConnector.processEvent(getEvent(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT,
+                                                                   getEntity("guid2", "GlossaryTerm", "Referenceable"))));
+
+        assertEquals(assetListener.getEventTypes(), Arrays.asList(OMRSInstanceEventType.NEW_ENTITY_EVENT,
+                                                                  OMRSInstanceEventType.UPDATED_ENTITY_EVENT));
+        assertEquals(newEventListener.getEventTypes(), Arrays.asList(OMRSInstanceEventType.NEW_ENTITY_EVENT,
+                                                                     OMRSInstanceEventType.NEW_ENTITY_EVENT));
+    }
+
+
+    /**
+     * Validate that purge events, which only carry the name of the instance's type, reach the listeners
+     * interested in one of its super types.
+     *
+     * @throws Exception problem formatting the events
+     */
+    @Test public void testPurgeEventRouting() throws Exception
+    {
+        OMRSTopicConnector topicConnector = getTopicConnector();
+        RecordingListener  assetListener  = new RecordingListener();
+        RecordingListener  termListener   = new RecordingListener();
+
+        topicConnector.registerListener(assetListener,
+                                        "AssetService",
+                                        new OMRSTopicListenerFilter(null, Collections.singletonList("Asset")));
+        topicConnector.registerListener(termListener,
+                                        "TermService",
+                                        new OMRSTopicListenerFilter(null, Collections.singletonList("GlossaryTerm")));
+
+        /*
+         * The super types of DataFile are not known yet so the purge event goes to both listeners.
+         */
+        topicConnector.processEvent(getEvent(new OMRSInstanceEvent(OMRSInstanceEventType.PURGED_ENTITY_EVENT,
+                                                                   "typeGUID",
+                                                                   "DataFile",
+                                                                   "guid1")));
+
+        assertEquals(assetListener.getEventTypes().size(), 1);
+        assertEquals(termListener.getEventTypes().size(), 1);
+
+        /*
+         * Once an event with the full type has been seen, purge events are routed on the super types.
+         */
+        topicConnector.processEvent(getEvent(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT,
+                                                                   getEntity("guid2", "DataFile", "Asset"))));
+        topicConnector.processEvent(getEvent(new OMRSInstanceEvent(OMRSInstanceEventType.PURGED_ENTITY_EVENT,
+                                                                   "typeGUID",
+                                                                   "DataFile",
+                                                                   "guid2")));
+
+        assertEquals(assetListener.getEventTypes(), Arrays.asList(OMRSInstanceEventType.PURGED_ENTITY_EVENT,
+                                                                  OMRSInstanceEventType.NEW_ENTITY_EVENT,
+                                                                  OMRSInstanceEventType.PURGED_ENTITY_EVENT));
+        assertEquals(termListener.getEventTypes(), Collections.singletonList(OMRSInstanceEventType.PURGED_ENTITY_EVENT));
+    }
+
+
+    /**
+     * Validate that a type event only discards the remembered super types of the changed type and its subtypes.
+     *
+     * @throws Exception problem formatting the events
+     */
+    @Test public void testTypeEventRemovesChangedTypeRoutes() throws Exception
+    {
+        OMRSTopicConnector topicConnector = getTopicConnector();
+        RecordingListener  assetListener  = new RecordingListener();
+        RecordingListener  termListener   = new RecordingListener();
+
+        topicConnector.registerListener(assetListener,
+                                        "AssetService",
+                                        new OMRSTopicListenerFilter(null, Collections.singletonList("Asset")));
+        topicConnector.registerListener(termListener,
+                                        "TermService",
+                                        new OMRSTopicListenerFilter(null, Collections.singletonList("GlossaryTerm")));
+
+        topicConnector.processEvent(getEvent(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT,
+                                                                   getEntity("guid1", "DataFile", "Asset"))));
+
+        /*
+         * A change to an unrelated type keeps the routes for DataFile.
+         */
+        topicConnector.processEvent(getEvent(new OMRSTypeDefEvent(OMRSTypeDefEventType.DELETED_TYPEDEF_EVENT,
+                                                                  "typeGUID",
+                                                                  "GlossaryTerm")));
+        topicConnector.processEvent(getEvent(new OMRSInstanceEvent(OMRSInstanceEventType.PURGED_ENTITY_EVENT,
+                                                                   "typeGUID",
+                                                                   "DataFile",
+                                                                   "guid1")));
+
+        assertEquals(assetListener.getEventTypes(), Arrays.asList(OMRSInstanceEventType.NEW_ENTITY_EVENT,
+                                                                  OMRSInstanceEventType.PURGED_ENTITY_EVENT));
+        assertEquals(termListener.getEventTypes(), Collections.emptyList());
+
+        /*
+         * A change to a super type of DataFile means its super types are no longer known.
+         */
+        topicConnector.processEvent(getEvent(new OMRSTypeDefEvent(OMRSTypeDefEventType.DELETED_TYPEDEF_EVENT,
+                                                                  "typeGUID",
+                                                                  "Asset")));
+        topicConnector.processEvent(getEvent(new OMRSInstanceEvent(OMRSInstanceEventType.PURGED_ENTITY_EVENT,
+                                                                   "typeGUID",
+                                                                   "DataFile",
+                                                                   "guid1")));
+
+        assertEquals(assetListener.getEventTypes().size(), 3);
+        assertEquals(termListener.getEventTypes(), Collections.singletonList(OMRSInstanceEventType.PURGED_ENTITY_EVENT));
+    }
+
+
+    /**
+     * Validate that the routes for a type follow the super types carried by the latest event for the type.
+     *
+     * @throws Exception problem formatting the events
+     */
+    @Test public void testSuperTypesRefreshed() throws Exception
+    {
+        OMRSTopicConnector topicConnector = getTopicConnector();
+        RecordingListener  assetListener  = new RecordingListener();
+
+        topicConnector.registerListener(assetListener,
+                                        "AssetService",
+                                        new OMRSTopicListenerFilter(null, Collections.singletonList("Asset")));
+
+        topicConnector.processEvent(getEvent(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT,
+                                                                   getEntity("guid1", "DataFile", "Referenceable"))));
+
+        assertEquals(assetListener.getEventTypes(), Collections.emptyList());
+
+        topicConnector.processEvent(getEvent(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT,
+                                                                   getEntity("guid2", "DataFile", "Asset"))));
+        topicConnector.processEvent(getEvent(new OMRSInstanceEvent(OMRSInstanceEventType.PURGED_ENTITY_EVENT,
+                                                                   "typeGUID",
+                                                                   "DataFile",
+                                                                   "guid2")));
+
+        assertEquals(assetListener.getEventTypes(), Arrays.asList(OMRSInstanceEventType.NEW_ENTITY_EVENT,
+                                                                  OMRSInstanceEventType.PURGED_ENTITY_EVENT));
+    }
+
+
+    private OMRSTopicConnector getTopicConnector()
+    {
+        OMRSTopicConnector topicConnector = new OMRSTopicConnector();
+
+        topicConnector.setAuditLog(new AuditLog(null, 0, "TestTopicConnector", "Test", null));
+
+        return topicConnector;
+    }
+
+
+    private String getEvent(OMRSInstanceEvent instanceEvent) throws Exception
+    {
+        return objectMapper.writeValueAsString(instanceEvent.getOMRSEventV1());
+    }
+
+
+    private String getEvent(OMRSTypeDefEvent typeDefEvent) throws Exception
+    {
+        return objectMapper.writeValueAsString(typeDefEvent.getOMRSEventV1());
+    }
+
+
+    private EntityDetail getEntity(String guid,
+                                   String typeName,
+                                   String superTypeName)
+    {
+        TypeDefLink superType = new TypeDefLink();
+        superType.setName(superTypeName);
+
+        InstanceType instanceType = new InstanceType();
+        instanceType.setTypeDefName(typeName);
+        instanceType.setTypeDefSuperTypes(Collections.singletonList(superType));
+
+        EntityDetail entity = new EntityDetail();
+        entity.setGUID(guid);
+        entity.setType(instanceType);
+
+        return entity;
+    }
+
+
+    /**
+     * Listener that records the types of the instance events it receives.
+     */
+    private static class RecordingListener implements OMRSTopicListener
+    {
+        private final List<OMRSInstanceEventType> eventTypes = new ArrayList<>();
+
+        @Override
+        public void processRegistryEvent(OMRSRegistryEvent event)
+        {
+        }
+
+        @Override
+        public void processTypeDefEvent(OMRSTypeDefEvent event)
+        {
+        }
+
+        @Override
+        public synchronized void processInstanceEvent(OMRSInstanceEvent event)
+        {
+            eventTypes.add(event.getInstanceEventType());
+        }
+
+        synchronized List<OMRSInstanceEventType> getEventTypes()
+        {
+            return new ArrayList<>(eventTypes);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.repositoryservices.connectors.omrstopic;
+
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventCategory;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Verify that the OMRSTopicListenerFilter matches the events that it describes.
+ */
+public class TestOMRSTopicListenerFilter
+{
+    /**
+     * Validate that a filter with no restrictions matches every event.
+     */
+    @Test public void testNullFilter()
+    {
+        OMRSTopicListenerFilter filter = new OMRSTopicListenerFilter(null, null, null);
+
+        assertTrue(filter.isInterestedInCategory(OMRSEventCategory.REGISTRY));
+        assertTrue(filter.isInterestedInCategory(OMRSEventCategory.TYPEDEF));
+        assertTrue(filter.isInterestedInCategory(OMRSEventCategory.INSTANCE));
+        assertTrue(filter.isInterestedInInstanceEventType(OMRSInstanceEventType.PURGED_ENTITY_EVENT));
+        assertTrue(filter.isInterestedInTypes(Collections.singletonList("Referenceable")));
+    }
+
+
+    /**
+     * Validate the filter for instance events only.
+     */
+    @Test public void testInstanceEvents()
+    {
+        OMRSTopicListenerFilter filter = OMRSTopicListenerFilter.INSTANCE_EVENTS;
+
+        assertFalse(filter.isInterestedInCategory(OMRSEventCategory.REGISTRY));
+        assertFalse(filter.isInterestedInCategory(OMRSEventCategory.TYPEDEF));
+        assertTrue(filter.isInterestedInCategory(OMRSEventCategory.INSTANCE));
+        assertTrue(filter.isInterestedInInstanceEventType(OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT));
+        assertTrue(filter.isInterestedInTypes(Collections.singletonList("Referenceable")));
+    }
+
+
+    /**
+     * Validate that event types and type names (including super types) are matched.
+     */
+    @Test public void testInstanceTypes()
+    {
+        OMRSTopicListenerFilter filter = new OMRSTopicListenerFilter(Arrays.asList(OMRSInstanceEventType.NEW_ENTITY_EVENT,
+                                                                                   OMRSInstanceEventType.UPDATED_ENTITY_EVENT),
+                                                                     Collections.singletonList("Asset"));
+
+        assertTrue(filter.isInterestedInCategory(OMRSEventCategory.INSTANCE));
+        assertFalse(filter.isInterestedInCategory(OMRSEventCategory.TYPEDEF));
+
+        assertTrue(filter.isInterestedInInstanceEventType(OMRSInstanceEventType.NEW_ENTITY_EVENT));
+        assertFalse(filter.isInterestedInInstanceEventType(OMRSInstanceEventType.DELETED_ENTITY_EVENT));
+        assertFalse(filter.isInterestedInInstanceEventType(null));
+
+        assertTrue(filter.isInterestedInTypes(Arrays.asList("DataFile", "DataStore", "Asset", "Referenceable")));
+        assertFalse(filter.isInterestedInTypes(Arrays.asList("GlossaryTerm", "Referenceable")));
+        assertTrue(filter.isInterestedInTypes(null));
+    }
+
+
+    /**
+     * Validate that an empty list of categories excludes all events.
+     */
+    @Test public void testNoCategories()
+    {
+        OMRSTopicListenerFilter filter = new OMRSTopicListenerFilter(Collections.emptyList());
+
+        assertFalse(filter.isInterestedInCategory(OMRSEventCategory.INSTANCE));
+        assertFalse(filter.isInterestedInCategory(OMRSEventCategory.REGISTRY));
+    }
+
+
+    /**
+     * Validate equals and hashCode.
+     */
+    @Test public void testEquals()
+    {
+        OMRSTopicListenerFilter filter = new OMRSTopicListenerFilter(Collections.singletonList(OMRSEventCategory.INSTANCE));
+
+        assertTrue(filter.equals(OMRSTopicListenerFilter.INSTANCE_EVENTS));
+        assertTrue(filter.hashCode() == OMRSTopicListenerFilter.INSTANCE_EVENTS.hashCode());
+        assertFalse(filter.equals(new OMRSTopicListenerFilter(null)));
+        assertTrue(filter.toString().contains("OMRSTopicListenerFilter"));
+    }
+}
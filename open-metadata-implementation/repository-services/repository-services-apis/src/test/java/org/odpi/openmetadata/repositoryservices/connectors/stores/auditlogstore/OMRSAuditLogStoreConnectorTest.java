@@ -2,10 +2,20 @@
 /* Copyright Contributors to the ODPi Egeria project. */
 package org.odpi.openmetadata.repositoryservices.connectors.stores.auditlogstore;
 
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditLogOverflowPolicy;
 import org.testng.annotations.Test;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
 /**
- * OMRSAuditLogStoreConnectorTest just tests the null constructor.
+ * OMRSAuditLogStoreConnectorTest tests the null constructor and the configuration properties of the queue
+ * for the audit log store.
  */
 public class OMRSAuditLogStoreConnectorTest
 {
@@ -13,4 +23,33 @@ public class OMRSAuditLogStoreConnectorTest
    {
        new MockOMRSAuditLogStoreConnectorBase();
    }
+
+
+   /**
+    * Validate that the queue capacity and overflow policy are taken from the configuration properties.
+    */
+   @Test public void testQueueConfiguration()
+   {
+       MockOMRSAuditLogStoreConnectorBase connector = new MockOMRSAuditLogStoreConnectorBase();
+
+       connector.initialize("testConnector", new ConnectionProperties(new Connection()));
+
+       assertEquals(connector.getQueueCapacity(), 0);
+       assertNull(connector.getOverflowPolicy());
+
+       Map<String, Object> configurationProperties = new HashMap<>();
+
+       configurationProperties.put(OMRSAuditLogStoreProviderBase.queueCapacityProperty, 500);
+       configurationProperties.put(OMRSAuditLogStoreProviderBase.overflowPolicyProperty, "SampleLowSeverity");
+
+       Connection connection = new Connection();
+
+       connection.setConfigurationProperties(configurationProperties);
+
+       connector = new MockOMRSAuditLogStoreConnectorBase();
+       connector.initialize("testConnector", new ConnectionProperties(connection));
+
+       assertEquals(connector.getQueueCapacity(), 500);
+       assertEquals(connector.getOverflowPolicy(), OMRSAuditLogOverflowPolicy.SAMPLE_LOW_SEVERITY);
+   }
 }
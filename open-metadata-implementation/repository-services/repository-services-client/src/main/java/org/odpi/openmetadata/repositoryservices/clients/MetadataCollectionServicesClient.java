@@ -1188,6 +1188,86 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
     }
 
 
+    /**
+     * Return the header and classifications for each of the requested entities.  The returned entity summaries
+     * may be from full entity objects or entity proxies.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids  list of unique identifiers for the entities.
+     * @return list of entities in the order requested.  Unknown entities are omitted.  Null means none are known.
+     * @throws InvalidParameterException  one of the guids is null.
+     * @throws RepositoryErrorException   there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @throws FunctionNotSupportedException the remote server does not support this request.
+     */
+    public List<EntitySummary> getEntitySummaries(String       userId,
+                                                  List<String> guids) throws InvalidParameterException,
+                                                                             RepositoryErrorException,
+                                                                             UserNotAuthorizedException,
+                                                                             FunctionNotSupportedException
+    {
+        final String methodName  = "getEntitySummaries";
+        final String operationSpecificURL = "instances/entities/by-guids/summary";
+
+        InstanceGUIDListRequest requestBody = new InstanceGUIDListRequest();
+        requestBody.setGUIDs(guids);
+
+        EntitySummaryListResponse restResult = this.callOptionalPostRESTCall(methodName,
+                                                                             EntitySummaryListResponse.class,
+                                                                             restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                             requestBody,
+                                                                             userId);
+
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getEntities();
+    }
+
+
+    /**
+     * Return the header, classifications and properties of each of the requested entities.  Entities that are
+     * only known as proxies are omitted.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids  list of unique identifiers for the entities.
+     * @return list of entities in the order requested.  Unknown entities are omitted.  Null means none are known.
+     * @throws InvalidParameterException  one of the guids is null.
+     * @throws RepositoryErrorException   there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @throws FunctionNotSupportedException the remote server does not support this request.
+     */
+    public List<EntityDetail> getEntityDetails(String       userId,
+                                               List<String> guids) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          UserNotAuthorizedException,
+                                                                          FunctionNotSupportedException
+    {
+        final String methodName  = "getEntityDetails";
+        final String operationSpecificURL = "instances/entities/by-guids";
+
+        InstanceGUIDListRequest requestBody = new InstanceGUIDListRequest();
+        requestBody.setGUIDs(guids);
+
+        EntityListResponse restResult = this.callOptionalPostRESTCall(methodName,
+                                                                      EntityListResponse.class,
+                                                                      restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                      requestBody,
+                                                                      userId);
+
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getEntities();
+    }
+
+
     /**
      * Return a historical version of an entity includes the header, classifications and properties of the entity.
      *
@@ -1910,6 +1990,45 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
     }
 
 
+    /**
+     * Return each of the requested relationships.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids  list of unique identifiers for the relationships.
+     * @return list of relationships in the order requested.  Unknown relationships are omitted.  Null means none are known.
+     * @throws InvalidParameterException  one of the guids is null.
+     * @throws RepositoryErrorException   there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @throws FunctionNotSupportedException the remote server does not support this request.
+     */
+    public List<Relationship> getRelationships(String       userId,
+                                               List<String> guids) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          UserNotAuthorizedException,
+                                                                          FunctionNotSupportedException
+    {
+        final String methodName  = "getRelationships";
+        final String operationSpecificURL = "instances/relationships/by-guids";
+
+        InstanceGUIDListRequest requestBody = new InstanceGUIDListRequest();
+        requestBody.setGUIDs(guids);
+
+        RelationshipListResponse restResult = this.callOptionalPostRESTCall(methodName,
+                                                                            RelationshipListResponse.class,
+                                                                            restURLRoot + rootServiceNameInURL + userIdInURL + serviceURLMarker + operationSpecificURL,
+                                                                            requestBody,
+                                                                            userId);
+
+        this.detectAndThrowFunctionNotSupportedException(methodName, restResult);
+        this.detectAndThrowInvalidParameterException(methodName, restResult);
+        this.detectAndThrowUserNotAuthorizedException(methodName, restResult);
+        this.detectAndThrowRepositoryErrorException(methodName, restResult);
+
+        return restResult.getRelationships();
+    }
+
+
     /**
      * Return a historical version of a relationship.
      *
@@ -5467,6 +5586,90 @@ public abstract class MetadataCollectionServicesClient implements AuditLoggingCo
     }
 
 
+    /**
+     * Issue a POST REST call for a request that was added to the REST API after the first release.  Servers at
+     * an earlier level do not recognize the URL, which is reported as FunctionNotSupportedException so the caller
+     * can use other requests.  All other errors are reported as RepositoryErrorException.
+     *
+     * @param <T> class name
+     * @param methodName name of the method being called
+     * @param returnClass class name of response object
+     * @param operationSpecificURL template of the URL for the REST API call with place-holders for the parameters
+     * @param request request body object
+     * @param params a list of parameters that are slotted into the url template
+     * @return response object
+     * @throws FunctionNotSupportedException the remote server does not provide this REST API call.
+     * @throws RepositoryErrorException something went wrong with the REST call stack.
+     */
+    private <T> T callOptionalPostRESTCall(String    methodName,
+                                           Class<T>  returnClass,
+                                           String    operationSpecificURL,
+                                           Object    request,
+                                           Object... params) throws FunctionNotSupportedException,
+                                                                    RepositoryErrorException
+    {
+        try
+        {
+            return restClient.callPostRESTCall(methodName,
+                                               returnClass,
+                                               operationSpecificURL,
+                                               request,
+                                               params);
+        }
+        catch (Throwable error)
+        {
+            if (isUnknownRequest(error))
+            {
+                throw new FunctionNotSupportedException(OMRSErrorCode.REMOTE_REQUEST_NOT_SUPPORTED.getMessageDefinition(methodName,
+                                                                                                                       repositoryName,
+                                                                                                                       error.getMessage()),
+                                                        this.getClass().getName(),
+                                                        methodName,
+                                                        error);
+            }
+
+            throw new RepositoryErrorException(OMRSErrorCode.CLIENT_SIDE_REST_API_ERROR.getMessageDefinition(methodName,
+                                                                                                             repositoryName,
+                                                                                                             error.getMessage()),
+                                               this.getClass().getName(),
+                                               methodName,
+                                               error);
+        }
+    }
+
+
+    /**
+     * Determine whether a REST call failed because the server does not recognize the URL.  The REST client
+     * connector wraps the HTTP client's exception, whose message starts with the HTTP status code.
+     *
+     * @param error exception from the REST client connector
+     * @return true if the server returned 404 (not found) or 405 (method not allowed)
+     */
+    private boolean isUnknownRequest(Throwable error)
+    {
+        Throwable cause = error;
+
+        while (cause != null)
+        {
+            String message = cause.getMessage();
+
+            if ((message != null) && ((message.startsWith("404")) || (message.startsWith("405"))))
+            {
+                return true;
+            }
+
+            if (cause.getCause() == cause)
+            {
+                break;
+            }
+
+            cause = cause.getCause();
+        }
+
+        return false;
+    }
+
+
     /*
      * ============================================
      * Extracting complex types from REST results
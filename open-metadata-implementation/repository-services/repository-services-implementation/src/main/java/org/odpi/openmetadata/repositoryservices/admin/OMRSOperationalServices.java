@@ -86,6 +86,9 @@ public class OMRSOperationalServices
     private OMRSEnterpriseConnectorManager enterpriseConnectorManager       = null;
     private String                         enterpriseMetadataCollectionId   = null;
     private String                         enterpriseMetadataCollectionName = null;
+    private int                            federatedTraversalResultBudget   = 0;
+    private long                           federatedTraversalTimeout        = 0;
+    private int                            federatedTraversalMaxLevels      = 0;
     private OMRSTopicConnector             enterpriseOMRSTopicConnector     = null;
     private LocalOMRSRepositoryConnector   localRepositoryConnector         = null;
     private OMRSArchiveManager             archiveManager                   = null;
@@ -169,6 +172,9 @@ public class OMRSOperationalServices
 
                 omrsRepositoryConnector.setCallingServiceName(callingServiceName);
                 omrsRepositoryConnector.setMaxPageSize(maxPageSize);
+                omrsRepositoryConnector.setFederatedTraversalLimits(federatedTraversalResultBudget,
+                                                                    federatedTraversalTimeout,
+                                                                    federatedTraversalMaxLevels);
 
                 auditLog.logMessage(actionDescription, OMRSAuditCode.NEW_ENTERPRISE_CONNECTOR.getMessageDefinition(callingServiceName));
 
@@ -391,6 +397,12 @@ public class OMRSOperationalServices
                                                                                     enterpriseOMRSTopicConnector,
                                                                                     auditLog.createNewAuditLog(OMRSAuditingComponent.EVENT_PUBLISHER));
 
+                /*
+                 * An event mapper may send batch instances events; the access services' listeners only process
+                 * individual instance events.
+                 */
+                enterpriseEventPublisher.setUnpackInstanceBatches(true);
+
                 this.localRepositoryEventManager.registerRepositoryEventProcessor(enterpriseEventPublisher);
             }
 
@@ -677,6 +689,9 @@ public class OMRSOperationalServices
              */
             enterpriseMetadataCollectionId = enterpriseAccessConfig.getEnterpriseMetadataCollectionId();
             enterpriseMetadataCollectionName = enterpriseAccessConfig.getEnterpriseMetadataCollectionName();
+            federatedTraversalResultBudget = enterpriseAccessConfig.getFederatedTraversalResultBudget();
+            federatedTraversalTimeout = enterpriseAccessConfig.getFederatedTraversalTimeout();
+            federatedTraversalMaxLevels = enterpriseAccessConfig.getFederatedTraversalMaxLevels();
         }
 
         return enterpriseConnectorManager;
@@ -923,6 +938,14 @@ public class OMRSOperationalServices
 
         auditLog.logMessage(actionDescription, OMRSAuditCode.OMRS_DISCONNECTED.getMessageDefinition());
 
+        /*
+         * Write out any queued audit log records.
+         */
+        if (auditLogDestination != null)
+        {
+            auditLogDestination.disconnect();
+        }
+
         return true;
     }
 
@@ -4,6 +4,7 @@ package org.odpi.openmetadata.repositoryservices.archivemanager;
 
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
 import org.odpi.openmetadata.opentypes.OpenMetadataTypesArchive;
+import org.odpi.openmetadata.opentypes.OpenMetadataTypesArchiveSnapshot;
 
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.odpi.openmetadata.repositoryservices.auditlog.OMRSAuditingComponent;
@@ -132,8 +133,23 @@ public class OMRSArchiveManager
      */
     private void processOpenMetadataTypes()
     {
+        final String actionDescription = "Load open metadata types";
+
         OpenMetadataTypesArchive openMetadataTypesArchive = new OpenMetadataTypesArchive();
-        OpenMetadataArchive      openMetadataTypes        = openMetadataTypesArchive.getOpenMetadataArchive();
+
+        /*
+         * The snapshot generated when the types module was built is loaded in one step.  If it is not valid, the
+         * types are built in code.
+         */
+        OpenMetadataArchive      openMetadataTypes        = OpenMetadataTypesArchiveSnapshot.getOpenMetadataArchive();
+
+        if (openMetadataTypes == null)
+        {
+            auditLog.logMessage(actionDescription,
+                                OMRSAuditCode.NO_TYPES_ARCHIVE_SNAPSHOT.getMessageDefinition(openMetadataTypesArchive.getArchiveVersion()));
+
+            openMetadataTypes = openMetadataTypesArchive.getOpenMetadataArchive();
+        }
 
         repositoryContentManager.setOpenMetadataTypesOriginGUID(openMetadataTypesArchive.getArchiveGUID());
         processOpenMetadataArchive(openMetadataTypes, "Open Metadata Types", repositoryContentManager, localInstanceEventProcessor);
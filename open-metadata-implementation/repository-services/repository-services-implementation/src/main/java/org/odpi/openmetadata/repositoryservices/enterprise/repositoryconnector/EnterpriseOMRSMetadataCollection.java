@@ -8,12 +8,15 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.EntityDetailPage;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.RelationshipPage;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.*;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.FederatedGraphTraversal;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.FederationControl;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.ParallelFederationControl;
 import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.SequentialFederationControl;
@@ -23,6 +26,7 @@ import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.*;
 
 import java.util.*;
+import java.util.function.Predicate;
 
 
 /**
@@ -1082,6 +1086,122 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return the header and classifications for each of the requested entities.  Each repository in the
+     * cohort is asked for the whole list and the latest version of each entity is returned.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of entity summaries in the order requested.  Entities that are not known are omitted.
+     * Null means none of the entities are known.
+     * @throws InvalidParameterException one of the guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntitySummary> getEntitySummaries(String       userId,
+                                                  List<String> guids) throws InvalidParameterException,
+                                                                             RepositoryErrorException,
+                                                                             UserNotAuthorizedException
+    {
+        final String  methodName = "getEntitySummaries";
+
+        /*
+         * Validate parameters
+         */
+        super.getInstancesParameterValidation(userId, guids, methodName);
+
+        if (guids == null)
+        {
+            return null;
+        }
+
+        /*
+         * Validation complete, ok to continue with request
+         *
+         * The list of cohort connectors are retrieved for each request to ensure that any changes in
+         * the shape of the cohort are reflected immediately.
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        FederationControl          federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        GetEntitySummariesExecutor executor          = new GetEntitySummariesExecutor(userId,
+                                                                                      guids,
+                                                                                      localMetadataCollectionId,
+                                                                                      auditLog,
+                                                                                      repositoryValidator,
+                                                                                      methodName);
+
+        /*
+         * Ready to process the request.  Get requests are issued to every repository and the results are combined.
+         * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
+         * there are no positive results from any repository.
+         */
+        federationControl.executeCommand(executor);
+
+        return super.getInstancesInRequestOrder(guids, this.getInstanceMap(executor.getResults()));
+    }
+
+
+    /**
+     * Return the header, classifications and properties for each of the requested entities.  Each repository
+     * in the cohort is asked for the whole list and the latest version of each entity is returned.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return list of entities in the order requested.  Entities that are not known, or are only known as
+     * proxies, are omitted.  Null means none of the entities are known.
+     * @throws InvalidParameterException one of the guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntityDetail> getEntityDetails(String       userId,
+                                               List<String> guids) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          UserNotAuthorizedException
+    {
+        final String  methodName = "getEntityDetails";
+
+        /*
+         * Validate parameters
+         */
+        super.getInstancesParameterValidation(userId, guids, methodName);
+
+        if (guids == null)
+        {
+            return null;
+        }
+
+        /*
+         * Validation complete, ok to continue with request
+         *
+         * The list of cohort connectors are retrieved for each request to ensure that any changes in
+         * the shape of the cohort are reflected immediately.
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        FederationControl   federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        GetEntitiesExecutor executor          = new GetEntitiesExecutor(userId,
+                                                                        guids,
+                                                                        localMetadataCollectionId,
+                                                                        auditLog,
+                                                                        repositoryValidator,
+                                                                        methodName);
+
+        /*
+         * Ready to process the request.  Get requests are issued to every repository and the results are combined.
+         * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
+         * there are no positive results from any repository.
+         */
+        federationControl.executeCommand(executor);
+
+        return super.getInstancesInRequestOrder(guids, this.getInstanceMap(executor.getResults(enterpriseParentConnector, this)));
+    }
+
+
     /**
      * Return the relationships for a specific entity.
      *
@@ -1301,6 +1421,72 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return the entities whose value for a unique string property (such as qualifiedName) is exactly the
+     * supplied value.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param propertyName name of the unique property.
+     * @param propertyValue exact value of the property.
+     * @return a list of entities matching the supplied value; null means no matching entities in the metadata
+     * collection.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the property is not valid for the requested type of entity.
+     * @throws FunctionNotSupportedException the repository does not support this call.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<EntityDetail> findEntitiesByUniquePropertyValue(String userId,
+                                                                String entityTypeGUID,
+                                                                String propertyName,
+                                                                String propertyValue) throws InvalidParameterException,
+                                                                                             RepositoryErrorException,
+                                                                                             TypeErrorException,
+                                                                                             PropertyErrorException,
+                                                                                             FunctionNotSupportedException,
+                                                                                             UserNotAuthorizedException
+    {
+        final String  methodName = "findEntitiesByUniquePropertyValue";
+
+        /*
+         * Validate parameters
+         */
+        super.findEntitiesByUniquePropertyValueParameterValidation(userId, entityTypeGUID, propertyName, propertyValue, methodName);
+
+        /*
+         * Validation complete, ok to continue with request
+         *
+         * The list of cohort connectors are retrieved for each request to ensure that any changes in
+         * the shape of the cohort are reflected immediately.
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        FederationControl                         federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FindEntitiesByUniquePropertyValueExecutor executor          = new FindEntitiesByUniquePropertyValueExecutor(userId,
+                                                                                                                    entityTypeGUID,
+                                                                                                                    propertyName,
+                                                                                                                    propertyValue,
+                                                                                                                    localMetadataCollectionId,
+                                                                                                                    auditLog,
+                                                                                                                    repositoryValidator,
+                                                                                                                    methodName);
+
+        /*
+         * Ready to process the request.  Find requests are issued to every repository and the results are combined.
+         * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
+         * there are no positive results from any repository.
+         */
+        federationControl.executeCommand(executor);
+
+        return executor.getResults(enterpriseParentConnector, this);
+    }
+
+
     /**
      * Return a list of entities that match the supplied criteria.  The results can be returned over many pages.
      *
@@ -1407,6 +1593,196 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return a page of entities that match the supplied criteria along with a continuation token for retrieving
+     * the next page.  Each repository in the cohort is passed the continuation token and returns the entities
+     * that follow it, up to one more than the page size.  The results are merged and the page is selected from
+     * them, so the page is in the same sequence as a single repository would return it.  The token also records
+     * the position reached in each repository's own results, since a repository that pages by element number
+     * must start from its own position rather than the position in the merged results.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param entityTypeGUID String unique identifier for the entity type of interest (null means any entity type).
+     * @param entitySubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the entityTypeGUID to
+     *                           include in the search results. Null means all subtypes.
+     * @param matchProperties Optional list of entity property conditions to match.
+     * @param fromEntityElement the starting element number of the entities to return.  It is only used when
+     *                          continuationToken is null.  Zero means start from the first element.
+     * @param continuationToken token returned with the previous page of results.  Null means start from
+     *                          fromEntityElement.
+     * @param limitResultsByStatus By default, entities in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param matchClassifications Optional list of entity classifications to match.
+     * @param asOfTime Requests a historical query of the entity.  Null means return the present values.
+     * @param sequencingProperty String name of the entity property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return a page of entities matching the supplied criteria; the continuation token is null when there are no
+     * more results.
+     * @throws InvalidParameterException a parameter is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  entity.
+     * @throws PagingErrorException the paging/sequencing parameters or the continuation token are not valid.
+     * @throws FunctionNotSupportedException the repository does not support this optional method.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public EntityDetailPage findEntitiesPage(String                userId,
+                                             String                entityTypeGUID,
+                                             List<String>          entitySubtypeGUIDs,
+                                             SearchProperties      matchProperties,
+                                             int                   fromEntityElement,
+                                             String                continuationToken,
+                                             List<InstanceStatus>  limitResultsByStatus,
+                                             SearchClassifications matchClassifications,
+                                             Date                  asOfTime,
+                                             String                sequencingProperty,
+                                             SequencingOrder       sequencingOrder,
+                                             int                   pageSize) throws InvalidParameterException,
+                                                                                    RepositoryErrorException,
+                                                                                    TypeErrorException,
+                                                                                    PropertyErrorException,
+                                                                                    PagingErrorException,
+                                                                                    FunctionNotSupportedException,
+                                                                                    UserNotAuthorizedException
+    {
+        final String  methodName = "findEntitiesPage";
+
+        /*
+         * Validate parameters
+         */
+        super.findEntitiesParameterValidation(userId,
+                                              entityTypeGUID,
+                                              entitySubtypeGUIDs,
+                                              matchProperties,
+                                              fromEntityElement,
+                                              limitResultsByStatus,
+                                              matchClassifications,
+                                              asOfTime,
+                                              sequencingProperty,
+                                              sequencingOrder,
+                                              pageSize);
+
+        repositoryHelper.getContinuationTokenPosition(repositoryName,
+                                                      continuationToken,
+                                                      fromEntityElement,
+                                                      sequencingProperty,
+                                                      sequencingOrder,
+                                                      methodName);
+
+        /*
+         * Validation complete, ok to continue with request
+         *
+         * The list of cohort connectors are retrieved for each request to ensure that any changes in
+         * the shape of the cohort are reflected immediately.
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        FederationControl        federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FindEntitiesPageExecutor executor          = new FindEntitiesPageExecutor(userId,
+                                                                                  entityTypeGUID,
+                                                                                  entitySubtypeGUIDs,
+                                                                                  matchProperties,
+                                                                                  0,
+                                                                                  continuationToken,
+                                                                                  limitResultsByStatus,
+                                                                                  matchClassifications,
+                                                                                  asOfTime,
+                                                                                  sequencingProperty,
+                                                                                  sequencingOrder,
+                                                                                  this.getRepositoryPageSize(fromEntityElement,
+                                                                                                             continuationToken,
+                                                                                                             pageSize),
+                                                                                  localMetadataCollectionId,
+                                                                                  auditLog,
+                                                                                  repositoryValidator,
+                                                                                  repositoryName,
+                                                                                  repositoryHelper,
+                                                                                  methodName);
+
+        /*
+         * Ready to process the request.  Some repositories may produce exceptions.  These exceptions are saved
+         * and will be returned if there are no positive results from any repository.
+         */
+        federationControl.executeCommand(executor);
+
+        EntityDetailPage page = repositoryHelper.formatEntityPage(repositoryName,
+                                                                  executor.getResults(enterpriseParentConnector, this),
+                                                                  fromEntityElement,
+                                                                  continuationToken,
+                                                                  sequencingProperty,
+                                                                  sequencingOrder,
+                                                                  pageSize,
+                                                                  methodName);
+
+        if (page.getContinuationToken() != null)
+        {
+            /*
+             * Record how far the page reaches into each repository's own results so the next page is
+             * retrieved from that position in each repository.
+             */
+            Map<String, Integer> repositoryCounts = new HashMap<>();
+
+            for (Map.Entry<String, List<EntityDetail>> repositoryResults : executor.getRepositoryResults().entrySet())
+            {
+                repositoryCounts.put(repositoryResults.getKey(),
+                                     repositoryHelper.countEntitiesBeforeContinuationToken(repositoryName,
+                                                                                           repositoryResults.getValue(),
+                                                                                           page.getContinuationToken(),
+                                                                                           sequencingProperty,
+                                                                                           sequencingOrder,
+                                                                                           methodName));
+            }
+
+            page.setContinuationToken(repositoryHelper.addRepositoryPositions(repositoryName,
+                                                                              continuationToken,
+                                                                              page.getContinuationToken(),
+                                                                              repositoryCounts,
+                                                                              sequencingProperty,
+                                                                              sequencingOrder,
+                                                                              methodName));
+        }
+
+        return page;
+    }
+
+
+    /**
+     * Return the number of instances to request from each repository in the cohort in order to build a page.
+     * Any of the instances on the page could come from a single repository, and one extra instance is needed
+     * to detect whether there are more results after the page.  Without a continuation token, each repository
+     * must also return the instances that come before the starting element.
+     *
+     * @param fromElement the starting element number of the instances to return
+     * @param continuationToken token returned with the previous page of results
+     * @param pageSize maximum number of instances on the page; zero means unlimited
+     * @return number of instances to request from each repository; zero means unlimited
+     */
+    private int getRepositoryPageSize(int    fromElement,
+                                      String continuationToken,
+                                      int    pageSize)
+    {
+        if (pageSize <= 0)
+        {
+            return 0;
+        }
+
+        if (continuationToken == null)
+        {
+            return fromElement + pageSize + 1;
+        }
+
+        return pageSize + 1;
+    }
+
+
     /**
      * Return a list of entities that have the requested type of classifications attached.
      *
@@ -1774,6 +2150,64 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return each of the requested relationships.  Each repository in the cohort is asked for the whole list
+     * and the latest version of each relationship is returned.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the relationships.
+     * @return list of relationships in the order requested.  Relationships that are not known are omitted.
+     * Null means none of the relationships are known.
+     * @throws InvalidParameterException one of the guids is null.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                  the metadata collection is stored.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public List<Relationship> getRelationships(String       userId,
+                                               List<String> guids) throws InvalidParameterException,
+                                                                          RepositoryErrorException,
+                                                                          UserNotAuthorizedException
+    {
+        final String  methodName = "getRelationships";
+
+        /*
+         * Validate parameters
+         */
+        super.getInstancesParameterValidation(userId, guids, methodName);
+
+        if (guids == null)
+        {
+            return null;
+        }
+
+        /*
+         * Validation complete, ok to continue with request
+         *
+         * The list of cohort connectors are retrieved for each request to ensure that any changes in
+         * the shape of the cohort are reflected immediately.
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        FederationControl        federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        GetRelationshipsExecutor executor          = new GetRelationshipsExecutor(userId,
+                                                                                  guids,
+                                                                                  localMetadataCollectionId,
+                                                                                  auditLog,
+                                                                                  repositoryValidator,
+                                                                                  methodName);
+
+        /*
+         * Ready to process the request.  Get requests are issued to every repository and the results are combined.
+         * Some repositories may produce exceptions.  These exceptions are saved and will be returned if
+         * there are no positive results from any repository.
+         */
+        federationControl.executeCommand(executor);
+
+        return super.getInstancesInRequestOrder(guids, this.getInstanceMap(executor.getResults(enterpriseParentConnector)));
+    }
+
+
     /**
      * Return a list of relationships that match the requested conditions.  The results can be received as a series of
      * pages.
@@ -1879,6 +2313,164 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
     }
 
 
+    /**
+     * Return a page of relationships that match the requested conditions along with a continuation token for
+     * retrieving the next page.  Each repository in the cohort is passed the continuation token and returns the
+     * relationships that follow it, up to one more than the page size.  The results are merged and the page is
+     * selected from them, so the page is in the same sequence as a single repository would return it.  The token
+     * also records the position reached in each repository's own results, since a repository that pages by
+     * element number must start from its own position rather than the position in the merged results.
+     *
+     * @param userId unique identifier for requesting user.
+     * @param relationshipTypeGUID unique identifier (guid) for the relationship's type.  Null means all types
+     *                             (but may be slow so not recommended).
+     * @param relationshipSubtypeGUIDs optional list of the unique identifiers (guids) for subtypes of the
+     *                                 relationshipTypeGUID to include in the search results. Null means all subtypes.
+     * @param matchProperties Optional list of relationship property conditions to match.
+     * @param fromRelationshipElement the starting element number of the relationships to return.  It is only used
+     *                                when continuationToken is null.  Zero means start from the first element.
+     * @param continuationToken token returned with the previous page of results.  Null means start from
+     *                          fromRelationshipElement.
+     * @param limitResultsByStatus By default, relationships in all non-DELETED statuses are returned.  However, it is possible
+     *                             to specify a list of statuses (eg ACTIVE) to restrict the results to.  Null means all
+     *                             status values except DELETED.
+     * @param asOfTime Requests a historical query of the relationships for the entity.  Null means return the
+     *                 present values.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return a page of relationships; the continuation token is null when there are no more results.
+     * @throws InvalidParameterException one of the parameters is invalid or null.
+     * @throws TypeErrorException the type guid passed on the request is not known by the
+     *                              metadata collection.
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                    the metadata collection is stored.
+     * @throws PropertyErrorException the properties specified are not valid for any of the requested types of
+     *                                  relationships.
+     * @throws PagingErrorException the paging/sequencing parameters or the continuation token are not valid.
+     * @throws FunctionNotSupportedException the repository does not support one of the provided parameters.
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @Override
+    public  RelationshipPage findRelationshipsPage(String               userId,
+                                                   String               relationshipTypeGUID,
+                                                   List<String>         relationshipSubtypeGUIDs,
+                                                   SearchProperties     matchProperties,
+                                                   int                  fromRelationshipElement,
+                                                   String               continuationToken,
+                                                   List<InstanceStatus> limitResultsByStatus,
+                                                   Date                 asOfTime,
+                                                   String               sequencingProperty,
+                                                   SequencingOrder      sequencingOrder,
+                                                   int                  pageSize) throws InvalidParameterException,
+                                                                                         TypeErrorException,
+                                                                                         RepositoryErrorException,
+                                                                                         PropertyErrorException,
+                                                                                         PagingErrorException,
+                                                                                         FunctionNotSupportedException,
+                                                                                         UserNotAuthorizedException
+    {
+        final String  methodName = "findRelationshipsPage";
+
+        /*
+         * Validate parameters
+         */
+        super.findRelationshipsParameterValidation(userId,
+                                                   relationshipTypeGUID,
+                                                   relationshipSubtypeGUIDs,
+                                                   matchProperties,
+                                                   fromRelationshipElement,
+                                                   limitResultsByStatus,
+                                                   asOfTime,
+                                                   sequencingProperty,
+                                                   sequencingOrder,
+                                                   pageSize);
+
+        repositoryHelper.getContinuationTokenPosition(repositoryName,
+                                                      continuationToken,
+                                                      fromRelationshipElement,
+                                                      sequencingProperty,
+                                                      sequencingOrder,
+                                                      methodName);
+
+        /*
+         * Validation complete, ok to continue with request
+         *
+         * The list of cohort connectors are retrieved for each request to ensure that any changes in
+         * the shape of the cohort are reflected immediately.
+         */
+        List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
+
+        FederationControl             federationControl = new ParallelFederationControl(userId, cohortConnectors, methodName);
+        FindRelationshipsPageExecutor executor          = new FindRelationshipsPageExecutor(userId,
+                                                                                            relationshipTypeGUID,
+                                                                                            relationshipSubtypeGUIDs,
+                                                                                            matchProperties,
+                                                                                            0,
+                                                                                            continuationToken,
+                                                                                            limitResultsByStatus,
+                                                                                            asOfTime,
+                                                                                            sequencingProperty,
+                                                                                            sequencingOrder,
+                                                                                            this.getRepositoryPageSize(fromRelationshipElement,
+                                                                                                                       continuationToken,
+                                                                                                                       pageSize),
+                                                                                            localMetadataCollectionId,
+                                                                                            auditLog,
+                                                                                            repositoryValidator,
+                                                                                            repositoryName,
+                                                                                            repositoryHelper,
+                                                                                            methodName);
+
+        /*
+         * Ready to process the request.  Some repositories may produce exceptions.  These exceptions are saved
+         * and will be returned if there are no positive results from any repository.
+         */
+        federationControl.executeCommand(executor);
+
+        RelationshipPage page = repositoryHelper.formatRelationshipPage(repositoryName,
+                                                                        executor.getResults(enterpriseParentConnector),
+                                                                        fromRelationshipElement,
+                                                                        continuationToken,
+                                                                        sequencingProperty,
+                                                                        sequencingOrder,
+                                                                        pageSize,
+                                                                        methodName);
+
+        if (page.getContinuationToken() != null)
+        {
+            /*
+             * Record how far the page reaches into each repository's own results so the next page is
+             * retrieved from that position in each repository.
+             */
+            Map<String, Integer> repositoryCounts = new HashMap<>();
+
+            for (Map.Entry<String, List<Relationship>> repositoryResults : executor.getRepositoryResults().entrySet())
+            {
+                repositoryCounts.put(repositoryResults.getKey(),
+                                     repositoryHelper.countRelationshipsBeforeContinuationToken(repositoryName,
+                                                                                                repositoryResults.getValue(),
+                                                                                                page.getContinuationToken(),
+                                                                                                sequencingProperty,
+                                                                                                sequencingOrder,
+                                                                                                methodName));
+            }
+
+            page.setContinuationToken(repositoryHelper.addRepositoryPositions(repositoryName,
+                                                                              continuationToken,
+                                                                              page.getContinuationToken(),
+                                                                              repositoryCounts,
+                                                                              sequencingProperty,
+                                                                              sequencingOrder,
+                                                                              methodName));
+        }
+
+        return page;
+    }
+
+
     /**
      * Return a list of relationships that match the requested properties by the matching criteria.   The results
      * can be received as a series of pages.
@@ -2139,97 +2731,42 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
 
 
         /*
-         * Ready to process the request.  Search results need to come from all members of the cohort.
-         * They need to be combined and then duplicates removed to create the final list of results.
+         * Ready to process the request.  The graph is traversed breadth first across all members of the cohort
+         * so that paths that pass through more than one repository are found.  The traversal stops at the level
+         * where the end entity is found and the relationships on the shortest paths to it are returned.
          * Some repositories may produce exceptions.  These exceptions are saved and one selected to
          * be returned if there are no results from any repository.
          */
-        Map<String, EntityDetail> combinedEntityResults       = new HashMap<>();
-        Map<String, Relationship> combinedRelationshipResults = new HashMap<>();
-
-        EntityNotKnownException       entityNotKnownException       = null;
-        FunctionNotSupportedException functionNotSupportedException = null;
-        PropertyErrorException        propertyErrorException        = null;
-        UserNotAuthorizedException    userNotAuthorizedException    = null;
-        RepositoryErrorException      repositoryErrorException      = null;
-        Exception                     anotherException              = null;
-
-        /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
-         */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+        FederatedGraphTraversal traversal = this.getFederatedGraphTraversal(userId, cohortConnectors, methodName);
+
+        traversal.traverse(startEntityGUID,
+                           -1,
+                           endEntityGUID,
+                           null,
+                           (metadataCollection, entityGUID, expansionLevel) -> metadataCollection.getEntityNeighborhood(userId,
+                                                                                                                        entityGUID,
+                                                                                                                        null,
+                                                                                                                        null,
+                                                                                                                        limitResultsByStatus,
+                                                                                                                        null,
+                                                                                                                        asOfTime,
+                                                                                                                        expansionLevel));
+
+        Map<String, EntityDetail> combinedEntityResults       = new LinkedHashMap<>();
+        Map<String, Relationship> combinedRelationshipResults = new LinkedHashMap<>();
+        InstanceGraph             linkingGraph                = traversal.getLinkingGraph(startEntityGUID, endEntityGUID);
+
+        if (linkingGraph != null)
         {
-            if (cohortConnector != null)
-            {
-                OMRSMetadataCollection metadataCollection = cohortConnector.getMetadataCollection();
-
-                validateMetadataCollection(metadataCollection, methodName);
-
-                try
-                {
-                    /*
-                     * Issue the request
-                     */
-                    InstanceGraph results = metadataCollection.getLinkingEntities(userId,
-                                                                                  startEntityGUID,
-                                                                                  endEntityGUID,
-                                                                                  limitResultsByStatus,
-                                                                                  asOfTime);
-
-                    /*
-                     * Step through the list of returned TypeDefs and consolidate.
-                     */
-                    if (results != null)
-                    {
-                        combinedRelationshipResults = this.addUniqueRelationships(combinedRelationshipResults,
-                                                                                  results.getRelationships(),
-                                                                                  cohortConnector.getServerName(),
-                                                                                  cohortConnector.getMetadataCollectionId(),
-                                                                                  methodName);
-                        combinedEntityResults = this.addUniqueEntities(combinedEntityResults,
-                                                                       results.getEntities(),
-                                                                       cohortConnector.getServerName(),
-                                                                       cohortConnector.getMetadataCollectionId(),
-                                                                       methodName);
-                    }
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (PropertyErrorException error)
-                {
-                    propertyErrorException = error;
-                }
-                catch (EntityNotKnownException error)
-                {
-                    entityNotKnownException = error;
-                }
-                catch (FunctionNotSupportedException error)
-                {
-                    functionNotSupportedException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (Exception error)
-                {
-                    anotherException = error;
-                }
-            }
+            combinedEntityResults = this.getInstanceMap(linkingGraph.getEntities());
+            combinedRelationshipResults = this.getInstanceMap(linkingGraph.getRelationships());
         }
 
-        return validatedInstanceGraphResults(repositoryName,
-                                             combinedEntityResults,
-                                             combinedRelationshipResults,
-                                             userNotAuthorizedException,
-                                             propertyErrorException,
-                                             functionNotSupportedException,
-                                             entityNotKnownException,
-                                             repositoryErrorException,
-                                             anotherException,
-                                             methodName);
+        return validatedTraversalResults(repositoryName,
+                                         combinedEntityResults,
+                                         combinedRelationshipResults,
+                                         traversal,
+                                         methodName);
     }
 
 
@@ -2299,100 +2836,39 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
         /*
-         * Ready to process the request.  Search results need to come from all members of the cohort.
-         * They need to be combined and then duplicates removed to create the final list of results.
+         * Ready to process the request.  The neighborhood is expanded one level at a time across all members
+         * of the cohort so that relationships from one repository lead on to the relationships of the entities
+         * at their other end in the other repositories.  The members are asked for the remaining levels below
+         * the entities in the frontier concurrently and entities that a member has already expanded are not
+         * sent to it again.
          * Some repositories may produce exceptions.  These exceptions are saved and one selected to
          * be returned if there are no results from any repository.
          */
-        Map<String, EntityDetail> combinedEntityResults       = new HashMap<>();
-        Map<String, Relationship> combinedRelationshipResults = new HashMap<>();
+        FederatedGraphTraversal traversal = this.getFederatedGraphTraversal(userId, cohortConnectors, methodName);
 
-        EntityNotKnownException       entityNotKnownException       = null;
-        FunctionNotSupportedException functionNotSupportedException = null;
-        PropertyErrorException        propertyErrorException        = null;
-        UserNotAuthorizedException    userNotAuthorizedException    = null;
-        RepositoryErrorException      repositoryErrorException      = null;
-        Exception                     anotherException              = null;
+        traversal.traverse(entityGUID,
+                           level,
+                           null,
+                           null,
+                           (metadataCollection, frontierEntityGUID, expansionLevel) -> metadataCollection.getEntityNeighborhood(userId,
+                                                                                                                                frontierEntityGUID,
+                                                                                                                                entityTypeGUIDs,
+                                                                                                                                relationshipTypeGUIDs,
+                                                                                                                                limitResultsByStatus,
+                                                                                                                                limitResultsByClassification,
+                                                                                                                                asOfTime,
+                                                                                                                                expansionLevel));
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * The relationships of the final level point to entities that were not expanded.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
-        {
-            if (cohortConnector != null)
-            {
-                OMRSMetadataCollection metadataCollection = cohortConnector.getMetadataCollection();
+        traversal.retrieveUnexpandedEntities();
 
-                validateMetadataCollection(metadataCollection, methodName);
-
-                try
-                {
-                    /*
-                     * Issue the request
-                     */
-                    InstanceGraph results = metadataCollection.getEntityNeighborhood(userId,
-                                                                                     entityGUID,
-                                                                                     entityTypeGUIDs,
-                                                                                     relationshipTypeGUIDs,
-                                                                                     limitResultsByStatus,
-                                                                                     limitResultsByClassification,
-                                                                                     asOfTime,
-                                                                                     level);
-
-                    /*
-                     * Step through the list of returned TypeDefs and consolidate.
-                     */
-                    if (results != null)
-                    {
-                        combinedRelationshipResults = this.addUniqueRelationships(combinedRelationshipResults,
-                                                                                  results.getRelationships(),
-                                                                                  cohortConnector.getServerName(),
-                                                                                  cohortConnector.getMetadataCollectionId(),
-                                                                                  methodName);
-                        combinedEntityResults = this.addUniqueEntities(combinedEntityResults,
-                                                                       results.getEntities(),
-                                                                       cohortConnector.getServerName(),
-                                                                       cohortConnector.getMetadataCollectionId(),
-                                                                       methodName);
-                    }
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (PropertyErrorException error)
-                {
-                    propertyErrorException = error;
-                }
-                catch (EntityNotKnownException error)
-                {
-                    entityNotKnownException = error;
-                }
-                catch (FunctionNotSupportedException error)
-                {
-                    functionNotSupportedException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (Exception error)
-                {
-                    anotherException = error;
-                }
-            }
-        }
-
-        return validatedInstanceGraphResults(repositoryName,
-                                             combinedEntityResults,
-                                             combinedRelationshipResults,
-                                             userNotAuthorizedException,
-                                             propertyErrorException,
-                                             functionNotSupportedException,
-                                             entityNotKnownException,
-                                             repositoryErrorException,
-                                             anotherException,
-                                             methodName);
+        return validatedTraversalResults(repositoryName,
+                                         traversal.getEntities(),
+                                         traversal.getRelationships(),
+                                         traversal,
+                                         methodName);
     }
 
 
@@ -2482,104 +2958,78 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
         List<OMRSRepositoryConnector> cohortConnectors = enterpriseParentConnector.getCohortConnectors(methodName);
 
         /*
-         * Ready to process the request.  Search results need to come from all members of the cohort.
-         * They need to be combined and then duplicates removed to create the final list of results.
+         * Ready to process the request.  The graph is traversed breadth first across all members of the cohort
+         * so that entities that are connected through more than one repository are found.  The entities are
+         * then filtered by type and classification and paged in the order they were found.
          * Some repositories may produce exceptions.  These exceptions are saved and one selected to
          * be returned if there are no results from any repository.
          */
-        Map<String, EntityDetail> combinedResults = new HashMap<>();
-
-        InvalidParameterException     invalidParameterException     = null;
-        EntityNotKnownException       entityNotKnownException       = null;
-        FunctionNotSupportedException functionNotSupportedException = null;
-        TypeErrorException            typeErrorException            = null;
-        PropertyErrorException        propertyErrorException        = null;
-        UserNotAuthorizedException    userNotAuthorizedException    = null;
-        RepositoryErrorException      repositoryErrorException      = null;
-        Exception                     anotherException              = null;
+        FederatedGraphTraversal traversal = this.getFederatedGraphTraversal(userId, cohortConnectors, methodName);
 
         /*
-         * Loop through the metadata collections extracting the typedefs from each repository.
+         * The traversal stops early once the requested page of entities has been found.
          */
-        for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+        Predicate<FederatedGraphTraversal> pageFound = null;
+
+        if (pageSize > 0)
         {
-            if (cohortConnector != null)
-            {
-                OMRSMetadataCollection metadataCollection = cohortConnector.getMetadataCollection();
+            pageFound = completedTraversal -> this.countRelatedEntities(completedTraversal,
+                                                                        startEntityGUID,
+                                                                        entityTypeGUIDs,
+                                                                        limitResultsByClassification) >= fromEntityElement + pageSize;
+        }
 
-                validateMetadataCollection(metadataCollection, methodName);
+        traversal.traverse(startEntityGUID,
+                           -1,
+                           null,
+                           pageFound,
+                           (metadataCollection, entityGUID, expansionLevel) -> metadataCollection.getEntityNeighborhood(userId,
+                                                                                                                        entityGUID,
+                                                                                                                        null,
+                                                                                                                        null,
+                                                                                                                        limitResultsByStatus,
+                                                                                                                        null,
+                                                                                                                        asOfTime,
+                                                                                                                        expansionLevel));
+
+        if ((pageFound == null) || (! pageFound.test(traversal)))
+        {
+            traversal.retrieveUnexpandedEntities();
+        }
 
-                try
-                {
-                    /*
-                     * Issue the request
-                     */
-                    List<EntityDetail> results = metadataCollection.getRelatedEntities(userId,
-                                                                                       startEntityGUID,
-                                                                                       entityTypeGUIDs,
-                                                                                       fromEntityElement,
-                                                                                       limitResultsByStatus,
-                                                                                       limitResultsByClassification,
-                                                                                       asOfTime,
-                                                                                       sequencingProperty,
-                                                                                       sequencingOrder,
-                                                                                       pageSize);
-
-                    /*
-                     * Step through the list of returned TypeDefs and remove duplicates.
-                     */
-                    combinedResults = this.addUniqueEntities(combinedResults,
-                                                             results,
-                                                             cohortConnector.getServerName(),
-                                                             cohortConnector.getMetadataCollectionId(),
-                                                             methodName);
-                }
-                catch (InvalidParameterException error)
-                {
-                    invalidParameterException = error;
-                }
-                catch (EntityNotKnownException error)
-                {
-                    entityNotKnownException = error;
-                }
-                catch (FunctionNotSupportedException error)
-                {
-                    functionNotSupportedException = error;
-                }
-                catch (TypeErrorException error)
-                {
-                    typeErrorException = error;
-                }
-                catch (PropertyErrorException error)
-                {
-                    propertyErrorException = error;
-                }
-                catch (RepositoryErrorException error)
-                {
-                    repositoryErrorException = error;
-                }
-                catch (UserNotAuthorizedException error)
-                {
-                    userNotAuthorizedException = error;
-                }
-                catch (Exception error)
+        Map<String, EntityDetail> combinedResults = new LinkedHashMap<>();
+        int                       elementCount    = 0;
+
+        for (EntityDetail entity : traversal.getEntities().values())
+        {
+            if ((! startEntityGUID.equals(entity.getGUID())) &&
+                (this.isEntityOfType(entity, entityTypeGUIDs)) &&
+                (this.isEntityClassified(entity, limitResultsByClassification)))
+            {
+                if (elementCount >= fromEntityElement)
                 {
-                    anotherException = error;
+                    combinedResults.put(entity.getGUID(), entity);
+
+                    if ((pageSize > 0) && (combinedResults.size() >= pageSize))
+                    {
+                        break;
+                    }
                 }
+
+                elementCount++;
             }
         }
 
-
         if (combinedResults.isEmpty())
         {
-            throwCapturedRepositoryErrorException(repositoryErrorException);
-            throwCapturedUserNotAuthorizedException(userNotAuthorizedException);
-            throwCapturedGenericException(anotherException, methodName);
-            throwCapturedTypeErrorException(typeErrorException);
-            throwCapturedPropertyErrorException(propertyErrorException);
-            throwCapturedInvalidParameterException(invalidParameterException);
-            throwCapturedFunctionNotSupportedException(functionNotSupportedException);
-            throwCapturedEntityNotKnownException(entityNotKnownException);
+            throwCapturedRepositoryErrorException(traversal.getCapturedException(RepositoryErrorException.class));
+            throwCapturedUserNotAuthorizedException(traversal.getCapturedException(UserNotAuthorizedException.class));
+            throwCapturedGenericException(traversal.getOtherCapturedException(), methodName);
+            throwCapturedTypeErrorException(traversal.getCapturedException(TypeErrorException.class));
+            throwCapturedPropertyErrorException(traversal.getCapturedException(PropertyErrorException.class));
+            throwCapturedInvalidParameterException(traversal.getCapturedException(InvalidParameterException.class));
+            throwCapturedFunctionNotSupportedException(traversal.getCapturedException(FunctionNotSupportedException.class));
+            throwCapturedEntityNotKnownException(traversal.getCapturedException(EntityNotKnownException.class));
 
             return null;
         }
@@ -4809,4 +5259,195 @@ class EnterpriseOMRSMetadataCollection extends OMRSMetadataCollectionBase
             return null;
         }
     }
-}
\ No newline at end of file
+
+
+    /**
+     * Create a traversal of the graph across the cohort with the limits configured for the enterprise connector.
+     *
+     * @param userId calling user
+     * @param cohortConnectors connectors to the members of the cohort
+     * @param methodName calling method
+     * @return new traversal
+     */
+    private FederatedGraphTraversal getFederatedGraphTraversal(String                        userId,
+                                                               List<OMRSRepositoryConnector> cohortConnectors,
+                                                               String                        methodName)
+    {
+        return new FederatedGraphTraversal(userId,
+                                           cohortConnectors,
+                                           auditLog,
+                                           enterpriseParentConnector.getFederatedTraversalResultBudget(),
+                                           enterpriseParentConnector.getFederatedTraversalTimeout(),
+                                           enterpriseParentConnector.getFederatedTraversalMaxLevels(),
+                                           methodName);
+    }
+
+
+    /**
+     * Return the number of entities retrieved by a traversal that are returned by getRelatedEntities.
+     *
+     * @param traversal traversal
+     * @param startEntityGUID unique identifier of the entity the traversal started from
+     * @param entityTypeGUIDs requested types; null means any type
+     * @param limitResultsByClassification classifications that the entities must have; null means any
+     * @return count
+     */
+    private int countRelatedEntities(FederatedGraphTraversal traversal,
+                                     String                  startEntityGUID,
+                                     List<String>            entityTypeGUIDs,
+                                     List<String>            limitResultsByClassification)
+    {
+        int count = 0;
+
+        for (EntityDetail entity : traversal.getEntities().values())
+        {
+            if ((! startEntityGUID.equals(entity.getGUID())) &&
+                (this.isEntityOfType(entity, entityTypeGUIDs)) &&
+                (this.isEntityClassified(entity, limitResultsByClassification)))
+            {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+
+    /**
+     * Return a validated InstanceGraph from a federated traversal.
+     *
+     * @param repositoryName name of this repository
+     * @param accumulatedEntityResults entities to return
+     * @param accumulatedRelationshipResults relationships to return
+     * @param traversal traversal holding the exceptions from the cohort members
+     * @param methodName name of calling method
+     * @return InstanceGraph
+     * @throws UserNotAuthorizedException the userId is not permitted to perform this operation.
+     * @throws PropertyErrorException issue with a property value
+     * @throws FunctionNotSupportedException the repository does not support the requested method
+     * @throws EntityNotKnownException the requested entity is not known in the metadata collection
+     * @throws RepositoryErrorException there is a problem communicating with the metadata repository where
+     * the metadata collection is stored.
+     */
+    private InstanceGraph validatedTraversalResults(String                    repositoryName,
+                                                    Map<String, EntityDetail> accumulatedEntityResults,
+                                                    Map<String, Relationship> accumulatedRelationshipResults,
+                                                    FederatedGraphTraversal   traversal,
+                                                    String                    methodName) throws UserNotAuthorizedException,
+                                                                                                 PropertyErrorException,
+                                                                                                 FunctionNotSupportedException,
+                                                                                                 EntityNotKnownException,
+                                                                                                 RepositoryErrorException
+    {
+        return validatedInstanceGraphResults(repositoryName,
+                                             accumulatedEntityResults,
+                                             accumulatedRelationshipResults,
+                                             traversal.getCapturedException(UserNotAuthorizedException.class),
+                                             traversal.getCapturedException(PropertyErrorException.class),
+                                             traversal.getCapturedException(FunctionNotSupportedException.class),
+                                             traversal.getCapturedException(EntityNotKnownException.class),
+                                             traversal.getCapturedException(RepositoryErrorException.class),
+                                             traversal.getOtherCapturedException(),
+                                             methodName);
+    }
+
+
+    /**
+     * Determine whether an entity is of one of the requested types, either directly or through its super types.
+     *
+     * @param entity entity to test
+     * @param entityTypeGUIDs list of type identifiers; null means any type
+     * @return boolean
+     */
+    private boolean isEntityOfType(EntityDetail entity,
+                                   List<String> entityTypeGUIDs)
+    {
+        if ((entityTypeGUIDs == null) || (entityTypeGUIDs.isEmpty()))
+        {
+            return true;
+        }
+
+        InstanceType type = entity.getType();
+
+        if (type == null)
+        {
+            return false;
+        }
+
+        if (entityTypeGUIDs.contains(type.getTypeDefGUID()))
+        {
+            return true;
+        }
+
+        if (type.getTypeDefSuperTypes() != null)
+        {
+            for (TypeDefLink superType : type.getTypeDefSuperTypes())
+            {
+                if ((superType != null) && (entityTypeGUIDs.contains(superType.getGUID())))
+                {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Determine whether an entity has all of the requested classifications.
+     *
+     * @param entity entity to test
+     * @param classificationNames list of classification names; null means no restriction
+     * @return boolean
+     */
+    private boolean isEntityClassified(EntityDetail entity,
+                                       List<String> classificationNames)
+    {
+        if ((classificationNames == null) || (classificationNames.isEmpty()))
+        {
+            return true;
+        }
+
+        Set<String> entityClassificationNames = new HashSet<>();
+
+        if (entity.getClassifications() != null)
+        {
+            for (Classification classification : entity.getClassifications())
+            {
+                if (classification != null)
+                {
+                    entityClassificationNames.add(classification.getName());
+                }
+            }
+        }
+
+        return entityClassificationNames.containsAll(classificationNames);
+    }
+
+
+    /**
+     * Index the combined results from the repositories by their unique identifier.
+     *
+     * @param instances list of instances (may be null)
+     * @param <T> type of instance
+     * @return map from guid to instance
+     */
+    private <T extends InstanceHeader> Map<String, T> getInstanceMap(List<T> instances)
+    {
+        Map<String, T> instanceMap = new HashMap<>();
+
+        if (instances != null)
+        {
+            for (T instance : instances)
+            {
+                if (instance != null)
+                {
+                    instanceMap.put(instance.getGUID(), instance);
+                }
+            }
+        }
+
+        return instanceMap;
+    }
+}
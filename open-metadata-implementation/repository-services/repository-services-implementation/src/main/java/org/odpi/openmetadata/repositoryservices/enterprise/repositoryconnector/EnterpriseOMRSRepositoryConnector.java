@@ -13,6 +13,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
 import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRSConnectorConsumer;
 import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRSConnectorManager;
+import org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control.FederatedGraphTraversal;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSRuntimeException;
@@ -47,6 +48,10 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
 
     private String callingServiceName = null;
 
+    private int  federatedTraversalResultBudget = FederatedGraphTraversal.DEFAULT_RESULT_BUDGET;
+    private long federatedTraversalTimeout      = FederatedGraphTraversal.DEFAULT_DEADLINE;
+    private int  federatedTraversalMaxLevels    = FederatedGraphTraversal.DEFAULT_MAX_LEVELS;
+
     private static final Logger log = LoggerFactory.getLogger(EnterpriseOMRSRepositoryConnector.class);
 
     /**
@@ -106,6 +111,68 @@ public class EnterpriseOMRSRepositoryConnector extends OMRSRepositoryConnector i
     }
 
 
+    /**
+     * Set up the limits for the federated traversals of the graph, such as getEntityNeighborhood.
+     * A value of zero (or less) leaves the default in place.
+     *
+     * @param resultBudget maximum number of entities and relationships retrieved by a traversal
+     * @param timeout maximum number of milliseconds that a traversal runs for
+     * @param maxLevels maximum number of levels traversed when the caller does not limit the levels
+     */
+    public void setFederatedTraversalLimits(int  resultBudget,
+                                            long timeout,
+                                            int  maxLevels)
+    {
+        if (resultBudget > 0)
+        {
+            this.federatedTraversalResultBudget = resultBudget;
+        }
+
+        if (timeout > 0)
+        {
+            this.federatedTraversalTimeout = timeout;
+        }
+
+        if (maxLevels > 0)
+        {
+            this.federatedTraversalMaxLevels = maxLevels;
+        }
+    }
+
+
+    /**
+     * Return the maximum number of entities and relationships retrieved by a federated traversal.
+     *
+     * @return count
+     */
+    int getFederatedTraversalResultBudget()
+    {
+        return federatedTraversalResultBudget;
+    }
+
+
+    /**
+     * Return the maximum number of milliseconds that a federated traversal runs for.
+     *
+     * @return milliseconds
+     */
+    long getFederatedTraversalTimeout()
+    {
+        return federatedTraversalTimeout;
+    }
+
+
+    /**
+     * Return the maximum number of levels traversed by a federated traversal when the caller does not limit the levels.
+     *
+     * @return number of levels
+     */
+    int getFederatedTraversalMaxLevels()
+    {
+        return federatedTraversalMaxLevels;
+    }
+
+
     /**
      * Indicates that the connector is completely configured and can begin processing.
      *
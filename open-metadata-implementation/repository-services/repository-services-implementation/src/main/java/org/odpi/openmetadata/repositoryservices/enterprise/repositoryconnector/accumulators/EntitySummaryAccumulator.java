@@ -0,0 +1,155 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.accumulators;
+
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Classification;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntitySummary;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryValidator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * EntitySummaryAccumulator accumulates entity summaries received from a collection of open metadata
+ * repositories.  It removes duplicates from the list by choosing the latest version of each entity and
+ * combines the latest version of each of the classifications returned for the entity.
+ *
+ * This class may be called simultaneously from many different threads so it must be thread-safe.
+ */
+public class EntitySummaryAccumulator extends QueryInstanceAccumulatorBase
+{
+    private volatile Map<String, EntitySummary>               accumulatedEntities        = new HashMap<>();
+    private volatile Map<String, Map<String, Classification>> accumulatedClassifications = new HashMap<>();
+
+
+    /**
+     * Construct an entity summary accumulator.  Its base class manages the common variables needed to
+     * control the execution of requests across all members of the cohort(s).
+     *
+     * @param localMetadataCollectionId collection Id of local repository - null means no local repository
+     * @param auditLog audit log provides destination for log messages
+     * @param repositoryValidator validator provides common validation routines
+     */
+    public EntitySummaryAccumulator(String                  localMetadataCollectionId,
+                                    AuditLog                auditLog,
+                                    OMRSRepositoryValidator repositoryValidator)
+    {
+        super(localMetadataCollectionId, auditLog, repositoryValidator);
+    }
+
+
+    /**
+     * Provide an entity summary received from an open metadata repository.
+     *
+     * @param incomingEntity entity returned from an open metadata repository
+     */
+    private void addEntity(EntitySummary incomingEntity)
+    {
+        if ((incomingEntity != null) && (incomingEntity.getGUID() != null))
+        {
+            String entityGUID = incomingEntity.getGUID();
+
+            /*
+             * This incoming instance is ignored if we already have a later version.
+             */
+            if (! super.currentInstanceIsBest(accumulatedEntities.get(entityGUID), incomingEntity))
+            {
+                accumulatedEntities.put(entityGUID, incomingEntity);
+            }
+
+            /*
+             * Keep the latest version of each classification.
+             */
+            if (incomingEntity.getClassifications() != null)
+            {
+                Map<String, Classification> entityClassifications = accumulatedClassifications.computeIfAbsent(entityGUID,
+                                                                                                                 guid -> new HashMap<>());
+
+                for (Classification newClassification : incomingEntity.getClassifications())
+                {
+                    if (newClassification != null)
+                    {
+                        Classification existingClassification = entityClassifications.get(newClassification.getName());
+
+                        if ((existingClassification == null) || (existingClassification.getVersion() < newClassification.getVersion()))
+                        {
+                            entityClassifications.put(newClassification.getName(), newClassification);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Add a list of entity summaries to the accumulator.
+     *
+     * @param entities list of retrieved entities
+     * @param metadataCollectionId source metadata collection
+     */
+    public synchronized void addEntities(List<EntitySummary> entities,
+                                         String              metadataCollectionId)
+    {
+        if (entities != null)
+        {
+            for (EntitySummary entity : entities)
+            {
+                this.addEntity(entity);
+            }
+
+            /*
+             * Record that this repository has returned results from the request.
+             */
+            super.setResultsReturned(metadataCollectionId, entities.size());
+        }
+        else
+        {
+            /*
+             * Even though results were not found it was still a successful request.
+             */
+            super.setResultsReturned(metadataCollectionId, 0);
+        }
+    }
+
+
+    /**
+     * Extract the results - this will the a unique list of entity summaries selected from the instances
+     * supplied to this accumulator.  It should be called once all of the executors have completed processing
+     * their request(s).
+     *
+     * @return list of entity summaries
+     */
+    public synchronized List<EntitySummary> getResults()
+    {
+        if (accumulatedEntities.isEmpty())
+        {
+            return null;
+        }
+
+        List<EntitySummary> results = new ArrayList<>();
+
+        for (EntitySummary accumulatedEntity : accumulatedEntities.values())
+        {
+            EntitySummary               resultEntity          = new EntitySummary(accumulatedEntity);
+            Map<String, Classification> entityClassifications = accumulatedClassifications.get(accumulatedEntity.getGUID());
+
+            if ((entityClassifications == null) || (entityClassifications.isEmpty()))
+            {
+                resultEntity.setClassifications(null);
+            }
+            else
+            {
+                resultEntity.setClassifications(new ArrayList<>(entityClassifications.values()));
+            }
+
+            results.add(resultEntity);
+        }
+
+        return results;
+    }
+}
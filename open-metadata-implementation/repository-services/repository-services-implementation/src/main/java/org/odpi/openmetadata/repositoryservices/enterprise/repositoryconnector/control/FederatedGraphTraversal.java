@@ -0,0 +1,791 @@
+/* SPDX-License-Identifier: Apache 2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSCheckedExceptionBase;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+/**
+ * FederatedGraphTraversal walks the graph of entities and relationships across the members of the cohort
+ * breadth first.  At each level, the cohort members are asked to expand the entities in the frontier and these
+ * requests run concurrently.  The relationships returned lead to the entities in the next frontier,
+ * so hops that cross from one repository to another are followed.
+ * <p>
+ * A member is asked for all of the remaining levels below an entity in one request, and the entities in its
+ * reply are recorded as expanded by that member to the depth it covered.  The member is only asked about
+ * one of these entities again if the entity is later found closer to the start, so a member that holds a
+ * connected part of the graph returns it in one request rather than one request for each entity in it.
+ * The other members are still asked about each entity since they may hold relationships that lead on from it.
+ * </p>
+ * <p>
+ * The traversal stops when it reaches the requested number of levels or runs out of entities to expand.
+ * If it retrieves more than the result budget of instances, passes its deadline, or reaches its maximum number of
+ * levels with entities still to expand when the caller did not limit the levels, the results are incomplete.
+ * The truncation is recorded in the audit log and a RepositoryErrorException is thrown rather than returning
+ * partial results.
+ * </p>
+ * <p>
+ * An instance of this class is created for each request and is not thread-safe.  The requests to the cohort
+ * members are issued from a pool of daemon threads that is shared by all enterprise connectors in the JVM.
+ * </p>
+ */
+public class FederatedGraphTraversal
+{
+    /**
+     * Default maximum number of entities and relationships retrieved by a traversal.
+     */
+    public static final int  DEFAULT_RESULT_BUDGET = 10000;
+
+    /**
+     * Default maximum number of milliseconds that a traversal runs for.
+     */
+    public static final long DEFAULT_DEADLINE      = 60000;
+
+    /**
+     * Default maximum number of levels traversed when the caller does not limit the levels.
+     */
+    public static final int  DEFAULT_MAX_LEVELS    = 20;
+
+    private static final ExecutorService expansionThreads = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors() * 2),
+                                                                                         runnable ->
+                                                                                         {
+                                                                                             Thread thread = new Thread(runnable, "FederatedGraphTraversal");
+                                                                                             thread.setDaemon(true);
+                                                                                             return thread;
+                                                                                         });
+
+    /**
+     * EntityExpansion issues the request that expands an entity to a cohort member.
+     */
+    @FunctionalInterface
+    public interface EntityExpansion
+    {
+        /**
+         * Return the relationships that the cohort member knows about within the requested number of hops from
+         * the entity, and the entities at their ends.  The entity itself should be included if the member knows it.
+         *
+         * @param metadataCollection cohort member's metadata collection
+         * @param entityGUID unique identifier of the entity to expand
+         * @param level number of hops to expand the entity by
+         * @return entities and relationships or null
+         * @throws Exception the member could not expand the entity
+         */
+        InstanceGraph expand(OMRSMetadataCollection metadataCollection,
+                             String                 entityGUID,
+                             int                    level) throws Exception;
+    }
+
+
+    private final String                        userId;
+    private final List<OMRSRepositoryConnector> cohortConnectors;
+    private final AuditLog                      auditLog;
+    private final int                           resultBudget;
+    private final long                          timeout;
+    private final long                          deadline;
+    private final int                           maxLevels;
+    private final String                        methodName;
+
+    private final Map<String, EntityDetail>          entities           = new LinkedHashMap<>();
+    private final Map<String, Relationship>          relationships      = new LinkedHashMap<>();
+    private final Map<String, Integer>               entityLevels       = new LinkedHashMap<>();
+    private final Map<String, Map<Integer, Integer>> expandedLevels     = new HashMap<>();
+    private final Map<Class<?>, Exception>           capturedExceptions = new HashMap<>();
+
+    private String startEntityGUID  = null;
+    private int    completedLevel   = 0;
+    private String truncationReason = null;
+
+
+    /**
+     * Constructor for a traversal.
+     *
+     * @param userId calling user
+     * @param cohortConnectors list of connectors to call
+     * @param auditLog destination for the truncation message
+     * @param resultBudget maximum number of entities and relationships to retrieve
+     * @param timeout maximum number of milliseconds for the traversal
+     * @param maxLevels maximum number of levels to traverse when the caller does not limit the levels
+     * @param methodName calling method
+     */
+    public FederatedGraphTraversal(String                        userId,
+                                   List<OMRSRepositoryConnector> cohortConnectors,
+                                   AuditLog                      auditLog,
+                                   int                           resultBudget,
+                                   long                          timeout,
+                                   int                           maxLevels,
+                                   String                        methodName)
+    {
+        this.userId = userId;
+        this.cohortConnectors = cohortConnectors;
+        this.auditLog = auditLog;
+        this.resultBudget = resultBudget;
+        this.timeout = timeout;
+        this.deadline = System.currentTimeMillis() + timeout;
+        this.maxLevels = maxLevels;
+        this.methodName = methodName;
+    }
+
+
+    /**
+     * Traverse the graph from the start entity.
+     *
+     * @param startEntityGUID unique identifier of the entity to start from
+     * @param level number of hops to traverse; a negative number means as many as are needed, up to the maximum
+     *              number of levels
+     * @param targetEntityGUID unique identifier of an entity that ends the traversal once its distance from the start
+     *                         entity is known; null for none
+     * @param completionCheck test that ends the traversal once the caller has the results it needs; null for none
+     * @param expansion request that expands an entity
+     * @throws RepositoryErrorException the traversal retrieved too many instances, took too long or reached
+     *                                  the maximum number of levels before it was complete
+     */
+    public void traverse(String                             startEntityGUID,
+                         int                                level,
+                         String                             targetEntityGUID,
+                         Predicate<FederatedGraphTraversal> completionCheck,
+                         EntityExpansion                    expansion) throws RepositoryErrorException
+    {
+        boolean levelsLimitedByMaximum = (level < 0) || (level > maxLevels);
+        int     levelLimit             = levelsLimitedByMaximum ? maxLevels : level;
+        boolean complete               = false;
+
+        this.startEntityGUID = startEntityGUID;
+        entityLevels.put(startEntityGUID, 0);
+
+        List<String> frontier = this.getEntitiesAtLevel(0);
+
+        while ((! frontier.isEmpty()) && (completedLevel < levelLimit) && (truncationReason == null))
+        {
+            int             remainingLevels = levelLimit - completedLevel;
+            List<Expansion> expansions      = new ArrayList<>();
+
+            for (String entityGUID : frontier)
+            {
+                for (int memberIndex = 0; memberIndex < cohortConnectors.size(); memberIndex++)
+                {
+                    OMRSRepositoryConnector cohortConnector = cohortConnectors.get(memberIndex);
+
+                    if ((cohortConnector != null) && (this.getExpandedLevels(entityGUID, memberIndex) < remainingLevels))
+                    {
+                        expansions.add(new Expansion(entityGUID, memberIndex, remainingLevels));
+                    }
+                }
+            }
+
+            List<Callable<Expansion>> requests = new ArrayList<>();
+
+            for (Expansion entityExpansion : expansions)
+            {
+                requests.add(() ->
+                             {
+                                 OMRSMetadataCollection metadataCollection = this.getMetadataCollection(cohortConnectors.get(entityExpansion.memberIndex));
+
+                                 entityExpansion.result = expansion.expand(metadataCollection,
+                                                                           entityExpansion.entityGUID,
+                                                                           entityExpansion.level);
+                                 return entityExpansion;
+                             });
+            }
+
+            for (Expansion result : this.runConcurrently(requests))
+            {
+                this.addExpansion(result, completedLevel);
+            }
+
+            if ((truncationReason == null) && (entities.size() + relationships.size() > resultBudget))
+            {
+                truncationReason = "result budget of " + resultBudget + " instances";
+            }
+
+            completedLevel++;
+            frontier = this.getEntitiesAtLevel(completedLevel);
+
+            Integer targetLevel = (targetEntityGUID == null) ? null : entityLevels.get(targetEntityGUID);
+
+            if (((targetLevel != null) && (targetLevel <= completedLevel)) ||
+                ((completionCheck != null) && (completionCheck.test(this))))
+            {
+                complete = true;
+                break;
+            }
+        }
+
+        if ((truncationReason == null) && (! complete) && (levelsLimitedByMaximum) && (! frontier.isEmpty()))
+        {
+            truncationReason = "maximum of " + maxLevels + " levels";
+        }
+
+        this.throwIfTruncated();
+    }
+
+
+    /**
+     * Retrieve the entities that have been reached through a relationship but have not been returned by any
+     * cohort member.  These are typically the entities at the last level, which are not expanded.
+     *
+     * @throws RepositoryErrorException the deadline passed before the entities were retrieved
+     */
+    public void retrieveUnexpandedEntities() throws RepositoryErrorException
+    {
+        List<Callable<InstanceGraph>> retrieves = new ArrayList<>();
+
+        for (String entityGUID : entityLevels.keySet())
+        {
+            if (! entities.containsKey(entityGUID))
+            {
+                for (OMRSRepositoryConnector cohortConnector : cohortConnectors)
+                {
+                    if (cohortConnector != null)
+                    {
+                        retrieves.add(() ->
+                                      {
+                                          EntityDetail entity = this.getMetadataCollection(cohortConnector).isEntityKnown(userId, entityGUID);
+                                          InstanceGraph result = new InstanceGraph();
+
+                                          if (entity != null)
+                                          {
+                                              List<EntityDetail> retrievedEntities = new ArrayList<>();
+
+                                              retrievedEntities.add(entity);
+                                              result.setEntities(retrievedEntities);
+                                          }
+
+                                          return result;
+                                      });
+                    }
+                }
+            }
+        }
+
+        for (InstanceGraph result : this.runConcurrently(retrieves))
+        {
+            this.addEntities(result.getEntities());
+        }
+
+        this.throwIfTruncated();
+    }
+
+
+    /**
+     * Return the entities retrieved, in the order they were found.
+     *
+     * @return map from entity guid to entity
+     */
+    public Map<String, EntityDetail> getEntities()
+    {
+        return entities;
+    }
+
+
+    /**
+     * Return the relationships retrieved, in the order they were found.
+     *
+     * @return map from relationship guid to relationship
+     */
+    public Map<String, Relationship> getRelationships()
+    {
+        return relationships;
+    }
+
+
+    /**
+     * Return the number of levels that have been expanded.
+     *
+     * @return level count
+     */
+    public int getCompletedLevel()
+    {
+        return completedLevel;
+    }
+
+
+    /**
+     * Return the relationships and entities on the shortest paths between the start entity and the target entity.
+     * The traversal must have been called with the target entity.
+     *
+     * @param startEntityGUID unique identifier of the entity the traversal started from
+     * @param targetEntityGUID unique identifier of the target entity
+     * @return graph or null if the target entity was not reached
+     */
+    public InstanceGraph getLinkingGraph(String startEntityGUID,
+                                         String targetEntityGUID)
+    {
+        if (! entityLevels.containsKey(targetEntityGUID))
+        {
+            return null;
+        }
+
+        Map<String, Set<String>>  parentRelationships  = this.getParentRelationships();
+        Map<String, EntityDetail> linkingEntities      = new LinkedHashMap<>();
+        Map<String, Relationship> linkingRelationships = new LinkedHashMap<>();
+        List<String>              pathEntityGUIDs      = new ArrayList<>();
+        Set<String>               visited              = new HashSet<>();
+
+        pathEntityGUIDs.add(targetEntityGUID);
+        visited.add(targetEntityGUID);
+
+        /*
+         * Walk back from the target towards the start along the relationships that link each entity to
+         * the level before it.
+         */
+        for (int i = 0; i < pathEntityGUIDs.size(); i++)
+        {
+            String entityGUID = pathEntityGUIDs.get(i);
+
+            if (entities.containsKey(entityGUID))
+            {
+                linkingEntities.put(entityGUID, entities.get(entityGUID));
+            }
+
+            Set<String> parents = parentRelationships.get(entityGUID);
+
+            if ((parents != null) && (! startEntityGUID.equals(entityGUID)))
+            {
+                for (String relationshipGUID : parents)
+                {
+                    Relationship relationship = relationships.get(relationshipGUID);
+                    String       otherEndGUID = this.getOtherEndGUID(relationship, entityGUID);
+
+                    linkingRelationships.put(relationshipGUID, relationship);
+
+                    if ((otherEndGUID != null) && (visited.add(otherEndGUID)))
+                    {
+                        pathEntityGUIDs.add(otherEndGUID);
+                    }
+                }
+            }
+        }
+
+        InstanceGraph linkingGraph = new InstanceGraph();
+
+        linkingGraph.setEntities(new ArrayList<>(linkingEntities.values()));
+        linkingGraph.setRelationships(new ArrayList<>(linkingRelationships.values()));
+
+        return linkingGraph;
+    }
+
+
+    /**
+     * Return the last exception of the requested type returned by a cohort member.
+     *
+     * @param exceptionClass type of exception
+     * @param <T> type of exception
+     * @return exception or null
+     */
+    public <T extends Exception> T getCapturedException(Class<T> exceptionClass)
+    {
+        return exceptionClass.cast(capturedExceptions.get(exceptionClass));
+    }
+
+
+    /**
+     * Return the last exception returned by a cohort member that is not an OMRS checked exception.
+     *
+     * @return exception or null
+     */
+    public Exception getOtherCapturedException()
+    {
+        return capturedExceptions.get(Exception.class);
+    }
+
+
+    /**
+     * Return whether the traversal stopped before it completed because of the result budget, deadline or
+     * maximum number of levels.
+     *
+     * @return boolean
+     */
+    public boolean isTruncated()
+    {
+        return truncationReason != null;
+    }
+
+
+    /**
+     * Record the truncation in the audit log and throw an exception if the traversal did not complete.
+     *
+     * @throws RepositoryErrorException the traversal did not complete
+     */
+    private void throwIfTruncated() throws RepositoryErrorException
+    {
+        if (truncationReason != null)
+        {
+            if (auditLog != null)
+            {
+                auditLog.logMessage(methodName,
+                                    OMRSAuditCode.ENTERPRISE_TRAVERSAL_TRUNCATED.getMessageDefinition(methodName,
+                                                                                                      userId,
+                                                                                                      startEntityGUID,
+                                                                                                      Integer.toString(completedLevel),
+                                                                                                      Integer.toString(entities.size() + relationships.size()),
+                                                                                                      truncationReason));
+            }
+
+            throw new RepositoryErrorException(OMRSErrorCode.ENTERPRISE_TRAVERSAL_TRUNCATED.getMessageDefinition(methodName,
+                                                                                                                 startEntityGUID,
+                                                                                                                 Integer.toString(completedLevel),
+                                                                                                                 truncationReason),
+                                               this.getClass().getName(),
+                                               methodName);
+        }
+    }
+
+
+    /**
+     * Run the requests concurrently and return the results that are received before the deadline.
+     * Exceptions are captured.
+     *
+     * @param requests requests to run
+     * @param <T> type of result
+     * @return results
+     */
+    private <T> List<T> runConcurrently(List<Callable<T>> requests)
+    {
+        List<T>         results = new ArrayList<>();
+        List<Future<T>> futures = new ArrayList<>();
+
+        for (Callable<T> request : requests)
+        {
+            futures.add(expansionThreads.submit(request));
+        }
+
+        for (Future<T> future : futures)
+        {
+            try
+            {
+                long remainingTime = deadline - System.currentTimeMillis();
+
+                if (remainingTime <= 0)
+                {
+                    throw new TimeoutException();
+                }
+
+                T result = future.get(remainingTime, TimeUnit.MILLISECONDS);
+
+                if (result != null)
+                {
+                    results.add(result);
+                }
+            }
+            catch (ExecutionException error)
+            {
+                this.captureException(error.getCause());
+            }
+            catch (TimeoutException | InterruptedException error)
+            {
+                if (error instanceof InterruptedException)
+                {
+                    Thread.currentThread().interrupt();
+                }
+
+                truncationReason = "deadline of " + timeout + " milliseconds";
+
+                for (Future<T> outstandingFuture : futures)
+                {
+                    outstandingFuture.cancel(true);
+                }
+
+                break;
+            }
+        }
+
+        return results;
+    }
+
+
+    /**
+     * Remember an exception from a cohort member by its type.
+     *
+     * @param error exception
+     */
+    private void captureException(Throwable error)
+    {
+        if (error instanceof OMRSCheckedExceptionBase)
+        {
+            capturedExceptions.put(error.getClass(), (Exception)error);
+        }
+        else if (error instanceof Exception)
+        {
+            capturedExceptions.put(Exception.class, (Exception)error);
+        }
+    }
+
+
+    /**
+     * Add the results of expanding an entity.  The distance of each entity in the results from the expanded entity
+     * gives its level, unless it is already known to be closer to the start, and the depth to which the member has
+     * expanded it.
+     *
+     * @param expansion expanded entity and the member's results
+     * @param entityLevel level of the expanded entity
+     */
+    private void addExpansion(Expansion expansion,
+                              int       entityLevel)
+    {
+        InstanceGraph result = expansion.result;
+
+        if (result == null)
+        {
+            return;
+        }
+
+        this.addEntities(result.getEntities());
+
+        Map<String, List<Relationship>> entityRelationships = new HashMap<>();
+
+        if (result.getRelationships() != null)
+        {
+            for (Relationship relationship : result.getRelationships())
+            {
+                if ((relationship != null) && (relationship.getGUID() != null) &&
+                    (relationship.getEntityOneProxy() != null) && (relationship.getEntityOneProxy().getGUID() != null) &&
+                    (relationship.getEntityTwoProxy() != null) && (relationship.getEntityTwoProxy().getGUID() != null))
+                {
+                    Relationship existingRelationship = relationships.get(relationship.getGUID());
+
+                    if ((existingRelationship == null) || (existingRelationship.getVersion() < relationship.getVersion()))
+                    {
+                        relationships.put(relationship.getGUID(), relationship);
+                    }
+
+                    entityRelationships.computeIfAbsent(relationship.getEntityOneProxy().getGUID(), guid -> new ArrayList<>()).add(relationship);
+                    entityRelationships.computeIfAbsent(relationship.getEntityTwoProxy().getGUID(), guid -> new ArrayList<>()).add(relationship);
+                }
+            }
+        }
+
+        /*
+         * Breadth first walk of the member's results from the expanded entity.
+         */
+        Map<String, Integer> distances       = new LinkedHashMap<>();
+        List<String>         reachedEntities = new ArrayList<>();
+
+        distances.put(expansion.entityGUID, 0);
+        reachedEntities.add(expansion.entityGUID);
+
+        for (int i = 0; i < reachedEntities.size(); i++)
+        {
+            String             entityGUID = reachedEntities.get(i);
+            int                distance   = distances.get(entityGUID);
+            List<Relationship> links      = entityRelationships.get(entityGUID);
+
+            if (links != null)
+            {
+                for (Relationship relationship : links)
+                {
+                    String otherEndGUID = this.getOtherEndGUID(relationship, entityGUID);
+
+                    if ((otherEndGUID != null) && (! distances.containsKey(otherEndGUID)))
+                    {
+                        distances.put(otherEndGUID, distance + 1);
+                        reachedEntities.add(otherEndGUID);
+                    }
+                }
+            }
+        }
+
+        for (Map.Entry<String, Integer> distance : distances.entrySet())
+        {
+            int     level         = entityLevel + distance.getValue();
+            Integer existingLevel = entityLevels.get(distance.getKey());
+
+            if ((existingLevel == null) || (level < existingLevel))
+            {
+                entityLevels.put(distance.getKey(), level);
+            }
+
+            expandedLevels.computeIfAbsent(distance.getKey(), guid -> new HashMap<>())
+                          .merge(expansion.memberIndex, Math.max(0, expansion.level - distance.getValue()), Math::max);
+        }
+    }
+
+
+    /**
+     * Add the entities returned by a cohort member.  A later version replaces an earlier one.
+     *
+     * @param returnedEntities entities
+     */
+    private void addEntities(List<EntityDetail> returnedEntities)
+    {
+        if (returnedEntities != null)
+        {
+            for (EntityDetail entity : returnedEntities)
+            {
+                if ((entity != null) && (entity.getGUID() != null))
+                {
+                    EntityDetail existingEntity = entities.get(entity.getGUID());
+
+                    if ((existingEntity == null) || (existingEntity.getVersion() < entity.getVersion()))
+                    {
+                        entities.put(entity.getGUID(), entity);
+                    }
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Return the number of levels below an entity that a cohort member has already returned.
+     *
+     * @param entityGUID unique identifier of the entity
+     * @param memberIndex index of the cohort member
+     * @return number of levels; -1 if the member has not returned the entity
+     */
+    private int getExpandedLevels(String entityGUID,
+                                  int    memberIndex)
+    {
+        Map<Integer, Integer> memberLevels = expandedLevels.get(entityGUID);
+
+        if (memberLevels == null)
+        {
+            return -1;
+        }
+
+        return memberLevels.getOrDefault(memberIndex, -1);
+    }
+
+
+    /**
+     * Return the entities at the requested level in the order they were found.
+     *
+     * @param level level from the start entity
+     * @return unique identifiers of the entities
+     */
+    private List<String> getEntitiesAtLevel(int level)
+    {
+        List<String> entityGUIDs = new ArrayList<>();
+
+        for (Map.Entry<String, Integer> entityLevel : entityLevels.entrySet())
+        {
+            if (entityLevel.getValue() == level)
+            {
+                entityGUIDs.add(entityLevel.getKey());
+            }
+        }
+
+        return entityGUIDs;
+    }
+
+
+    /**
+     * Return the relationships that link each entity to an entity at the level before it.
+     *
+     * @return map from entity guid to relationship guids
+     */
+    private Map<String, Set<String>> getParentRelationships()
+    {
+        Map<String, Set<String>> parentRelationships = new HashMap<>();
+
+        for (Relationship relationship : relationships.values())
+        {
+            Integer entityOneLevel = entityLevels.get(relationship.getEntityOneProxy().getGUID());
+            Integer entityTwoLevel = entityLevels.get(relationship.getEntityTwoProxy().getGUID());
+
+            if ((entityOneLevel != null) && (entityTwoLevel != null))
+            {
+                if (entityTwoLevel == entityOneLevel + 1)
+                {
+                    parentRelationships.computeIfAbsent(relationship.getEntityTwoProxy().getGUID(), guid -> new HashSet<>()).add(relationship.getGUID());
+                }
+                else if (entityOneLevel == entityTwoLevel + 1)
+                {
+                    parentRelationships.computeIfAbsent(relationship.getEntityOneProxy().getGUID(), guid -> new HashSet<>()).add(relationship.getGUID());
+                }
+            }
+        }
+
+        return parentRelationships;
+    }
+
+
+    /**
+     * Return the unique identifier of the entity at the other end of a relationship.
+     *
+     * @param relationship relationship
+     * @param entityGUID unique identifier of the entity at one end
+     * @return unique identifier or null
+     */
+    private String getOtherEndGUID(Relationship relationship,
+                                   String       entityGUID)
+    {
+        if ((relationship == null) || (relationship.getEntityOneProxy() == null) || (relationship.getEntityTwoProxy() == null))
+        {
+            return null;
+        }
+
+        if (entityGUID.equals(relationship.getEntityOneProxy().getGUID()))
+        {
+            return relationship.getEntityTwoProxy().getGUID();
+        }
+
+        return relationship.getEntityOneProxy().getGUID();
+    }
+
+
+    /**
+     * Return the metadata collection for a cohort member.
+     *
+     * @param cohortConnector connector to the cohort member
+     * @return metadata collection
+     * @throws RepositoryErrorException the metadata collection is null
+     */
+    private OMRSMetadataCollection getMetadataCollection(OMRSRepositoryConnector cohortConnector) throws RepositoryErrorException
+    {
+        OMRSMetadataCollection metadataCollection = cohortConnector.getMetadataCollection();
+
+        if (metadataCollection == null)
+        {
+            throw new RepositoryErrorException(OMRSErrorCode.NULL_ENTERPRISE_METADATA_COLLECTION.getMessageDefinition(),
+                                               this.getClass().getName(),
+                                               methodName);
+        }
+
+        return metadataCollection;
+    }
+
+
+    /**
+     * Expansion is a request to a cohort member to expand an entity, and its result.
+     */
+    private static class Expansion
+    {
+        private final String  entityGUID;
+        private final int     memberIndex;
+        private final int     level;
+        private InstanceGraph result = null;
+
+        Expansion(String entityGUID,
+                  int    memberIndex,
+                  int    level)
+        {
+            this.entityGUID = entityGUID;
+            this.memberIndex = memberIndex;
+            this.level = level;
+        }
+    }
+}
@@ -285,27 +285,38 @@ public class OMRSRepositoryEventManager extends OMRSRepositoryEventBuilder
     	     * references and entities in the contained graph are valid to be processed
     		 */
     		InstanceGraph eventGraph = event.getInstanceBatch();
-    		List<EntityDetail> eventEntities = eventGraph.getEntities();
-    		List<Relationship> eventRelationships = eventGraph.getRelationships();
+    		List<EntityDetail> eventEntities = null;
+    		List<Relationship> eventRelationships = null;
+
+    		if (eventGraph != null)
+    		{
+    		    eventEntities = eventGraph.getEntities();
+    		    eventRelationships = eventGraph.getRelationships();
+    		}
     		
     		List<EntityDetail> validEntities = new ArrayList<>();
     		List<Relationship> validRelationships = new ArrayList<>();
     		
-    		for (EntityDetail entity: eventEntities)
+    		if (eventEntities != null)
     		{
-    			if (exchangeRule.processInstanceEvent(entity))
-    			{
-    				validEntities.add(entity);
-    			}
+    		    for (EntityDetail entity: eventEntities)
+    		    {
+    			    if (exchangeRule.processInstanceEvent(entity))
+    			    {
+    				    validEntities.add(entity);
+    			    }
+    		    }
     		}
     		
-    		
-    		for (Relationship relationship: eventRelationships)
+    		if (eventRelationships != null)
     		{
-    			if (exchangeRule.processInstanceEvent(relationship))
-    			{
-    				validRelationships.add(relationship);
-    			}
+    		    for (Relationship relationship: eventRelationships)
+    		    {
+    			    if (exchangeRule.processInstanceEvent(relationship))
+    			    {
+    				    validRelationships.add(relationship);
+    			    }
+    		    }
     		}
     		
     		if (validEntities.size() > 0 || validRelationships.size() > 0)
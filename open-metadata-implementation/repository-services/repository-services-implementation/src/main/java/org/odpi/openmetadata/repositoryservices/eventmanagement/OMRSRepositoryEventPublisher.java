@@ -3,6 +3,9 @@
 package org.odpi.openmetadata.repositoryservices.eventmanagement;
 
 import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,12 +15,30 @@ import org.odpi.openmetadata.repositoryservices.ffdc.exception.OMRSLogicErrorExc
 
 import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 
 /**
  * OMRSRepositoryEventPublisher publishes TypeDef and Instance OMRS Events to the supplied OMRSTopicConnector.
+ *
+ * Optionally, new entities and relationships can be grouped into batch instances events before they are published.
+ * Only new instance events are batched because the receivers of a batch instances event process each of its instances
+ * as a new instance.  A batch is published when it reaches the maximum batch size, when the batch interval
+ * has passed since its first instance was added, or immediately before any other type of instance event is published.
+ * This means the events for an individual instance are always published in the order they were received.
+ * The events are queued in this order while the batch is assembled and are sent to the topic connectors
+ * outside of the batching lock, one thread at a time, so a slow topic does not hold up the callers adding to a batch.
  */
 public class OMRSRepositoryEventPublisher extends OMRSRepositoryEventBuilder
 {
@@ -28,6 +49,29 @@ public class OMRSRepositoryEventPublisher extends OMRSRepositoryEventBuilder
     private List<OMRSTopicConnector>   instancesTopicConnectors;
     private AuditLog                   auditLog;
 
+    /*
+     * Instance batching is disabled unless setInstanceBatching is called with a batch size greater than one.
+     */
+    private static final long DEFAULT_INSTANCE_BATCH_INTERVAL = 100;
+
+    private boolean                    unpackInstanceBatches = false;
+    private int                        instanceBatchSize     = 0;
+    private long                       instanceBatchInterval = DEFAULT_INSTANCE_BATCH_INTERVAL;
+    private ScheduledExecutorService   batchScheduler        = null;
+    private ScheduledFuture<?>         batchTimer            = null;
+    private String                     batchSourceName       = null;
+    private OMRSInstanceEvent          firstBatchEvent       = null;
+    private int                        batchEventCount       = 0;
+    private Map<String, EntityDetail>  batchEntities         = new LinkedHashMap<>();
+    private Map<String, Relationship>  batchRelationships    = new LinkedHashMap<>();
+
+    /*
+     * Events ready to publish, in the order they must be sent.  The queue is guarded by the publisher's lock and
+     * the publishLock ensures only one thread at a time sends the queued events to the topic connectors.
+     */
+    private final Deque<ReadyEvent>    readyEvents           = new ArrayDeque<>();
+    private final ReentrantLock        publishLock           = new ReentrantLock();
+
 
     /**
      * Typical constructor sets up the local metadata collection id for events.
@@ -138,6 +182,81 @@ public class OMRSRepositoryEventPublisher extends OMRSRepositoryEventBuilder
     }
 
 
+    /**
+     * Turn on the grouping of new entities and relationships into batch instances events.
+     *
+     * @param instanceBatchSize maximum number of instances in a batch; a value less than 2 disables batching
+     * @param instanceBatchInterval maximum time in milliseconds an instance is held before its batch is published;
+     *                              a value less than 1 selects the default interval
+     */
+    public synchronized void setInstanceBatching(int  instanceBatchSize,
+                                                 long instanceBatchInterval)
+    {
+        if (instanceBatchSize > 1)
+        {
+            this.instanceBatchSize = instanceBatchSize;
+
+            if (instanceBatchInterval > 0)
+            {
+                this.instanceBatchInterval = instanceBatchInterval;
+            }
+
+            if (batchScheduler == null)
+            {
+                final String threadName = "OMRSRepositoryEventPublisher-" + eventProcessorName;
+
+                batchScheduler = Executors.newSingleThreadScheduledExecutor(runnable ->
+                {
+                    Thread thread = new Thread(runnable, threadName);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+
+            log.debug("Instance batching enabled for " + eventProcessorName + " with batch size " + this.instanceBatchSize +
+                              " and interval " + this.instanceBatchInterval);
+        }
+    }
+
+
+    /**
+     * Request that batch instances events received from other members of the cohort are published as an individual
+     * new entity or new relationship event for each of their instances.  This is used for the enterprise topic
+     * since the access services' listeners only process individual instance events.
+     *
+     * @param unpackInstanceBatches flag to indicate whether batch instances events should be unpacked
+     */
+    public void setUnpackInstanceBatches(boolean unpackInstanceBatches)
+    {
+        this.unpackInstanceBatches = unpackInstanceBatches;
+    }
+
+
+    /**
+     * Publish any batched instances and stop batching.  Subsequent instance events are published individually.
+     */
+    public void stopInstanceBatching()
+    {
+        ScheduledExecutorService scheduler;
+
+        synchronized (this)
+        {
+            this.flushInstanceBatch();
+
+            instanceBatchSize = 0;
+            scheduler = batchScheduler;
+            batchScheduler = null;
+        }
+
+        if (scheduler != null)
+        {
+            scheduler.shutdown();
+        }
+
+        this.publishReadyEvents();
+    }
+
+
     /**
      * Send the TypeDef event to the OMRS Topic connector (providing TypeDef Events are enabled).
      *
@@ -189,6 +308,16 @@ public class OMRSRepositoryEventPublisher extends OMRSRepositoryEventBuilder
         log.debug("instanceEvent: " + instanceEvent);
         log.debug("localEventOriginator: " + instanceEvent.getEventOriginator());
 
+        if ((unpackInstanceBatches) && (instanceEvent.getInstanceEventType() == OMRSInstanceEventType.BATCH_INSTANCES_EVENT))
+        {
+            for (OMRSInstanceEvent unpackedEvent : this.unpackInstanceBatch(instanceEvent))
+            {
+                this.sendInstanceEvent(sourceName, unpackedEvent);
+            }
+
+            return;
+        }
+
         try
         {
 
@@ -196,10 +325,14 @@ public class OMRSRepositoryEventPublisher extends OMRSRepositoryEventBuilder
 
             if (validatedEvent != null)
             {
-                for (OMRSTopicConnector omrsTopicConnector : instancesTopicConnectors)
+                if (instanceBatchSize > 1)
                 {
-                    log.debug("topicConnector: " + omrsTopicConnector);
-                    omrsTopicConnector.sendInstanceEvent(instanceEvent);
+                    this.batchInstanceEvent(sourceName, instanceEvent);
+                    this.publishReadyEvents();
+                }
+                else
+                {
+                    this.publishInstanceEvent(sourceName, instanceEvent);
                 }
             }
         }
@@ -213,4 +346,309 @@ public class OMRSRepositoryEventPublisher extends OMRSRepositoryEventBuilder
             log.debug("Exception: ", error);
         }
     }
-}
\ No newline at end of file
+
+
+    /**
+     * Convert a batch instances event into a new entity event for each of its entities followed by a new
+     * relationship event for each of its relationships.  The instances in a batch are only ever new instances
+     * (see batchInstanceEvent) and receivers process them as such.
+     *
+     * @param batchEvent batch instances event
+     * @return list of individual instance events with the batch's originator
+     */
+    private List<OMRSInstanceEvent> unpackInstanceBatch(OMRSInstanceEvent batchEvent)
+    {
+        List<OMRSInstanceEvent> unpackedEvents = new ArrayList<>();
+        InstanceGraph           instanceBatch  = batchEvent.getInstanceBatch();
+
+        if (instanceBatch != null)
+        {
+            if (instanceBatch.getEntities() != null)
+            {
+                for (EntityDetail entity : instanceBatch.getEntities())
+                {
+                    if (entity != null)
+                    {
+                        unpackedEvents.add(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, entity));
+                    }
+                }
+            }
+
+            if (instanceBatch.getRelationships() != null)
+            {
+                for (Relationship relationship : instanceBatch.getRelationships())
+                {
+                    if (relationship != null)
+                    {
+                        unpackedEvents.add(new OMRSInstanceEvent(OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT, relationship));
+                    }
+                }
+            }
+        }
+
+        for (OMRSInstanceEvent unpackedEvent : unpackedEvents)
+        {
+            unpackedEvent.setEventOriginator(batchEvent.getEventOriginator());
+        }
+
+        return unpackedEvents;
+    }
+
+
+    /**
+     * Add the instance event to the current batch if it describes a new entity or relationship from the same
+     * originator.  Any other event causes the current batch to be queued for publishing ahead of the event itself.
+     * The caller publishes the queued events once the lock is released.
+     *
+     * @param sourceName name of caller
+     * @param instanceEvent properties of the event to send
+     */
+    private synchronized void batchInstanceEvent(String            sourceName,
+                                                 OMRSInstanceEvent instanceEvent)
+    {
+        if (instanceBatchSize < 2)
+        {
+            this.flushInstanceBatch();
+            readyEvents.add(new ReadyEvent(sourceName, instanceEvent));
+            return;
+        }
+
+        EntityDetail entity       = null;
+        Relationship relationship = null;
+
+        if (instanceEvent.getInstanceEventType() != null)
+        {
+            switch (instanceEvent.getInstanceEventType())
+            {
+                case NEW_ENTITY_EVENT:
+                    entity = instanceEvent.getEntity();
+                    break;
+
+                case NEW_RELATIONSHIP_EVENT:
+                    relationship = instanceEvent.getRelationship();
+                    break;
+
+                default:
+                    break;
+            }
+        }
+
+        if (((entity == null) || (entity.getGUID() == null)) &&
+            ((relationship == null) || (relationship.getGUID() == null)))
+        {
+            this.flushInstanceBatch();
+            readyEvents.add(new ReadyEvent(sourceName, instanceEvent));
+            return;
+        }
+
+        if ((firstBatchEvent != null) && (! isSameOriginator(firstBatchEvent, instanceEvent)))
+        {
+            this.flushInstanceBatch();
+        }
+
+        if (firstBatchEvent == null)
+        {
+            firstBatchEvent = instanceEvent;
+            batchSourceName = sourceName;
+
+            if (batchScheduler != null)
+            {
+                batchTimer = batchScheduler.schedule(this::publishInstanceBatch, instanceBatchInterval, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        batchEventCount++;
+
+        if (entity != null)
+        {
+            batchEntities.merge(entity.getGUID(), entity,
+                                (existing, incoming) -> existing.getVersion() > incoming.getVersion() ? existing : incoming);
+        }
+        else
+        {
+            batchRelationships.merge(relationship.getGUID(), relationship,
+                                     (existing, incoming) -> existing.getVersion() > incoming.getVersion() ? existing : incoming);
+        }
+
+        if (batchEntities.size() + batchRelationships.size() >= instanceBatchSize)
+        {
+            this.flushInstanceBatch();
+        }
+    }
+
+
+    /**
+     * Publish the current batch when its interval expires.
+     */
+    private void publishInstanceBatch()
+    {
+        synchronized (this)
+        {
+            this.flushInstanceBatch();
+        }
+
+        this.publishReadyEvents();
+    }
+
+
+    /**
+     * Queue the instances in the current batch for publishing.  If only one event was batched it is
+     * queued unchanged.
+     */
+    private synchronized void flushInstanceBatch()
+    {
+        if (batchTimer != null)
+        {
+            batchTimer.cancel(false);
+            batchTimer = null;
+        }
+
+        if (firstBatchEvent == null)
+        {
+            return;
+        }
+
+        if (batchEventCount == 1)
+        {
+            readyEvents.add(new ReadyEvent(batchSourceName, firstBatchEvent));
+        }
+        else
+        {
+            InstanceGraph     instances  = new InstanceGraph(new ArrayList<>(batchEntities.values()),
+                                                             new ArrayList<>(batchRelationships.values()));
+            OMRSInstanceEvent batchEvent = new OMRSInstanceEvent(OMRSInstanceEventType.BATCH_INSTANCES_EVENT, instances);
+
+            batchEvent.setEventOriginator(firstBatchEvent.getEventOriginator());
+
+            log.debug("Publishing batch of " + (batchEntities.size() + batchRelationships.size()) +
+                              " instances from " + batchEventCount + " events");
+
+            readyEvents.add(new ReadyEvent(batchSourceName, batchEvent));
+        }
+
+        firstBatchEvent = null;
+        batchSourceName = null;
+        batchEventCount = 0;
+        batchEntities.clear();
+        batchRelationships.clear();
+    }
+
+
+    /**
+     * Send the queued events to the topic connectors in the order they were queued.  If another thread is already
+     * publishing, it picks up the events queued by this thread, so the caller does not wait for the topic.
+     */
+    private void publishReadyEvents()
+    {
+        while (publishLock.tryLock())
+        {
+            try
+            {
+                ReadyEvent readyEvent = this.nextReadyEvent();
+
+                while (readyEvent != null)
+                {
+                    this.publishInstanceEvent(readyEvent.sourceName, readyEvent.instanceEvent);
+                    readyEvent = this.nextReadyEvent();
+                }
+            }
+            finally
+            {
+                publishLock.unlock();
+            }
+
+            /*
+             * An event may have been queued after the queue was found empty and before the lock was released.
+             */
+            synchronized (this)
+            {
+                if (readyEvents.isEmpty())
+                {
+                    return;
+                }
+            }
+        }
+    }
+
+
+    /**
+     * Remove the next event to publish from the queue.
+     *
+     * @return event or null if the queue is empty
+     */
+    private synchronized ReadyEvent nextReadyEvent()
+    {
+        return readyEvents.poll();
+    }
+
+
+    /**
+     * Determine whether two events come from the same originator.
+     *
+     * @param event1 first event
+     * @param event2 second event
+     * @return boolean flag
+     */
+    private boolean isSameOriginator(OMRSInstanceEvent event1,
+                                     OMRSInstanceEvent event2)
+    {
+        OMRSEventOriginator originator1 = event1.getEventOriginator();
+        OMRSEventOriginator originator2 = event2.getEventOriginator();
+
+        if ((originator1 == null) || (originator2 == null))
+        {
+            return originator1 == originator2;
+        }
+
+        return Objects.equals(originator1.getMetadataCollectionId(), originator2.getMetadataCollectionId()) &&
+               Objects.equals(originator1.getServerName(), originator2.getServerName());
+    }
+
+
+    /**
+     * Send the instance event to each of the instance topic connectors.
+     *
+     * @param sourceName name of caller
+     * @param instanceEvent properties of the event to send
+     */
+    private void publishInstanceEvent(String            sourceName,
+                                      OMRSInstanceEvent instanceEvent)
+    {
+        String actionDescription = "Send Instance Event";
+
+        try
+        {
+            for (OMRSTopicConnector omrsTopicConnector : instancesTopicConnectors)
+            {
+                log.debug("topicConnector: " + omrsTopicConnector);
+                omrsTopicConnector.sendInstanceEvent(instanceEvent);
+            }
+        }
+        catch (Exception error)
+        {
+            auditLog.logException(actionDescription,
+                                  OMRSAuditCode.SEND_INSTANCE_EVENT_ERROR.getMessageDefinition(sourceName),
+                                  "instanceEvent {" + instanceEvent.toString() + "}",
+                                  error);
+
+            log.debug("Exception: ", error);
+        }
+    }
+
+
+    /**
+     * An instance event waiting to be published.
+     */
+    private static class ReadyEvent
+    {
+        private final String            sourceName;
+        private final OMRSInstanceEvent instanceEvent;
+
+        ReadyEvent(String            sourceName,
+                   OMRSInstanceEvent instanceEvent)
+        {
+            this.sourceName = sourceName;
+            this.instanceEvent = instanceEvent;
+        }
+    }
+}
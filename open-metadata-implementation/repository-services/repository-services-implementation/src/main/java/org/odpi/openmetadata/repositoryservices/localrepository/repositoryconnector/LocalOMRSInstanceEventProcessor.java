@@ -9,7 +9,10 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefCategory;
 import org.odpi.openmetadata.repositoryservices.events.*;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.InvalidParameterException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.RelationshipNotKnownException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSAuditCode;
@@ -23,6 +26,10 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.eventmanagement.*;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 
@@ -1757,8 +1764,86 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
         {
             verifyEventProcessor(methodName);
 
-            localMetadataCollection.saveInstanceReferenceCopies(localRepositoryConnector.getServerUserId(),
-                                                                instances);
+            /*
+             * Each instance in the batch is subject to the same checks as an instance received in its own event.
+             * The stored copies of the instances are retrieved in one request for the entities and one for the
+             * relationships rather than one request for each instance.
+             */
+            List<EntityDetail> entitiesToSave      = new ArrayList<>();
+            List<Relationship> relationshipsToSave = new ArrayList<>();
+
+            if (instances != null)
+            {
+                final String entityParameterName       = "entity";
+                final String relationshipParameterName = "relationship";
+
+                List<EntityDetail> validEntities      = new ArrayList<>();
+                List<Relationship> validRelationships = new ArrayList<>();
+
+                if (instances.getEntities() != null)
+                {
+                    for (EntityDetail entity : instances.getEntities())
+                    {
+                        if (isValidReferenceInstance(sourceName,
+                                                     methodName,
+                                                     originatorMetadataCollectionId,
+                                                     originatorServerName,
+                                                     entityParameterName,
+                                                     entity))
+                        {
+                            validEntities.add(entity);
+                        }
+                    }
+                }
+
+                if (instances.getRelationships() != null)
+                {
+                    for (Relationship relationship : instances.getRelationships())
+                    {
+                        if (isValidReferenceInstance(sourceName,
+                                                     methodName,
+                                                     originatorMetadataCollectionId,
+                                                     originatorServerName,
+                                                     relationshipParameterName,
+                                                     relationship))
+                        {
+                            validRelationships.add(relationship);
+                        }
+                    }
+                }
+
+                Map<String, EntityDetail> storedEntities = getStoredEntities(validEntities);
+
+                for (EntityDetail entity : validEntities)
+                {
+                    if (compareAndValidateReferenceInstance(originatorServerName,
+                                                            entity,
+                                                            storedEntities.get(entity.getGUID()),
+                                                            methodName))
+                    {
+                        entitiesToSave.add(entity);
+                    }
+                }
+
+                Map<String, Relationship> storedRelationships = getStoredRelationships(validRelationships);
+
+                for (Relationship relationship : validRelationships)
+                {
+                    if (compareAndValidateReferenceInstance(originatorServerName,
+                                                            relationship,
+                                                            storedRelationships.get(relationship.getGUID()),
+                                                            methodName))
+                    {
+                        relationshipsToSave.add(relationship);
+                    }
+                }
+            }
+
+            if ((! entitiesToSave.isEmpty()) || (! relationshipsToSave.isEmpty()))
+            {
+                localMetadataCollection.saveInstanceReferenceCopies(localRepositoryConnector.getServerUserId(),
+                                                                    new InstanceGraph(entitiesToSave, relationshipsToSave));
+            }
         }
         catch (Exception error)
         {
@@ -2217,35 +2302,113 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
     {
         try
         {
-            final String entityParameterName = "entity";
-
             verifyEventProcessor(methodName);
-            repositoryValidator.validateReferenceInstanceHeader(sourceName,
-                                                                localMetadataCollectionId,
-                                                                entityParameterName,
-                                                                entity,
-                                                                methodName);
 
-            EntityDetail storedEntity = localMetadataCollection.isEntityKnown(localRepositoryConnector.getServerUserId(),
-                                                                              entity.getGUID());
+            if (isReferenceEntityToSave(sourceName,
+                                        methodName,
+                                        originatorMetadataCollectionId,
+                                        originatorServerName,
+                                        entity))
+            {
+                localMetadataCollection.saveEntityReferenceCopy(localRepositoryConnector.getServerUserId(), entity);
+            }
+        }
+        catch (Exception error)
+        {
+            handleUnexpectedErrorFromEvent(error,
+                                           methodName,
+                                           originatorServerName,
+                                           originatorMetadataCollectionId);
+        }
+    }
 
-            /*
-             * Verify that the incoming instance is compatible with the stored instance.
-             */
-            if (compareAndValidateReferenceInstance(originatorServerName,
-                                                    entity,
-                                                    storedEntity,
-                                                    methodName))
+
+    /**
+     * Determine whether the reference entity should be saved in the local repository.  The entity must be
+     * well formed, compatible with (and a later version than) any stored copy and permitted by the rules.
+     * Any error is logged and results in the entity not being saved.
+     *
+     * @param sourceName                     name of the source of the event.  It may be the cohort name for incoming events or the
+     *                                       local repository, or event mapper name.
+     * @param methodName                     name of the event method
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param entity                         details of the entity
+     * @return boolean flag indicating whether the entity should be saved
+     */
+    private boolean isReferenceEntityToSave(String       sourceName,
+                                            String       methodName,
+                                            String       originatorMetadataCollectionId,
+                                            String       originatorServerName,
+                                            EntityDetail entity)
+    {
+        final String entityParameterName = "entity";
+
+        if (isValidReferenceInstance(sourceName,
+                                     methodName,
+                                     originatorMetadataCollectionId,
+                                     originatorServerName,
+                                     entityParameterName,
+                                     entity))
+        {
+            try
             {
+                EntityDetail storedEntity = localMetadataCollection.isEntityKnown(localRepositoryConnector.getServerUserId(),
+                                                                                  entity.getGUID());
+
                 /*
-                 * Verify that the rules allow the entity to be saved
+                 * Verify that the incoming instance is compatible with the stored instance.
                  */
-                if (verifyEventToSave(sourceName, entity))
-                {
-                    localMetadataCollection.saveEntityReferenceCopy(localRepositoryConnector.getServerUserId(), entity);
-                }
+                return compareAndValidateReferenceInstance(originatorServerName,
+                                                           entity,
+                                                           storedEntity,
+                                                           methodName);
+            }
+            catch (Exception error)
+            {
+                handleUnexpectedErrorFromEvent(error,
+                                               methodName,
+                                               originatorServerName,
+                                               originatorMetadataCollectionId);
             }
         }
+
+        return false;
+    }
+
+
+    /**
+     * Determine whether a reference instance is well formed and permitted by the rules.  Any error is logged and
+     * results in the instance not being saved.
+     *
+     * @param sourceName                     name of the source of the event.  It may be the cohort name for incoming events or the
+     *                                       local repository, or event mapper name.
+     * @param methodName                     name of the event method
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param instanceParameterName          name of the instance (for error reporting)
+     * @param instance                       details of the instance
+     * @return boolean flag indicating whether the instance may be saved
+     */
+    private boolean isValidReferenceInstance(String         sourceName,
+                                             String         methodName,
+                                             String         originatorMetadataCollectionId,
+                                             String         originatorServerName,
+                                             String         instanceParameterName,
+                                             InstanceHeader instance)
+    {
+        try
+        {
+            repositoryValidator.validateReferenceInstanceHeader(sourceName,
+                                                                localMetadataCollectionId,
+                                                                instanceParameterName,
+                                                                instance,
+                                                                methodName);
+
+            return verifyEventToSave(sourceName, instance);
+        }
         catch (Exception error)
         {
             handleUnexpectedErrorFromEvent(error,
@@ -2253,6 +2416,94 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
                                            originatorServerName,
                                            originatorMetadataCollectionId);
         }
+
+        return false;
+    }
+
+
+    /**
+     * Retrieve the stored copies of the supplied entities from the local repository in a single request.
+     *
+     * @param entities entities received in an event
+     * @return map of unique identifier to stored entity; entities that are not stored are left out
+     * @throws InvalidParameterException one of the unique identifiers is null
+     * @throws RepositoryErrorException there is a problem communicating with the local repository
+     * @throws UserNotAuthorizedException the local server's userId is not permitted to retrieve the entities
+     */
+    private Map<String, EntityDetail> getStoredEntities(List<EntityDetail> entities) throws InvalidParameterException,
+                                                                                            RepositoryErrorException,
+                                                                                            UserNotAuthorizedException
+    {
+        Map<String, EntityDetail> storedEntities = new HashMap<>();
+
+        if (! entities.isEmpty())
+        {
+            List<String> guids = new ArrayList<>();
+
+            for (EntityDetail entity : entities)
+            {
+                guids.add(entity.getGUID());
+            }
+
+            List<EntityDetail> retrievedEntities = localMetadataCollection.getEntityDetails(localRepositoryConnector.getServerUserId(),
+                                                                                            guids);
+
+            if (retrievedEntities != null)
+            {
+                for (EntityDetail storedEntity : retrievedEntities)
+                {
+                    if (storedEntity != null)
+                    {
+                        storedEntities.put(storedEntity.getGUID(), storedEntity);
+                    }
+                }
+            }
+        }
+
+        return storedEntities;
+    }
+
+
+    /**
+     * Retrieve the stored copies of the supplied relationships from the local repository in a single request.
+     *
+     * @param relationships relationships received in an event
+     * @return map of unique identifier to stored relationship; relationships that are not stored are left out
+     * @throws InvalidParameterException one of the unique identifiers is null
+     * @throws RepositoryErrorException there is a problem communicating with the local repository
+     * @throws UserNotAuthorizedException the local server's userId is not permitted to retrieve the relationships
+     */
+    private Map<String, Relationship> getStoredRelationships(List<Relationship> relationships) throws InvalidParameterException,
+                                                                                                      RepositoryErrorException,
+                                                                                                      UserNotAuthorizedException
+    {
+        Map<String, Relationship> storedRelationships = new HashMap<>();
+
+        if (! relationships.isEmpty())
+        {
+            List<String> guids = new ArrayList<>();
+
+            for (Relationship relationship : relationships)
+            {
+                guids.add(relationship.getGUID());
+            }
+
+            List<Relationship> retrievedRelationships = localMetadataCollection.getRelationships(localRepositoryConnector.getServerUserId(),
+                                                                                                 guids);
+
+            if (retrievedRelationships != null)
+            {
+                for (Relationship storedRelationship : retrievedRelationships)
+                {
+                    if (storedRelationship != null)
+                    {
+                        storedRelationships.put(storedRelationship.getGUID(), storedRelationship);
+                    }
+                }
+            }
+        }
+
+        return storedRelationships;
     }
 
 
@@ -2466,16 +2717,13 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
     {
         try
         {
-            final String     relationshipParameterName = "relationship";
-
             verifyEventProcessor(methodName);
-            repositoryValidator.validateReferenceInstanceHeader(sourceName,
-                                                                localMetadataCollectionId,
-                                                                relationshipParameterName,
-                                                                relationship,
-                                                                methodName);
 
-            if (verifyEventToSave(sourceName, relationship))
+            if (isReferenceRelationshipToSave(sourceName,
+                                              methodName,
+                                              originatorMetadataCollectionId,
+                                              originatorServerName,
+                                              relationship))
             {
                 localMetadataCollection.saveRelationshipReferenceCopy(localRepositoryConnector.getServerUserId(),
                                                                       relationship);
@@ -2491,6 +2739,36 @@ public class LocalOMRSInstanceEventProcessor extends OMRSInstanceEventProcessor
     }
 
 
+    /**
+     * Determine whether the reference relationship should be saved in the local repository.  The relationship must be
+     * well formed and permitted by the rules.  Any error is logged and results in the relationship not being saved.
+     *
+     * @param sourceName                     name of the source of the event.  It may be the cohort name for incoming events or the
+     *                                       local repository, or event mapper name.
+     * @param methodName                     name of the event method
+     * @param originatorMetadataCollectionId unique identifier for the metadata collection hosted by the server that
+     *                                       sent the event.
+     * @param originatorServerName           name of the server that the event came from.
+     * @param relationship                   details of the relationship
+     * @return boolean flag indicating whether the relationship should be saved
+     */
+    private boolean isReferenceRelationshipToSave(String       sourceName,
+                                                  String       methodName,
+                                                  String       originatorMetadataCollectionId,
+                                                  String       originatorServerName,
+                                                  Relationship relationship)
+    {
+        final String relationshipParameterName = "relationship";
+
+        return isValidReferenceInstance(sourceName,
+                                        methodName,
+                                        originatorMetadataCollectionId,
+                                        originatorServerName,
+                                        relationshipParameterName,
+                                        relationship);
+    }
+
+
     /**
      * Validate that this event processor is correctly initialized.
      *
@@ -5,6 +5,8 @@ package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconte
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.MatchCriteria;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.ClassificationCondition;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.EntityDetailPage;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.RelationshipPage;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.utilities.OMRSRepositoryPropertiesUtilities;
 import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
@@ -17,7 +19,9 @@ import org.slf4j.LoggerFactory;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.function.Function;
 import java.util.regex.Pattern;
 
 /**
@@ -31,6 +35,12 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
 {
     private static final Logger log = LoggerFactory.getLogger(OMRSRepositoryContentHelper.class);
 
+    private static final String CONTINUATION_TOKEN_VERSION     = "2";
+    private static final String CONTINUATION_TOKEN_SEPARATOR   = "\n";
+    private static final int    CONTINUATION_TOKEN_FIELD_COUNT = 8;
+    private static final String REPOSITORY_POSITION_SEPARATOR  = ",";
+    private static final String REPOSITORY_POSITION_ASSIGNMENT = "=";
+
     private OMRSRepositoryContentManager repositoryContentManager;
 
 
@@ -2046,12 +2056,74 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
                                                    int                  pageSize) throws PagingErrorException,
                                                                                          PropertyErrorException
     {
-        if (fullResults == null)
-        {
-            return null;
-        }
+        return this.formatInstanceResults(fullResults,
+                                          EntityDetail::getProperties,
+                                          fromElement,
+                                          sequencingProperty,
+                                          sequencingOrder,
+                                          pageSize);
+    }
+
+
+    /**
+     * Use the paging and sequencing parameters to format the results for a repository call that returns a list of
+     * relationship instances.
+     *
+     * @param fullResults - the full list of results in an arbitrary order. This is supplied not empty.
+     * @param fromElement - the starting element number of the instances to return. This is used when retrieving elements
+     *                    beyond the first page of results. Zero means start from the first element.
+     * @param sequencingProperty - String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder - Enum defining how the results should be ordered.
+     * @param pageSize - the maximum number of result entities that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @return results array as requested
+     * @throws PropertyErrorException the sequencing property specified is not valid for any of the requested types of
+     *                                  relationship.
+     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     */
+    @Override
+    public List<Relationship>  formatRelationshipResults(List<Relationship>   fullResults,
+                                                         int                  fromElement,
+                                                         String               sequencingProperty,
+                                                         SequencingOrder      sequencingOrder,
+                                                         int                  pageSize) throws PagingErrorException,
+                                                                                               PropertyErrorException
+    {
+        return this.formatInstanceResults(fullResults,
+                                          Relationship::getProperties,
+                                          fromElement,
+                                          sequencingProperty,
+                                          sequencingOrder,
+                                          pageSize);
+    }
+
 
-        if (fullResults.isEmpty())
+    /**
+     * Use the paging and sequencing parameters to select the requested results.  The sequencing key of each
+     * instance is extracted once rather than on every comparison, and when a page size is set only the first
+     * fromElement + pageSize instances are selected and sorted.  Instances with equal sequencing keys are
+     * returned in GUID order.
+     *
+     * @param fullResults the full list of results in an arbitrary order
+     * @param propertiesAccessor function to extract the properties from an instance
+     * @param fromElement the starting element number of the instances to return. Zero means start from the first element.
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of results that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @param <T> type of instance
+     * @return results array as requested
+     */
+    private <T extends InstanceHeader> List<T> formatInstanceResults(List<T>                         fullResults,
+                                                                     Function<T, InstanceProperties> propertiesAccessor,
+                                                                     int                             fromElement,
+                                                                     String                          sequencingProperty,
+                                                                     SequencingOrder                 sequencingOrder,
+                                                                     int                             pageSize)
+    {
+        if ((fullResults == null) || (fullResults.isEmpty()))
         {
             return null;
         }
@@ -2068,388 +2140,1124 @@ public class OMRSRepositoryContentHelper extends OMRSRepositoryPropertiesUtiliti
             return null;
         }
 
+        List<T> sortedResults = fullResults;
+
         // If there is no sequencing order, or it is defined as 'ANY', there is no sorting to do
-        if (sequencingOrder != null && !sequencingOrder.equals(SequencingOrder.ANY))
+        if ((sequencingOrder != null) && (sequencingOrder != SequencingOrder.ANY))
         {
-            if (sequencingOrder.equals(SequencingOrder.PROPERTY_ASCENDING) || sequencingOrder.equals(SequencingOrder.PROPERTY_DESCENDING))
+            List<SequencedInstance<T>> sequencedInstances = new ArrayList<>(fullResultsSize);
+
+            for (T instance : fullResults)
             {
-                // If the sequencing is property-based, handover to the property comparator
-                fullResults.sort((one, two) -> OMRSRepositoryContentHelper.compareProperties(
-                        one.getProperties(),
-                        two.getProperties(),
-                        sequencingProperty,
-                        sequencingOrder
-                ));
+                if (instance == null)
+                {
+                    sequencedInstances.add(new SequencedInstance<>(null, null, null));
+                }
+                else
+                {
+                    sequencedInstances.add(new SequencedInstance<>(instance,
+                                                                   instance.getGUID(),
+                                                                   getSequencingKey(instance,
+                                                                                    propertiesAccessor.apply(instance),
+                                                                                    sequencingProperty,
+                                                                                    sequencingOrder)));
+                }
             }
-            else
+
+            int selectionSize = (pageSize < fullResultsSize - fromElement) ? fromElement + pageSize : 0;
+
+            sequencedInstances = selectFirstInstances(sequencedInstances,
+                                                      getSequencedInstanceComparator(sequencingOrder),
+                                                      selectionSize);
+
+            sortedResults = new ArrayList<>(sequencedInstances.size());
+
+            for (SequencedInstance<T> sequencedInstance : sequencedInstances)
             {
-                // Otherwise handover to the instance comparator
-                fullResults.sort((one, two) -> OMRSRepositoryContentHelper.compareInstances(one, two, sequencingOrder));
+                sortedResults.add(sequencedInstance.instance);
             }
         }
 
         if ((fromElement == 0) && (pageSize > fullResultsSize))
         {
-            return fullResults;
+            return sortedResults;
         }
 
-        int toIndex = getToIndex(fromElement, pageSize, fullResultsSize);
-        return new ArrayList<>(fullResults.subList(fromElement, toIndex));
+        int toIndex = getToIndex(fromElement, pageSize, sortedResults.size());
+
+        return new ArrayList<>(sortedResults.subList(fromElement, toIndex));
     }
 
 
     /**
-     * Use the paging and sequencing parameters to format the results for a repository call that returns a list of
-     * relationship instances.
+     * Use the continuation token, sequencing and paging parameters to format one page of the results for a
+     * repository call that returns a list of entity instances.
      *
-     * @param fullResults - the full list of results in an arbitrary order. This is supplied not empty.
-     * @param fromElement - the starting element number of the instances to return. This is used when retrieving elements
-     *                    beyond the first page of results. Zero means start from the first element.
-     * @param sequencingProperty - String name of the property that is to be used to sequence the results.
+     * @param sourceName name of the repository (for error reporting)
+     * @param fullResults the full list of results in an arbitrary order
+     * @param fromElement the starting element number of the instances to return.  This is only used when
+     *                    there is no continuation token.
+     * @param continuationToken token returned with the previous page, or null for the first page
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
      *                           Null means do not sequence on a property name (see SequencingOrder).
-     * @param sequencingOrder - Enum defining how the results should be ordered.
-     * @param pageSize - the maximum number of result entities that can be returned on this request.  Zero means
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result entities that can be returned on this request.  Zero means
      *                 unrestricted return results size.
-     * @return results array as requested
-     * @throws PropertyErrorException the sequencing property specified is not valid for any of the requested types of
-     *                                  relationship.
-     * @throws PagingErrorException the paging/sequencing parameters are set up incorrectly.
+     * @param methodName calling method
+     * @return page of results with the token for the next page
+     * @throws PagingErrorException the continuation token is not valid for this request.
+     */
+    @Override
+    public EntityDetailPage formatEntityPage(String             sourceName,
+                                             List<EntityDetail> fullResults,
+                                             int                fromElement,
+                                             String             continuationToken,
+                                             String             sequencingProperty,
+                                             SequencingOrder    sequencingOrder,
+                                             int                pageSize,
+                                             String             methodName) throws PagingErrorException
+    {
+        InstancePage<EntityDetail> page = this.formatInstancePage(sourceName,
+                                                                  fullResults,
+                                                                  EntityDetail::getProperties,
+                                                                  fromElement,
+                                                                  continuationToken,
+                                                                  sequencingProperty,
+                                                                  sequencingOrder,
+                                                                  pageSize,
+                                                                  methodName);
+
+        return new EntityDetailPage(page.instances, page.continuationToken);
+    }
+
+
+    /**
+     * Use the continuation token, sequencing and paging parameters to format one page of the results for a
+     * repository call that returns a list of relationship instances.
+     *
+     * @param sourceName name of the repository (for error reporting)
+     * @param fullResults the full list of results in an arbitrary order
+     * @param fromElement the starting element number of the instances to return.  This is only used when
+     *                    there is no continuation token.
+     * @param continuationToken token returned with the previous page, or null for the first page
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     *                           Null means do not sequence on a property name (see SequencingOrder).
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize the maximum number of result relationships that can be returned on this request.  Zero means
+     *                 unrestricted return results size.
+     * @param methodName calling method
+     * @return page of results with the token for the next page
+     * @throws PagingErrorException the continuation token is not valid for this request.
+     */
+    @Override
+    public RelationshipPage formatRelationshipPage(String             sourceName,
+                                                   List<Relationship> fullResults,
+                                                   int                fromElement,
+                                                   String             continuationToken,
+                                                   String             sequencingProperty,
+                                                   SequencingOrder    sequencingOrder,
+                                                   int                pageSize,
+                                                   String             methodName) throws PagingErrorException
+    {
+        InstancePage<Relationship> page = this.formatInstancePage(sourceName,
+                                                                  fullResults,
+                                                                  Relationship::getProperties,
+                                                                  fromElement,
+                                                                  continuationToken,
+                                                                  sequencingProperty,
+                                                                  sequencingOrder,
+                                                                  pageSize,
+                                                                  methodName);
+
+        return new RelationshipPage(page.instances, page.continuationToken);
+    }
+
+
+    /**
+     * Return the number of results that precede the page that the continuation token retrieves.
+     *
+     * @param sourceName name of the repository (for error reporting)
+     * @param continuationToken token returned with the previous page, or null for the first page
+     * @param fromElement the starting element number to use if there is no continuation token
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param methodName calling method
+     * @return starting element number
+     * @throws PagingErrorException the continuation token is not valid for this request.
      */
     @Override
-    public List<Relationship>  formatRelationshipResults(List<Relationship>   fullResults,
-                                                         int                  fromElement,
-                                                         String               sequencingProperty,
-                                                         SequencingOrder      sequencingOrder,
-                                                         int                  pageSize) throws PagingErrorException,
-                                                                                               PropertyErrorException
+    public int getContinuationTokenPosition(String          sourceName,
+                                            String          continuationToken,
+                                            int             fromElement,
+                                            String          sequencingProperty,
+                                            SequencingOrder sequencingOrder,
+                                            String          methodName) throws PagingErrorException
+    {
+        ContinuationToken token = this.decodeContinuationToken(sourceName,
+                                                               continuationToken,
+                                                               sequencingProperty,
+                                                               getPageSequencingOrder(sequencingOrder),
+                                                               methodName);
+
+        if (token == null)
+        {
+            return fromElement;
+        }
+
+        return token.position;
+    }
+
+
+    /**
+     * Return the number of the supplied entities that sort at or before the last entity returned with the
+     * continuation token.
+     *
+     * @param sourceName name of the repository (for error reporting)
+     * @param results entities retrieved for the page
+     * @param continuationToken token returned with the previous page, or null for the first page
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param methodName calling method
+     * @return number of entities that precede the page
+     * @throws PagingErrorException the continuation token is not valid for this request.
+     */
+    @Override
+    public int countEntitiesBeforeContinuationToken(String             sourceName,
+                                                    List<EntityDetail> results,
+                                                    String             continuationToken,
+                                                    String             sequencingProperty,
+                                                    SequencingOrder    sequencingOrder,
+                                                    String             methodName) throws PagingErrorException
+    {
+        return this.countInstancesBeforeContinuationToken(sourceName,
+                                                          results,
+                                                          EntityDetail::getProperties,
+                                                          continuationToken,
+                                                          sequencingProperty,
+                                                          sequencingOrder,
+                                                          methodName);
+    }
+
+
+    /**
+     * Return the number of the supplied relationships that sort at or before the last relationship returned
+     * with the continuation token.
+     *
+     * @param sourceName name of the repository (for error reporting)
+     * @param results relationships retrieved for the page
+     * @param continuationToken token returned with the previous page, or null for the first page
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param methodName calling method
+     * @return number of relationships that precede the page
+     * @throws PagingErrorException the continuation token is not valid for this request.
+     */
+    @Override
+    public int countRelationshipsBeforeContinuationToken(String             sourceName,
+                                                         List<Relationship> results,
+                                                         String             continuationToken,
+                                                         String             sequencingProperty,
+                                                         SequencingOrder    sequencingOrder,
+                                                         String             methodName) throws PagingErrorException
+    {
+        return this.countInstancesBeforeContinuationToken(sourceName,
+                                                          results,
+                                                          Relationship::getProperties,
+                                                          continuationToken,
+                                                          sequencingProperty,
+                                                          sequencingOrder,
+                                                          methodName);
+    }
+
+
+    /**
+     * Return the continuation token to pass to one repository in a federation.  It has the same sequencing key
+     * as the federated token but the position of that repository, so a repository that falls back to offset
+     * paging retrieves the page from its own results rather than from the position in the merged results.
+     *
+     * @param sourceName name of the repository (for error reporting)
+     * @param continuationToken token returned with the previous federated page, or null for the first page
+     * @param metadataCollectionId unique identifier of the repository's metadata collection
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param methodName calling method
+     * @return token for the repository; null if there is no continuation token
+     * @throws PagingErrorException the continuation token is not valid for this request.
+     */
+    @Override
+    public String getRepositoryContinuationToken(String          sourceName,
+                                                 String          continuationToken,
+                                                 String          metadataCollectionId,
+                                                 String          sequencingProperty,
+                                                 SequencingOrder sequencingOrder,
+                                                 String          methodName) throws PagingErrorException
     {
-        if (fullResults == null)
+        SequencingOrder   pageSequencingOrder = getPageSequencingOrder(sequencingOrder);
+        ContinuationToken token               = this.decodeContinuationToken(sourceName,
+                                                                             continuationToken,
+                                                                             sequencingProperty,
+                                                                             pageSequencingOrder,
+                                                                             methodName);
+
+        if (token == null)
         {
             return null;
         }
 
-        if (fullResults.isEmpty())
+        Integer repositoryPosition = token.repositoryPositions.get(metadataCollectionId);
+
+        token.position = (repositoryPosition == null) ? 0 : repositoryPosition;
+        token.repositoryPositions.clear();
+
+        return encodeContinuationToken(pageSequencingOrder, sequencingProperty, token);
+    }
+
+
+    /**
+     * Record the position of each repository in a federation in the continuation token for the next page.
+     * The new position of a repository is its position in the previous token plus the number of its results
+     * that sort at or before the last instance on the page.  Repositories with no count keep their previous
+     * position.
+     *
+     * @param sourceName name of the repository (for error reporting)
+     * @param previousContinuationToken token that the page was retrieved with, or null for the first page
+     * @param continuationToken token for the next page
+     * @param repositoryCounts map of metadata collection id to the number of its results that precede the next page
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param methodName calling method
+     * @return token for the next page, including the position of each repository
+     * @throws PagingErrorException the continuation token is not valid for this request.
+     */
+    @Override
+    public String addRepositoryPositions(String               sourceName,
+                                         String               previousContinuationToken,
+                                         String               continuationToken,
+                                         Map<String, Integer> repositoryCounts,
+                                         String               sequencingProperty,
+                                         SequencingOrder      sequencingOrder,
+                                         String               methodName) throws PagingErrorException
+    {
+        SequencingOrder   pageSequencingOrder = getPageSequencingOrder(sequencingOrder);
+        ContinuationToken previousToken       = this.decodeContinuationToken(sourceName,
+                                                                             previousContinuationToken,
+                                                                             sequencingProperty,
+                                                                             pageSequencingOrder,
+                                                                             methodName);
+        ContinuationToken token               = this.decodeContinuationToken(sourceName,
+                                                                             continuationToken,
+                                                                             sequencingProperty,
+                                                                             pageSequencingOrder,
+                                                                             methodName);
+
+        if (token == null)
         {
             return null;
         }
 
-        if (pageSize == 0)
+        if (previousToken != null)
         {
-            return fullResults;
+            token.repositoryPositions.putAll(previousToken.repositoryPositions);
         }
 
-        int fullResultsSize = fullResults.size();
+        if (repositoryCounts != null)
+        {
+            for (Map.Entry<String, Integer> repositoryCount : repositoryCounts.entrySet())
+            {
+                if ((repositoryCount.getKey() != null) && (repositoryCount.getValue() != null))
+                {
+                    Integer previousPosition = token.repositoryPositions.get(repositoryCount.getKey());
 
-        if (fromElement >= fullResultsSize)
+                    token.repositoryPositions.put(repositoryCount.getKey(),
+                                                  ((previousPosition == null) ? 0 : previousPosition) + repositoryCount.getValue());
+                }
+            }
+        }
+
+        return encodeContinuationToken(pageSequencingOrder, sequencingProperty, token);
+    }
+
+
+    /**
+     * Count the instances that sort at or before the last instance returned with the continuation token.
+     *
+     * @param sourceName name of the repository (for error reporting)
+     * @param results instances retrieved for the page
+     * @param propertiesAccessor function to extract the properties from an instance
+     * @param continuationToken token returned with the previous page, or null for the first page
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param methodName calling method
+     * @param <T> type of instance
+     * @return number of instances that precede the page
+     * @throws PagingErrorException the continuation token is not valid for this request.
+     */
+    private <T extends InstanceHeader> int countInstancesBeforeContinuationToken(String                          sourceName,
+                                                                                 List<T>                         results,
+                                                                                 Function<T, InstanceProperties> propertiesAccessor,
+                                                                                 String                          continuationToken,
+                                                                                 String                          sequencingProperty,
+                                                                                 SequencingOrder                 sequencingOrder,
+                                                                                 String                          methodName) throws PagingErrorException
+    {
+        SequencingOrder   pageSequencingOrder = getPageSequencingOrder(sequencingOrder);
+        ContinuationToken token               = this.decodeContinuationToken(sourceName,
+                                                                             continuationToken,
+                                                                             sequencingProperty,
+                                                                             pageSequencingOrder,
+                                                                             methodName);
+
+        if ((token == null) || (results == null))
         {
-            return null;
+            return 0;
         }
 
-        // If there is no sequencing order, or it is defined as 'ANY', there is no sorting to do
-        if (sequencingOrder != null && !sequencingOrder.equals(SequencingOrder.ANY))
+        Comparator<SequencedInstance<T>> comparator    = getSequencedInstanceComparator(pageSequencingOrder);
+        SequencedInstance<T>             tokenInstance = new SequencedInstance<>(null, token.guid, token.key);
+        int                              count         = 0;
+
+        for (T instance : results)
         {
-            if (sequencingOrder.equals(SequencingOrder.PROPERTY_ASCENDING) || sequencingOrder.equals(SequencingOrder.PROPERTY_DESCENDING))
+            if (instance != null)
             {
-                // If the sequencing is property-based, handover to the property comparator
-                fullResults.sort((one, two) -> OMRSRepositoryContentHelper.compareProperties(
-                        one.getProperties(),
-                        two.getProperties(),
-                        sequencingProperty,
-                        sequencingOrder
-                ));
+                SequencedInstance<T> sequencedInstance = new SequencedInstance<>(instance,
+                                                                                 instance.getGUID(),
+                                                                                 getSequencingKey(instance,
+                                                                                                  propertiesAccessor.apply(instance),
+                                                                                                  sequencingProperty,
+                                                                                                  pageSequencingOrder));
+
+                if (comparator.compare(sequencedInstance, tokenInstance) <= 0)
+                {
+                    count++;
+                }
             }
-            else
+        }
+
+        return count;
+    }
+
+
+    /**
+     * Select the page of instances that follows the continuation token (or fromElement if there is no token).
+     * The sequencing key of each instance is extracted once.  When a page size is set, only the instances
+     * needed to fill the page (plus one to detect whether there are more) are kept in a bounded heap and sorted,
+     * rather than sorting the full results.
+     *
+     * @param sourceName name of the repository (for error reporting)
+     * @param fullResults the full list of results in an arbitrary order
+     * @param propertiesAccessor function to extract the properties from an instance
+     * @param fromElement the starting element number to use if there is no continuation token
+     * @param continuationToken token returned with the previous page, or null for the first page
+     * @param sequencingProperty String name of the property that is to be used to sequence the results.
+     * @param sequencingOrder Enum defining how the results should be ordered.
+     * @param pageSize maximum number of results to return.  Zero means unrestricted.
+     * @param methodName calling method
+     * @param <T> type of instance
+     * @return selected instances and the token for the next page
+     * @throws PagingErrorException the continuation token is not valid for this request.
+     */
+    private <T extends InstanceHeader> InstancePage<T> formatInstancePage(String                          sourceName,
+                                                                          List<T>                         fullResults,
+                                                                          Function<T, InstanceProperties> propertiesAccessor,
+                                                                          int                             fromElement,
+                                                                          String                          continuationToken,
+                                                                          String                          sequencingProperty,
+                                                                          SequencingOrder                 sequencingOrder,
+                                                                          int                             pageSize,
+                                                                          String                          methodName) throws PagingErrorException
+    {
+        SequencingOrder   pageSequencingOrder = getPageSequencingOrder(sequencingOrder);
+        ContinuationToken token               = this.decodeContinuationToken(sourceName,
+                                                                             continuationToken,
+                                                                             sequencingProperty,
+                                                                             pageSequencingOrder,
+                                                                             methodName);
+        InstancePage<T>   page                = new InstancePage<>();
+
+        if ((fullResults == null) || (fullResults.isEmpty()))
+        {
+            return page;
+        }
+
+        Comparator<SequencedInstance<T>> comparator = getSequencedInstanceComparator(pageSequencingOrder);
+
+        int                  skipCount     = 0;
+        int                  position;
+        SequencedInstance<T> tokenInstance = null;
+
+        if (token == null)
+        {
+            skipCount = Math.max(fromElement, 0);
+            position  = skipCount;
+        }
+        else
+        {
+            position      = token.position;
+            tokenInstance = new SequencedInstance<>(null, token.guid, token.key);
+        }
+
+        List<SequencedInstance<T>> candidates = new ArrayList<>();
+
+        for (T instance : fullResults)
+        {
+            if (instance != null)
             {
-                // Otherwise handover to the instance comparator
-                fullResults.sort((one, two) -> OMRSRepositoryContentHelper.compareInstances(one, two, sequencingOrder));
+                SequencedInstance<T> sequencedInstance = new SequencedInstance<>(instance,
+                                                                                 instance.getGUID(),
+                                                                                 getSequencingKey(instance,
+                                                                                                  propertiesAccessor.apply(instance),
+                                                                                                  sequencingProperty,
+                                                                                                  pageSequencingOrder));
+
+                if ((tokenInstance == null) || (comparator.compare(sequencedInstance, tokenInstance) > 0))
+                {
+                    candidates.add(sequencedInstance);
+                }
             }
         }
 
-        if ((fromElement == 0) && (pageSize > fullResultsSize))
+        List<SequencedInstance<T>> selected = selectFirstInstances(candidates,
+                                                                   comparator,
+                                                                   pageSize == 0 ? 0 : skipCount + pageSize + 1);
+
+        List<T> results = new ArrayList<>();
+
+        for (int index = skipCount; index < selected.size(); index++)
         {
-            return fullResults;
+            if ((pageSize != 0) && (results.size() == pageSize))
+            {
+                break;
+            }
+
+            results.add(selected.get(index).instance);
         }
 
+        if (! results.isEmpty())
+        {
+            page.instances = results;
+
+            if ((pageSize != 0) && (selected.size() > skipCount + pageSize))
+            {
+                SequencedInstance<T> lastInstance = selected.get(skipCount + pageSize - 1);
+                ContinuationToken    nextToken    = new ContinuationToken();
 
+                nextToken.position = position + results.size();
+                nextToken.guid     = lastInstance.guid;
+                nextToken.key      = lastInstance.key;
 
-        int toIndex = getToIndex(fromElement, pageSize, fullResultsSize);
+                page.continuationToken = encodeContinuationToken(pageSequencingOrder, sequencingProperty, nextToken);
+            }
+        }
 
-        return new ArrayList<>(fullResults.subList(fromElement, toIndex));
+        return page;
     }
 
 
     /**
-     * Compare the two instances and determine the sort order based on the nominated non-property sort order.
+     * Return the first instances in the order defined by the comparator.  If only some of the instances are
+     * needed, they are selected with a bounded heap so the cost is O(n log limit) rather than O(n log n).
      *
-     * @param one the first instance
-     * @param two the second instance
-     * @param sequencingOrder nominated non-property sort order
-     * @return sort result
+     * @param instances instances to select from
+     * @param comparator sequencing order
+     * @param limit number of instances needed - zero means all of them
+     * @param <T> type of instance
+     * @return sorted list of the first instances
      */
-    private static int  compareInstances(InstanceHeader  one,
-                                         InstanceHeader  two,
-                                         SequencingOrder sequencingOrder)
+    private static <T> List<T> selectFirstInstances(List<T>       instances,
+                                                    Comparator<T> comparator,
+                                                    int           limit)
     {
+        if ((limit == 0) || (instances.size() <= limit))
+        {
+            instances.sort(comparator);
+            return instances;
+        }
 
-        int sortResult;
+        PriorityQueue<T> lastSelected = new PriorityQueue<>(limit, comparator.reversed());
 
-        if (one == null && two == null)
+        for (T instance : instances)
         {
-            sortResult = 0;
+            if (lastSelected.size() < limit)
+            {
+                lastSelected.add(instance);
+            }
+            else if (comparator.compare(instance, lastSelected.peek()) < 0)
+            {
+                lastSelected.poll();
+                lastSelected.add(instance);
+            }
         }
-        else if (one != null && two == null)
+
+        List<T> selected = new ArrayList<>(lastSelected);
+
+        selected.sort(comparator);
+
+        return selected;
+    }
+
+
+    /**
+     * Continuation tokens need a total order so every instance appears on exactly one page.  If no order is
+     * requested then GUID order is used.
+     *
+     * @param sequencingOrder requested order
+     * @return order used for the pages
+     */
+    private static SequencingOrder getPageSequencingOrder(SequencingOrder sequencingOrder)
+    {
+        if ((sequencingOrder == null) || (sequencingOrder == SequencingOrder.ANY))
         {
-            sortResult = 1;
+            return SequencingOrder.GUID;
+        }
+
+        return sequencingOrder;
+    }
+
+
+    /**
+     * Return the comparator for the sequencing order.  Instances with equal sequencing keys are ordered by GUID.
+     *
+     * @param sequencingOrder order of the page (not ANY)
+     * @param <T> type of instance
+     * @return comparator
+     */
+    private static <T> Comparator<SequencedInstance<T>> getSequencedInstanceComparator(SequencingOrder sequencingOrder)
+    {
+        final boolean descending = (sequencingOrder == SequencingOrder.PROPERTY_DESCENDING) ||
+                                   (sequencingOrder == SequencingOrder.LAST_UPDATE_RECENT) ||
+                                   (sequencingOrder == SequencingOrder.CREATION_DATE_RECENT);
+
+        return (one, two) ->
+        {
+            int sortResult = compareSequencingKeys(one.key, two.key);
+
+            if (descending)
+            {
+                sortResult = -sortResult;
+            }
+
+            if (sortResult == 0)
+            {
+                if ((one.guid == null) && (two.guid == null))
+                {
+                    sortResult = 0;
+                }
+                else if (one.guid == null)
+                {
+                    sortResult = -1;
+                }
+                else if (two.guid == null)
+                {
+                    sortResult = 1;
+                }
+                else
+                {
+                    sortResult = one.guid.compareTo(two.guid);
+                }
+            }
+
+            return sortResult;
+        };
+    }
+
+
+    /**
+     * Compare two sequencing keys.  A missing key sorts before a present one.  Keys of different
+     * primitive types are ordered by type so that the order is consistent.
+     *
+     * @param one first key (may be null)
+     * @param two second key (may be null)
+     * @return sort result
+     */
+    @SuppressWarnings("unchecked")
+    private static int compareSequencingKeys(SequencingKey one,
+                                             SequencingKey two)
+    {
+        if ((one == null) && (two == null))
+        {
+            return 0;
+        }
+        else if (two == null)
+        {
+            return 1;
         }
         else if (one == null)
         {
-            sortResult = -1;
+            return -1;
         }
-        else
+        else if (one.category != two.category)
         {
-            // Both are now non-null...
-            switch (sequencingOrder)
-            {
-                case GUID:
-                    String guidOne = one.getGUID();
-                    String guidTwo = two.getGUID();
-                    if (guidOne == null && guidTwo == null)
-                    {
-                        sortResult = 0;
-                    }
-                    else if (guidOne != null && guidTwo == null)
-                    {
-                        sortResult = 1;
-                    }
-                    else if (guidOne == null)
-                    {
-                        sortResult = -1;
-                    }
-                    else
-                    {
-                        sortResult = guidOne.compareTo(guidTwo);
-                    }
-                    break;
-                case LAST_UPDATE_RECENT:
-                case LAST_UPDATE_OLDEST:
-                    Date updateOne = one.getUpdateTime();
-                    Date updateTwo = two.getUpdateTime();
-                    if (updateOne == null && updateTwo == null)
-                    {
-                        sortResult = 0;
-                    }
-                    else if (updateOne != null && updateTwo == null)
-                    {
-                        sortResult = 1;
-                    }
-                    else if (updateOne == null)
-                    {
-                        sortResult = -1;
-                    }
-                    else
-                    {
-                        sortResult = updateOne.compareTo(updateTwo);
-                    }
-                    if (sequencingOrder.equals(SequencingOrder.LAST_UPDATE_RECENT))
-                    {
-                        // invert the result
-                        sortResult = -sortResult;
-                    }
-                    break;
-                case CREATION_DATE_RECENT:
-                case CREATION_DATE_OLDEST:
-                    Date createOne = one.getCreateTime();
-                    Date createTwo = two.getCreateTime();
-                    if (createOne == null && createTwo == null)
-                    {
-                        sortResult = 0;
-                    }
-                    else if (createOne != null && createTwo == null)
-                    {
-                        sortResult = 1;
-                    }
-                    else if (createOne == null)
-                    {
-                        sortResult = -1;
-                    }
-                    else
-                    {
-                        sortResult = createOne.compareTo(createTwo);
-                    }
-                    if (sequencingOrder.equals(SequencingOrder.CREATION_DATE_RECENT))
+            return Integer.compare(one.category.ordinal(), two.category.ordinal());
+        }
+
+        return ((Comparable<Object>) one.value).compareTo(two.value);
+    }
+
+
+    /**
+     * Extract the value that an instance is sequenced by.
+     *
+     * @param instance instance header
+     * @param properties properties of the instance
+     * @param sequencingProperty name of property for property based orders
+     * @param sequencingOrder order of the page
+     * @return key or null if the instance has no value
+     */
+    private static SequencingKey getSequencingKey(InstanceHeader     instance,
+                                                  InstanceProperties properties,
+                                                  String             sequencingProperty,
+                                                  SequencingOrder    sequencingOrder)
+    {
+        switch (sequencingOrder)
+        {
+            case PROPERTY_ASCENDING:
+            case PROPERTY_DESCENDING:
+                if ((properties != null) && (sequencingProperty != null))
+                {
+                    InstancePropertyValue propertyValue = properties.getPropertyValue(sequencingProperty);
+
+                    if (propertyValue instanceof PrimitivePropertyValue)
                     {
-                        // invert the result
-                        sortResult = -sortResult;
+                        PrimitivePropertyValue primitivePropertyValue = (PrimitivePropertyValue)propertyValue;
+
+                        return getSequencingKey(primitivePropertyValue.getPrimitiveDefCategory(),
+                                                primitivePropertyValue.getPrimitiveValue());
                     }
-                    break;
-                case ANY:
-                default:
-                    // No differentiation in search, so consider them equivalent regardless
-                    sortResult = 0;
-                    break;
+                }
+                return null;
+
+            case LAST_UPDATE_RECENT:
+            case LAST_UPDATE_OLDEST:
+                return getSequencingKey(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_DATE, instance.getUpdateTime());
+
+            case CREATION_DATE_RECENT:
+            case CREATION_DATE_OLDEST:
+                return getSequencingKey(PrimitiveDefCategory.OM_PRIMITIVE_TYPE_DATE, instance.getCreateTime());
+
+            default:
+                return null;
+        }
+    }
+
+
+    /**
+     * Build a sequencing key from a primitive value.  The value is converted to the Java class for its
+     * primitive type (dates are held as milliseconds) so that keys of the same type can always be compared,
+     * and so that the key can be rebuilt from its string form in a continuation token.
+     *
+     * @param category primitive type
+     * @param value value
+     * @return key or null if the value can not be used for sequencing
+     */
+    private static SequencingKey getSequencingKey(PrimitiveDefCategory category,
+                                                  Object               value)
+    {
+        if ((category == null) || (value == null))
+        {
+            return null;
+        }
+
+        Object keyValue = null;
+
+        switch (category)
+        {
+            case OM_PRIMITIVE_TYPE_BOOLEAN:
+                if (value instanceof Boolean)
+                {
+                    keyValue = value;
+                }
+                break;
+            case OM_PRIMITIVE_TYPE_CHAR:
+                if (value instanceof Character)
+                {
+                    keyValue = value;
+                }
+                break;
+            case OM_PRIMITIVE_TYPE_BYTE:
+                if (value instanceof Number)
+                {
+                    keyValue = ((Number)value).byteValue();
+                }
+                break;
+            case OM_PRIMITIVE_TYPE_SHORT:
+                if (value instanceof Number)
+                {
+                    keyValue = ((Number)value).shortValue();
+                }
+                break;
+            case OM_PRIMITIVE_TYPE_INT:
+                if (value instanceof Number)
+                {
+                    keyValue = ((Number)value).intValue();
+                }
+                break;
+            case OM_PRIMITIVE_TYPE_LONG:
+                if (value instanceof Number)
+                {
+                    keyValue = ((Number)value).longValue();
+                }
+                break;
+            case OM_PRIMITIVE_TYPE_FLOAT:
+                if (value instanceof Number)
+                {
+                    keyValue = ((Number)value).floatValue();
+                }
+                break;
+            case OM_PRIMITIVE_TYPE_DOUBLE:
+                if (value instanceof Number)
+                {
+                    keyValue = ((Number)value).doubleValue();
+                }
+                break;
+            case OM_PRIMITIVE_TYPE_BIGINTEGER:
+                if (value instanceof BigInteger)
+                {
+                    keyValue = value;
+                }
+                else if (value instanceof Number)
+                {
+                    keyValue = BigInteger.valueOf(((Number)value).longValue());
+                }
+                break;
+            case OM_PRIMITIVE_TYPE_BIGDECIMAL:
+                if (value instanceof BigDecimal)
+                {
+                    keyValue = value;
+                }
+                else if (value instanceof Number)
+                {
+                    keyValue = new BigDecimal(value.toString());
+                }
+                break;
+            case OM_PRIMITIVE_TYPE_STRING:
+                keyValue = value.toString();
+                break;
+            case OM_PRIMITIVE_TYPE_DATE:
+                if (value instanceof Date)
+                {
+                    keyValue = ((Date)value).getTime();
+                }
+                else if (value instanceof Number)
+                {
+                    keyValue = ((Number)value).longValue();
+                }
+                break;
+            default:
+                break;
+        }
+
+        if (keyValue == null)
+        {
+            return null;
+        }
+
+        return new SequencingKey(category, keyValue);
+    }
+
+
+    /**
+     * Build the continuation token for the page that follows the last instance recorded in the token.
+     * The sequencing key value is the last field because it may contain any character.
+     *
+     * @param sequencingOrder order of the pages
+     * @param sequencingProperty property for property based orders
+     * @param token position, last instance and repository positions to record
+     * @return opaque token
+     */
+    private static String encodeContinuationToken(SequencingOrder   sequencingOrder,
+                                                  String            sequencingProperty,
+                                                  ContinuationToken token)
+    {
+        String[] fields = new String[CONTINUATION_TOKEN_FIELD_COUNT];
+
+        fields[0] = CONTINUATION_TOKEN_VERSION;
+        fields[1] = sequencingOrder.name();
+        fields[2] = sequencingProperty == null ? "" : sequencingProperty;
+        fields[3] = Integer.toString(token.position);
+        fields[4] = token.guid == null ? "" : token.guid;
+        fields[5] = token.key == null ? "" : token.key.category.name();
+        fields[6] = encodeRepositoryPositions(token.repositoryPositions);
+        fields[7] = token.key == null ? "" : token.key.value.toString();
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(String.join(CONTINUATION_TOKEN_SEPARATOR, fields).getBytes(StandardCharsets.UTF_8));
+    }
+
+
+    /**
+     * Format the positions of the repositories in a federation for a continuation token.  The metadata
+     * collection ids are encoded so they can not contain the separators.
+     *
+     * @param repositoryPositions map of metadata collection id to position
+     * @return string form of the positions
+     */
+    private static String encodeRepositoryPositions(Map<String, Integer> repositoryPositions)
+    {
+        List<String> positions = new ArrayList<>();
+
+        for (Map.Entry<String, Integer> repositoryPosition : repositoryPositions.entrySet())
+        {
+            positions.add(Base64.getUrlEncoder().withoutPadding().encodeToString(repositoryPosition.getKey().getBytes(StandardCharsets.UTF_8)) +
+                                  REPOSITORY_POSITION_ASSIGNMENT + repositoryPosition.getValue());
+        }
+
+        return String.join(REPOSITORY_POSITION_SEPARATOR, positions);
+    }
+
+
+    /**
+     * Unpack the positions of the repositories in a federation from a continuation token.
+     *
+     * @param positions string form of the positions
+     * @return map of metadata collection id to position
+     * @throws IllegalArgumentException the positions are not valid
+     */
+    private static Map<String, Integer> decodeRepositoryPositions(String positions)
+    {
+        Map<String, Integer> repositoryPositions = new TreeMap<>();
+
+        if (! positions.isEmpty())
+        {
+            for (String position : positions.split(REPOSITORY_POSITION_SEPARATOR))
+            {
+                String[] assignment = position.split(REPOSITORY_POSITION_ASSIGNMENT);
+
+                if (assignment.length != 2)
+                {
+                    throw new IllegalArgumentException("invalid repository position " + position);
+                }
+
+                repositoryPositions.put(new String(Base64.getUrlDecoder().decode(assignment[0]), StandardCharsets.UTF_8),
+                                        Integer.valueOf(assignment[1]));
             }
         }
 
-        return sortResult;
+        return repositoryPositions;
+    }
+
+
+    /**
+     * Unpack a continuation token and check that it belongs to a request with the same sequencing.
+     *
+     * @param sourceName name of the repository (for error reporting)
+     * @param continuationToken token from the previous page, or null
+     * @param sequencingProperty property for property based orders
+     * @param sequencingOrder order of the pages
+     * @param methodName calling method
+     * @return decoded token or null if there is no token
+     * @throws PagingErrorException the token is damaged or from a different request
+     */
+    private ContinuationToken decodeContinuationToken(String          sourceName,
+                                                      String          continuationToken,
+                                                      String          sequencingProperty,
+                                                      SequencingOrder sequencingOrder,
+                                                      String          methodName) throws PagingErrorException
+    {
+        if (continuationToken == null)
+        {
+            return null;
+        }
+
+        String[] fields;
 
+        try
+        {
+            fields = new String(Base64.getUrlDecoder().decode(continuationToken), StandardCharsets.UTF_8).split(CONTINUATION_TOKEN_SEPARATOR,
+                                                                                                               CONTINUATION_TOKEN_FIELD_COUNT);
+        }
+        catch (IllegalArgumentException error)
+        {
+            throw new PagingErrorException(OMRSErrorCode.INVALID_CONTINUATION_TOKEN.getMessageDefinition(methodName,
+                                                                                                         sourceName,
+                                                                                                         error.getMessage()),
+                                           this.getClass().getName(),
+                                           methodName,
+                                           error);
+        }
+
+        if ((fields.length != CONTINUATION_TOKEN_FIELD_COUNT) || (! CONTINUATION_TOKEN_VERSION.equals(fields[0])))
+        {
+            throwInvalidContinuationToken(sourceName, "unrecognized format", methodName);
+        }
+
+        if (! sequencingOrder.name().equals(fields[1]))
+        {
+            throwInvalidContinuationToken(sourceName, "sequencing order " + fields[1] + " does not match " + sequencingOrder.name(), methodName);
+        }
+
+        boolean propertyOrder = (sequencingOrder == SequencingOrder.PROPERTY_ASCENDING) ||
+                                (sequencingOrder == SequencingOrder.PROPERTY_DESCENDING);
+
+        if ((propertyOrder) && (! fields[2].equals(sequencingProperty == null ? "" : sequencingProperty)))
+        {
+            throwInvalidContinuationToken(sourceName, "sequencing property " + fields[2] + " does not match " + sequencingProperty, methodName);
+        }
+
+        ContinuationToken token = new ContinuationToken();
+
+        try
+        {
+            token.position            = Integer.parseInt(fields[3]);
+            token.guid                = fields[4].isEmpty() ? null : fields[4];
+            token.repositoryPositions = decodeRepositoryPositions(fields[6]);
+
+            if (! fields[5].isEmpty())
+            {
+                token.key = getSequencingKey(fields[5], fields[7]);
+            }
+        }
+        catch (IllegalArgumentException | IndexOutOfBoundsException error)
+        {
+            throw new PagingErrorException(OMRSErrorCode.INVALID_CONTINUATION_TOKEN.getMessageDefinition(methodName,
+                                                                                                         sourceName,
+                                                                                                         error.getMessage()),
+                                           this.getClass().getName(),
+                                           methodName,
+                                           error);
+        }
+
+        return token;
     }
 
 
     /**
-     * Compare the properties of two instances and determine the sort order based on the nominated property value and
-     * sort order.
+     * Rebuild a sequencing key from the string form stored in a continuation token.
      *
-     * @param instance1Properties properties from first instance
-     * @param instance2Properties properties from second instance
-     * @param propertyName name of property to compare
-     * @param sequencingOrder ascending or descending order
-     * @return sort result
+     * @param categoryName name of the primitive type
+     * @param value string form of the value
+     * @return key
+     * @throws IllegalArgumentException the type or value is not valid
+     * @throws IndexOutOfBoundsException an empty value for a character
      */
-    private static int  compareProperties(InstanceProperties     instance1Properties,
-                                          InstanceProperties     instance2Properties,
-                                          String                 propertyName,
-                                          SequencingOrder        sequencingOrder)
-    {
-
-        // todo need to add support for properties in the instance header eg createdBy
-         /*
-          * Ideally we would not include all this type inspection in the comparison
-          * function - but we do not know the types until we are comparing the
-          * pair of instances. There is no guarantee the list is homogeneous or that
-          * the objects to be compared are of the same type.
-          */
-
-         int    sortResult;
-         String o1PropertyTypeName = null;
-         String o2PropertyTypeName = null;
-         Object o1PropertyValue    = null;
-         Object o2PropertyValue    = null;
-
-         /*
-          * If instance1 has the named property, retrieve its value. Same for instance2.
-          * If neither object has the property return 0
-          * If one object has the property sort that higher: +1 if instance1, -1 if instance2
-          * If both have a value for the property, of different types, return 0.
-          * If both have a value for the property, of the same type, compare them...
-          * This is only performed for primitives, anything else is treated as ignored
-          */
-         if (instance1Properties != null)
-         {
-             InstancePropertyValue o1PropValue = instance1Properties.getPropertyValue(propertyName);
-             if (o1PropValue != null)
-             {
-                 InstancePropertyCategory o1PropCat = o1PropValue.getInstancePropertyCategory();
-                 if (o1PropCat == InstancePropertyCategory.PRIMITIVE)
-                 {
-                     o1PropertyTypeName = o1PropValue.getTypeName();
-                     o1PropertyValue = ((PrimitivePropertyValue) o1PropValue).getPrimitiveValue();
-                 }
-             }
-         }
-
-         if (instance2Properties != null)
-         {
-             InstancePropertyValue o2PropValue = instance2Properties.getPropertyValue(propertyName);
-             if (o2PropValue != null)
-             {
-                 InstancePropertyCategory o2PropCat = o2PropValue.getInstancePropertyCategory();
-                 if (o2PropCat == InstancePropertyCategory.PRIMITIVE)
-                 {
-                     o2PropertyTypeName = o2PropValue.getTypeName();
-                     o2PropertyValue = ((PrimitivePropertyValue) o2PropValue).getPrimitiveValue();
-                 }
-             }
-         }
-
-         if (o1PropertyTypeName == null && o2PropertyTypeName == null)
-         {
-             sortResult = 0;
-         }
-         else if (o1PropertyTypeName != null && o2PropertyTypeName == null)
-         {
-             sortResult = 1;
-         }
-         else if (o1PropertyTypeName == null) // implicit: o2PropertyTypeName != null
-         {
-             sortResult = -1;
-         }
-         else if (!o1PropertyTypeName.equals(o2PropertyTypeName))
-         {
-             sortResult = 0;
-         }
-         else
-         {
-             // Both objects have values, of the same type for the named property - compare...
-             sortResult = typeSpecificCompare(o1PropertyTypeName, o1PropertyValue, o2PropertyValue);
-
-         }
-         if (sequencingOrder == SequencingOrder.PROPERTY_DESCENDING)
-         {
-             sortResult = sortResult * (-1);
-         }
-
-         return sortResult;
-
-    }
-
-
-    /**
-     * Compare two objects based on their type.
-     * It must have been previously established that both objects are of the type
-     * indicated by the supplied typeName
-     *
-     * @param typeName name of type
-     * @param v1 value from instance 1
-     * @param v2 value from instance 2
-     * @return sort order
-     */
-    private static int typeSpecificCompare(String typeName, Object v1, Object v2)
-    {
-        int sortOrder;
-        switch (typeName)
-        {
-            case "boolean":
-                sortOrder = ((Boolean) v1).compareTo((Boolean) v2);
-                break;
-            case "byte":
-                sortOrder = ((Byte) v1).compareTo((Byte) v2);
+    private static SequencingKey getSequencingKey(String categoryName,
+                                                  String value)
+    {
+        PrimitiveDefCategory category = PrimitiveDefCategory.valueOf(categoryName);
+        Object               keyValue;
+
+        switch (category)
+        {
+            case OM_PRIMITIVE_TYPE_BOOLEAN:
+                keyValue = Boolean.valueOf(value);
                 break;
-            case "char":
-                sortOrder = ((Character) v1).compareTo((Character) v2);
+            case OM_PRIMITIVE_TYPE_CHAR:
+                keyValue = value.charAt(0);
                 break;
-            case "short":
-                sortOrder = ((Short) v1).compareTo((Short) v2);
+            case OM_PRIMITIVE_TYPE_BYTE:
+                keyValue = Byte.valueOf(value);
                 break;
-            case "integer":
-                sortOrder = ((Integer) v1).compareTo((Integer) v2);
+            case OM_PRIMITIVE_TYPE_SHORT:
+                keyValue = Short.valueOf(value);
                 break;
-            case "long":
-                sortOrder = ((Long) v1).compareTo((Long) v2);
+            case OM_PRIMITIVE_TYPE_INT:
+                keyValue = Integer.valueOf(value);
                 break;
-            case "float":
-                sortOrder = ((Float) v1).compareTo((Float) v2);
+            case OM_PRIMITIVE_TYPE_LONG:
+            case OM_PRIMITIVE_TYPE_DATE:
+                keyValue = Long.valueOf(value);
                 break;
-            case "double":
-                sortOrder = ((Double) v1).compareTo((Double) v2);
+            case OM_PRIMITIVE_TYPE_FLOAT:
+                keyValue = Float.valueOf(value);
                 break;
-            case "biginteger":
-                sortOrder = ((BigInteger) v1).compareTo((BigInteger) v2);
+            case OM_PRIMITIVE_TYPE_DOUBLE:
+                keyValue = Double.valueOf(value);
                 break;
-            case "bigdecimal":
-                sortOrder = ((BigDecimal) v1).compareTo((BigDecimal) v2);
+            case OM_PRIMITIVE_TYPE_BIGINTEGER:
+                keyValue = new BigInteger(value);
                 break;
-            case "string":
-                sortOrder = ((String) v1).compareTo((String) v2);
+            case OM_PRIMITIVE_TYPE_BIGDECIMAL:
+                keyValue = new BigDecimal(value);
                 break;
-            case "date":
-                sortOrder = ((Date) v1).compareTo((Date) v2);
+            case OM_PRIMITIVE_TYPE_STRING:
+                keyValue = value;
                 break;
             default:
-                log.debug("Property type not catered for in compare function");
-                sortOrder = 0;
+                throw new IllegalArgumentException("unsupported sequencing type " + categoryName);
         }
 
-        return sortOrder;
+        return new SequencingKey(category, keyValue);
+    }
+
+
+    /**
+     * Throw an exception for a continuation token that can not be used.
+     *
+     * @param sourceName name of the repository
+     * @param reason description of the problem
+     * @param methodName calling method
+     * @throws PagingErrorException always
+     */
+    private void throwInvalidContinuationToken(String sourceName,
+                                               String reason,
+                                               String methodName) throws PagingErrorException
+    {
+        throw new PagingErrorException(OMRSErrorCode.INVALID_CONTINUATION_TOKEN.getMessageDefinition(methodName, sourceName, reason),
+                                       this.getClass().getName(),
+                                       methodName);
+    }
+
+
+    /**
+     * The value an instance is sequenced by, held in the Java class for its primitive type.
+     */
+    private static class SequencingKey
+    {
+        private final PrimitiveDefCategory category;
+        private final Object               value;
+
+        SequencingKey(PrimitiveDefCategory category,
+                      Object               value)
+        {
+            this.category = category;
+            this.value    = value;
+        }
+    }
+
+
+    /**
+     * An instance with its extracted sequencing key.
+     *
+     * @param <T> type of instance
+     */
+    private static class SequencedInstance<T>
+    {
+        private final T             instance;
+        private final String        guid;
+        private final SequencingKey key;
+
+        SequencedInstance(T             instance,
+                          String        guid,
+                          SequencingKey key)
+        {
+            this.instance = instance;
+            this.guid     = guid;
+            this.key      = key;
+        }
+    }
+
+
+    /**
+     * The position recorded in a continuation token.  A federated token also records the position reached in
+     * each repository's own results.
+     */
+    private static class ContinuationToken
+    {
+        private int                  position            = 0;
+        private String               guid                = null;
+        private SequencingKey        key                 = null;
+        private Map<String, Integer> repositoryPositions = new TreeMap<>();
+    }
+
+
+    /**
+     * A page of selected instances.
+     *
+     * @param <T> type of instance
+     */
+    private static class InstancePage<T>
+    {
+        private List<T> instances         = null;
+        private String  continuationToken = null;
     }
 
 
@@ -26,6 +26,7 @@ import org.odpi.openmetadata.repositoryservices.localrepository.OMRSLocalReposit
 import org.odpi.openmetadata.repositoryservices.eventmanagement.OMRSRepositoryEventExchangeRule;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 
@@ -94,6 +95,10 @@ public class OMRSCohortManager
      * @param cohortInstancesTopicConnector Connector to the cohort's instances OMRS Topic
      * @param cohortInstancesTopicConnection Connection to the cohort's instances OMRS Topic
      * @param inboundEventExchangeRule rule for processing inbound events.
+     * @param instanceBatchSize maximum number of instances in each batch instances event sent to the cohort;
+     *                          a value less than 2 means that each change to the local repository is sent in its own event.
+     * @param instanceBatchInterval maximum time (in milliseconds) that a change to the local repository is held
+     *                              while a batch instances event is assembled.
      */
     public void initialize(String                           cohortName,
                            String                           localMetadataCollectionId,
@@ -114,7 +119,9 @@ public class OMRSCohortManager
                            OMRSTopicConnector               cohortTypesTopicConnector,
                            Connection                       cohortInstancesTopicConnection,
                            OMRSTopicConnector               cohortInstancesTopicConnector,
-                           OMRSRepositoryEventExchangeRule  inboundEventExchangeRule)
+                           OMRSRepositoryEventExchangeRule  inboundEventExchangeRule,
+                           int                              instanceBatchSize,
+                           long                             instanceBatchInterval)
     {
         final String   actionDescription = "Initialize Cohort Manager";
 
@@ -144,6 +151,24 @@ public class OMRSCohortManager
             this.cohortInstancesTopicConnector  = cohortInstancesTopicConnector;
             this.localMetadataCollectionId = localMetadataCollectionId;
 
+            /*
+             * The capabilities of the other members of the cohort are advertised in their registry events.  These
+             * only arrive on the single topic and the registration topic, so all of the cohort's topic connectors
+             * share the capabilities recorded by one of them.
+             */
+            OMRSTopicConnector registryTopicConnector = (cohortSingleTopicConnector != null) ? cohortSingleTopicConnector
+                                                                                              : cohortRegistrationTopicConnector;
+
+            for (OMRSTopicConnector topicConnector : Arrays.asList(cohortRegistrationTopicConnector,
+                                                                   cohortTypesTopicConnector,
+                                                                   cohortInstancesTopicConnector))
+            {
+                if ((topicConnector != null) && (topicConnector != registryTopicConnector))
+                {
+                    topicConnector.shareMemberCapabilities(registryTopicConnector);
+                }
+            }
+
             /*
              * Create the event manager for processing incoming events from the cohort's OMRS Topic.
              */
@@ -227,6 +252,8 @@ public class OMRSCohortManager
                                                                                         instancesTopicConnectors,
                                                                                         auditLog.createNewAuditLog(OMRSAuditingComponent.EVENT_PUBLISHER));
 
+                    outboundRepositoryEventPublisher.setInstanceBatching(instanceBatchSize, instanceBatchInterval);
+
                     localRepositoryEventManager.registerRepositoryEventProcessor(outboundRepositoryEventPublisher);
                 }
 
@@ -271,6 +298,12 @@ public class OMRSCohortManager
                                                                                                          enterpriseTopicConnector,
                                                                                                          auditLog.createNewAuditLog(OMRSAuditingComponent.EVENT_PUBLISHER));
 
+                /*
+                 * The access services' listeners process individual instance events so batches from remote
+                 * members are unpacked before they reach the enterprise topic.
+                 */
+                enterpriseEventPublisher.setUnpackInstanceBatches(true);
+
                 this.cohortRepositoryEventManager.registerRepositoryEventProcessor(enterpriseEventPublisher);
             }
 
@@ -485,6 +518,14 @@ public class OMRSCohortManager
         {
             cohortConnectionStatus = CohortConnectionStatus.DISCONNECTING;
 
+            /*
+             * Publish any batched changes from the local repository before the topic connectors are closed.
+             */
+            if (outboundRepositoryEventPublisher != null)
+            {
+                outboundRepositoryEventPublisher.stopInstanceBatching();
+            }
+
             if (cohortRegistry != null)
             {
                 cohortRegistry.disconnectFromCohort(permanent);
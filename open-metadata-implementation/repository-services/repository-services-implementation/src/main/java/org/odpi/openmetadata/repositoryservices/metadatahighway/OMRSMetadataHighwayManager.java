@@ -245,7 +245,9 @@ public class OMRSMetadataHighwayManager
                                      cohortTypesTopicConnector,
                                      cohortConfig.getCohortOMRSInstancesTopicConnection(),
                                      cohortInstancesTopicConnector,
-                                     inboundEventExchangeRule);
+                                     inboundEventExchangeRule,
+                                     cohortConfig.getInstanceBatchSize(),
+                                     cohortConfig.getInstanceBatchInterval());
 
             /*
              * The cohort manager is only added to the list if it initializes successfully.
@@ -545,6 +547,10 @@ public class OMRSMetadataHighwayManager
             {
                 topicConnector.setEventProtocolLevel(OMRSEventProtocolVersion.V1);
             }
+            else if (protocolVersion == OpenMetadataEventProtocolVersion.V1_COMPRESSED)
+            {
+                topicConnector.setEventProtocolLevel(OMRSEventProtocolVersion.V1_COMPRESSED);
+            }
 
             return topicConnector;
         }
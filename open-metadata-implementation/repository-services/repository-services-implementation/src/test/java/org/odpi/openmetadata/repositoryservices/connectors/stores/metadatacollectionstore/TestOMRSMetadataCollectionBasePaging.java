@@ -0,0 +1,348 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.EntityDetailPage;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.RelationshipPage;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.TreeMap;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Validate that the default findEntitiesPage and findRelationshipsPage methods of OMRSMetadataCollectionBase
+ * page through the results of a repository that only supports offset paging without retrieving the results
+ * that precede each page, and that they neither skip nor repeat results when the results change between pages.
+ */
+public class TestOMRSMetadataCollectionBasePaging
+{
+    private static final String USER_ID   = "testUser";
+    private static final int    PAGE_SIZE = 5;
+
+    private TestMetadataCollection metadataCollection;
+
+
+    @BeforeMethod
+    public void setup() throws Exception
+    {
+        OMRSRepositoryConnector repositoryConnector = new OMRSRepositoryConnector()
+        {
+        };
+
+        repositoryConnector.start();
+
+        metadataCollection = new TestMetadataCollection(repositoryConnector);
+
+        for (int i = 0; i < 50; i++)
+        {
+            metadataCollection.addInstance(getGUID(i));
+        }
+    }
+
+
+    /**
+     * Validate that each page is retrieved from just before the token's position.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testEntityPagesRetrievedByOffset() throws Exception
+    {
+        List<String> pagedGUIDs        = new ArrayList<>();
+        String       continuationToken = null;
+
+        do
+        {
+            EntityDetailPage page = this.findEntitiesPage(continuationToken);
+
+            for (EntityDetail entity : page.getEntities())
+            {
+                pagedGUIDs.add(entity.getGUID());
+            }
+
+            continuationToken = page.getContinuationToken();
+        }
+        while (continuationToken != null);
+
+        assertEquals(pagedGUIDs, metadataCollection.getGUIDs());
+        assertEquals(metadataCollection.requestCount, 10);
+        assertTrue(metadataCollection.maximumRequestSize <= (PAGE_SIZE * 2) + 1);
+        assertTrue(metadataCollection.returnedCount <= metadataCollection.requestCount * ((PAGE_SIZE * 2) + 1));
+    }
+
+
+    /**
+     * Validate that results removed ahead of the token's position do not cause results to be skipped.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testEntitiesRemovedAheadOfToken() throws Exception
+    {
+        EntityDetailPage page = this.findEntitiesPage(null);
+
+        page = this.findEntitiesPage(page.getContinuationToken());
+        page = this.findEntitiesPage(page.getContinuationToken());
+
+        assertEquals(page.getEntities().get(PAGE_SIZE - 1).getGUID(), getGUID(14));
+
+        /*
+         * A few removals are covered by the overlap with the previous page; more need a retrieval from the start.
+         */
+        for (int i = 0; i < 3; i++)
+        {
+            metadataCollection.removeInstance(getGUID(i));
+        }
+
+        page = this.findEntitiesPage(page.getContinuationToken());
+
+        assertEquals(page.getEntities().get(0).getGUID(), getGUID(15));
+        assertEquals(metadataCollection.lastFromElement, PAGE_SIZE * 2);
+
+        for (int i = 3; i < 12; i++)
+        {
+            metadataCollection.removeInstance(getGUID(i));
+        }
+
+        page = this.findEntitiesPage(page.getContinuationToken());
+
+        assertEquals(page.getEntities().get(0).getGUID(), getGUID(20));
+        assertEquals(page.getEntities().size(), PAGE_SIZE);
+        assertEquals(metadataCollection.lastFromElement, 0);
+    }
+
+
+    /**
+     * Validate that results added ahead of the token's position do not cause results to be skipped or the page
+     * to be cut short.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testEntitiesAddedAheadOfToken() throws Exception
+    {
+        EntityDetailPage page = this.findEntitiesPage(null);
+
+        page = this.findEntitiesPage(page.getContinuationToken());
+
+        for (int i = 0; i < PAGE_SIZE * 3; i++)
+        {
+            metadataCollection.addInstance("guid-000-" + i);
+        }
+
+        List<String> pagedGUIDs = new ArrayList<>();
+
+        while (page.getContinuationToken() != null)
+        {
+            page = this.findEntitiesPage(page.getContinuationToken());
+
+            for (EntityDetail entity : page.getEntities())
+            {
+                pagedGUIDs.add(entity.getGUID());
+            }
+        }
+
+        List<String> expectedGUIDs = new ArrayList<>();
+
+        for (int i = PAGE_SIZE * 2; i < 50; i++)
+        {
+            expectedGUIDs.add(getGUID(i));
+        }
+
+        assertEquals(pagedGUIDs, expectedGUIDs);
+    }
+
+
+    /**
+     * Validate that relationships are paged in the same way as entities.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testRelationshipPagesRetrievedByOffset() throws Exception
+    {
+        List<String> pagedGUIDs        = new ArrayList<>();
+        String       continuationToken = null;
+
+        do
+        {
+            RelationshipPage page = metadataCollection.findRelationshipsPage(USER_ID,
+                                                                             null,
+                                                                             null,
+                                                                             null,
+                                                                             0,
+                                                                             continuationToken,
+                                                                             null,
+                                                                             null,
+                                                                             null,
+                                                                             null,
+                                                                             PAGE_SIZE);
+
+            for (Relationship relationship : page.getRelationships())
+            {
+                pagedGUIDs.add(relationship.getGUID());
+            }
+
+            if (continuationToken != null)
+            {
+                assertEquals(metadataCollection.lastFromElement, pagedGUIDs.size() - (PAGE_SIZE * 2));
+            }
+
+            continuationToken = page.getContinuationToken();
+        }
+        while (continuationToken != null);
+
+        assertEquals(pagedGUIDs, metadataCollection.getGUIDs());
+        assertTrue(metadataCollection.maximumRequestSize <= (PAGE_SIZE * 2) + 1);
+    }
+
+
+    private EntityDetailPage findEntitiesPage(String continuationToken) throws Exception
+    {
+        return metadataCollection.findEntitiesPage(USER_ID,
+                                                   null,
+                                                   null,
+                                                   null,
+                                                   0,
+                                                   continuationToken,
+                                                   null,
+                                                   null,
+                                                   null,
+                                                   null,
+                                                   null,
+                                                   PAGE_SIZE);
+    }
+
+
+    private static String getGUID(int index)
+    {
+        return String.format("guid-%03d", index);
+    }
+
+
+    /**
+     * Metadata collection that only supports offset paging of its instances in GUID order.  It records the
+     * requests it receives.
+     */
+    private static class TestMetadataCollection extends OMRSMetadataCollectionBase
+    {
+        private final TreeMap<String, EntityDetail> entities           = new TreeMap<>();
+        private final TreeMap<String, Relationship> relationships      = new TreeMap<>();
+        private int                                 requestCount       = 0;
+        private int                                 maximumRequestSize = 0;
+        private int                                 returnedCount      = 0;
+        private int                                 lastFromElement    = -1;
+
+        TestMetadataCollection(OMRSRepositoryConnector repositoryConnector)
+        {
+            super(repositoryConnector,
+                  "TestRepository",
+                  new OMRSRepositoryContentHelper(null),
+                  new OMRSRepositoryContentValidator(new OMRSRepositoryContentManager("testUser",
+                                                                                      new AuditLog(null, 0, "TestRepository", "Test", null))),
+                  "testMetadataCollection");
+        }
+
+
+        void addInstance(String guid)
+        {
+            EntityDetail entity = new EntityDetail();
+
+            entity.setGUID(guid);
+            entities.put(guid, entity);
+
+            Relationship relationship = new Relationship();
+
+            relationship.setGUID(guid);
+            relationships.put(guid, relationship);
+        }
+
+
+        void removeInstance(String guid)
+        {
+            entities.remove(guid);
+            relationships.remove(guid);
+        }
+
+
+        List<String> getGUIDs()
+        {
+            return new ArrayList<>(entities.keySet());
+        }
+
+
+        private <T> List<T> getPage(List<T>         instances,
+                                    int             fromElement,
+                                    SequencingOrder sequencingOrder,
+                                    int             pageSize)
+        {
+            assertEquals(sequencingOrder, SequencingOrder.GUID);
+
+            requestCount++;
+            lastFromElement    = fromElement;
+            maximumRequestSize = Math.max(maximumRequestSize, pageSize);
+
+            if (fromElement >= instances.size())
+            {
+                return null;
+            }
+
+            int toElement = (pageSize == 0) ? instances.size() : Math.min(instances.size(), fromElement + pageSize);
+
+            returnedCount += toElement - fromElement;
+
+            return new ArrayList<>(instances.subList(fromElement, toElement));
+        }
+
+
+        @Override
+        public List<EntityDetail> findEntities(String                userId,
+                                               String                entityTypeGUID,
+                                               List<String>          entitySubtypeGUIDs,
+                                               SearchProperties      matchProperties,
+                                               int                   fromEntityElement,
+                                               List<InstanceStatus>  limitResultsByStatus,
+                                               SearchClassifications matchClassifications,
+                                               Date                  asOfTime,
+                                               String                sequencingProperty,
+                                               SequencingOrder       sequencingOrder,
+                                               int                   pageSize)
+        {
+            return getPage(new ArrayList<>(entities.values()), fromEntityElement, sequencingOrder, pageSize);
+        }
+
+
+        @Override
+        public List<Relationship> findRelationships(String               userId,
+                                                    String               relationshipTypeGUID,
+                                                    List<String>         relationshipSubtypeGUIDs,
+                                                    SearchProperties     matchProperties,
+                                                    int                  fromRelationshipElement,
+                                                    List<InstanceStatus> limitResultsByStatus,
+                                                    Date                 asOfTime,
+                                                    String               sequencingProperty,
+                                                    SequencingOrder      sequencingOrder,
+                                                    int                  pageSize)
+        {
+            return getPage(new ArrayList<>(relationships.values()), fromRelationshipElement, sequencingOrder, pageSize);
+        }
+    }
+}
@@ -0,0 +1,357 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector;
+
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollectionBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.EntityDetailPage;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.RelationshipPage;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchClassifications;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.SearchProperties;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRSConnectorConsumer;
+import org.odpi.openmetadata.repositoryservices.enterprise.connectormanager.OMRSConnectorManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentHelper;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentValidator;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.TreeMap;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Validate that the enterprise findEntitiesPage and findRelationshipsPage methods page through cohort members of
+ * different sizes that only support offset paging.  Each member must be asked for its results from its own
+ * position rather than the position in the merged results, so every page costs each member a single request
+ * and no result is skipped or repeated.
+ */
+public class TestEnterpriseOMRSMetadataCollectionPaging
+{
+    private static final String USER_ID   = "testUser";
+    private static final int    PAGE_SIZE = 5;
+
+    private static final List<Integer> SMALL_MEMBER_INDEXES = Arrays.asList(3, 21, 37);
+    private static final int           RESULT_COUNT         = 60;
+
+    private TestMetadataCollection           largeMember;
+    private TestMetadataCollection           smallMember;
+    private TestMetadataCollection           emptyMember;
+    private EnterpriseOMRSMetadataCollection enterpriseMetadataCollection;
+
+
+    @BeforeMethod
+    public void setup() throws Exception
+    {
+        OMRSRepositoryContentHelper    repositoryHelper    = new OMRSRepositoryContentHelper(null);
+        OMRSRepositoryContentValidator repositoryValidator = new OMRSRepositoryContentValidator(new OMRSRepositoryContentManager(USER_ID,
+                                                                                                                                 new AuditLog(null, 0, "TestRepository", "Test", null)));
+
+        largeMember = new TestMetadataCollection("largeMember", repositoryHelper, repositoryValidator);
+        smallMember = new TestMetadataCollection("smallMember", repositoryHelper, repositoryValidator);
+        emptyMember = new TestMetadataCollection("emptyMember", repositoryHelper, repositoryValidator);
+
+        for (int i = 0; i < RESULT_COUNT; i++)
+        {
+            if (SMALL_MEMBER_INDEXES.contains(i))
+            {
+                smallMember.addInstance(getGUID(i));
+            }
+            else
+            {
+                largeMember.addInstance(getGUID(i));
+            }
+        }
+
+        EnterpriseOMRSRepositoryConnector enterpriseConnector = new EnterpriseOMRSRepositoryConnector(new TestConnectorManager());
+
+        enterpriseConnector.start();
+        enterpriseConnector.addRemoteConnector("largeMember", largeMember.repositoryConnector);
+        enterpriseConnector.addRemoteConnector("smallMember", smallMember.repositoryConnector);
+        enterpriseConnector.addRemoteConnector("emptyMember", emptyMember.repositoryConnector);
+
+        enterpriseMetadataCollection = new EnterpriseOMRSMetadataCollection(enterpriseConnector,
+                                                                            "TestEnterprise",
+                                                                            repositoryHelper,
+                                                                            repositoryValidator,
+                                                                            "enterprise",
+                                                                            null,
+                                                                            null);
+    }
+
+
+    /**
+     * Validate that each page of entities is retrieved from each member's own position.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testEntityPagesFromEachMember() throws Exception
+    {
+        List<String> pagedGUIDs        = new ArrayList<>();
+        String       continuationToken = null;
+        int          pageCount         = 0;
+
+        do
+        {
+            EntityDetailPage page = enterpriseMetadataCollection.findEntitiesPage(USER_ID,
+                                                                                  null,
+                                                                                  null,
+                                                                                  null,
+                                                                                  0,
+                                                                                  continuationToken,
+                                                                                  null,
+                                                                                  null,
+                                                                                  null,
+                                                                                  null,
+                                                                                  null,
+                                                                                  PAGE_SIZE);
+
+            for (EntityDetail entity : page.getEntities())
+            {
+                pagedGUIDs.add(entity.getGUID());
+            }
+
+            pageCount++;
+            continuationToken = page.getContinuationToken();
+        }
+        while (continuationToken != null);
+
+        assertEquals(pagedGUIDs, getGUIDs());
+        this.validateMemberRequests(pageCount);
+    }
+
+
+    /**
+     * Validate that each page of relationships is retrieved from each member's own position.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testRelationshipPagesFromEachMember() throws Exception
+    {
+        List<String> pagedGUIDs        = new ArrayList<>();
+        String       continuationToken = null;
+        int          pageCount         = 0;
+
+        do
+        {
+            RelationshipPage page = enterpriseMetadataCollection.findRelationshipsPage(USER_ID,
+                                                                                       null,
+                                                                                       null,
+                                                                                       null,
+                                                                                       0,
+                                                                                       continuationToken,
+                                                                                       null,
+                                                                                       null,
+                                                                                       null,
+                                                                                       null,
+                                                                                       PAGE_SIZE);
+
+            for (Relationship relationship : page.getRelationships())
+            {
+                pagedGUIDs.add(relationship.getGUID());
+            }
+
+            pageCount++;
+            continuationToken = page.getContinuationToken();
+        }
+        while (continuationToken != null);
+
+        assertEquals(pagedGUIDs, getGUIDs());
+        this.validateMemberRequests(pageCount);
+    }
+
+
+    /**
+     * Each member is asked once for each page, from no more than one page before its own position.
+     *
+     * @param pageCount number of pages retrieved
+     */
+    private void validateMemberRequests(int pageCount)
+    {
+        assertEquals(pageCount, RESULT_COUNT / PAGE_SIZE);
+
+        for (TestMetadataCollection member : Arrays.asList(largeMember, smallMember, emptyMember))
+        {
+            assertEquals(member.requestCount, pageCount);
+            assertTrue(member.maximumRequestSize <= ((PAGE_SIZE + 1) * 2) + 1);
+        }
+
+        assertTrue(largeMember.returnedCount <= pageCount * (((PAGE_SIZE + 1) * 2) + 1));
+        assertTrue(smallMember.returnedCount <= pageCount * SMALL_MEMBER_INDEXES.size());
+    }
+
+
+    private static List<String> getGUIDs()
+    {
+        List<String> guids = new ArrayList<>();
+
+        for (int i = 0; i < RESULT_COUNT; i++)
+        {
+            guids.add(getGUID(i));
+        }
+
+        return guids;
+    }
+
+
+    private static String getGUID(int index)
+    {
+        return String.format("guid-%03d", index);
+    }
+
+
+    /**
+     * Connector manager that accepts the enterprise connector without connecting it to a cohort.
+     */
+    private static class TestConnectorManager implements OMRSConnectorManager
+    {
+        @Override
+        public String registerConnectorConsumer(OMRSConnectorConsumer connectorConsumer)
+        {
+            return "testConnectorConsumer";
+        }
+
+
+        @Override
+        public void unregisterConnectorConsumer(String connectorConsumerId)
+        {
+        }
+    }
+
+
+    /**
+     * Connector for a cohort member that returns the test metadata collection.
+     */
+    private static class TestRepositoryConnector extends OMRSRepositoryConnector
+    {
+        void setMetadataCollection(TestMetadataCollection metadataCollection)
+        {
+            this.metadataCollection = metadataCollection;
+        }
+    }
+
+
+    /**
+     * Metadata collection for a cohort member that only supports offset paging of its instances in GUID order.
+     * It records the requests it receives.
+     */
+    private static class TestMetadataCollection extends OMRSMetadataCollectionBase
+    {
+        private final TestRepositoryConnector       repositoryConnector;
+        private final TreeMap<String, EntityDetail> entities           = new TreeMap<>();
+        private final TreeMap<String, Relationship> relationships      = new TreeMap<>();
+        private int                                 requestCount       = 0;
+        private int                                 maximumRequestSize = 0;
+        private int                                 returnedCount      = 0;
+
+        TestMetadataCollection(String                         metadataCollectionId,
+                               OMRSRepositoryContentHelper    repositoryHelper,
+                               OMRSRepositoryContentValidator repositoryValidator) throws Exception
+        {
+            this(new TestRepositoryConnector(),
+                 metadataCollectionId,
+                 repositoryHelper,
+                 repositoryValidator);
+        }
+
+
+        private TestMetadataCollection(TestRepositoryConnector        repositoryConnector,
+                                       String                         metadataCollectionId,
+                                       OMRSRepositoryContentHelper    repositoryHelper,
+                                       OMRSRepositoryContentValidator repositoryValidator) throws Exception
+        {
+            super(repositoryConnector, metadataCollectionId, repositoryHelper, repositoryValidator, metadataCollectionId);
+
+            this.repositoryConnector = repositoryConnector;
+
+            repositoryConnector.setMetadataCollectionId(metadataCollectionId);
+            repositoryConnector.start();
+            repositoryConnector.setMetadataCollection(this);
+        }
+
+
+        void addInstance(String guid)
+        {
+            EntityDetail entity = new EntityDetail();
+
+            entity.setGUID(guid);
+            entity.setMetadataCollectionId(this.metadataCollectionId);
+            entities.put(guid, entity);
+
+            Relationship relationship = new Relationship();
+
+            relationship.setGUID(guid);
+            relationship.setMetadataCollectionId(this.metadataCollectionId);
+            relationships.put(guid, relationship);
+        }
+
+
+        private <T> List<T> getPage(List<T>         instances,
+                                    int             fromElement,
+                                    SequencingOrder sequencingOrder,
+                                    int             pageSize)
+        {
+            assertEquals(sequencingOrder, SequencingOrder.GUID);
+
+            requestCount++;
+            maximumRequestSize = Math.max(maximumRequestSize, pageSize);
+
+            if (fromElement >= instances.size())
+            {
+                return null;
+            }
+
+            int toElement = (pageSize == 0) ? instances.size() : Math.min(instances.size(), fromElement + pageSize);
+
+            returnedCount += toElement - fromElement;
+
+            return new ArrayList<>(instances.subList(fromElement, toElement));
+        }
+
+
+        @Override
+        public List<EntityDetail> findEntities(String                userId,
+                                               String                entityTypeGUID,
+                                               List<String>          entitySubtypeGUIDs,
+                                               SearchProperties      matchProperties,
+                                               int                   fromEntityElement,
+                                               List<InstanceStatus>  limitResultsByStatus,
+                                               SearchClassifications matchClassifications,
+                                               Date                  asOfTime,
+                                               String                sequencingProperty,
+                                               SequencingOrder       sequencingOrder,
+                                               int                   pageSize)
+        {
+            return getPage(new ArrayList<>(entities.values()), fromEntityElement, sequencingOrder, pageSize);
+        }
+
+
+        @Override
+        public List<Relationship> findRelationships(String               userId,
+                                                    String               relationshipTypeGUID,
+                                                    List<String>         relationshipSubtypeGUIDs,
+                                                    SearchProperties     matchProperties,
+                                                    int                  fromRelationshipElement,
+                                                    List<InstanceStatus> limitResultsByStatus,
+                                                    Date                 asOfTime,
+                                                    String               sequencingProperty,
+                                                    SequencingOrder      sequencingOrder,
+                                                    int                  pageSize)
+        {
+            return getPage(new ArrayList<>(relationships.values()), fromRelationshipElement, sequencingOrder, pageSize);
+        }
+    }
+}
@@ -0,0 +1,447 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.enterprise.repositoryconnector.control;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollection;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.OMRSMetadataCollectionBase;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceStatus;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryConnector;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.EntityNotKnownException;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.RepositoryErrorException;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+
+/**
+ * Validate that the FederatedGraphTraversal follows relationships across the cohort members, only asks a member
+ * to expand an entity that it has not already expanded, and fails rather than returning partial results.
+ */
+public class TestFederatedGraphTraversal
+{
+    private static final String USER_ID     = "testUser";
+    private static final String METHOD_NAME = "testMethod";
+
+
+    /**
+     * Validate that a path that crosses from one member to another is followed.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testCrossRepositoryPathFollowed() throws Exception
+    {
+        TestMember memberA = new TestMember("memberA");
+        TestMember memberB = new TestMember("memberB");
+
+        memberA.addEntities("a1", "a2");
+        memberA.addRelationship("r1", "a1", "a2");
+        memberB.addEntities("b1", "b2");
+        memberB.addRelationship("r2", "a2", "b1");
+        memberB.addRelationship("r3", "b1", "b2");
+
+        FederatedGraphTraversal traversal = getTraversal(10000, 60000, 20, memberA, memberB);
+
+        traversal.traverse("a1", 3, null, null, TestFederatedGraphTraversal::expand);
+        traversal.retrieveUnexpandedEntities();
+
+        assertEquals(traversal.getEntities().keySet(), new HashSet<>(Arrays.asList("a1", "a2", "b1", "b2")));
+        assertEquals(traversal.getRelationships().keySet(), new HashSet<>(Arrays.asList("r1", "r2", "r3")));
+        assertFalse(traversal.isTruncated());
+    }
+
+
+    /**
+     * Validate that a member that holds a connected part of the graph is asked for it once rather than once
+     * for each entity in it.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testMemberExpandsLocalGraphOnce() throws Exception
+    {
+        TestMember memberA = new TestMember("memberA");
+        TestMember memberB = new TestMember("memberB");
+
+        memberA.addEntities("a1", "a2", "a3", "a4");
+        memberA.addRelationship("r1", "a1", "a2");
+        memberA.addRelationship("r2", "a2", "a3");
+        memberA.addRelationship("r3", "a3", "a4");
+
+        FederatedGraphTraversal traversal = getTraversal(10000, 60000, 20, memberA, memberB);
+
+        traversal.traverse("a1", 3, null, null, TestFederatedGraphTraversal::expand);
+
+        assertEquals(traversal.getEntities().size(), 4);
+        assertEquals(memberA.expansionCount.get(), 1);
+        assertEquals(memberB.expansionCount.get(), 3);
+    }
+
+
+    /**
+     * Validate that the shortest paths between two entities are returned.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testLinkingGraph() throws Exception
+    {
+        TestMember memberA = new TestMember("memberA");
+        TestMember memberB = new TestMember("memberB");
+
+        memberA.addEntities("a1", "a2", "x1", "x2");
+        memberA.addRelationship("r1", "a1", "a2");
+        memberA.addRelationship("r2", "a1", "x1");
+        memberA.addRelationship("r3", "x1", "x2");
+        memberB.addEntities("b1");
+        memberB.addRelationship("r4", "a2", "b1");
+        memberB.addRelationship("r5", "x2", "b1");
+
+        FederatedGraphTraversal traversal = getTraversal(10000, 60000, 20, memberA, memberB);
+
+        traversal.traverse("a1", -1, "b1", null, TestFederatedGraphTraversal::expand);
+
+        InstanceGraph linkingGraph      = traversal.getLinkingGraph("a1", "b1");
+        Set<String>   entityGUIDs       = new HashSet<>();
+        Set<String>   relationshipGUIDs = new HashSet<>();
+
+        linkingGraph.getEntities().forEach(entity -> entityGUIDs.add(entity.getGUID()));
+        linkingGraph.getRelationships().forEach(relationship -> relationshipGUIDs.add(relationship.getGUID()));
+
+        assertEquals(entityGUIDs, new HashSet<>(Arrays.asList("a1", "a2", "b1")));
+        assertEquals(relationshipGUIDs, new HashSet<>(Arrays.asList("r1", "r4")));
+    }
+
+
+    /**
+     * Validate that exceeding the result budget fails the traversal.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testResultBudget() throws Exception
+    {
+        TestMember memberA = getChain("memberA", 5);
+
+        FederatedGraphTraversal traversal = getTraversal(4, 60000, 20, memberA);
+
+        try
+        {
+            traversal.traverse("e0", 4, null, null, TestFederatedGraphTraversal::expand);
+            fail();
+        }
+        catch (RepositoryErrorException error)
+        {
+            assertTrue(traversal.isTruncated());
+            assertEquals(error.getReportedErrorMessageId(), "OMRS-ENTERPRISE-REPOSITORY-400-003");
+        }
+    }
+
+
+    /**
+     * Validate that the deadline applies when there is a single request to issue.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testDeadlineForSingleRequest() throws Exception
+    {
+        TestMember memberA = getChain("memberA", 2);
+
+        memberA.delay = 2000;
+
+        FederatedGraphTraversal traversal = getTraversal(10000, 100, 20, memberA);
+        long                    startTime = System.currentTimeMillis();
+
+        try
+        {
+            traversal.traverse("e0", 1, null, null, TestFederatedGraphTraversal::expand);
+            fail();
+        }
+        catch (RepositoryErrorException error)
+        {
+            assertTrue(traversal.isTruncated());
+            assertTrue(System.currentTimeMillis() - startTime < 1500);
+        }
+    }
+
+
+    /**
+     * Validate that reaching the maximum number of levels with entities still to expand fails the traversal
+     * when the caller did not limit the levels, and does not when the caller did.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testMaximumLevels() throws Exception
+    {
+        TestMember memberA = getChain("memberA", 5);
+
+        FederatedGraphTraversal traversal = getTraversal(10000, 60000, 2, memberA);
+
+        try
+        {
+            traversal.traverse("e0", -1, null, null, TestFederatedGraphTraversal::expand);
+            fail();
+        }
+        catch (RepositoryErrorException error)
+        {
+            assertTrue(traversal.isTruncated());
+        }
+
+        traversal = getTraversal(10000, 60000, 2, memberA);
+        traversal.traverse("e0", 2, null, null, TestFederatedGraphTraversal::expand);
+
+        assertFalse(traversal.isTruncated());
+        assertEquals(traversal.getEntities().size(), 3);
+
+        traversal = getTraversal(10000, 60000, 10, memberA);
+        traversal.traverse("e0", -1, null, null, TestFederatedGraphTraversal::expand);
+
+        assertFalse(traversal.isTruncated());
+        assertEquals(traversal.getEntities().size(), 5);
+    }
+
+
+    /**
+     * Validate that the completion check ends a traversal that has no level limit without failing it.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testCompletionCheck() throws Exception
+    {
+        TestMember memberA = getChain("memberA", 5);
+        TestMember memberB = new TestMember("memberB");
+
+        memberB.addEntities("b1");
+        memberB.addRelationship("rb", "e4", "b1");
+
+        FederatedGraphTraversal traversal = getTraversal(10000, 60000, 3, memberA, memberB);
+
+        traversal.traverse("e0",
+                           -1,
+                           null,
+                           completedTraversal -> completedTraversal.getEntities().size() >= 3,
+                           TestFederatedGraphTraversal::expand);
+
+        assertFalse(traversal.isTruncated());
+        assertEquals(traversal.getCompletedLevel(), 1);
+    }
+
+
+    private static InstanceGraph expand(OMRSMetadataCollection metadataCollection,
+                                        String                 entityGUID,
+                                        int                    level) throws Exception
+    {
+        return metadataCollection.getEntityNeighborhood(USER_ID, entityGUID, null, null, null, null, null, level);
+    }
+
+
+    private FederatedGraphTraversal getTraversal(int           resultBudget,
+                                                 long          timeout,
+                                                 int           maxLevels,
+                                                 TestMember... members)
+    {
+        List<OMRSRepositoryConnector> cohortConnectors = new ArrayList<>();
+
+        for (TestMember member : members)
+        {
+            cohortConnectors.add(new TestConnector(member));
+        }
+
+        return new FederatedGraphTraversal(USER_ID, cohortConnectors, null, resultBudget, timeout, maxLevels, METHOD_NAME);
+    }
+
+
+    private TestMember getChain(String memberName,
+                                int    length)
+    {
+        TestMember member = new TestMember(memberName);
+
+        for (int i = 0; i < length; i++)
+        {
+            member.addEntities("e" + i);
+
+            if (i > 0)
+            {
+                member.addRelationship("r" + i, "e" + (i - 1), "e" + i);
+            }
+        }
+
+        return member;
+    }
+
+
+    /**
+     * Connector to a test cohort member.
+     */
+    private static class TestConnector extends OMRSRepositoryConnector
+    {
+        TestConnector(TestMember member)
+        {
+            super.metadataCollection = member;
+        }
+    }
+
+
+    /**
+     * Cohort member that holds a small graph in memory and counts the requests to expand its entities.
+     */
+    private static class TestMember extends OMRSMetadataCollectionBase
+    {
+        private final Map<String, EntityDetail> entities       = new LinkedHashMap<>();
+        private final List<Relationship>        relationships  = new ArrayList<>();
+        private final AtomicInteger             expansionCount = new AtomicInteger(0);
+        private volatile long                   delay          = 0;
+
+        TestMember(String name)
+        {
+            super(null, name, null, null, name);
+        }
+
+
+        void addEntities(String... guids)
+        {
+            for (String guid : guids)
+            {
+                EntityDetail entity = new EntityDetail();
+
+                entity.setGUID(guid);
+                entity.setVersion(1);
+                entity.setStatus(InstanceStatus.ACTIVE);
+                entities.put(guid, entity);
+            }
+        }
+
+
+        void addRelationship(String guid,
+                             String entityOneGUID,
+                             String entityTwoGUID)
+        {
+            Relationship relationship = new Relationship();
+            EntityProxy  entityOne    = new EntityProxy();
+            EntityProxy  entityTwo    = new EntityProxy();
+
+            entityOne.setGUID(entityOneGUID);
+            entityTwo.setGUID(entityTwoGUID);
+            relationship.setGUID(guid);
+            relationship.setVersion(1);
+            relationship.setEntityOneProxy(entityOne);
+            relationship.setEntityTwoProxy(entityTwo);
+            relationships.add(relationship);
+        }
+
+
+        @Override
+        public InstanceGraph getEntityNeighborhood(String               userId,
+                                                   String               entityGUID,
+                                                   List<String>         entityTypeGUIDs,
+                                                   List<String>         relationshipTypeGUIDs,
+                                                   List<InstanceStatus> limitResultsByStatus,
+                                                   List<String>         limitResultsByClassification,
+                                                   Date                 asOfTime,
+                                                   int                  level) throws EntityNotKnownException
+        {
+            expansionCount.incrementAndGet();
+
+            if (delay > 0)
+            {
+                try
+                {
+                    Thread.sleep(delay);
+                }
+                catch (InterruptedException error)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            Set<String>        reached                   = new HashSet<>();
+            List<String>       frontier                  = new ArrayList<>();
+            List<Relationship> neighborhoodRelationships = new ArrayList<>();
+
+            reached.add(entityGUID);
+            frontier.add(entityGUID);
+
+            for (int hop = 0; hop < level; hop++)
+            {
+                List<String> nextFrontier = new ArrayList<>();
+
+                for (Relationship relationship : relationships)
+                {
+                    String entityOneGUID = relationship.getEntityOneProxy().getGUID();
+                    String entityTwoGUID = relationship.getEntityTwoProxy().getGUID();
+
+                    if ((frontier.contains(entityOneGUID) || frontier.contains(entityTwoGUID)) &&
+                        (! neighborhoodRelationships.contains(relationship)))
+                    {
+                        neighborhoodRelationships.add(relationship);
+
+                        for (String endGUID : Arrays.asList(entityOneGUID, entityTwoGUID))
+                        {
+                            if (reached.add(endGUID))
+                            {
+                                nextFrontier.add(endGUID);
+                            }
+                        }
+                    }
+                }
+
+                frontier = nextFrontier;
+            }
+
+            if ((! entities.containsKey(entityGUID)) && (neighborhoodRelationships.isEmpty()))
+            {
+                throw new EntityNotKnownException(OMRSErrorCode.ENTITY_NOT_KNOWN.getMessageDefinition(entityGUID,
+                                                                                                      "getEntityNeighborhood",
+                                                                                                      repositoryName),
+                                                  this.getClass().getName(),
+                                                  "getEntityNeighborhood");
+            }
+
+            List<EntityDetail> neighborhoodEntities = new ArrayList<>();
+
+            for (String guid : reached)
+            {
+                if (entities.containsKey(guid))
+                {
+                    neighborhoodEntities.add(entities.get(guid));
+                }
+            }
+
+            InstanceGraph neighborhood = new InstanceGraph();
+
+            neighborhood.setEntities(neighborhoodEntities);
+            neighborhood.setRelationships(neighborhoodRelationships);
+
+            return neighborhood;
+        }
+
+
+        @Override
+        public EntityDetail isEntityKnown(String userId,
+                                          String guid)
+        {
+            return entities.get(guid);
+        }
+    }
+}
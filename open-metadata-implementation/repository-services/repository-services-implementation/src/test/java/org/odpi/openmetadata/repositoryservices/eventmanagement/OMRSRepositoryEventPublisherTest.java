@@ -0,0 +1,240 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.eventmanagement;
+
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventOriginator;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Validate the batching and unpacking of instance events by the OMRSRepositoryEventPublisher.
+ */
+public class OMRSRepositoryEventPublisherTest
+{
+    private static final String sourceName = "TestSource";
+
+
+    /**
+     * Validate that a batch is published as a single event once it is full.
+     */
+    @Test
+    public void testBatchPublishedWhenFull()
+    {
+        RecordingTopicConnector      topicConnector = new RecordingTopicConnector();
+        OMRSRepositoryEventPublisher publisher      = new OMRSRepositoryEventPublisher("TestCohort", topicConnector, null);
+
+        publisher.setInstanceBatching(3, 60000);
+
+        publisher.sendInstanceEvent(sourceName, newEntityEvent("guid1"));
+        publisher.sendInstanceEvent(sourceName, newEntityEvent("guid2"));
+        assertTrue(topicConnector.getEvents().isEmpty());
+
+        publisher.sendInstanceEvent(sourceName, newRelationshipEvent("guid3"));
+
+        List<OMRSInstanceEvent> events = topicConnector.getEvents();
+        assertEquals(events.size(), 1);
+        assertEquals(events.get(0).getInstanceEventType(), OMRSInstanceEventType.BATCH_INSTANCES_EVENT);
+        assertEquals(events.get(0).getInstanceBatch().getEntities().size(), 2);
+        assertEquals(events.get(0).getInstanceBatch().getRelationships().size(), 1);
+
+        publisher.stopInstanceBatching();
+    }
+
+
+    /**
+     * Validate that an update is not batched and that the pending batch is published ahead of it.
+     */
+    @Test
+    public void testBatchPublishedBeforeOtherEvents()
+    {
+        RecordingTopicConnector      topicConnector = new RecordingTopicConnector();
+        OMRSRepositoryEventPublisher publisher      = new OMRSRepositoryEventPublisher("TestCohort", topicConnector, null);
+
+        publisher.setInstanceBatching(10, 60000);
+
+        publisher.sendInstanceEvent(sourceName, newEntityEvent("guid1"));
+        publisher.sendInstanceEvent(sourceName, newEntityEvent("guid2"));
+
+        EntityDetail original = getEntity("guid1", 1);
+        EntityDetail updated  = getEntity("guid1", 2);
+
+        publisher.sendInstanceEvent(sourceName, new OMRSInstanceEvent(OMRSInstanceEventType.UPDATED_ENTITY_EVENT, original, updated));
+
+        List<OMRSInstanceEvent> events = topicConnector.getEvents();
+        assertEquals(events.size(), 2);
+        assertEquals(events.get(0).getInstanceEventType(), OMRSInstanceEventType.BATCH_INSTANCES_EVENT);
+        assertEquals(events.get(1).getInstanceEventType(), OMRSInstanceEventType.UPDATED_ENTITY_EVENT);
+        assertEquals(events.get(1).getOriginalEntity(), original);
+
+        publisher.stopInstanceBatching();
+    }
+
+
+    /**
+     * Validate that a batch holding a single event is published as the original event.
+     */
+    @Test
+    public void testSingleEventBatch()
+    {
+        RecordingTopicConnector      topicConnector = new RecordingTopicConnector();
+        OMRSRepositoryEventPublisher publisher      = new OMRSRepositoryEventPublisher("TestCohort", topicConnector, null);
+
+        publisher.setInstanceBatching(10, 60000);
+
+        publisher.sendInstanceEvent(sourceName, newEntityEvent("guid1"));
+        publisher.stopInstanceBatching();
+
+        List<OMRSInstanceEvent> events = topicConnector.getEvents();
+        assertEquals(events.size(), 1);
+        assertEquals(events.get(0).getInstanceEventType(), OMRSInstanceEventType.NEW_ENTITY_EVENT);
+        assertNull(events.get(0).getInstanceBatch());
+    }
+
+
+    /**
+     * Validate that a batch is published when its interval expires.
+     *
+     * @throws InterruptedException interrupted while waiting for the batch
+     */
+    @Test
+    public void testBatchPublishedAfterInterval() throws InterruptedException
+    {
+        RecordingTopicConnector      topicConnector = new RecordingTopicConnector();
+        OMRSRepositoryEventPublisher publisher      = new OMRSRepositoryEventPublisher("TestCohort", topicConnector, null);
+
+        publisher.setInstanceBatching(100, 50);
+
+        publisher.sendInstanceEvent(sourceName, newEntityEvent("guid1"));
+        publisher.sendInstanceEvent(sourceName, newEntityEvent("guid2"));
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while ((topicConnector.getEvents().isEmpty()) && (System.currentTimeMillis() < deadline))
+        {
+            Thread.sleep(10);
+        }
+
+        List<OMRSInstanceEvent> events = topicConnector.getEvents();
+        assertEquals(events.size(), 1);
+        assertEquals(events.get(0).getInstanceEventType(), OMRSInstanceEventType.BATCH_INSTANCES_EVENT);
+        assertEquals(events.get(0).getInstanceBatch().getEntities().size(), 2);
+
+        publisher.stopInstanceBatching();
+    }
+
+
+    /**
+     * Validate that a publisher for the enterprise topic publishes each instance in a batch received from another
+     * member of the cohort as an individual new instance event with the batch's originator.
+     */
+    @Test
+    public void testBatchUnpackedForEnterpriseTopic()
+    {
+        RecordingTopicConnector      topicConnector = new RecordingTopicConnector();
+        OMRSRepositoryEventPublisher publisher      = new OMRSRepositoryEventPublisher("Cohort to Enterprise", topicConnector, null);
+
+        publisher.setUnpackInstanceBatches(true);
+
+        InstanceGraph      instanceBatch = new InstanceGraph();
+        List<EntityDetail> entities      = new ArrayList<>();
+        List<Relationship> relationships = new ArrayList<>();
+
+        entities.add(getEntity("guid1", 1));
+        entities.add(getEntity("guid2", 1));
+        relationships.add(newRelationshipEvent("guid3").getRelationship());
+        instanceBatch.setEntities(entities);
+        instanceBatch.setRelationships(relationships);
+
+        OMRSEventOriginator originator = new OMRSEventOriginator();
+        originator.setMetadataCollectionId("remoteCollection");
+
+        OMRSInstanceEvent batchEvent = new OMRSInstanceEvent(OMRSInstanceEventType.BATCH_INSTANCES_EVENT, instanceBatch);
+        batchEvent.setEventOriginator(originator);
+
+        publisher.sendInstanceEvent(sourceName, batchEvent);
+
+        List<OMRSInstanceEvent> events = topicConnector.getEvents();
+        assertEquals(events.size(), 3);
+        assertEquals(events.get(0).getInstanceEventType(), OMRSInstanceEventType.NEW_ENTITY_EVENT);
+        assertEquals(events.get(0).getEntity().getGUID(), "guid1");
+        assertEquals(events.get(1).getInstanceEventType(), OMRSInstanceEventType.NEW_ENTITY_EVENT);
+        assertEquals(events.get(1).getEntity().getGUID(), "guid2");
+        assertEquals(events.get(2).getInstanceEventType(), OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT);
+        assertEquals(events.get(2).getRelationship().getGUID(), "guid3");
+
+        for (OMRSInstanceEvent event : events)
+        {
+            assertEquals(event.getEventOriginator().getMetadataCollectionId(), "remoteCollection");
+        }
+
+        /*
+         * Without unpacking, the batch is passed on unchanged.
+         */
+        RecordingTopicConnector      cohortTopicConnector = new RecordingTopicConnector();
+        OMRSRepositoryEventPublisher cohortPublisher      = new OMRSRepositoryEventPublisher("TestCohort", cohortTopicConnector, null);
+
+        cohortPublisher.sendInstanceEvent(sourceName, batchEvent);
+
+        assertEquals(cohortTopicConnector.getEvents().size(), 1);
+        assertEquals(cohortTopicConnector.getEvents().get(0).getInstanceEventType(), OMRSInstanceEventType.BATCH_INSTANCES_EVENT);
+    }
+
+
+    private static OMRSInstanceEvent newEntityEvent(String guid)
+    {
+        return new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, getEntity(guid, 1));
+    }
+
+
+    private static OMRSInstanceEvent newRelationshipEvent(String guid)
+    {
+        Relationship relationship = new Relationship();
+
+        relationship.setGUID(guid);
+        relationship.setVersion(1);
+
+        return new OMRSInstanceEvent(OMRSInstanceEventType.NEW_RELATIONSHIP_EVENT, relationship);
+    }
+
+
+    private static EntityDetail getEntity(String guid, long version)
+    {
+        EntityDetail entity = new EntityDetail();
+
+        entity.setGUID(guid);
+        entity.setVersion(version);
+
+        return entity;
+    }
+
+
+    /**
+     * Topic connector that records the instance events it is asked to send.
+     */
+    private static class RecordingTopicConnector extends OMRSTopicConnector
+    {
+        private final List<OMRSInstanceEvent> events = new ArrayList<>();
+
+        @Override
+        public synchronized void sendInstanceEvent(OMRSInstanceEvent instanceEvent)
+        {
+            events.add(instanceEvent);
+        }
+
+        synchronized List<OMRSInstanceEvent> getEvents()
+        {
+            return new ArrayList<>(events);
+        }
+    }
+}
@@ -4,6 +4,7 @@ package org.odpi.openmetadata.repositoryservices.localrepository.repositoryconte
 
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.SequencingOrder;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.*;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.search.EntityDetailPage;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.repositoryconnector.OMRSRepositoryHelper;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.PagingErrorException;
 import org.odpi.openmetadata.repositoryservices.ffdc.exception.PropertyErrorException;
@@ -460,6 +461,100 @@ public class OMRSRepositoryHelperTest
 
     }
 
+    @Test
+    void testFormatEntityPage() throws PagingErrorException {
+        final String methodName = "testFormatEntityPage";
+        OMRSRepositoryHelper helper = createHelper();
+
+        String[] names = {"delta", "alpha", "charlie", "alpha", "bravo", "charlie", "alpha"};
+        List<EntityDetail> fullResults = new ArrayList<>();
+        for (int i = 0; i < names.length; i++) {
+            EntityDetail entityDetail = new EntityDetail();
+            entityDetail.setGUID("guid-" + i);
+            entityDetail.setProperties(helper.addStringPropertyToInstance("test", null, "name", names[i], methodName));
+            fullResults.add(entityDetail);
+        }
+
+        // Page through the results in name order; equal names are sequenced by GUID
+        List<String> pagedGUIDs = new ArrayList<>();
+        String continuationToken = null;
+        int pageCount = 0;
+        do {
+            EntityDetailPage page = helper.formatEntityPage("test",
+                    fullResults,
+                    0,
+                    continuationToken,
+                    "name",
+                    SequencingOrder.PROPERTY_ASCENDING,
+                    3,
+                    methodName);
+            assertNotNull(page.getEntities());
+            assertTrue(page.getEntities().size() <= 3);
+            for (EntityDetail entityDetail : page.getEntities()) {
+                pagedGUIDs.add(entityDetail.getGUID());
+            }
+            continuationToken = page.getContinuationToken();
+            pageCount++;
+        } while (continuationToken != null);
+
+        assertEquals(pageCount, 3);
+        assertEquals(pagedGUIDs, Arrays.asList("guid-1", "guid-3", "guid-6", "guid-4", "guid-2", "guid-5", "guid-0"));
+
+        // The starting element is used when there is no token
+        EntityDetailPage page = helper.formatEntityPage("test", fullResults, 5, null, "name", SequencingOrder.PROPERTY_ASCENDING, 3, methodName);
+        assertEquals(page.getEntities().size(), 2);
+        assertNull(page.getContinuationToken());
+
+        // A token can only be used with the sequencing it was created for
+        page = helper.formatEntityPage("test", fullResults, 0, null, "name", SequencingOrder.PROPERTY_ASCENDING, 3, methodName);
+        assertNotNull(page.getContinuationToken());
+        assertEquals(helper.getContinuationTokenPosition("test", page.getContinuationToken(), 0, "name", SequencingOrder.PROPERTY_ASCENDING, methodName), 3);
+
+        String token = page.getContinuationToken();
+        assertThrows(PagingErrorException.class,
+                () -> helper.formatEntityPage("test", fullResults, 0, token, "name", SequencingOrder.PROPERTY_DESCENDING, 3, methodName));
+        assertThrows(PagingErrorException.class,
+                () -> helper.formatEntityPage("test", fullResults, 0, "not-a-token", "name", SequencingOrder.PROPERTY_ASCENDING, 3, methodName));
+    }
+
+    @Test
+    void testFormatEntityResultsSequencing() throws PropertyErrorException, PagingErrorException {
+        final String methodName = "testFormatEntityResultsSequencing";
+        OMRSRepositoryHelper helper = createHelper();
+
+        // Ranks are a permutation of 0 to 19
+        List<EntityDetail> fullResults = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            EntityDetail entityDetail = new EntityDetail();
+            entityDetail.setGUID("guid-" + i);
+            entityDetail.setProperties(helper.addIntPropertyToInstance("test", null, "rank", (i * 7) % 20, methodName));
+            fullResults.add(entityDetail);
+        }
+
+        List<EntityDetail> entities = helper.formatEntityResults(new ArrayList<>(fullResults), 5, "rank", SequencingOrder.PROPERTY_ASCENDING, 4);
+        assertEquals(entities.size(), 4);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(entities.get(i).getProperties().getPropertyValue("rank").valueAsObject(), 5 + i);
+        }
+
+        entities = helper.formatEntityResults(new ArrayList<>(fullResults), 0, "rank", SequencingOrder.PROPERTY_DESCENDING, 3);
+        assertEquals(entities.size(), 3);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(entities.get(i).getProperties().getPropertyValue("rank").valueAsObject(), 19 - i);
+        }
+
+        // The last page is sorted from the full results
+        entities = helper.formatEntityResults(new ArrayList<>(fullResults), 18, "rank", SequencingOrder.PROPERTY_ASCENDING, 5);
+        assertEquals(entities.size(), 2);
+        assertEquals(entities.get(0).getProperties().getPropertyValue("rank").valueAsObject(), 18);
+        assertEquals(entities.get(1).getProperties().getPropertyValue("rank").valueAsObject(), 19);
+
+        entities = helper.formatEntityResults(new ArrayList<>(fullResults), 0, null, SequencingOrder.GUID, 3);
+        assertEquals(entities.get(0).getGUID(), "guid-0");
+        assertEquals(entities.get(1).getGUID(), "guid-1");
+        assertEquals(entities.get(2).getGUID(), "guid-10");
+    }
+
     private Relationship getTestRelationship() {
         Relationship relationship = new Relationship();
         setupTestObject(relationship);
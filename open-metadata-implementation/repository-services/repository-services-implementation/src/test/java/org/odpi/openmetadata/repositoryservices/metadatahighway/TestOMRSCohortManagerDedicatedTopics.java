@@ -0,0 +1,191 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.repositoryservices.metadatahighway;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.odpi.openmetadata.frameworks.auditlog.AuditLog;
+import org.odpi.openmetadata.frameworks.connectors.Connector;
+import org.odpi.openmetadata.frameworks.connectors.properties.ConnectionProperties;
+import org.odpi.openmetadata.frameworks.connectors.properties.beans.Connection;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSEventEncoder;
+import org.odpi.openmetadata.repositoryservices.connectors.omrstopic.OMRSTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.openmetadatatopic.OpenMetadataTopicConnector;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityDetail;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventOriginator;
+import org.odpi.openmetadata.repositoryservices.events.OMRSEventProtocolVersion;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSInstanceEventType;
+import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEvent;
+import org.odpi.openmetadata.repositoryservices.events.OMRSRegistryEventType;
+import org.odpi.openmetadata.repositoryservices.events.beans.v1.OMRSEventV1;
+import org.odpi.openmetadata.repositoryservices.localrepository.repositorycontentmanager.OMRSRepositoryContentManager;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+
+/**
+ * Validate that, when a cohort uses dedicated topics, the connectors for the types and instances topics use the
+ * capabilities that the other members advertise in the registry events received on the registration topic.
+ */
+public class TestOMRSCohortManagerDedicatedTopics
+{
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+
+    /**
+     * Validate that large events sent on the types and instances topics are compressed once every member that
+     * registered on the registration topic accepts compressed events, and not while one member does not.
+     *
+     * @throws Exception problem sending or parsing the events
+     */
+    @Test public void testDedicatedTopicsShareMemberCapabilities() throws Exception
+    {
+        RecordingEventBusConnector registrationEventBus = new RecordingEventBusConnector();
+        RecordingEventBusConnector typesEventBus        = new RecordingEventBusConnector();
+        RecordingEventBusConnector instancesEventBus    = new RecordingEventBusConnector();
+
+        OMRSTopicConnector registrationTopicConnector = getTopicConnector(registrationEventBus);
+        OMRSTopicConnector typesTopicConnector        = getTopicConnector(typesEventBus);
+        OMRSTopicConnector instancesTopicConnector    = getTopicConnector(instancesEventBus);
+
+        AuditLog          auditLog      = new AuditLog(null, 0, "TestCohortManager", "Test", null);
+        OMRSCohortManager cohortManager = new OMRSCohortManager(auditLog);
+
+        cohortManager.initialize("testCohort",
+                                 "localCollection",
+                                 "Local Collection",
+                                 "localServer",
+                                 "TestServer",
+                                 "TestOrganization",
+                                 null,
+                                 new OMRSRepositoryContentManager("testUser", auditLog),
+                                 null,
+                                 null,
+                                 null,
+                                 null,
+                                 null,
+                                 new Connection(),
+                                 registrationTopicConnector,
+                                 new Connection(),
+                                 typesTopicConnector,
+                                 new Connection(),
+                                 instancesTopicConnector,
+                                 null,
+                                 0,
+                                 0);
+
+        registrationTopicConnector.processEvent(getRegistryEvent(OMRSRegistryEventType.REGISTRATION_EVENT, "member1", true));
+
+        typesTopicConnector.sendInstanceEvent(getLargeEvent());
+        instancesTopicConnector.sendInstanceEvent(getLargeEvent());
+
+        assertTrue(OMRSEventEncoder.isCompressed(typesEventBus.getLastEvent()));
+        assertTrue(OMRSEventEncoder.isCompressed(instancesEventBus.getLastEvent()));
+
+        /*
+         * A member from an earlier release does not advertise that it accepts compressed events.
+         */
+        registrationTopicConnector.processEvent(getRegistryEvent(OMRSRegistryEventType.REGISTRATION_EVENT, "member2", false));
+
+        typesTopicConnector.sendInstanceEvent(getLargeEvent());
+        instancesTopicConnector.sendInstanceEvent(getLargeEvent());
+
+        assertFalse(OMRSEventEncoder.isCompressed(typesEventBus.getLastEvent()));
+        assertFalse(OMRSEventEncoder.isCompressed(instancesEventBus.getLastEvent()));
+    }
+
+
+    private OMRSTopicConnector getTopicConnector(RecordingEventBusConnector eventBusConnector) throws Exception
+    {
+        OMRSTopicConnector topicConnector     = new OMRSTopicConnector();
+        List<Connector>    embeddedConnectors = new ArrayList<>();
+
+        embeddedConnectors.add(eventBusConnector);
+
+        topicConnector.initialize("testConnector", new ConnectionProperties(new Connection()));
+        topicConnector.setAuditLog(new AuditLog(null, 0, "TestTopicConnector", "Test", null));
+        topicConnector.initializeEmbeddedConnectors(embeddedConnectors);
+        topicConnector.setEventProtocolLevel(OMRSEventProtocolVersion.V1_COMPRESSED);
+        topicConnector.start();
+
+        return topicConnector;
+    }
+
+
+    private String getRegistryEvent(OMRSRegistryEventType registryEventType,
+                                    String                metadataCollectionId,
+                                    boolean               compressedEventsSupported) throws Exception
+    {
+        OMRSRegistryEvent   registryEvent = new OMRSRegistryEvent(registryEventType, new Date(), metadataCollectionId, null);
+        OMRSEventOriginator originator    = new OMRSEventOriginator();
+
+        originator.setMetadataCollectionId(metadataCollectionId);
+        registryEvent.setEventOriginator(originator);
+
+        OMRSEventV1 event = registryEvent.getOMRSEventV1();
+
+        event.getRegistryEventSection().setCompressedEventsSupported(compressedEventsSupported);
+
+        return objectMapper.writeValueAsString(event);
+    }
+
+
+    private OMRSInstanceEvent getLargeEvent()
+    {
+        List<TypeDefLink> superTypes = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++)
+        {
+            TypeDefLink superType = new TypeDefLink();
+            superType.setName("SuperType" + i);
+            superTypes.add(superType);
+        }
+
+        InstanceType instanceType = new InstanceType();
+        instanceType.setTypeDefName("DataFile");
+        instanceType.setTypeDefSuperTypes(superTypes);
+
+        EntityDetail entity = new EntityDetail();
+        entity.setGUID("guid1");
+        entity.setType(instanceType);
+
+        return new OMRSInstanceEvent(OMRSInstanceEventType.NEW_ENTITY_EVENT, entity);
+    }
+
+
+    /**
+     * Event bus connector that records the events sent to it.
+     */
+    private static class RecordingEventBusConnector extends OpenMetadataTopicConnector
+    {
+        private final List<String> sentEvents = Collections.synchronizedList(new ArrayList<>());
+
+
+        @Override
+        public void start()
+        {
+        }
+
+
+        @Override
+        public void sendEvent(String event)
+        {
+            sentEvents.add(event);
+        }
+
+
+        String getLastEvent()
+        {
+            return sentEvents.get(sentEvents.size() - 1);
+        }
+    }
+}
@@ -696,6 +696,54 @@ public class LocalRepositoryServicesResource
     }
 
 
+    /**
+     * Return the header and classifications for each of the requested entities.  The returned entity summaries
+     * may be from full entity objects or entity proxies.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return EntitySummaryListResponse:
+     * list of entities in the order requested (unknown entities are omitted) or
+     * InvalidParameterException one of the guids is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @PostMapping(path = "/instances/entities/by-guids/summary")
+
+    public EntitySummaryListResponse getEntitySummaries(@PathVariable String                  serverName,
+                                                        @PathVariable String                  userId,
+                                                        @RequestBody  InstanceGUIDListRequest guids)
+    {
+        return restAPI.getEntitySummaries(serverName, userId, guids);
+    }
+
+
+    /**
+     * Return the header, classifications and properties of each of the requested entities.  Entities that are
+     * only known as proxies are omitted.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the entities.
+     * @return EntityListResponse:
+     * list of entities in the order requested (unknown entities are omitted) or
+     * InvalidParameterException one of the guids is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @PostMapping(path = "/instances/entities/by-guids")
+
+    public EntityListResponse getEntityDetails(@PathVariable String                  serverName,
+                                               @PathVariable String                  userId,
+                                               @RequestBody  InstanceGUIDListRequest guids)
+    {
+        return restAPI.getEntityDetails(serverName, userId, guids);
+    }
+
+
     /**
      * Return a historical version of an entity includes the header, classifications and properties of the entity.
      *
@@ -1108,6 +1156,29 @@ public class LocalRepositoryServicesResource
     }
 
 
+    /**
+     * Return each of the requested relationships.
+     *
+     * @param serverName unique identifier for requested server.
+     * @param userId unique identifier for requesting user.
+     * @param guids list of unique identifiers for the relationships.
+     * @return RelationshipListResponse:
+     * list of relationships in the order requested (unknown relationships are omitted) or
+     * InvalidParameterException one of the guids is null or
+     * RepositoryErrorException there is a problem communicating with the metadata repository where
+     *                                 the metadata collection is stored or
+     * UserNotAuthorizedException the userId is not permitted to perform this operation.
+     */
+    @PostMapping(path = "/instances/relationships/by-guids")
+
+    public RelationshipListResponse getRelationships(@PathVariable String                  serverName,
+                                                     @PathVariable String                  userId,
+                                                     @RequestBody  InstanceGUIDListRequest guids)
+    {
+        return restAPI.getRelationships(serverName, userId, guids);
+    }
+
+
     /**
      * Return a historical version of a relationship.
      *
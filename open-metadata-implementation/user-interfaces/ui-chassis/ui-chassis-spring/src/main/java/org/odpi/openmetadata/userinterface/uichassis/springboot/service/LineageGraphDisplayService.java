@@ -5,14 +5,17 @@ package org.odpi.openmetadata.userinterface.uichassis.springboot.service;
 import org.odpi.openmetadata.userinterface.uichassis.springboot.beans.Edge;
 import org.odpi.openmetadata.userinterface.uichassis.springboot.beans.Graph;
 import org.odpi.openmetadata.userinterface.uichassis.springboot.beans.Node;
+import org.odpi.openmetadata.userinterface.uichassis.springboot.service.graphrules.IndexedGraph;
 import org.odpi.openmetadata.userinterface.uichassis.springboot.service.graphrules.Rule;
 import org.odpi.openmetadata.userinterface.uichassis.springboot.beans.Rules;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.HashSet;
 import java.util.List;
-import java.util.ListIterator;
+import java.util.Queue;
+import java.util.Set;
 
 /**
  * This component matches the properties provided under lineage-display-config which provide rules
@@ -35,6 +38,7 @@ public class LineageGraphDisplayService {
 
     /**
      * This method applies the rules defined in the properties file on the graph.
+     * The graph is indexed once and the rules are applied in turn to the index.
      *
      * @param graph           graph processed from the response from open lineage
      * @param queriedNodeGUID the GUID of the queried node
@@ -44,58 +48,60 @@ public class LineageGraphDisplayService {
             return;
         }
 
-        for (Rule rule : rules.getAllRules()) {
-            rule.apply(graph, queriedNodeGUID);
+        List<Rule> allRules = rules.getAllRules();
+        if (allRules.isEmpty()) {
+            return;
+        }
+
+        IndexedGraph indexedGraph = new IndexedGraph(graph);
+        for (Rule rule : allRules) {
+            rule.apply(indexedGraph, queriedNodeGUID);
         }
+        indexedGraph.updateGraph();
     }
 
     /**
      * sets the level field for the nodes, in order to be displayed on levels
-     * Stars from a start list of nodes and sets a the level+1 for the nodes on the ends of "to" edges and
-     * legel -1 for the nodes from the "from" end of it's edges
-     * once an edge or node is processed is removed from the list.
+     * Starts from a start list of nodes and visits the graph breadth first, setting level+1 for the nodes on
+     * the "to" end of a node's edges and level-1 for the nodes on the "from" end of them.
+     * Each node is given a level once, when it is first reached.
      *
      * @param startNodes the starting nodes
      * @param listNodes  the list of nodes
      * @param listEdges  the list of edges
      */
     public void setNodesLevel(List<Node> startNodes, List<Node> listNodes, List<Edge> listEdges) {
+        IndexedGraph indexedGraph = new IndexedGraph(new Graph(listNodes, listEdges));
 
-        ArrayList<Node> newStartNodes = new ArrayList<>();
-
-        ListIterator<Edge> edgeListIterator = listEdges.listIterator();
-
-        while (edgeListIterator.hasNext()) {
-            Edge e = edgeListIterator.next();
-            for (Node node : startNodes) {
-                if (node.getId().equals(e.getFrom())) {
-
-                    listNodes.stream()
-                            .filter(n -> n.getLevel() == 0 && n.getId().equals(e.getTo()))
-                            .forEach(item -> {
-                                item.setLevel(node.getLevel() + 1);
-                                newStartNodes.add(item);
-                                edgeListIterator.remove();
-                            });
-
-                } else if (node.getId().equals(e.getTo())) {
-
-                    listNodes.stream()
-                            .filter(n -> n.getLevel() == 0 && n.getId().equals(e.getFrom()))
-                            .forEach(item -> {
-                                item.setLevel(node.getLevel() - 1);
-                                newStartNodes.add(item);
-                                edgeListIterator.remove();
-                            });
+        Set<String> visitedNodeIds = new HashSet<>();
+        Queue<Node> nodesToVisit = new ArrayDeque<>();
+        for (Node node : startNodes) {
+            if (visitedNodeIds.add(node.getId())) {
+                nodesToVisit.add(node);
+            }
+        }
 
-                }
-                listNodes.removeAll(newStartNodes);
+        while (!nodesToVisit.isEmpty()) {
+            Node node = nodesToVisit.remove();
+            for (Edge edge : indexedGraph.getOutgoingEdges(node.getId())) {
+                visitNode(indexedGraph, edge.getTo(), node.getLevel() + 1, visitedNodeIds, nodesToVisit);
+            }
+            for (Edge edge : indexedGraph.getIncomingEdges(node.getId())) {
+                visitNode(indexedGraph, edge.getFrom(), node.getLevel() - 1, visitedNodeIds, nodesToVisit);
             }
+        }
+    }
 
+    private void visitNode(IndexedGraph indexedGraph, String nodeId, int level, Set<String> visitedNodeIds,
+                           Queue<Node> nodesToVisit) {
+        if (!visitedNodeIds.add(nodeId)) {
+            return;
         }
 
-        if (newStartNodes.size() > 0 && listEdges.size() > 0) {
-            setNodesLevel(newStartNodes, listNodes, listEdges);
+        Node node = indexedGraph.getNode(nodeId);
+        if (node != null) {
+            node.setLevel(level);
+            nodesToVisit.add(node);
         }
     }
 
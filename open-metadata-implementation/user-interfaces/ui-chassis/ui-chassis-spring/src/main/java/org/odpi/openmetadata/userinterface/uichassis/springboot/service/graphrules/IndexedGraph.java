@@ -0,0 +1,204 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.userinterface.uichassis.springboot.service.graphrules;
+
+import org.odpi.openmetadata.userinterface.uichassis.springboot.beans.Edge;
+import org.odpi.openmetadata.userinterface.uichassis.springboot.beans.Graph;
+import org.odpi.openmetadata.userinterface.uichassis.springboot.beans.Node;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Index over a lineage graph that is built once and shared by the rules, so they can look up nodes by id
+ * and edges by the node they start or end at instead of searching the node and edge lists.
+ * The changes made by the rules are written back to the graph by updateGraph.
+ */
+public class IndexedGraph {
+    private final Graph graph;
+    private final Map<String, Node> nodesById = new LinkedHashMap<>();
+    private final List<Edge> edges;
+    private final Set<Node> removedNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<Edge> removedEdges = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private Map<String, List<Edge>> outgoingEdges = null;
+    private Map<String, List<Edge>> incomingEdges = null;
+    private Map<String, Node> nodesByQualifiedName = null;
+
+    /**
+     * Index the nodes and edges of the graph.
+     *
+     * @param graph the lineage graph
+     */
+    public IndexedGraph(Graph graph) {
+        this.graph = graph;
+
+        if (graph.getNodes() != null) {
+            for (Node node : graph.getNodes()) {
+                nodesById.putIfAbsent(node.getId(), node);
+            }
+        }
+
+        this.edges = graph.getEdges() == null ? new ArrayList<>() : new ArrayList<>(graph.getEdges());
+    }
+
+    /**
+     * @param id the id of the node
+     * @return the node with this id or null if it is not in the graph
+     */
+    public Node getNode(String id) {
+        return nodesById.get(id);
+    }
+
+    /**
+     * @param qualifiedName the qualified name of the node
+     * @return the first node with this qualified name or null if it is not in the graph
+     */
+    public Node getNodeByQualifiedName(String qualifiedName) {
+        if (nodesByQualifiedName == null) {
+            nodesByQualifiedName = new HashMap<>();
+            for (Node node : nodesById.values()) {
+                if (node.getQualifiedName() != null) {
+                    nodesByQualifiedName.putIfAbsent(node.getQualifiedName(), node);
+                }
+            }
+        }
+
+        Node node = nodesByQualifiedName.get(qualifiedName);
+        return node == null || removedNodes.contains(node) ? null : node;
+    }
+
+    /**
+     * @return the nodes of the graph, in their original order
+     */
+    public List<Node> getNodes() {
+        return new ArrayList<>(nodesById.values());
+    }
+
+    /**
+     * @return the edges of the graph; edges added by the rules follow the original ones
+     */
+    public List<Edge> getEdges() {
+        List<Edge> currentEdges = new ArrayList<>(edges.size());
+        for (Edge edge : edges) {
+            if (!removedEdges.contains(edge)) {
+                currentEdges.add(edge);
+            }
+        }
+        return currentEdges;
+    }
+
+    /**
+     * @param id the id of the node
+     * @return the edges that start at the node
+     */
+    public List<Edge> getOutgoingEdges(String id) {
+        buildAdjacency();
+        return getCurrentEdges(outgoingEdges.get(id));
+    }
+
+    /**
+     * @param id the id of the node
+     * @return the edges that end at the node
+     */
+    public List<Edge> getIncomingEdges(String id) {
+        buildAdjacency();
+        return getCurrentEdges(incomingEdges.get(id));
+    }
+
+    /**
+     * @param edge the edge to add
+     */
+    public void addEdge(Edge edge) {
+        edges.add(edge);
+        if (outgoingEdges != null) {
+            outgoingEdges.computeIfAbsent(edge.getFrom(), id -> new ArrayList<>()).add(edge);
+            incomingEdges.computeIfAbsent(edge.getTo(), id -> new ArrayList<>()).add(edge);
+        }
+    }
+
+    /**
+     * @param edge the edge to remove
+     */
+    public void removeEdge(Edge edge) {
+        removedEdges.add(edge);
+    }
+
+    /**
+     * Reverse the direction of the edge.  The adjacency maps are rebuilt the next time they are needed, so a rule
+     * that inverts many edges only pays for this once.
+     *
+     * @param edge the edge to invert
+     */
+    public void invertEdge(Edge edge) {
+        String originalFrom = edge.getFrom();
+        edge.setFrom(edge.getTo());
+        edge.setTo(originalFrom);
+
+        outgoingEdges = null;
+        incomingEdges = null;
+    }
+
+    /**
+     * Remove the node from the graph. Its edges are not removed.
+     *
+     * @param node the node to remove
+     */
+    public void removeNode(Node node) {
+        if (removedNodes.add(node)) {
+            nodesById.remove(node.getId(), node);
+        }
+    }
+
+    /**
+     * Write the changes made through the index back to the node and edge lists of the graph.
+     */
+    public void updateGraph() {
+        if (graph.getNodes() != null && !removedNodes.isEmpty()) {
+            graph.getNodes().removeIf(removedNodes::contains);
+        }
+
+        if (graph.getEdges() == null) {
+            graph.setEdges(getEdges());
+        } else {
+            List<Edge> currentEdges = getEdges();
+            graph.getEdges().clear();
+            graph.getEdges().addAll(currentEdges);
+        }
+    }
+
+    private void buildAdjacency() {
+        if (outgoingEdges != null) {
+            return;
+        }
+
+        outgoingEdges = new HashMap<>();
+        incomingEdges = new HashMap<>();
+        for (Edge edge : edges) {
+            if (!removedEdges.contains(edge)) {
+                outgoingEdges.computeIfAbsent(edge.getFrom(), id -> new ArrayList<>()).add(edge);
+                incomingEdges.computeIfAbsent(edge.getTo(), id -> new ArrayList<>()).add(edge);
+            }
+        }
+    }
+
+    private List<Edge> getCurrentEdges(List<Edge> nodeEdges) {
+        if (nodeEdges == null) {
+            return Collections.emptyList();
+        }
+
+        List<Edge> currentEdges = new ArrayList<>(nodeEdges.size());
+        for (Edge edge : nodeEdges) {
+            if (!removedEdges.contains(edge)) {
+                currentEdges.add(edge);
+            }
+        }
+        return currentEdges;
+    }
+}
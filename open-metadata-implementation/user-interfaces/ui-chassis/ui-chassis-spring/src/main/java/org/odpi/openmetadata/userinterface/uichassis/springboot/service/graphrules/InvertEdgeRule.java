@@ -3,11 +3,8 @@
 package org.odpi.openmetadata.userinterface.uichassis.springboot.service.graphrules;
 
 import org.odpi.openmetadata.userinterface.uichassis.springboot.beans.Edge;
-import org.odpi.openmetadata.userinterface.uichassis.springboot.beans.Graph;
 import org.odpi.openmetadata.userinterface.uichassis.springboot.beans.Node;
 
-import java.util.List;
-
 public class InvertEdgeRule implements Rule {
     private String edgeType;
     private String sourceNodeType;
@@ -42,56 +39,28 @@ public class InvertEdgeRule implements Rule {
      * @param graph           the lineage graph
      * @param queriedNodeGUID the guid of the queried node used to identify it in the graph
      */
-    public void apply(Graph graph, String queriedNodeGUID) {
-        for (Edge edge : graph.getEdges()) {
-            List<Node> nodes = graph.getNodes();
-            if (edgeType != null && edgeType.equals(edge.getLabel())) {
-                invertEdge(nodes, edge);
-            }
-        }
-    }
-
-    private void invertEdge(List<Node> nodes, Edge edge) {
-        if (this.getSourceNodeType() != null && this.getDestinationNodeType() != null) {
-            applyRuleWithBothNodeTypes(nodes, edge);
-        } else if (this.getSourceNodeType() != null && this.getDestinationNodeType() == null) {
-            applyRuleWithOneNodeType(nodes, edge, edge.getFrom(), this.getSourceNodeType());
-        } else if (this.getSourceNodeType() == null && this.getDestinationNodeType() != null) {
-            applyRuleWithOneNodeType(nodes, edge, edge.getTo(), this.getDestinationNodeType());
-        } else {
-            invertEdgeDirection(edge);
+    public void apply(IndexedGraph graph, String queriedNodeGUID) {
+        if (edgeType == null) {
+            return;
         }
-    }
 
-    private void applyRuleWithBothNodeTypes(List<Node> nodes, Edge edge) {
-        for (Node node : nodes) {
-            if (node.getId().equals(edge.getFrom()) && node.getGroup().equals(this.getSourceNodeType())) {
-                for (Node secondNode : nodes) {
-                    if (secondNode.getId().equals(edge.getTo()) && secondNode.getGroup().equals(this.getDestinationNodeType())) {
-                        invertEdgeDirection(edge);
-                        break;
-                    }
-                }
+        for (Edge edge : graph.getEdges()) {
+            if (edgeType.equals(edge.getLabel()) && matchesNodeTypes(graph, edge)) {
+                graph.invertEdge(edge);
             }
         }
     }
 
-    private void applyRuleWithOneNodeType(List<Node> nodes, Edge edge, String nodeId, String ruleNodeType) {
-        boolean findNode = false;
-        for (Node node : nodes) {
-            if (node.getId().equals(nodeId) && node.getGroup().equals(ruleNodeType)) {
-                findNode = true;
-            }
-            if (findNode) {
-                invertEdgeDirection(edge);
-            }
-        }
+    private boolean matchesNodeTypes(IndexedGraph graph, Edge edge) {
+        return hasNodeType(graph, edge.getFrom(), this.getSourceNodeType()) &&
+                hasNodeType(graph, edge.getTo(), this.getDestinationNodeType());
     }
 
-    private void invertEdgeDirection(Edge edge) {
-        String originalFrom = edge.getFrom();
-        String originalTo = edge.getTo();
-        edge.setFrom(originalTo);
-        edge.setTo(originalFrom);
+    private boolean hasNodeType(IndexedGraph graph, String nodeId, String ruleNodeType) {
+        if (ruleNodeType == null) {
+            return true;
+        }
+        Node node = graph.getNode(nodeId);
+        return node != null && ruleNodeType.equals(node.getGroup());
     }
 }
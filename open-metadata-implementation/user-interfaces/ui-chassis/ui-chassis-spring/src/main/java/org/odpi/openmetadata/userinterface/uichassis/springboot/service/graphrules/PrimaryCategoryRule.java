@@ -3,12 +3,11 @@
 package org.odpi.openmetadata.userinterface.uichassis.springboot.service.graphrules;
 
 import org.odpi.openmetadata.userinterface.uichassis.springboot.beans.Edge;
-import org.odpi.openmetadata.userinterface.uichassis.springboot.beans.Graph;
 import org.odpi.openmetadata.userinterface.uichassis.springboot.beans.Node;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class PrimaryCategoryRule implements Rule {
     private static final String TERM_CATEGORIZATION = "TermCategorization";
@@ -59,10 +58,7 @@ public class PrimaryCategoryRule implements Rule {
      * @param queriedNodeGUID the guid of the queried node used to identify it in the graph
      */
     @Override
-    public void apply(Graph graph, String queriedNodeGUID) {
-
-        List<Node> nodes = graph.getNodes();
-        List<Edge> edges = graph.getEdges();
+    public void apply(IndexedGraph graph, String queriedNodeGUID) {
 
         List<Edge> edgesToRemove = new ArrayList<>();
         List<Node> nodesToDrop = new ArrayList<>();
@@ -71,42 +67,42 @@ public class PrimaryCategoryRule implements Rule {
             return;
         }
 
-        List<Edge> edgesWithProperLabel = graph.getEdges().stream()
-                .filter(e -> e.getLabel().equals(edgeType)).collect(Collectors.toList());
-
-        for (Edge edge : edgesWithProperLabel) {
-            String primaryCategoryQualifiedName = null;
-            String glossaryTermGUID = null;
-            for (Node node : nodes) {
-                if (node.getGroup().equals(sourceNodeType) && node.getId().equals(edge.getFrom())) {
-                    Node classificationNode = getSecondNode(nodes, edge);
-                    if (hasCorrectClassificationProperty(classificationNode)) {
-                        primaryCategoryQualifiedName = classificationNode.getProperties().get(classificationProperty);
-                        glossaryTermGUID = node.getId();
-                        nodesToDrop.add(classificationNode);
-                    }
-                }
+        for (Edge edge : graph.getEdges()) {
+            if (!edgeType.equals(edge.getLabel())) {
+                continue;
+            }
+
+            Node glossaryTermNode = graph.getNode(edge.getFrom());
+            if (glossaryTermNode == null || sourceNodeType == null || !sourceNodeType.equals(glossaryTermNode.getGroup())) {
+                continue;
+            }
+
+            Node classificationNode = getSecondNode(graph, edge);
+            if (!hasCorrectClassificationProperty(classificationNode)) {
+                continue;
             }
 
+            String primaryCategoryQualifiedName = classificationNode.getProperties().get(classificationProperty);
+            nodesToDrop.add(classificationNode);
+
             if (primaryCategoryQualifiedName == null) {
                 continue;
             }
-            String primaryCategoryGUID = getPrimaryCategoryGUID(nodes, primaryCategoryQualifiedName);
-            markRelationships(edges, glossaryTermGUID, primaryCategoryGUID);
+            String primaryCategoryGUID = getPrimaryCategoryGUID(graph, primaryCategoryQualifiedName);
+            markRelationships(graph, glossaryTermNode.getId(), primaryCategoryGUID);
 
             edgesToRemove.add(edge);
         }
 
-        graph.getNodes().removeAll(nodesToDrop);
-        graph.getEdges().removeAll(edgesToRemove);
+        nodesToDrop.forEach(graph::removeNode);
+        edgesToRemove.forEach(graph::removeEdge);
     }
 
 
-    private Node getSecondNode(List<Node> nodes, Edge edge) {
-        for (Node secondNode : nodes) {
-            if (secondNode.getId().equals(edge.getTo()) && destinationNodeType.equals(secondNode.getGroup())) {
-                return secondNode;
-            }
+    private Node getSecondNode(IndexedGraph graph, Edge edge) {
+        Node secondNode = graph.getNode(edge.getTo());
+        if (secondNode != null && destinationNodeType != null && destinationNodeType.equals(secondNode.getGroup())) {
+            return secondNode;
         }
         return null;
     }
@@ -124,29 +120,25 @@ public class PrimaryCategoryRule implements Rule {
     /**
      * Get the get the GUID of the node based on it's qualifiedName
      *
-     * @param nodes the nodes of the graphg
+     * @param graph the indexed graph
      * @param primaryCategoryQualifiedName qualified name of the category whos GUID is searched
      * @return the GUID of thr primary category
      */
-    private String getPrimaryCategoryGUID(List<Node> nodes, String primaryCategoryQualifiedName) {
-        for (Node node : nodes) {
-            if (primaryCategoryQualifiedName.equals(node.getQualifiedName())) {
-                return node.getId();
-            }
-        }
-        return null;
+    private String getPrimaryCategoryGUID(IndexedGraph graph, String primaryCategoryQualifiedName) {
+        Node node = graph.getNodeByQualifiedName(primaryCategoryQualifiedName);
+        return node == null ? null : node.getId();
     }
 
     /**
      * Marks the relationships between a GlossaryTerm and it's Categories either as REFERENCING_CATEGORY or PRIMARY_CATEGORY
      *
-     * @param edges of the graph
+     * @param graph the indexed graph
      * @param glossaryTermGUID  guid of the GlossaryTerm
      * @param primaryCategoryGUID guid of the primary category
      */
-    private void markRelationships(List<Edge> edges, String glossaryTermGUID, String primaryCategoryGUID) {
-        edges.stream()
-                .filter(edge -> isTermCategorizationAndCorrectNodes(glossaryTermGUID, edge))
+    private void markRelationships(IndexedGraph graph, String glossaryTermGUID, String primaryCategoryGUID) {
+        Stream.concat(graph.getOutgoingEdges(glossaryTermGUID).stream(), graph.getIncomingEdges(glossaryTermGUID).stream())
+                .filter(edge -> TERM_CATEGORIZATION.equals(edge.getLabel()))
                 .forEach(edge -> markRelationship(primaryCategoryGUID, edge));
     }
 
@@ -158,11 +150,6 @@ public class PrimaryCategoryRule implements Rule {
         }
     }
 
-    private boolean isTermCategorizationAndCorrectNodes(String glossaryTermGUID, Edge e) {
-        return e.getLabel().equals(TERM_CATEGORIZATION) &&
-                (e.getTo().equals(glossaryTermGUID) || e.getFrom().equals(glossaryTermGUID));
-    }
-
     @Override
     public String toString() {
         return "PrimaryCategoryRule{" +
@@ -3,7 +3,6 @@
 package org.odpi.openmetadata.userinterface.uichassis.springboot.service.graphrules;
 
 import org.odpi.openmetadata.userinterface.uichassis.springboot.beans.Edge;
-import org.odpi.openmetadata.userinterface.uichassis.springboot.beans.Graph;
 import org.odpi.openmetadata.userinterface.uichassis.springboot.beans.Node;
 
 import java.util.ArrayList;
@@ -37,69 +36,61 @@ public class RemoveNodesRule implements Rule {
      * @param queriedNodeGUID the guid of the queried node used to identify it in the graph
      */
     @Override
-    public void apply(Graph graph, String queriedNodeGUID) {
+    public void apply(IndexedGraph graph, String queriedNodeGUID) {
         if (queriedNodeType == null || nodeTypesToRemove == null) {
             return;
         }
 
-        if (areSameQueriedNodeTypes(queriedNodeGUID, graph.getNodes())) {
-            removeNodesFromGraph(graph.getEdges(), graph.getNodes());
+        if (isSameQueriedNodeType(graph.getNode(queriedNodeGUID))) {
+            removeNodesFromGraph(graph);
         }
 
     }
 
-    private boolean areSameQueriedNodeTypes(String guid, List<Node> nodes) {
-        return nodes.stream().anyMatch(node -> node.getId().equals(guid) && node.getGroup().equals(queriedNodeType));
+    private boolean isSameQueriedNodeType(Node queriedNode) {
+        return queriedNode != null && queriedNodeType.equals(queriedNode.getGroup());
     }
 
     /**
-     * Removes the nodes from the graph if they match the rule
+     * Removes the nodes from the graph if they match the rule.  The edges of a removed node are replaced by
+     * edges from the node before it to each of the nodes after it.
      *
-     * @param edges the edges of the graph
-     * @param nodes nodes of the graph
+     * @param graph the indexed graph
      */
-    private void removeNodesFromGraph(List<Edge> edges, List<Node> nodes) {
-        List<Edge> edgesToRemove = new ArrayList<>();
-        List<Node> nodesToRemove = new ArrayList<>();
-        for (Node node : nodes) {
+    private void removeNodesFromGraph(IndexedGraph graph) {
+        for (Node node : graph.getNodes()) {
             if (nodeTypesToRemove.contains(node.getGroup())) {
-                nodesToRemove.add(node);
-                String newStartNode = findNewStartNode(edges, edgesToRemove, node);
-                List<String> newEndNodes = findNewEndNodes(edges, edgesToRemove, node.getId());
-                createNewEdges(edges, newStartNode, newEndNodes);
+                String newStartNode = findNewStartNode(graph, node.getId());
+                List<String> newEndNodes = findNewEndNodes(graph, node.getId());
+                createNewEdges(graph, newStartNode, newEndNodes);
+                graph.removeNode(node);
             }
         }
-        nodes.removeAll(nodesToRemove);
-        edges.removeAll(edgesToRemove);
     }
 
 
-    private String findNewStartNode(List<Edge> edges, List<Edge> edgesToRemove, Node node) {
+    private String findNewStartNode(IndexedGraph graph, String nodeId) {
         String newFrom = "";
-        for (Edge edge : edges) {
-            if (edge.getTo().equals(node.getId())) {
-                edgesToRemove.add(edge);
-                newFrom = edge.getFrom();
-            }
+        for (Edge edge : graph.getIncomingEdges(nodeId)) {
+            graph.removeEdge(edge);
+            newFrom = edge.getFrom();
         }
         return newFrom;
     }
 
-    private List<String> findNewEndNodes(List<Edge> edges, List<Edge> edgesToRemove, String nodeId) {
+    private List<String> findNewEndNodes(IndexedGraph graph, String nodeId) {
         List<String> newTo = new ArrayList<>();
-        for (Edge edge : edges) {
-            if (edge.getFrom().equals(nodeId)) {
-                edgesToRemove.add(edge);
-                newTo.add(edge.getTo());
-            }
+        for (Edge edge : graph.getOutgoingEdges(nodeId)) {
+            graph.removeEdge(edge);
+            newTo.add(edge.getTo());
         }
         return newTo;
     }
 
-    private void createNewEdges(List<Edge> edges, String newStartNode, List<String> newEndNodes) {
+    private void createNewEdges(IndexedGraph graph, String newStartNode, List<String> newEndNodes) {
         for (String newEndNode : newEndNodes) {
             if (!newStartNode.equals("")) {
-                edges.add(new Edge(newStartNode, newEndNode));
+                graph.addEdge(new Edge(newStartNode, newEndNode));
             }
         }
     }
@@ -0,0 +1,99 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.userinterface.uichassis.springboot.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.odpi.openmetadata.userinterface.uichassis.springboot.beans.Edge;
+import org.odpi.openmetadata.userinterface.uichassis.springboot.beans.Graph;
+import org.odpi.openmetadata.userinterface.uichassis.springboot.beans.Node;
+import org.odpi.openmetadata.userinterface.uichassis.springboot.beans.Rules;
+import org.odpi.openmetadata.userinterface.uichassis.springboot.service.graphrules.InvertEdgeRule;
+import org.odpi.openmetadata.userinterface.uichassis.springboot.service.graphrules.PrimaryCategoryRule;
+import org.odpi.openmetadata.userinterface.uichassis.springboot.service.graphrules.RemoveNodesRule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LineageGraphDisplayServiceTest {
+
+    @Test
+    @DisplayName("Apply rules")
+    public void testApplyRules() {
+        Node column = createNode("column", "TabularColumn");
+        Node schemaType = createNode("schemaType", "TabularSchemaType");
+        Node table = createNode("table", "RelationalTable");
+        Node term = createNode("term", "GlossaryTerm");
+        Node classification = createNode("classification", "PrimaryCategory");
+        classification.setProperties(Collections.singletonMap("categoryQualifiedName", "category1QualifiedName"));
+        Node category1 = createNode("category1", "GlossaryCategory");
+        category1.setQualifiedName("category1QualifiedName");
+        Node category2 = createNode("category2", "GlossaryCategory");
+        category2.setQualifiedName("category2QualifiedName");
+
+        List<Node> nodes = new ArrayList<>(Arrays.asList(column, schemaType, table, term, classification, category1, category2));
+        List<Edge> edges = new ArrayList<>(Arrays.asList(
+                new Edge("table", "schemaType", "AttributeForSchema"),
+                new Edge("schemaType", "column", "AttributeForSchema"),
+                new Edge("term", "classification", "Classification"),
+                new Edge("category1", "term", "TermCategorization"),
+                new Edge("category2", "term", "TermCategorization"),
+                new Edge("column", "term", "SemanticAssignment")));
+        Graph graph = new Graph(nodes, edges);
+
+        InvertEdgeRule invertTermCategorization = new InvertEdgeRule();
+        invertTermCategorization.setEdgeType("TermCategorization");
+        invertTermCategorization.setSourceNodeType("GlossaryCategory");
+        invertTermCategorization.setDestinationNodeType("GlossaryTerm");
+
+        InvertEdgeRule invertSemanticAssignment = new InvertEdgeRule();
+        invertSemanticAssignment.setEdgeType("SemanticAssignment");
+        invertSemanticAssignment.setDestinationNodeType("GlossaryTerm");
+
+        PrimaryCategoryRule primaryCategoryRule = new PrimaryCategoryRule();
+        primaryCategoryRule.setEdgeType("Classification");
+        primaryCategoryRule.setSourceNodeType("GlossaryTerm");
+        primaryCategoryRule.setDestinationNodeType("PrimaryCategory");
+        primaryCategoryRule.setClassificationProperty("categoryQualifiedName");
+
+        RemoveNodesRule removeNodesRule = new RemoveNodesRule();
+        removeNodesRule.setQueriedNodeType("TabularColumn");
+        removeNodesRule.setNodeTypesToRemove(Collections.singletonList("TabularSchemaType"));
+
+        Rules rules = new Rules();
+        rules.setInvertEdge(Arrays.asList(invertTermCategorization, invertSemanticAssignment));
+        rules.setPrimaryCategory(Collections.singletonList(primaryCategoryRule));
+        rules.setRemoveNodes(Collections.singletonList(removeNodesRule));
+
+        LineageGraphDisplayService lineageGraphDisplayService = new LineageGraphDisplayService();
+        lineageGraphDisplayService.setRules(rules);
+        lineageGraphDisplayService.applyRules(graph, "column");
+
+        List<String> nodeIds = graph.getNodes().stream().map(Node::getId).collect(Collectors.toList());
+        assertEquals("Schema type and classification nodes should be removed",
+                Arrays.asList("column", "table", "term", "category1", "category2"), nodeIds);
+
+        assertEquals("Response should contain 4 edges", 4, graph.getEdges().size());
+        assertTrue("Edge to the primary category is missing", graph.getEdges().stream()
+                .anyMatch(e -> e.getFrom().equals("term") && e.getTo().equals("category1") && "PrimaryCategory".equals(e.getType())));
+        assertTrue("Edge to the referencing category is missing", graph.getEdges().stream()
+                .anyMatch(e -> e.getFrom().equals("term") && e.getTo().equals("category2") && "ReferencingCategory".equals(e.getType())));
+        assertTrue("Semantic assignment should be inverted", graph.getEdges().stream()
+                .anyMatch(e -> e.getFrom().equals("term") && e.getTo().equals("column")));
+        assertTrue("Table should be linked to the column", graph.getEdges().stream()
+                .anyMatch(e -> e.getFrom().equals("table") && e.getTo().equals("column")));
+    }
+
+    private Node createNode(String id, String group) {
+        Node node = new Node(id, id);
+        node.setGroup(group);
+        return node;
+    }
+}
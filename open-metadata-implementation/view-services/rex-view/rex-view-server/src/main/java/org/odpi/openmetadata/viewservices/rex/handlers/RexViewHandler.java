@@ -9,6 +9,7 @@ import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollec
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.EntityProxy;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceAuditHeader;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceGraph;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceHeader;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.InstanceType;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.instances.Relationship;
 import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefLink;
@@ -55,7 +56,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -73,6 +76,26 @@ public class RexViewHandler
      */
     private static final int TRUNCATED_STRING_LENGTH = 24;
 
+    /*
+     * Minimum time (in milliseconds) between reloads of the type information for a repository server.
+     * This stops a repository that returns instances of types it does not list in its TypeDefGallery
+     * from causing the gallery to be retrieved on every request.
+     */
+    private static final long MIN_TYPE_REFRESH_INTERVAL = 60000;
+
+    /*
+     * Maximum time (in milliseconds) that the type information retrieved for a user is reused.  After this time it
+     * is retrieved again so that changes to the types the user may read are picked up.
+     */
+    private static final long MAX_TYPE_EXPLORER_AGE = 300000;
+
+    /*
+     * Maximum number of repository services clients and type explorers that are cached.  The server names
+     * are supplied by the caller so the least recently used entries are discarded once these limits are reached.
+     */
+    private static final int MAX_CACHED_CLIENTS        = 50;
+    private static final int MAX_CACHED_TYPE_EXPLORERS = 200;
+
 
     /*
      * viewServiceOptions should have been validated in the Admin layer.
@@ -116,6 +139,59 @@ public class RexViewHandler
     private Map<String, ResourceEndpoint>  configuredPlatforms = null;          // map is keyed using platformRootURL
     private Map<String, ResourceEndpoint>  configuredServerInstances   = null;  // map is keyed using serverName+platformRootURL so each instance is unique
 
+    /*
+     * The repository services clients and the type information retrieved from each repository server are reused
+     * across requests.  The clients are keyed using serverName+platformRootURL+mode.  The type explorers are keyed
+     * using serverName+platformName+mode+userId because the repository server only returns the types that the
+     * user is authorized to read.  A type explorer is reloaded when the repository server returns an
+     * instance whose type is not known to it, or is a later version than the one it holds, or when it
+     * reaches the maximum age.
+     */
+    private final Map<String, MetadataCollectionServicesClient> repositoryServicesClients = Collections.synchronizedMap(new LeastRecentlyUsedMap<>(MAX_CACHED_CLIENTS));
+    private final Map<String, CachedTypeExplorer>               typeExplorers             = Collections.synchronizedMap(new LeastRecentlyUsedMap<>(MAX_CACHED_TYPE_EXPLORERS));
+
+
+    /**
+     * A map that discards its least recently used entry once it holds more than the maximum number of entries.
+     *
+     * @param <K> key type
+     * @param <V> value type
+     */
+    private static class LeastRecentlyUsedMap<K, V> extends LinkedHashMap<K, V>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final int maxEntries;
+
+        LeastRecentlyUsedMap(int maxEntries)
+        {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest)
+        {
+            return size() > maxEntries;
+        }
+    }
+
+
+    /**
+     * A type explorer along with the time its type information was retrieved from the repository server.
+     */
+    private static class CachedTypeExplorer
+    {
+        private final TypeExplorer typeExplorer;
+        private final long         loadTime;
+
+        CachedTypeExplorer(TypeExplorer typeExplorer)
+        {
+            this.typeExplorer = typeExplorer;
+            this.loadTime     = System.currentTimeMillis();
+        }
+    }
+
 
 
 
@@ -243,7 +319,9 @@ public class RexViewHandler
     
 
     /**
-     * Retrieve type information from the repository server
+     * Retrieve type information for the repository server.  The type information is retrieved from the
+     * repository server the first time it is requested by a user and then reused for that user until a type
+     * change is detected or it reaches the maximum age.
      * @param userId  userId under which the request is performed
      * @param repositoryServerName The name of the repository server to interrogate
      * @param platformName The name of the platform running the repository server to interrogate
@@ -263,31 +341,203 @@ public class RexViewHandler
         RexViewServiceException
 
     {
+        String             cacheKey           = getTypeExplorerCacheKey(userId, repositoryServerName, platformName, enterpriseOption);
+        CachedTypeExplorer cachedTypeExplorer = typeExplorers.get(cacheKey);
 
+        if ((cachedTypeExplorer == null) || (System.currentTimeMillis() - cachedTypeExplorer.loadTime > MAX_TYPE_EXPLORER_AGE))
+        {
+            cachedTypeExplorer = new CachedTypeExplorer(loadTypeExplorer(userId,
+                                                                         repositoryServerName,
+                                                                         platformName,
+                                                                         enterpriseOption,
+                                                                         methodName));
+            typeExplorers.put(cacheKey, cachedTypeExplorer);
+        }
 
-        try
+        return cachedTypeExplorer.typeExplorer;
+    }
+
+
+    /**
+     * Check that the type information for the repository server covers the types of the supplied instances.
+     * If an instance has a type that is not known, or is a later version than the one held, the type information
+     * is retrieved again from the repository server (subject to a minimum refresh interval).
+     * @param typeExplorer the type information currently in use
+     * @param instances the instances returned by the repository server
+     * @param userId  userId under which the request is performed
+     * @param repositoryServerName The name of the repository server to interrogate
+     * @param platformName The name of the platform running the repository server to interrogate
+     * @param enterpriseOption Whether the query is at cohort level or server specific
+     * @param methodName The name of the method being invoked
+     * @return the current TypeExplorer object.
+     *
+     * Exceptions
+     * @throws RexViewServiceException  an error was detected and details are reported in the exception
+     */
+    private TypeExplorer refreshTypeExplorerIfStale(TypeExplorer                   typeExplorer,
+                                                    List<? extends InstanceHeader> instances,
+                                                    String                         userId,
+                                                    String                         repositoryServerName,
+                                                    String                         platformName,
+                                                    boolean                        enterpriseOption,
+                                                    String                         methodName)
+    throws
+        RexViewServiceException
+
+    {
+        if (instances != null)
         {
+            for (InstanceHeader instance : instances)
+            {
+                if (instance != null && !isTypeKnown(typeExplorer, instance.getType()))
+                {
+                    return refreshTypeExplorer(typeExplorer,
+                                               userId,
+                                               repositoryServerName,
+                                               platformName,
+                                               enterpriseOption,
+                                               methodName);
+                }
+            }
+        }
 
-            String platformRootURL = resolvePlatformRootURL(platformName, methodName);
+        return typeExplorer;
+    }
 
-            /*
-             *  Switch between local and enterprise services clients depending
-             *  on enterprise option...
-             */
-            MetadataCollectionServicesClient repositoryServicesClient;
 
-            if (!enterpriseOption)
+    /**
+     * Retrieve the type information again from the repository server, unless it was retrieved within the
+     * minimum refresh interval or has already been refreshed by another request.
+     * @param typeExplorer the type information that has been found to be out of date
+     * @param userId  userId under which the request is performed
+     * @param repositoryServerName The name of the repository server to interrogate
+     * @param platformName The name of the platform running the repository server to interrogate
+     * @param enterpriseOption Whether the query is at cohort level or server specific
+     * @param methodName The name of the method being invoked
+     * @return the current TypeExplorer object.
+     *
+     * Exceptions
+     * @throws RexViewServiceException  an error was detected and details are reported in the exception
+     */
+    private TypeExplorer refreshTypeExplorer(TypeExplorer typeExplorer,
+                                             String       userId,
+                                             String       repositoryServerName,
+                                             String       platformName,
+                                             boolean      enterpriseOption,
+                                             String       methodName)
+    throws
+        RexViewServiceException
+
+    {
+        String             cacheKey           = getTypeExplorerCacheKey(userId, repositoryServerName, platformName, enterpriseOption);
+        CachedTypeExplorer cachedTypeExplorer = typeExplorers.get(cacheKey);
+
+        if (cachedTypeExplorer != null)
+        {
+            if (cachedTypeExplorer.typeExplorer != typeExplorer)
             {
-                repositoryServicesClient = this.getLocalRepositoryServicesClient(repositoryServerName, platformRootURL);
+                /*
+                 * Another request has already refreshed the type information.
+                 */
+                return cachedTypeExplorer.typeExplorer;
             }
-            else
+
+            if (System.currentTimeMillis() - cachedTypeExplorer.loadTime < MIN_TYPE_REFRESH_INTERVAL)
             {
-                repositoryServicesClient = this.getEnterpriseRepositoryServicesClient(repositoryServerName, platformRootURL);
+                return typeExplorer;
             }
+        }
+
+        log.debug("Reloading type information for server {} on platform {}", repositoryServerName, platformName);
+
+        cachedTypeExplorer = new CachedTypeExplorer(loadTypeExplorer(userId,
+                                                                     repositoryServerName,
+                                                                     platformName,
+                                                                     enterpriseOption,
+                                                                     methodName));
+        typeExplorers.put(cacheKey, cachedTypeExplorer);
+
+        return cachedTypeExplorer.typeExplorer;
+    }
+
+
+    /**
+     * Determine whether the type explorer holds the supplied type at (at least) the supplied version.
+     * @param typeExplorer the type information currently in use
+     * @param instanceType the type of an instance returned by the repository server
+     * @return boolean flag
+     */
+    private boolean isTypeKnown(TypeExplorer typeExplorer, InstanceType instanceType)
+    {
+        if (instanceType == null || instanceType.getTypeDefCategory() == null)
+        {
+            return true;
+        }
+
+        TypeDef typeDef = null;
+
+        switch (instanceType.getTypeDefCategory())
+        {
+            case ENTITY_DEF:
+                EntityExplorer entityExplorer = typeExplorer.getEntities().get(instanceType.getTypeDefName());
+                if (entityExplorer != null)
+                {
+                    typeDef = entityExplorer.getEntityDef();
+                }
+                break;
+            case RELATIONSHIP_DEF:
+                RelationshipExplorer relationshipExplorer = typeExplorer.getRelationships().get(instanceType.getTypeDefName());
+                if (relationshipExplorer != null)
+                {
+                    typeDef = relationshipExplorer.getRelationshipDef();
+                }
+                break;
+            case CLASSIFICATION_DEF:
+                ClassificationExplorer classificationExplorer = typeExplorer.getClassifications().get(instanceType.getTypeDefName());
+                if (classificationExplorer != null)
+                {
+                    typeDef = classificationExplorer.getClassificationDef();
+                }
+                break;
+            default:
+                return true;
+        }
+
+        return typeDef != null && typeDef.getVersion() >= instanceType.getTypeDefVersion();
+    }
+
+
+    /**
+     * Retrieve type information from the repository server
+     * @param userId  userId under which the request is performed
+     * @param repositoryServerName The name of the repository server to interrogate
+     * @param platformName The name of the platform running the repository server to interrogate
+     * @param enterpriseOption Whether the query is at cohort level or server specific
+     * @param methodName The name of the method being invoked
+     * @return response containing the TypeExplorer object.
+     *
+     * Exceptions
+     * @throws RexViewServiceException  an error was detected and details are reported in the exception
+     */
+    private TypeExplorer loadTypeExplorer(String    userId,
+                                          String    repositoryServerName,
+                                          String    platformName,
+                                          boolean   enterpriseOption,
+                                          String    methodName)
+    throws
+        RexViewServiceException
+
+    {
+
+
+        try
+        {
+
+            String platformRootURL = resolvePlatformRootURL(platformName, methodName);
 
             TypeExplorer tex = new TypeExplorer();
 
-            TypeDefGallery typeDefGallery = repositoryServicesClient.getAllTypes(userId);
+            TypeDefGallery typeDefGallery = this.getAllTypes(userId, repositoryServerName, platformRootURL, enterpriseOption);
 
             List<TypeDef> typeDefs = typeDefGallery.getTypeDefs();
             for (TypeDef typeDef : typeDefs)
@@ -413,6 +663,14 @@ public class RexViewHandler
                                                         enterpriseOption,
                                                         methodName);
 
+            typeExplorer = refreshTypeExplorerIfStale(typeExplorer,
+                                                      Collections.singletonList(entityDetail),
+                                                      userId,
+                                                      repositoryServerName,
+                                                      platformName,
+                                                      enterpriseOption,
+                                                      methodName);
+
             String label = this.chooseLabelForEntity(entityDetail, typeExplorer);
 
             String provenance = determineInstanceProvenance(entityDetail, metadataCollectionId, enterpriseOption);
@@ -525,6 +783,15 @@ public class RexViewHandler
 
             EntityProxy entity1 = relationship.getEntityOneProxy();
             EntityProxy entity2 = relationship.getEntityTwoProxy();
+
+            typeExplorer = refreshTypeExplorerIfStale(typeExplorer,
+                                                      Collections.singletonList(relationship),
+                                                      userId,
+                                                      repositoryServerName,
+                                                      platformName,
+                                                      enterpriseOption,
+                                                      methodName);
+
             String label1 = this.chooseLabelForEntityProxy(entity1, typeExplorer);
             String label2 = this.chooseLabelForEntityProxy(entity2, typeExplorer);
 
@@ -653,6 +920,20 @@ public class RexViewHandler
 
             String entityTypeGUID = typeExplorer.getEntityTypeGUID(entityTypeName);
 
+            if (entityTypeName != null && entityTypeGUID == null)
+            {
+                /*
+                 * The type may have been added to the repository since its type information was retrieved.
+                 */
+                typeExplorer = refreshTypeExplorer(typeExplorer,
+                                                   userId,
+                                                   repositoryServerName,
+                                                   platformName,
+                                                   enterpriseOption,
+                                                   methodName);
+                entityTypeGUID = typeExplorer.getEntityTypeGUID(entityTypeName);
+            }
+
             List<EntityDetail> entities = repositoryServicesClient.findEntitiesByPropertyValue(
                     userId,
                     entityTypeGUID,
@@ -669,6 +950,14 @@ public class RexViewHandler
             if (entities != null)
             {
 
+                typeExplorer = refreshTypeExplorerIfStale(typeExplorer,
+                                                          entities,
+                                                          userId,
+                                                          repositoryServerName,
+                                                          platformName,
+                                                          enterpriseOption,
+                                                          methodName);
+
                 // Process the list of EntityDetail objects and produce a map of EntityDigest objects
 
                 Map<String, RexEntityDigest> digestMap = new HashMap<>();
@@ -809,6 +1098,20 @@ public class RexViewHandler
 
             String relationshipTypeGUID = typeExplorer.getRelationshipTypeGUID(relationshipTypeName);
 
+            if (relationshipTypeName != null && relationshipTypeGUID == null)
+            {
+                /*
+                 * The type may have been added to the repository since its type information was retrieved.
+                 */
+                typeExplorer = refreshTypeExplorer(typeExplorer,
+                                                   userId,
+                                                   repositoryServerName,
+                                                   platformName,
+                                                   enterpriseOption,
+                                                   methodName);
+                relationshipTypeGUID = typeExplorer.getRelationshipTypeGUID(relationshipTypeName);
+            }
+
             List<Relationship> relationships = repositoryServicesClient.findRelationshipsByPropertyValue(
                     userId,
                     relationshipTypeGUID,
@@ -824,6 +1127,14 @@ public class RexViewHandler
             if (relationships != null)
             {
 
+                typeExplorer = refreshTypeExplorerIfStale(typeExplorer,
+                                                          relationships,
+                                                          userId,
+                                                          repositoryServerName,
+                                                          platformName,
+                                                          enterpriseOption,
+                                                          methodName);
+
                 // Process the list of Relationship objects and produce a list of super digests...
 
                 Map<String, RexRelationshipAndEntitiesDigest> superDigests = new HashMap<>();
@@ -1325,6 +1636,15 @@ public class RexViewHandler
                  * augment the RexTraversal entityDigestMap.
                  */
                 List<EntityDetail> entities = instGraph.getEntities();
+
+                typeExplorer = refreshTypeExplorerIfStale(typeExplorer,
+                                                          entities,
+                                                          userId,
+                                                          repositoryServerName,
+                                                          platformName,
+                                                          enterpriseOption,
+                                                          methodName);
+
                 Map<String, RexEntityDigest> entityDigestMap = null;
                 if (entities != null && !entities.isEmpty())
                 {
@@ -1502,7 +1822,7 @@ public class RexViewHandler
      *
      * This method will get the above client object, which then provides access to all the methods of the
      * MetadataCollection interface. This client is used when the enterprise option is not set, and will
-     * connect to the local repository.
+     * connect to the local repository. Clients are created on first use and then reused for the same server.
      *
      * @param serverName - name of the server to connect to
      * @param serverRootURL - the root URL to connect to the server
@@ -1524,10 +1844,22 @@ public class RexViewHandler
          * here because we want to surface it to the REST API that called this method so that the
          * exception can be wrapped and a suitable indication sent in the REST Response.
          */
-        String restRootURL = serverRootURL + "/servers/" + serverName;
-        LocalRepositoryServicesClient client = new LocalRepositoryServicesClient(serverName, restRootURL);
+        String                           clientKey = getCacheKey(serverName, serverRootURL, false);
+        MetadataCollectionServicesClient client    = repositoryServicesClients.get(clientKey);
+
+        if (client == null)
+        {
+            String restRootURL = serverRootURL + "/servers/" + serverName;
+            client = new LocalRepositoryServicesClient(serverName, restRootURL);
 
-        return client;
+            MetadataCollectionServicesClient existingClient = repositoryServicesClients.putIfAbsent(clientKey, client);
+            if (existingClient != null)
+            {
+                client = existingClient;
+            }
+        }
+
+        return (LocalRepositoryServicesClient) client;
     }
 
     /**
@@ -1535,7 +1867,7 @@ public class RexViewHandler
      *
      * This method will get the above client object, which then provides access to all the methods of the
      * MetadataCollection interface. This client is used when the enterprise option is set, and will
-     * perform federation.
+     * perform federation. Clients are created on first use and then reused for the same server.
      *
      * @param serverName - name of the server to connect to
      * @param serverRootURL - the root URL to connect to the server
@@ -1557,10 +1889,99 @@ public class RexViewHandler
          * here because we want to surface it to the REST API that called this method so that the
          * exception can be wrapped and a suitable indication sent in the REST Response.
          */
-        String restRootURL = serverRootURL + "/servers/" + serverName;
-        EnterpriseRepositoryServicesClient client = new EnterpriseRepositoryServicesClient(serverName, restRootURL);
+        String                           clientKey = getCacheKey(serverName, serverRootURL, true);
+        MetadataCollectionServicesClient client    = repositoryServicesClients.get(clientKey);
+
+        if (client == null)
+        {
+            String restRootURL = serverRootURL + "/servers/" + serverName;
+            client = new EnterpriseRepositoryServicesClient(serverName, restRootURL);
+
+            MetadataCollectionServicesClient existingClient = repositoryServicesClients.putIfAbsent(clientKey, client);
+            if (existingClient != null)
+            {
+                client = existingClient;
+            }
+        }
+
+        return (EnterpriseRepositoryServicesClient) client;
+    }
+
+
+    /**
+     * getAllTypes
+     *
+     * Retrieve the types that the user is authorized to read from the repository server.  The local or enterprise
+     * services client is used depending on the enterprise option.
+     *
+     * @param userId - userId under which the request is performed
+     * @param serverName - name of the server to connect to
+     * @param serverRootURL - the root URL to connect to the server
+     * @param enterpriseOption - whether the requests are at cohort level or server specific
+     * @return type definitions known to the repository server
+     * @throws InvalidParameterException - an invalid parameter was detected and reported
+     * @throws RepositoryErrorException - there is a problem communicating with the repository server
+     * @throws UserNotAuthorizedException - the user is not authorized to retrieve the types
+     */
+    TypeDefGallery getAllTypes(String  userId,
+                               String  serverName,
+                               String  serverRootURL,
+                               boolean enterpriseOption)
+    throws
+    InvalidParameterException,
+    RepositoryErrorException,
+    UserNotAuthorizedException
+    {
+        MetadataCollectionServicesClient repositoryServicesClient;
+
+        if (!enterpriseOption)
+        {
+            repositoryServicesClient = this.getLocalRepositoryServicesClient(serverName, serverRootURL);
+        }
+        else
+        {
+            repositoryServicesClient = this.getEnterpriseRepositoryServicesClient(serverName, serverRootURL);
+        }
+
+        return repositoryServicesClient.getAllTypes(userId);
+    }
+
 
-        return client;
+    /**
+     * getTypeExplorerCacheKey
+     *
+     * Build the key used to cache the type information retrieved for a user from a repository server.
+     *
+     * @param userId - userId under which the type information was retrieved
+     * @param serverName - name of the server
+     * @param platformName - the name of the platform hosting the server
+     * @param enterpriseOption - whether the requests are at cohort level or server specific
+     * @return cache key
+     */
+    private String getTypeExplorerCacheKey(String  userId,
+                                           String  serverName,
+                                           String  platformName,
+                                           boolean enterpriseOption)
+    {
+        return userId + ":" + getCacheKey(serverName, platformName, enterpriseOption);
+    }
+
+
+    /**
+     * getCacheKey
+     *
+     * Build the key used to cache the clients and type information for a repository server.
+     *
+     * @param serverName - name of the server
+     * @param platform - the name or root URL of the platform hosting the server
+     * @param enterpriseOption - whether the requests are at cohort level or server specific
+     * @return cache key
+     */
+    private String getCacheKey(String  serverName,
+                               String  platform,
+                               boolean enterpriseOption)
+    {
+        return serverName + "@" + platform + (enterpriseOption ? "#enterprise" : "#local");
     }
 
     private String chooseLabelForEntity(EntityDetail entityDetail, TypeExplorer typeExplorer)
@@ -0,0 +1,176 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.viewservices.rex.handlers;
+
+import org.odpi.openmetadata.adminservices.configuration.properties.ResourceEndpointConfig;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.AttributeTypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EntityDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.EnumDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDef;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.metadatacollectionstore.properties.typedefs.TypeDefGallery;
+import org.odpi.openmetadata.repositoryservices.ffdc.OMRSErrorCode;
+import org.odpi.openmetadata.repositoryservices.ffdc.exception.UserNotAuthorizedException;
+import org.odpi.openmetadata.viewservices.rex.api.ffdc.RexViewServiceException;
+import org.odpi.openmetadata.viewservices.rex.api.properties.TypeExplorer;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.fail;
+
+/**
+ * Verify that the RexViewHandler reuses the type information retrieved for a user, retrieves it under the
+ * identity of each new user, and bounds the number of cached type explorers.
+ */
+public class TestRexViewHandler
+{
+    private static final String platformName = "Platform1";
+    private static final String serverName   = "Metadata_Server";
+    private static final String methodName   = "testMethod";
+
+    private TestHandler handler;
+
+
+    @BeforeMethod
+    public void setup()
+    {
+        ResourceEndpointConfig platform = new ResourceEndpointConfig();
+
+        platform.setResourceCategory("Platform");
+        platform.setPlatformName(platformName);
+        platform.setPlatformRootURL("https://localhost:9443");
+
+        handler = new TestHandler(Collections.singletonList(platform));
+    }
+
+
+    /**
+     * Validate that the type information is only retrieved once for the same user.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testTypeExplorerReusedForSameUser() throws Exception
+    {
+        TypeExplorer typeExplorer = handler.getTypeExplorer("user1", serverName, platformName, false, methodName);
+
+        assertSame(handler.getTypeExplorer("user1", serverName, platformName, false, methodName), typeExplorer);
+        assertEquals(handler.requestingUsers, Collections.singletonList("user1"));
+    }
+
+
+    /**
+     * Validate that the type information cached for one user is not returned to another user without a call
+     * to the repository server under that user's identity.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testTypeExplorerRetrievedForEachUser() throws Exception
+    {
+        TypeExplorer typeExplorer = handler.getTypeExplorer("user1", serverName, platformName, false, methodName);
+
+        assertNotSame(handler.getTypeExplorer("user2", serverName, platformName, false, methodName), typeExplorer);
+
+        try
+        {
+            handler.getTypeExplorer(TestHandler.unauthorizedUser, serverName, platformName, false, methodName);
+            fail("Type information returned to an unauthorized user");
+        }
+        catch (RexViewServiceException expected)
+        {
+            // expected
+        }
+
+        assertEquals(handler.requestingUsers, Arrays.asList("user1", "user2", TestHandler.unauthorizedUser));
+    }
+
+
+    /**
+     * Validate that the least recently used type explorer is discarded when many server names are requested.
+     *
+     * @throws Exception unexpected error
+     */
+    @Test
+    public void testTypeExplorerCacheBounded() throws Exception
+    {
+        handler.getTypeExplorer("user1", serverName, platformName, false, methodName);
+
+        for (int i = 0; i < 200; i++)
+        {
+            handler.getTypeExplorer("user1", serverName + i, platformName, false, methodName);
+        }
+
+        handler.getTypeExplorer("user1", serverName, platformName, false, methodName);
+
+        assertEquals(handler.requestingUsers.size(), 202);
+    }
+
+
+    /**
+     * RexViewHandler that answers getAllTypes locally rather than calling a repository server.
+     */
+    private static class TestHandler extends RexViewHandler
+    {
+        private static final String unauthorizedUser = "unauthorizedUser";
+
+        private final List<String> requestingUsers = new ArrayList<>();
+
+        TestHandler(List<ResourceEndpointConfig> resourceEndpoints)
+        {
+            super(resourceEndpoints);
+        }
+
+
+        @Override
+        TypeDefGallery getAllTypes(String  userId,
+                                   String  serverName,
+                                   String  serverRootURL,
+                                   boolean enterpriseOption) throws UserNotAuthorizedException
+        {
+            final String methodName = "getAllTypes";
+
+            requestingUsers.add(userId);
+
+            if (unauthorizedUser.equals(userId))
+            {
+                throw new UserNotAuthorizedException(OMRSErrorCode.REPOSITORY_LOGIC_ERROR.getMessageDefinition(serverName,
+                                                                                                               methodName,
+                                                                                                               userId),
+                                                     this.getClass().getName(),
+                                                     methodName,
+                                                     userId);
+            }
+
+            EntityDef entityDef = new EntityDef();
+
+            entityDef.setGUID("TestEntityTypeGUID");
+            entityDef.setName("TestEntityType");
+
+            EnumDef enumDef = new EnumDef();
+
+            enumDef.setGUID("TestEnumTypeGUID");
+            enumDef.setName("TestEnumType");
+
+            List<TypeDef>          typeDefs          = new ArrayList<>();
+            List<AttributeTypeDef> attributeTypeDefs = new ArrayList<>();
+
+            typeDefs.add(entityDef);
+            attributeTypeDefs.add(enumDef);
+
+            TypeDefGallery typeDefGallery = new TypeDefGallery();
+
+            typeDefGallery.setTypeDefs(typeDefs);
+            typeDefGallery.setAttributeTypeDefs(attributeTypeDefs);
+
+            return typeDefGallery;
+        }
+    }
+}
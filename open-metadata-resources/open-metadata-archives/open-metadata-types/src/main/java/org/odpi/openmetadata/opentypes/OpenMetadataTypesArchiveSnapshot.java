@@ -0,0 +1,501 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+package org.odpi.openmetadata.opentypes;
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * OpenMetadataTypesArchiveSnapshot manages a serialized copy of the open metadata types archive that is generated
+ * when this module is built.  The snapshot is packaged in the jar alongside a SHA-256 checksum of its content.
+ * Loading the snapshot avoids loading and running the OpenMetadataTypesArchive classes that build each of the
+ * TypeDefs object by object every time a server starts.
+ * <p>
+ * The snapshot uses Java serialization since all of the archive beans are serializable and it is much quicker to
+ * restore than the JSON form of the archive.  Only classes from the JDK and Egeria are accepted from the snapshot.
+ * It is only used if its checksum matches, it was generated by the same classes as those on the class path
+ * and it has the same GUID and version as the archive built by OpenMetadataTypesArchive.  Otherwise the caller
+ * falls back to building the archive in code.
+ * </p>
+ * <p>
+ * The classes that generated the snapshot are recorded in a fingerprint resource along with a SHA-256 digest of their
+ * byte code.  This detects a snapshot left over from an earlier build when the types have been changed without
+ * changing the archive version.  A new version of the types is also detected since it changes the byte code of
+ * OpenMetadataTypesArchive.
+ * </p>
+ */
+public class OpenMetadataTypesArchiveSnapshot
+{
+    private static final Logger log = LoggerFactory.getLogger(OpenMetadataTypesArchiveSnapshot.class);
+
+    /**
+     * Name of the resource holding the serialized archive.
+     */
+    public static final String SNAPSHOT_RESOURCE_NAME = "OpenMetadataTypesSnapshot.ser";
+
+    /**
+     * Name of the resource holding the checksum of the serialized archive.
+     */
+    public static final String CHECKSUM_RESOURCE_NAME = "OpenMetadataTypesSnapshot.sha256";
+
+    /**
+     * Name of the resource holding the digest and names of the classes that generated the snapshot.
+     */
+    public static final String FINGERPRINT_RESOURCE_NAME = "OpenMetadataTypesSnapshot.fingerprint";
+
+    private static final String checksumAlgorithm = "SHA-256";
+
+    /*
+     * The classes from this package that build the archive are OpenMetadataTypesArchive and its versions.
+     */
+    private static final String generatorClassFilePattern = "OpenMetadataTypesArchive([0-9]+_[0-9]+)?(\\$.*)?\\.class";
+
+    /*
+     * Classes outside of this package that build the archive.
+     */
+    private static final String[] archiveUtilityClassNames = {
+            "org.odpi.openmetadata.repositoryservices.archiveutilities.OMRSArchiveBuilder",
+            "org.odpi.openmetadata.repositoryservices.archiveutilities.OMRSArchiveHelper" };
+
+    /*
+     * The verified content of the snapshot is read from the class path once and then reused to create a new copy
+     * of the archive for each caller.
+     */
+    private static byte[]  snapshotContent = null;
+    private static boolean snapshotChecked = false;
+
+
+    /**
+     * Return a new copy of the open metadata types archive from the snapshot.
+     *
+     * @return archive or null if the snapshot is not available, is corrupt or is from a different version of the types
+     */
+    public static OpenMetadataArchive getOpenMetadataArchive()
+    {
+        byte[] content = getSnapshotContent();
+
+        if (content != null)
+        {
+            try (ObjectInputStream inputStream = new SnapshotInputStream(content))
+            {
+                Object snapshot = inputStream.readObject();
+
+                if ((snapshot instanceof OpenMetadataArchive) && (isCurrentVersion((OpenMetadataArchive) snapshot)))
+                {
+                    return (OpenMetadataArchive) snapshot;
+                }
+            }
+            catch (IOException | ClassNotFoundException | RuntimeException error)
+            {
+                /*
+                 * The snapshot can not be used - the caller builds the archive in code.
+                 */
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Return the open metadata types archive, from the snapshot if possible, or by building it in code.
+     *
+     * @return archive
+     */
+    public static OpenMetadataArchive getOpenMetadataArchiveWithFallback()
+    {
+        OpenMetadataArchive openMetadataArchive = getOpenMetadataArchive();
+
+        if (openMetadataArchive == null)
+        {
+            openMetadataArchive = new OpenMetadataTypesArchive().getOpenMetadataArchive();
+        }
+
+        return openMetadataArchive;
+    }
+
+
+    /**
+     * Build the open metadata types archive in code and write it, along with its checksum and the fingerprint of
+     * the classes that built it, to the requested directory.  This is called during the build of this module.
+     *
+     * @param directory directory that becomes part of the class path (for example target/classes)
+     * @throws IOException unable to read the classes or write the files
+     */
+    public static void writeSnapshot(File directory) throws IOException
+    {
+        ByteArrayOutputStream contentStream = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(contentStream))
+        {
+            outputStream.writeObject(new OpenMetadataTypesArchive().getOpenMetadataArchive());
+        }
+
+        byte[]       content                = contentStream.toByteArray();
+        List<String> generatorResourceNames = getGeneratorResourceNames();
+        String       generatorFingerprint   = getFingerprint(generatorResourceNames);
+
+        if (generatorFingerprint == null)
+        {
+            throw new IOException("Unable to read the classes that build the open metadata types");
+        }
+
+        StringBuilder fingerprint = new StringBuilder(generatorFingerprint);
+
+        for (String generatorResourceName : generatorResourceNames)
+        {
+            fingerprint.append('\n').append(generatorResourceName);
+        }
+
+        if ((! directory.exists()) && (! directory.mkdirs()))
+        {
+            throw new IOException("Unable to create directory " + directory.getAbsolutePath());
+        }
+
+        Files.write(new File(directory, SNAPSHOT_RESOURCE_NAME).toPath(), content);
+        Files.write(new File(directory, CHECKSUM_RESOURCE_NAME).toPath(), getChecksum(content).getBytes(StandardCharsets.UTF_8));
+        Files.write(new File(directory, FINGERPRINT_RESOURCE_NAME).toPath(), fingerprint.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+
+    /**
+     * Generate the snapshot at build time.  This runs inside the build tool's JVM under Maven, so a failure is
+     * reported by throwing an exception rather than exiting; the build task then fails with a non-zero status.
+     *
+     * @param args the first argument is the output directory
+     * @throws IllegalArgumentException the output directory is missing
+     * @throws IOException unable to write the files
+     */
+    public static void main(String[] args) throws IOException
+    {
+        if ((args == null) || (args.length < 1) || (args[0] == null))
+        {
+            log.error("No output directory specified for the open metadata types snapshot");
+            throw new IllegalArgumentException("Please specify the output directory for the open metadata types snapshot");
+        }
+
+        File directory = new File(args[0]);
+
+        try
+        {
+            writeSnapshot(directory);
+        }
+        catch (IOException error)
+        {
+            log.error("Unable to write the open metadata types snapshot to " + directory.getAbsolutePath(), error);
+            throw error;
+        }
+
+        log.info("Wrote the open metadata types snapshot to " + directory.getAbsolutePath());
+    }
+
+
+    /**
+     * Read the snapshot, its checksum and its fingerprint from the class path and verify them.
+     *
+     * @return content of the snapshot or null if it is not usable
+     */
+    private static synchronized byte[] getSnapshotContent()
+    {
+        if (! snapshotChecked)
+        {
+            snapshotChecked = true;
+
+            try
+            {
+                byte[] content     = readResource(SNAPSHOT_RESOURCE_NAME);
+                byte[] checksum    = readResource(CHECKSUM_RESOURCE_NAME);
+                byte[] fingerprint = readResource(FINGERPRINT_RESOURCE_NAME);
+
+                if ((content != null) && (checksum != null) &&
+                    (getChecksum(content).equals(new String(checksum, StandardCharsets.UTF_8).trim())) &&
+                    (isGeneratedByCurrentClasses(fingerprint)))
+                {
+                    snapshotContent = content;
+                }
+            }
+            catch (IOException error)
+            {
+                snapshotContent = null;
+            }
+        }
+
+        return snapshotContent;
+    }
+
+
+    /**
+     * Validate that the classes listed in the snapshot's fingerprint are on the class path and have the same
+     * byte code as the classes that generated the snapshot.
+     *
+     * @param fingerprint content of the fingerprint resource
+     * @return boolean flag
+     * @throws IOException error reading the classes
+     */
+    static boolean isGeneratedByCurrentClasses(byte[] fingerprint) throws IOException
+    {
+        if (fingerprint == null)
+        {
+            return false;
+        }
+
+        String[]     fingerprintLines       = new String(fingerprint, StandardCharsets.UTF_8).split("\n");
+        List<String> generatorResourceNames = new ArrayList<>();
+
+        for (int i = 1; i < fingerprintLines.length; i++)
+        {
+            generatorResourceNames.add(fingerprintLines[i].trim());
+        }
+
+        return (! generatorResourceNames.isEmpty()) &&
+               (fingerprintLines[0].trim().equals(getFingerprint(generatorResourceNames)));
+    }
+
+
+    /**
+     * Return the class path resource names of the classes that build the archive.  The classes in this package
+     * are found by listing the directory holding OpenMetadataTypesArchive so this only works when the module's
+     * classes are in a directory, as they are when it is being built.
+     *
+     * @return sorted list of resource names
+     * @throws IOException the classes are not in a directory
+     */
+    private static List<String> getGeneratorResourceNames() throws IOException
+    {
+        URL archiveClassURL = OpenMetadataTypesArchive.class.getResource(OpenMetadataTypesArchive.class.getSimpleName() + ".class");
+
+        if ((archiveClassURL == null) || (! "file".equals(archiveClassURL.getProtocol())))
+        {
+            throw new IOException("The open metadata types classes must be in a directory to generate the snapshot");
+        }
+
+        String[] classFileNames;
+
+        try
+        {
+            classFileNames = new File(archiveClassURL.toURI()).getParentFile().list();
+        }
+        catch (URISyntaxException error)
+        {
+            throw new IOException(error);
+        }
+
+        List<String> generatorResourceNames = new ArrayList<>();
+        String       packagePath            = OpenMetadataTypesArchive.class.getPackage().getName().replace('.', '/');
+
+        if (classFileNames != null)
+        {
+            for (String classFileName : classFileNames)
+            {
+                if (classFileName.matches(generatorClassFilePattern))
+                {
+                    generatorResourceNames.add(packagePath + "/" + classFileName);
+                }
+            }
+        }
+
+        for (String archiveUtilityClassName : archiveUtilityClassNames)
+        {
+            generatorResourceNames.add(archiveUtilityClassName.replace('.', '/') + ".class");
+        }
+
+        Collections.sort(generatorResourceNames);
+
+        return generatorResourceNames;
+    }
+
+
+    /**
+     * Return the digest of the names and content of the requested class path resources as a hex string.
+     *
+     * @param resourceNames names of the resources
+     * @return digest or null if one of the resources is not on the class path
+     * @throws IOException error reading a resource or the digest algorithm is not available
+     */
+    private static String getFingerprint(List<String> resourceNames) throws IOException
+    {
+        MessageDigest digest = getMessageDigest();
+
+        for (String resourceName : resourceNames)
+        {
+            byte[] content = readResource(resourceName);
+
+            if (content == null)
+            {
+                return null;
+            }
+
+            digest.update(resourceName.getBytes(StandardCharsets.UTF_8));
+            digest.update(content);
+        }
+
+        return getHexString(digest.digest());
+    }
+
+
+    /**
+     * Validate that the snapshot was generated from the same version of the types as this class path.
+     *
+     * @param openMetadataArchive archive from the snapshot
+     * @return boolean flag
+     */
+    private static boolean isCurrentVersion(OpenMetadataArchive openMetadataArchive)
+    {
+        OpenMetadataTypesArchive      openMetadataTypesArchive = new OpenMetadataTypesArchive();
+        OpenMetadataArchiveProperties archiveProperties        = openMetadataArchive.getArchiveProperties();
+
+        return (archiveProperties != null) &&
+               (openMetadataArchive.getArchiveTypeStore() != null) &&
+               (openMetadataTypesArchive.getArchiveGUID().equals(archiveProperties.getArchiveGUID())) &&
+               (openMetadataTypesArchive.getArchiveVersion().equals(archiveProperties.getArchiveVersion()));
+    }
+
+
+    /**
+     * Read a resource from the class path.
+     *
+     * @param resourceName name of the resource
+     * @return content or null if the resource is not present
+     * @throws IOException error reading the resource
+     */
+    private static byte[] readResource(String resourceName) throws IOException
+    {
+        try (InputStream inputStream = OpenMetadataTypesArchiveSnapshot.class.getClassLoader().getResourceAsStream(resourceName))
+        {
+            if (inputStream == null)
+            {
+                return null;
+            }
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            byte[]                buffer       = new byte[65536];
+            int                   length;
+
+            while ((length = inputStream.read(buffer)) != -1)
+            {
+                outputStream.write(buffer, 0, length);
+            }
+
+            return outputStream.toByteArray();
+        }
+    }
+
+
+    /**
+     * Return the checksum of the content as a hex string.
+     *
+     * @param content bytes to check
+     * @return checksum
+     * @throws IOException the checksum algorithm is not available
+     */
+    private static String getChecksum(byte[] content) throws IOException
+    {
+        return getHexString(getMessageDigest().digest(content));
+    }
+
+
+    /**
+     * Return a new digest for the checksum algorithm.
+     *
+     * @return digest
+     * @throws IOException the checksum algorithm is not available
+     */
+    private static MessageDigest getMessageDigest() throws IOException
+    {
+        try
+        {
+            return MessageDigest.getInstance(checksumAlgorithm);
+        }
+        catch (NoSuchAlgorithmException error)
+        {
+            throw new IOException(error);
+        }
+    }
+
+
+    /**
+     * Return the digest as a hex string.
+     *
+     * @param digestBytes bytes of the digest
+     * @return hex string
+     */
+    private static String getHexString(byte[] digestBytes)
+    {
+        StringBuilder hexString = new StringBuilder();
+
+        for (byte digestByte : digestBytes)
+        {
+            hexString.append(String.format("%02x", digestByte));
+        }
+
+        return hexString.toString();
+    }
+
+
+    /**
+     * SnapshotInputStream restricts the classes that can be restored from the snapshot.
+     */
+    private static class SnapshotInputStream extends ObjectInputStream
+    {
+        /**
+         * Create the stream over the snapshot content.
+         *
+         * @param content bytes of the snapshot
+         * @throws IOException stream header is invalid
+         */
+        SnapshotInputStream(byte[] content) throws IOException
+        {
+            super(new ByteArrayInputStream(content));
+        }
+
+
+        /**
+         * Only resolve classes from the JDK and Egeria.
+         *
+         * @param objectStreamClass description of the class
+         * @return class
+         * @throws IOException the class is not allowed
+         * @throws ClassNotFoundException the class is not available
+         */
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass objectStreamClass) throws IOException, ClassNotFoundException
+        {
+            String className = objectStreamClass.getName();
+
+            while (className.startsWith("["))
+            {
+                className = className.substring(1);
+            }
+
+            if ((className.length() > 1) && (! className.startsWith("java.")) && (! className.startsWith("Ljava.")) &&
+                (! className.startsWith("org.odpi.openmetadata.")) && (! className.startsWith("Lorg.odpi.openmetadata.")))
+            {
+                throw new InvalidClassException(objectStreamClass.getName(), "Class not allowed in open metadata types snapshot");
+            }
+
+            return super.resolveClass(objectStreamClass);
+        }
+    }
+}
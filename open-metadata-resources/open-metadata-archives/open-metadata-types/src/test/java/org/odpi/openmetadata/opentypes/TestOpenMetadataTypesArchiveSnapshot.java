@@ -0,0 +1,131 @@
+/* SPDX-License-Identifier: Apache-2.0 */
+/* Copyright Contributors to the ODPi Egeria project. */
+
+package org.odpi.openmetadata.opentypes;
+
+
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchive;
+import org.odpi.openmetadata.repositoryservices.connectors.stores.archivestore.properties.OpenMetadataArchiveTypeStore;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Test that the snapshot of the open metadata types archive contains the same types as the archive built in code.
+ */
+public class TestOpenMetadataTypesArchiveSnapshot
+{
+    /**
+     * Validate that the snapshot files are written.
+     *
+     * @throws Exception problem writing the files
+     */
+    @Test
+    public void testWriteSnapshot() throws Exception
+    {
+        File directory = Files.createTempDirectory("types-snapshot").toFile();
+
+        OpenMetadataTypesArchiveSnapshot.writeSnapshot(directory);
+
+        File snapshot = new File(directory, OpenMetadataTypesArchiveSnapshot.SNAPSHOT_RESOURCE_NAME);
+        File checksum = new File(directory, OpenMetadataTypesArchiveSnapshot.CHECKSUM_RESOURCE_NAME);
+
+        assertTrue(snapshot.length() > 0);
+        assertEquals(new String(Files.readAllBytes(checksum.toPath())).length(), 64);
+
+        assertTrue(snapshot.delete());
+        assertTrue(checksum.delete());
+        assertTrue(new File(directory, OpenMetadataTypesArchiveSnapshot.FINGERPRINT_RESOURCE_NAME).delete());
+        assertTrue(directory.delete());
+    }
+
+
+    /**
+     * Validate that the fingerprint lists the classes that build the archive and only matches the byte code
+     * of the classes that generated the snapshot.
+     *
+     * @throws Exception problem writing the files
+     */
+    @Test
+    public void testFingerprint() throws Exception
+    {
+        File directory = Files.createTempDirectory("types-snapshot").toFile();
+
+        OpenMetadataTypesArchiveSnapshot.writeSnapshot(directory);
+
+        File         fingerprintFile  = new File(directory, OpenMetadataTypesArchiveSnapshot.FINGERPRINT_RESOURCE_NAME);
+        byte[]       fingerprint      = Files.readAllBytes(fingerprintFile.toPath());
+        List<String> fingerprintLines = Arrays.asList(new String(fingerprint, StandardCharsets.UTF_8).split("\n"));
+
+        assertEquals(fingerprintLines.get(0).length(), 64);
+        assertTrue(fingerprintLines.contains("org/odpi/openmetadata/opentypes/OpenMetadataTypesArchive.class"));
+        assertTrue(fingerprintLines.contains("org/odpi/openmetadata/opentypes/OpenMetadataTypesArchive2_10.class"));
+        assertTrue(fingerprintLines.contains("org/odpi/openmetadata/repositoryservices/archiveutilities/OMRSArchiveBuilder.class"));
+        assertFalse(fingerprintLines.contains("org/odpi/openmetadata/opentypes/OpenMetadataTypesArchiveSnapshot.class"));
+
+        assertTrue(OpenMetadataTypesArchiveSnapshot.isGeneratedByCurrentClasses(fingerprint));
+
+        /*
+         * A snapshot from classes with different byte code, or from classes that are no longer present, is stale.
+         */
+        String staleDigest  = new String(fingerprint, StandardCharsets.UTF_8).replaceFirst("^.", "x");
+        String removedClass = new String(fingerprint, StandardCharsets.UTF_8) + "\norg/odpi/openmetadata/opentypes/OpenMetadataTypesArchive0_1.class";
+
+        assertFalse(OpenMetadataTypesArchiveSnapshot.isGeneratedByCurrentClasses(staleDigest.getBytes(StandardCharsets.UTF_8)));
+        assertFalse(OpenMetadataTypesArchiveSnapshot.isGeneratedByCurrentClasses(removedClass.getBytes(StandardCharsets.UTF_8)));
+        assertFalse(OpenMetadataTypesArchiveSnapshot.isGeneratedByCurrentClasses(null));
+
+        assertTrue(new File(directory, OpenMetadataTypesArchiveSnapshot.SNAPSHOT_RESOURCE_NAME).delete());
+        assertTrue(new File(directory, OpenMetadataTypesArchiveSnapshot.CHECKSUM_RESOURCE_NAME).delete());
+        assertTrue(fingerprintFile.delete());
+        assertTrue(directory.delete());
+    }
+
+
+    /**
+     * Validate that the archive returned (from the snapshot if it is on the class path) has the same types as
+     * the archive built in code.
+     */
+    @Test
+    public void testSnapshotContent()
+    {
+        OpenMetadataArchive          codeArchive     = new OpenMetadataTypesArchive().getOpenMetadataArchive();
+        OpenMetadataArchive          snapshotArchive = OpenMetadataTypesArchiveSnapshot.getOpenMetadataArchiveWithFallback();
+        OpenMetadataArchiveTypeStore codeTypes       = codeArchive.getArchiveTypeStore();
+        OpenMetadataArchiveTypeStore snapshotTypes   = snapshotArchive.getArchiveTypeStore();
+
+        assertEquals(snapshotArchive.getArchiveProperties().getArchiveGUID(), codeArchive.getArchiveProperties().getArchiveGUID());
+        assertEquals(snapshotTypes.getAttributeTypeDefs(), codeTypes.getAttributeTypeDefs());
+        assertEquals(snapshotTypes.getNewTypeDefs(), codeTypes.getNewTypeDefs());
+        assertEquals(snapshotTypes.getTypeDefPatches(), codeTypes.getTypeDefPatches());
+    }
+
+
+    /**
+     * Validate that the snapshot generator reports a missing output directory with an exception rather than
+     * exiting the JVM running the build.
+     *
+     * @throws Exception problem writing the files
+     */
+    @Test
+    public void testMissingOutputDirectory() throws Exception
+    {
+        try
+        {
+            OpenMetadataTypesArchiveSnapshot.main(new String[0]);
+            assertTrue(false);
+        }
+        catch (IllegalArgumentException error)
+        {
+            assertTrue(error.getMessage().contains("output directory"));
+        }
+    }
+}